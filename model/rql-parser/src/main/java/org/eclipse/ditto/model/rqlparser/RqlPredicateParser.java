@@ -10,19 +10,68 @@
  */
 package org.eclipse.ditto.model.rqlparser;
 
+import java.util.ArrayList;
+
 import org.eclipse.ditto.model.rql.predicates.PredicateParser;
+import org.eclipse.ditto.model.rql.predicates.ast.LogicalNode;
+import org.eclipse.ditto.model.rql.predicates.ast.MultiComparisonNode;
+import org.eclipse.ditto.model.rql.predicates.ast.Node;
 import org.eclipse.ditto.model.rql.predicates.ast.RootNode;
-import org.eclipse.ditto.model.rqlparser.internal.RqlPredicateParser$;
+import org.eclipse.ditto.model.rql.predicates.ast.SuperNode;
+import org.eclipse.ditto.model.rqlparser.internal.RecursiveDescentPredicateParser;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 /**
  * RQL Parser parsing predicates in the RQL "standard" according to https://github.com/persvr/rql.
+ * <p>
+ * The ASTs of the most recently parsed predicates are cached, so repeatedly used filters are parsed only once. As the
+ * AST nodes are mutable, each call returns its own copy of the cached AST.
+ * </p>
  */
 public class RqlPredicateParser implements PredicateParser {
 
-    private static final PredicateParser PARSER = RqlPredicateParser$.MODULE$;
+    /**
+     * The maximum number of cached predicate ASTs.
+     */
+    static final int CACHE_SIZE = 1000;
+
+    private static final PredicateParser PARSER = RecursiveDescentPredicateParser.getInstance();
+
+    // invalid input is not cached and throws on every call
+    private static final Cache<String, RootNode> CACHE = Caffeine.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .build();
 
     @Override
     public RootNode parse(final String input) {
-        return PARSER.parse(input);
+        final RootNode cached = CACHE.get(input, PARSER::parse);
+        final RootNode copy = new RootNode();
+        copyChildren(cached, copy);
+        return copy;
     }
+
+    private static void copyChildren(final SuperNode source, final SuperNode target) {
+        source.getChildren().forEach(child -> target.getChildren().add(copy(child)));
+    }
+
+    private static Node copy(final Node node) {
+        final Node result;
+        if (node instanceof LogicalNode) {
+            final LogicalNode logicalNode = (LogicalNode) node;
+            final LogicalNode copy = new LogicalNode(logicalNode.getType());
+            copyChildren(logicalNode, copy);
+            result = copy;
+        } else if (node instanceof MultiComparisonNode) {
+            final MultiComparisonNode comparisonNode = (MultiComparisonNode) node;
+            result = new MultiComparisonNode(comparisonNode.getComparisonType(),
+                    comparisonNode.getComparisonProperty(), new ArrayList<>(comparisonNode.getComparisonValue()));
+        } else {
+            // single comparisons with their immutable values and exists nodes cannot be modified
+            result = node;
+        }
+        return result;
+    }
+
 }
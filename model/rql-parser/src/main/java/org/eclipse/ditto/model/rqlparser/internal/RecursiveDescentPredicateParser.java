@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.rqlparser.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.rql.ParserException;
+import org.eclipse.ditto.model.rql.predicates.PredicateParser;
+import org.eclipse.ditto.model.rql.predicates.ast.ExistsNode;
+import org.eclipse.ditto.model.rql.predicates.ast.LogicalNode;
+import org.eclipse.ditto.model.rql.predicates.ast.MultiComparisonNode;
+import org.eclipse.ditto.model.rql.predicates.ast.Node;
+import org.eclipse.ditto.model.rql.predicates.ast.RootNode;
+import org.eclipse.ditto.model.rql.predicates.ast.SingleComparisonNode;
+
+/**
+ * Hand-written recursive descent parser for RQL predicates. It accepts exactly the grammar of the parboiled based
+ * {@code RqlPredicateParser} and produces the same AST:
+ * <pre>
+ * Query                      = SingleComparisonOp | MultiComparisonOp | MultiLogicalOp | SingleLogicalOp | ExistsOp
+ * SingleComparisonOp         = SingleComparisonName, '(', ComparisonProperty, ',', ComparisonValue, ')'
+ * SingleComparisonName       = "eq" | "ne" | "gt" | "ge" | "lt" | "le" | "like"
+ * MultiComparisonOp          = MultiComparisonName, '(', ComparisonProperty, ',', ComparisonValue, { ',', ComparisonValue }, ')'
+ * MultiComparisonName        = "in"
+ * MultiLogicalOp             = MultiLogicalName, '(', Query, { ',', Query }, ')'
+ * MultiLogicalName           = "and" | "or"
+ * SingleLogicalOp            = SingleLogicalName, '(', Query, ')'
+ * SingleLogicalName          = "not"
+ * ExistsOp                   = "exists" '(', ComparisonProperty, ')'
+ *
+ * ComparisonProperty         = PropertyLiteral
+ * ComparisonValue            = Literal
+ * </pre>
+ * As all operators start with distinct names, the parser never has to backtrack.
+ */
+@Immutable
+public final class RecursiveDescentPredicateParser implements PredicateParser {
+
+    private static final RecursiveDescentPredicateParser INSTANCE = new RecursiveDescentPredicateParser();
+
+    private RecursiveDescentPredicateParser() {
+        // no-op
+    }
+
+    /**
+     * Returns the instance of {@code RecursiveDescentPredicateParser}.
+     *
+     * @return the instance.
+     */
+    public static RecursiveDescentPredicateParser getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public RootNode parse(final String input) {
+        if (null == input) {
+            throw new NullPointerException("input");
+        }
+        final Node node = new Parsing(input).predicateRoot();
+        final RootNode rootNode = new RootNode();
+        rootNode.getChildren().add(node);
+        return rootNode;
+    }
+
+    /**
+     * The state of parsing a single input.
+     */
+    private static final class Parsing {
+
+        private final String input;
+        private final StringBuilder sb;
+        private int pos;
+
+        private Parsing(final String input) {
+            this.input = input;
+            sb = new StringBuilder();
+            pos = 0;
+        }
+
+        private Node predicateRoot() {
+            whiteSpace();
+            final Node query = query();
+            if (pos != input.length()) {
+                throw error("end of input");
+            }
+            return query;
+        }
+
+        private Node query() {
+            if (consume("eq")) {
+                return singleComparison(SingleComparisonNode.Type.EQ);
+            } else if (consume("ne")) {
+                return singleComparison(SingleComparisonNode.Type.NE);
+            } else if (consume("gt")) {
+                return singleComparison(SingleComparisonNode.Type.GT);
+            } else if (consume("ge")) {
+                return singleComparison(SingleComparisonNode.Type.GE);
+            } else if (consume("lt")) {
+                return singleComparison(SingleComparisonNode.Type.LT);
+            } else if (consume("le")) {
+                return singleComparison(SingleComparisonNode.Type.LE);
+            } else if (consume("like")) {
+                return singleComparison(SingleComparisonNode.Type.LIKE);
+            } else if (consume("in")) {
+                return multiComparison(MultiComparisonNode.Type.IN);
+            } else if (consume("and")) {
+                return multiLogical(LogicalNode.Type.AND);
+            } else if (consume("or")) {
+                return multiLogical(LogicalNode.Type.OR);
+            } else if (consume("not")) {
+                expect('(');
+                final Node subQuery = query();
+                expect(')');
+                return new LogicalNode(LogicalNode.Type.NOT, subQuery);
+            } else if (consume("exists")) {
+                expect('(');
+                final String property = propertyLiteral();
+                expect(')');
+                return new ExistsNode(property);
+            }
+            throw error("'eq', 'ne', 'gt', 'ge', 'lt', 'le', 'like', 'in', 'and', 'or', 'not' or 'exists'");
+        }
+
+        private Node singleComparison(final SingleComparisonNode.Type type) {
+            expect('(');
+            final String property = propertyLiteral();
+            expect(',');
+            final Object value = literal();
+            expect(')');
+            return new SingleComparisonNode(type, property, value);
+        }
+
+        private Node multiComparison(final MultiComparisonNode.Type type) {
+            expect('(');
+            final String property = propertyLiteral();
+            final List<Object> values = new ArrayList<>();
+            do {
+                expect(',');
+                values.add(literal());
+            } while (peek() == ',');
+            expect(')');
+            return new MultiComparisonNode(type, property, values);
+        }
+
+        private Node multiLogical(final LogicalNode.Type type) {
+            expect('(');
+            final List<Node> subQueries = new ArrayList<>();
+            subQueries.add(query());
+            while (peek() == ',') {
+                pos++;
+                whiteSpace();
+                subQueries.add(query());
+            }
+            expect(')');
+            return new LogicalNode(type, subQueries);
+        }
+
+        /*
+         * Literal = DoubleLiteral | LongLiteral | StringLiteral | "true" | "false" | "null", each followed by optional
+         * white space.
+         */
+        @Nullable
+        private Object literal() {
+            final Object literal;
+            final int integerEnd = integerEnd(pos);
+            if (integerEnd > 0) {
+                literal = numberLiteral(integerEnd);
+            } else if (peek() == '"') {
+                literal = stringLiteral();
+            } else if (consume("true")) {
+                literal = Boolean.TRUE;
+            } else if (consume("false")) {
+                literal = Boolean.FALSE;
+            } else if (consume("null")) {
+                literal = null;
+            } else {
+                throw error("literal");
+            }
+            whiteSpace();
+            return literal;
+        }
+
+        /*
+         * Integer = [ '+' | '-' ], ( DigitWithoutZero, Digit, { Digit } | Digit ); returns the end index of the
+         * integer starting at the given index or -1 if there is none.
+         */
+        private int integerEnd(final int start) {
+            int i = start;
+            if (i < input.length() && (input.charAt(i) == '+' || input.charAt(i) == '-')) {
+                i++;
+            }
+            if (i < input.length() && isDigit(input.charAt(i))) {
+                if (input.charAt(i) == '0') {
+                    return i + 1;
+                }
+                i++;
+                while (i < input.length() && isDigit(input.charAt(i))) {
+                    i++;
+                }
+                return i;
+            }
+            return -1;
+        }
+
+        private Object numberLiteral(final int integerEnd) {
+            int end = integerEnd;
+            if (end + 1 < input.length() && input.charAt(end) == '.' && isDigit(input.charAt(end + 1))) {
+                end += 2;
+                while (end < input.length() && isDigit(input.charAt(end))) {
+                    end++;
+                }
+                final String number = input.substring(pos, end);
+                pos = end;
+                return Double.valueOf(number);
+            }
+            if (input.startsWith("-0", pos)) {
+                throw error("number other than negative zero");
+            }
+            final String number = input.substring(pos, end);
+            try {
+                final Long result = Long.valueOf(number);
+                pos = end;
+                return result;
+            } catch (final NumberFormatException e) {
+                throw new ParserException("Unknown error during parsing predicate: " + e.getMessage(), e);
+            }
+        }
+
+        private String stringLiteral() {
+            pos++;
+            sb.setLength(0);
+            while (pos < input.length() && input.charAt(pos) != '"') {
+                final char c = input.charAt(pos++);
+                if (c == '\\') {
+                    escapedChar();
+                } else {
+                    sb.append(c);
+                }
+            }
+            expect('"');
+            whiteSpace();
+            return sb.toString();
+        }
+
+        private String propertyLiteral() {
+            sb.setLength(0);
+            while (pos < input.length()) {
+                final char c = input.charAt(pos);
+                if (c == '\\') {
+                    pos++;
+                    escapedChar();
+                } else if (c == ',' || c == ')' || c == '"') {
+                    break;
+                } else {
+                    sb.append(c);
+                    pos++;
+                }
+            }
+            return sb.toString();
+        }
+
+        private void escapedChar() {
+            final char c = peek();
+            switch (c) {
+                case '"':
+                case '\\':
+                case '/':
+                    sb.append(c);
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    if (pos + 5 > input.length() || !isHexDigits(pos + 1, pos + 5)) {
+                        throw error("4 hexadecimal digits");
+                    }
+                    sb.append((char) Integer.parseInt(input.substring(pos + 1, pos + 5), 16));
+                    pos += 4;
+                    break;
+                default:
+                    throw error("escaped character");
+            }
+            pos++;
+        }
+
+        private boolean isHexDigits(final int start, final int end) {
+            for (int i = start; i < end; i++) {
+                final char c = input.charAt(i);
+                if (!isDigit(c) && (c < 'a' || c > 'f') && (c < 'A' || c > 'F')) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isDigit(final char c) {
+            return c >= '0' && c <= '9';
+        }
+
+        private void whiteSpace() {
+            while (pos < input.length()) {
+                final char c = input.charAt(pos);
+                if (c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f') {
+                    pos++;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private boolean consume(final String keyword) {
+            if (input.startsWith(keyword, pos)) {
+                pos += keyword.length();
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(final char c) {
+            if (peek() != c) {
+                throw error("'" + c + "'");
+            }
+            pos++;
+        }
+
+        /*
+         * Returns the current character or 0 at the end of the input.
+         */
+        private char peek() {
+            return pos < input.length() ? input.charAt(pos) : 0;
+        }
+
+        private ParserException error(final String expected) {
+            final String found = pos < input.length() ? "'" + input.charAt(pos) + "'" : "end of input";
+            return new ParserException(
+                    "Invalid input " + found + ", expected " + expected + " (position " + (pos + 1) + ")");
+        }
+
+    }
+
+}
@@ -172,6 +172,22 @@ public class RqlPredicateParserTest {
         assertThat(comparison.getComparisonValue().get(2)).isEqualTo(true);
     }
 
+    @Test
+    public void cachedPredicateIsNotAffectedByModificationsOfReturnedAst() throws ParserException {
+        final String predicate = "and(eq(username,123),in(attributes/cached,1,2),exists(attributes/cached))";
+
+        final RootNode first = parser.parse(predicate);
+        final RootNode expected = new RqlPredicateParser().parse(predicate);
+        assertThat(first).isEqualTo(expected).isNotSameAs(expected);
+
+        final LogicalNode and = (LogicalNode) first.getChildren().get(0);
+        ((MultiComparisonNode) and.getChildren().get(1)).addValue(3L);
+        and.getChildren().remove(0);
+        first.getChildren().add(new ExistsNode("added"));
+
+        assertThat(new RqlPredicateParser().parse(predicate)).isEqualTo(expected);
+    }
+
     @Test
     public void letsParse() throws ParserException {
         SingleComparisonNode comparison;
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.rqlparser.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.rql.predicates.PredicateParser;
+import org.eclipse.ditto.model.rql.predicates.ast.RootNode;
+import org.eclipse.ditto.model.rqlparser.RqlPredicateParser;
+import org.eclipse.ditto.model.rqlparser.internal.RecursiveDescentPredicateParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the parboiled based RQL parser with the recursive descent parser and the cached {@link RqlPredicateParser}
+ * for typical search, SSE and connectivity filters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PredicateParserBenchmark {
+
+    private static final PredicateParser PARBOILED_PARSER =
+            org.eclipse.ditto.model.rqlparser.internal.RqlPredicateParser$.MODULE$;
+    private static final PredicateParser RECURSIVE_DESCENT_PARSER = RecursiveDescentPredicateParser.getInstance();
+    private static final PredicateParser CACHED_PARSER = new RqlPredicateParser();
+
+    @Param({
+            "eq(attributes/manufacturer,\"ACME\")",
+            "and(eq(attributes/location,\"kitchen\"),gt(features/temperature/properties/value,23.5))",
+            "or(in(thingId,\"org.eclipse.ditto:t1\",\"org.eclipse.ditto:t2\",\"org.eclipse.ditto:t3\")," +
+                    "and(like(attributes/name,\"sensor*\"),not(exists(features/disabled))))"
+    })
+    public String filter;
+
+    @Benchmark
+    public RootNode parboiled() {
+        return PARBOILED_PARSER.parse(filter);
+    }
+
+    @Benchmark
+    public RootNode recursiveDescent() {
+        return RECURSIVE_DESCENT_PARSER.parse(filter);
+    }
+
+    @Benchmark
+    public RootNode cached() {
+        return CACHED_PARSER.parse(filter);
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.rqlparser.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.ditto.model.rql.ParserException;
+import org.eclipse.ditto.model.rql.predicates.PredicateParser;
+import org.eclipse.ditto.model.rql.predicates.ast.RootNode;
+import org.junit.Test;
+
+/**
+ * Tests that {@link RecursiveDescentPredicateParser} is equivalent to the parboiled based {@link RqlPredicateParser}.
+ */
+public final class RecursiveDescentPredicateParserTest {
+
+    private static final PredicateParser REFERENCE = RqlPredicateParser$.MODULE$;
+    private static final PredicateParser UNDER_TEST = RecursiveDescentPredicateParser.getInstance();
+
+    private static final List<String> OPERATORS =
+            Arrays.asList("eq", "ne", "gt", "ge", "lt", "le", "like", "in", "and", "or", "not", "exists");
+    private static final List<String> LITERALS =
+            Arrays.asList("0", "+0", "-0", "1", "-12", "+34", "0123", "-0.5", "12.25", "1.", ".5", "1e5",
+                    "92233720368547758070", "true", "false", "null", "tru", "\"\"", "\" \"", "\"a\\\"b\"",
+                    "\"\\u00e4\\n\\/\"", "\"\\x\"", "\"\\u12\"", "\"unterminated", "test", " 1", "1 ", "\"s\" ");
+    private static final List<String> PROPERTIES =
+            Arrays.asList("username", "attributes/test", "", " a b ", "a(b", "a\\,b", "a\\u0041", "a\\q", "thingId");
+    private static final String FRAGMENTS = "(),\"\\ \t+-.0123456789abeglnoqrtu";
+
+    @Test
+    public void parsesKnownPredicatesLikeTheReferenceParser() {
+        Arrays.asList("eq(username,123)",
+                " \t\neq(username,\"super\")",
+                "and(eq(username,123),eq(coolness,\"super\"),or(eq(username,854)))",
+                "and(eq(a,1), \n eq(b,2))",
+                "and(eq(a,1) ,eq(b,2))",
+                "in(attributes,\"test\",1,true,null,2.5 )",
+                "not(exists(features/f1/properties/p))",
+                "like(thingId,\"org.eclipse.ditto:*\")",
+                "eq(a,null)",
+                "eq(username,-0)",
+                "eq(username, 0123)",
+                "eq(coolness,\"super\"))",
+                "eq(a,1) ",
+                "not(eq(a,1),eq(b,2))",
+                "")
+                .forEach(RecursiveDescentPredicateParserTest::assertEquivalent);
+    }
+
+    @Test
+    public void parsesGeneratedPredicatesLikeTheReferenceParser() {
+        final Random random = new Random(42L);
+        for (int i = 0; i < 20_000; i++) {
+            assertEquivalent(query(random, 3));
+        }
+    }
+
+    @Test
+    public void parsesMutatedPredicatesLikeTheReferenceParser() {
+        final Random random = new Random(4711L);
+        for (int i = 0; i < 20_000; i++) {
+            final StringBuilder predicate = new StringBuilder(query(random, 2));
+            final int mutations = 1 + random.nextInt(3);
+            for (int m = 0; m < mutations && predicate.length() > 0; m++) {
+                final int index = random.nextInt(predicate.length());
+                final char fragment = FRAGMENTS.charAt(random.nextInt(FRAGMENTS.length()));
+                switch (random.nextInt(3)) {
+                    case 0:
+                        predicate.deleteCharAt(index);
+                        break;
+                    case 1:
+                        predicate.insert(index, fragment);
+                        break;
+                    default:
+                        predicate.setCharAt(index, fragment);
+                }
+            }
+            assertEquivalent(predicate.toString());
+        }
+    }
+
+    private static String query(final Random random, final int depth) {
+        final String operator = OPERATORS.get(random.nextInt(depth > 0 ? OPERATORS.size() : 8));
+        final StringBuilder query = new StringBuilder(operator).append('(');
+        switch (operator) {
+            case "and":
+            case "or":
+            case "not":
+                final int subQueries = operator.equals("not") ? 1 : 1 + random.nextInt(3);
+                for (int i = 0; i < subQueries; i++) {
+                    if (i > 0) {
+                        query.append(random.nextInt(4) == 0 ? ", " : ",");
+                    }
+                    query.append(query(random, depth - 1));
+                }
+                break;
+            case "exists":
+                query.append(pick(random, PROPERTIES));
+                break;
+            case "in":
+                query.append(pick(random, PROPERTIES));
+                final int values = 1 + random.nextInt(3);
+                for (int i = 0; i < values; i++) {
+                    query.append(',').append(pick(random, LITERALS));
+                }
+                break;
+            default:
+                query.append(pick(random, PROPERTIES)).append(',').append(pick(random, LITERALS));
+        }
+        return query.append(')').toString();
+    }
+
+    private static String pick(final Random random, final List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static void assertEquivalent(final String predicate) {
+        final RootNode expected;
+        try {
+            expected = REFERENCE.parse(predicate);
+        } catch (final ParserException e) {
+            try {
+                final RootNode actual = UNDER_TEST.parse(predicate);
+                fail("Expected <%s> to be rejected, but got <%s>", predicate, actual);
+            } catch (final ParserException expectedException) {
+                // both parsers reject the predicate
+            }
+            return;
+        }
+        try {
+            assertThat(UNDER_TEST.parse(predicate)).describedAs(predicate).isEqualTo(expected);
+        } catch (final ParserException e) {
+            fail("Expected <" + predicate + "> to be parsed to <" + expected + ">", e);
+        }
+    }
+
+}
@@ -33,7 +33,10 @@ import org.eclipse.ditto.services.utils.cluster.ClusterMemberAwareActor;
 import org.eclipse.ditto.services.utils.config.ConfigUtil;
 import org.eclipse.ditto.services.utils.devops.DevOpsCommandsActor;
 import org.eclipse.ditto.services.utils.devops.LogbackLoggingFacade;
+import org.eclipse.ditto.services.utils.health.status.StartupPhases;
 import org.eclipse.ditto.services.utils.health.status.StatusSupplierActor;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.hotentities.HotEntities;
 import org.eclipse.ditto.services.utils.metrics.prometheus.PrometheusReporterRoute;
 import org.eclipse.ditto.services.utils.persistence.mongo.suffixes.NamespaceSuffixCollectionNames;
 import org.eclipse.ditto.signals.commands.messages.MessageCommandSizeValidator;
@@ -62,6 +65,7 @@ import akka.stream.ActorMaterializer;
 import kamon.Kamon;
 import kamon.prometheus.PrometheusReporter;
 import kamon.system.SystemMetrics;
+import scala.concurrent.duration.FiniteDuration;
 
 /**
  * Abstract base implementation of a Ditto service which takes care of the complete startup procedure.
@@ -84,6 +88,12 @@ import kamon.system.SystemMetrics;
  * </ol>
  * </li>
  * </ol>
+ * <p>
+ * The durations of the blocking startup steps, e.g. starting Kamon, creating the actor system, adding the Dropwizard
+ * metric registries and creating the MongoDB clients of the root actors, are recorded in {@link StartupPhases}.
+ * Independent steps, i.e. starting Kamon and creating the actor system as well as adding the Dropwizard metric
+ * registries and starting the root actors, run concurrently.
+ * </p>
  *
  * @param <C> type of configuration reader for the service.
  */
@@ -121,7 +131,7 @@ public abstract class DittoService<C extends ServiceConfigReader> {
         this.logger = checkNotNull(logger, "logger");
         this.serviceName = argumentNotEmpty(serviceName, "service name");
         this.rootActorName = argumentNotEmpty(rootActorName, "root actor name");
-        final Config config = determineConfig();
+        final Config config = StartupPhases.getInstance().measure("config", this::determineConfig);
         this.configReader = checkNotNull(configReaderCreator, "config reader creator").apply(config);
     }
 
@@ -143,16 +153,30 @@ public abstract class DittoService<C extends ServiceConfigReader> {
      * @return the created ActorSystem during startup
      */
     protected ActorSystem doStart() {
+        final StartupPhases startupPhases = StartupPhases.getInstance();
         logRuntimeParameters();
         configureMongoDbSuffixBuilder();
-        startKamon();
+
+        // Kamon and the actor system are independent of each other, thus they are started concurrently
+        final CompletableFuture<Void> kamonStarted =
+                CompletableFuture.runAsync(() -> startupPhases.measure("kamon", this::startKamon));
         final Config config = configReader.getRawConfig();
-        final ActorSystem actorSystem = createActorSystem(config);
+        final ActorSystem actorSystem = startupPhases.measure("actor-system", () -> createActorSystem(config));
+        kamonStarted.join();
+        startupPhases.addListener(DittoService::reportStartupPhase);
+
         initializeActorSystem(config, actorSystem);
         startKamonPrometheusHttpEndpoint(actorSystem);
+        scheduleHotEntitiesRotation(actorSystem);
         return actorSystem;
     }
 
+    private static void reportStartupPhase(final String phase, final Duration duration) {
+        DittoMetrics.gauge("startup_phase_duration_ms")
+                .tag("phase", phase)
+                .set(duration.toMillis());
+    }
+
     private void logRuntimeParameters() {
         final RuntimeMXBean bean = ManagementFactory.getRuntimeMXBean();
         logger.info("Running with following runtime parameters: {}", bean.getInputArguments());
@@ -204,8 +228,10 @@ public abstract class DittoService<C extends ServiceConfigReader> {
      * </ul>
      */
     protected void initializeActorSystem(final Config config, final ActorSystem actorSystem) {
-        AkkaManagement.get(actorSystem).start();
-        ClusterBootstrap.get(actorSystem).start();
+        StartupPhases.getInstance().measure("akka-management", () -> {
+            AkkaManagement.get(actorSystem).start();
+            ClusterBootstrap.get(actorSystem).start();
+        });
 
         startStatusSupplierActor(actorSystem, config);
         startDevOpsCommandsActor(actorSystem, config);
@@ -227,6 +253,13 @@ public abstract class DittoService<C extends ServiceConfigReader> {
                 });
     }
 
+    private void scheduleHotEntitiesRotation(final ActorSystem actorSystem) {
+        final FiniteDuration interval =
+                FiniteDuration.fromNanos(configReader.metrics().getHotEntitiesInterval().toNanos());
+        actorSystem.scheduler()
+                .schedule(interval, interval, HotEntities::rotate, actorSystem.dispatcher());
+    }
+
     /**
      * Starts Prometheus HTTP endpoint on which Prometheus may scrape the data.
      */
@@ -344,11 +377,18 @@ public abstract class DittoService<C extends ServiceConfigReader> {
      */
     protected void startServiceRootActors(final ActorSystem actorSystem, final C configReader) {
 
+        final StartupPhases startupPhases = StartupPhases.getInstance();
+        final long waitingForMemberUpSince = System.nanoTime();
         logger.info("Waiting for member to be up before proceeding with further initialisation.");
         Cluster.get(actorSystem).registerOnMemberUp(() -> {
+            startupPhases.record("cluster-join", Duration.ofNanos(System.nanoTime() - waitingForMemberUpSince));
             logger.info("Member successfully joined the cluster, instantiating remaining actors.");
 
-            addDropwizardMetricRegistries(actorSystem, configReader);
+            // the metric registries are not required by the root actors, thus they are added concurrently
+            final CompletableFuture<Void> metricRegistriesAdded = CompletableFuture.runAsync(
+                    () -> startupPhases.measure("dropwizard-metric-registries",
+                            () -> addDropwizardMetricRegistries(actorSystem, configReader)),
+                    actorSystem.dispatcher());
 
             final ActorRef pubSubMediator = getDistributedPubSubMediatorActor(actorSystem);
             final ActorMaterializer materializer = createActorMaterializer(actorSystem);
@@ -358,6 +398,15 @@ public abstract class DittoService<C extends ServiceConfigReader> {
             startMainRootActor(actorSystem, getMainRootActorProps(configReader, pubSubMediator, materializer));
             startAdditionalRootActors(actorSystem, getAdditionalRootActorsInformation(configReader, pubSubMediator,
                     materializer));
+
+            metricRegistriesAdded.whenComplete((result, error) -> {
+                if (null != error) {
+                    logger.error("Error while adding Dropwizard metric registries.", error);
+                }
+                final Duration totalDuration = startupPhases.completed();
+                DittoMetrics.gauge("startup_duration_ms").set(totalDuration.toMillis());
+                logger.info("Startup completed after <{}ms>: {}", totalDuration.toMillis(), startupPhases.toJson());
+            });
         });
     }
 
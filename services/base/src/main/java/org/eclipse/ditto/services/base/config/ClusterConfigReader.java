@@ -34,11 +34,24 @@ public final class ClusterConfigReader extends AbstractConfigReader {
      */
     public static final Duration DEFAULT_MAJORITY_CHECK_DELAY = Duration.ofSeconds(30L);
 
+    /**
+     * Whether to subscribe for Thing events via the interest-based event dispatcher by default.
+     */
+    public static final boolean DEFAULT_PARTITIONED_EVENTS_ENABLED = false;
+
+    /**
+     * Whether to subscribe for live signals via the interest-based event dispatchers by default.
+     */
+    public static final boolean DEFAULT_DIRECT_LIVE_SIGNALS_ENABLED = false;
+
     private static final String PATH_INSTANCE_INDEX = "instance-index";
     private static final String PATH_NUMBER_OF_SHARDS = "number-of-shards";
     private static final String PATH_MAJORITY_CHECK = "majority-check";
     private static final String PATH_MAJORITY_CHECK_ENABLED = path(PATH_MAJORITY_CHECK, "enabled");
     private static final String PATH_MAJORITY_CHECK_DELAY = path(PATH_MAJORITY_CHECK, "delay");
+    private static final String PATH_SHARD_ALLOCATION = "shard-allocation";
+    private static final String PATH_PARTITIONED_EVENTS_ENABLED = path("partitioned-events", "enabled");
+    private static final String PATH_DIRECT_LIVE_SIGNALS_ENABLED = path("direct-live-signals", "enabled");
 
     ClusterConfigReader(final Config config) {
         super(config);
@@ -80,4 +93,35 @@ public final class ClusterConfigReader extends AbstractConfigReader {
         return getIfPresent(PATH_MAJORITY_CHECK_DELAY, config::getDuration).orElse(DEFAULT_MAJORITY_CHECK_DELAY);
     }
 
+    /**
+     * Retrieve the shard allocation configurations.
+     *
+     * @return the shard allocation config reader.
+     */
+    public ShardAllocationConfigReader shardAllocation() {
+        return new ShardAllocationConfigReader(getChildOrEmpty(PATH_SHARD_ALLOCATION));
+    }
+
+    /**
+     * Retrieve whether Thing events are subscribed for via the interest-based event dispatcher of this node instead
+     * of directly via distributed pub/sub.
+     *
+     * @return whether partitioned events are enabled.
+     */
+    public boolean partitionedEventsEnabled() {
+        return getIfPresent(PATH_PARTITIONED_EVENTS_ENABLED, config::getBoolean)
+                .orElse(DEFAULT_PARTITIONED_EVENTS_ENABLED);
+    }
+
+    /**
+     * Retrieve whether live commands, live events and messages are subscribed for via the interest-based event
+     * dispatchers of this node instead of directly via distributed pub/sub.
+     *
+     * @return whether direct live signals are enabled.
+     */
+    public boolean directLiveSignalsEnabled() {
+        return getIfPresent(PATH_DIRECT_LIVE_SIGNALS_ENABLED, config::getBoolean)
+                .orElse(DEFAULT_DIRECT_LIVE_SIGNALS_ENABLED);
+    }
+
 }
@@ -10,6 +10,8 @@
  */
 package org.eclipse.ditto.services.base.config;
 
+import java.time.Duration;
+
 import com.typesafe.config.Config;
 
 /**
@@ -29,6 +31,13 @@ public final class MetricsConfigReader extends AbstractConfigReader {
     private static final String PATH_PROMETHEUS_HOSTNAME = path(PROMETHEUS_KEY, "hostname");
     private static final String PATH_PROMETHEUS_PORT = path(PROMETHEUS_KEY, "port");
 
+    private static final String PATH_HOT_ENTITIES_INTERVAL = path("hotEntities", "interval");
+
+    /**
+     * Interval of reporting the busiest entities by default.
+     */
+    public static final Duration DEFAULT_HOT_ENTITIES_INTERVAL = Duration.ofSeconds(60L);
+
     MetricsConfigReader(final Config config) {
         super(config);
     }
@@ -69,4 +78,13 @@ public final class MetricsConfigReader extends AbstractConfigReader {
         return getIfPresent(PATH_PROMETHEUS_PORT, config::getInt).orElse(9095);
     }
 
+    /**
+     * Returns the length of the windows in which the busiest entities of the service instance are determined.
+     *
+     * @return the interval of reporting the busiest entities.
+     */
+    public Duration getHotEntitiesInterval() {
+        return getIfPresent(PATH_HOT_ENTITIES_INTERVAL, config::getDuration).orElse(DEFAULT_HOT_ENTITIES_INTERVAL);
+    }
+
 }
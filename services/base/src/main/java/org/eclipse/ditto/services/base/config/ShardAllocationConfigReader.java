@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.base.config;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.services.utils.cluster.LoadAwareShardAllocationStrategy;
+import org.eclipse.ditto.services.utils.cluster.ShardLoadTracker;
+
+import com.typesafe.config.Config;
+
+import akka.actor.ActorSystem;
+import akka.cluster.sharding.ClusterSharding;
+import akka.cluster.sharding.ClusterShardingSettings;
+import akka.cluster.sharding.ShardCoordinator;
+
+/**
+ * Shard allocation configurations.
+ */
+public final class ShardAllocationConfigReader extends AbstractConfigReader {
+
+    /**
+     * Default: Whether shards are allocated based on their load.
+     */
+    private static final boolean DEFAULT_LOAD_AWARE = false;
+
+    /**
+     * Default: By how much the load of a region has to exceed the average load before shards are rebalanced.
+     */
+    private static final double DEFAULT_REBALANCE_THRESHOLD = 0.25;
+
+    /**
+     * Default: The maximum amount of shards rebalanced at the same time.
+     */
+    private static final int DEFAULT_MAX_SIMULTANEOUS_REBALANCE = 1;
+
+    /**
+     * Default: The minimum duration between two rebalances of the same shard.
+     */
+    private static final Duration DEFAULT_REBALANCE_COOLDOWN = Duration.ofMinutes(10L);
+
+    /**
+     * Default: The load of one entity relative to the load of one message per second.
+     */
+    private static final double DEFAULT_ENTITY_WEIGHT = 0.01;
+
+    /**
+     * Default: How often the load of the shards is determined.
+     */
+    private static final Duration DEFAULT_REPORT_INTERVAL = Duration.ofSeconds(30L);
+
+    private static final String PATH_LOAD_AWARE = "load-aware";
+    private static final String PATH_REBALANCE_THRESHOLD = "rebalance-threshold";
+    private static final String PATH_MAX_SIMULTANEOUS_REBALANCE = "max-simultaneous-rebalance";
+    private static final String PATH_REBALANCE_COOLDOWN = "rebalance-cooldown";
+    private static final String PATH_ENTITY_WEIGHT = "entity-weight";
+    private static final String PATH_REPORT_INTERVAL = "report-interval";
+
+    ShardAllocationConfigReader(final Config config) {
+        super(config);
+    }
+
+    /**
+     * Get whether shards are allocated and rebalanced based on their load.
+     *
+     * @return whether load aware shard allocation is enabled.
+     */
+    public boolean loadAware() {
+        return getIfPresent(PATH_LOAD_AWARE, config::getBoolean).orElse(DEFAULT_LOAD_AWARE);
+    }
+
+    /**
+     * Get by how much the load of a region has to exceed the average load before shards are rebalanced.
+     *
+     * @return the rebalance threshold, e. g. {@code 0.25} for 25 percent.
+     */
+    public double rebalanceThreshold() {
+        return getIfPresent(PATH_REBALANCE_THRESHOLD, config::getDouble).orElse(DEFAULT_REBALANCE_THRESHOLD);
+    }
+
+    /**
+     * Get the maximum amount of shards rebalanced at the same time.
+     *
+     * @return the maximum amount of shards.
+     */
+    public int maxSimultaneousRebalance() {
+        return getIfPresent(PATH_MAX_SIMULTANEOUS_REBALANCE, config::getInt)
+                .orElse(DEFAULT_MAX_SIMULTANEOUS_REBALANCE);
+    }
+
+    /**
+     * Get the minimum duration between two rebalances of the same shard.
+     *
+     * @return the rebalance cooldown.
+     */
+    public Duration rebalanceCooldown() {
+        return getIfPresent(PATH_REBALANCE_COOLDOWN, config::getDuration).orElse(DEFAULT_REBALANCE_COOLDOWN);
+    }
+
+    /**
+     * Get the load of one entity relative to the load of one message per second.
+     *
+     * @return the entity weight.
+     */
+    public double entityWeight() {
+        return getIfPresent(PATH_ENTITY_WEIGHT, config::getDouble).orElse(DEFAULT_ENTITY_WEIGHT);
+    }
+
+    /**
+     * Get how often the load of the shards is determined.
+     *
+     * @return the report interval.
+     */
+    public Duration reportInterval() {
+        return getIfPresent(PATH_REPORT_INTERVAL, config::getDuration).orElse(DEFAULT_REPORT_INTERVAL);
+    }
+
+    /**
+     * Create the allocation strategy of a shard region: a {@link LoadAwareShardAllocationStrategy} if
+     * {@link #loadAware()} is enabled, the default strategy of Akka otherwise.
+     *
+     * @param actorSystem the actor system starting the shard region.
+     * @param settings the settings of the shard region.
+     * @param typeName the type name of the shard region.
+     * @param shardLoadTracker the tracker the message extractor of the shard region records messages in.
+     * @return the allocation strategy.
+     */
+    public ShardCoordinator.ShardAllocationStrategy createAllocationStrategy(final ActorSystem actorSystem,
+            final ClusterShardingSettings settings,
+            final String typeName,
+            final ShardLoadTracker shardLoadTracker) {
+
+        if (loadAware()) {
+            return LoadAwareShardAllocationStrategy.of(actorSystem, typeName, shardLoadTracker, rebalanceThreshold(),
+                    maxSimultaneousRebalance(), rebalanceCooldown(), entityWeight(), reportInterval());
+        } else {
+            return ClusterSharding.get(actorSystem).defaultShardAllocationStrategy(settings);
+        }
+    }
+
+}
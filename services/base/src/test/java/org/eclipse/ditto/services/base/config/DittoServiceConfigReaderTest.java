@@ -42,6 +42,7 @@ public final class DittoServiceConfigReaderTest {
         assertThat(underTest.cluster().majorityCheckDelay()).isEqualTo(Duration.ofHours(500));
         assertThat(underTest.metrics().isPrometheusEnabled()).isTrue();
         assertThat(underTest.metrics().isSystemMetricsEnabled()).isTrue();
+        assertThat(underTest.metrics().getHotEntitiesInterval()).isEqualTo(Duration.ofMinutes(5));
     }
 
     @Test
@@ -56,6 +57,8 @@ public final class DittoServiceConfigReaderTest {
                 .isEqualTo(ClusterConfigReader.DEFAULT_MAJORITY_CHECK_DELAY);
         assertThat(underTest.metrics().isPrometheusEnabled()).isFalse();
         assertThat(underTest.metrics().isSystemMetricsEnabled()).isFalse();
+        assertThat(underTest.metrics().getHotEntitiesInterval())
+                .isEqualTo(MetricsConfigReader.DEFAULT_HOT_ENTITIES_INTERVAL);
     }
 
     @Test
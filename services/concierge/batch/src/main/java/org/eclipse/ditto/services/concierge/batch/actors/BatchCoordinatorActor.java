@@ -13,7 +13,9 @@ package org.eclipse.ditto.services.concierge.batch.actors;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -27,6 +29,9 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.DittoHeadersBuilder;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.batch.ExecuteBatch;
@@ -36,6 +41,7 @@ import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.batch.BatchCommandExecuted;
 import org.eclipse.ditto.signals.events.batch.BatchExecutionFinished;
+import org.eclipse.ditto.signals.events.batch.BatchExecutionProgressed;
 import org.eclipse.ditto.signals.events.batch.BatchExecutionStarted;
 
 import akka.actor.ActorRef;
@@ -50,6 +56,12 @@ import scala.concurrent.duration.Duration;
 
 /**
  * Actor which handles batch execution of commands.
+ * <p>
+ * At most {@code maxInFlight} commands of the batch are sent to the concierge forwarder at the same time, both for
+ * the dry run and the execution. The {@link BatchCommandExecuted} events of the responses are persisted in groups of
+ * {@code persistGroupSize} events, each persisted group is reported to the event recipient as
+ * {@link BatchExecutionProgressed}.
+ * </p>
  */
 final class BatchCoordinatorActor extends AbstractPersistentActor {
 
@@ -69,44 +81,66 @@ final class BatchCoordinatorActor extends AbstractPersistentActor {
     private static final String RANDOM_FIELD = "random";
     private static final String ORIGINAL_CORRELATION_ID = "originalCorrelationId";
 
+    private static final PreparedTimer COMMAND_LATENCY = DittoMetrics.timer("batch_command_latency");
+    private static final PreparedTimer EXECUTION_DURATION = DittoMetrics.timer("batch_execution_duration");
+    private static final Histogram EXECUTION_THROUGHPUT =
+            DittoMetrics.histogram("batch_execution_throughput_commands_per_second");
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final ActorRef eventRecipient;
     private final ActorRef conciergeForwarder;
-    private final Set<String> pendingCommands;
+    private final int maxInFlight;
+    private final int persistGroupSize;
     private final Map<String, Command> commands;
+    private final Set<String> unsentCommands;
+    private final Map<String, Long> inFlightCommands;
+    private final List<BatchCommandExecuted> unpersistedEvents;
     private final List<CommandResponse> commandResponses;
 
     private String batchId;
     private ActorRef originalSender;
     private Cancellable shutdown;
+    private boolean finished;
+    private long executionStartedNanos;
+    private int executedSinceStart;
 
     private BatchCoordinatorActor(final String batchId, final ActorRef eventRecipient,
-            final ActorRef conciergeForwarder) {
+            final ActorRef conciergeForwarder, final int maxInFlight, final int persistGroupSize) {
         this.batchId = batchId;
         this.conciergeForwarder = conciergeForwarder;
         this.eventRecipient = eventRecipient;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.persistGroupSize = Math.max(1, persistGroupSize);
 
-        pendingCommands = new HashSet<>();
-        commands = new HashMap<>();
+        commands = new LinkedHashMap<>();
+        unsentCommands = new LinkedHashSet<>();
+        inFlightCommands = new HashMap<>();
+        unpersistedEvents = new ArrayList<>();
         commandResponses = new ArrayList<>();
+        finished = false;
     }
 
     /**
      * Creates Akka configuration object Props for this BatchCoordinatorActor.
      *
      * @param batchId the identifier of the batch which this actor handles.
-     * @param conciergeForwarder the ref of the conciergeForwarder.
      * @param eventRecipient the recipient for published events
+     * @param conciergeForwarder the ref of the conciergeForwarder.
+     * @param maxInFlight the maximum number of commands of the batch awaiting their response at the same time.
+     * @param persistGroupSize the maximum number of {@code BatchCommandExecuted} events persisted at once.
      * @return the Akka configuration Props object.
      */
-    static Props props(final String batchId, final ActorRef eventRecipient, final ActorRef conciergeForwarder) {
+    static Props props(final String batchId, final ActorRef eventRecipient, final ActorRef conciergeForwarder,
+            final int maxInFlight, final int persistGroupSize) {
+
         return Props.create(BatchCoordinatorActor.class, new Creator<BatchCoordinatorActor>() {
             private static final long serialVersionUID = 1L;
 
             @Override
             public BatchCoordinatorActor create() {
-                return new BatchCoordinatorActor(batchId, eventRecipient, conciergeForwarder);
+                return new BatchCoordinatorActor(batchId, eventRecipient, conciergeForwarder, maxInFlight,
+                        persistGroupSize);
             }
         });
     }
@@ -135,7 +169,7 @@ final class BatchCoordinatorActor extends AbstractPersistentActor {
                             .forEach(command -> {
                                 final String correlationId = command.getDittoHeaders().getCorrelationId().get();
                                 commands.put(correlationId, command);
-                                pendingCommands.add(correlationId);
+                                unsentCommands.add(correlationId);
                             });
                 })
                 .match(BatchCommandExecuted.class, event -> {
@@ -144,18 +178,23 @@ final class BatchCoordinatorActor extends AbstractPersistentActor {
                             .getCorrelationId()
                             .orElseThrow(() -> new IllegalStateException("Received a CommandResponse without " +
                                     "Correlation ID!"));
-                    pendingCommands.remove(correlationId);
-                    commandResponses.add(response);
+                    unsentCommands.remove(correlationId);
+                    commandResponses.add(unfixCorrelationId(response));
+                })
+                .match(BatchExecutionFinished.class, event -> {
+                    log.debug("Recovered finished batch '{}'.", batchId);
+                    finished = true;
                 })
-                .match(BatchExecutionFinished.class,
-                        event -> log.debug("Recovered finished batch '{}'.", batchId))
                 .match(RecoveryCompleted.class, rc -> {
                     log.debug("Recovery completed");
-                    if (!pendingCommands.isEmpty()) {
-                        log.debug("Resuming execution of batch '{}'.", batchId);
-                        pendingCommands.forEach(
-                                correlationId -> conciergeForwarder.tell(commands.get(correlationId), getSelf()));
+                    if (!unsentCommands.isEmpty()) {
+                        log.debug("Resuming execution of batch '{}' with <{}> pending commands.", batchId,
+                                unsentCommands.size());
+                        startExecution();
                         becomeCommandResponseAwaiting();
+                    } else if (!commands.isEmpty() && !finished) {
+                        log.debug("All commands of batch '{}' were executed - finishing it.", batchId);
+                        finishExecution();
                     } else {
                         log.debug("No pending commands - shutting down in {} seconds.",
                                 SHUTDOWN_TIMEOUT_SECONDS);
@@ -179,34 +218,53 @@ final class BatchCoordinatorActor extends AbstractPersistentActor {
 
         originalSender = getSender();
 
-        command.getCommands().forEach(this::tellCommandAsDryRun);
+        command.getCommands().forEach(this::addCommand);
+        unsentCommands.addAll(commands.keySet());
+        tellUnsentCommands(true);
 
         becomeDryRunCommandResponseAwaiting();
     }
 
-    private void tellCommandAsDryRun(final Command command) {
+    private void addCommand(final Command command) {
         final String correlationId = encodeCorrelationId(command.getDittoHeaders());
         final DittoHeadersBuilder dittoHeadersBuilder = command.getDittoHeaders()
                 .toBuilder()
                 .correlationId(correlationId);
 
         commands.put(correlationId, command.setDittoHeaders(dittoHeadersBuilder.build()));
-        pendingCommands.add(correlationId);
+    }
 
-        final Command commandAsDryRun = command.setDittoHeaders(dittoHeadersBuilder.dryRun(true).build());
-        conciergeForwarder.tell(commandAsDryRun, getSelf());
+    /**
+     * Sends unsent commands to the concierge forwarder until {@code maxInFlight} commands await their response.
+     *
+     * @param dryRun whether the commands are to be sent as dry run.
+     */
+    private void tellUnsentCommands(final boolean dryRun) {
+        final Iterator<String> unsentIterator = unsentCommands.iterator();
+        while (inFlightCommands.size() < maxInFlight && unsentIterator.hasNext()) {
+            final String correlationId = unsentIterator.next();
+            unsentIterator.remove();
+
+            final Command command = commands.get(correlationId);
+            final Command commandToSend = dryRun
+                    ? command.setDittoHeaders(command.getDittoHeaders().toBuilder().dryRun(true).build())
+                    : command;
+            inFlightCommands.put(correlationId, System.nanoTime());
+            conciergeForwarder.tell(commandToSend, getSelf());
+        }
     }
 
     private void becomeDryRunCommandResponseAwaiting() {
         getContext().become(ReceiveBuilder.create()
                 .match(ExecuteBatch.class, this::batchAlreadyExecuting)
                 .match(CommandResponse.class, response -> {
-                    pendingCommands.remove(response.getDittoHeaders()
+                    inFlightCommands.remove(response.getDittoHeaders()
                             .getCorrelationId()
                             .orElseThrow(() -> new IllegalStateException("Received a CommandResponse without " +
                                     "Correlation ID!")));
+                    tellUnsentCommands(true);
 
-                    if (pendingCommands.isEmpty()) {
+                    if (inFlightCommands.isEmpty()) {
                         final BatchExecutionStarted batchExecutionStarted =
                                 BatchExecutionStarted.of(batchId, Instant.now(),
                                         new ArrayList<>(commands.values()),
@@ -216,10 +274,8 @@ final class BatchCoordinatorActor extends AbstractPersistentActor {
                             log.info("Batch with ID '{}' started.", batchId);
 
                             originalSender.tell(ExecuteBatchResponse.of(batchId, buildDittoHeaders()), getSelf());
-                            commands.forEach((correlationId, command) -> {
-                                conciergeForwarder.tell(command, getSelf());
-                                pendingCommands.add(correlationId);
-                            });
+                            unsentCommands.addAll(commands.keySet());
+                            startExecution();
 
                             notifyEventRecipient(batchExecutionStarted);
                             becomeCommandResponseAwaiting();
@@ -236,7 +292,8 @@ final class BatchCoordinatorActor extends AbstractPersistentActor {
                             ThingErrorResponse.of(exception,
                                     buildDittoHeaders());
 
-                    pendingCommands.remove(correlationId);
+                    inFlightCommands.remove(correlationId);
+                    unsentCommands.clear();
                     originalSender.tell(errorResponse, getSelf());
                     scheduleShutdown();
                     becomeShutdownAwaiting();
@@ -270,31 +327,74 @@ final class BatchCoordinatorActor extends AbstractPersistentActor {
                 .getCorrelationId()
                 .orElseThrow(() -> new IllegalStateException("Received a CommandResponse without " +
                         "Correlation ID!"));
-        final BatchCommandExecuted commandExecuted =
-                BatchCommandExecuted.of(response.getDittoHeaders().getCorrelationId()
-                                .orElseThrow(
-                                        () -> new IllegalStateException("encountered CommandResponse without correlationId")),
-                        response, Instant.now());
-        persist(commandExecuted, event -> {
-            log.info("Received '{}' for Batch with ID '{}'.", response.getName(), batchId);
-
-            pendingCommands.remove(correlationId);
-            commandResponses.add(unfixCorrelationId(response));
-
-            if (pendingCommands.isEmpty()) {
-                final BatchExecutionFinished batchExecutionFinished = BatchExecutionFinished.of(batchId,
-                        Instant.now(), commandResponses,
-                        buildDittoHeaders());
-                persist(batchExecutionFinished, batchExecutionFinishedPersisted -> {
-                    log.info("Batch with ID '{}' finished.", batchId);
-                    notifyEventRecipient(batchExecutionFinished);
-                    scheduleShutdown();
-                    becomeShutdownAwaiting();
-                });
+        final Long sentAtNanos = inFlightCommands.remove(correlationId);
+        if (null == sentAtNanos) {
+            log.debug("Ignoring '{}' of Batch with ID '{}' which is not awaited.", response.getName(), batchId);
+            return;
+        }
+        COMMAND_LATENCY.record(System.nanoTime() - sentAtNanos, TimeUnit.NANOSECONDS);
+        log.debug("Received '{}' for Batch with ID '{}'.", response.getName(), batchId);
+
+        unpersistedEvents.add(BatchCommandExecuted.of(correlationId, response, Instant.now()));
+        tellUnsentCommands(false);
+
+        if (unpersistedEvents.size() >= persistGroupSize || inFlightCommands.isEmpty()) {
+            persistExecutedCommands();
+        }
+    }
+
+    private void startExecution() {
+        executionStartedNanos = System.nanoTime();
+        executedSinceStart = 0;
+        tellUnsentCommands(false);
+    }
+
+    private void persistExecutedCommands() {
+        final List<BatchCommandExecuted> events = new ArrayList<>(unpersistedEvents);
+        unpersistedEvents.clear();
+
+        persistAll(events, event -> {
+            commandResponses.add(unfixCorrelationId(event.getResponse()));
+            executedSinceStart++;
+        });
+        defer(events.size(), persistedEvents -> {
+            log.info("Executed <{}> of <{}> commands of Batch with ID '{}'.", commandResponses.size(),
+                    commands.size(), batchId);
+            notifyEventRecipient(BatchExecutionProgressed.of(batchId, Instant.now(), commandResponses.size(),
+                    commands.size(), buildDittoHeaders()));
+
+            if (unsentCommands.isEmpty() && inFlightCommands.isEmpty() && unpersistedEvents.isEmpty()) {
+                finishExecution();
             }
         });
     }
 
+    private void finishExecution() {
+        final BatchExecutionFinished batchExecutionFinished = BatchExecutionFinished.of(batchId,
+                Instant.now(), commandResponses,
+                buildDittoHeaders());
+        persist(batchExecutionFinished, batchExecutionFinishedPersisted -> {
+            finished = true;
+            recordExecutionMetrics();
+            notifyEventRecipient(batchExecutionFinished);
+            scheduleShutdown();
+            becomeShutdownAwaiting();
+        });
+    }
+
+    private void recordExecutionMetrics() {
+        if (0 == executionStartedNanos) {
+            log.info("Batch with ID '{}' finished.", batchId);
+            return;
+        }
+        final long durationNanos = System.nanoTime() - executionStartedNanos;
+        final long throughput = executedSinceStart * TimeUnit.SECONDS.toNanos(1) / Math.max(1L, durationNanos);
+        EXECUTION_DURATION.record(durationNanos, TimeUnit.NANOSECONDS);
+        EXECUTION_THROUGHPUT.record(throughput);
+        log.info("Batch with ID '{}' finished: executed <{}> commands in <{}> ms with <{}> commands per second.",
+                batchId, executedSinceStart, TimeUnit.NANOSECONDS.toMillis(durationNanos), throughput);
+    }
+
     private void notifyEventRecipient(final Event event) {
         if (eventRecipient != null) {
             eventRecipient.tell(event, getSelf());
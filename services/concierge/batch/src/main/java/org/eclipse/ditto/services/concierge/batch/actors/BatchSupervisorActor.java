@@ -28,6 +28,7 @@ import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.signals.commands.batch.ExecuteBatch;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.batch.BatchExecutionFinished;
+import org.eclipse.ditto.signals.events.batch.BatchExecutionProgressed;
 import org.eclipse.ditto.signals.events.batch.BatchExecutionStarted;
 
 import com.mongodb.DBObject;
@@ -68,14 +69,19 @@ public final class BatchSupervisorActor extends AbstractPersistentActor {
 
     private final ActorRef pubSubMediator;
     private final ActorRef conciergeForwarder;
+    private final int maxInFlight;
+    private final int persistGroupSize;
     private final SnapshotAdapter<Set<String>> snapshotAdapter;
     private long snapshotSequenceNr = -1;
 
     private Set<String> batchIds;
 
-    private BatchSupervisorActor(final ActorRef pubSubMediator, final ActorRef conciergeForwarder) {
+    private BatchSupervisorActor(final ActorRef pubSubMediator, final ActorRef conciergeForwarder,
+            final int maxInFlight, final int persistGroupSize) {
         this.pubSubMediator = pubSubMediator;
         this.conciergeForwarder = conciergeForwarder;
+        this.maxInFlight = maxInFlight;
+        this.persistGroupSize = persistGroupSize;
 
         snapshotAdapter = new BatchIdsSnapshotAdapter();
         batchIds = new HashSet<>();
@@ -86,15 +92,20 @@ public final class BatchSupervisorActor extends AbstractPersistentActor {
      *
      * @param pubSubMediator the mediator to use for distributed pubsub.
      * @param conciergeForwarder the ref of the conciergeForwarder.
+     * @param maxInFlight the maximum number of commands of a batch awaiting their response at the same time.
+     * @param persistGroupSize the maximum number of executed commands of a batch persisted at once.
      * @return the Akka configuration Props object.
      */
-    public static Props props(final ActorRef pubSubMediator, final ActorRef conciergeForwarder) {
+    public static Props props(final ActorRef pubSubMediator, final ActorRef conciergeForwarder,
+            final int maxInFlight, final int persistGroupSize) {
+
         return Props.create(BatchSupervisorActor.class, new Creator<BatchSupervisorActor>() {
             private static final long serialVersionUID = 1L;
 
             @Override
             public BatchSupervisorActor create() {
-                return new BatchSupervisorActor(pubSubMediator, conciergeForwarder);
+                return new BatchSupervisorActor(pubSubMediator, conciergeForwarder, maxInFlight,
+                        persistGroupSize);
             }
         });
     }
@@ -151,6 +162,12 @@ public final class BatchSupervisorActor extends AbstractPersistentActor {
                                 publishEvent(e);
                             }
                         }))
+                .match(BatchExecutionProgressed.class, event -> {
+                    // progress is published right away as it is not persisted
+                    if (batchIds.contains(event.getBatchId())) {
+                        publishEvent(event);
+                    }
+                })
                 .match(DistributedPubSubMediator.SubscribeAck.class, subscribeAck ->
                         log.debug("Successfully subscribed to distributed pub/sub on topic '{}'",
                                 subscribeAck.subscribe().topic())
@@ -200,7 +217,8 @@ public final class BatchSupervisorActor extends AbstractPersistentActor {
         if (batchCoordinatorActor.isDefined()) {
             return batchCoordinatorActor.get();
         } else {
-            final Props props = BatchCoordinatorActor.props(batchId, getSelf(), conciergeForwarder);
+            final Props props = BatchCoordinatorActor.props(batchId, getSelf(), conciergeForwarder, maxInFlight,
+                    persistGroupSize);
             return getContext().actorOf(props, BatchCoordinatorActor.ACTOR_NAME_PREFIX + batchId);
         }
     }
@@ -41,6 +41,7 @@ import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThingResponse;
 import org.eclipse.ditto.signals.events.base.assertions.EventAssertions;
 import org.eclipse.ditto.signals.events.batch.BatchExecutionFinished;
+import org.eclipse.ditto.signals.events.batch.BatchExecutionProgressed;
 import org.eclipse.ditto.signals.events.batch.BatchExecutionStarted;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -117,6 +118,8 @@ public final class BatchCoordinatorActorTest {
                         .of(ExecuteBatchResponse.class,
                                 executeBatchResponse -> assertThat(executeBatchResponse).hasCorrelationId(batchId))
                         .of(BatchExecutionStarted.class, batchEvent -> {})
+                        .of(BatchExecutionProgressed.class, batchExecutionProgressed ->
+                                Assertions.assertThat(batchExecutionProgressed.getExecutedCommands()).isEqualTo(2))
                         .of(BatchExecutionFinished.class, batchExecutionFinished -> {
                             EventAssertions.assertThat(batchExecutionFinished).hasCorrelationId(batchId);
                             Assertions.assertThat(batchExecutionFinished.getCommandResponses())
@@ -165,6 +168,8 @@ public final class BatchCoordinatorActorTest {
                         .of(ExecuteBatchResponse.class,
                                 executeBatchResponse -> assertThat(executeBatchResponse).hasCorrelationId(batchId))
                         .of(BatchExecutionStarted.class, batchEvent -> {})
+                        .of(BatchExecutionProgressed.class, batchExecutionProgressed ->
+                                Assertions.assertThat(batchExecutionProgressed.getExecutedCommands()).isEqualTo(2))
                         .of(BatchExecutionFinished.class, batchExecutionFinished -> {
                             EventAssertions.assertThat(batchExecutionFinished).hasCorrelationId(batchId);
                             Assertions.assertThat(batchExecutionFinished.getCommandResponses()).contains(
@@ -248,6 +253,8 @@ public final class BatchCoordinatorActorTest {
                         .of(ExecuteBatchResponse.class,
                                 executeBatchResponse -> assertThat(executeBatchResponse).hasCorrelationId(batchId))
                         .of(BatchExecutionStarted.class, batchEvent -> {})
+                        .of(BatchExecutionProgressed.class, batchExecutionProgressed ->
+                                Assertions.assertThat(batchExecutionProgressed.getExecutedCommands()).isEqualTo(2))
                         .of(BatchExecutionFinished.class,
                                 batchExecutionFinished -> EventAssertions.assertThat(batchExecutionFinished)
                                         .hasCorrelationId(batchId))
@@ -288,14 +295,59 @@ public final class BatchCoordinatorActorTest {
 
                 Retry.untilSuccess(() -> createBatchCoordinatorActor(ref(), batchId));
 
+                expectMsgClass(BatchExecutionProgressed.class);
                 final BatchExecutionFinished batchExecutionFinished = expectMsgClass(BatchExecutionFinished.class);
                 EventAssertions.assertThat(batchExecutionFinished).hasCorrelationId(batchId);
             }
         };
     }
 
+    /** */
+    @Test
+    public void batchExecutesCommandsWindowedAndReportsProgress() {
+        new JavaTestProbe(actorSystem) {
+            {
+                final String batchId = randomBatchId();
+                final ExecuteBatch executeBatch =
+                        ExecuteBatch.of(batchId, Arrays.asList(
+                                modifyThing("com.bosch.iot.things.test:windowed1"),
+                                modifyThing("com.bosch.iot.things.test:windowed2"),
+                                modifyThing("com.bosch.iot.things.test:windowed3")),
+                                DittoHeaders.newBuilder().correlationId(batchId).build());
+
+                final ActorRef underTest = createBatchCoordinatorActor(ref(), batchId, 1, 2);
+
+                underTest.tell(executeBatch, ref());
+
+                expectMsgAllClass()
+                        .of(ExecuteBatchResponse.class,
+                                executeBatchResponse -> assertThat(executeBatchResponse).hasCorrelationId(batchId))
+                        .of(BatchExecutionStarted.class, batchEvent -> {})
+                        .run();
+                final BatchExecutionProgressed firstProgress = expectMsgClass(BatchExecutionProgressed.class);
+                Assertions.assertThat(firstProgress.getExecutedCommands()).isEqualTo(2);
+                Assertions.assertThat(firstProgress.getTotalCommands()).isEqualTo(3);
+                final BatchExecutionProgressed secondProgress = expectMsgClass(BatchExecutionProgressed.class);
+                Assertions.assertThat(secondProgress.getExecutedCommands()).isEqualTo(3);
+                final BatchExecutionFinished batchExecutionFinished = expectMsgClass(BatchExecutionFinished.class);
+                Assertions.assertThat(batchExecutionFinished.getCommandResponses()).hasSize(3);
+            }
+        };
+    }
+
+    private static ModifyThing modifyThing(final String thingId) {
+        return ModifyThing.of(thingId, Thing.newBuilder().setId(thingId).build(), null,
+                DittoHeaders.newBuilder().correlationId(UUID.randomUUID().toString()).build());
+    }
+
     private static ActorRef createBatchCoordinatorActor(final ActorRef eventRecipient, final String batchId) {
-        final Props props = BatchCoordinatorActor.props(batchId, eventRecipient, conciergeForwarder);
+        return createBatchCoordinatorActor(eventRecipient, batchId, 2, 10);
+    }
+
+    private static ActorRef createBatchCoordinatorActor(final ActorRef eventRecipient, final String batchId,
+            final int maxInFlight, final int persistGroupSize) {
+        final Props props =
+                BatchCoordinatorActor.props(batchId, eventRecipient, conciergeForwarder, maxInFlight, persistGroupSize);
         final String name = BatchCoordinatorActor.ACTOR_NAME_PREFIX + batchId;
 
         return actorSystem.actorOf(props, name);
@@ -185,7 +185,7 @@ public final class BatchSupervisorActorTest {
 
     private static ActorRef createBatchSupervisorActor() {
         final String name = BatchSupervisorActor.ACTOR_NAME;
-        return actorSystem.actorOf(BatchSupervisorActor.props(pubSubMediator, conciergeForwarder), name);
+        return actorSystem.actorOf(BatchSupervisorActor.props(pubSubMediator, conciergeForwarder, 100, 100), name);
     }
 
     private static void terminate(final JavaTestProbe javaTestProbe, final ActorRef underTest) {
@@ -48,6 +48,22 @@ public final class CacheFactory {
         return CaffeineCache.of(caffeine(cacheConfigReader), cacheLoader, cacheName);
     }
 
+    /**
+     * Creates a cache which is populated manually.
+     *
+     * @param cacheConfigReader the {@link CacheConfigReader} which defines the cache's configuration.
+     * @param cacheName the name of the cache. Used as metric label.
+     * @param <K> the type of the cache keys.
+     * @param <V> the type of the cache values.
+     * @return the created cache.
+     */
+    public static <K, V> Cache<K, V> createCache(final CacheConfigReader cacheConfigReader, final String cacheName) {
+        requireNonNull(cacheConfigReader);
+        requireNonNull(cacheName);
+
+        return CaffeineCache.of(caffeine(cacheConfigReader), cacheName);
+    }
+
     private static Caffeine<Object, Object> caffeine(final CacheConfigReader cacheConfigReader) {
         final Caffeine<Object, Object> caffeine = Caffeine.newBuilder();
         caffeine.maximumSize(cacheConfigReader.maximumSize());
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.cache;
+
+import java.util.Optional;
+
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+
+/**
+ * Converts between the revision of a Thing and the entity tag the Things service assigns to the whole Thing.
+ */
+public final class ThingRevisionEntityTags {
+
+    private static final String REVISION_OPAQUE_TAG_PREFIX = "\"rev:";
+    private static final String OPAQUE_TAG_SUFFIX = "\"";
+
+    private ThingRevisionEntityTags() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates the entity tag of a Thing with the given revision.
+     *
+     * @param revision the revision of the Thing.
+     * @return the entity tag.
+     */
+    public static EntityTag toEntityTag(final long revision) {
+        return EntityTag.strong(REVISION_OPAQUE_TAG_PREFIX + revision + OPAQUE_TAG_SUFFIX);
+    }
+
+    /**
+     * Extracts the revision of a Thing from the entity tag in the headers of a message.
+     *
+     * @param withDittoHeaders the message, e.g. a response of the Things service.
+     * @return the revision, or an empty Optional if the message has no entity tag of a whole Thing.
+     */
+    public static Optional<Long> getRevision(final WithDittoHeaders withDittoHeaders) {
+        return withDittoHeaders.getDittoHeaders().getETag().flatMap(ThingRevisionEntityTags::getRevision);
+    }
+
+    private static Optional<Long> getRevision(final EntityTag entityTag) {
+        final String opaqueTag = entityTag.getOpaqueTag();
+        if (!opaqueTag.startsWith(REVISION_OPAQUE_TAG_PREFIX) || !opaqueTag.endsWith(OPAQUE_TAG_SUFFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(opaqueTag.substring(REVISION_OPAQUE_TAG_PREFIX.length(),
+                    opaqueTag.length() - OPAQUE_TAG_SUFFIX.length())));
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+}
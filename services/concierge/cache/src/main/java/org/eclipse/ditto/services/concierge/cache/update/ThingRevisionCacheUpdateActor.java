@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.cache.update;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.services.concierge.cache.ThingRevisionEntityTags;
+import org.eclipse.ditto.services.models.concierge.EntityId;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.events.things.ThingCreated;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+import akka.actor.ActorRef;
+import akka.actor.Props;
+
+/**
+ * An actor which subscribes to Thing Events and keeps the cache of the current revisions of Things up to date. If a
+ * cache of retrieved Things is configured, outdated Things are removed from it. Deleted Things are marked with a
+ * tombstone revision until they are created again, so that responses retrieved before the deletion are not cached.
+ */
+public final class ThingRevisionCacheUpdateActor extends AbstractPubSubListenerActor {
+
+    /**
+     * The name of this actor.
+     */
+    public static final String ACTOR_NAME = "thingRevisionCacheUpdater";
+
+    /**
+     * Revision cached for deleted Things; greater than any revision of a retrieved Thing and matching no entity tag.
+     */
+    static final long DELETED_REVISION = Long.MAX_VALUE;
+
+    private final Cache<EntityId, Long> thingRevisionCache;
+    @Nullable private final Cache<EntityId, RetrieveThingResponse> thingResponseCache;
+
+    private ThingRevisionCacheUpdateActor(final Cache<EntityId, Long> thingRevisionCache,
+            @Nullable final Cache<EntityId, RetrieveThingResponse> thingResponseCache,
+            final ActorRef pubSubMediator, final int instanceIndex) {
+
+        super(pubSubMediator, Collections.singleton(ThingEvent.TYPE_PREFIX), instanceIndex);
+
+        this.thingRevisionCache = requireNonNull(thingRevisionCache);
+        this.thingResponseCache = thingResponseCache;
+    }
+
+    /**
+     * Create an Akka {@code Props} object for this actor.
+     *
+     * @param thingRevisionCache the cache of the current revisions of Things.
+     * @param pubSubMediator Akka pub-sub mediator.
+     * @param instanceIndex the index of this service instance.
+     * @return Akka {@code Props} object.
+     */
+    public static Props props(final Cache<EntityId, Long> thingRevisionCache, final ActorRef pubSubMediator,
+            final int instanceIndex) {
+        return props(thingRevisionCache, null, pubSubMediator, instanceIndex);
+    }
+
+    /**
+     * Create an Akka {@code Props} object for this actor.
+     *
+     * @param thingRevisionCache the cache of the current revisions of Things.
+     * @param thingResponseCache the cache of retrieved Things, or {@code null} if Things are not cached.
+     * @param pubSubMediator Akka pub-sub mediator.
+     * @param instanceIndex the index of this service instance.
+     * @return Akka {@code Props} object.
+     */
+    public static Props props(final Cache<EntityId, Long> thingRevisionCache,
+            @Nullable final Cache<EntityId, RetrieveThingResponse> thingResponseCache,
+            final ActorRef pubSubMediator, final int instanceIndex) {
+        requireNonNull(thingRevisionCache);
+        requireNonNull(pubSubMediator);
+
+        return Props.create(ThingRevisionCacheUpdateActor.class,
+                () -> new ThingRevisionCacheUpdateActor(thingRevisionCache, thingResponseCache, pubSubMediator,
+                        instanceIndex));
+    }
+
+    @Override
+    protected Receive handleEvents() {
+        return receiveBuilder()
+                .match(ThingDeleted.class, this::handleThingDeleted)
+                .match(ThingCreated.class, this::handleThingCreated)
+                .match(ThingEvent.class, this::handleEvent)
+                .build();
+    }
+
+    private void handleThingDeleted(final ThingDeleted thingDeleted) {
+        final EntityId key = EntityId.of(ThingCommand.RESOURCE_TYPE, thingDeleted.getThingId());
+        thingRevisionCache.asMap().put(key, DELETED_REVISION);
+        if (thingResponseCache != null) {
+            thingResponseCache.invalidate(key);
+        }
+    }
+
+    private void handleThingCreated(final ThingCreated thingCreated) {
+        final EntityId key = EntityId.of(ThingCommand.RESOURCE_TYPE, thingCreated.getThingId());
+        // the tombstone of a deleted Thing is replaced by the revision of the created Thing
+        thingRevisionCache.asMap().merge(key, thingCreated.getRevision(), (cached, created) ->
+                cached == DELETED_REVISION ? created : Math.max(cached, created));
+        if (thingResponseCache != null) {
+            thingResponseCache.asMap().computeIfPresent(key, (k, response) ->
+                    isOutdated(response, thingCreated.getRevision()) ? null : response);
+        }
+    }
+
+    private void handleEvent(final ThingEvent<?> thingEvent) {
+        final EntityId key = EntityId.of(ThingCommand.RESOURCE_TYPE, thingEvent.getThingId());
+        // events may overtake responses of the Thing, therefore the revision must never decrease
+        thingRevisionCache.asMap().merge(key, thingEvent.getRevision(), Math::max);
+        if (thingResponseCache != null) {
+            thingResponseCache.asMap().computeIfPresent(key, (k, response) ->
+                    isOutdated(response, thingEvent.getRevision()) ? null : response);
+        }
+    }
+
+    private static boolean isOutdated(final RetrieveThingResponse response, final long revision) {
+        return ThingRevisionEntityTags.getRevision(response).map(cached -> cached < revision).orElse(true);
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.cache.update;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.assertj.core.api.Assertions;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.models.concierge.EntityId;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.ThingCreated;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ThingRevisionCacheUpdateActor}.
+ */
+public final class ThingRevisionCacheUpdateActorTest {
+
+    private static final int INSTANCE_INDEX = 0;
+    private static final String THING_ID = "my.namespace:thing_id";
+    private static final EntityId ENTITY_ID = EntityId.of(ThingCommand.RESOURCE_TYPE, THING_ID);
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.empty();
+
+    private static ActorSystem system;
+
+    private Cache<EntityId, Long> mockRevisionCache;
+    private ConcurrentMap<EntityId, Long> revisions;
+
+    private ActorRef updateActor;
+    private TestKit testKit;
+    private TestProbe pubSubMediatorProbe;
+
+    @BeforeClass
+    public static void beforeClass() {
+        system = ActorSystem.create();
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Before
+    public void init() {
+        revisions = new ConcurrentHashMap<>();
+        mockRevisionCache = mockCache(revisions);
+
+        pubSubMediatorProbe = new TestProbe(system, "mockPubSubMediator");
+
+        final Props props =
+                ThingRevisionCacheUpdateActor.props(mockRevisionCache, pubSubMediatorProbe.ref(), INSTANCE_INDEX);
+        updateActor = system.actorOf(props);
+
+        testKit = new TestKit(system);
+    }
+
+    @Test
+    public void actorSubscribesViaPubSub() {
+        final DistributedPubSubMediator.Subscribe subscribe =
+                pubSubMediatorProbe.expectMsgClass(DistributedPubSubMediator.Subscribe.class);
+        Assertions.assertThat(subscribe.topic()).isEqualTo(ThingEvent.TYPE_PREFIX);
+        Assertions.assertThat(subscribe.ref()).isEqualTo(updateActor);
+    }
+
+    @Test
+    public void thingEventUpdatesRevision() {
+        sendEvent(attributeModified(3L));
+
+        awaitAssert(() -> Assertions.assertThat(revisions).containsEntry(ENTITY_ID, 3L));
+    }
+
+    @Test
+    public void outdatedThingEventDoesNotDecreaseRevision() {
+        revisions.put(ENTITY_ID, 5L);
+
+        sendEvent(attributeModified(4L));
+        sendEvent(attributeModified(6L));
+
+        awaitAssert(() -> Assertions.assertThat(revisions).containsEntry(ENTITY_ID, 6L));
+    }
+
+    @Test
+    public void thingEventRemovesOutdatedThingResponse() {
+        final ConcurrentMap<EntityId, RetrieveThingResponse> responses = new ConcurrentHashMap<>();
+        final Cache<EntityId, RetrieveThingResponse> mockResponseCache = mockCache(responses);
+        responses.put(ENTITY_ID, retrieveThingResponse(4L));
+        final ActorRef underTest = system.actorOf(ThingRevisionCacheUpdateActor.props(mockRevisionCache,
+                mockResponseCache, pubSubMediatorProbe.ref(), INSTANCE_INDEX));
+
+        underTest.tell(attributeModified(4L), testKit.getRef());
+        awaitAssert(() -> Assertions.assertThat(revisions).containsEntry(ENTITY_ID, 4L));
+        Assertions.assertThat(responses).containsKey(ENTITY_ID);
+
+        underTest.tell(attributeModified(5L), testKit.getRef());
+        awaitAssert(() -> Assertions.assertThat(responses).doesNotContainKey(ENTITY_ID));
+    }
+
+    @Test
+    public void thingDeletedStoresTombstone() {
+        sendEvent(attributeModified(6L));
+        sendEvent(ThingDeleted.of(THING_ID, 7L, DITTO_HEADERS));
+
+        awaitAssert(() -> Assertions.assertThat(revisions)
+                .containsEntry(ENTITY_ID, ThingRevisionCacheUpdateActor.DELETED_REVISION));
+    }
+
+    @Test
+    public void thingCreatedReplacesTombstone() {
+        revisions.put(ENTITY_ID, ThingRevisionCacheUpdateActor.DELETED_REVISION);
+
+        // events of the deleted Thing do not remove the tombstone
+        sendEvent(attributeModified(6L));
+        sendEvent(ThingCreated.of(Thing.newBuilder().setId(THING_ID).build(), 8L, DITTO_HEADERS));
+
+        awaitAssert(() -> Assertions.assertThat(revisions).containsEntry(ENTITY_ID, 8L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Cache<EntityId, V> mockCache(final ConcurrentMap<EntityId, V> map) {
+        final Cache<EntityId, V> mockCache = mock(Cache.class);
+        when(mockCache.asMap()).thenReturn(map);
+        return mockCache;
+    }
+
+    private static RetrieveThingResponse retrieveThingResponse(final long revision) {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .eTag(EntityTag.fromString("\"rev:" + revision + "\""))
+                .build();
+        return RetrieveThingResponse.of(THING_ID, JsonFactory.newObject(), dittoHeaders);
+    }
+
+    private static AttributeModified attributeModified(final long revision) {
+        return AttributeModified.of(THING_ID, JsonPointer.of("foo"), JsonValue.of("bar"), revision, DITTO_HEADERS);
+    }
+
+    private void sendEvent(final Object message) {
+        updateActor.tell(message, testKit.getRef());
+    }
+
+    private void awaitAssert(final Runnable r) {
+        testKit.awaitAssert(() -> {r.run(); return null; });
+    }
+
+}
@@ -17,6 +17,7 @@ import java.time.Duration;
 import java.util.Set;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
 import javax.annotation.Nullable;
@@ -31,6 +32,7 @@ import org.eclipse.ditto.services.models.policies.Permission;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.akka.controlflow.Consume;
 import org.eclipse.ditto.services.utils.akka.controlflow.WithSender;
+import org.eclipse.ditto.services.utils.metrics.hotentities.HotEntities;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
@@ -73,8 +75,19 @@ public abstract class AbstractEnforcement<T extends Signal> {
     public abstract CompletionStage<Void> enforce(T signal, ActorRef sender, DiagnosticLoggingAdapter log);
 
     Graph<SinkShape<WithSender<T>>, NotUsed> toGraph() {
-        return Consume.of((signal, sender) ->
-                enforce(signal, sender, context.log).whenComplete(handleEnforcementCompletion(signal, sender)));
+        return Consume.of((signal, sender) -> {
+            final long startNanos = System.nanoTime();
+            enforce(signal, sender, context.log)
+                    .whenComplete(handleEnforcementCompletion(signal, sender))
+                    .whenComplete((_void, throwable) -> recordEnforcementLatency(startNanos));
+        });
+    }
+
+    private void recordEnforcementLatency(final long startNanos) {
+        if (context.entityId != null) {
+            final long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            HotEntities.record(HotEntities.ENFORCEMENT_LATENCY_MS, context.entityId.toString(), latencyMillis);
+        }
     }
 
     private BiConsumer<Void, Throwable> handleEnforcementCompletion(final T signal, final ActorRef sender) {
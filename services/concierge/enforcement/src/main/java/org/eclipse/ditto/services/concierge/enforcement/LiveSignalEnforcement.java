@@ -19,6 +19,8 @@ import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.enforcers.AclEnforcer;
 import org.eclipse.ditto.model.enforcers.Enforcer;
@@ -58,17 +60,20 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
     private static final int CACHE_TIMEOUT_SECONDS = 2 * 60;
 
     private final EnforcerRetriever enforcerRetriever;
+    @Nullable private final ActorRef liveSignalPublisher;
 
     private final Cache<String, ActorRef> responseReceivers;
 
     private LiveSignalEnforcement(final Context context, final Cache<EntityId, Entry<EntityId>> thingIdCache,
             final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache,
-            final Cache<EntityId, Entry<Enforcer>> aclEnforcerCache) {
+            final Cache<EntityId, Entry<Enforcer>> aclEnforcerCache,
+            @Nullable final ActorRef liveSignalPublisher) {
 
         super(context);
         requireNonNull(thingIdCache);
         requireNonNull(policyEnforcerCache);
         requireNonNull(aclEnforcerCache);
+        this.liveSignalPublisher = liveSignalPublisher;
         enforcerRetriever =
                 PolicyOrAclEnforcerRetrieverFactory.create(thingIdCache, policyEnforcerCache, aclEnforcerCache);
         final Caffeine caffeine = Caffeine.newBuilder()
@@ -84,6 +89,7 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
         private final Cache<EntityId, Entry<EntityId>> thingIdCache;
         private final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache;
         private final Cache<EntityId, Entry<Enforcer>> aclEnforcerCache;
+        @Nullable private final ActorRef liveSignalPublisher;
 
         /**
          * Constructor.
@@ -96,9 +102,28 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
                 final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache,
                 final Cache<EntityId, Entry<Enforcer>> aclEnforcerCache) {
 
+            this(thingIdCache, policyEnforcerCache, aclEnforcerCache, null);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param thingIdCache the thing-id-cache.
+         * @param policyEnforcerCache the policy-enforcer cache.
+         * @param aclEnforcerCache the acl-enforcer cache.
+         * @param liveSignalPublisher the actor to publish live signals with instead of the pub/sub mediator, e.g. an
+         * event publisher sending them only to the nodes with interested subscribers, or {@code null} to publish them
+         * via the pub/sub mediator.
+         */
+        public Provider(final Cache<EntityId, Entry<EntityId>> thingIdCache,
+                final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityId, Entry<Enforcer>> aclEnforcerCache,
+                @Nullable final ActorRef liveSignalPublisher) {
+
             this.thingIdCache = requireNonNull(thingIdCache);
             this.policyEnforcerCache = requireNonNull(policyEnforcerCache);
             this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
+            this.liveSignalPublisher = liveSignalPublisher;
         }
 
         @Override
@@ -113,7 +138,8 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
 
         @Override
         public AbstractEnforcement<Signal> createEnforcement(final Context context) {
-            return new LiveSignalEnforcement(context, thingIdCache, policyEnforcerCache, aclEnforcerCache);
+            return new LiveSignalEnforcement(context, thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                    liveSignalPublisher);
         }
     }
 
@@ -128,9 +154,6 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
                 if (signal instanceof SendClaimMessage) {
                     // claim messages require no enforcement, publish them right away:
                     publishMessageCommand((SendClaimMessage) signal, enforcer, sender);
-                    if (signal.getDittoHeaders().isResponseRequired()) {
-                        responseReceivers.put(correlationId, sender);
-                    }
                 } else if (signal instanceof CommandResponse) {
                     // no enforcement for responses required - the original sender will get the answer:
                     final Optional<ActorRef> responseReceiver = responseReceivers.getBlocking(correlationId);
@@ -144,11 +167,7 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
                 } else if (signal instanceof Command) {
                     // enforce both Live Commands and MessageCommands
                     if (signal instanceof MessageCommand) {
-
-                        final boolean wasPublished = enforceMessageCommand((MessageCommand) signal, enforcer, sender);
-                        if (wasPublished && signal.getDittoHeaders().isResponseRequired()) {
-                            responseReceivers.put(correlationId, sender);
-                        }
+                        enforceMessageCommand((MessageCommand) signal, enforcer, sender);
                     } else if (signal instanceof ThingCommand) {
                         // enforce Live Thing Commands
                         final boolean authorized;
@@ -166,9 +185,6 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
                             log(withReadSubjects).info("Live Command was authorized: <{}>", withReadSubjects);
                             publishToMediator(withReadSubjects, StreamingType.LIVE_COMMANDS.getDistributedPubSubTopic(),
                                     sender);
-                            if (signal.getDittoHeaders().isResponseRequired()) {
-                                responseReceivers.put(correlationId, sender);
-                            }
                         } else {
                             log(signal).info("Live Command was NOT authorized: <{}>", signal);
                             ThingCommandEnforcement.respondWithError((ThingCommand) signal, sender, self());
@@ -221,14 +237,12 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
         return signal.getDittoHeaders().getChannel().filter(TopicPath.Channel.LIVE.getName()::equals).isPresent();
     }
 
-    private boolean enforceMessageCommand(final MessageCommand command, final Enforcer enforcer,
+    private void enforceMessageCommand(final MessageCommand command, final Enforcer enforcer,
             final ActorRef sender) {
         if (isAuthorized(command, enforcer)) {
             publishMessageCommand(command, enforcer, sender);
-            return true;
         } else {
             rejectMessageCommand(command, sender);
-            return false;
         }
     }
 
@@ -272,7 +286,16 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
 
         final DistributedPubSubMediator.Publish publishMessage =
                 new DistributedPubSubMediator.Publish(pubSubTopic, command, true);
-        pubSubMediator().tell(publishMessage, sender);
+        final ActorRef publisher = null != liveSignalPublisher ? liveSignalPublisher : pubSubMediator();
+        final Optional<String> correlationId = command.getDittoHeaders().getCorrelationId();
+        if (command instanceof Command && command.getDittoHeaders().isResponseRequired() && correlationId.isPresent()) {
+            // this actor is the sender, so that subscribers may send the response directly to it instead of via the
+            // shard region; the response is then routed to the requester and its receiver entry removed
+            responseReceivers.put(correlationId.get(), sender);
+            publisher.tell(publishMessage, self());
+        } else {
+            publisher.tell(publishMessage, sender);
+        }
     }
 
     private static boolean isAuthorized(final MessageCommand command, final Enforcer enforcer) {
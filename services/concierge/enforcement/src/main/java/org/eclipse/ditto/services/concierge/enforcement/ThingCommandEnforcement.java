@@ -20,8 +20,11 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonFieldSelectorBuilder;
@@ -35,6 +38,9 @@ import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTagMatcher;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTagMatchers;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.enforcers.AclEnforcer;
@@ -55,6 +61,7 @@ import org.eclipse.ditto.model.things.AclNotAllowedException;
 import org.eclipse.ditto.model.things.AclValidator;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.concierge.cache.IdentityCache;
+import org.eclipse.ditto.services.concierge.cache.ThingRevisionEntityTags;
 import org.eclipse.ditto.services.models.concierge.EntityId;
 import org.eclipse.ditto.services.models.concierge.cache.Entry;
 import org.eclipse.ditto.services.models.policies.Permission;
@@ -80,10 +87,12 @@ import org.eclipse.ditto.signals.commands.things.exceptions.ThingCommandToModify
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotCreatableException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotModifiableException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingPreconditionNotModifiedException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
 import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommand;
+import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommandResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
 import org.eclipse.ditto.signals.commands.things.query.ThingQueryCommand;
@@ -118,12 +127,17 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
     private final Cache<EntityId, Entry<EntityId>> thingIdCache;
     private final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache;
     private final Cache<EntityId, Entry<Enforcer>> aclEnforcerCache;
+    @Nullable private final Cache<EntityId, Long> thingRevisionCache;
+    @Nullable private final Cache<EntityId, RetrieveThingResponse> thingResponseCache;
+    private final AtomicLong modificationCounter;
 
     private ThingCommandEnforcement(final Context data, final ActorRef thingsShardRegion,
             final ActorRef policiesShardRegion, final Cache<EntityId, Entry<EntityId>> thingIdCache,
             final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache,
             final Cache<EntityId, Entry<Enforcer>> aclEnforcerCache,
-            final List<SubjectIssuer> subjectIssuersForPolicyMigration) {
+            final List<SubjectIssuer> subjectIssuersForPolicyMigration,
+            @Nullable final Cache<EntityId, Long> thingRevisionCache,
+            @Nullable final Cache<EntityId, RetrieveThingResponse> thingResponseCache) {
 
         super(data);
         this.thingsShardRegion = requireNonNull(thingsShardRegion);
@@ -133,6 +147,9 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         this.thingIdCache = requireNonNull(thingIdCache);
         this.policyEnforcerCache = requireNonNull(policyEnforcerCache);
         this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
+        this.thingRevisionCache = thingRevisionCache;
+        this.thingResponseCache = thingResponseCache;
+        modificationCounter = new AtomicLong();
         thingEnforcerRetriever =
                 PolicyOrAclEnforcerRetrieverFactory.create(thingIdCache, policyEnforcerCache, aclEnforcerCache);
         policyEnforcerRetriever = new EnforcerRetriever(IdentityCache.INSTANCE, policyEnforcerCache);
@@ -166,6 +183,8 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         private final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache;
         private final Cache<EntityId, Entry<Enforcer>> aclEnforcerCache;
         private final List<SubjectIssuer> subjectIssuersForPolicyMigration;
+        @Nullable private final Cache<EntityId, Long> thingRevisionCache;
+        @Nullable private final Cache<EntityId, RetrieveThingResponse> thingResponseCache;
 
         /**
          * Constructor.
@@ -201,12 +220,49 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
                 final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache,
                 final Cache<EntityId, Entry<Enforcer>> aclEnforcerCache,
                 final List<SubjectIssuer> subjectIssuersForPolicyMigration) {
+            this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                    subjectIssuersForPolicyMigration, null, null);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param thingsShardRegion the ActorRef to the Things shard region.
+         * @param policiesShardRegion the ActorRef to the Policies shard region.
+         * @param thingIdCache the thing-id-cache.
+         * @param policyEnforcerCache the policy-enforcer cache.
+         * @param aclEnforcerCache the acl-enforcer cache.
+         * @param thingRevisionCache the cache of the current revisions of Things to answer conditional
+         * {@link RetrieveThing} commands with, or {@code null} to always forward them to the Things shard region.
+         * @param thingResponseCache the cache of retrieved Things to answer {@link RetrieveThing} commands with, or
+         * {@code null} to always forward them to the Things shard region. Only used together with
+         * {@code thingRevisionCache}.
+         */
+        public Provider(final ActorRef thingsShardRegion,
+                final ActorRef policiesShardRegion, final Cache<EntityId, Entry<EntityId>> thingIdCache,
+                final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityId, Entry<Enforcer>> aclEnforcerCache,
+                @Nullable final Cache<EntityId, Long> thingRevisionCache,
+                @Nullable final Cache<EntityId, RetrieveThingResponse> thingResponseCache) {
+            this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                    DEFAULT_SUBJECT_ISSUERS_FOR_POLICY_MIGRATION, thingRevisionCache, thingResponseCache);
+        }
+
+        private Provider(final ActorRef thingsShardRegion,
+                final ActorRef policiesShardRegion, final Cache<EntityId, Entry<EntityId>> thingIdCache,
+                final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityId, Entry<Enforcer>> aclEnforcerCache,
+                final List<SubjectIssuer> subjectIssuersForPolicyMigration,
+                @Nullable final Cache<EntityId, Long> thingRevisionCache,
+                @Nullable final Cache<EntityId, RetrieveThingResponse> thingResponseCache) {
             this.thingsShardRegion = requireNonNull(thingsShardRegion);
             this.policiesShardRegion = requireNonNull(policiesShardRegion);
             this.thingIdCache = requireNonNull(thingIdCache);
             this.policyEnforcerCache = requireNonNull(policyEnforcerCache);
             this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
             this.subjectIssuersForPolicyMigration = requireNonNull(subjectIssuersForPolicyMigration);
+            this.thingRevisionCache = thingRevisionCache;
+            this.thingResponseCache = thingResponseCache;
         }
 
         @Override
@@ -224,8 +280,8 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         @Override
         public AbstractEnforcement<ThingCommand> createEnforcement(final AbstractEnforcement.Context context) {
             return new ThingCommandEnforcement(context, thingsShardRegion, policiesShardRegion, thingIdCache,
-                    policyEnforcerCache, aclEnforcerCache, subjectIssuersForPolicyMigration
-            );
+                    policyEnforcerCache, aclEnforcerCache, subjectIssuersForPolicyMigration, thingRevisionCache,
+                    thingResponseCache);
         }
     }
 
@@ -266,6 +322,9 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
 
         if (authorizedCommand.isPresent()) {
             final ThingCommand commandWithReadSubjects = authorizedCommand.get();
+            if (answerNotModifiedFromRevisionCache(commandWithReadSubjects, sender)) {
+                return;
+            }
             if (commandWithReadSubjects instanceof RetrieveThing &&
                     shouldRetrievePolicyWithThing(commandWithReadSubjects)) {
                 final RetrieveThing retrieveThing = (RetrieveThing) commandWithReadSubjects;
@@ -336,7 +395,9 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
             final ActorRef sender) {
         final boolean authorized = authorizeByPolicy(enforcer, thingCommand)
                 .map(commandWithReadSubjects -> {
-                    if (commandWithReadSubjects instanceof ThingQueryCommand) {
+                    if (answerNotModifiedFromRevisionCache(commandWithReadSubjects, sender)) {
+                        return true;
+                    } else if (commandWithReadSubjects instanceof ThingQueryCommand) {
                         final ThingQueryCommand thingQueryCommand = (ThingQueryCommand) commandWithReadSubjects;
                         if (thingQueryCommand instanceof RetrieveThing &&
                                 shouldRetrievePolicyWithThing(thingQueryCommand)) {
@@ -357,6 +418,135 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         }
     }
 
+    /**
+     * Answer a conditional {@code RetrieveThing} command without asking the Things shard region if the cached revision
+     * of the Thing matches its If-None-Match header. Commands with other preconditions or retrieving a snapshot
+     * revision are always forwarded.
+     *
+     * @param commandWithReadSubjects the authorized command.
+     * @param sender sender of the command.
+     * @return whether the command was answered.
+     */
+    private boolean answerNotModifiedFromRevisionCache(final ThingCommand<?> commandWithReadSubjects,
+            final ActorRef sender) {
+
+        if (thingRevisionCache == null || !(commandWithReadSubjects instanceof RetrieveThing)) {
+            return false;
+        }
+        final RetrieveThing retrieveThing = (RetrieveThing) commandWithReadSubjects;
+        final DittoHeaders dittoHeaders = retrieveThing.getDittoHeaders();
+        final Optional<EntityTagMatchers> ifNoneMatch = dittoHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isPresent() || dittoHeaders.getIfMatch().isPresent() ||
+                retrieveThing.getSnapshotRevision().isPresent()) {
+            return false;
+        }
+        final Long revision = thingRevisionCache.asMap().get(entityId());
+        if (revision == null) {
+            return false;
+        }
+        final EntityTag entityTag = ThingRevisionEntityTags.toEntityTag(revision);
+        for (final EntityTagMatcher entityTagMatcher : ifNoneMatch.get()) {
+            if (entityTagMatcher.weakMatch(entityTag)) {
+                final DittoRuntimeException notModified = ThingPreconditionNotModifiedException
+                        .newBuilder(ifNoneMatch.get().toString(), entityTag.toString())
+                        .dittoHeaders(dittoHeaders.toBuilder().eTag(entityTag).build())
+                        .build();
+                log(retrieveThing).debug("Answering RetrieveThing from cached revision <{}>.", revision);
+                replyToSender(notModified, sender);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Answer a {@code RetrieveThing} command from the cache of retrieved Things if the cached Thing has the current
+     * revision. The JSON view of the requester is built from the cached Thing. Commands with If-Match header,
+     * retrieving a snapshot revision or selecting special fields such as {@code _revision} are always forwarded.
+     *
+     * @param commandWithReadSubjects the authorized command.
+     * @param enforcer enforcer to build JsonView with.
+     * @param sender sender of the command.
+     * @return whether the command was answered.
+     */
+    private boolean answerFromThingResponseCache(final ThingQueryCommand<?> commandWithReadSubjects,
+            final Enforcer enforcer, final ActorRef sender) {
+
+        if (thingResponseCache == null || thingRevisionCache == null ||
+                !(commandWithReadSubjects instanceof RetrieveThing)) {
+            return false;
+        }
+        final RetrieveThing retrieveThing = (RetrieveThing) commandWithReadSubjects;
+        if (retrieveThing.getDittoHeaders().getIfMatch().isPresent() ||
+                retrieveThing.getSnapshotRevision().isPresent() || selectsSpecialFields(retrieveThing)) {
+            return false;
+        }
+        final Optional<RetrieveThingResponse> cachedResponse = thingResponseCache.getBlocking(entityId());
+        if (!cachedResponse.isPresent()) {
+            return false;
+        }
+        final Optional<Long> cachedRevision = ThingRevisionEntityTags.getRevision(cachedResponse.get());
+        if (!cachedRevision.equals(Optional.ofNullable(thingRevisionCache.asMap().get(entityId())))) {
+            // the Thing was modified after it was cached
+            thingResponseCache.invalidate(entityId());
+            return false;
+        }
+        if (!cachedResponse.get().getDittoHeaders().getSchemaVersion()
+                .equals(Optional.of(retrieveThing.getImplementedSchemaVersion()))) {
+            return false;
+        }
+
+        final JsonObject cachedThing = cachedResponse.get().getEntity().asObject();
+        final JsonObject thing = retrieveThing.getSelectedFields().map(cachedThing::get).orElse(cachedThing);
+        final DittoHeaders dittoHeaders = retrieveThing.getDittoHeaders()
+                .toBuilder()
+                .eTag(ThingRevisionEntityTags.toEntityTag(cachedRevision.get()))
+                .build();
+        reportJsonViewForThingQuery(sender, RetrieveThingResponse.of(retrieveThing.getThingId(), thing, dittoHeaders),
+                enforcer);
+        return true;
+    }
+
+    private static boolean selectsSpecialFields(final RetrieveThing retrieveThing) {
+        return retrieveThing.getSelectedFields()
+                .map(selectedFields -> selectedFields.getPointers().stream()
+                        .anyMatch(pointer -> pointer.getRoot()
+                                .filter(root -> root.toString().startsWith("_"))
+                                .isPresent()))
+                .orElse(false);
+    }
+
+    /**
+     * Update the cached revision of the Thing from the entity tag of a response to a {@code RetrieveThing} command
+     * and cache the retrieved Thing if it has the current revision. Responses to commands which were sent before a
+     * modification of the Thing was sent or answered are not cached, as they may predate the modification.
+     *
+     * @param retrieveThing the command.
+     * @param response the response of the Things shard region.
+     * @param modificationsBeforeRetrieval the value of the modification counter when the command was sent.
+     */
+    private void updateCaches(final RetrieveThing retrieveThing, final WithDittoHeaders response,
+            final long modificationsBeforeRetrieval) {
+
+        final Optional<Long> revision = ThingRevisionEntityTags.getRevision(response);
+        if (thingRevisionCache == null || !revision.isPresent() ||
+                modificationCounter.get() != modificationsBeforeRetrieval) {
+            return;
+        }
+        final long currentRevision = thingRevisionCache.asMap().merge(entityId(), revision.get(), Math::max);
+
+        // only complete Things without newer events can be cached
+        if (thingResponseCache != null && response instanceof RetrieveThingResponse && currentRevision ==
+                revision.get() && !retrieveThing.getSelectedFields().isPresent() &&
+                !retrieveThing.getSnapshotRevision().isPresent()) {
+            final DittoHeaders cachedHeaders = DittoHeaders.newBuilder()
+                    .schemaVersion(retrieveThing.getImplementedSchemaVersion())
+                    .eTag(ThingRevisionEntityTags.toEntityTag(currentRevision))
+                    .build();
+            thingResponseCache.put(entityId(), ((RetrieveThingResponse) response).setDittoHeaders(cachedHeaders));
+        }
+    }
+
     /**
      * Responds to the passed {@code sender} with an error based on the type of the passed in {@code thingCommand}.
      *
@@ -383,8 +573,16 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
             final Enforcer enforcer,
             final ActorRef sender) {
 
+        if (answerFromThingResponseCache(commandWithReadSubjects, enforcer, sender)) {
+            return true;
+        }
+        final long modificationsBeforeRetrieval = modificationCounter.get();
         PatternsCS.ask(thingsShardRegion, commandWithReadSubjects, getAskTimeout().toMillis())
                 .handleAsync((response, error) -> {
+                    if (commandWithReadSubjects instanceof RetrieveThing && response instanceof WithDittoHeaders) {
+                        updateCaches((RetrieveThing) commandWithReadSubjects, (WithDittoHeaders) response,
+                                modificationsBeforeRetrieval);
+                    }
                     if (response instanceof ThingQueryCommandResponse) {
                         reportJsonViewForThingQuery(sender, (ThingQueryCommandResponse) response, enforcer);
                     } else if (response instanceof DittoRuntimeException) {
@@ -393,7 +591,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
                         final AskTimeoutException askTimeoutException = error instanceof AskTimeoutException
                                 ? (AskTimeoutException) error
                                 : (AskTimeoutException) response;
-                        reportTimeoutForThingQuery(commandWithReadSubjects, sender, askTimeoutException);
+                        reportTimeoutForThingCommand(commandWithReadSubjects, sender, askTimeoutException);
                     } else if (error != null) {
                         reportUnexpectedError("before building JsonView", sender, error,
                                 commandWithReadSubjects.getDittoHeaders());
@@ -552,17 +750,17 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
     }
 
     /**
-     * Report timeout of {@code ThingQueryCommand}.
+     * Report timeout of a {@code ThingCommand} asked at the Things shard region.
      *
      * @param command the original command.
      * @param sender sender of the command.
      * @param askTimeoutException the timeout exception.
      */
-    private void reportTimeoutForThingQuery(
-            final ThingQueryCommand command,
+    private void reportTimeoutForThingCommand(
+            final ThingCommand<?> command,
             final ActorRef sender,
             final AskTimeoutException askTimeoutException) {
-        log(command).error(askTimeoutException, "Timeout before building JsonView");
+        log(command).error(askTimeoutException, "Timeout waiting for the response of the Things shard region");
         replyToSender(ThingUnavailableException.newBuilder(command.getThingId())
                 .dittoHeaders(command.getDittoHeaders())
                 .build(), sender);
@@ -640,13 +838,75 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
      * @return true.
      */
     private boolean forwardToThingsShardRegion(final ThingCommand command, final ActorRef sender) {
-        thingsShardRegion.tell(command, sender);
+        if (command instanceof ThingModifyCommand && thingResponseCache != null) {
+            askThingsShardRegionAndUpdateCaches((ThingModifyCommand<?>) command, sender);
+        } else {
+            thingsShardRegion.tell(command, sender);
+        }
         if (command instanceof ThingModifyCommand && ((ThingModifyCommand) command).changesAuthorization()) {
             invalidateThingCaches(command.getThingId());
         }
         return true;
     }
 
+    /**
+     * Forward a modify command to the Things shard region and update the cache of retrieved Things from its response
+     * before replying to the sender, so that the sender cannot read the Thing of before its modification from the
+     * cache even if the event of the modification did not arrive yet.
+     *
+     * @param command the modify command.
+     * @param sender sender of the command.
+     */
+    private void askThingsShardRegionAndUpdateCaches(final ThingModifyCommand<?> command, final ActorRef sender) {
+        modificationCounter.incrementAndGet();
+        final Long revisionBeforeModification =
+                thingRevisionCache != null ? thingRevisionCache.asMap().get(entityId()) : null;
+        PatternsCS.ask(thingsShardRegion, command, getAskTimeout().toMillis())
+                .handleAsync((response, error) -> {
+                    modificationCounter.incrementAndGet();
+                    if (response instanceof ThingModifyCommandResponse) {
+                        updateCachesAfterModification((ThingModifyCommandResponse<?>) response,
+                                revisionBeforeModification);
+                        replyToSender(response, sender);
+                    } else if (response instanceof DittoRuntimeException) {
+                        replyToSender(response, sender);
+                    } else if (isAskTimeoutException(response, error)) {
+                        final AskTimeoutException askTimeoutException = error instanceof AskTimeoutException
+                                ? (AskTimeoutException) error
+                                : (AskTimeoutException) response;
+                        reportTimeoutForThingCommand(command, sender, askTimeoutException);
+                    } else {
+                        reportUnexpectedErrorOrResponse("modifying the Thing", sender, response, error,
+                                command.getDittoHeaders());
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Invalidate the cached Thing after a modification. If the response carries the revision of the modification,
+     * the cached revision is raised to it. Responses to modifications of parts of a Thing carry no revision; the
+     * cached revision is then only removed if it is still the revision from before the modification, since the event
+     * of the modification may already have updated it.
+     *
+     * @param response the response of the Things shard region to a modify command.
+     * @param revisionBeforeModification the cached revision when the modify command was sent, or {@code null}.
+     */
+    private void updateCachesAfterModification(final ThingModifyCommandResponse<?> response,
+            @Nullable final Long revisionBeforeModification) {
+
+        if (thingResponseCache == null || thingRevisionCache == null) {
+            return;
+        }
+        final Optional<Long> revision = ThingRevisionEntityTags.getRevision(response);
+        if (revision.isPresent()) {
+            thingRevisionCache.asMap().merge(entityId(), revision.get(), Math::max);
+        } else if (revisionBeforeModification != null) {
+            thingRevisionCache.asMap().remove(entityId(), revisionBeforeModification);
+        }
+        thingResponseCache.invalidate(entityId());
+    }
+
     /**
      * Whenever a Command changed the authorization, the caches must be invalidated - otherwise a directly following
      * Command targeted for the same entity will probably fail as the enforcer was not yet updated.
@@ -891,6 +1151,47 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         }
     }
 
+    /**
+     * Answer a {@code RetrieveThing} command for a Thing which was already retrieved from the things service, e.g. in
+     * bulk together with other Things, by enforcing the policy of the Thing without asking the Things shard region.
+     *
+     * @param retrieveThing the command to answer.
+     * @param thing the retrieved Thing containing its policy ID.
+     * @param policyEnforcerCache the policy enforcer cache.
+     * @return future response: the view on the Thing restricted by its policy, or the error if the command is not
+     * authorized or the policy of the Thing does not exist.
+     * @throws IllegalArgumentException if the Thing has no policy ID.
+     */
+    public static CompletionStage<WithDittoHeaders> enforceRetrievedThing(final RetrieveThing retrieveThing,
+            final Thing thing,
+            final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache) {
+
+        final String policyId = thing.getPolicyId()
+                .orElseThrow(() -> new IllegalArgumentException("The Thing has no policy ID!"));
+        return policyEnforcerCache.get(EntityId.of(PolicyCommand.RESOURCE_TYPE, policyId))
+                .thenApply(enforcerEntry -> enforcerEntry.filter(Entry::exists)
+                        .map(entry -> answerRetrieveThingByPolicyEnforcer(retrieveThing, thing, entry.getValue()))
+                        .orElseGet(() -> errorForExistingThingWithDeletedPolicy(retrieveThing,
+                                retrieveThing.getThingId(), policyId)));
+    }
+
+    private static WithDittoHeaders answerRetrieveThingByPolicyEnforcer(final RetrieveThing retrieveThing,
+            final Thing thing,
+            final Enforcer policyEnforcer) {
+
+        return authorizeByPolicy(policyEnforcer, retrieveThing)
+                .<WithDittoHeaders>map(authorized -> {
+                    final JsonSchemaVersion schemaVersion = retrieveThing.getImplementedSchemaVersion();
+                    final JsonObject thingJson = retrieveThing.getSelectedFields()
+                            .map(selectedFields -> thing.toJson(schemaVersion, selectedFields))
+                            .orElseGet(() -> thing.toJson(schemaVersion));
+                    final RetrieveThingResponse response = RetrieveThingResponse.of(retrieveThing.getThingId(),
+                            thingJson, retrieveThing.getDittoHeaders());
+                    return buildJsonViewForThingQueryCommandResponse(response, policyEnforcer);
+                })
+                .orElseGet(() -> errorForThingCommand(retrieveThing));
+    }
+
     /**
      * Authorize a thing-command by a policy enforcer.
      *
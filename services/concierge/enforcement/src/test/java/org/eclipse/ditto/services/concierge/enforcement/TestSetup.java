@@ -41,6 +41,7 @@ import org.eclipse.ditto.services.utils.config.ConfigUtil;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeature;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 
@@ -78,6 +79,16 @@ public class TestSetup {
             final ActorRef thingsShardRegion, final ActorRef policiesShardRegion,
             @Nullable final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> preEnforcer) {
 
+        return newEnforcerActor(system, testActorRef, thingsShardRegion, policiesShardRegion, preEnforcer, null,
+                null);
+    }
+
+    public static ActorRef newEnforcerActor(final ActorSystem system, final ActorRef testActorRef,
+            final ActorRef thingsShardRegion, final ActorRef policiesShardRegion,
+            @Nullable final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> preEnforcer,
+            @Nullable final Cache<EntityId, Long> thingRevisionCache,
+            @Nullable final Cache<EntityId, RetrieveThingResponse> thingResponseCache) {
+
         final Duration askTimeout = CONFIG.caches().askTimeout();
 
         final PolicyEnforcerCacheLoader policyEnforcerCacheLoader =
@@ -95,7 +106,8 @@ public class TestSetup {
 
         final Set<EnforcementProvider<?>> enforcementProviders = new HashSet<>();
         enforcementProviders.add(new ThingCommandEnforcement.Provider(thingsShardRegion,
-                policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache));
+                policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache, thingRevisionCache,
+                thingResponseCache));
         enforcementProviders.add(new PolicyCommandEnforcement.Provider(policiesShardRegion, policyEnforcerCache));
         enforcementProviders.add(
                 new LiveSignalEnforcement.Provider(thingIdCache, policyEnforcerCache, aclEnforcerCache));
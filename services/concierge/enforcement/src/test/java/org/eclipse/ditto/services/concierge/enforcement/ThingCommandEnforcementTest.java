@@ -32,8 +32,13 @@ import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTagMatchers;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
 import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.PoliciesResourceType;
 import org.eclipse.ditto.model.policies.Policy;
@@ -44,8 +49,13 @@ import org.eclipse.ditto.model.things.Feature;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingBuilder;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.concierge.EntityId;
+import org.eclipse.ditto.services.models.concierge.cache.Entry;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyNotAccessibleException;
 import org.eclipse.ditto.signals.commands.policies.modify.CreatePolicyResponse;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
@@ -53,15 +63,20 @@ import org.eclipse.ditto.signals.commands.things.exceptions.FeatureNotModifiable
 import org.eclipse.ditto.signals.commands.things.exceptions.PolicyInvalidException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotModifiableException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingPreconditionFailedException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingPreconditionNotModifiedException;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeature;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.testkit.TestActorRef;
@@ -70,6 +85,9 @@ import akka.testkit.javadsl.TestKit;
 @SuppressWarnings({"squid:S3599", "squid:S1171"})
 public final class ThingCommandEnforcementTest {
 
+    private static final String CACHED_POLICY_ID = "policy:id";
+    private static final EntityId THING_ENTITY_ID = EntityId.of(ThingCommand.RESOURCE_TYPE, THING_ID);
+
     private ActorSystem system;
     private MockEntitiesActor mockEntitiesActorInstance;
     private ActorRef mockEntitiesActor;
@@ -309,6 +327,297 @@ public final class ThingCommandEnforcementTest {
         }};
     }
 
+    @Test
+    public void enforceRetrievedThingByPolicy() {
+        final String policyId = "policy:id";
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(policyId)
+                .setRevision(1L)
+                .forLabel("authorize-self")
+                .setSubject(GOOGLE, SUBJECT.getId())
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.of("/attributes/location")),
+                        READ.name())
+                .build();
+        final Thing thing = newThing()
+                .setPolicyId(policyId)
+                .setAttributes(JsonFactory.newObject("{\"location\":\"kitchen\",\"secret\":42}"))
+                .build();
+        final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache = CaffeineCache.of(Caffeine.newBuilder());
+        final EntityId policyEntityId = EntityId.of(PolicyCommand.RESOURCE_TYPE, policyId);
+
+        policyEnforcerCache.put(policyEntityId, Entry.of(1L, PolicyEnforcers.defaultEvaluator(policy)));
+        final WithDittoHeaders response = ThingCommandEnforcement.enforceRetrievedThing(
+                RetrieveThing.of(THING_ID, headers(V_2)), thing, policyEnforcerCache)
+                .toCompletableFuture()
+                .join();
+        assertThat(response).isInstanceOf(RetrieveThingResponse.class);
+        final JsonObject thingJson = ((RetrieveThingResponse) response).getEntity().asObject();
+        assertThat(thingJson.getValue("attributes/location")).contains(JsonFactory.newValue("kitchen"));
+        assertThat(thingJson.contains("attributes/secret")).isFalse();
+
+        final DittoHeaders otherSubject = DittoHeaders.newBuilder()
+                .authorizationSubjects("other:subject")
+                .schemaVersion(V_2)
+                .build();
+        assertThat(ThingCommandEnforcement.enforceRetrievedThing(RetrieveThing.of(THING_ID, otherSubject), thing,
+                policyEnforcerCache).toCompletableFuture().join())
+                .isInstanceOf(ThingNotAccessibleException.class);
+
+        policyEnforcerCache.put(policyEntityId, Entry.nonexistent());
+        assertThat(ThingCommandEnforcement.enforceRetrievedThing(RetrieveThing.of(THING_ID, headers(V_2)), thing,
+                policyEnforcerCache).toCompletableFuture().join())
+                .isInstanceOf(ThingNotAccessibleException.class);
+    }
+
+    @Test
+    public void answerRetrieveThingFromCaches() {
+        final String policyId = "policy:id";
+        final JsonObject thingWithPolicy = newThingWithPolicyId(policyId);
+        final JsonObject policy = PoliciesModelFactory.newPolicyBuilder(policyId)
+                .setRevision(1L)
+                .forLabel("authorize-self")
+                .setSubject(GOOGLE, SUBJECT.getId())
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()), READ.name())
+                .build()
+                .toJson(FieldType.all());
+        final Cache<EntityId, Long> thingRevisionCache = CaffeineCache.of(Caffeine.newBuilder());
+        final Cache<EntityId, RetrieveThingResponse> thingResponseCache = CaffeineCache.of(Caffeine.newBuilder());
+        final JsonObject thing = JsonFactory.newObjectBuilder()
+                .set(Thing.JsonFields.ID, THING_ID)
+                .set(Thing.JsonFields.POLICY_ID, policyId)
+                .set(Thing.JsonFields.ATTRIBUTES, JsonFactory.newObject("{\"location\":\"kitchen\"}"))
+                .build();
+        final DittoHeaders headersWithETag = headers(V_2).toBuilder()
+                .eTag(EntityTag.fromString("\"rev:5\""))
+                .build();
+
+        new TestKit(system) {{
+            mockEntitiesActorInstance.setReply(THING_SUDO,
+                    SudoRetrieveThingResponse.of(thingWithPolicy, DittoHeaders.empty()));
+            mockEntitiesActorInstance.setReply(POLICY_SUDO,
+                    SudoRetrievePolicyResponse.of(policyId, policy, DittoHeaders.empty()));
+
+            final ActorRef underTest = TestSetup.newEnforcerActor(system, getRef(), mockEntitiesActor,
+                    mockEntitiesActor, null, thingRevisionCache, thingResponseCache);
+
+            mockEntitiesActorInstance.setReply(RetrieveThingResponse.of(THING_ID, thing, headersWithETag));
+            underTest.tell(readCommand(), getRef());
+            assertThat(expectMsgClass(RetrieveThingResponse.class).getEntity().toString())
+                    .isEqualTo(thing.toString());
+
+            // the Things service is not asked again
+            mockEntitiesActorInstance.setReply(
+                    RetrieveThingResponse.of(THING_ID, JsonFactory.newObject(), headersWithETag));
+            underTest.tell(readCommand(), getRef());
+            final RetrieveThingResponse cachedResponse = expectMsgClass(RetrieveThingResponse.class);
+            assertThat(cachedResponse.getEntity().toString()).isEqualTo(thing.toString());
+            assertThat(cachedResponse.getDittoHeaders().getETag()).contains(EntityTag.fromString("\"rev:5\""));
+        }};
+    }
+
+    @Test
+    public void answerNotModifiedFromRevisionCacheByPolicy() {
+        final Cache<EntityId, Long> thingRevisionCache = CaffeineCache.of(Caffeine.newBuilder());
+        thingRevisionCache.put(THING_ENTITY_ID, 5L);
+
+        new TestKit(system) {{
+            mockThingWithReadablePolicy();
+            final ActorRef underTest = TestSetup.newEnforcerActor(system, getRef(), mockEntitiesActor,
+                    mockEntitiesActor, null, thingRevisionCache, null);
+
+            expectNotModifiedOrForwarded(underTest, this);
+        }};
+    }
+
+    @Test
+    public void answerNotModifiedFromRevisionCacheByAcl() {
+        final JsonObject thingWithAcl = newThing()
+                .setPermissions(AclEntry.newInstance(SUBJECT, READ, WRITE, ADMINISTRATE))
+                .build()
+                .toJson(V_1, FieldType.all());
+        final Cache<EntityId, Long> thingRevisionCache = CaffeineCache.of(Caffeine.newBuilder());
+        thingRevisionCache.put(THING_ENTITY_ID, 5L);
+
+        new TestKit(system) {{
+            mockEntitiesActorInstance.setReply(THING_SUDO,
+                    SudoRetrieveThingResponse.of(thingWithAcl, DittoHeaders.empty()));
+            final ActorRef underTest = TestSetup.newEnforcerActor(system, getRef(), mockEntitiesActor,
+                    mockEntitiesActor, null, thingRevisionCache, null);
+
+            expectNotModifiedOrForwarded(underTest, this);
+        }};
+    }
+
+    @Test
+    public void invalidateCachedThingOnRevisionMismatch() {
+        final Cache<EntityId, Long> thingRevisionCache = CaffeineCache.of(Caffeine.newBuilder());
+        final Cache<EntityId, RetrieveThingResponse> thingResponseCache = CaffeineCache.of(Caffeine.newBuilder());
+        cacheThing(thingRevisionCache, thingResponseCache, V_2);
+        // an event of a modification arrived after the Thing was cached
+        thingRevisionCache.put(THING_ENTITY_ID, 6L);
+        final JsonObject modifiedThing = cachedThing().toBuilder()
+                .set(Thing.JsonFields.ATTRIBUTES, JsonFactory.newObject("{\"location\":\"garden\"}"))
+                .build();
+
+        new TestKit(system) {{
+            mockThingWithReadablePolicy();
+            final ActorRef underTest = TestSetup.newEnforcerActor(system, getRef(), mockEntitiesActor,
+                    mockEntitiesActor, null, thingRevisionCache, thingResponseCache);
+
+            mockEntitiesActorInstance.setReply(RetrieveThingResponse.of(THING_ID, modifiedThing,
+                    headers(V_2).toBuilder().eTag(EntityTag.fromString("\"rev:6\"")).build()));
+            underTest.tell(readCommand(), getRef());
+            assertThat(expectMsgClass(RetrieveThingResponse.class).getEntity().toString())
+                    .isEqualTo(modifiedThing.toString());
+            assertThat(thingResponseCache.getBlocking(THING_ENTITY_ID))
+                    .hasValueSatisfying(response ->
+                            assertThat(response.getEntity().toString()).isEqualTo(modifiedThing.toString()));
+        }};
+    }
+
+    @Test
+    public void applyFieldSelectorToCachedThing() {
+        final Cache<EntityId, Long> thingRevisionCache = CaffeineCache.of(Caffeine.newBuilder());
+        final Cache<EntityId, RetrieveThingResponse> thingResponseCache = CaffeineCache.of(Caffeine.newBuilder());
+        cacheThing(thingRevisionCache, thingResponseCache, V_2);
+
+        new TestKit(system) {{
+            mockThingWithReadablePolicy();
+            mockEntitiesActorInstance.setReply(
+                    RetrieveThingResponse.of(THING_ID, JsonFactory.newObject(), headers(V_2)));
+            final ActorRef underTest = TestSetup.newEnforcerActor(system, getRef(), mockEntitiesActor,
+                    mockEntitiesActor, null, thingRevisionCache, thingResponseCache);
+
+            underTest.tell(RetrieveThing.getBuilder(THING_ID, headers(V_2))
+                    .withSelectedFields(JsonFactory.newFieldSelector("attributes"))
+                    .build(), getRef());
+            assertThat(expectMsgClass(RetrieveThingResponse.class).getEntity().toString())
+                    .isEqualTo(JsonFactory.newObjectBuilder()
+                            .set(Thing.JsonFields.ATTRIBUTES, JsonFactory.newObject("{\"location\":\"kitchen\"}"))
+                            .build()
+                            .toString());
+            // the cached Thing is not modified by the field selector
+            assertThat(thingResponseCache.getBlocking(THING_ENTITY_ID))
+                    .hasValueSatisfying(response ->
+                            assertThat(response.getEntity().toString()).isEqualTo(cachedThing().toString()));
+        }};
+    }
+
+    @Test
+    public void bypassCacheForSpecialFields() {
+        final Cache<EntityId, Long> thingRevisionCache = CaffeineCache.of(Caffeine.newBuilder());
+        final Cache<EntityId, RetrieveThingResponse> thingResponseCache = CaffeineCache.of(Caffeine.newBuilder());
+        cacheThing(thingRevisionCache, thingResponseCache, V_2);
+        final JsonObject thingWithRevision = JsonFactory.newObject("{\"_revision\":5}");
+
+        new TestKit(system) {{
+            mockThingWithReadablePolicy();
+            mockEntitiesActorInstance.setReply(RetrieveThingResponse.of(THING_ID, thingWithRevision, headers(V_2)));
+            final ActorRef underTest = TestSetup.newEnforcerActor(system, getRef(), mockEntitiesActor,
+                    mockEntitiesActor, null, thingRevisionCache, thingResponseCache);
+
+            underTest.tell(RetrieveThing.getBuilder(THING_ID, headers(V_2))
+                    .withSelectedFields(JsonFactory.newFieldSelector("_revision"))
+                    .build(), getRef());
+            assertThat(expectMsgClass(RetrieveThingResponse.class).getEntity().toString())
+                    .isEqualTo(thingWithRevision.toString());
+        }};
+    }
+
+    @Test
+    public void bypassCacheForIfMatch() {
+        final Cache<EntityId, Long> thingRevisionCache = CaffeineCache.of(Caffeine.newBuilder());
+        final Cache<EntityId, RetrieveThingResponse> thingResponseCache = CaffeineCache.of(Caffeine.newBuilder());
+        cacheThing(thingRevisionCache, thingResponseCache, V_2);
+
+        new TestKit(system) {{
+            mockThingWithReadablePolicy();
+            final ThingPreconditionFailedException preconditionFailed =
+                    ThingPreconditionFailedException.newBuilder("if-match", "\"rev:4\"", "\"rev:5\"")
+                            .dittoHeaders(headers(V_2))
+                            .build();
+            mockEntitiesActorInstance.setReply(RetrieveThing.TYPE, preconditionFailed);
+            final ActorRef underTest = TestSetup.newEnforcerActor(system, getRef(), mockEntitiesActor,
+                    mockEntitiesActor, null, thingRevisionCache, thingResponseCache);
+
+            underTest.tell(RetrieveThing.of(THING_ID, headers(V_2).toBuilder()
+                    .ifMatch(EntityTagMatchers.fromStrings("\"rev:4\""))
+                    .build()), getRef());
+            expectMsgClass(ThingPreconditionFailedException.class);
+        }};
+    }
+
+    @Test
+    public void bypassCacheForOtherSchemaVersion() {
+        final Cache<EntityId, Long> thingRevisionCache = CaffeineCache.of(Caffeine.newBuilder());
+        final Cache<EntityId, RetrieveThingResponse> thingResponseCache = CaffeineCache.of(Caffeine.newBuilder());
+        cacheThing(thingRevisionCache, thingResponseCache, V_1);
+        final JsonObject retrievedThing = cachedThing().toBuilder()
+                .set(Thing.JsonFields.ATTRIBUTES, JsonFactory.newObject("{\"location\":\"garden\"}"))
+                .build();
+
+        new TestKit(system) {{
+            mockThingWithReadablePolicy();
+            mockEntitiesActorInstance.setReply(RetrieveThingResponse.of(THING_ID, retrievedThing, headers(V_2)));
+            final ActorRef underTest = TestSetup.newEnforcerActor(system, getRef(), mockEntitiesActor,
+                    mockEntitiesActor, null, thingRevisionCache, thingResponseCache);
+
+            underTest.tell(readCommand(), getRef());
+            assertThat(expectMsgClass(RetrieveThingResponse.class).getEntity().toString())
+                    .isEqualTo(retrievedThing.toString());
+        }};
+    }
+
+    @Test
+    public void invalidateCachedThingOnModifyResponse() {
+        final Cache<EntityId, Long> thingRevisionCache = CaffeineCache.of(Caffeine.newBuilder());
+        final Cache<EntityId, RetrieveThingResponse> thingResponseCache = CaffeineCache.of(Caffeine.newBuilder());
+        cacheThing(thingRevisionCache, thingResponseCache, V_2);
+
+        new TestKit(system) {{
+            mockThingWithReadablePolicy();
+            mockEntitiesActorInstance.setReply(ModifyFeatureResponse.modified(THING_ID, "x", headers(V_2)));
+            final ActorRef underTest = TestSetup.newEnforcerActor(system, getRef(), mockEntitiesActor,
+                    mockEntitiesActor, null, thingRevisionCache, thingResponseCache);
+
+            underTest.tell(writeCommand(), getRef());
+            expectMsgClass(ModifyFeatureResponse.class);
+
+            // the response was sent after the caches were updated; the revision of the modification is unknown
+            assertThat(thingResponseCache.getBlocking(THING_ENTITY_ID)).isEmpty();
+            assertThat(thingRevisionCache.getBlocking(THING_ENTITY_ID)).isEmpty();
+        }};
+    }
+
+    @Test
+    public void keepRevisionOfEventArrivedBeforeModifyResponse() {
+        final Cache<EntityId, Long> thingRevisionCache = CaffeineCache.of(Caffeine.newBuilder());
+        final Cache<EntityId, RetrieveThingResponse> thingResponseCache = CaffeineCache.of(Caffeine.newBuilder());
+        cacheThing(thingRevisionCache, thingResponseCache, V_2);
+
+        new TestKit(system) {{
+            mockThingWithReadablePolicy();
+            mockEntitiesActorInstance.setHandler(ModifyFeature.TYPE, modifyFeature -> {
+                // the event of the modification updates the cached revision before the response arrives
+                thingRevisionCache.put(THING_ENTITY_ID, 6L);
+                return ModifyFeatureResponse.modified(THING_ID, "x", headers(V_2));
+            });
+            final ActorRef underTest = TestSetup.newEnforcerActor(system, getRef(), mockEntitiesActor,
+                    mockEntitiesActor, null, thingRevisionCache, thingResponseCache);
+
+            underTest.tell(writeCommand(), getRef());
+            expectMsgClass(ModifyFeatureResponse.class);
+
+            assertThat(thingResponseCache.getBlocking(THING_ENTITY_ID)).isEmpty();
+            assertThat(thingRevisionCache.getBlocking(THING_ENTITY_ID)).contains(6L);
+
+            final RetrieveThing conditionalRead = RetrieveThing.of(THING_ID, headers(V_2).toBuilder()
+                    .ifNoneMatch(EntityTagMatchers.fromStrings("\"rev:6\""))
+                    .build());
+            underTest.tell(conditionalRead, getRef());
+            expectMsgClass(ThingPreconditionNotModifiedException.class);
+        }};
+    }
+
     @Test
     public void acceptCreateByOwnAcl() {
         final Thing thing = newThing()
@@ -467,6 +776,29 @@ public final class ThingCommandEnforcementTest {
 
     }
 
+    /*
+     * Conditional RetrieveThing commands matching the cached revision are answered with 304 by the enforcer, all
+     * others are forwarded to the Things shard region.
+     */
+    private void expectNotModifiedOrForwarded(final ActorRef underTest, final TestKit testKit) {
+        final RetrieveThing matchingRead = RetrieveThing.of(THING_ID, headers(V_2).toBuilder()
+                .ifNoneMatch(EntityTagMatchers.fromStrings("\"rev:5\""))
+                .build());
+        underTest.tell(matchingRead, testKit.getRef());
+        final ThingPreconditionNotModifiedException notModified =
+                testKit.expectMsgClass(ThingPreconditionNotModifiedException.class);
+        assertThat(notModified.getDittoHeaders().getETag()).contains(EntityTag.fromString("\"rev:5\""));
+
+        final RetrieveThing otherRead = RetrieveThing.of(THING_ID, headers(V_2).toBuilder()
+                .ifNoneMatch(EntityTagMatchers.fromStrings("\"rev:4\""))
+                .build());
+        final RetrieveThingResponse retrieveThingResponse =
+                RetrieveThingResponse.of(THING_ID, JsonFactory.newObject(), DittoHeaders.empty());
+        mockEntitiesActorInstance.setReply(retrieveThingResponse);
+        underTest.tell(otherRead, testKit.getRef());
+        testKit.expectMsgClass(RetrieveThingResponse.class);
+    }
+
     private ActorRef newEnforcerActor(final ActorRef testActorRef) {
         return TestSetup.newEnforcerActor(system, testActorRef, mockEntitiesActor);
     }
@@ -478,6 +810,40 @@ public final class ThingCommandEnforcementTest {
                 .toJson(V_2, FieldType.all());
     }
 
+    private void mockThingWithReadablePolicy() {
+        final JsonObject policy = PoliciesModelFactory.newPolicyBuilder(CACHED_POLICY_ID)
+                .setRevision(1L)
+                .forLabel("authorize-self")
+                .setSubject(GOOGLE, SUBJECT.getId())
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()),
+                        READ.name(),
+                        WRITE.name())
+                .build()
+                .toJson(FieldType.all());
+        mockEntitiesActorInstance.setReply(THING_SUDO,
+                SudoRetrieveThingResponse.of(newThingWithPolicyId(CACHED_POLICY_ID), DittoHeaders.empty()));
+        mockEntitiesActorInstance.setReply(POLICY_SUDO,
+                SudoRetrievePolicyResponse.of(CACHED_POLICY_ID, policy, DittoHeaders.empty()));
+    }
+
+    private static void cacheThing(final Cache<EntityId, Long> thingRevisionCache,
+            final Cache<EntityId, RetrieveThingResponse> thingResponseCache, final JsonSchemaVersion schemaVersion) {
+        thingRevisionCache.put(THING_ENTITY_ID, 5L);
+        thingResponseCache.put(THING_ENTITY_ID, RetrieveThingResponse.of(THING_ID, cachedThing(),
+                DittoHeaders.newBuilder()
+                        .schemaVersion(schemaVersion)
+                        .eTag(EntityTag.fromString("\"rev:5\""))
+                        .build()));
+    }
+
+    private static JsonObject cachedThing() {
+        return JsonFactory.newObjectBuilder()
+                .set(Thing.JsonFields.ID, THING_ID)
+                .set(Thing.JsonFields.POLICY_ID, CACHED_POLICY_ID)
+                .set(Thing.JsonFields.ATTRIBUTES, JsonFactory.newObject("{\"location\":\"kitchen\"}"))
+                .build();
+    }
+
     private static DittoHeaders headers(final JsonSchemaVersion schemaVersion) {
         return DittoHeaders.newBuilder()
                 .authorizationSubjects(SUBJECT.getId(), String.format("%s:%s", GOOGLE, SUBJECT))
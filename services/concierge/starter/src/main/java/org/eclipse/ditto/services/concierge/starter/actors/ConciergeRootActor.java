@@ -25,6 +25,7 @@ import org.eclipse.ditto.services.base.config.HttpConfigReader;
 import org.eclipse.ditto.services.concierge.batch.actors.BatchSupervisorActor;
 import org.eclipse.ditto.services.concierge.starter.proxy.AbstractEnforcerActorFactory;
 import org.eclipse.ditto.services.concierge.util.config.AbstractConciergeConfigReader;
+import org.eclipse.ditto.services.concierge.util.config.BatchConfigReader;
 import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
@@ -149,8 +150,10 @@ public final class ConciergeRootActor extends AbstractActor {
         pubSubMediator.tell(new DistributedPubSubMediator.Put(getSelf()), getSelf());
         pubSubMediator.tell(new DistributedPubSubMediator.Put(conciergeForwarder), getSelf());
 
+        final BatchConfigReader batchConfig = configReader.batch();
         startClusterSingletonActor(context, BatchSupervisorActor.ACTOR_NAME,
-                BatchSupervisorActor.props(pubSubMediator, conciergeForwarder));
+                BatchSupervisorActor.props(pubSubMediator, conciergeForwarder, batchConfig.maxInFlight(),
+                        batchConfig.persistGroupSize()));
 
         final ActorRef healthCheckingActor = startHealthCheckingActor(context, configReader);
 
@@ -15,8 +15,11 @@ import static org.eclipse.ditto.services.models.thingsearch.ThingsSearchConstant
 
 import java.util.Objects;
 
+import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.services.concierge.util.config.AbstractConciergeConfigReader;
 import org.eclipse.ditto.services.concierge.util.config.ConciergeConfigReader;
+import org.eclipse.ditto.services.models.concierge.EntityId;
+import org.eclipse.ditto.services.models.concierge.cache.Entry;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.ThingSearchSudoCommand;
 import org.eclipse.ditto.services.utils.akka.controlflow.Consume;
@@ -24,6 +27,7 @@ import org.eclipse.ditto.services.utils.akka.controlflow.FanIn;
 import org.eclipse.ditto.services.utils.akka.controlflow.Filter;
 import org.eclipse.ditto.services.utils.akka.controlflow.GraphActor;
 import org.eclipse.ditto.services.utils.akka.controlflow.WithSender;
+import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.eclipse.ditto.signals.commands.thingsearch.ThingSearchCommand;
 
@@ -57,15 +61,17 @@ public final class DispatcherActorCreator {
      * @param configReader the configReader for the concierge service.
      * @param pubSubMediator Akka pub-sub mediator.
      * @param enforcerShardRegion shard region of enforcer actors.
+     * @param policyEnforcerCache the policy enforcer cache.
      * @return the Props object.
      */
     public static Props props(final ConciergeConfigReader configReader, final ActorRef pubSubMediator,
-            final ActorRef enforcerShardRegion) {
+            final ActorRef enforcerShardRegion,
+            final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache) {
 
         return GraphActor.partial(actorContext -> {
             DispatcherActorCreator.initActor(actorContext.self(), pubSubMediator);
             return DispatcherActorCreator.dispatchGraph(actorContext, configReader, pubSubMediator,
-                    enforcerShardRegion);
+                    enforcerShardRegion, policyEnforcerCache);
         });
     }
 
@@ -75,11 +81,13 @@ public final class DispatcherActorCreator {
      * @param configReader the configReader for the concierge service.
      * @param pubSubMediator Akka pub-sub mediator.
      * @param enforcerShardRegion shard region of enforcer actors.
+     * @param policyEnforcerCache the policy enforcer cache.
      * @param preEnforcer the pre-enforcer as graph.
      * @return the Props object.
      */
     public static Props props(final AbstractConciergeConfigReader configReader, final ActorRef pubSubMediator,
             final ActorRef enforcerShardRegion,
+            final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache,
             final Graph<FlowShape<WithSender, WithSender>, NotUsed> preEnforcer) {
 
         return GraphActor.partial(actorContext -> {
@@ -87,7 +95,7 @@ public final class DispatcherActorCreator {
             return Flow.<WithSender>create()
                     .via(preEnforcer)
                     .via(DispatcherActorCreator.dispatchGraph(actorContext, configReader, pubSubMediator,
-                            enforcerShardRegion));
+                            enforcerShardRegion, policyEnforcerCache));
         });
     }
 
@@ -98,17 +106,20 @@ public final class DispatcherActorCreator {
      * @param configReader the configReader for the concierge service.
      * @param pubSubMediator Akka pub-sub mediator.
      * @param enforcerShardRegion shard region of enforcer actors.
+     * @param policyEnforcerCache the policy enforcer cache.
      * @return Akka stream graph to dispatch {@code RetrieveThings} and {@code ThingSearchCommand}.
      */
     private static Graph<FlowShape<WithSender, WithSender>, NotUsed> dispatchGraph(
             final AbstractActor.ActorContext actorContext,
             final AbstractConciergeConfigReader configReader,
             final ActorRef pubSubMediator,
-            final ActorRef enforcerShardRegion) {
+            final ActorRef enforcerShardRegion,
+            final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache) {
 
         return Flow.<WithSender>create()
                 .via(DispatcherActorCreator.dispatchSearchCommands(pubSubMediator))
-                .via(DispatcherActorCreator.dispatchRetrieveThings(actorContext, configReader, enforcerShardRegion));
+                .via(DispatcherActorCreator.dispatchRetrieveThings(actorContext, configReader, pubSubMediator,
+                        enforcerShardRegion, policyEnforcerCache));
     }
 
     /**
@@ -167,15 +178,20 @@ public final class DispatcherActorCreator {
      *
      * @param actorContext context of the dispatcher actor.
      * @param configReader the configReader for the concierge service.
+     * @param pubSubMediator Akka pub-sub mediator.
      * @param enforcerShardRegion shard region of enforcer actors.
+     * @param policyEnforcerCache the policy enforcer cache.
      * @return Akka stream graph that forwards relevant commands to the enforcer shard region.
      */
     private static Graph<FlowShape<WithSender, WithSender>, NotUsed> dispatchRetrieveThings(
             final ActorContext actorContext,
             final AbstractConciergeConfigReader configReader,
-            final ActorRef enforcerShardRegion) {
+            final ActorRef pubSubMediator,
+            final ActorRef enforcerShardRegion,
+            final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache) {
 
-        final Props props = ThingsAggregatorActor.props(configReader, enforcerShardRegion);
+        final Props props = ThingsAggregatorActor.props(configReader, enforcerShardRegion, pubSubMediator,
+                policyEnforcerCache);
         final ActorRef thingsAggregatorActor = actorContext.actorOf(props, ThingsAggregatorActor.ACTOR_NAME);
 
         return GraphDSL.create(builder -> {
@@ -13,21 +13,33 @@ package org.eclipse.ditto.services.concierge.starter.actors;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.concierge.enforcement.ThingCommandEnforcement;
 import org.eclipse.ditto.services.concierge.util.config.AbstractConciergeConfigReader;
 import org.eclipse.ditto.services.models.concierge.ConciergeWrapper;
+import org.eclipse.ditto.services.models.concierge.EntityId;
+import org.eclipse.ditto.services.models.concierge.cache.Entry;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
@@ -35,11 +47,13 @@ import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.cluster.pubsub.DistributedPubSubMediator;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.Creator;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.PatternsCS;
 import akka.stream.ActorMaterializer;
+import akka.stream.SourceRef;
 import akka.stream.javadsl.Source;
 import akka.stream.javadsl.StreamRefs;
 import akka.util.Timeout;
@@ -47,6 +61,12 @@ import scala.concurrent.ExecutionContext;
 
 /**
  * Actor to aggregate the retrieved Things from persistence.
+ * <p>
+ * If the bulk retrieval of the things service is enabled, {@code RetrieveThings} commands are answered from one
+ * {@code SudoRetrieveThings} to the bulk retrieval; the policy of each retrieved Thing is enforced here with the
+ * policy enforcer cache. Things with an access control list and commands retrieving the inlined policy are enforced
+ * by the enforcer actors one by one as without bulk retrieval.
+ * </p>
  */
 public final class ThingsAggregatorActor extends AbstractActor {
 
@@ -63,14 +83,21 @@ public final class ThingsAggregatorActor extends AbstractActor {
 
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
     private final ActorRef targetActor;
+    private final ActorRef pubSubMediator;
     private final ExecutionContext aggregatorDispatcher;
     private final java.time.Duration retrieveSingleThingTimeout;
+    private final boolean bulkRetrievalEnabled;
+    private final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache;
     private final ActorMaterializer actorMaterializer;
 
-    private ThingsAggregatorActor(final AbstractConciergeConfigReader configReader, final ActorRef targetActor) {
+    private ThingsAggregatorActor(final AbstractConciergeConfigReader configReader, final ActorRef targetActor,
+            final ActorRef pubSubMediator, final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache) {
         this.targetActor = targetActor;
+        this.pubSubMediator = pubSubMediator;
+        this.policyEnforcerCache = policyEnforcerCache;
         aggregatorDispatcher = getContext().system().dispatchers().lookup(AGGREGATOR_INTERNAL_DISPATCHER);
         retrieveSingleThingTimeout = configReader.thingsAggregatorSingleRetrieveThingTimeout();
+        bulkRetrievalEnabled = configReader.thingsAggregatorBulkRetrievalEnabled();
         actorMaterializer = ActorMaterializer.create(getContext());
     }
 
@@ -79,15 +106,18 @@ public final class ThingsAggregatorActor extends AbstractActor {
      *
      * @param configReader the configReader for the concierge service.
      * @param targetActor the Actor selection to delegate "asks" for the aggregation to.
+     * @param pubSubMediator Akka pub-sub mediator to reach the bulk retrieval of the things service.
+     * @param policyEnforcerCache the policy enforcer cache to enforce the Things retrieved in bulk.
      * @return the Akka configuration Props object
      */
-    public static Props props(final AbstractConciergeConfigReader configReader, final ActorRef targetActor) {
+    public static Props props(final AbstractConciergeConfigReader configReader, final ActorRef targetActor,
+            final ActorRef pubSubMediator, final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache) {
         return Props.create(ThingsAggregatorActor.class, new Creator<ThingsAggregatorActor>() {
             private static final long serialVersionUID = 1L;
 
             @Override
             public ThingsAggregatorActor create() {
-                return new ThingsAggregatorActor(configReader, targetActor);
+                return new ThingsAggregatorActor(configReader, targetActor, pubSubMediator, policyEnforcerCache);
             }
         }).withDispatcher(AGGREGATOR_INTERNAL_DISPATCHER);
     }
@@ -124,22 +154,125 @@ public final class ThingsAggregatorActor extends AbstractActor {
     }
 
     private void retrieveThings(final RetrieveThings retrieveThings, final ActorRef resultReceiver) {
-        final JsonFieldSelector selectedFields = retrieveThings.getSelectedFields().orElse(null);
-        retrieveThingsAndSendResult(retrieveThings.getThingIds(), selectedFields, retrieveThings, resultReceiver);
+        if (bulkRetrievalEnabled && !selectsInlinedPolicy(retrieveThings)) {
+            retrieveThingsInBulkAndSendResult(retrieveThings, resultReceiver);
+        } else {
+            final JsonFieldSelector selectedFields = retrieveThings.getSelectedFields().orElse(null);
+            retrieveThingsAndSendResult(retrieveThings.getThingIds(), selectedFields, retrieveThings, resultReceiver);
+        }
+    }
+
+    private void retrieveThingsInBulkAndSendResult(final RetrieveThings retrieveThings,
+            final ActorRef resultReceiver) {
+
+        // the Things are retrieved in schema version 2 as it contains their policy IDs
+        final DittoHeaders sudoHeaders = retrieveThings.getDittoHeaders()
+                .toBuilder()
+                .schemaVersion(JsonSchemaVersion.V_2)
+                .build();
+        final SudoRetrieveThings sudoRetrieveThings = SudoRetrieveThings.of(retrieveThings.getThingIds(), sudoHeaders);
+        final DistributedPubSubMediator.Send send = new DistributedPubSubMediator.Send(
+                ThingsMessagingConstants.THINGS_BULK_RETRIEVAL_ACTOR_PATH, sudoRetrieveThings);
+
+        final CompletionStage<?> commandResponseSource =
+                PatternsCS.ask(pubSubMediator, send, retrieveSingleThingTimeout.toMillis())
+                        .handle((response, error) -> {
+                            if (response instanceof SourceRef) {
+                                @SuppressWarnings("unchecked") final SourceRef<Jsonifiable> sudoResponses =
+                                        (SourceRef<Jsonifiable>) response;
+                                return enforceRetrievedThings(sudoResponses, retrieveThings);
+                            } else {
+                                log.warning("Could not retrieve Things in bulk, got <{}> / <{}>. Retrieving them " +
+                                        "one by one..", response, error);
+                                return retrieveThingsAndGetSourceRef(retrieveThings.getThingIds(),
+                                        retrieveThings.getSelectedFields().orElse(null), retrieveThings);
+                            }
+                        })
+                        .thenCompose(Function.identity());
+
+        PatternsCS.pipe(commandResponseSource, aggregatorDispatcher)
+                .to(resultReceiver);
+    }
+
+    private CompletionStage<SourceRef<Jsonifiable>> enforceRetrievedThings(
+            final SourceRef<Jsonifiable> sudoResponses, final RetrieveThings retrieveThings) {
+
+        return sudoResponses.getSource()
+                .mapAsync(MAX_PARALLELISM, sudoResponse -> enforceRetrievedThing(sudoResponse, retrieveThings))
+                .log("command-response", log)
+                .runWith(StreamRefs.sourceRef(), actorMaterializer);
+    }
+
+    private CompletionStage<Jsonifiable> enforceRetrievedThing(final Jsonifiable sudoResponse,
+            final RetrieveThings retrieveThings) {
+
+        if (sudoResponse instanceof SudoRetrieveThingResponse) {
+            final Thing thing = ((SudoRetrieveThingResponse) sudoResponse).getThing();
+            final String thingId = thing.getId().orElseThrow(() -> new IllegalStateException("Thing without ID!"));
+            final RetrieveThing retrieveThing = retrieveThings.getSelectedFields()
+                    .map(selectedFields -> RetrieveThing.getBuilder(thingId, retrieveThings.getDittoHeaders())
+                            .withSelectedFields(selectedFields)
+                            .build())
+                    .orElseGet(() -> RetrieveThing.of(thingId, retrieveThings.getDittoHeaders()));
+            if (thing.getPolicyId().isPresent()) {
+                return ThingCommandEnforcement.enforceRetrievedThing(retrieveThing, thing, policyEnforcerCache)
+                        .thenApply(Jsonifiable.class::cast);
+            } else {
+                // Things with an access control list are enforced by their enforcer actor
+                return PatternsCS.ask(targetActor, ConciergeWrapper.wrapForEnforcer(retrieveThing),
+                        retrieveSingleThingTimeout.toMillis())
+                        .thenApply(Jsonifiable.class::cast);
+            }
+        } else if (sudoResponse instanceof DittoRuntimeException) {
+            // e.g. the Thing does not exist
+            final DittoRuntimeException error = (DittoRuntimeException) sudoResponse;
+            return CompletableFuture.completedFuture(error.setDittoHeaders(retrieveThings.getDittoHeaders()));
+        } else {
+            throw new IllegalStateException("Unexpected response to SudoRetrieveThings: " + sudoResponse);
+        }
+    }
+
+    private static boolean selectsInlinedPolicy(final RetrieveThings retrieveThings) {
+        return retrieveThings.getSelectedFields()
+                .filter(selectedFields -> selectedFields.getPointers()
+                        .stream()
+                        .anyMatch(pointer -> pointer.getRoot()
+                                .filter(key -> Policy.INLINED_FIELD_NAME.equals(key.toString()))
+                                .isPresent()))
+                .isPresent();
     }
 
     private void retrieveThings(final SudoRetrieveThings sudoRetrieveThings, final ActorRef resultReceiver) {
-        final JsonFieldSelector selectedFields = sudoRetrieveThings.getSelectedFields().orElse(null);
-        retrieveThingsAndSendResult(sudoRetrieveThings.getThingIds(), selectedFields, sudoRetrieveThings,
-                resultReceiver);
+        if (bulkRetrievalEnabled) {
+            // sudo commands need no enforcement: let the things service read inactive Things in bulk
+            // from the persistence; it responds to the resultReceiver with a SourceRef as well
+            pubSubMediator.tell(new DistributedPubSubMediator.Send(
+                    ThingsMessagingConstants.THINGS_BULK_RETRIEVAL_ACTOR_PATH, sudoRetrieveThings), resultReceiver);
+        } else {
+            final JsonFieldSelector selectedFields = sudoRetrieveThings.getSelectedFields().orElse(null);
+            retrieveThingsAndSendResult(sudoRetrieveThings.getThingIds(), selectedFields, sudoRetrieveThings,
+                    resultReceiver);
+        }
     }
 
     private void retrieveThingsAndSendResult(final List<String> thingIds,
             @Nullable final JsonFieldSelector selectedFields,
             final Command<?> command, final ActorRef resultReceiver) {
+
+        final CompletionStage<?> commandResponseSource =
+                retrieveThingsAndGetSourceRef(thingIds, selectedFields, command);
+
+        // due to https://github.com/akka/akka/issues/25469 not yet usable with Akka Artery remoting!
+
+        PatternsCS.pipe(commandResponseSource, aggregatorDispatcher)
+                .to(resultReceiver);
+    }
+
+    private CompletionStage<SourceRef<Jsonifiable>> retrieveThingsAndGetSourceRef(final List<String> thingIds,
+            @Nullable final JsonFieldSelector selectedFields, final Command<?> command) {
         final DittoHeaders dittoHeaders = command.getDittoHeaders();
 
-        final CompletionStage<?> commandResponseSource = Source.from(thingIds)
+        return Source.from(thingIds)
                 .filter(Objects::nonNull)
                 .filterNot(String::isEmpty)
                 .filter(thingId -> THING_ID_PATTERN.matcher(thingId).matches())
@@ -162,11 +295,6 @@ public final class ThingsAggregatorActor extends AbstractActor {
                         Timeout.apply(retrieveSingleThingTimeout.toMillis(), TimeUnit.MILLISECONDS))
                 .log("command-response", log)
                 .runWith(StreamRefs.sourceRef(), actorMaterializer);
-
-        // due to https://github.com/akka/akka/issues/25469 not yet usable with Akka Artery remoting!
-
-        PatternsCS.pipe(commandResponseSource, aggregatorDispatcher)
-                .to(resultReceiver);
     }
 
     private int calculateParallelism(final List<String> thingIds) {
@@ -15,14 +15,17 @@ import java.util.Optional;
 import org.eclipse.ditto.services.base.config.ClusterConfigReader;
 import org.eclipse.ditto.services.concierge.util.config.AbstractConciergeConfigReader;
 import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
+import org.eclipse.ditto.services.utils.cluster.ShardLoadTracker;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 
 import akka.actor.ActorContext;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.cluster.sharding.ClusterSharding;
 import akka.cluster.sharding.ClusterShardingSettings;
+import akka.cluster.sharding.ShardCoordinator;
 
 /**
  * Abstract class whose implementations create a sharded {@code EnforcerActor}.
@@ -64,11 +67,16 @@ public abstract class AbstractEnforcerActorFactory<C extends AbstractConciergeCo
         final ClusterShardingSettings settings = ClusterShardingSettings.create(actorSystem)
                 .withRole(ConciergeMessagingConstants.CLUSTER_ROLE);
 
+        final ShardLoadTracker shardLoadTracker = ShardLoadTracker.newInstance();
         final ShardRegionExtractor extractor =
-                ShardRegionExtractor.of(clusterConfigReader.numberOfShards(), actorSystem);
+                ShardRegionExtractor.of(clusterConfigReader.numberOfShards(), actorSystem, shardLoadTracker);
+        final ShardCoordinator.ShardAllocationStrategy allocationStrategy = clusterConfigReader.shardAllocation()
+                .createAllocationStrategy(actorSystem, settings, ConciergeMessagingConstants.SHARD_REGION,
+                        shardLoadTracker);
 
         return ClusterSharding.get(actorSystem)
-                .start(ConciergeMessagingConstants.SHARD_REGION, props, settings, extractor);
+                .start(ConciergeMessagingConstants.SHARD_REGION, props, settings, extractor, allocationStrategy,
+                        PoisonPill.getInstance());
     }
 
     /**
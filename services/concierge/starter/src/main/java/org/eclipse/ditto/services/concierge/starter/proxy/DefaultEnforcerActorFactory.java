@@ -11,28 +11,36 @@
 package org.eclipse.ditto.services.concierge.starter.proxy;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.services.concierge.cache.AclEnforcerCacheLoader;
 import org.eclipse.ditto.services.concierge.cache.CacheFactory;
 import org.eclipse.ditto.services.concierge.cache.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.services.concierge.cache.ThingEnforcementIdCacheLoader;
 import org.eclipse.ditto.services.concierge.cache.update.PolicyCacheUpdateActor;
+import org.eclipse.ditto.services.concierge.cache.update.ThingRevisionCacheUpdateActor;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcementProvider;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcerActorCreator;
 import org.eclipse.ditto.services.concierge.enforcement.LiveSignalEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PolicyCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.ThingCommandEnforcement;
 import org.eclipse.ditto.services.concierge.starter.actors.DispatcherActorCreator;
+import org.eclipse.ditto.services.concierge.util.config.CacheConfigReader;
 import org.eclipse.ditto.services.concierge.util.config.ConciergeConfigReader;
 import org.eclipse.ditto.services.models.concierge.EntityId;
 import org.eclipse.ditto.services.models.concierge.cache.Entry;
+import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cluster.EventPublisherActor;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
 
 import akka.actor.ActorContext;
 import akka.actor.ActorRef;
@@ -45,6 +53,8 @@ public final class DefaultEnforcerActorFactory extends AbstractEnforcerActorFact
 
     private static final String ENFORCER_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_enforcer_cache_";
     private static final String ID_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_id_cache_";
+    private static final String THING_REVISION_CACHE_METRIC_NAME = "ditto_thing_revision_cache";
+    private static final String THING_RESPONSE_CACHE_METRIC_NAME = "ditto_thing_response_cache";
 
     @Override
     public ActorRef startEnforcerActor(final ActorContext context, final ConciergeConfigReader configReader,
@@ -76,12 +86,33 @@ public final class DefaultEnforcerActorFactory extends AbstractEnforcerActorFact
                 CacheFactory.createCache(aclEnforcerCacheLoader, configReader.caches().enforcer(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "acl");
 
+        // the revision cache is kept up to date from all Thing events, so it is only created on demand
+        final CacheConfigReader thingRevisionCacheConfigReader = configReader.caches().revision();
+        @Nullable final Cache<EntityId, Long> thingRevisionCache = thingRevisionCacheConfigReader.enabled()
+                ? CacheFactory.createCache(thingRevisionCacheConfigReader, THING_REVISION_CACHE_METRIC_NAME)
+                : null;
+        // cached Things are only valid as long as their revision is the current one of the revision cache
+        final CacheConfigReader thingResponseCacheConfigReader = configReader.caches().thing();
+        @Nullable final Cache<EntityId, RetrieveThingResponse> thingResponseCache =
+                thingRevisionCache != null && thingResponseCacheConfigReader.enabled()
+                ? CacheFactory.createCache(thingResponseCacheConfigReader, THING_RESPONSE_CACHE_METRIC_NAME)
+                : null;
+
+        // live signals are sent only to the nodes with interested subscribers and once per node
+        @Nullable final ActorRef liveSignalPublisher = configReader.cluster().directLiveSignalsEnabled()
+                ? context.actorOf(EventPublisherActor.props(pubSubMediator,
+                Arrays.asList(StreamingType.LIVE_COMMANDS.getDistributedPubSubTopic(),
+                        StreamingType.LIVE_EVENTS.getDistributedPubSubTopic(),
+                        StreamingType.MESSAGES.getDistributedPubSubTopic())), EventPublisherActor.ACTOR_NAME)
+                : null;
+
         final Set<EnforcementProvider<?>> enforcementProviders = new HashSet<>();
         enforcementProviders.add(new ThingCommandEnforcement.Provider(thingsShardRegionProxy,
-                policiesShardRegionProxy, thingIdCache, policyEnforcerCache, aclEnforcerCache));
+                policiesShardRegionProxy, thingIdCache, policyEnforcerCache, aclEnforcerCache, thingRevisionCache,
+                thingResponseCache));
         enforcementProviders.add(new PolicyCommandEnforcement.Provider(policiesShardRegionProxy, policyEnforcerCache));
         enforcementProviders.add(new LiveSignalEnforcement.Provider(thingIdCache, policyEnforcerCache,
-                aclEnforcerCache));
+                aclEnforcerCache, liveSignalPublisher));
 
         final Duration enforcementAskTimeout = configReader.enforcement().askTimeout();
         // set activity check interval identical to cache retention
@@ -96,8 +127,15 @@ public final class DefaultEnforcerActorFactory extends AbstractEnforcerActorFact
         final Props policyCacheUpdateActorProps =
                 PolicyCacheUpdateActor.props(policyEnforcerCache, pubSubMediator, instanceIndex);
         context.actorOf(policyCacheUpdateActorProps, PolicyCacheUpdateActor.ACTOR_NAME);
-
-        context.actorOf(DispatcherActorCreator.props(configReader, pubSubMediator, enforcerShardRegion),
+        if (thingRevisionCache != null) {
+            final Props thingRevisionCacheUpdateActorProps =
+                    ThingRevisionCacheUpdateActor.props(thingRevisionCache, thingResponseCache, pubSubMediator,
+                            instanceIndex);
+            context.actorOf(thingRevisionCacheUpdateActorProps, ThingRevisionCacheUpdateActor.ACTOR_NAME);
+        }
+
+        context.actorOf(DispatcherActorCreator.props(configReader, pubSubMediator, enforcerShardRegion,
+                policyEnforcerCache),
                 DispatcherActorCreator.ACTOR_NAME);
 
         return enforcerShardRegion;
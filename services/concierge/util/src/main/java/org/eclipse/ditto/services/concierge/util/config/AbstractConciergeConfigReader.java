@@ -23,10 +23,13 @@ public abstract class AbstractConciergeConfigReader extends AbstractServiceConfi
 
     private static final String PATH_CACHES = "caches";
     private static final String PATH_ENFORCEMENT = "enforcement";
+    private static final String PATH_BATCH = "batch";
 
     private static final String PATH_THINGS_AGGREGATOR_SINGLE_RETRIEVE_THING_TIMEOUT =
             "things-aggregator.single-retrieve-thing-timeout";
 
+    private static final String PATH_THINGS_AGGREGATOR_BULK_RETRIEVAL_ENABLED =
+            "things-aggregator.bulk-retrieval.enabled";
 
     protected AbstractConciergeConfigReader(final Config config, final String serviceName) {
         super(config, serviceName);
@@ -50,6 +53,15 @@ public abstract class AbstractConciergeConfigReader extends AbstractServiceConfi
         return new EnforcementConfigReader(getChild(PATH_ENFORCEMENT));
     }
 
+    /**
+     * Retrieve a configuration reader for the execution of batches.
+     *
+     * @return the configuration reader.
+     */
+    public BatchConfigReader batch() {
+        return new BatchConfigReader(getChild(PATH_BATCH));
+    }
+
     /**
      * Retrieve timeout how long the {@code ThingsAggregatorActor} should wait for a single retrieve thing.
      *
@@ -59,4 +71,14 @@ public abstract class AbstractConciergeConfigReader extends AbstractServiceConfi
         return config.getDuration(PATH_THINGS_AGGREGATOR_SINGLE_RETRIEVE_THING_TIMEOUT);
     }
 
+    /**
+     * Indicates whether the {@code ThingsAggregatorActor} should delegate {@code SudoRetrieveThings} to the bulk
+     * retrieval of the things service instead of retrieving each Thing separately.
+     *
+     * @return whether bulk retrieval of Things is enabled.
+     */
+    public boolean thingsAggregatorBulkRetrievalEnabled() {
+        return getIfPresent(PATH_THINGS_AGGREGATOR_BULK_RETRIEVAL_ENABLED, config::getBoolean).orElse(false);
+    }
+
 }
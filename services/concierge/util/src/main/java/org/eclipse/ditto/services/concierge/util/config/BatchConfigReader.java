@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.util.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.base.config.AbstractConfigReader;
+
+import com.typesafe.config.Config;
+
+/**
+ * Configuration reader for the execution of batches.
+ */
+@Immutable
+public final class BatchConfigReader extends AbstractConfigReader {
+
+    private static final int DEFAULT_MAX_IN_FLIGHT = 100;
+    private static final int DEFAULT_PERSIST_GROUP_SIZE = 100;
+
+    BatchConfigReader(final Config config) {
+        super(config);
+    }
+
+    /**
+     * Retrieve the maximum number of commands of a batch awaiting their response at the same time.
+     *
+     * @return the maximum number of commands in flight.
+     */
+    public int maxInFlight() {
+        return getIfPresent("max-in-flight", config::getInt).orElse(DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Retrieve the maximum number of executed commands of a batch which are persisted at once.
+     *
+     * @return the size of the groups of persisted events.
+     */
+    public int persistGroupSize() {
+        return getIfPresent("persist-group-size", config::getInt).orElse(DEFAULT_PERSIST_GROUP_SIZE);
+    }
+
+}
@@ -23,11 +23,21 @@ public final class CacheConfigReader extends AbstractConfigReader {
 
     private static final String PATH_MAXIMUM_SIZE = "maximum-size";
     private static final String PATH_EXPIRE_AFTER_WRITE = "expire-after-write";
+    private static final String PATH_ENABLED = "enabled";
 
     CacheConfigReader(final Config config) {
         super(config);
     }
 
+    /**
+     * Indicates whether a cache is enabled. Caches without explicit configuration are enabled.
+     *
+     * @return whether the cache is enabled.
+     */
+    public boolean enabled() {
+        return getIfPresent(PATH_ENABLED, config::getBoolean).orElse(true);
+    }
+
     /**
      * Retrieve the maximum size of a cache.
      *
@@ -57,6 +57,24 @@ public final class CachesConfigReader extends AbstractConfigReader {
         return getCacheConfigReader("enforcer");
     }
 
+    /**
+     * Retrieve config reader for the cache of the current revisions of Things.
+     *
+     * @return the config reader.
+     */
+    public CacheConfigReader revision() {
+        return getCacheConfigReader("revision");
+    }
+
+    /**
+     * Retrieve config reader for the cache of retrieved Things.
+     *
+     * @return the config reader.
+     */
+    public CacheConfigReader thing() {
+        return getCacheConfigReader("thing");
+    }
+
     private CacheConfigReader getCacheConfigReader(final String childPath) {
         return new CacheConfigReader(getChild(childPath));
     }
@@ -31,6 +31,7 @@ import org.eclipse.ditto.protocoladapter.Adaptable;
 import org.eclipse.ditto.protocoladapter.JsonifiableAdaptable;
 import org.eclipse.ditto.protocoladapter.ProtocolFactory;
 import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.services.utils.protocol.SignalRepresentationCache;
 
 import com.typesafe.config.Config;
 
@@ -75,7 +76,8 @@ public final class DittoMessageMapper implements MessageMapper {
     public Optional<ExternalMessage> map(final Adaptable adaptable) {
         final Map<String, String> headers = new LinkedHashMap<>(adaptable.getHeaders().orElse(DittoHeaders.empty()));
 
-        final String jsonString = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJsonString();
+        // the Adaptables of published signals are shared by all connections, so is their serialization
+        final String jsonString = SignalRepresentationCache.getInstance().jsonStringOf(adaptable);
 
         final boolean isError = TopicPath.Criterion.ERRORS.equals(adaptable.getTopicPath().getCriterion());
         final boolean isResponse = adaptable.getPayload().getStatus().isPresent();
@@ -106,6 +106,11 @@ public abstract class BaseClientActor extends AbstractFSM<BaseClientState, BaseC
     protected static final int TEST_CONNECTION_TIMEOUT = 10;
     protected static final int RETRIEVE_METRICS_TIMEOUT = 2;
 
+    /**
+     * Key of the specific config setting the number of publisher actors of the connection.
+     */
+    public static final String PUBLISHER_COUNT = "publisherCount";
+
     private static final int SOCKET_CHECK_TIMEOUT_MS = 2000;
 
     protected final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
@@ -176,9 +181,23 @@ public abstract class BaseClientActor extends AbstractFSM<BaseClientState, BaseC
     protected abstract void cleanupResourcesForConnection();
 
     /**
-     * @return the optional Actor to use for Publishing commandResponses/events.
+     * @return the Actors to use for Publishing commandResponses/events; empty if the client does not publish. The
+     * signals of each entity are always published by the same actor in order to retain their order.
+     */
+    protected abstract List<ActorRef> getPublisherActors();
+
+    /**
+     * Returns the number of publisher actors to start, each with its own session, channel or client, configured via
+     * the specific config {@value #PUBLISHER_COUNT} of the connection. Defaults to 1.
+     *
+     * @return the number of publisher actors.
      */
-    protected abstract Optional<ActorRef> getPublisherActor();
+    protected final int publisherCount() {
+        return Optional.ofNullable(connection().getSpecificConfig().get(PUBLISHER_COUNT))
+                .map(Integer::parseInt)
+                .filter(count -> count > 0)
+                .orElse(1);
+    }
 
     /**
      * Invoked when this {@code Client} should connect.
@@ -334,6 +353,62 @@ public abstract class BaseClientActor extends AbstractFSM<BaseClientState, BaseC
         }
     }
 
+    /**
+     * Retrieves the {@link AddressMetric}s of a pool of child actors handling the same address and aggregates them
+     * into one: the message counts are summed up, the worst status wins.
+     *
+     * @param addressIdentifier the address.
+     * @param childActorLabel the label of the child actors for logging.
+     * @param childActorRefs the child actors.
+     * @return the future of the address with its aggregated metric.
+     */
+    protected final CompletableFuture<Pair<String, AddressMetric>> retrieveAddressMetric(
+            final String addressIdentifier, final String childActorLabel, final List<ActorRef> childActorRefs) {
+
+        if (childActorRefs.size() <= 1) {
+            return retrieveAddressMetric(addressIdentifier, childActorLabel,
+                    childActorRefs.isEmpty() ? null : childActorRefs.get(0));
+        }
+        return collectAsList(childActorRefs.stream()
+                .map(childActorRef -> retrieveAddressMetric(addressIdentifier, childActorLabel, childActorRef)))
+                .thenApply(entries -> Pair.create(addressIdentifier, entries.stream()
+                        .map(Pair::second)
+                        .reduce(BaseClientActor::mergeAddressMetrics)
+                        .orElseThrow(IllegalStateException::new)));
+    }
+
+    private static AddressMetric mergeAddressMetrics(final AddressMetric metric1, final AddressMetric metric2) {
+        final ConnectionStatus status =
+                statusSeverity(metric1.getStatus()) >= statusSeverity(metric2.getStatus())
+                        ? metric1.getStatus()
+                        : metric2.getStatus();
+        final String details = Stream.of(metric1.getStatusDetails(), metric2.getStatusDetails())
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .distinct()
+                .collect(Collectors.joining("; "));
+        final Instant lastMessageAt = Stream.of(metric1.getLastMessageAt(), metric2.getLastMessageAt())
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .max(Instant::compareTo)
+                .orElse(null);
+        return ConnectivityModelFactory.newAddressMetric(status, details.isEmpty() ? null : details,
+                metric1.getMessageCount() + metric2.getMessageCount(), lastMessageAt);
+    }
+
+    private static int statusSeverity(final ConnectionStatus status) {
+        switch (status) {
+            case OPEN:
+                return 0;
+            case UNKNOWN:
+                return 1;
+            case CLOSED:
+                return 2;
+            default:
+                return 3;
+        }
+    }
+
     /**
      * Transforms a List of CompletableFutures to a CompletableFuture of a List.
      *
@@ -813,10 +888,19 @@ public abstract class BaseClientActor extends AbstractFSM<BaseClientState, BaseC
     }
 
     private void handleExternalMessage(final OutboundSignal.WithExternalMessage mappedOutboundSignal) {
-        getPublisherActor().ifPresent(publisher -> {
+        final List<ActorRef> publishers = getPublisherActors();
+        if (!publishers.isEmpty()) {
             incrementPublishedMessageCounter();
-            publisher.forward(mappedOutboundSignal, getContext());
-        });
+            selectPublisher(publishers, mappedOutboundSignal).forward(mappedOutboundSignal, getContext());
+        }
+    }
+
+    private static ActorRef selectPublisher(final List<ActorRef> publishers, final OutboundSignal outboundSignal) {
+        if (publishers.size() == 1) {
+            return publishers.get(0);
+        }
+        final String entityId = outboundSignal.getSource().getId();
+        return publishers.get(Math.floorMod(entityId.hashCode(), publishers.size()));
     }
 
     private ConnectionStatus getCurrentConnectionStatus() {
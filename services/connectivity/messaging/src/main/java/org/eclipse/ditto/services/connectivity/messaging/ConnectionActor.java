@@ -49,6 +49,8 @@ import org.eclipse.ditto.services.connectivity.messaging.validation.ConnectionVa
 import org.eclipse.ditto.services.connectivity.messaging.validation.DittoConnectivityCommandValidator;
 import org.eclipse.ditto.services.connectivity.util.ConnectionConfigReader;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cluster.EventDispatcherActor;
+import org.eclipse.ditto.services.utils.cluster.EventInterest;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.Command;
@@ -145,6 +147,7 @@ public final class ConnectionActor extends AbstractPersistentActor {
 
     private final String connectionId;
     private final ActorRef pubSubMediator;
+    @Nullable private final ActorRef eventDispatcher;
     private final ActorRef conciergeForwarder;
     private final long snapshotThreshold;
     private final SnapshotAdapter<Connection> snapshotAdapter;
@@ -168,12 +171,14 @@ public final class ConnectionActor extends AbstractPersistentActor {
 
     private ConnectionActor(final String connectionId,
             final ActorRef pubSubMediator,
+            @Nullable final ActorRef eventDispatcher,
             final ActorRef conciergeForwarder,
             final ClientActorPropsFactory propsFactory,
             @Nullable final Consumer<ConnectivityCommand<?>> customCommandValidator) {
 
         this.connectionId = connectionId;
         this.pubSubMediator = pubSubMediator;
+        this.eventDispatcher = eventDispatcher;
         this.conciergeForwarder = conciergeForwarder;
         this.propsFactory = propsFactory;
         final DittoConnectivityCommandValidator dittoCommandValidator =
@@ -200,12 +205,15 @@ public final class ConnectionActor extends AbstractPersistentActor {
      *
      * @param connectionId the connection ID.
      * @param pubSubMediator Akka pub-sub mediator.
+     * @param eventDispatcher the event dispatcher to subscribe for Thing events with or {@code null} to subscribe
+     * via the pub-sub mediator.
      * @param conciergeForwarder proxy of concierge service.
      * @param propsFactory factory of props of client actors for various protocols.
      * @return the Akka configuration Props object
      */
     public static Props props(final String connectionId,
             final ActorRef pubSubMediator,
+            @Nullable final ActorRef eventDispatcher,
             final ActorRef conciergeForwarder,
             final ClientActorPropsFactory propsFactory,
             @Nullable final Consumer<ConnectivityCommand<?>> commandValidator) {
@@ -215,8 +223,8 @@ public final class ConnectionActor extends AbstractPersistentActor {
 
             @Override
             public ConnectionActor create() {
-                return new ConnectionActor(connectionId, pubSubMediator, conciergeForwarder, propsFactory,
-                        commandValidator);
+                return new ConnectionActor(connectionId, pubSubMediator, eventDispatcher, conciergeForwarder,
+                        propsFactory, commandValidator);
             }
         });
     }
@@ -769,24 +777,44 @@ public final class ConnectionActor extends AbstractPersistentActor {
                 .collect(Collectors.toSet());
 
         forEachPubSubTopicDo(pubSubTopic -> {
-            final DistributedPubSubMediator.Subscribe subscribe =
-                    new DistributedPubSubMediator.Subscribe(pubSubTopic, PUB_SUB_GROUP_PREFIX + connectionId,
-                            getSelf());
-            log.debug("Subscribing to pub-sub topic <{}> for connection <{}>.", pubSubTopic, connectionId);
-            pubSubMediator.tell(subscribe, getSelf());
+            if (isDispatchedTopic(pubSubTopic)) {
+                final EventInterest interest = EventInterest.union(connection.getTargets().stream()
+                        .flatMap(target -> target.getTopics().stream()
+                                .filter(filteredTopic -> Topic.TWIN_EVENTS == filteredTopic.getTopic())
+                                .map(filteredTopic -> EventInterest.of(filteredTopic.getNamespaces(),
+                                        target.getAuthorizationContext().getAuthorizationSubjectIds())))
+                        .collect(Collectors.toList()));
+                log.debug("Subscribing to event dispatcher with <{}> for connection <{}>.", interest, connectionId);
+                eventDispatcher.tell(new EventDispatcherActor.SubscribeForEvents(interest), getSelf());
+            } else {
+                final DistributedPubSubMediator.Subscribe subscribe =
+                        new DistributedPubSubMediator.Subscribe(pubSubTopic, PUB_SUB_GROUP_PREFIX + connectionId,
+                                getSelf());
+                log.debug("Subscribing to pub-sub topic <{}> for connection <{}>.", pubSubTopic, connectionId);
+                pubSubMediator.tell(subscribe, getSelf());
+            }
         });
     }
 
     private void unsubscribeFromEvents() {
         forEachPubSubTopicDo(pubSubTopic -> {
-            log.debug("Unsubscribing from pub-sub topic <{}> for connection <{}>.", pubSubTopic, connectionId);
-            final DistributedPubSubMediator.Unsubscribe unsubscribe =
-                    new DistributedPubSubMediator.Unsubscribe(pubSubTopic, PUB_SUB_GROUP_PREFIX + connectionId,
-                            getSelf());
-            pubSubMediator.tell(unsubscribe, getSelf());
+            if (isDispatchedTopic(pubSubTopic)) {
+                log.debug("Unsubscribing from event dispatcher for connection <{}>.", connectionId);
+                eventDispatcher.tell(EventDispatcherActor.UnsubscribeFromEvents.getInstance(), getSelf());
+            } else {
+                log.debug("Unsubscribing from pub-sub topic <{}> for connection <{}>.", pubSubTopic, connectionId);
+                final DistributedPubSubMediator.Unsubscribe unsubscribe =
+                        new DistributedPubSubMediator.Unsubscribe(pubSubTopic, PUB_SUB_GROUP_PREFIX + connectionId,
+                                getSelf());
+                pubSubMediator.tell(unsubscribe, getSelf());
+            }
         });
     }
 
+    private boolean isDispatchedTopic(final String pubSubTopic) {
+        return null != eventDispatcher && Topic.TWIN_EVENTS.getPubSubTopic().equals(pubSubTopic);
+    }
+
     private void forEachPubSubTopicDo(final Consumer<String> topicConsumer) {
         uniqueTopics.stream()
                 .map(Topic::getPubSubTopic)
@@ -69,6 +69,7 @@ public final class ConnectionSupervisorActor extends AbstractActor {
             final Duration maxBackoff,
             final double randomFactor,
             final ActorRef pubSubMediator,
+            @Nullable final ActorRef eventDispatcher,
             final ActorRef conciergeForwarder,
             final ClientActorPropsFactory propsFactory,
             @Nullable final ConnectivityCommandInterceptor commandValidator) {
@@ -82,7 +83,8 @@ public final class ConnectionSupervisorActor extends AbstractActor {
         this.maxBackoff = maxBackoff;
         this.randomFactor = randomFactor;
         this.persistenceActorProps =
-                ConnectionActor.props(connectionId, pubSubMediator, conciergeForwarder, propsFactory, commandValidator);
+                ConnectionActor.props(connectionId, pubSubMediator, eventDispatcher, conciergeForwarder, propsFactory,
+                        commandValidator);
     }
 
     /**
@@ -98,6 +100,8 @@ public final class ConnectionSupervisorActor extends AbstractActor {
      * is added, e.g. `0.2` adds up to `20%` delay. In order to skip this additional delay pass in `0`.
      * for accessing the connection cache in cluster.
      * @param pubSubMediator the PubSub mediator actor.
+     * @param eventDispatcher the event dispatcher to subscribe for Thing events with or {@code null} to subscribe via
+     * the PubSub mediator.
      * @param conciergeForwarder the actor used to send signals to the concierge service.
      * @param propsFactory the {@link ClientActorPropsFactory}
      * @param commandValidator a custom command validator for connectivity commands
@@ -107,6 +111,7 @@ public final class ConnectionSupervisorActor extends AbstractActor {
             final Duration maxBackoff,
             final double randomFactor,
             final ActorRef pubSubMediator,
+            @Nullable final ActorRef eventDispatcher,
             final ActorRef conciergeForwarder,
             final ClientActorPropsFactory propsFactory,
             @Nullable final ConnectivityCommandInterceptor commandValidator) {
@@ -124,8 +129,8 @@ public final class ConnectionSupervisorActor extends AbstractActor {
                         .match(ActorKilledException.class, e -> SupervisorStrategy.stop())
                         .matchAny(e -> SupervisorStrategy.escalate())
                         .build()),
-                        minBackoff, maxBackoff, randomFactor, pubSubMediator, conciergeForwarder, propsFactory,
-                        commandValidator);
+                        minBackoff, maxBackoff, randomFactor, pubSubMediator, eventDispatcher, conciergeForwarder,
+                        propsFactory, commandValidator);
             }
         });
     }
@@ -33,6 +33,7 @@ import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.services.utils.protocol.ProtocolConfigReader;
+import org.eclipse.ditto.services.utils.protocol.SignalRepresentationCache;
 import org.eclipse.ditto.services.utils.tracing.TracingTags;
 import org.eclipse.ditto.signals.base.Signal;
 
@@ -118,7 +119,9 @@ public final class MessageMappingProcessor {
     public Optional<ExternalMessage> process(final Signal<?> signal) {
         final StartedTimer overAllProcessingTimer = startNewTimer().tag(DIRECTION_TAG_NAME, OUTBOUND);
         return withTimer(overAllProcessingTimer,
-                () -> convertToExternalMessage(() -> protocolAdapter.toAdaptable(signal), overAllProcessingTimer));
+                () -> convertToExternalMessage(
+                        () -> SignalRepresentationCache.getInstance().adaptableOf(signal, protocolAdapter),
+                        overAllProcessingTimer));
     }
 
     private Optional<Signal<?>> convertMessage(final ExternalMessage message,
@@ -36,7 +36,10 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.DittoHeadersBuilder;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
+import org.eclipse.ditto.services.connectivity.messaging.internal.MessageAcknowledgement;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.hotentities.HotEntities;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.services.utils.tracing.TraceUtils;
 import org.eclipse.ditto.services.utils.tracing.TracingTags;
@@ -120,6 +123,7 @@ public final class MessageMappingProcessorActor extends AbstractActor {
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(ExternalMessage.class, this::handle)
+                .match(AcknowledgeableMessage.class, this::handleAcknowledgeable)
                 .match(CommandResponse.class, this::handleCommandResponse)
                 .match(OutboundSignal.class, this::handleOutboundSignal)
                 .match(Signal.class, this::handleSignal)
@@ -132,8 +136,18 @@ public final class MessageMappingProcessorActor extends AbstractActor {
                 }).build();
     }
 
-    private void handle(final ExternalMessage externalMessage) {
+    private void handleAcknowledgeable(final AcknowledgeableMessage acknowledgeableMessage) {
+        final boolean processed = handle(acknowledgeableMessage.getMessage());
+        getSender().tell(new MessageAcknowledgement(acknowledgeableMessage.getDeliveryTag(), processed), getSelf());
+    }
+
+    /*
+     * Returns whether the message was processed, which includes messages that could not be mapped or were rejected
+     * with a DittoRuntimeException, as delivering those again would not change the outcome.
+     */
+    private boolean handle(final ExternalMessage externalMessage) {
         ConditionChecker.checkNotNull(externalMessage);
+        HotEntities.record(HotEntities.CONNECTION_MESSAGES, connectionId);
         final String correlationId = externalMessage.getHeaders().get(DittoHeaderDefinition.CORRELATION_ID.getKey());
         LogUtil.enhanceLogWithCorrelationId(log, correlationId);
         LogUtil.enhanceLogWithCustomField(log, BaseClientData.MDC_CONNECTION_ID, connectionId);
@@ -152,10 +166,13 @@ public final class MessageMappingProcessorActor extends AbstractActor {
                         .getType());
                 conciergeForwarder.tell(adjustedSignal, getSelf());
             });
+            return true;
         } catch (final DittoRuntimeException e) {
             handleDittoRuntimeException(e, externalMessage.getHeaders());
+            return true;
         } catch (final Exception e) {
             log.warning("Got <{}> when message was processed: <{}>", e.getClass().getSimpleName(), e.getMessage());
+            return false;
         }
     }
 
@@ -211,6 +228,7 @@ public final class MessageMappingProcessorActor extends AbstractActor {
 
     private void handleOutboundSignal(final OutboundSignal outbound) {
         final Signal<?> signal = outbound.getSource();
+        HotEntities.record(HotEntities.CONNECTION_MESSAGES, connectionId);
         enhanceLogUtil(signal);
         log.debug("Handling outbound signal: {}", signal);
         mapToExternalMessage(signal)
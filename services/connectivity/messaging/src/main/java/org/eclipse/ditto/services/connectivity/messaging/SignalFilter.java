@@ -14,7 +14,9 @@ import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.COMMANDS;
 import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.EVENTS;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -23,6 +25,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.FilteredTopic;
@@ -35,7 +38,9 @@ import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.services.utils.protocol.SignalRepresentationCache;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.base.WithId;
 import org.eclipse.ditto.signals.base.WithThingId;
@@ -45,7 +50,6 @@ import org.eclipse.ditto.signals.commands.messages.MessageCommand;
 import org.eclipse.ditto.signals.commands.messages.MessageCommandResponse;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
-import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 
 /**
  * Filters a set of targets by
@@ -58,9 +62,11 @@ class SignalFilter {
 
     private final Connection connection;
     private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
+    private final Map<String, Predicate<Thing>> filterPredicates;
 
     /**
-     * Constructs a new SignalFilter instance with the given {@code connection}.
+     * Constructs a new SignalFilter instance with the given {@code connection}. The RQL filters of the targets of the
+     * connection are parsed once here instead of for each filtered signal.
      *
      * @param connection the connection to filter the signals on.
      */
@@ -70,6 +76,25 @@ class SignalFilter {
         final ThingsFieldExpressionFactory fieldExpressionFactory =
                 new ModelBasedThingsFieldExpressionFactory();
         queryFilterCriteriaFactory = new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
+        filterPredicates = compileFilters(connection);
+    }
+
+    private Map<String, Predicate<Thing>> compileFilters(final Connection connection) {
+        final Map<String, Predicate<Thing>> predicates = new HashMap<>();
+        connection.getTargets().stream()
+                .flatMap(target -> target.getTopics().stream())
+                .map(FilteredTopic::getFilter)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .forEach(filter -> {
+                    try {
+                        predicates.computeIfAbsent(filter,
+                                f -> ThingPredicateVisitor.apply(parseCriteria(f, DittoHeaders.empty())));
+                    } catch (final DittoRuntimeException e) {
+                        // invalid filters are reported with the headers of the filtered signal, see matchesFilter
+                    }
+                });
+        return predicates;
     }
 
     /**
@@ -81,9 +106,13 @@ class SignalFilter {
      * cannot be mapped to a valid criterion
      */
     Set<Target> filter(final Signal<?> signal) {
+        // the Thing is derived from the event only once for all filtered targets of all connections
+        final Optional<Thing> thing = !filterPredicates.isEmpty() && signal instanceof ThingEvent
+                ? SignalRepresentationCache.getInstance().thingOf((ThingEvent<?>) signal)
+                : Optional.empty();
         return connection.getTargets().stream()
                 .filter(t -> isTargetAuthorized(t, signal)) // this is cheaper, so check this first
-                .filter(t -> isTargetSubscribedForTopic(t, signal))
+                .filter(t -> isTargetSubscribedForTopic(t, signal, thing))
                 .collect(Collectors.toSet());
     }
 
@@ -94,10 +123,11 @@ class SignalFilter {
         return !Collections.disjoint(authorizedReadSubjects, connectionSubjects);
     }
 
-    private boolean isTargetSubscribedForTopic(final Target target, final Signal<?> signal) {
+    private boolean isTargetSubscribedForTopic(final Target target, final Signal<?> signal,
+            final Optional<Thing> thing) {
         return target.getTopics().stream()
                 .filter(applyTopicFilter(signal))
-                .filter(applyRqlFilter(signal))
+                .filter(applyRqlFilter(signal, thing))
                 .anyMatch(applyNamespaceFilter(signal));
     }
 
@@ -105,8 +135,8 @@ class SignalFilter {
         return t -> t.getTopic().equals(topicFromSignal(signal).orElse(null));
     }
 
-    private Predicate<FilteredTopic> applyRqlFilter(final Signal<?> signal) {
-        return t -> !t.hasFilter() || t.getFilter().filter(f -> matchesFilter(f, signal)).isPresent();
+    private Predicate<FilteredTopic> applyRqlFilter(final Signal<?> signal, final Optional<Thing> thing) {
+        return t -> !t.hasFilter() || t.getFilter().filter(f -> matchesFilter(f, signal, thing)).isPresent();
     }
 
     private static Predicate<FilteredTopic> applyNamespaceFilter(final WithId signal) {
@@ -117,15 +147,15 @@ class SignalFilter {
         return withId.getId().split(":", 2)[0];
     }
 
-    private boolean matchesFilter(final String filter, final Signal<?> signal) {
+    private boolean matchesFilter(final String filter, final Signal<?> signal, final Optional<Thing> thing) {
 
         if (signal instanceof ThingEvent) {
 
             // currently only ThingEvents may be filtered
-            return ThingEventToThingConverter.thingEventToThing((ThingEvent) signal)
-                    .filter(thing -> ThingPredicateVisitor.apply(parseCriteria(filter, signal.getDittoHeaders()))
-                            .test(thing)
-                    )
+            final Predicate<Thing> predicate = filterPredicates.get(filter);
+            return thing.filter(null != predicate
+                    ? predicate
+                    : ThingPredicateVisitor.apply(parseCriteria(filter, signal.getDittoHeaders())))
                     .isPresent();
         } else {
             return true;
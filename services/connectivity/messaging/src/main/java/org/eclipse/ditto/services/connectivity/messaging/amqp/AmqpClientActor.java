@@ -13,6 +13,7 @@ package org.eclipse.ditto.services.connectivity.messaging.amqp;
 import java.net.URI;
 import java.text.MessageFormat;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -80,7 +81,8 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
 
     @Nullable private JmsConnection jmsConnection;
     @Nullable private Session jmsSession;
-    @Nullable private ActorRef amqpPublisherActor;
+    private final List<ActorRef> amqpPublisherActors;
+    private final List<Session> publisherSessions;
 
     @Nullable private ActorRef testConnectionHandler;
     @Nullable private ActorRef connectConnectionHandler;
@@ -99,6 +101,8 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
         connectionListener = new StatusReportingListener(getSelf(), connection.getId(), log);
         consumers = new LinkedList<>();
         consumerByNamePrefix = new HashMap<>();
+        amqpPublisherActors = new ArrayList<>();
+        publisherSessions = new ArrayList<>();
     }
 
     /*
@@ -227,7 +231,7 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
     protected CompletionStage<Map<String, AddressMetric>> getTargetConnectionStatus(final Target target) {
 
         final CompletionStage<Pair<String, AddressMetric>> targetEntryFuture =
-                retrieveAddressMetric(target.getAddress(), AmqpPublisherActor.ACTOR_NAME, amqpPublisherActor);
+                retrieveAddressMetric(target.getAddress(), AmqpPublisherActor.ACTOR_NAME, amqpPublisherActors);
         return targetEntryFuture
                 .thenApply(targetEntry -> Collections.singletonMap(targetEntry.first(), targetEntry.second()))
                 .handle((result, error) -> {
@@ -296,8 +300,8 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
     }
 
     @Override
-    protected Optional<ActorRef> getPublisherActor() {
-        return Optional.ofNullable(amqpPublisherActor);
+    protected List<ActorRef> getPublisherActors() {
+        return amqpPublisherActors;
     }
 
     @Override
@@ -343,9 +347,21 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
         if (isPublishing()) {
             stopCommandProducer();
             final String namePrefix = AmqpPublisherActor.ACTOR_NAME;
-            if (jmsSession != null) {
-                final Props props = AmqpPublisherActor.props(jmsSession);
-                amqpPublisherActor = startChildActorConflictFree(namePrefix, props);
+            if (jmsSession != null && jmsConnection != null) {
+                amqpPublisherActors.add(startChildActorConflictFree(namePrefix, AmqpPublisherActor.props(jmsSession)));
+                // JMS sessions must not be used concurrently, therefore each further publisher gets its own
+                for (int i = 1; i < publisherCount(); i++) {
+                    try {
+                        final Session publisherSession = jmsConnection.createSession(Session.AUTO_ACKNOWLEDGE);
+                        publisherSessions.add(publisherSession);
+                        amqpPublisherActors.add(startChildActorConflictFree(namePrefix + "-" + i,
+                                AmqpPublisherActor.props(publisherSession)));
+                    } catch (final JMSException e) {
+                        log.warning("Failed to create session for publisher <{}>, continuing with <{}> publishers: {}",
+                                i, amqpPublisherActors.size(), e.getMessage());
+                        break;
+                    }
+                }
             } else {
                 throw new IllegalStateException(
                         "Could not start AmqpPublisherActor due to missing jmsSession or connection");
@@ -356,10 +372,17 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
     }
 
     private void stopCommandProducer() {
-        if (amqpPublisherActor != null) {
-            stopChildActor(amqpPublisherActor);
-            amqpPublisherActor = null;
-        }
+        amqpPublisherActors.forEach(this::stopChildActor);
+        amqpPublisherActors.clear();
+        // the session of the first publisher is the shared jmsSession, which is closed with the connection
+        publisherSessions.forEach(session -> {
+            try {
+                session.close();
+            } catch (final JMSException e) {
+                log.debug("Closing publisher session failed: {}", e.getMessage());
+            }
+        });
+        publisherSessions.clear();
     }
 
     private void stopCommandConsumers() {
@@ -471,11 +494,9 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
                     });
         }
         if (statusReport.getClosedProducer().isPresent()) {
-            if (amqpPublisherActor != null) {
-                final Object message = ConnectivityModelFactory.newAddressMetric(ConnectionStatus.FAILED,
-                        "Producer closed at " + Instant.now(), 0, null);
-                amqpPublisherActor.tell(message, ActorRef.noSender());
-            }
+            final Object message = ConnectivityModelFactory.newAddressMetric(ConnectionStatus.FAILED,
+                    "Producer closed at " + Instant.now(), 0, null);
+            amqpPublisherActors.forEach(publisher -> publisher.tell(message, ActorRef.noSender()));
         }
         return stay().using(data);
     }
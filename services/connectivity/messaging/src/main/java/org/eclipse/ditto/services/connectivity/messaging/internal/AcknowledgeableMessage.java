@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.internal;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.connectivity.ExternalMessage;
+
+/**
+ * Actor message wrapping a consumed {@link ExternalMessage} whose delivery is acknowledged to the broker only after
+ * the message was processed. The processor answers with a {@link MessageAcknowledgement} carrying the same delivery
+ * tag.
+ */
+@Immutable
+public final class AcknowledgeableMessage {
+
+    private final ExternalMessage message;
+    private final long deliveryTag;
+
+    /**
+     * Creates a new {@code AcknowledgeableMessage}.
+     *
+     * @param message the consumed message.
+     * @param deliveryTag the tag identifying the delivery of the message at the broker.
+     * @throws NullPointerException if {@code message} is {@code null}.
+     */
+    public AcknowledgeableMessage(final ExternalMessage message, final long deliveryTag) {
+        this.message = checkNotNull(message, "message");
+        this.deliveryTag = deliveryTag;
+    }
+
+    /**
+     * @return the consumed message.
+     */
+    public ExternalMessage getMessage() {
+        return message;
+    }
+
+    /**
+     * @return the tag identifying the delivery of the message at the broker.
+     */
+    public long getDeliveryTag() {
+        return deliveryTag;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "message=" + message +
+                ", deliveryTag=" + deliveryTag +
+                "]";
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.internal;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Answer to an {@link AcknowledgeableMessage} telling whether the message was processed and may be acknowledged to
+ * the broker, or whether processing failed unexpectedly and the message should be delivered again.
+ */
+@Immutable
+public final class MessageAcknowledgement {
+
+    private final long deliveryTag;
+    private final boolean processed;
+
+    /**
+     * Creates a new {@code MessageAcknowledgement}.
+     *
+     * @param deliveryTag the delivery tag of the acknowledged message.
+     * @param processed whether the message was processed.
+     */
+    public MessageAcknowledgement(final long deliveryTag, final boolean processed) {
+        this.deliveryTag = deliveryTag;
+        this.processed = processed;
+    }
+
+    /**
+     * @return the delivery tag of the acknowledged message.
+     */
+    public long getDeliveryTag() {
+        return deliveryTag;
+    }
+
+    /**
+     * @return whether the message was processed.
+     */
+    public boolean isProcessed() {
+        return processed;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "deliveryTag=" + deliveryTag +
+                ", processed=" + processed +
+                "]";
+    }
+
+}
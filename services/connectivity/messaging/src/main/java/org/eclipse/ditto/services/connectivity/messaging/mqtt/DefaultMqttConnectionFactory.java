@@ -24,6 +24,7 @@ import akka.stream.alpakka.mqtt.MqttConnectionSettings;
 import akka.stream.alpakka.mqtt.MqttMessage;
 import akka.stream.alpakka.mqtt.MqttQoS;
 import akka.stream.alpakka.mqtt.MqttSourceSettings;
+import akka.stream.alpakka.mqtt.javadsl.MqttCommittableMessage;
 import akka.stream.alpakka.mqtt.javadsl.MqttSink;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
@@ -49,17 +50,18 @@ final class DefaultMqttConnectionFactory implements MqttConnectionFactory {
     }
 
     @Override
-    public Source<MqttMessage, CompletionStage<Done>> newSource(final MqttSource mqttSource, final int bufferSize) {
+    public Source<MqttCommittableMessage, CompletionStage<Done>> newSource(final MqttSource mqttSource,
+            final int bufferSize) {
         final String clientId = connectionId() + "-source" + mqttSource.getIndex();
         final MqttSourceSettings sourceSettings =
                 MqttSourceSettings.create(settings.withClientId(clientId))
                         .withSubscriptions(getSubscriptions(mqttSource));
-        return akka.stream.alpakka.mqtt.javadsl.MqttSource.atMostOnce(sourceSettings, bufferSize);
+        return akka.stream.alpakka.mqtt.javadsl.MqttSource.atLeastOnce(sourceSettings, bufferSize);
     }
 
     @Override
-    public Sink<MqttMessage, CompletionStage<Done>> newSink() {
-        final String clientId = connectionId() + "-publisher";
+    public Sink<MqttMessage, CompletionStage<Done>> newSink(final int publisherIndex) {
+        final String clientId = connectionId() + "-publisher" + (publisherIndex == 0 ? "" : publisherIndex);
         return MqttSink.create(settings.withClientId(clientId), MqttQoS.atMostOnce());
     }
 
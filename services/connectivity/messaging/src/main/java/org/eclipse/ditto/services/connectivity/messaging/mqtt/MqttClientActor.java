@@ -10,13 +10,14 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.mqtt;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -41,6 +42,7 @@ import org.eclipse.ditto.services.connectivity.messaging.internal.ClientDisconne
 import org.eclipse.ditto.services.connectivity.messaging.internal.ConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
 import org.eclipse.ditto.services.connectivity.util.ConnectionConfigReader;
+import org.eclipse.ditto.services.connectivity.util.MqttConfigReader;
 
 import akka.Done;
 import akka.NotUsed;
@@ -57,7 +59,7 @@ import akka.stream.Outlet;
 import akka.stream.SharedKillSwitch;
 import akka.stream.SinkShape;
 import akka.stream.UniformFanOutShape;
-import akka.stream.alpakka.mqtt.MqttMessage;
+import akka.stream.alpakka.mqtt.javadsl.MqttCommittableMessage;
 import akka.stream.javadsl.Balance;
 import akka.stream.javadsl.GraphDSL;
 import akka.stream.javadsl.Keep;
@@ -70,12 +72,13 @@ import scala.util.Either;
 public class MqttClientActor extends BaseClientActor {
 
     private SharedKillSwitch consumerKillSwitch;
-    private ActorRef mqttPublisherActor;
+    private final List<ActorRef> mqttPublisherActors;
 
     private final Map<String, ActorRef> consumerByActorNameWithIndex;
     private final Set<ActorRef> pendingStatusReportsFromStreams;
     private final BiFunction<Connection, DittoHeaders, MqttConnectionFactory> connectionFactoryCreator;
     private final int sourceBufferSize;
+    private final int maxInFlight;
 
     private CompletableFuture<Status.Status> testConnectionFuture = null;
 
@@ -94,10 +97,12 @@ public class MqttClientActor extends BaseClientActor {
         super(connection, desiredConnectionStatus, conciergeForwarder);
         this.connectionFactoryCreator = connectionFactoryCreator;
         consumerByActorNameWithIndex = new HashMap<>();
+        mqttPublisherActors = new ArrayList<>();
         pendingStatusReportsFromStreams = new HashSet<>();
-        sourceBufferSize = ConnectionConfigReader.fromRawConfig(getContext().system().settings().config())
-                .mqtt()
-                .sourceBufferSize();
+        final MqttConfigReader mqttConfigReader =
+                ConnectionConfigReader.fromRawConfig(getContext().system().settings().config()).mqtt();
+        sourceBufferSize = mqttConfigReader.sourceBufferSize();
+        maxInFlight = mqttConfigReader.maxInFlight();
     }
 
     /**
@@ -170,8 +175,8 @@ public class MqttClientActor extends BaseClientActor {
     }
 
     @Override
-    protected Optional<ActorRef> getPublisherActor() {
-        return Optional.ofNullable(mqttPublisherActor);
+    protected List<ActorRef> getPublisherActors() {
+        return mqttPublisherActors;
     }
 
     @Override
@@ -200,8 +205,7 @@ public class MqttClientActor extends BaseClientActor {
     @Override
     protected CompletionStage<Map<String, AddressMetric>> getTargetConnectionStatus(final Target target) {
         final CompletionStage<Pair<String, AddressMetric>> targetEntryFuture =
-                retrieveAddressMetric(target.getAddress(), MqttPublisherActor.ACTOR_NAME,
-                        getPublisherActor().orElse(null));
+                retrieveAddressMetric(target.getAddress(), MqttPublisherActor.ACTOR_NAME, mqttPublisherActors);
 
         return targetEntryFuture.thenApply(targetEntry ->
                 Collections.singletonMap(targetEntry.first(), targetEntry.second()));
@@ -241,12 +245,17 @@ public class MqttClientActor extends BaseClientActor {
     }
 
     private void startMqttPublisher(final MqttConnectionFactory factory, final boolean dryRun) {
-        log.info("Starting MQTT publisher actor.");
+        log.info("Starting MQTT publisher actors.");
         // ensure no previous publisher stays in memory
         stopMqttPublisher();
-        mqttPublisherActor = startChildActorConflictFree(MqttPublisherActor.ACTOR_NAME,
-                MqttPublisherActor.props(factory, getSelf(), dryRun));
-        pendingStatusReportsFromStreams.add(mqttPublisherActor);
+        // each publisher publishes with its own MQTT client
+        for (int i = 0; i < publisherCount(); i++) {
+            final String name = i == 0 ? MqttPublisherActor.ACTOR_NAME : MqttPublisherActor.ACTOR_NAME + "-" + i;
+            final ActorRef mqttPublisherActor =
+                    startChildActorConflictFree(name, MqttPublisherActor.props(factory, getSelf(), dryRun, i));
+            mqttPublisherActors.add(mqttPublisherActor);
+            pendingStatusReportsFromStreams.add(mqttPublisherActor);
+        }
     }
 
     private void startMqttConsumers(final MqttConnectionFactory factory,
@@ -267,6 +276,9 @@ public class MqttClientActor extends BaseClientActor {
         final org.eclipse.ditto.model.connectivity.MqttSource mqttSource =
                 (org.eclipse.ditto.model.connectivity.MqttSource) source;
 
+        // the consumers defer the demand of the stream while their share of the in-flight messages is being mapped
+        final int maxInFlightPerConsumer = Math.max(1, maxInFlight / source.getConsumerCount());
+
         for (int i = 0; i < source.getConsumerCount(); i++) {
 
             log.debug("Starting {}. consumer actor for source <{}> on connection <{}>.", i, source.getIndex(),
@@ -277,17 +289,18 @@ public class MqttClientActor extends BaseClientActor {
 
             final Props mqttConsumerActorProps =
                     MqttConsumerActor.props(messageMappingProcessorActor, source.getAuthorizationContext(),
-                            mqttSource.getFilters(), dryRun);
+                            mqttSource.getFilters(), dryRun, factory.connectionId(), uniqueSuffix,
+                            maxInFlightPerConsumer);
             final ActorRef mqttConsumerActor = startChildActorConflictFree(actorNamePrefix, mqttConsumerActorProps);
 
             consumerByActorNameWithIndex.put(actorNamePrefix, mqttConsumerActor);
         }
 
         // failover implemented by factory
-        final akka.stream.javadsl.Source<MqttMessage, CompletionStage<Done>> mqttStreamSource =
+        final akka.stream.javadsl.Source<MqttCommittableMessage, CompletionStage<Done>> mqttStreamSource =
                 factory.newSource(mqttSource, sourceBufferSize);
 
-        final Graph<SinkShape<MqttMessage>, NotUsed> consumerLoadBalancer =
+        final Graph<SinkShape<MqttCommittableMessage>, NotUsed> consumerLoadBalancer =
                 createConsumerLoadBalancer(consumerByActorNameWithIndex.values());
 
         final CompletionStage<Done> subscriptionInitialized =
@@ -345,10 +358,8 @@ public class MqttClientActor extends BaseClientActor {
     }
 
     private void stopMqttPublisher() {
-        if (mqttPublisherActor != null) {
-            stopChildActor(mqttPublisherActor);
-            mqttPublisherActor = null;
-        }
+        mqttPublisherActors.forEach(this::stopChildActor);
+        mqttPublisherActors.clear();
     }
 
     private void stopCommandConsumers() {
@@ -18,6 +18,7 @@ import org.eclipse.ditto.model.connectivity.MqttSource;
 
 import akka.Done;
 import akka.stream.alpakka.mqtt.MqttMessage;
+import akka.stream.alpakka.mqtt.javadsl.MqttCommittableMessage;
 import akka.stream.javadsl.Source;
 
 /**
@@ -33,20 +34,23 @@ public interface MqttConnectionFactory {
     String connectionId();
 
     /**
-     * Create an Akka stream source of MQTT messages.
+     * Create an Akka stream source of MQTT messages which are acknowledged to the broker only when they are
+     * committed.
      *
      * @param mqttSource Connection source containing topics to subscribe to.
      * @param bufferSize maximum number of messages to keep for QoS 1 and 2.
      * @return Akka stream source that emits MQTT messages from the broker.
      */
-    Source<MqttMessage, CompletionStage<Done>> newSource(final MqttSource mqttSource, final int bufferSize);
+    Source<MqttCommittableMessage, CompletionStage<Done>> newSource(final MqttSource mqttSource,
+            final int bufferSize);
 
     /**
      * Create an Akka stream sink of MQTT messages.
      *
+     * @param publisherIndex index of the publisher within the connection, each publisher needs its own client ID.
      * @return Akka stream sink that publishes MQTT messages to the broker.
      */
-    akka.stream.javadsl.Sink<MqttMessage, CompletionStage<Done>> newSink();
+    akka.stream.javadsl.Sink<MqttMessage, CompletionStage<Done>> newSink(final int publisherIndex);
 
     /**
      * Create a default MQTT connection factory.
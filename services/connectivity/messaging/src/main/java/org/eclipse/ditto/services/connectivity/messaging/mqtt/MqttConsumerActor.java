@@ -14,6 +14,7 @@ import static org.eclipse.ditto.services.connectivity.messaging.mqtt.MqttClientA
 
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -25,8 +26,12 @@ import org.eclipse.ditto.model.connectivity.ConnectionStatus;
 import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.ExternalMessage;
 import org.eclipse.ditto.model.connectivity.ThingIdEnforcement;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
+import org.eclipse.ditto.services.connectivity.messaging.internal.MessageAcknowledgement;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressMetric;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -34,10 +39,21 @@ import akka.actor.Props;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.Creator;
 import akka.stream.alpakka.mqtt.MqttMessage;
+import akka.stream.alpakka.mqtt.javadsl.MqttCommittableMessage;
 
+/**
+ * Actor which receives the messages of an MQTT source stream and forwards them to a
+ * {@code MessageMappingProcessorActor}. At most {@code maxInFlight} messages are being mapped at the same time: the
+ * stream element is only acknowledged to the stream when the number of messages in flight is below that limit, else
+ * when the mapping of a message finished. MQTT messages are committed, i.e. acknowledged to the broker for QoS 1 and 2,
+ * only after they were processed. As MQTT has no negative acknowledgement, messages whose processing failed are
+ * committed as well; otherwise they would occupy the in-flight window of the client until it reconnects.
+ */
 public class MqttConsumerActor extends AbstractActor {
 
     static final String ACTOR_NAME_PREFIX = "mqttConsumer-";
+
+    private static final String IN_FLIGHT_GAUGE = "connectivity_mqtt_messages_in_flight";
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
     private final ActorRef messageMappingProcessor;
     private final AuthorizationContext sourceAuthorizationContext;
@@ -48,43 +64,79 @@ public class MqttConsumerActor extends AbstractActor {
     private final AddressMetric addressMetric;
     private final ActorRef deadLetters;
     private final boolean dryRun;
+    private final int maxInFlight;
+    private final Map<Long, MqttCommittableMessage> inFlight;
+    private final Gauge inFlightGauge;
+
+    private long nextDeliveryTag = 0L;
+    @Nullable private ActorRef deferredStreamAck = null;
 
     private MqttConsumerActor(final ActorRef messageMappingProcessor,
             final AuthorizationContext sourceAuthorizationContext,
             final Set<String> enforcementFilters,
-            final boolean dryRun) {
+            final boolean dryRun,
+            final String connectionId,
+            final String consumerId,
+            final int maxInFlight) {
         this.messageMappingProcessor = messageMappingProcessor;
         this.sourceAuthorizationContext = sourceAuthorizationContext;
         this.enforcementFilters = enforcementFilters;
         this.dryRun = dryRun;
+        this.maxInFlight = maxInFlight;
         addressMetric =
                 ConnectivityModelFactory.newAddressMetric(ConnectionStatus.OPEN, "Started at " + Instant.now(),
                         0, null);
         deadLetters = getContext().system().deadLetters();
+        inFlight = new HashMap<>();
+        inFlightGauge = DittoMetrics.gauge(IN_FLIGHT_GAUGE)
+                .tag("connection", connectionId)
+                .tag("consumer", consumerId);
     }
 
+    /**
+     * Creates Akka configuration object {@link Props} for this {@code MqttConsumerActor}.
+     *
+     * @param messageMappingProcessor the message mapping processor where received messages are forwarded to
+     * @param sourceAuthorizationContext the authorization context of the source
+     * @param enforcementFilters the filters the topics of the messages are enforced with
+     * @param dryRun whether messages are dropped instead of being forwarded
+     * @param connectionId the ID of the connection
+     * @param consumerId the ID of this consumer within the connection
+     * @param maxInFlight the maximum number of messages being mapped at the same time
+     * @return the Akka configuration Props object.
+     */
     static Props props(final ActorRef messageMappingProcessor,
             final AuthorizationContext sourceAuthorizationContext,
             final Set<String> enforcementFilters,
-            final boolean dryRun) {
+            final boolean dryRun,
+            final String connectionId,
+            final String consumerId,
+            final int maxInFlight) {
         return Props.create(MqttConsumerActor.class, new Creator<MqttConsumerActor>() {
             private static final long serialVersionUID = 1L;
 
             @Override
             public MqttConsumerActor create() {
                 return new MqttConsumerActor(messageMappingProcessor, sourceAuthorizationContext, enforcementFilters,
-                        dryRun);
+                        dryRun, connectionId, consumerId, maxInFlight);
             }
         });
     }
 
+    @Override
+    public void postStop() throws Exception {
+        inFlightGauge.remove();
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         return receiveBuilder()
-                .match(MqttMessage.class, this::isDryRun, message -> {
-                    log.info("Dropping message in dryRun mode: {}", message);
+                .match(MqttCommittableMessage.class, this::isDryRun, message -> {
+                    log.info("Dropping message in dryRun mode: {}", message.message());
                 })
-                .match(MqttMessage.class, message -> {
+                .match(MqttCommittableMessage.class, committableMessage -> {
+                    final MqttMessage message = committableMessage.message();
 
                     log.debug("Received MQTT message on topic {}: {}", message.topic(), message.payload().utf8String());
 
@@ -101,9 +153,20 @@ public class MqttConsumerActor extends AbstractActor {
                     lastMessageConsumedAt = Instant.now();
                     consumedMessages++;
 
-                    messageMappingProcessor.tell(externalMessage, getSelf());
-                    replyStreamAck();
+                    final long deliveryTag = nextDeliveryTag++;
+                    inFlight.put(deliveryTag, committableMessage);
+                    inFlightGauge.set((long) inFlight.size());
+                    messageMappingProcessor.tell(new AcknowledgeableMessage(externalMessage, deliveryTag), getSelf());
+                    if (inFlight.size() < maxInFlight) {
+                        replyStreamAck();
+                    } else {
+                        deferredStreamAck = getSender();
+                    }
                 })
+                .match(MessageAcknowledgement.class, this::handleMessageAcknowledgement)
+                .match(CommitFailed.class, commitFailed ->
+                        log.warning("Failed to acknowledge MQTT message on topic {}: {}", commitFailed.topic,
+                                commitFailed.error.getMessage()))
                 .match(RetrieveAddressMetric.class, ram -> {
                     final AddressMetric addressMetric = ConnectivityModelFactory.newAddressMetric(
                             this.addressMetric != null ? this.addressMetric.getStatus() : ConnectionStatus.UNKNOWN,
@@ -149,8 +212,33 @@ public class MqttConsumerActor extends AbstractActor {
         }
     }
 
+    private void handleMessageAcknowledgement(final MessageAcknowledgement acknowledgement) {
+        final MqttCommittableMessage committableMessage = inFlight.remove(acknowledgement.getDeliveryTag());
+        if (null == committableMessage) {
+            return;
+        }
+        inFlightGauge.set((long) inFlight.size());
+        final String topic = committableMessage.message().topic();
+        if (!acknowledgement.isProcessed()) {
+            log.warning("Dropping MQTT message on topic {} as its processing failed.", topic);
+        }
+        // the callback is not executed by the actor, it must not access the state of the actor
+        final ActorRef self = getSelf();
+        committableMessage.messageArrivedComplete().exceptionally(error -> {
+            self.tell(new CommitFailed(topic, error), ActorRef.noSender());
+            return null;
+        });
+        if (null != deferredStreamAck) {
+            replyStreamAck(deferredStreamAck);
+            deferredStreamAck = null;
+        }
+    }
+
     private void replyStreamAck() {
-        final ActorRef sender = getSender();
+        replyStreamAck(getSender());
+    }
+
+    private void replyStreamAck(final ActorRef sender) {
         // check sender against deadLetters because stream actor terminates itself before waiting for the final ACK
         if (!Objects.equals(sender, deadLetters)) {
             sender.tell(STREAM_ACK, getSelf());
@@ -161,4 +249,19 @@ public class MqttConsumerActor extends AbstractActor {
         return String.format("The MQTT topic ''%s'' of the Ditto protocol message does not match any message filter " +
                 "configured for the connection.", message.topic());
     }
+
+    /**
+     * Message to self telling that an MQTT message could not be committed.
+     */
+    private static final class CommitFailed {
+
+        private final String topic;
+        private final Throwable error;
+
+        private CommitFailed(final String topic, final Throwable error) {
+            this.topic = topic;
+            this.error = error;
+        }
+
+    }
 }
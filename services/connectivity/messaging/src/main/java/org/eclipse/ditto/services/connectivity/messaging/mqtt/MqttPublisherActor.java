@@ -56,11 +56,11 @@ public class MqttPublisherActor extends BasePublisherActor<MqttPublishTarget> {
     private final boolean dryRun;
 
     private MqttPublisherActor(final MqttConnectionFactory factory, final ActorRef mqttClientActor,
-            final boolean dryRun) {
+            final boolean dryRun, final int publisherIndex) {
         this.mqttClientActor = mqttClientActor;
         this.dryRun = dryRun;
 
-        final Sink<MqttMessage, CompletionStage<Done>> mqttSink = factory.newSink();
+        final Sink<MqttMessage, CompletionStage<Done>> mqttSink = factory.newSink(publisherIndex);
 
         final Pair<ActorRef, CompletionStage<Done>> materializedValues =
                 akka.stream.javadsl.Source.<MqttMessage>actorRef(100, OverflowStrategy.dropHead())
@@ -77,13 +77,14 @@ public class MqttPublisherActor extends BasePublisherActor<MqttPublishTarget> {
                         0, null);
     }
 
-    static Props props(final MqttConnectionFactory factory, final ActorRef mqttClientActor, final boolean dryRun) {
+    static Props props(final MqttConnectionFactory factory, final ActorRef mqttClientActor, final boolean dryRun,
+            final int publisherIndex) {
         return Props.create(MqttPublisherActor.class, new Creator<MqttPublisherActor>() {
             private static final long serialVersionUID = 1L;
 
             @Override
             public MqttPublisherActor create() {
-                return new MqttPublisherActor(factory, mqttClientActor, dryRun);
+                return new MqttPublisherActor(factory, mqttClientActor, dryRun, publisherIndex);
             }
         });
     }
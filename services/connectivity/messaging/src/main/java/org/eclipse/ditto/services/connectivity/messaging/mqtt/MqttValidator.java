@@ -30,6 +30,7 @@ import org.eclipse.ditto.model.connectivity.MqttSource;
 import org.eclipse.ditto.model.connectivity.MqttTarget;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.PlaceholderFilter;
 import org.eclipse.ditto.services.connectivity.messaging.validation.AbstractProtocolValidator;
 import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
@@ -71,6 +72,7 @@ public final class MqttValidator extends AbstractProtocolValidator {
         validateAddresses(connection, dittoHeaders);
         validateSourceConfigs(connection, dittoHeaders);
         validateTargetConfigs(connection, dittoHeaders);
+        validateIntegerConfigs(connection, dittoHeaders, 1, BaseClientActor.PUBLISHER_COUNT);
     }
 
 
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -75,9 +76,20 @@ public final class RabbitMQClientActor extends BaseClientActor {
     private static final String PUBLISHER_CHANNEL = "publisher-channel";
     private static final String CONSUMER_ACTOR_PREFIX = "consumer-";
 
+    /**
+     * Key of the specific config telling whether consumed messages are acknowledged only after they were mapped and
+     * passed on, instead of right when they were received.
+     */
+    static final String ACKNOWLEDGE_AFTER_MAPPING = "acknowledgeAfterMapping";
+
+    /**
+     * Key of the specific config setting the maximum number of unacknowledged messages of the consumer channel.
+     */
+    static final String PREFETCH_COUNT = "prefetchCount";
+
     private final RabbitConnectionFactoryFactory rabbitConnectionFactoryFactory;
     @Nullable private ActorRef rmqConnectionActor;
-    @Nullable private ActorRef rmqPublisherActor;
+    private final List<ActorRef> rmqPublisherActors;
 
     private final Map<String, String> consumedTagsToAddresses;
     private final Map<String, ActorRef> consumerByAddressWithIndex;
@@ -94,6 +106,7 @@ public final class RabbitMQClientActor extends BaseClientActor {
         super(connection, connectionStatus, conciergeForwarder);
 
         this.rabbitConnectionFactoryFactory = rabbitConnectionFactoryFactory;
+        rmqPublisherActors = new ArrayList<>();
         consumedTagsToAddresses = new HashMap<>();
         consumerByAddressWithIndex = new HashMap<>();
     }
@@ -197,15 +210,11 @@ public final class RabbitMQClientActor extends BaseClientActor {
             stopChildActor(rmqConnectionActor);
             rmqConnectionActor = null;
         }
-        if (rmqPublisherActor != null) {
-            stopChildActor(rmqPublisherActor);
-            rmqPublisherActor = null;
-        }
     }
 
     @Override
-    protected Optional<ActorRef> getPublisherActor() {
-        return Optional.ofNullable(rmqPublisherActor);
+    protected List<ActorRef> getPublisherActors() {
+        return rmqPublisherActors;
     }
 
     @Override
@@ -225,7 +234,7 @@ public final class RabbitMQClientActor extends BaseClientActor {
     @Override
     protected CompletionStage<Map<String, AddressMetric>> getTargetConnectionStatus(final Target target) {
         final CompletionStage<Pair<String, AddressMetric>> targetEntryFuture =
-                retrieveAddressMetric(target.getAddress(), RabbitMQPublisherActor.ACTOR_NAME, rmqPublisherActor);
+                retrieveAddressMetric(target.getAddress(), RabbitMQPublisherActor.ACTOR_NAME, rmqPublisherActors);
 
         return targetEntryFuture.thenApply(targetEntry ->
                 Collections.singletonMap(targetEntry.first(), targetEntry.second()));
@@ -275,24 +284,18 @@ public final class RabbitMQClientActor extends BaseClientActor {
                         });
                 rmqConnectionActor = startChildActorConflictFree(RMQ_CONNECTION_ACTOR_NAME, props);
 
-                rmqPublisherActor = startRmqPublisherActor().orElse(null);
-
-                // create publisher channel
-                final ActorRef finalRmqPublisherActor = rmqPublisherActor;
-                final CreateChannel createChannel = CreateChannel.apply(
-                        ChannelActor.props((channel, channelActor) -> {
-                            log.info("Did set up publisher channel: {}. Telling the publisher actor the new channel",
-                                    channel);
-                            // provide the new channel to the publisher after the channel was connected (also includes reconnects)
-                            if (finalRmqPublisherActor != null) {
-                                final ChannelCreated channelCreated = new ChannelCreated(channelActor);
-                                finalRmqPublisherActor.tell(channelCreated, channelActor);
-                            }
-                            return null;
-                        }),
-                        Option.apply(PUBLISHER_CHANNEL));
+                rmqPublisherActors.clear();
+                rmqPublisherActors.addAll(startRmqPublisherActors());
 
-                PatternsCS.ask(rmqConnectionActor, createChannel, askTimeoutMillis()).handle((reply, throwable) -> {
+                // create a publisher channel for each publisher
+                final CompletableFuture<?>[] channelsCreated =
+                        IntStream.range(0, Math.max(1, rmqPublisherActors.size()))
+                                .mapToObj(i -> createPublisherChannel(
+                                        i < rmqPublisherActors.size() ? rmqPublisherActors.get(i) : null,
+                                        i == 0 ? PUBLISHER_CHANNEL : PUBLISHER_CHANNEL + "-" + i))
+                                .toArray(CompletableFuture<?>[]::new);
+
+                CompletableFuture.allOf(channelsCreated).handle((reply, throwable) -> {
                     if (throwable != null) {
                         future.complete(new Status.Failure(throwable));
                     } else {
@@ -325,19 +328,45 @@ public final class RabbitMQClientActor extends BaseClientActor {
         }
     }
 
-    private Optional<ActorRef> startRmqPublisherActor() {
+    private CompletableFuture<Object> createPublisherChannel(@Nullable final ActorRef publisherActor,
+            final String channelName) {
+
+        final CreateChannel createChannel = CreateChannel.apply(
+                ChannelActor.props((channel, channelActor) -> {
+                    log.info("Did set up publisher channel: {}. Telling the publisher actor the new channel",
+                            channel);
+                    // provide the new channel to the publisher after the channel was connected (also includes reconnects)
+                    if (publisherActor != null) {
+                        final ChannelCreated channelCreated = new ChannelCreated(channelActor);
+                        publisherActor.tell(channelCreated, channelActor);
+                    }
+                    return null;
+                }),
+                Option.apply(channelName));
+        return PatternsCS.ask(rmqConnectionActor, createChannel, askTimeoutMillis()).toCompletableFuture();
+    }
+
+    private List<ActorRef> startRmqPublisherActors() {
         if (isPublishing()) {
-            return Optional.of(getContext().findChild(RabbitMQPublisherActor.ACTOR_NAME).orElseGet(() -> {
-                final Props publisherProps = RabbitMQPublisherActor.props(getTargetsOrEmptySet());
-                return startChildActorConflictFree(RabbitMQPublisherActor.ACTOR_NAME, publisherProps);
-            }));
+            // each publisher publishes on its own channel as channels must not be used concurrently
+            return IntStream.range(0, publisherCount())
+                    .mapToObj(i -> i == 0
+                            ? RabbitMQPublisherActor.ACTOR_NAME
+                            : RabbitMQPublisherActor.ACTOR_NAME + "-" + i)
+                    .map(name -> getContext().findChild(name).orElseGet(() -> {
+                        final Props publisherProps = RabbitMQPublisherActor.props(connectionId(),
+                                getTargetsOrEmptySet(), connection().getSpecificConfig());
+                        return startChildActorConflictFree(name, publisherProps);
+                    }))
+                    .collect(Collectors.toList());
         } else {
-            return Optional.empty();
+            return Collections.emptyList();
         }
     }
 
     private void stopCommandPublisher() {
-        stopChildActor(RabbitMQPublisherActor.ACTOR_NAME);
+        rmqPublisherActors.forEach(this::stopChildActor);
+        rmqPublisherActors.clear();
     }
 
     private void stopCommandConsumers() {
@@ -356,6 +385,7 @@ public final class RabbitMQClientActor extends BaseClientActor {
     private void startConsumers(final Channel channel) {
         final Optional<ActorRef> messageMappingProcessor = getMessageMappingProcessorActor();
         if (messageMappingProcessor.isPresent()) {
+            final RabbitMQDeliveryAcknowledger acknowledger = configureAcknowledgement(channel);
             getSourcesOrEmptySet().forEach(source ->
                     source.getAddresses().forEach(sourceAddress -> {
                         for (int i = 0; i < source.getConsumerCount(); i++) {
@@ -364,11 +394,11 @@ public final class RabbitMQClientActor extends BaseClientActor {
                             final ActorRef consumer = startChildActorConflictFree(
                                     CONSUMER_ACTOR_PREFIX + addressWithIndex,
                                     RabbitMQConsumerActor.props(sourceAddress, messageMappingProcessor.get(),
-                                            authorizationContext));
+                                            authorizationContext, acknowledger));
                             consumerByAddressWithIndex.put(addressWithIndex, consumer);
                             try {
                                 final String consumerTag = channel.basicConsume(sourceAddress, false,
-                                        new RabbitMQMessageConsumer(consumer, channel));
+                                        new RabbitMQMessageConsumer(consumer, channel, acknowledger));
                                 log.debug("Consuming queue <{}>, consumer tag is <{}>.", addressWithIndex, consumerTag);
                                 consumedTagsToAddresses.put(consumerTag, addressWithIndex);
                             } catch (final IOException e) {
@@ -382,6 +412,26 @@ public final class RabbitMQClientActor extends BaseClientActor {
         }
     }
 
+    @Nullable
+    private RabbitMQDeliveryAcknowledger configureAcknowledgement(final Channel channel) {
+        final Map<String, String> specificConfig = connection().getSpecificConfig();
+        final int prefetchCount = Optional.ofNullable(specificConfig.get(PREFETCH_COUNT))
+                .map(Integer::parseInt)
+                .orElse(0);
+        if (prefetchCount > 0) {
+            try {
+                channel.basicQos(prefetchCount);
+                log.debug("Set prefetch count of consumer channel to <{}>.", prefetchCount);
+            } catch (final IOException e) {
+                log.warning("Failed to set prefetch count <{}>: <{}>", prefetchCount, e.getMessage());
+            }
+        }
+        final boolean acknowledgeAfterMapping = Optional.ofNullable(specificConfig.get(ACKNOWLEDGE_AFTER_MAPPING))
+                .map(Boolean::parseBoolean)
+                .orElse(false);
+        return acknowledgeAfterMapping ? new RabbitMQDeliveryAcknowledger(channel, prefetchCount, log) : null;
+    }
+
     private void ensureQueuesExist(final Channel channel) {
         final Collection<String> missingQueues = new ArrayList<>();
         getSourcesOrEmptySet().forEach(consumer ->
@@ -475,15 +525,20 @@ public final class RabbitMQClientActor extends BaseClientActor {
     private final class RabbitMQMessageConsumer extends DefaultConsumer {
 
         private final ActorRef consumerActor;
+        @Nullable private final RabbitMQDeliveryAcknowledger acknowledger;
 
         /**
          * Constructs a new instance and records its association to the passed-in channel.
          *
          * @param channel the channel to which this consumer is attached
+         * @param acknowledger the acknowledger of processed deliveries or {@code null} if deliveries are acknowledged
+         * when they are received
          */
-        private RabbitMQMessageConsumer(final ActorRef consumerActor, final Channel channel) {
+        private RabbitMQMessageConsumer(final ActorRef consumerActor, final Channel channel,
+                @Nullable final RabbitMQDeliveryAcknowledger acknowledger) {
             super(channel);
             this.consumerActor = consumerActor;
+            this.acknowledger = acknowledger;
             consumerActor.tell(ConnectivityModelFactory.newAddressMetric(ConnectionStatus.OPEN,
                     "Consumer initialized at " + Instant.now(), 0, null), null);
         }
@@ -493,6 +548,13 @@ public final class RabbitMQClientActor extends BaseClientActor {
                 final AMQP.BasicProperties properties, final byte[] body) {
 
             LogUtil.enhanceLogWithCustomField(log, BaseClientData.MDC_CONNECTION_ID, connectionId());
+            if (null != acknowledger) {
+                // the consumer actor settles the delivery once the message mapping processor handled it
+                acknowledger.register(envelope.getDeliveryTag(), envelope.isRedeliver());
+                consumerActor.tell(new Delivery(envelope, properties, body), RabbitMQClientActor.this.getSelf());
+                incrementConsumedMessageCounter();
+                return;
+            }
             try {
                 consumerActor.tell(new Delivery(envelope, properties, body), RabbitMQClientActor.this.getSelf());
             } catch (final Exception e) {
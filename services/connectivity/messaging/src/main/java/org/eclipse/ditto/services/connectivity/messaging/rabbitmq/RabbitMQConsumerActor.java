@@ -34,6 +34,8 @@ import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.ExternalMessage;
 import org.eclipse.ditto.model.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.connectivity.mapping.MessageMappers;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
+import org.eclipse.ditto.services.connectivity.messaging.internal.MessageAcknowledgement;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressMetric;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 
@@ -69,16 +71,18 @@ public final class RabbitMQConsumerActor extends AbstractActor {
     private final String sourceAddress;
     private final ActorRef messageMappingProcessor;
     private final AuthorizationContext authorizationContext;
+    @Nullable private final RabbitMQDeliveryAcknowledger acknowledger;
 
     private long consumedMessages = 0L;
     private Instant lastMessageConsumedAt;
     @Nullable private AddressMetric addressMetric = null;
 
     private RabbitMQConsumerActor(final String sourceAddress, final ActorRef messageMappingProcessor, final
-    AuthorizationContext authorizationContext) {
+    AuthorizationContext authorizationContext, @Nullable final RabbitMQDeliveryAcknowledger acknowledger) {
         this.sourceAddress = checkNotNull(sourceAddress, "source");
         this.messageMappingProcessor = checkNotNull(messageMappingProcessor, "messageMappingProcessor");
         this.authorizationContext = authorizationContext;
+        this.acknowledger = acknowledger;
     }
 
     /**
@@ -87,17 +91,20 @@ public final class RabbitMQConsumerActor extends AbstractActor {
      * @param source the source of messages
      * @param messageMappingProcessor the message mapping processor where received messages are forwarded to
      * @param authorizationContext the authorization context of this source
+     * @param acknowledger the acknowledger to settle deliveries with once they were mapped or {@code null} if
+     * deliveries are acknowledged when they are received
      * @return the Akka configuration Props object.
      */
     static Props props(final String source, final ActorRef messageMappingProcessor, final
-    AuthorizationContext authorizationContext) {
+    AuthorizationContext authorizationContext, @Nullable final RabbitMQDeliveryAcknowledger acknowledger) {
         return Props.create(
                 RabbitMQConsumerActor.class, new Creator<RabbitMQConsumerActor>() {
                     private static final long serialVersionUID = 1L;
 
                     @Override
                     public RabbitMQConsumerActor create() {
-                        return new RabbitMQConsumerActor(source, messageMappingProcessor, authorizationContext);
+                        return new RabbitMQConsumerActor(source, messageMappingProcessor, authorizationContext,
+                                acknowledger);
                     }
                 });
     }
@@ -106,6 +113,7 @@ public final class RabbitMQConsumerActor extends AbstractActor {
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(Delivery.class, this::handleDelivery)
+                .match(MessageAcknowledgement.class, this::handleMessageAcknowledgement)
                 .match(AddressMetric.class, this::handleAddressMetric)
                 .match(RetrieveAddressMetric.class, ram -> {
                     getSender().tell(ConnectivityModelFactory.newAddressMetric(
@@ -119,6 +127,12 @@ public final class RabbitMQConsumerActor extends AbstractActor {
                 }).build();
     }
 
+    private void handleMessageAcknowledgement(final MessageAcknowledgement acknowledgement) {
+        if (null != acknowledger) {
+            acknowledger.settle(acknowledgement.getDeliveryTag(), acknowledgement.isProcessed());
+        }
+    }
+
     private void handleAddressMetric(final AddressMetric addressMetric) {
         this.addressMetric = addressMetric;
     }
@@ -151,9 +165,17 @@ public final class RabbitMQConsumerActor extends AbstractActor {
             }
             externalMessageBuilder.withAuthorizationContext(authorizationContext);
             final ExternalMessage externalMessage = externalMessageBuilder.build();
-            messageMappingProcessor.forward(externalMessage, getContext());
+            if (null != acknowledger) {
+                messageMappingProcessor.tell(new AcknowledgeableMessage(externalMessage, envelope.getDeliveryTag()),
+                        getSelf());
+            } else {
+                messageMappingProcessor.forward(externalMessage, getContext());
+            }
         } catch (final Exception e) {
             log.warning("Processing delivery {} failed: {}", envelope.getDeliveryTag(), e.getMessage(), e);
+            if (null != acknowledger) {
+                acknowledger.settle(envelope.getDeliveryTag(), false);
+            }
         }
     }
 
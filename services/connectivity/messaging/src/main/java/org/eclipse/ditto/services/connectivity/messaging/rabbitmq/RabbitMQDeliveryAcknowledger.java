@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
+
+import java.io.IOException;
+import java.util.NavigableSet;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.rabbitmq.client.AlreadyClosedException;
+import com.rabbitmq.client.Channel;
+
+import akka.event.LoggingAdapter;
+
+/**
+ * Acknowledges the deliveries of one consumer channel after they were processed. Processed deliveries are
+ * acknowledged in batches with {@code multiple=true} up to the oldest delivery still in progress; deliveries whose
+ * processing failed are rejected and requeued once, a second failure of a redelivered message drops it.
+ * <p>
+ * Deliveries are registered by the RabbitMQ consumer thread and settled by the consumer actors, therefore all methods
+ * are synchronized.
+ * </p>
+ */
+@ThreadSafe
+final class RabbitMQDeliveryAcknowledger {
+
+    private final Channel channel;
+    private final int batchSize;
+    private final LoggingAdapter log;
+
+    // delivery tag -> whether the delivery is a redelivery
+    private final SortedMap<Long, Boolean> inProgress;
+    private final NavigableSet<Long> processed;
+
+    /**
+     * Creates a new {@code RabbitMQDeliveryAcknowledger}.
+     *
+     * @param channel the channel the deliveries were received on.
+     * @param prefetchCount the prefetch count of the channel or 0 if unlimited.
+     * @param log the logger to log failed acknowledgements with.
+     */
+    RabbitMQDeliveryAcknowledger(final Channel channel, final int prefetchCount, final LoggingAdapter log) {
+        this.channel = channel;
+        // acknowledge at the latest when half of the prefetch window is processed to keep the broker pushing
+        batchSize = Math.max(1, prefetchCount / 2);
+        this.log = log;
+        inProgress = new TreeMap<>();
+        processed = new TreeSet<>();
+    }
+
+    /**
+     * Registers a delivery which is about to be processed.
+     *
+     * @param deliveryTag the tag of the delivery.
+     * @param redelivered whether the broker delivered the message before.
+     */
+    synchronized void register(final long deliveryTag, final boolean redelivered) {
+        inProgress.put(deliveryTag, redelivered);
+    }
+
+    /**
+     * Settles a registered delivery. Unknown delivery tags, e.g. of a previous channel, are ignored.
+     *
+     * @param deliveryTag the tag of the delivery.
+     * @param successful whether the delivery was processed successfully.
+     */
+    synchronized void settle(final long deliveryTag, final boolean successful) {
+        final Boolean redelivered = inProgress.remove(deliveryTag);
+        if (null == redelivered) {
+            log.debug("Ignoring settlement of unknown delivery <{}>.", deliveryTag);
+        } else if (successful) {
+            processed.add(deliveryTag);
+            acknowledgeProcessed();
+        } else {
+            reject(deliveryTag, !redelivered);
+        }
+    }
+
+    /**
+     * @return the number of registered deliveries which were not yet settled.
+     */
+    synchronized int getInProgressCount() {
+        return inProgress.size();
+    }
+
+    private void acknowledgeProcessed() {
+        if (processed.size() < batchSize && !inProgress.isEmpty()) {
+            return;
+        }
+        final NavigableSet<Long> acknowledgeableAtOnce =
+                inProgress.isEmpty() ? processed : processed.headSet(inProgress.firstKey(), false);
+        if (!acknowledgeableAtOnce.isEmpty()) {
+            acknowledge(acknowledgeableAtOnce.last(), true);
+            acknowledgeableAtOnce.clear();
+        }
+        // deliveries behind one in progress for long must not use up the prefetch window
+        processed.forEach(deliveryTag -> acknowledge(deliveryTag, false));
+        processed.clear();
+    }
+
+    private void acknowledge(final long deliveryTag, final boolean multiple) {
+        try {
+            channel.basicAck(deliveryTag, multiple);
+        } catch (final IOException | AlreadyClosedException e) {
+            log.info("Failed to ack delivery <{}>: {}", deliveryTag, e.getMessage());
+        }
+    }
+
+    private void reject(final long deliveryTag, final boolean requeue) {
+        try {
+            channel.basicNack(deliveryTag, false, requeue);
+        } catch (final IOException | AlreadyClosedException e) {
+            log.info("Failed to nack delivery <{}>: {}", deliveryTag, e.getMessage());
+        }
+    }
+
+}
@@ -13,8 +13,18 @@ package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -31,16 +41,21 @@ import org.eclipse.ditto.services.connectivity.messaging.BasePublisherActor;
 import org.eclipse.ditto.services.connectivity.messaging.OutboundSignal;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressMetric;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 
 import com.newmotion.akka.rabbitmq.ChannelCreated;
 import com.newmotion.akka.rabbitmq.ChannelMessage;
 import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
 
 import akka.actor.ActorRef;
+import akka.actor.Cancellable;
 import akka.actor.Props;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.Creator;
 import akka.japi.pf.ReceiveBuilder;
+import scala.concurrent.duration.FiniteDuration;
 
 /**
  * Responsible for publishing {@link ExternalMessage}s into RabbitMQ / AMQP 0.9.1.
@@ -53,6 +68,17 @@ import akka.japi.pf.ReceiveBuilder;
  * <li>no {@code targets} defined: signals are not published at all</li>
  * <li>{@code address="target/routingKey"}: signals are published to exchange {@code target} with routing key {@code routingKey}</li>
  * </ul>
+ * The following options of the specific config of the {@link Connection} control publishing:
+ * <ul>
+ * <li>{@code publisherConfirms}: whether the broker confirms each published message; only confirmed messages are
+ * counted as published and at most {@code maxOutstandingConfirms} messages are awaiting their confirm at a time,
+ * further messages are held back until confirms arrive; messages which are not confirmed within
+ * {@code publisherConfirmTimeout} milliseconds or were published on a channel which was recreated meanwhile are
+ * published again</li>
+ * <li>{@code maxHeldBackMessages}: the number of messages held back at most, further messages are dropped</li>
+ * <li>{@code publishBatchSize}: the number of messages handed to the channel at once, at the latest after
+ * {@code publishBatchInterval} milliseconds</li>
+ * </ul>
  */
 public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTarget> {
 
@@ -63,40 +89,123 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
 
     private static final String DEFAULT_EXCHANGE = "";
 
+    static final String PUBLISHER_CONFIRMS = "publisherConfirms";
+    static final String MAX_OUTSTANDING_CONFIRMS = "maxOutstandingConfirms";
+    static final String PUBLISHER_CONFIRM_TIMEOUT = "publisherConfirmTimeout";
+    static final String MAX_HELD_BACK_MESSAGES = "maxHeldBackMessages";
+    static final String PUBLISH_BATCH_SIZE = "publishBatchSize";
+    static final String PUBLISH_BATCH_INTERVAL = "publishBatchInterval";
+
+    /**
+     * Name of the counter of messages which could not be published, tagged with the connection and the reason.
+     */
+    static final String LOST_PUBLICATIONS_COUNTER = "connectivity_rabbitmq_publications_lost";
+
+    private static final int DEFAULT_MAX_OUTSTANDING_CONFIRMS = 1000;
+    private static final int DEFAULT_PUBLISHER_CONFIRM_TIMEOUT_MILLIS = 10_000;
+    private static final int DEFAULT_MAX_HELD_BACK_MESSAGES = 10_000;
+    private static final int DEFAULT_PUBLISH_BATCH_INTERVAL_MILLIS = 10;
+    private static final int MAX_PUBLISH_ATTEMPTS = 3;
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+    private final String connectionId;
     private final Set<Target> targets;
+    private final boolean publisherConfirms;
+    private final int maxOutstandingConfirms;
+    private final FiniteDuration confirmTimeout;
+    private final int maxHeldBack;
+    private final int batchSize;
+    private final FiniteDuration batchInterval;
+
+    private final List<Publication> batch;
+    private final Deque<Publication> heldBack;
+    private final Map<Long, FlushedBatch> flushedBatches;
+    private final NavigableMap<Long, SentPublication> unconfirmed;
 
     @Nullable private ActorRef channelActor;
+    @Nullable private Channel confirmChannel;
+    private int outstandingConfirms = 0;
+    private long batchCounter = 0L;
+    @Nullable private Cancellable scheduledFlush;
+    @Nullable private Cancellable confirmTimeoutCheck;
 
     private long publishedMessages = 0L;
     private Instant lastMessagePublishedAt;
+    private long unconfirmedMessages = 0L;
+    @Nullable private Instant lastMessageUnconfirmedAt;
+    private long droppedMessages = 0L;
     @Nullable private AddressMetric addressMetric;
 
-    private RabbitMQPublisherActor(final Set<Target> targets) {
+    private RabbitMQPublisherActor(final String connectionId, final Set<Target> targets,
+            final Map<String, String> specificConfig) {
+        this.connectionId = connectionId;
         this.targets = targets;
+        publisherConfirms = Optional.ofNullable(specificConfig.get(PUBLISHER_CONFIRMS))
+                .map(Boolean::parseBoolean)
+                .orElse(false);
+        // the integer options are validated when the connection is created or modified
+        maxOutstandingConfirms = positiveIntOrDefault(specificConfig, MAX_OUTSTANDING_CONFIRMS,
+                DEFAULT_MAX_OUTSTANDING_CONFIRMS);
+        confirmTimeout = FiniteDuration.apply(positiveIntOrDefault(specificConfig, PUBLISHER_CONFIRM_TIMEOUT,
+                DEFAULT_PUBLISHER_CONFIRM_TIMEOUT_MILLIS), TimeUnit.MILLISECONDS);
+        maxHeldBack = positiveIntOrDefault(specificConfig, MAX_HELD_BACK_MESSAGES, DEFAULT_MAX_HELD_BACK_MESSAGES);
+        batchSize = positiveIntOrDefault(specificConfig, PUBLISH_BATCH_SIZE, 1);
+        batchInterval = FiniteDuration.apply(positiveIntOrDefault(specificConfig, PUBLISH_BATCH_INTERVAL,
+                DEFAULT_PUBLISH_BATCH_INTERVAL_MILLIS), TimeUnit.MILLISECONDS);
+        batch = new ArrayList<>(batchSize);
+        heldBack = new ArrayDeque<>();
+        flushedBatches = new LinkedHashMap<>();
+        unconfirmed = new TreeMap<>();
     }
 
     /**
      * Creates Akka configuration object {@link Props} for this {@code RabbitMQPublisherActor}.
      *
+     * @param connectionId the ID of the connection
      * @param targets the targets to publish to
+     * @param specificConfig the specific config of the connection
      * @return the Akka configuration Props object.
      */
-    static Props props(final Set<Target> targets) {
+    static Props props(final String connectionId, final Set<Target> targets,
+            final Map<String, String> specificConfig) {
         return Props.create(RabbitMQPublisherActor.class, new Creator<RabbitMQPublisherActor>() {
             private static final long serialVersionUID = 1L;
 
             @Override
             public RabbitMQPublisherActor create() {
-                return new RabbitMQPublisherActor(targets);
+                return new RabbitMQPublisherActor(connectionId, targets, specificConfig);
             }
         });
     }
 
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        if (publisherConfirms) {
+            final FiniteDuration checkInterval = confirmTimeout.div(2);
+            confirmTimeoutCheck = getContext().getSystem().scheduler()
+                    .schedule(checkInterval, checkInterval, getSelf(), CheckConfirmTimeouts.INSTANCE,
+                            getContext().dispatcher(), ActorRef.noSender());
+        }
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != scheduledFlush) {
+            scheduledFlush.cancel();
+        }
+        if (null != confirmTimeoutCheck) {
+            confirmTimeoutCheck.cancel();
+        }
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(ChannelCreated.class, channelCreated -> {
+                    // sent again whenever the channel was recreated; confirms are enabled on each new channel by the
+                    // first batch published on it
                     this.channelActor = channelCreated.channel();
                     addressMetric = ConnectivityModelFactory.newAddressMetric(ConnectionStatus.OPEN,
                             "Started at " + Instant.now(), 0, null);
@@ -105,20 +214,21 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
                             .map(t -> toPublishTarget(t.getAddress()))
                             .map(RabbitMQTarget::getExchange)
                             .collect(Collectors.toSet());
+                    final ActorRef self = getSelf();
                     final ChannelMessage channelMessage = ChannelMessage.apply(channel -> {
                         exchanges.forEach(exchange -> {
-                            log.debug("Checking for existence of exchange <{}>", exchange);
                             try {
                                 channel.exchangeDeclarePassive(exchange);
                             } catch (final IOException e) {
-                                log.warning("Failed to declare exchange <{}> passively", exchange);
-                                addressMetric = ConnectivityModelFactory.newAddressMetric(ConnectionStatus.FAILED,
-                                        "Exchange '" + exchange + "' was missing at " + Instant.now(), 0, null);
+                                self.tell(ConnectivityModelFactory.newAddressMetric(ConnectionStatus.FAILED,
+                                        "Exchange '" + exchange + "' was missing at " + Instant.now(), 0, null),
+                                        ActorRef.noSender());
                             }
                         });
                         return null;
                     }, false);
-                    channelCreated.channel().tell(channelMessage, getSelf());
+                    channelCreated.channel().tell(channelMessage, self);
+                    releaseHeldBack();
                 })
                 .match(OutboundSignal.WithExternalMessage.class, this::isResponseOrError, outbound -> {
                     final ExternalMessage response = outbound.getExternalMessage();
@@ -147,12 +257,19 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
                             .map(t -> toPublishTarget(t.getAddress()))
                             .forEach(destination -> publishMessage(destination, message));
                 })
+                .match(PublicationsSent.class, this::handlePublicationsSent)
+                .match(PublicationsFailed.class, this::handlePublicationsFailed)
+                .match(PublicationsConfirmed.class, this::handlePublicationsConfirmed)
+                .match(CheckConfirmTimeouts.class, check -> handleConfirmTimeouts())
+                .match(FlushBatch.class, flush -> {
+                    scheduledFlush = null;
+                    flushBatch();
+                })
                 .match(AddressMetric.class, this::handleAddressMetric)
                 .match(RetrieveAddressMetric.class, ram -> {
                     getSender().tell(ConnectivityModelFactory.newAddressMetric(
                             addressMetric != null ? addressMetric.getStatus() : ConnectionStatus.UNKNOWN,
-                            addressMetric != null ? addressMetric.getStatusDetails().orElse(null) : null,
-                            publishedMessages, lastMessagePublishedAt), getSelf());
+                            statusDetails(), publishedMessages, lastMessagePublishedAt), getSelf());
                 })
                 .matchAny(m -> {
                     log.warning("Unknown message: {}", m);
@@ -165,10 +282,264 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
         return RabbitMQTarget.fromTargetAddress(address);
     }
 
+    private static int positiveIntOrDefault(final Map<String, String> specificConfig, final String key,
+            final int defaultValue) {
+        return Optional.ofNullable(specificConfig.get(key))
+                .map(Integer::parseInt)
+                .filter(value -> value > 0)
+                .orElse(defaultValue);
+    }
+
     private void handleAddressMetric(final AddressMetric addressMetric) {
+        if (ConnectionStatus.FAILED == addressMetric.getStatus()) {
+            log.warning("Publisher failed: {}", addressMetric.getStatusDetails().orElse(null));
+        }
         this.addressMetric = addressMetric;
     }
 
+    @Nullable
+    private String statusDetails() {
+        String details = addressMetric != null ? addressMetric.getStatusDetails().orElse(null) : null;
+        if (unconfirmedMessages > 0) {
+            details = appendDetails(details, unconfirmedMessages + " messages were not confirmed by the broker, " +
+                    "the last one at " + lastMessageUnconfirmedAt);
+        }
+        if (droppedMessages > 0) {
+            details = appendDetails(details, droppedMessages + " messages were dropped as too many messages were " +
+                    "held back");
+        }
+        return details;
+    }
+
+    private static String appendDetails(@Nullable final String details, final String moreDetails) {
+        return details != null ? details + " - " + moreDetails : moreDetails;
+    }
+
+    private void handlePublicationsSent(final PublicationsSent sent) {
+        if (null == flushedBatches.remove(sent.batchId)) {
+            // the batch timed out before the channel got to it and is published again
+            return;
+        }
+        if (sent.channel != confirmChannel) {
+            // no confirms will arrive for the messages published on a channel which was recreated meanwhile
+            if (!unconfirmed.isEmpty()) {
+                log.warning("Channel was recreated while <{}> messages were awaiting their confirm.",
+                        unconfirmed.size());
+                retry(removeUnconfirmed(unconfirmed), "channel_recreated");
+            }
+            confirmChannel = sent.channel;
+        }
+        final Instant sentAt = Instant.now();
+        for (int i = 0; i < sent.publications.size(); i++) {
+            unconfirmed.put(sent.firstSeqNo + i, new SentPublication(sent.publications.get(i), sentAt));
+        }
+    }
+
+    private void handlePublicationsFailed(final PublicationsFailed failed) {
+        log.warning("Failed to publish <{}> messages to RabbitMQ: {}", failed.count, failed.error);
+        if (!publisherConfirms) {
+            publishedMessages -= failed.count;
+            countLost(failed.count, "publish_failed");
+        } else if (failed.channel == confirmChannel) {
+            // no confirms will arrive for the messages which could not be published
+            retry(removeUnconfirmed(unconfirmed.subMap(failed.firstSeqNo, true, failed.firstSeqNo + failed.count,
+                    false)), "publish_failed");
+        }
+    }
+
+    private void handlePublicationsConfirmed(final PublicationsConfirmed confirmed) {
+        if (confirmed.channel != confirmChannel) {
+            return;
+        }
+        final int count;
+        if (confirmed.multiple) {
+            count = removeUnconfirmed(unconfirmed.headMap(confirmed.seqNo, true)).size();
+        } else {
+            count = null != unconfirmed.remove(confirmed.seqNo) ? 1 : 0;
+            outstandingConfirms -= count;
+        }
+        if (confirmed.ack) {
+            publishedMessages += count;
+            lastMessagePublishedAt = Instant.now();
+        } else {
+            log.warning("Broker did not confirm <{}> published messages.", count);
+            countLost(count, "nack");
+        }
+        releaseHeldBack();
+    }
+
+    private void handleConfirmTimeouts() {
+        final Instant timedOutBefore = Instant.now().minusMillis(confirmTimeout.toMillis());
+        final List<Publication> timedOut = new ArrayList<>();
+        // batches which the channel did not get to, e.g. because it was stopped, are ordered before the sent ones
+        final Iterator<FlushedBatch> batchIterator = flushedBatches.values().iterator();
+        while (batchIterator.hasNext()) {
+            final FlushedBatch flushedBatch = batchIterator.next();
+            if (!flushedBatch.flushedAt.isBefore(timedOutBefore)) {
+                break;
+            }
+            timedOut.addAll(flushedBatch.publications);
+            batchIterator.remove();
+        }
+        final Iterator<SentPublication> iterator = unconfirmed.values().iterator();
+        while (iterator.hasNext()) {
+            final SentPublication sentPublication = iterator.next();
+            if (!sentPublication.sentAt.isBefore(timedOutBefore)) {
+                // the messages are ordered by the time they were sent
+                break;
+            }
+            timedOut.add(sentPublication.publication);
+            iterator.remove();
+        }
+        if (!timedOut.isEmpty()) {
+            log.warning("<{}> published messages were not confirmed within <{}>.", timedOut.size(), confirmTimeout);
+            outstandingConfirms -= timedOut.size();
+            retry(timedOut, "confirm_timeout");
+        }
+    }
+
+    private List<Publication> removeUnconfirmed(final Map<Long, SentPublication> sentPublications) {
+        final List<Publication> removed = new ArrayList<>(sentPublications.size());
+        sentPublications.values().forEach(sentPublication -> removed.add(sentPublication.publication));
+        sentPublications.clear();
+        outstandingConfirms -= removed.size();
+        return removed;
+    }
+
+    private void retry(final List<Publication> publications, final String reason) {
+        // messages are published again ahead of the held back ones, in their original order
+        for (int i = publications.size() - 1; i >= 0; i--) {
+            final Publication publication = publications.get(i);
+            if (publication.attempt < MAX_PUBLISH_ATTEMPTS) {
+                heldBack.addFirst(publication.nextAttempt());
+            } else {
+                countLost(1, reason);
+            }
+        }
+        releaseHeldBack();
+    }
+
+    private void countLost(final int count, final String reason) {
+        if (count > 0) {
+            unconfirmedMessages += count;
+            lastMessageUnconfirmedAt = Instant.now();
+            lostPublicationsCounter(reason).increment(count);
+        }
+    }
+
+    private Counter lostPublicationsCounter(final String reason) {
+        return DittoMetrics.counter(LOST_PUBLICATIONS_COUNTER)
+                .tag("connection", connectionId)
+                .tag("reason", reason);
+    }
+
+    private void releaseHeldBack() {
+        while (!heldBack.isEmpty() && hasConfirmCapacity()) {
+            addToBatch(heldBack.poll());
+        }
+        if (!batch.isEmpty() && null == scheduledFlush) {
+            flushBatch();
+        }
+    }
+
+    private boolean hasConfirmCapacity() {
+        return !publisherConfirms || outstandingConfirms + batch.size() < maxOutstandingConfirms;
+    }
+
+    private void enqueue(final Publication publication) {
+        if (!heldBack.isEmpty() || !hasConfirmCapacity()) {
+            if (heldBack.size() < maxHeldBack) {
+                heldBack.add(publication);
+            } else {
+                log.debug("Dropping message as <{}> messages are held back already.", heldBack.size());
+                droppedMessages++;
+                lostPublicationsCounter("held_back_full").increment();
+            }
+        } else {
+            addToBatch(publication);
+        }
+    }
+
+    private void addToBatch(final Publication publication) {
+        batch.add(publication);
+        if (batch.size() >= batchSize || !hasConfirmCapacity()) {
+            flushBatch();
+        } else if (null == scheduledFlush) {
+            scheduledFlush = getContext().getSystem().scheduler()
+                    .scheduleOnce(batchInterval, getSelf(), FlushBatch.INSTANCE, getContext().dispatcher(),
+                            ActorRef.noSender());
+        }
+    }
+
+    private void flushBatch() {
+        if (null != scheduledFlush) {
+            scheduledFlush.cancel();
+            scheduledFlush = null;
+        }
+        if (batch.isEmpty() || channelActor == null) {
+            return;
+        }
+        final List<Publication> publications = new ArrayList<>(batch);
+        batch.clear();
+        if (!publisherConfirms) {
+            publishedMessages += publications.size();
+            lastMessagePublishedAt = Instant.now();
+        }
+        final long batchId = ++batchCounter;
+        if (publisherConfirms) {
+            outstandingConfirms += publications.size();
+            flushedBatches.put(batchId, new FlushedBatch(publications, Instant.now()));
+        }
+        log.debug("Publishing <{}> messages.", publications.size());
+
+        final boolean confirms = publisherConfirms;
+        final ActorRef self = getSelf();
+        // runs on the thread of the channel: only tells this actor what happened
+        final ChannelMessage channelMessage = ChannelMessage.apply(channel -> {
+            String error = null;
+            if (confirms && channel.getNextPublishSeqNo() == 0L) {
+                // a new channel, also after it was recreated: enable confirms before anything is published on it
+                try {
+                    enableConfirms(channel, self);
+                } catch (final IOException e) {
+                    error = "Failed to enable publisher confirms: " + e.getMessage();
+                }
+            }
+            final long firstSeqNo = channel.getNextPublishSeqNo();
+            if (confirms) {
+                // sequence numbers are assigned consecutively per channel; tell them before the confirms can arrive
+                self.tell(new PublicationsSent(batchId, channel, firstSeqNo, publications), ActorRef.noSender());
+            }
+            int published = 0;
+            while (null == error && published < publications.size()) {
+                final Publication publication = publications.get(published);
+                try {
+                    channel.basicPublish(publication.target.getExchange(), publication.target.getRoutingKey(),
+                            publication.properties, publication.body);
+                    published++;
+                } catch (final Exception e) {
+                    error = e.getMessage();
+                }
+            }
+            if (published < publications.size()) {
+                self.tell(new PublicationsFailed(channel, firstSeqNo + published, publications.size() - published,
+                        error), ActorRef.noSender());
+            }
+            return null;
+        }, false);
+
+        channelActor.tell(channelMessage, self);
+    }
+
+    private static void enableConfirms(final Channel channel, final ActorRef self) throws IOException {
+        channel.confirmSelect();
+        channel.addConfirmListener(
+                (deliveryTag, multiple) -> self.tell(
+                        new PublicationsConfirmed(channel, deliveryTag, multiple, true), ActorRef.noSender()),
+                (deliveryTag, multiple) -> self.tell(
+                        new PublicationsConfirmed(channel, deliveryTag, multiple, false), ActorRef.noSender()));
+    }
+
     private void publishMessage(final RabbitMQTarget rabbitMQTarget, final ExternalMessage message) {
         if (channelActor == null) {
             log.info("No channel available, dropping response.");
@@ -180,9 +551,6 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
             return;
         }
 
-        publishedMessages++;
-        lastMessagePublishedAt = Instant.now();
-
         final String contentType = message.getHeaders().get(ExternalMessage.CONTENT_TYPE_HEADER);
         final String correlationId = message.getHeaders().get(DittoHeaderDefinition.CORRELATION_ID.getKey());
 
@@ -206,19 +574,133 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
                     .orElse(new byte[]{});
         }
 
-        final ChannelMessage channelMessage = ChannelMessage.apply(channel -> {
-            try {
-                log.debug("Publishing to exchange <{}> and routing key <{}>: {}", rabbitMQTarget.getExchange(),
-                        rabbitMQTarget.getRoutingKey(), basicProperties);
-                channel.basicPublish(rabbitMQTarget.getExchange(), rabbitMQTarget.getRoutingKey(), basicProperties,
-                        body);
-            } catch (final Exception e) {
-                log.warning("Failed to publish message to RabbitMQ: {}", e.getMessage());
-            }
-            return null;
-        }, false);
+        enqueue(new Publication(rabbitMQTarget, basicProperties, body, 1));
+    }
+
+    private static final class Publication {
+
+        private final RabbitMQTarget target;
+        private final AMQP.BasicProperties properties;
+        private final byte[] body;
+        private final int attempt;
+
+        private Publication(final RabbitMQTarget target, final AMQP.BasicProperties properties, final byte[] body,
+                final int attempt) {
+            this.target = target;
+            this.properties = properties;
+            this.body = body;
+            this.attempt = attempt;
+        }
+
+        private Publication nextAttempt() {
+            return new Publication(target, properties, body, attempt + 1);
+        }
+
+    }
+
+    private static final class FlushedBatch {
+
+        private final List<Publication> publications;
+        private final Instant flushedAt;
+
+        private FlushedBatch(final List<Publication> publications, final Instant flushedAt) {
+            this.publications = publications;
+            this.flushedAt = flushedAt;
+        }
+
+    }
+
+    private static final class SentPublication {
+
+        private final Publication publication;
+        private final Instant sentAt;
+
+        private SentPublication(final Publication publication, final Instant sentAt) {
+            this.publication = publication;
+            this.sentAt = sentAt;
+        }
+
+    }
+
+    /**
+     * Tells the publisher the sequence numbers of a flushed batch on the channel it was published on.
+     */
+    private static final class PublicationsSent {
+
+        private final long batchId;
+        private final Channel channel;
+        private final long firstSeqNo;
+        private final List<Publication> publications;
+
+        private PublicationsSent(final long batchId, final Channel channel, final long firstSeqNo,
+                final List<Publication> publications) {
+            this.batchId = batchId;
+            this.channel = channel;
+            this.firstSeqNo = firstSeqNo;
+            this.publications = publications;
+        }
+
+    }
+
+    /**
+     * Tells the publisher the sequence numbers of the messages of a batch which failed to be published.
+     */
+    private static final class PublicationsFailed {
+
+        private final Channel channel;
+        private final long firstSeqNo;
+        private final int count;
+        @Nullable private final String error;
+
+        private PublicationsFailed(final Channel channel, final long firstSeqNo, final int count,
+                @Nullable final String error) {
+            this.channel = channel;
+            this.firstSeqNo = firstSeqNo;
+            this.count = count;
+            this.error = error;
+        }
+
+    }
+
+    /**
+     * A confirm (ack) or negative confirm (nack) of the broker for one or, if multiple, all messages up to a sequence
+     * number.
+     */
+    private static final class PublicationsConfirmed {
+
+        private final Channel channel;
+        private final long seqNo;
+        private final boolean multiple;
+        private final boolean ack;
+
+        private PublicationsConfirmed(final Channel channel, final long seqNo, final boolean multiple,
+                final boolean ack) {
+            this.channel = channel;
+            this.seqNo = seqNo;
+            this.multiple = multiple;
+            this.ack = ack;
+        }
+
+    }
+
+    private static final class FlushBatch {
+
+        private static final FlushBatch INSTANCE = new FlushBatch();
+
+        private FlushBatch() {
+            // no-op
+        }
+
+    }
+
+    private static final class CheckConfirmTimeouts {
+
+        private static final CheckConfirmTimeouts INSTANCE = new CheckConfirmTimeouts();
+
+        private CheckConfirmTimeouts() {
+            // no-op
+        }
 
-        channelActor.tell(channelMessage, getSelf());
     }
 
 }
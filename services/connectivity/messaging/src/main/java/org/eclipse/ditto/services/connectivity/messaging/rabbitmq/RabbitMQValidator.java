@@ -22,6 +22,7 @@ import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.validation.AbstractProtocolValidator;
 
 /**
@@ -62,5 +63,11 @@ public final class RabbitMQValidator extends AbstractProtocolValidator {
     @Override
     public void validate(final Connection connection, final DittoHeaders dittoHeaders) {
         AbstractProtocolValidator.validateUriScheme(connection, dittoHeaders, ACCEPTED_SCHEMES, "AMQP 0.9.1");
+        validateIntegerConfigs(connection, dittoHeaders, 1, RabbitMQPublisherActor.MAX_OUTSTANDING_CONFIRMS,
+                RabbitMQPublisherActor.PUBLISHER_CONFIRM_TIMEOUT, RabbitMQPublisherActor.MAX_HELD_BACK_MESSAGES,
+                RabbitMQPublisherActor.PUBLISH_BATCH_SIZE, RabbitMQPublisherActor.PUBLISH_BATCH_INTERVAL,
+                BaseClientActor.PUBLISHER_COUNT);
+        // 0 disables the prefetch limit of the consumer channel
+        validateIntegerConfigs(connection, dittoHeaders, 0, RabbitMQClientActor.PREFETCH_COUNT);
     }
 }
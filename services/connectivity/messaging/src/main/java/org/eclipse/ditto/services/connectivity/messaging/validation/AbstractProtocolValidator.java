@@ -17,6 +17,7 @@ import java.util.function.Supplier;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
 import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.ConnectionUriInvalidException;
 import org.eclipse.ditto.model.connectivity.Source;
@@ -71,6 +72,45 @@ public abstract class AbstractProtocolValidator {
         }
     }
 
+    /**
+     * Check whether the given specific configs of the connection are integers of at least the given minimum, if they
+     * are set.
+     *
+     * @param connection the connection to check.
+     * @param dittoHeaders headers of the command that triggered the connection validation.
+     * @param minimum the smallest valid value.
+     * @param configNames the names of the specific configs to check.
+     * @throws DittoRuntimeException if a specific config is no integer or less than the minimum.
+     */
+    protected static void validateIntegerConfigs(final Connection connection,
+            final DittoHeaders dittoHeaders,
+            final int minimum,
+            final String... configNames) {
+
+        for (final String configName : configNames) {
+            final String value = connection.getSpecificConfig().get(configName);
+            if (null != value && !isIntegerOfAtLeast(value, minimum)) {
+                final String message = MessageFormat.format(
+                        "Invalid value ''{0}'' for specific config ''{1}'' of connection ''{2}''.", value,
+                        configName, connection.getId());
+                final String description =
+                        MessageFormat.format("The value must be an integer of at least {0}.", minimum);
+                throw ConnectionConfigurationInvalidException.newBuilder(message)
+                        .description(description)
+                        .dittoHeaders(dittoHeaders)
+                        .build();
+            }
+        }
+    }
+
+    private static boolean isIntegerOfAtLeast(final String value, final int minimum) {
+        try {
+            return Integer.parseInt(value) >= minimum;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
     /**
      * Validate protocol-specific configurations of sources.
      *
@@ -419,7 +419,8 @@ public final class ConnectionActorTest {
     public void exceptionDuringClientActorPropsCreation() {
         new TestKit(actorSystem) {{
             final Props connectionActorProps =
-                    ConnectionActor.props(TestConstants.createRandomConnectionId(), pubSubMediator, conciergeForwarder,
+                    ConnectionActor.props(TestConstants.createRandomConnectionId(), pubSubMediator, null,
+                            conciergeForwarder,
                             (connection, conciergeForwarder) -> {
                                 throw ConnectionConfigurationInvalidException.newBuilder("validation failed...")
                                         .build();
@@ -445,7 +446,7 @@ public final class ConnectionActorTest {
     public void exceptionDueToCustomValidator() {
         new TestKit(actorSystem) {{
             final Props connectionActorProps =
-                    ConnectionActor.props(TestConstants.createRandomConnectionId(), pubSubMediator,
+                    ConnectionActor.props(TestConstants.createRandomConnectionId(), pubSubMediator, null,
                             conciergeForwarder, mockClientActorPropsFactory,
                             command -> {
                                 throw ConnectionUnavailableException.newBuilder(connectionId)
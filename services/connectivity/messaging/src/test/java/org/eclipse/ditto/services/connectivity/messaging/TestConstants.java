@@ -217,7 +217,7 @@ public class TestConstants {
         final Duration maxBackoff = Duration.ofSeconds(5);
         final Double randomFactor = 1.0;
         final Props props = ConnectionSupervisorActor.props(minBackoff, maxBackoff, randomFactor, pubSubMediator,
-                conciergeForwarder, clientActorPropsFactory, null);
+                null, conciergeForwarder, clientActorPropsFactory, null);
 
         final int maxAttemps = 5;
         final long backoffMs = 1000L;
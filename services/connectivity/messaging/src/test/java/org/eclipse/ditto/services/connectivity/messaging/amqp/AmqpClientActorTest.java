@@ -13,6 +13,7 @@ package org.eclipse.ditto.services.connectivity.messaging.amqp;
 
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
@@ -64,6 +65,7 @@ import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.eclipse.ditto.services.connectivity.messaging.UnmappedOutboundSignal;
@@ -525,6 +527,34 @@ public class AmqpClientActorTest {
         }};
     }
 
+    @Test
+    public void testCreateAndCloseSessionForEachFurtherPublisherOfThePool() throws JMSException {
+        final Session publisherSession1 = Mockito.mock(Session.class);
+        final Session publisherSession2 = Mockito.mock(Session.class);
+        when(mockConnection.createSession(Session.AUTO_ACKNOWLEDGE)).thenReturn(publisherSession1, publisherSession2);
+
+        new TestKit(actorSystem) {{
+            final Connection connectionWithPublisherPool = ConnectivityModelFactory.newConnectionBuilder(connection)
+                    .specificConfig(singletonMap(BaseClientActor.PUBLISHER_COUNT, "3"))
+                    .build();
+            final Props props = AmqpClientActor.propsForTests(connectionWithPublisherPool, connectionStatus, getRef(),
+                    (ac, el) -> mockConnection);
+            final ActorRef amqpClientActor = actorSystem.actorOf(props);
+
+            amqpClientActor.tell(OpenConnection.of(connectionId, DittoHeaders.empty()), getRef());
+            expectMsg(CONNECTED_SUCCESS);
+
+            // the first publisher uses the session of the connection
+            verify(mockConnection, Mockito.times(2)).createSession(Session.AUTO_ACKNOWLEDGE);
+
+            amqpClientActor.tell(CloseConnection.of(connectionId, DittoHeaders.empty()), getRef());
+            expectMsg(DISCONNECTED_SUCCESS);
+
+            verify(publisherSession1).close();
+            verify(publisherSession2).close();
+        }};
+    }
+
     @Test
     public void testSpecialCharactersInSourceAndRequestMetrics() throws JMSException {
         new TestKit(actorSystem) {{
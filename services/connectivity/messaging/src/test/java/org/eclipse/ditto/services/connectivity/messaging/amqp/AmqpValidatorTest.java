@@ -10,9 +10,21 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.amqp;
 
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import org.assertj.core.api.Assertions;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.ConnectionStatus;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.junit.Test;
 
 /**
@@ -24,4 +36,17 @@ public final class AmqpValidatorTest {
     public void testImmutability() {
         assertInstancesOf(AmqpValidator.class, areImmutable());
     }
+
+    @Test
+    public void testInvalidPublisherCount() {
+        final Connection connection = ConnectivityModelFactory.newConnectionBuilder("amqp", ConnectionType.AMQP_10,
+                ConnectionStatus.OPEN, "amqps://localhost:5671")
+                .targets(singleton(ConnectivityModelFactory.newTarget("target", AUTHORIZATION_CONTEXT,
+                        Topic.TWIN_EVENTS)))
+                .specificConfig(singletonMap(BaseClientActor.PUBLISHER_COUNT, "0"))
+                .build();
+
+        Assertions.assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> AmqpValidator.newInstance().validate(connection, DittoHeaders.empty()));
+    }
 }
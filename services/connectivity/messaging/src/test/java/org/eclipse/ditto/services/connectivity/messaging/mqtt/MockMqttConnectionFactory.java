@@ -28,6 +28,7 @@ import akka.Done;
 import akka.actor.ActorRef;
 import akka.japi.function.Predicate;
 import akka.stream.alpakka.mqtt.MqttMessage;
+import akka.stream.alpakka.mqtt.javadsl.MqttCommittableMessage;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
@@ -42,16 +43,18 @@ final class MockMqttConnectionFactory implements MqttConnectionFactory {
     private final Connection connection;
     private final Collection<MqttMessage> messages;
     private final ActorRef testProbe;
+    private final boolean withPublisherIndex;
 
     @Nullable
     private final Exception error;
 
     private MockMqttConnectionFactory(final Connection connection, final Collection<MqttMessage> messages,
-            final ActorRef testProbe, @Nullable final Exception error) {
+            final ActorRef testProbe, final boolean withPublisherIndex, @Nullable final Exception error) {
 
         this.connection = connection;
         this.messages = messages;
         this.testProbe = testProbe;
+        this.withPublisherIndex = withPublisherIndex;
         this.error = error;
     }
 
@@ -59,13 +62,21 @@ final class MockMqttConnectionFactory implements MqttConnectionFactory {
             final MqttMessage... messages) {
 
         return (connection, headers) ->
-                new MockMqttConnectionFactory(connection, Arrays.asList(messages), testProbe, null);
+                new MockMqttConnectionFactory(connection, Arrays.asList(messages), testProbe, false, null);
+    }
+
+    /**
+     * Sends each published message wrapped in a {@link PublishedMessage} to the test probe.
+     */
+    static BiFunction<Connection, DittoHeaders, MqttConnectionFactory> withPublisherIndex(final ActorRef testProbe) {
+        return (connection, headers) ->
+                new MockMqttConnectionFactory(connection, Collections.emptyList(), testProbe, true, null);
     }
 
     static BiFunction<Connection, DittoHeaders, MqttConnectionFactory> withError(final ActorRef testProbe,
             final Exception error) {
         return (connection, headers) ->
-                new MockMqttConnectionFactory(connection, Collections.emptyList(), testProbe, error);
+                new MockMqttConnectionFactory(connection, Collections.emptyList(), testProbe, false, error);
     }
 
     @Override
@@ -74,24 +85,41 @@ final class MockMqttConnectionFactory implements MqttConnectionFactory {
     }
 
     @Override
-    public Source<MqttMessage, CompletionStage<Done>> newSource(final MqttSource mqttSource,
+    public Source<MqttCommittableMessage, CompletionStage<Done>> newSource(final MqttSource mqttSource,
             final int bufferSize) {
         if (error != null) {
-            return Source.<MqttMessage>failed(error).mapMaterializedValue(this::failedFuture);
+            return Source.<MqttCommittableMessage>failed(error).mapMaterializedValue(this::failedFuture);
         } else {
             return Source.from(messages)
                     .filter(MockMqttConnectionFactory.topicMatches(mqttSource.getAddresses()))
+                    .map(MockMqttConnectionFactory::committable)
                     .mapMaterializedValue(whatever -> CompletableFuture.completedFuture(Done.getInstance()));
         }
     }
 
+    private static MqttCommittableMessage committable(final MqttMessage message) {
+        return new MqttCommittableMessage() {
+            @Override
+            public MqttMessage message() {
+                return message;
+            }
+
+            @Override
+            public CompletionStage<Done> messageArrivedComplete() {
+                return CompletableFuture.completedFuture(Done.getInstance());
+            }
+        };
+    }
+
     @Override
-    public Sink<MqttMessage, CompletionStage<Done>> newSink() {
+    public Sink<MqttMessage, CompletionStage<Done>> newSink(final int publisherIndex) {
         if (error != null) {
             return Flow.<MqttMessage, Object>fromFunction(x -> x).to(Sink.ignore())
                     .mapMaterializedValue(this::failedFuture);
         } else {
-            return Flow.<MqttMessage, Object>fromFunction(x -> x).to(Sink.actorRef(testProbe, COMPLETION_MESSAGE))
+            return Flow.<MqttMessage, Object>fromFunction(
+                    x -> withPublisherIndex ? new PublishedMessage(publisherIndex, x) : x)
+                    .to(Sink.actorRef(testProbe, COMPLETION_MESSAGE))
                     .mapMaterializedValue(whatever -> CompletableFuture.completedFuture(Done.getInstance()));
         }
     }
@@ -109,4 +137,18 @@ final class MockMqttConnectionFactory implements MqttConnectionFactory {
     private static boolean matchesMqttFilter(final String filter, final String topic) {
         return topic.matches(filter.replaceAll("\\+", "[^/]*").replaceAll("#", ".*"));
     }
+
+    /**
+     * A message published by the publisher with the given index.
+     */
+    static final class PublishedMessage {
+
+        final int publisherIndex;
+        final MqttMessage message;
+
+        private PublishedMessage(final int publisherIndex, final MqttMessage message) {
+            this.publisherIndex = publisherIndex;
+            this.message = message;
+        }
+    }
 }
@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.connectivity.messaging.mqtt;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.ditto.model.connectivity.ConnectivityModelFactory.newFilteredMqttSource;
 import static org.eclipse.ditto.model.connectivity.ConnectivityModelFactory.newMqttSource;
@@ -53,6 +54,7 @@ import org.eclipse.ditto.model.connectivity.SourceMetrics;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.connectivity.TargetMetrics;
 import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
 import org.eclipse.ditto.services.connectivity.messaging.OutboundSignal;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
@@ -63,6 +65,7 @@ import org.eclipse.ditto.signals.commands.connectivity.modify.TestConnection;
 import org.eclipse.ditto.signals.commands.connectivity.query.RetrieveConnectionMetrics;
 import org.eclipse.ditto.signals.commands.connectivity.query.RetrieveConnectionMetricsResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
+import org.eclipse.ditto.signals.events.things.ThingModified;
 import org.eclipse.ditto.signals.events.things.ThingModifiedEvent;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -308,6 +311,104 @@ public class MqttClientActorTest {
         }};
     }
 
+    @Test
+    public void testPublishWithMultiplePublishers() {
+        new TestKit(actorSystem) {{
+            final TestProbe controlProbe = TestProbe.apply(actorSystem);
+            final Connection connectionWithPublisherPool = ConnectivityModelFactory.newConnectionBuilder(connectionId,
+                    ConnectionType.MQTT, ConnectionStatus.OPEN, serverHost)
+                    .targets(singleton(TARGET))
+                    .specificConfig(singletonMap("publisherCount", "3"))
+                    .build();
+            final Props props = mqttClientActor(connectionWithPublisherPool, getRef(),
+                    MockMqttConnectionFactory.with(getRef()));
+            final ActorRef underTest = actorSystem.actorOf(props);
+
+            underTest.tell(OpenConnection.of(connectionId, DittoHeaders.empty()), controlProbe.ref());
+            controlProbe.expectMsg(CONNECTED_SUCCESS);
+
+            final ThingModifiedEvent thingModifiedEvent = TestConstants.thingModified(singleton(""));
+            final String expectedJson = TestConstants.signalToDittoProtocolJsonString(thingModifiedEvent);
+            final OutboundSignal.WithExternalMessage mappedSignal =
+                    Mockito.mock(OutboundSignal.WithExternalMessage.class);
+            final ExternalMessage externalMessage =
+                    ConnectivityModelFactory.newExternalMessageBuilder(new HashMap<>()).withText(expectedJson).build();
+            Mockito.doReturn(thingModifiedEvent).when(mappedSignal).getSource();
+            when(mappedSignal.getExternalMessage()).thenReturn(externalMessage);
+            when(mappedSignal.getTargets()).thenReturn(singleton(TARGET));
+            underTest.tell(mappedSignal, getRef());
+
+            final MqttMessage receivedMessage = expectMsgClass(MqttMessage.class);
+
+            underTest.tell(CloseConnection.of(connectionId, DittoHeaders.empty()), controlProbe.ref());
+            controlProbe.expectMsg(DISCONNECTED_SUCCESS);
+
+            assertThat(receivedMessage.topic()).isEqualTo(TARGET.getAddress());
+            assertThat(receivedMessage.payload()).isEqualTo(ByteString.fromString(expectedJson));
+        }};
+    }
+
+    @Test
+    public void testSignalsOfEachThingArePublishedInOrderByOnePublisherOfThePool() {
+        new TestKit(actorSystem) {{
+            final TestProbe controlProbe = TestProbe.apply(actorSystem);
+            final Connection connectionWithPublisherPool = ConnectivityModelFactory.newConnectionBuilder(connectionId,
+                    ConnectionType.MQTT, ConnectionStatus.OPEN, serverHost)
+                    .targets(singleton(TARGET))
+                    .specificConfig(singletonMap("publisherCount", "3"))
+                    .build();
+            final Props props = mqttClientActor(connectionWithPublisherPool, getRef(),
+                    MockMqttConnectionFactory.withPublisherIndex(getRef()));
+            final ActorRef underTest = actorSystem.actorOf(props);
+
+            underTest.tell(OpenConnection.of(connectionId, DittoHeaders.empty()), controlProbe.ref());
+            controlProbe.expectMsg(CONNECTED_SUCCESS);
+
+            final int thingCount = 30;
+            final int revisions = 3;
+            for (int revision = 1; revision <= revisions; revision++) {
+                for (int i = 0; i < thingCount; i++) {
+                    underTest.tell(mappedThingModified("ditto:thing-" + i, revision), getRef());
+                }
+            }
+
+            final Map<String, Integer> publisherIndexByThing = new HashMap<>();
+            final Map<String, List<String>> publishedRevisionsByThing = new HashMap<>();
+            for (int i = 0; i < thingCount * revisions; i++) {
+                final MockMqttConnectionFactory.PublishedMessage published =
+                        expectMsgClass(MockMqttConnectionFactory.PublishedMessage.class);
+                final String[] thingIdAndRevision = published.message.payload().utf8String().split("/");
+                final Integer previousIndex =
+                        publisherIndexByThing.put(thingIdAndRevision[0], published.publisherIndex);
+                assertThat(previousIndex).isIn(null, published.publisherIndex);
+                publishedRevisionsByThing.computeIfAbsent(thingIdAndRevision[0], thingId -> new LinkedList<>())
+                        .add(thingIdAndRevision[1]);
+            }
+
+            underTest.tell(CloseConnection.of(connectionId, DittoHeaders.empty()), controlProbe.ref());
+            controlProbe.expectMsg(DISCONNECTED_SUCCESS);
+
+            assertThat(publisherIndexByThing).hasSize(thingCount);
+            assertThat(publisherIndexByThing.values()).containsOnly(0, 1, 2);
+            publishedRevisionsByThing.values()
+                    .forEach(publishedRevisions -> assertThat(publishedRevisions).containsExactly("1", "2", "3"));
+        }};
+    }
+
+    private static OutboundSignal.WithExternalMessage mappedThingModified(final String thingId, final long revision) {
+        final ThingModifiedEvent thingModifiedEvent =
+                ThingModified.of(ThingsModelFactory.newThingBuilder().setId(thingId).build(), revision,
+                        DittoHeaders.empty());
+        final ExternalMessage externalMessage = ConnectivityModelFactory.newExternalMessageBuilder(new HashMap<>())
+                .withText(thingId + "/" + revision)
+                .build();
+        final OutboundSignal.WithExternalMessage mappedSignal = Mockito.mock(OutboundSignal.WithExternalMessage.class);
+        Mockito.doReturn(thingModifiedEvent).when(mappedSignal).getSource();
+        when(mappedSignal.getExternalMessage()).thenReturn(externalMessage);
+        when(mappedSignal.getTargets()).thenReturn(singleton(TARGET));
+        return mappedSignal;
+    }
+
     @Test
     public void testTestConnection() {
         new TestKit(actorSystem) {{
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.mqtt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.connectivity.messaging.mqtt.MqttClientActor.ConsumerStreamMessage.STREAM_ACK;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
+import org.eclipse.ditto.services.connectivity.messaging.internal.MessageAcknowledgement;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.stream.alpakka.mqtt.MqttMessage;
+import akka.stream.alpakka.mqtt.MqttQoS;
+import akka.stream.alpakka.mqtt.javadsl.MqttCommittableMessage;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import akka.util.ByteString;
+
+/**
+ * Tests the in-flight bound and the acknowledgements of {@link MqttConsumerActor}.
+ */
+public final class MqttConsumerActorTest {
+
+    private static final String TOPIC = "eclipse/ditto";
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem, scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS),
+                    false);
+        }
+    }
+
+    @Test
+    public void deferStreamAckWhileMaxInFlightMessagesAreMapped() {
+        new TestKit(actorSystem) {{
+            final TestProbe messageMappingProcessor = TestProbe.apply(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(props(messageMappingProcessor.ref(), 2));
+            final AtomicInteger commits = new AtomicInteger();
+
+            underTest.tell(committableMessage(commits), getRef());
+            expectMsg(STREAM_ACK);
+            final AcknowledgeableMessage first = messageMappingProcessor.expectMsgClass(AcknowledgeableMessage.class);
+
+            // the second message fills the in-flight window
+            underTest.tell(committableMessage(commits), getRef());
+            final AcknowledgeableMessage second = messageMappingProcessor.expectMsgClass(AcknowledgeableMessage.class);
+            expectNoMessage(duration("200 milliseconds"));
+            assertThat(commits).hasValue(0);
+
+            underTest.tell(new MessageAcknowledgement(first.getDeliveryTag(), true), messageMappingProcessor.ref());
+            expectMsg(STREAM_ACK);
+            awaitAssert(() -> assertThat(commits).hasValue(1));
+
+            underTest.tell(new MessageAcknowledgement(second.getDeliveryTag(), true), messageMappingProcessor.ref());
+            awaitAssert(() -> assertThat(commits).hasValue(2));
+            // the stream ack was not deferred, so it is not sent again
+            expectNoMessage(duration("200 milliseconds"));
+        }};
+    }
+
+    @Test
+    public void commitMessagesWhoseProcessingFailed() {
+        new TestKit(actorSystem) {{
+            final TestProbe messageMappingProcessor = TestProbe.apply(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(props(messageMappingProcessor.ref(), 1));
+            final AtomicInteger commits = new AtomicInteger();
+
+            underTest.tell(committableMessage(commits), getRef());
+            final AcknowledgeableMessage message = messageMappingProcessor.expectMsgClass(AcknowledgeableMessage.class);
+            expectNoMessage(duration("200 milliseconds"));
+
+            underTest.tell(new MessageAcknowledgement(message.getDeliveryTag(), false), messageMappingProcessor.ref());
+            expectMsg(STREAM_ACK);
+            awaitAssert(() -> assertThat(commits).hasValue(1));
+        }};
+    }
+
+    private static Props props(final ActorRef messageMappingProcessor, final int maxInFlight) {
+        return MqttConsumerActor.props(messageMappingProcessor, TestConstants.Authorization.AUTHORIZATION_CONTEXT,
+                Collections.emptySet(), false, "connection", "consumer", maxInFlight);
+    }
+
+    private static MqttCommittableMessage committableMessage(final AtomicInteger commits) {
+        final MqttMessage message = MqttMessage.create(TOPIC, ByteString.fromString("payload"), MqttQoS.atLeastOnce());
+        return new MqttCommittableMessage() {
+            @Override
+            public MqttMessage message() {
+                return message;
+            }
+
+            @Override
+            public CompletionStage<Done> messageArrivedComplete() {
+                commits.incrementAndGet();
+                return CompletableFuture.completedFuture(Done.getInstance());
+            }
+        };
+    }
+
+}
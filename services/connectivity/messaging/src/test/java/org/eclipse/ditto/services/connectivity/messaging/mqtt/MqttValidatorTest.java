@@ -12,6 +12,7 @@ package org.eclipse.ditto.services.connectivity.messaging.mqtt;
 
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
@@ -27,6 +28,7 @@ import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.MqttSource;
 import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.junit.Test;
 
@@ -95,6 +97,14 @@ public final class MqttValidatorTest {
         verifyConnectionConfigurationInvalidExceptionIsThrown(connection);
     }
 
+    @Test
+    public void testInvalidPublisherCount() {
+        verifyConnectionConfigurationInvalidExceptionIsThrown(ConnectivityModelFactory.newConnectionBuilder(
+                connectionWithTarget("ditto/mqtt/topic"))
+                .specificConfig(singletonMap(BaseClientActor.PUBLISHER_COUNT, "many"))
+                .build());
+    }
+
     private Connection connectionWithSource(final String source) {
         final MqttSource mqttSource =
                 ConnectivityModelFactory.newFilteredMqttSource(1, 0, AUTHORIZATION_CONTEXT,
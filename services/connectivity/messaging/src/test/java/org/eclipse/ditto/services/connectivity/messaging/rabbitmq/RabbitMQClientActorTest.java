@@ -30,6 +30,7 @@ import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionSignalIllegalException;
@@ -223,6 +224,28 @@ public class RabbitMQClientActorTest {
         }};
     }
 
+    @Test
+    public void createPublisherChannelForEachPublisherOfThePool() throws IOException {
+        new TestKit(actorSystem) {{
+            final Connection connectionWithPublisherPool = ConnectivityModelFactory.newConnectionBuilder(connection)
+                    .specificConfig(Collections.singletonMap(BaseClientActor.PUBLISHER_COUNT, "3"))
+                    .build();
+            final Props props =
+                    RabbitMQClientActor.propsForTests(connectionWithPublisherPool, connectionStatus, getRef(),
+                            (con, exHandler) -> mockConnectionFactory).withDispatcher(CallingThreadDispatcher.Id());
+            final ActorRef rabbitClientActor = actorSystem.actorOf(props);
+
+            rabbitClientActor.tell(OpenConnection.of(connectionId, DittoHeaders.empty()), getRef());
+            expectMsg(CONNECTED_SUCCESS);
+
+            // three publisher channels and a consumer channel should be created
+            verify(mockConnection, Mockito.times(4)).createChannel();
+
+            rabbitClientActor.tell(CloseConnection.of(connectionId, DittoHeaders.empty()), getRef());
+            expectMsg(DISCONNECTED_SUCCESS);
+        }};
+    }
+
     @Test
     public void sendDisconnectWhenAlreadyDisconnected() {
         new TestKit(actorSystem) {{
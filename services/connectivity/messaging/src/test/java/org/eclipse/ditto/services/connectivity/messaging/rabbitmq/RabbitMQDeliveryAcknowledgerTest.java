@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.rabbitmq.client.Channel;
+
+import akka.event.LoggingAdapter;
+
+/**
+ * Tests {@link RabbitMQDeliveryAcknowledger}.
+ */
+public final class RabbitMQDeliveryAcknowledgerTest {
+
+    private Channel channel;
+    private RabbitMQDeliveryAcknowledger underTest;
+
+    @Before
+    public void setUp() {
+        channel = mock(Channel.class);
+        underTest = new RabbitMQDeliveryAcknowledger(channel, 4, mock(LoggingAdapter.class));
+    }
+
+    @Test
+    public void acknowledgesProcessedDeliveriesInBatches() throws Exception {
+        for (long tag = 1; tag <= 4; tag++) {
+            underTest.register(tag, false);
+        }
+
+        underTest.settle(1, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        underTest.settle(2, true);
+        verify(channel).basicAck(2, true);
+
+        underTest.settle(4, true);
+        underTest.settle(3, true);
+        verify(channel).basicAck(4, true);
+        verifyNoMoreInteractions(channel);
+        assertThat(underTest.getInProgressCount()).isZero();
+    }
+
+    @Test
+    public void acknowledgesDeliveriesBehindOneInProgressIndividually() throws Exception {
+        for (long tag = 1; tag <= 3; tag++) {
+            underTest.register(tag, false);
+        }
+
+        underTest.settle(2, true);
+        underTest.settle(3, true);
+
+        verify(channel).basicAck(2, false);
+        verify(channel).basicAck(3, false);
+        verifyNoMoreInteractions(channel);
+        assertThat(underTest.getInProgressCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void requeuesFailedDeliveryOnlyOnce() throws Exception {
+        underTest.register(1, false);
+        underTest.register(2, true);
+
+        underTest.settle(1, false);
+        underTest.settle(2, false);
+
+        verify(channel).basicNack(1, false, true);
+        verify(channel).basicNack(2, false, false);
+        verifyNoMoreInteractions(channel);
+    }
+
+    @Test
+    public void ignoresUnknownDeliveries() {
+        underTest.settle(42, true);
+
+        verifyNoMoreInteractions(channel);
+    }
+
+}
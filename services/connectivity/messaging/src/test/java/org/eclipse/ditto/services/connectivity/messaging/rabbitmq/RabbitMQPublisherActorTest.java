@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
+
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.ditto.model.connectivity.AddressMetric;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ExternalMessage;
+import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.services.connectivity.messaging.OutboundSignal;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressMetric;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.newmotion.akka.rabbitmq.ChannelCreated;
+import com.newmotion.akka.rabbitmq.ChannelMessage;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmCallback;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link RabbitMQPublisherActor}.
+ */
+public final class RabbitMQPublisherActorTest {
+
+    private static final Target TARGET = ConnectivityModelFactory.newTarget("exchange/routingKey",
+            TestConstants.Authorization.AUTHORIZATION_CONTEXT, Topic.TWIN_EVENTS);
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", TestConstants.CONFIG);
+    }
+
+    @After
+    public void tearDown() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void enablesConfirmsOnRecreatedChannelAndPublishesUnconfirmedMessagesAgain() throws IOException {
+        new TestKit(actorSystem) {{
+            final TestKit channelActor = new TestKit(actorSystem);
+            final ActorRef underTest = createPublisher(confirmsConfig());
+            connect(underTest, channelActor);
+
+            final MockChannel channel = new MockChannel();
+            underTest.tell(outboundSignal("first"), getRef());
+            channel.run(channelActor.expectMsgClass(ChannelMessage.class));
+            verify(channel.mock).confirmSelect();
+            verify(channel.mock).basicPublish(anyString(), anyString(), any(), any());
+
+            // the channel is recreated without confirming the first message
+            connect(underTest, channelActor);
+            final MockChannel recreatedChannel = new MockChannel();
+            underTest.tell(outboundSignal("second"), getRef());
+            recreatedChannel.run(channelActor.expectMsgClass(ChannelMessage.class));
+            recreatedChannel.run(channelActor.expectMsgClass(ChannelMessage.class));
+            verify(recreatedChannel.mock).confirmSelect();
+            verify(recreatedChannel.mock, times(2)).basicPublish(anyString(), anyString(), any(), any());
+
+            recreatedChannel.ack(2L, true);
+            assertThat(retrieveAddressMetric(underTest).getMessageCount()).isEqualTo(2L);
+            channelActor.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void publishesMessagesAgainWhichAreNotConfirmedInTime() throws IOException {
+        new TestKit(actorSystem) {{
+            final TestKit channelActor = new TestKit(actorSystem);
+            final Map<String, String> config = confirmsConfig();
+            config.put(RabbitMQPublisherActor.PUBLISHER_CONFIRM_TIMEOUT, "200");
+            final ActorRef underTest = createPublisher(config);
+            connect(underTest, channelActor);
+
+            final MockChannel channel = new MockChannel();
+            underTest.tell(outboundSignal("message"), getRef());
+            channel.run(channelActor.expectMsgClass(ChannelMessage.class));
+            channel.run(channelActor.expectMsgClass(ChannelMessage.class));
+            verify(channel.mock, times(2)).basicPublish(anyString(), anyString(), any(), any());
+
+            channel.ack(2L, false);
+            assertThat(retrieveAddressMetric(underTest).getMessageCount()).isEqualTo(1L);
+            channelActor.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void dropsMessagesWhenTooManyAreHeldBack() throws IOException {
+        new TestKit(actorSystem) {{
+            final TestKit channelActor = new TestKit(actorSystem);
+            final Map<String, String> config = confirmsConfig();
+            config.put(RabbitMQPublisherActor.MAX_OUTSTANDING_CONFIRMS, "1");
+            config.put(RabbitMQPublisherActor.MAX_HELD_BACK_MESSAGES, "1");
+            final ActorRef underTest = createPublisher(config);
+            connect(underTest, channelActor);
+
+            final MockChannel channel = new MockChannel();
+            underTest.tell(outboundSignal("published"), getRef());
+            underTest.tell(outboundSignal("heldBack"), getRef());
+            underTest.tell(outboundSignal("dropped"), getRef());
+            channel.run(channelActor.expectMsgClass(ChannelMessage.class));
+            channelActor.expectNoMessage();
+            assertThat(retrieveAddressMetric(underTest).getStatusDetails())
+                    .hasValueSatisfying(details -> assertThat(details).contains("1 messages were dropped"));
+
+            // the held back message is published once the first one is confirmed
+            channel.ack(1L, false);
+            channel.run(channelActor.expectMsgClass(ChannelMessage.class));
+            channel.ack(2L, false);
+            verify(channel.mock, times(2)).basicPublish(anyString(), anyString(), any(), any());
+            assertThat(retrieveAddressMetric(underTest).getMessageCount()).isEqualTo(2L);
+        }};
+    }
+
+    private ActorRef createPublisher(final Map<String, String> specificConfig) {
+        return actorSystem.actorOf(RabbitMQPublisherActor.props("connection", singleton(TARGET), specificConfig));
+    }
+
+    private static Map<String, String> confirmsConfig() {
+        final Map<String, String> config = new HashMap<>();
+        config.put(RabbitMQPublisherActor.PUBLISHER_CONFIRMS, "true");
+        return config;
+    }
+
+    private static void connect(final ActorRef publisher, final TestKit channelActor) {
+        publisher.tell(new ChannelCreated(channelActor.getRef()), channelActor.getRef());
+        // the exchanges of the targets are checked on each new channel
+        channelActor.expectMsgClass(ChannelMessage.class);
+    }
+
+    private AddressMetric retrieveAddressMetric(final ActorRef publisher) {
+        final TestKit probe = new TestKit(actorSystem);
+        publisher.tell(RetrieveAddressMetric.getInstance(), probe.getRef());
+        return probe.expectMsgClass(AddressMetric.class);
+    }
+
+    private static OutboundSignal.WithExternalMessage outboundSignal(final String text) {
+        final OutboundSignal.WithExternalMessage outboundSignal =
+                Mockito.mock(OutboundSignal.WithExternalMessage.class);
+        final ExternalMessage externalMessage =
+                ConnectivityModelFactory.newExternalMessageBuilder(new HashMap<>()).withText(text).build();
+        when(outboundSignal.getExternalMessage()).thenReturn(externalMessage);
+        when(outboundSignal.getTargets()).thenReturn(singleton(TARGET));
+        return outboundSignal;
+    }
+
+    /**
+     * A mocked channel assigning sequence numbers to published messages once confirms are enabled.
+     */
+    private static final class MockChannel {
+
+        private final Channel mock = Mockito.mock(Channel.class);
+        private final AtomicLong nextSeqNo = new AtomicLong(0L);
+        private final ArgumentCaptor<ConfirmCallback> ackCallback = ArgumentCaptor.forClass(ConfirmCallback.class);
+
+        private MockChannel() throws IOException {
+            when(mock.getNextPublishSeqNo()).thenAnswer(invocation -> nextSeqNo.get());
+            when(mock.confirmSelect()).thenAnswer(invocation -> {
+                nextSeqNo.set(1L);
+                return null;
+            });
+            Mockito.doAnswer(invocation -> {
+                nextSeqNo.incrementAndGet();
+                return null;
+            }).when(mock).basicPublish(anyString(), anyString(), any(), any());
+        }
+
+        private void run(final ChannelMessage channelMessage) {
+            channelMessage.onChannel().apply(mock);
+        }
+
+        private void ack(final long seqNo, final boolean multiple) throws IOException {
+            verify(mock, Mockito.atLeastOnce()).addConfirmListener(ackCallback.capture(), any(ConfirmCallback.class));
+            ackCallback.getValue().handle(seqNo, multiple);
+        }
+
+    }
+
+}
@@ -10,9 +10,21 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
 
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import org.assertj.core.api.Assertions;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.ConnectionStatus;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.junit.Test;
 
 /**
@@ -24,4 +36,56 @@ public final class RabbitMQValidatorTest {
     public void testImmutability() {
         assertInstancesOf(RabbitMQValidator.class, areImmutable());
     }
+
+    @Test
+    public void testValidPublisherConfigs() {
+        RabbitMQValidator.newInstance().validate(
+                connectionWithSpecificConfig(RabbitMQPublisherActor.MAX_OUTSTANDING_CONFIRMS, "100"),
+                DittoHeaders.empty());
+        RabbitMQValidator.newInstance().validate(
+                connectionWithSpecificConfig(RabbitMQPublisherActor.PUBLISH_BATCH_SIZE, "1"),
+                DittoHeaders.empty());
+    }
+
+    @Test
+    public void testPrefetchCount() {
+        RabbitMQValidator.newInstance().validate(
+                connectionWithSpecificConfig(RabbitMQClientActor.PREFETCH_COUNT, "0"), DittoHeaders.empty());
+        RabbitMQValidator.newInstance().validate(
+                connectionWithSpecificConfig(RabbitMQClientActor.PREFETCH_COUNT, "100"), DittoHeaders.empty());
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                connectionWithSpecificConfig(RabbitMQClientActor.PREFETCH_COUNT, "-1"));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                connectionWithSpecificConfig(RabbitMQClientActor.PREFETCH_COUNT, "unlimited"));
+    }
+
+    @Test
+    public void testInvalidPublisherConfigs() {
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                connectionWithSpecificConfig(RabbitMQPublisherActor.MAX_OUTSTANDING_CONFIRMS, "many"));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                connectionWithSpecificConfig(RabbitMQPublisherActor.PUBLISHER_CONFIRM_TIMEOUT, "0"));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                connectionWithSpecificConfig(RabbitMQPublisherActor.MAX_HELD_BACK_MESSAGES, "-1"));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                connectionWithSpecificConfig(RabbitMQPublisherActor.PUBLISH_BATCH_SIZE, "1.5"));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                connectionWithSpecificConfig(RabbitMQPublisherActor.PUBLISH_BATCH_INTERVAL, ""));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                connectionWithSpecificConfig(BaseClientActor.PUBLISHER_COUNT, "0"));
+    }
+
+    private static Connection connectionWithSpecificConfig(final String key, final String value) {
+        return ConnectivityModelFactory.newConnectionBuilder("rabbitmq", ConnectionType.AMQP_091,
+                ConnectionStatus.OPEN, "amqp://localhost:5672")
+                .targets(singleton(ConnectivityModelFactory.newTarget("exchange/routingKey", AUTHORIZATION_CONTEXT,
+                        Topic.TWIN_EVENTS)))
+                .specificConfig(singletonMap(key, value))
+                .build();
+    }
+
+    private static void verifyConnectionConfigurationInvalidExceptionIsThrown(final Connection connection) {
+        Assertions.assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> RabbitMQValidator.newInstance().validate(connection, DittoHeaders.empty()));
+    }
 }
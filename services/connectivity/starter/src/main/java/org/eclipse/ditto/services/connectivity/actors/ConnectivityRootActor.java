@@ -27,6 +27,7 @@ import javax.jms.JMSRuntimeException;
 import javax.naming.NamingException;
 
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.connectivity.Topic;
 import org.eclipse.ditto.services.base.config.ServiceConfigReader;
 import org.eclipse.ditto.services.connectivity.messaging.ClientActorPropsFactory;
 import org.eclipse.ditto.services.connectivity.messaging.ConnectionSupervisorActor;
@@ -38,6 +39,7 @@ import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActo
 import org.eclipse.ditto.services.models.connectivity.ConnectivityMessagingConstants;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
+import org.eclipse.ditto.services.utils.cluster.EventDispatcherActor;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.config.ConfigUtil;
 import org.eclipse.ditto.services.utils.config.MongoConfig;
@@ -185,10 +187,15 @@ public final class ConnectivityRootActor extends AbstractActor {
                 ConciergeForwarderActor.props(pubSubMediator, conciergeShardRegionProxy,
                         conciergeForwarderSignalTransformer));
 
+        final ActorRef eventDispatcher = configReader.cluster().partitionedEventsEnabled()
+                ? startChildActor(EventDispatcherActor.ACTOR_NAME,
+                EventDispatcherActor.props(Topic.TWIN_EVENTS.getPubSubTopic()))
+                : null;
+
         final ClientActorPropsFactory propsFactory = DefaultClientActorPropsFactory.getInstance();
         final Props connectionSupervisorProps =
                 ConnectionSupervisorActor.props(minBackoff, maxBackoff, randomFactor, pubSubMediator,
-                        conciergeForwarder, propsFactory, commandValidator);
+                        eventDispatcher, conciergeForwarder, propsFactory, commandValidator);
 
         final ClusterShardingSettings shardingSettings =
                 ClusterShardingSettings.create(actorSystem)
@@ -36,4 +36,14 @@ public final class MqttConfigReader extends AbstractConfigReader {
     public int sourceBufferSize() {
         return getIfPresent("source-buffer-size", config::getInt).orElse(8);
     }
+
+    /**
+     * Maximum number of messages of each MQTT source which are being mapped at the same time. Further messages are
+     * not requested from the broker until processing of one of them finished. The default value is 64.
+     *
+     * @return maximum number of messages in flight.
+     */
+    public int maxInFlight() {
+        return getIfPresent("max-in-flight", config::getInt).orElse(64);
+    }
 }
@@ -47,9 +47,9 @@ import org.eclipse.ditto.services.gateway.streaming.Connect;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
 import org.eclipse.ditto.services.gateway.streaming.actors.EventAndResponsePublisher;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
+import org.eclipse.ditto.services.utils.protocol.SignalRepresentationCache;
 import org.eclipse.ditto.signals.base.WithId;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
-import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 
 import akka.NotUsed;
 import akka.actor.ActorRef;
@@ -181,7 +181,8 @@ public class SseThingsRoute extends AbstractRoute {
                                 targetThingIds.contains(thingEvent.getThingId()) // only Events of the target thingIds
                         )
                         .filter(thingEvent -> namespaces.isEmpty() || namespaces.contains(namespaceFromId(thingEvent)))
-                        .map(ThingEventToThingConverter::thingEventToThing)
+                        // the Thing is derived only once per event for all SSE streams of this node
+                        .map(SignalRepresentationCache.getInstance()::thingOf)
                         .filter(Optional::isPresent)
                         .map(Optional::get)
                         .map(thing -> fieldSelector != null ? thing.toJson(jsonSchemaVersion, fieldSelector) :
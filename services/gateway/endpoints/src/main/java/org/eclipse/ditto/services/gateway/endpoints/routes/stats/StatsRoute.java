@@ -32,6 +32,7 @@ import org.eclipse.ditto.services.gateway.endpoints.directives.CustomPathMatcher
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.signals.commands.devops.DevOpsCommand;
+import org.eclipse.ditto.signals.commands.devops.RetrieveHotEntities;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatistics;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
 
@@ -55,6 +56,7 @@ public final class StatsRoute extends AbstractRoute {
     static final String STATISTICS_PATH_PREFIX = "stats";
     static final String THINGS_PATH = "things";
     static final String SEARCH_PATH = "search";
+    static final String HOT_PATH = "hot";
     private static final String DETAILS_PATH = "details";
 
     /**
@@ -105,6 +107,12 @@ public final class StatsRoute extends AbstractRoute {
                         handleSudoCountThingsPerRequest(ctx,
                                 SudoCountThings.of(
                                         buildDevOpsDittoHeaders(correlationId)))
+                ),
+                path(HOT_PATH, () -> // /stats/hot
+                        authenticateDevopsBasic(REALM_DEVOPS,
+                                handleDevOpsPerRequest(ctx,
+                                        RetrieveHotEntities.of(
+                                                buildDevOpsDittoHeaders(correlationId))))
                 )
         );
     }
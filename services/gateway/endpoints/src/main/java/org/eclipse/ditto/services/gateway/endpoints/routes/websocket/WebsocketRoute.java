@@ -51,6 +51,7 @@ import org.eclipse.ditto.services.gateway.streaming.actors.CommandSubscriber;
 import org.eclipse.ditto.services.gateway.streaming.actors.EventAndResponsePublisher;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.protocol.SignalRepresentationCache;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.CommandNotSupportedException;
@@ -379,6 +380,10 @@ public final class WebsocketRoute {
                 adaptable = jsonifiableToAdaptable(jsonifiable, TopicPath.Channel.TWIN, adapter);
             }
 
+            if (isPublishedSignal(jsonifiable)) {
+                // events and live signals are serialized only once for all sessions of this node
+                return SignalRepresentationCache.getInstance().jsonStringOf(adaptable);
+            }
             final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
             return jsonifiableAdaptable.toJsonString();
         };
@@ -407,6 +412,10 @@ public final class WebsocketRoute {
         return protocolMessage + PROTOCOL_CMD_ACK_SUFFIX;
     }
 
+    private static boolean isPublishedSignal(final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable) {
+        return jsonifiable instanceof Command || jsonifiable instanceof Event;
+    }
+
     private static boolean isLiveSignal(final Signal<?> signal) {
         return signal.getDittoHeaders().getChannel().filter(TopicPath.Channel.LIVE.getName()::equals).isPresent();
     }
@@ -414,10 +423,8 @@ public final class WebsocketRoute {
     private static Adaptable jsonifiableToAdaptable(final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable,
             final TopicPath.Channel channel, final ProtocolAdapter adapter) {
         final Adaptable adaptable;
-        if (jsonifiable instanceof Command) {
-            adaptable = adapter.toAdaptable((Command) jsonifiable, channel);
-        } else if (jsonifiable instanceof Event) {
-            adaptable = adapter.toAdaptable((Event) jsonifiable, channel);
+        if (isPublishedSignal(jsonifiable)) {
+            adaptable = SignalRepresentationCache.getInstance().adaptableOf((Signal<?>) jsonifiable, channel, adapter);
         } else if (jsonifiable instanceof CommandResponse) {
             adaptable = adapter.toAdaptable((CommandResponse) jsonifiable, channel);
         } else if (jsonifiable instanceof DittoRuntimeException) {
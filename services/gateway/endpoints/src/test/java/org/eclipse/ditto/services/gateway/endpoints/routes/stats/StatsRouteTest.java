@@ -77,6 +77,20 @@ public class StatsRouteTest extends EndpointTestBase {
         result.assertStatusCode(EndpointTestConstants.DUMMY_COMMAND_SUCCESS);
     }
 
+    @Test
+    public void getStatsHotUrlWithDevopsCredentials() {
+        final TestRouteResult result = statsTestRoute.run(withDevopsCredentials(HttpRequest.GET(STATS_PATH +
+                "/" + StatsRoute.HOT_PATH)));
+        result.assertStatusCode(EndpointTestConstants.DUMMY_COMMAND_SUCCESS);
+    }
+
+    @Test
+    public void getStatsHotUrlWithoutCredentialsIsRejected() {
+        final TestRouteResult result = statsTestRoute.run(HttpRequest.GET(STATS_PATH +
+                "/" + StatsRoute.HOT_PATH));
+        result.assertStatusCode(StatusCodes.UNAUTHORIZED);
+    }
+
     @Test
     public void getNonExistingToplevelUrl() {
         final TestRouteResult result = statsTestRoute.run(HttpRequest.GET(UNKNOWN_PATH));
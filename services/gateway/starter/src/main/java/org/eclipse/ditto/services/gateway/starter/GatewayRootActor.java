@@ -12,6 +12,9 @@ package org.eclipse.ditto.services.gateway.starter;
 
 import java.net.ConnectException;
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
@@ -26,11 +29,13 @@ import org.eclipse.ditto.services.gateway.starter.service.util.HttpClientFacade;
 import org.eclipse.ditto.services.gateway.streaming.actors.StreamingActor;
 import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
+import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.models.thingsearch.ThingsSearchConstants;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
+import org.eclipse.ditto.services.utils.cluster.EventDispatcherActor;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.config.ConfigUtil;
 import org.eclipse.ditto.services.utils.devops.DevOpsCommandsActor;
@@ -160,8 +165,21 @@ final class GatewayRootActor extends AbstractActor {
 
         pubSubMediator.tell(new DistributedPubSubMediator.Put(getSelf()), getSelf());
 
+        final Map<StreamingType, ActorRef> eventDispatchers = new EnumMap<>(StreamingType.class);
+        if (configReader.cluster().partitionedEventsEnabled()) {
+            eventDispatchers.put(StreamingType.EVENTS, startChildActor(EventDispatcherActor.ACTOR_NAME,
+                    EventDispatcherActor.props(StreamingType.EVENTS.getDistributedPubSubTopic())));
+        }
+        if (configReader.cluster().directLiveSignalsEnabled()) {
+            for (final StreamingType liveType : new StreamingType[]{StreamingType.MESSAGES,
+                    StreamingType.LIVE_COMMANDS, StreamingType.LIVE_EVENTS}) {
+                eventDispatchers.put(liveType, startChildActor(
+                        EventDispatcherActor.ACTOR_NAME + "-" + liveType.name().toLowerCase(Locale.ENGLISH),
+                        EventDispatcherActor.props(liveType.getDistributedPubSubTopic())));
+            }
+        }
         final ActorRef streamingActor = startChildActor(StreamingActor.ACTOR_NAME,
-                StreamingActor.props(pubSubMediator, proxyActor));
+                StreamingActor.props(pubSubMediator, eventDispatchers, proxyActor));
 
         final HealthConfigReader healthConfig = configReader.health();
         final ActorRef healthCheckActor = createHealthCheckActor(healthConfig);
@@ -10,15 +10,26 @@
  */
 package org.eclipse.ditto.services.gateway.streaming.actors;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.gateway.streaming.Connect;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StopStreaming;
+import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -40,10 +51,14 @@ public final class StreamingActor extends AbstractActor {
      */
     public static final String ACTOR_NAME = "streaming";
 
+    private static final int RESPONSE_TIMEOUT_SECONDS = 2 * 60;
+
     private final DiagnosticLoggingAdapter logger = LogUtil.obtain(this);
 
     private final ActorRef pubSubMediator;
+    private final Map<StreamingType, ActorRef> eventDispatchers;
     private final ActorRef commandRouter;
+    private final Cache<String, ActorRef> responseReceivers;
 
     private final SupervisorStrategy strategy = new OneForOneStrategy(true, DeciderBuilder
             .match(Throwable.class, e -> {
@@ -54,25 +69,36 @@ public final class StreamingActor extends AbstractActor {
                 return SupervisorStrategy.escalate();
             }).build());
 
-    private StreamingActor(final ActorRef pubSubMediator, final ActorRef commandRouter) {
+    private StreamingActor(final ActorRef pubSubMediator, final Map<StreamingType, ActorRef> eventDispatchers,
+            final ActorRef commandRouter) {
         this.pubSubMediator = pubSubMediator;
+        this.eventDispatchers = eventDispatchers;
         this.commandRouter = commandRouter;
+        responseReceivers = Caffeine.newBuilder()
+                .expireAfterWrite(RESPONSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .build();
     }
 
     /**
      * Creates Akka configuration object Props for this StreamingActor.
      *
      * @param pubSubMediator the PubSub mediator actor
+     * @param eventDispatchers the event dispatchers of this node to subscribe with per streaming type; the streaming
+     * types without dispatcher are subscribed for via the PubSub mediator
      * @param commandRouter the command router used to send signals into the cluster
      * @return the Akka configuration Props object.
      */
-    public static Props props(final ActorRef pubSubMediator, final ActorRef commandRouter) {
+    public static Props props(final ActorRef pubSubMediator, final Map<StreamingType, ActorRef> eventDispatchers,
+            final ActorRef commandRouter) {
+        final Map<StreamingType, ActorRef> dispatchers = eventDispatchers.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(eventDispatchers));
         return Props.create(StreamingActor.class, new Creator<StreamingActor>() {
             private static final long serialVersionUID = 1L;
 
             @Override
             public StreamingActor create() {
-                return new StreamingActor(pubSubMediator, commandRouter);
+                return new StreamingActor(pubSubMediator, dispatchers, commandRouter);
             }
         });
     }
@@ -92,7 +118,7 @@ public final class StreamingActor extends AbstractActor {
                     final String connectionCorrelationId = connect.getConnectionCorrelationId();
                     getContext().actorOf(
                             StreamingSessionActor.props(connectionCorrelationId, connect.getType(), pubSubMediator,
-                                    eventAndResponsePublisher), connectionCorrelationId);
+                                    eventDispatchers, eventAndResponsePublisher), connectionCorrelationId);
                 })
                 .match(StartStreaming.class,
                         startStreaming -> forwardToSessionActor(startStreaming.getConnectionCorrelationId(),
@@ -108,7 +134,7 @@ public final class StreamingActor extends AbstractActor {
                         final String origin = originOpt.get();
                         final ActorRef sessionActor = getContext().getChild(origin);
                         if (sessionActor != null) {
-                            commandRouter.tell(signal, sessionActor);
+                            routeSignal(signal, sessionActor);
                         } else {
                             logger.debug("No session actor found for origin: {}", origin);
                         }
@@ -117,6 +143,9 @@ public final class StreamingActor extends AbstractActor {
                                 signal.getDittoHeaders().getCorrelationId());
                     }
                 })
+                .match(ExpectResponse.class, expectResponse ->
+                        responseReceivers.put(responseKey(getSender(), expectResponse.correlationId),
+                                expectResponse.receiver))
                 .match(DittoRuntimeException.class, cre -> {
                     final Optional<String> originOpt = cre.getDittoHeaders().getOrigin();
                     if (originOpt.isPresent()) {
@@ -129,6 +158,31 @@ public final class StreamingActor extends AbstractActor {
                 .matchAny(any -> logger.warning("Got unknown message: '{}'", any)).build();
     }
 
+    private void routeSignal(final Signal<?> signal, final ActorRef sessionActor) {
+        final String correlationId = signal.getDittoHeaders().getCorrelationId().orElse(null);
+        final String responseKey = null != correlationId ? responseKey(sessionActor, correlationId) : null;
+        final ActorRef responseReceiver = signal instanceof CommandResponse && null != responseKey
+                ? responseReceivers.getIfPresent(responseKey)
+                : null;
+        if (null != responseReceiver) {
+            // responses to live commands and messages go point-to-point to the requester
+            LogUtil.enhanceLogWithCorrelationId(logger, correlationId);
+            logger.debug("Responding directly to <{}>: {}", responseReceiver, signal);
+            responseReceiver.tell(signal, sessionActor);
+            responseReceivers.invalidate(responseKey);
+        } else {
+            commandRouter.tell(signal, sessionActor);
+        }
+    }
+
+    /*
+     * Correlation IDs are chosen by the clients, so the receivers of responses are kept per session: a session may
+     * only answer the commands it received itself.
+     */
+    private static String responseKey(final ActorRef sessionActor, final String correlationId) {
+        return sessionActor.path().name() + ":" + correlationId;
+    }
+
     private void forwardToSessionActor(final String connectionCorrelationId, final Object object) {
         if (object instanceof WithDittoHeaders) {
             LogUtil.enhanceLogWithCorrelationId(logger, (WithDittoHeaders<?>) object);
@@ -138,4 +192,30 @@ public final class StreamingActor extends AbstractActor {
         logger.debug("Forwarding to session actor '{}': {}", connectionCorrelationId, object);
         getContext().actorSelection(connectionCorrelationId).forward(object, getContext());
     }
+
+    /**
+     * Tells this actor that a session delivered a command to its client whose response is to be sent to the
+     * requester of the command.
+     */
+    @Immutable
+    static final class ExpectResponse {
+
+        private final String correlationId;
+        private final ActorRef receiver;
+
+        ExpectResponse(final String correlationId, final ActorRef receiver) {
+            this.correlationId = correlationId;
+            this.receiver = receiver;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "correlationId=" + correlationId +
+                    ", receiver=" + receiver +
+                    "]";
+        }
+
+    }
+
 }
@@ -36,13 +36,16 @@ import org.eclipse.ditto.services.gateway.streaming.StopStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StreamingAck;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cluster.EventDispatcherActor;
+import org.eclipse.ditto.services.utils.cluster.EventInterest;
+import org.eclipse.ditto.services.utils.protocol.SignalRepresentationCache;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.base.WithId;
+import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.messages.MessageCommand;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
-import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -72,6 +75,7 @@ final class StreamingSessionActor extends AbstractActor {
     private final String connectionCorrelationId;
     private final String type;
     private final ActorRef pubSubMediator;
+    private final Map<StreamingType, ActorRef> eventDispatchers;
     private final ActorRef eventAndResponsePublisher;
     private final Set<StreamingType> outstandingSubscriptionAcks;
 
@@ -80,10 +84,12 @@ final class StreamingSessionActor extends AbstractActor {
     private Map<StreamingType, Criteria> eventFilterCriteriaForStreamingTypes;
 
     private StreamingSessionActor(final String connectionCorrelationId, final String type,
-            final ActorRef pubSubMediator, final ActorRef eventAndResponsePublisher) {
+            final ActorRef pubSubMediator, final Map<StreamingType, ActorRef> eventDispatchers,
+            final ActorRef eventAndResponsePublisher) {
         this.connectionCorrelationId = connectionCorrelationId;
         this.type = type;
         this.pubSubMediator = pubSubMediator;
+        this.eventDispatchers = eventDispatchers;
         this.eventAndResponsePublisher = eventAndResponsePublisher;
         outstandingSubscriptionAcks = new HashSet<>();
         namespacesForStreamingTypes = new HashMap<>();
@@ -96,17 +102,20 @@ final class StreamingSessionActor extends AbstractActor {
      * Creates Akka configuration object Props for this StreamingSessionActor.
      *
      * @param pubSubMediator the PubSub mediator actor
+     * @param eventDispatchers the event dispatchers to subscribe with per streaming type; the streaming types without
+     * dispatcher are subscribed for via the PubSub mediator.
      * @param eventAndResponsePublisher the {@link EventAndResponsePublisher} actor.
      * @return the Akka configuration Props object.
      */
     static Props props(final String connectionCorrelationId, final String type,
-            final ActorRef pubSubMediator, final ActorRef eventAndResponsePublisher) {
+            final ActorRef pubSubMediator, final Map<StreamingType, ActorRef> eventDispatchers,
+            final ActorRef eventAndResponsePublisher) {
         return Props.create(StreamingSessionActor.class, new Creator<StreamingSessionActor>() {
             private static final long serialVersionUID = 1L;
 
             @Override
             public StreamingSessionActor create() throws Exception {
-                return new StreamingSessionActor(connectionCorrelationId, type, pubSubMediator,
+                return new StreamingSessionActor(connectionCorrelationId, type, pubSubMediator, eventDispatchers,
                         eventAndResponsePublisher);
             }
         });
@@ -164,10 +173,7 @@ final class StreamingSessionActor extends AbstractActor {
 
                     outstandingSubscriptionAcks.add(startStreaming.getStreamingType());
                     // In Cluster: Subscribe
-                    pubSubMediator.tell(new DistributedPubSubMediator.Subscribe(
-                            startStreaming.getStreamingType().getDistributedPubSubTopic(),
-                            connectionCorrelationId,
-                            getSelf()), getSelf());
+                    subscribe(startStreaming.getStreamingType());
                 })
                 .match(StopStreaming.class, stopStreaming -> {
                     LogUtil.enhanceLogWithCorrelationId(logger, connectionCorrelationId);
@@ -178,9 +184,7 @@ final class StreamingSessionActor extends AbstractActor {
                     eventFilterCriteriaForStreamingTypes.remove(stopStreaming.getStreamingType());
 
                     // In Cluster: Unsubscribe
-                    pubSubMediator.tell(new DistributedPubSubMediator.Unsubscribe(
-                            stopStreaming.getStreamingType().getDistributedPubSubTopic(),
-                            connectionCorrelationId, getSelf()), getSelf());
+                    unsubscribe(stopStreaming.getStreamingType());
                 })
                 .match(DistributedPubSubMediator.SubscribeAck.class, subscribeAck -> {
                     LogUtil.enhanceLogWithCorrelationId(logger, connectionCorrelationId);
@@ -225,11 +229,7 @@ final class StreamingSessionActor extends AbstractActor {
                     // In Cluster: Unsubscribe from ThingEvents:
                     logger.info("<{}> connection was closed, unsubscribing from Streams in Cluster..", type);
 
-                    Arrays.stream(StreamingType.values())
-                            .map(StreamingType::getDistributedPubSubTopic)
-                            .forEach(topic ->
-                                    pubSubMediator.tell(new DistributedPubSubMediator.Unsubscribe(topic,
-                                            connectionCorrelationId, getSelf()), getSelf()));
+                    Arrays.stream(StreamingType.values()).forEach(this::unsubscribe);
 
                     getContext().getSystem()
                             .scheduler()
@@ -243,6 +243,29 @@ final class StreamingSessionActor extends AbstractActor {
                 .build();
     }
 
+    private void subscribe(final StreamingType streamingType) {
+        final ActorRef eventDispatcher = eventDispatchers.get(streamingType);
+        if (null != eventDispatcher) {
+            // the dispatcher of this node only receives the signals of the namespaces readable by the session
+            final List<String> namespaces = namespacesForStreamingTypes.get(streamingType);
+            eventDispatcher.tell(new EventDispatcherActor.SubscribeForEvents(EventInterest.of(
+                    null != namespaces ? namespaces : Collections.emptyList(), authorizationSubjects)), getSelf());
+        } else {
+            pubSubMediator.tell(new DistributedPubSubMediator.Subscribe(streamingType.getDistributedPubSubTopic(),
+                    connectionCorrelationId, getSelf()), getSelf());
+        }
+    }
+
+    private void unsubscribe(final StreamingType streamingType) {
+        final ActorRef eventDispatcher = eventDispatchers.get(streamingType);
+        if (null != eventDispatcher) {
+            eventDispatcher.tell(EventDispatcherActor.UnsubscribeFromEvents.getInstance(), getSelf());
+        } else {
+            pubSubMediator.tell(new DistributedPubSubMediator.Unsubscribe(streamingType.getDistributedPubSubTopic(),
+                    connectionCorrelationId, getSelf()), getSelf());
+        }
+    }
+
     private void handleSignal(final Signal<?> signal) {
         LogUtil.enhanceLogWithCorrelationId(logger, signal);
 
@@ -263,6 +286,7 @@ final class StreamingSessionActor extends AbstractActor {
                                 signal.getType(), type, signal);
 
                         eventAndResponsePublisher.tell(signal, getSelf());
+                        expectResponse(signal);
                     } else {
                         logger.debug("Signal does not match filter");
                     }
@@ -273,6 +297,19 @@ final class StreamingSessionActor extends AbstractActor {
         }
     }
 
+    /*
+     * The sender of live commands and messages is the requester, so the response of the client may be sent directly
+     * to it instead of via the concierge service.
+     */
+    private void expectResponse(final Signal<?> signal) {
+        final ActorRef requester = getSender();
+        if (signal instanceof Command && signal.getDittoHeaders().isResponseRequired() &&
+                !getContext().getSystem().deadLetters().equals(requester)) {
+            signal.getDittoHeaders().getCorrelationId().ifPresent(correlationId -> getContext().getParent()
+                    .tell(new StreamingActor.ExpectResponse(correlationId, requester), getSelf()));
+        }
+    }
+
     private boolean matchesNamespaces(final Signal<?> signal) {
         final StreamingType streamingType = determineStreamingType(signal);
 
@@ -319,8 +356,8 @@ final class StreamingSessionActor extends AbstractActor {
         if (signal instanceof ThingEvent) {
             final StreamingType streamingType = determineStreamingType(signal);
 
-            // currently only ThingEvents may be filtered with RQL
-            return ThingEventToThingConverter.thingEventToThing((ThingEvent) signal)
+            // currently only ThingEvents may be filtered with RQL; the Thing is shared with the other sessions
+            return SignalRepresentationCache.getInstance().thingOf((ThingEvent<?>) signal)
                     .filter(thing -> doMatchFilter(streamingType, thing))
                     .isPresent();
         } else {
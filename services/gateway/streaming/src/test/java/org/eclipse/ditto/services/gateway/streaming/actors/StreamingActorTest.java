@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.services.gateway.streaming.Connect;
+import org.eclipse.ditto.signals.commands.things.modify.DeleteThingResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.javadsl.TestKit;
+import akka.util.Timeout;
+import scala.concurrent.Await;
+
+/**
+ * Tests {@link StreamingActor}.
+ */
+public final class StreamingActorTest {
+
+    private static final String SESSION = "session";
+    private static final String OTHER_SESSION = "otherSession";
+    private static final String CORRELATION_ID = "correlationId";
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem");
+    }
+
+    @After
+    public void tearDown() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void sendsExpectedResponseDirectlyToRequester() {
+        new TestKit(actorSystem) {{
+            final TestKit commandRouter = new TestKit(actorSystem);
+            final TestKit requester = new TestKit(actorSystem);
+            final ActorRef underTest = createStreamingActor(commandRouter);
+            final ActorRef sessionActor = connect(underTest, SESSION);
+
+            underTest.tell(new StreamingActor.ExpectResponse(CORRELATION_ID, requester.getRef()), sessionActor);
+            final DeleteThingResponse response = response(SESSION);
+            underTest.tell(response, getRef());
+
+            requester.expectMsg(response);
+            assertThat(requester.getLastSender()).isEqualTo(sessionActor);
+            commandRouter.expectNoMessage();
+
+            // the receiver is forgotten after the response
+            underTest.tell(response, getRef());
+            commandRouter.expectMsg(response);
+            requester.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void sendsUnexpectedResponseToCommandRouter() {
+        new TestKit(actorSystem) {{
+            final TestKit commandRouter = new TestKit(actorSystem);
+            final ActorRef underTest = createStreamingActor(commandRouter);
+            final ActorRef sessionActor = connect(underTest, SESSION);
+
+            final DeleteThingResponse response = response(SESSION);
+            underTest.tell(response, getRef());
+
+            commandRouter.expectMsg(response);
+            assertThat(commandRouter.getLastSender()).isEqualTo(sessionActor);
+        }};
+    }
+
+    @Test
+    public void sendsResponseOfOtherSessionWithSameCorrelationIdToCommandRouter() {
+        new TestKit(actorSystem) {{
+            final TestKit commandRouter = new TestKit(actorSystem);
+            final TestKit requester = new TestKit(actorSystem);
+            final ActorRef underTest = createStreamingActor(commandRouter);
+            final ActorRef sessionActor = connect(underTest, SESSION);
+            connect(underTest, OTHER_SESSION);
+
+            underTest.tell(new StreamingActor.ExpectResponse(CORRELATION_ID, requester.getRef()), sessionActor);
+            final DeleteThingResponse otherResponse = response(OTHER_SESSION);
+            underTest.tell(otherResponse, getRef());
+
+            commandRouter.expectMsg(otherResponse);
+            requester.expectNoMessage();
+
+            final DeleteThingResponse response = response(SESSION);
+            underTest.tell(response, getRef());
+            requester.expectMsg(response);
+        }};
+    }
+
+    private ActorRef createStreamingActor(final TestKit commandRouter) {
+        final TestKit pubSubMediator = new TestKit(actorSystem);
+        return actorSystem.actorOf(
+                StreamingActor.props(pubSubMediator.getRef(), Collections.emptyMap(), commandRouter.getRef()));
+    }
+
+    private ActorRef connect(final ActorRef streamingActor, final String session) {
+        final TestKit eventAndResponsePublisher = new TestKit(actorSystem);
+        streamingActor.tell(new Connect(eventAndResponsePublisher.getRef(), session, "WS"), ActorRef.noSender());
+        eventAndResponsePublisher.expectMsgClass(Connect.class);
+        // the session actor is started after the publisher is told about the connection
+        final Timeout timeout = Timeout.apply(1, TimeUnit.SECONDS);
+        return eventAndResponsePublisher.awaitAssert(() -> {
+            try {
+                return Await.result(actorSystem.actorSelection(streamingActor.path().child(session))
+                        .resolveOne(timeout), timeout.duration());
+            } catch (final Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+    }
+
+    private static DeleteThingResponse response(final String session) {
+        return DeleteThingResponse.of("org.eclipse.ditto:thing", DittoHeaders.newBuilder()
+                .correlationId(CORRELATION_ID)
+                .origin(session)
+                .build());
+    }
+
+}
@@ -25,6 +25,7 @@ import org.eclipse.ditto.services.models.streaming.BatchedEntityIdWithRevisions;
 import org.eclipse.ditto.services.models.streaming.StreamingRegistry;
 import org.eclipse.ditto.services.utils.cluster.MappingStrategiesBuilder;
 import org.eclipse.ditto.services.utils.cluster.MappingStrategy;
+import org.eclipse.ditto.services.utils.cluster.ShardLoadReporter;
 import org.eclipse.ditto.signals.commands.devops.DevOpsCommandRegistry;
 import org.eclipse.ditto.signals.commands.devops.DevOpsCommandResponseRegistry;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommandRegistry;
@@ -51,7 +52,9 @@ public final class PoliciesMappingStrategy implements MappingStrategy {
                 .add(BatchedEntityIdWithRevisions.typeOf(PolicyTag.class),
                         BatchedEntityIdWithRevisions.deserializer(jsonObject -> PolicyTag.fromJson(jsonObject)))
                 .add(PolicyReferenceTag.class,
-                        jsonObject -> PolicyReferenceTag.fromJson(jsonObject));  // do not replace with lambda!
+                        jsonObject -> PolicyReferenceTag.fromJson(jsonObject))  // do not replace with lambda!
+                .add(ShardLoadReporter.ShardLoad.class,
+                        jsonObject -> ShardLoadReporter.ShardLoad.fromJson(jsonObject));  // do not replace with lambda!
     }
 
     private static void addDevOpsStrategies(final MappingStrategiesBuilder builder) {
@@ -31,6 +31,11 @@ public final class PoliciesMessagingConstants {
      */
     public static final String POLICIES_STREAM_PROVIDER_ACTOR_PATH = ROOT_ACTOR_PATH + "/persistenceStreamingActor";
 
+    /**
+     * Pub-sub topic of the Policy tags published by the change stream of the policies journal.
+     */
+    public static final String POLICY_TAGS_TOPIC = "policyTags";
+
     /**
      * Name of the shard region for Policy entities.
      */
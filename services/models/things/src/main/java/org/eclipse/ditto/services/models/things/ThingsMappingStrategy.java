@@ -24,6 +24,7 @@ import org.eclipse.ditto.services.models.things.commands.sudo.SudoCommandRegistr
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoCommandResponseRegistry;
 import org.eclipse.ditto.services.utils.cluster.MappingStrategiesBuilder;
 import org.eclipse.ditto.services.utils.cluster.MappingStrategy;
+import org.eclipse.ditto.services.utils.cluster.ShardLoadReporter;
 import org.eclipse.ditto.signals.commands.devops.DevOpsCommandRegistry;
 import org.eclipse.ditto.signals.commands.devops.DevOpsCommandResponseRegistry;
 import org.eclipse.ditto.signals.commands.things.ThingCommandRegistry;
@@ -50,6 +51,8 @@ public final class ThingsMappingStrategy implements MappingStrategy {
                 .add(ThingTag.class, jsonObject -> ThingTag.fromJson(jsonObject))  // do not replace with lambda!
                 .add(BatchedEntityIdWithRevisions.typeOf(ThingTag.class),
                         BatchedEntityIdWithRevisions.deserializer(jsonObject -> ThingTag.fromJson(jsonObject)))
+                .add(ShardLoadReporter.ShardLoad.class,
+                        jsonObject -> ShardLoadReporter.ShardLoad.fromJson(jsonObject))  // do not replace with lambda!
                 .build();
     }
 
@@ -31,6 +31,16 @@ public final class ThingsMessagingConstants {
      */
     public static final String THINGS_STREAM_PROVIDER_ACTOR_PATH = ROOT_ACTOR_PATH + "/persistenceStreamingActor";
 
+    /**
+     * Pub-sub topic of the Thing tags published by the change stream of the things journal.
+     */
+    public static final String THING_TAGS_TOPIC = "thingTags";
+
+    /**
+     * Path of the actor retrieving multiple Things in bulk.
+     */
+    public static final String THINGS_BULK_RETRIEVAL_ACTOR_PATH = ROOT_ACTOR_PATH + "/thingsBulkRetrieval";
+
     /**
      * Name of the shard region for Thing entities.
      */
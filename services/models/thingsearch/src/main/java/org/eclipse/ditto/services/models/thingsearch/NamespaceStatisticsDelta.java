@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+
+/**
+ * Changes of the statistics of namespaces caused by the Thing events one things updater of the search updater
+ * processed since it last sent its changes to the namespace statistics of the search updater.
+ */
+@Immutable
+public final class NamespaceStatisticsDelta implements Jsonifiable<JsonObject> {
+
+    private final Map<String, Entry> entries;
+
+    private NamespaceStatisticsDelta(final Map<String, Entry> entries) {
+        this.entries = Collections.unmodifiableMap(new HashMap<>(entries));
+    }
+
+    /**
+     * Returns a new {@link NamespaceStatisticsDelta}.
+     *
+     * @param entries the changes by namespace.
+     * @return a new {@link NamespaceStatisticsDelta}.
+     * @throws NullPointerException if {@code entries} is {@code null}.
+     */
+    public static NamespaceStatisticsDelta of(final Map<String, Entry> entries) {
+        return new NamespaceStatisticsDelta(requireNonNull(entries));
+    }
+
+    /**
+     * Creates a new {@link NamespaceStatisticsDelta} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which a new {@link NamespaceStatisticsDelta} is to be created.
+     * @return the {@link NamespaceStatisticsDelta} which was created from the given JSON object.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonObject} was not in the
+     * expected format.
+     */
+    public static NamespaceStatisticsDelta fromJson(final JsonObject jsonObject) {
+        final Map<String, Entry> extractedEntries = new HashMap<>();
+        jsonObject.getValueOrThrow(JsonFields.ENTRIES).forEach(value -> {
+            final JsonObject entryObject = value.asObject();
+            extractedEntries.put(entryObject.getValueOrThrow(JsonFields.NAMESPACE), Entry.fromJson(entryObject));
+        });
+
+        return new NamespaceStatisticsDelta(extractedEntries);
+    }
+
+    /**
+     * Returns the changes by namespace.
+     *
+     * @return the changes.
+     */
+    public Map<String, Entry> getEntries() {
+        return entries;
+    }
+
+    @Override
+    public JsonObject toJson() {
+        // namespaces may be empty, which is not allowed as JSON key
+        final JsonArrayBuilder entriesBuilder = JsonFactory.newArrayBuilder();
+        entries.forEach((namespace, entry) -> entriesBuilder.add(entry.toJson().set(JsonFields.NAMESPACE, namespace)));
+
+        return JsonFactory.newObjectBuilder()
+                .set(JsonFields.ENTRIES, entriesBuilder.build())
+                .build();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final NamespaceStatisticsDelta that = (NamespaceStatisticsDelta) o;
+        return Objects.equals(entries, that.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entries);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "entries=" + entries +
+                "]";
+    }
+
+    /**
+     * Changes of the statistics of one namespace.
+     */
+    @Immutable
+    public static final class Entry implements Jsonifiable<JsonObject> {
+
+        private final long thingCountDelta;
+        private final long events;
+        private final long eventBytes;
+
+        private Entry(final long thingCountDelta, final long events, final long eventBytes) {
+            this.thingCountDelta = thingCountDelta;
+            this.events = events;
+            this.eventBytes = eventBytes;
+        }
+
+        /**
+         * Returns a new {@link Entry}.
+         *
+         * @param thingCountDelta the change of the amount of Things of the namespace.
+         * @param events the amount of processed events of the namespace.
+         * @param eventBytes the size of the processed events of the namespace.
+         * @return a new {@link Entry}.
+         */
+        public static Entry of(final long thingCountDelta, final long events, final long eventBytes) {
+            return new Entry(thingCountDelta, events, eventBytes);
+        }
+
+        /**
+         * Creates a new {@link Entry} from a JSON object.
+         *
+         * @param jsonObject the JSON object of which a new {@link Entry} is to be created.
+         * @return the {@link Entry} which was created from the given JSON object.
+         * @throws NullPointerException if {@code jsonObject} is {@code null}.
+         * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonObject} was not in
+         * the expected format.
+         */
+        public static Entry fromJson(final JsonObject jsonObject) {
+            return new Entry(jsonObject.getValueOrThrow(JsonFields.THING_COUNT_DELTA),
+                    jsonObject.getValueOrThrow(JsonFields.EVENTS),
+                    jsonObject.getValueOrThrow(JsonFields.EVENT_BYTES));
+        }
+
+        /**
+         * Returns the change of the amount of Things of the namespace.
+         *
+         * @return the change.
+         */
+        public long getThingCountDelta() {
+            return thingCountDelta;
+        }
+
+        /**
+         * Returns the amount of processed events of the namespace.
+         *
+         * @return the amount of events.
+         */
+        public long getEvents() {
+            return events;
+        }
+
+        /**
+         * Returns the size of the processed events of the namespace.
+         *
+         * @return the size in bytes.
+         */
+        public long getEventBytes() {
+            return eventBytes;
+        }
+
+        @Override
+        public JsonObject toJson() {
+            return JsonFactory.newObjectBuilder()
+                    .set(JsonFields.THING_COUNT_DELTA, thingCountDelta)
+                    .set(JsonFields.EVENTS, events)
+                    .set(JsonFields.EVENT_BYTES, eventBytes)
+                    .build();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Entry that = (Entry) o;
+            return thingCountDelta == that.thingCountDelta &&
+                    events == that.events &&
+                    eventBytes == that.eventBytes;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(thingCountDelta, events, eventBytes);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "thingCountDelta=" + thingCountDelta +
+                    ", events=" + events +
+                    ", eventBytes=" + eventBytes +
+                    "]";
+        }
+
+        /**
+         * An enumeration of the known {@link org.eclipse.ditto.json.JsonField}s of an Entry.
+         */
+        @Immutable
+        public static final class JsonFields {
+
+            /**
+             * JSON field containing the change of the amount of Things.
+             */
+            public static final JsonFieldDefinition<Long> THING_COUNT_DELTA =
+                    JsonFactory.newLongFieldDefinition("thingCountDelta");
+
+            /**
+             * JSON field containing the amount of events.
+             */
+            public static final JsonFieldDefinition<Long> EVENTS = JsonFactory.newLongFieldDefinition("events");
+
+            /**
+             * JSON field containing the size of the events.
+             */
+            public static final JsonFieldDefinition<Long> EVENT_BYTES =
+                    JsonFactory.newLongFieldDefinition("eventBytes");
+
+            private JsonFields() {
+                throw new AssertionError();
+            }
+
+        }
+
+    }
+
+    /**
+     * An enumeration of the known {@link org.eclipse.ditto.json.JsonField}s of a NamespaceStatisticsDelta.
+     */
+    @Immutable
+    public static final class JsonFields {
+
+        /**
+         * JSON field containing the changes of all namespaces.
+         */
+        public static final JsonFieldDefinition<JsonArray> ENTRIES =
+                JsonFactory.newJsonArrayFieldDefinition("entries");
+
+        /**
+         * JSON field containing the namespace of an entry.
+         */
+        public static final JsonFieldDefinition<String> NAMESPACE = JsonFactory.newStringFieldDefinition("namespace");
+
+        private JsonFields() {
+            throw new AssertionError();
+        }
+
+    }
+
+}
@@ -13,6 +13,7 @@ package org.eclipse.ditto.services.models.thingsearch;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -103,6 +104,15 @@ public final class SearchNamespaceReportResult implements Jsonifiable.WithPredic
         return searchNamespaceResultEntries.get(namespace);
     }
 
+    /**
+     * Get all SearchNamespaceResultEntries of this report.
+     *
+     * @return the entries.
+     */
+    public Collection<SearchNamespaceResultEntry> getNamespaceEntries() {
+        return Collections.unmodifiableCollection(searchNamespaceResultEntries.values());
+    }
+
     @Override
     public JsonObject toJson(final Predicate<JsonField> predicate) {
         final JsonSchemaVersion jsonSchemaVersion = JsonSchemaVersion.V_1;
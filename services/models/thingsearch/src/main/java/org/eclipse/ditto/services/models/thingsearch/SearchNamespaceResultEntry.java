@@ -11,21 +11,25 @@
 package org.eclipse.ditto.services.models.thingsearch;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 
 
 /**
- * Represents the number of Things for a namespace.
+ * Represents the number of Things for a namespace and, if maintained by the namespace statistics of the search updater,
+ * the rate and size of the events of the namespace.
  */
 @Immutable
 public final class SearchNamespaceResultEntry implements Jsonifiable.WithPredicate<JsonObject, JsonField> {
@@ -39,8 +43,16 @@ public final class SearchNamespaceResultEntry implements Jsonifiable.WithPredica
     private static final JsonFieldDefinition<Long> COUNT_JSON_FIELD =
             JsonFactory.newLongFieldDefinition("count", FieldType.REGULAR, JsonSchemaVersion.V_1);
 
+    private static final JsonFieldDefinition<Double> EVENTS_PER_SECOND_JSON_FIELD =
+            JsonFactory.newDoubleFieldDefinition("eventsPerSecond", FieldType.REGULAR, JsonSchemaVersion.V_1);
+
+    private static final JsonFieldDefinition<Long> EVENT_BYTES_JSON_FIELD =
+            JsonFactory.newLongFieldDefinition("eventBytes", FieldType.REGULAR, JsonSchemaVersion.V_1);
+
     private final String namespace;
     private final long count;
+    @Nullable private final Double eventsPerSecond;
+    @Nullable private final Long eventBytes;
 
     /**
      * Creates a Namespace Entry.
@@ -51,6 +63,24 @@ public final class SearchNamespaceResultEntry implements Jsonifiable.WithPredica
     public SearchNamespaceResultEntry(final String namespace, final long count) {
         this.namespace = namespace;
         this.count = count;
+        eventsPerSecond = null;
+        eventBytes = null;
+    }
+
+    /**
+     * Creates a Namespace Entry including event statistics.
+     *
+     * @param namespace the namespace.
+     * @param count the number of Things.
+     * @param eventsPerSecond the rate of events of the namespace.
+     * @param eventBytes the size of the events of the namespace in bytes.
+     */
+    public SearchNamespaceResultEntry(final String namespace, final long count, final double eventsPerSecond,
+            final long eventBytes) {
+        this.namespace = namespace;
+        this.count = count;
+        this.eventsPerSecond = eventsPerSecond;
+        this.eventBytes = eventBytes;
     }
 
     /**
@@ -85,28 +115,33 @@ public final class SearchNamespaceResultEntry implements Jsonifiable.WithPredica
     public static SearchNamespaceResultEntry fromJson(final JsonObject jsonObject) {
         final String namespace = jsonObject.getValueOrThrow(NAMESPACE_JSON_FIELD);
         final long count = jsonObject.getValueOrThrow(COUNT_JSON_FIELD);
+        final Optional<Double> eventsPerSecond = jsonObject.getValue(EVENTS_PER_SECOND_JSON_FIELD);
+        final Optional<Long> eventBytes = jsonObject.getValue(EVENT_BYTES_JSON_FIELD);
 
+        if (eventsPerSecond.isPresent() || eventBytes.isPresent()) {
+            return new SearchNamespaceResultEntry(namespace, count, eventsPerSecond.orElse(0.0), eventBytes.orElse(0L));
+        }
         return new SearchNamespaceResultEntry(namespace, count);
     }
 
     @Override
     public JsonObject toJson(final Predicate<JsonField> predicate) {
-        final JsonSchemaVersion jsonSchemaVersion = JsonSchemaVersion.V_1;
-
-        return JsonFactory.newObjectBuilder()
-                .set(SCHEMA_VERSION_JSON_FIELD, jsonSchemaVersion.toInt(), predicate)
-                .set(NAMESPACE_JSON_FIELD, namespace, predicate)
-                .set(COUNT_JSON_FIELD, count, predicate)
-                .build();
+        return toJson(JsonSchemaVersion.V_1, predicate);
     }
 
     @Override
     public JsonObject toJson(final JsonSchemaVersion schemaVersion, final Predicate<JsonField> predicate) {
-        return JsonFactory.newObjectBuilder()
+        final JsonObjectBuilder jsonObjectBuilder = JsonFactory.newObjectBuilder()
                 .set(SCHEMA_VERSION_JSON_FIELD, schemaVersion.toInt(), predicate)
                 .set(NAMESPACE_JSON_FIELD, namespace, predicate)
-                .set(COUNT_JSON_FIELD, count, predicate)
-                .build();
+                .set(COUNT_JSON_FIELD, count, predicate);
+        if (null != eventsPerSecond) {
+            jsonObjectBuilder.set(EVENTS_PER_SECOND_JSON_FIELD, eventsPerSecond, predicate);
+        }
+        if (null != eventBytes) {
+            jsonObjectBuilder.set(EVENT_BYTES_JSON_FIELD, eventBytes, predicate);
+        }
+        return jsonObjectBuilder.build();
     }
 
     @Override
@@ -121,12 +156,15 @@ public final class SearchNamespaceResultEntry implements Jsonifiable.WithPredica
         if (o == null || getClass() != o.getClass())
             return false;
         final SearchNamespaceResultEntry that = (SearchNamespaceResultEntry) o;
-        return count == that.count && Objects.equals(namespace, that.namespace);
+        return count == that.count &&
+                Objects.equals(eventsPerSecond, that.eventsPerSecond) &&
+                Objects.equals(eventBytes, that.eventBytes) &&
+                Objects.equals(namespace, that.namespace);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(namespace, count);
+        return Objects.hash(namespace, count, eventsPerSecond, eventBytes);
     }
 
     /**
@@ -138,6 +176,24 @@ public final class SearchNamespaceResultEntry implements Jsonifiable.WithPredica
         return count;
     }
 
+    /**
+     * Get the rate of events of the namespace.
+     *
+     * @return the events per second or 0 if not maintained.
+     */
+    public double getEventsPerSecond() {
+        return null != eventsPerSecond ? eventsPerSecond : 0.0;
+    }
+
+    /**
+     * Get the size of the events of the namespace since the namespace statistics were started.
+     *
+     * @return the size of the events in bytes or 0 if not maintained.
+     */
+    public long getEventBytes() {
+        return null != eventBytes ? eventBytes : 0L;
+    }
+
     /**
      * Get Namespace for this Report Entry.
      *
@@ -161,6 +217,8 @@ public final class SearchNamespaceResultEntry implements Jsonifiable.WithPredica
         return "SearchNamespaceResultEntry{" +
                 "namespace='" + namespace + '\'' +
                 ", count=" + count +
+                ", eventsPerSecond=" + eventsPerSecond +
+                ", eventBytes=" + eventBytes +
                 '}';
     }
 
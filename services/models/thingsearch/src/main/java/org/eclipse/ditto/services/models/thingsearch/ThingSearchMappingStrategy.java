@@ -53,6 +53,10 @@ public final class ThingSearchMappingStrategy implements MappingStrategy {
         builder.add(ThingSearchSudoCommandRegistry.newInstance());
         builder.add(ThingSearchSudoCommandResponseRegistry.newInstance());
         builder.add(StreamingRegistry.newInstance());
+        builder.add(ThingWithPolicyTag.class,
+                jsonObject -> ThingWithPolicyTag.fromJson(jsonObject)); // do not replace with lambda!
+        builder.add(NamespaceStatisticsDelta.class,
+                jsonObject -> NamespaceStatisticsDelta.fromJson(jsonObject)); // do not replace with lambda!
     }
 
     private static void addDevOpsStrategies(final MappingStrategiesBuilder builder) {
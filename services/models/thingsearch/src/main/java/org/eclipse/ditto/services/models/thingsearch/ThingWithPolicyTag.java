@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.streaming.IdentifiableStreamingMessage;
+
+/**
+ * Represents a Thing retrieved by the policy fanout of the search updater together with the {@link PolicyTag} of the
+ * changed policy the Thing references, so that the Thing can be re-indexed without retrieving it again.
+ */
+@Immutable
+public final class ThingWithPolicyTag implements IdentifiableStreamingMessage, Jsonifiable<JsonObject> {
+
+    /** Use a separator which cannot overlap with a Thing ID **/
+    private static final String THING_ID_FROM_POLICY_REVISION_SEPARATOR = "/";
+
+    private final Thing thing;
+    private final PolicyTag policyTag;
+
+    private ThingWithPolicyTag(final Thing thing, final PolicyTag policyTag) {
+        this.thing = requireNonNull(thing);
+        this.policyTag = requireNonNull(policyTag);
+        requireNonNull(thing.getId().orElse(null), "The Thing has no ID!");
+    }
+
+    /**
+     * Returns a new {@link ThingWithPolicyTag}.
+     *
+     * @param thing the Thing referencing the policy.
+     * @param policyTag the {@link PolicyTag} of the policy.
+     * @return a new {@link ThingWithPolicyTag}.
+     * @throws NullPointerException if any argument is {@code null} or if the Thing has no ID.
+     */
+    public static ThingWithPolicyTag of(final Thing thing, final PolicyTag policyTag) {
+        return new ThingWithPolicyTag(thing, policyTag);
+    }
+
+    /**
+     * Creates a new {@link ThingWithPolicyTag} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which a new {@link ThingWithPolicyTag} is to be created.
+     * @return the {@link ThingWithPolicyTag} which was created from the given JSON object.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonObject} was not in the
+     * expected format.
+     */
+    public static ThingWithPolicyTag fromJson(final JsonObject jsonObject) {
+        final Thing extractedThing = ThingsModelFactory.newThing(jsonObject.getValueOrThrow(JsonFields.THING));
+        final String extractedPolicyId = jsonObject.getValueOrThrow(JsonFields.POLICY_ID);
+        final long extractedPolicyRev = jsonObject.getValueOrThrow(JsonFields.POLICY_REV);
+
+        return new ThingWithPolicyTag(extractedThing, PolicyTag.of(extractedPolicyId, extractedPolicyRev));
+    }
+
+    /**
+     * Returns the ID of the Thing.
+     *
+     * @return the ID.
+     */
+    public String getThingId() {
+        return thing.getId().orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Returns the Thing.
+     *
+     * @return the Thing.
+     */
+    public Thing getThing() {
+        return thing;
+    }
+
+    /**
+     * Returns the {@link PolicyTag}.
+     *
+     * @return the {@link PolicyTag}.
+     */
+    public PolicyTag getPolicyTag() {
+        return policyTag;
+    }
+
+    @Override
+    public JsonObject toJson() {
+        return JsonFactory.newObjectBuilder()
+                .set(JsonFields.THING, thing.toJson(thing.getImplementedSchemaVersion(), FieldType.regularOrSpecial()))
+                .set(JsonFields.POLICY_ID, policyTag.getId())
+                .set(JsonFields.POLICY_REV, policyTag.getRevision())
+                .build();
+    }
+
+    @Override
+    public String asIdentifierString() {
+        return getThingId() + THING_ID_FROM_POLICY_REVISION_SEPARATOR + policyTag.getRevision();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ThingWithPolicyTag that = (ThingWithPolicyTag) o;
+        return Objects.equals(thing, that.thing) &&
+                Objects.equals(policyTag, that.policyTag);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(thing, policyTag);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "thing=" + thing +
+                ", policyTag=" + policyTag +
+                ']';
+    }
+
+    /**
+     * An enumeration of the known {@link org.eclipse.ditto.json.JsonField}s of a ThingWithPolicyTag.
+     */
+    @Immutable
+    public static final class JsonFields {
+
+        /**
+         * JSON field containing the Thing.
+         */
+        public static final JsonFieldDefinition<JsonObject> THING = JsonFactory.newJsonObjectFieldDefinition("thing");
+
+        /**
+         * JSON field containing the policy-id.
+         */
+        public static final JsonFieldDefinition<String> POLICY_ID = JsonFactory.newStringFieldDefinition("policyId");
+
+        /**
+         * JSON field containing the policy-revision.
+         */
+        public static final JsonFieldDefinition<Long> POLICY_REV = JsonFactory.newLongFieldDefinition("policyRev");
+
+        private JsonFields() {
+            throw new AssertionError();
+        }
+
+    }
+
+}
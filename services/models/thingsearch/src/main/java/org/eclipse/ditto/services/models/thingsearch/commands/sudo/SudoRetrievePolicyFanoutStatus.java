@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch.commands.sudo;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command which retrieves the progress of the re-indexing of Things after changes of their policies (without
+ * authorization).
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+public final class SudoRetrievePolicyFanoutStatus extends AbstractCommand<SudoRetrievePolicyFanoutStatus>
+        implements ThingSearchSudoCommand<SudoRetrievePolicyFanoutStatus> {
+
+    /**
+     * Name of the command.
+     */
+    public static final String NAME = "sudoRetrievePolicyFanoutStatus";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    private SudoRetrievePolicyFanoutStatus(final DittoHeaders dittoHeaders) {
+        super(TYPE, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrievePolicyFanoutStatus}.
+     *
+     * @param dittoHeaders the command headers of the request.
+     * @return a command for retrieving the policy fanout status without authorization.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoRetrievePolicyFanoutStatus of(final DittoHeaders dittoHeaders) {
+        return new SudoRetrievePolicyFanoutStatus(dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrievePolicyFanoutStatus} from a JSON string.
+     *
+     * @param jsonString the JSON string of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static SudoRetrievePolicyFanoutStatus fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrievePolicyFanoutStatus} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoRetrievePolicyFanoutStatus fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+        return new CommandJsonDeserializer<SudoRetrievePolicyFanoutStatus>(TYPE, jsonObject)
+                .deserialize(() -> of(dittoHeaders));
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+        // nothing to do
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public SudoRetrievePolicyFanoutStatus setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(dittoHeaders);
+    }
+
+    @SuppressWarnings({"squid:MethodCyclomaticComplexity", "squid:S1067"})
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return super.equals(o);
+    }
+
+    @SuppressWarnings("squid:S109")
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode());
+    }
+
+    @Override
+    protected boolean canEqual(final Object other) {
+        return (other instanceof SudoRetrievePolicyFanoutStatus);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + "]";
+    }
+
+}
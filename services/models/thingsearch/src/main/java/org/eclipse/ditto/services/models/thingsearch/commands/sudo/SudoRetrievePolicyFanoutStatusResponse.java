@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch.commands.sudo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.AbstractCommandResponse;
+import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
+
+/**
+ * Response to a {@link SudoRetrievePolicyFanoutStatus} containing the status of the re-indexing of Things after changes
+ * of their policies, e.g. the policy currently processed, its progress and the estimated remaining time.
+ */
+@Immutable
+public final class SudoRetrievePolicyFanoutStatusResponse extends
+        AbstractCommandResponse<SudoRetrievePolicyFanoutStatusResponse>
+        implements ThingSearchSudoCommandResponse<SudoRetrievePolicyFanoutStatusResponse> {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE = TYPE_PREFIX + SudoRetrievePolicyFanoutStatus.NAME;
+
+    private final JsonObject status;
+
+    private SudoRetrievePolicyFanoutStatusResponse(final JsonObject status, final DittoHeaders dittoHeaders) {
+        super(TYPE, HttpStatusCode.OK, dittoHeaders);
+        this.status = status;
+    }
+
+    /**
+     * Returns a new instance of {@code SudoRetrievePolicyFanoutStatusResponse}.
+     *
+     * @param status the status of the policy fanout.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return a new retrieve command response object.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoRetrievePolicyFanoutStatusResponse of(final JsonObject status,
+            final DittoHeaders dittoHeaders) {
+        checkNotNull(status, "policy fanout status");
+
+        return new SudoRetrievePolicyFanoutStatusResponse(status, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@link SudoRetrievePolicyFanoutStatus} command from a JSON string.
+     *
+     * @param jsonString the JSON string of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static SudoRetrievePolicyFanoutStatusResponse fromJson(final String jsonString,
+            final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@link SudoRetrievePolicyFanoutStatus} command from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoRetrievePolicyFanoutStatusResponse fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+        return new CommandResponseJsonDeserializer<SudoRetrievePolicyFanoutStatusResponse>(TYPE, jsonObject)
+                .deserialize((statusCode) -> {
+                    final JsonObject status = jsonObject.getValueOrThrow(JsonFields.PAYLOAD).asObject();
+                    return of(status, dittoHeaders);
+                });
+    }
+
+    /**
+     * Returns the status of the policy fanout.
+     *
+     * @return the status.
+     */
+    public JsonObject getStatus() {
+        return status;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JsonFields.PAYLOAD, status, predicate);
+    }
+
+    @Override
+    public JsonValue getEntity(final JsonSchemaVersion schemaVersion) {
+        return status;
+    }
+
+    @Override
+    public SudoRetrievePolicyFanoutStatusResponse setEntity(final JsonValue entity) {
+        checkNotNull(entity, "entity");
+        return of(entity.asObject(), getDittoHeaders());
+    }
+
+    @Override
+    public SudoRetrievePolicyFanoutStatusResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(status, dittoHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), status);
+    }
+
+    @SuppressWarnings({"squid:MethodCyclomaticComplexity", "squid:S1067"})
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SudoRetrievePolicyFanoutStatusResponse that = (SudoRetrievePolicyFanoutStatusResponse) o;
+        return that.canEqual(this) && Objects.equals(status, that.status) && super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(final Object other) {
+        return (other instanceof SudoRetrievePolicyFanoutStatusResponse);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [status=" + status + "]";
+    }
+
+}
@@ -42,6 +42,7 @@ public final class ThingSearchSudoCommandRegistry extends AbstractCommandRegistr
 
         parseStrategies.put(SudoCountThings.TYPE, SudoCountThings::fromJson);
         parseStrategies.put(SudoRetrieveNamespaceReport.TYPE, SudoRetrieveNamespaceReport::fromJson);
+        parseStrategies.put(SudoRetrievePolicyFanoutStatus.TYPE, SudoRetrievePolicyFanoutStatus::fromJson);
 
         return new ThingSearchSudoCommandRegistry(parseStrategies);
     }
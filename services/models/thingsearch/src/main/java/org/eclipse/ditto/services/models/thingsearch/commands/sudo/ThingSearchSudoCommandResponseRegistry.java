@@ -42,6 +42,8 @@ public final class ThingSearchSudoCommandResponseRegistry
 
         parseStrategies.put(CountThingsResponse.TYPE, CountThingsResponse::fromJson); //returned by SudoCountThings
         parseStrategies.put(SudoRetrieveNamespaceReportResponse.TYPE, SudoRetrieveNamespaceReportResponse::fromJson);
+        parseStrategies.put(SudoRetrievePolicyFanoutStatusResponse.TYPE,
+                SudoRetrievePolicyFanoutStatusResponse::fromJson);
 
         return new ThingSearchSudoCommandResponseRegistry(parseStrategies);
     }
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * Tests {@link NamespaceStatisticsDelta}.
+ */
+public final class NamespaceStatisticsDeltaTest {
+
+    @Test
+    public void jsonTest() {
+        final Map<String, NamespaceStatisticsDelta.Entry> entries = new HashMap<>();
+        entries.put("org.eclipse.ditto", NamespaceStatisticsDelta.Entry.of(2L, 5L, 640L));
+        entries.put("", NamespaceStatisticsDelta.Entry.of(-1L, 1L, 80L));
+        final NamespaceStatisticsDelta delta = NamespaceStatisticsDelta.of(entries);
+
+        final JsonObject json = delta.toJson();
+        final NamespaceStatisticsDelta result = NamespaceStatisticsDelta.fromJson(json);
+
+        assertThat(result).isEqualTo(delta);
+        assertThat(result.getEntries().get("org.eclipse.ditto").getEventBytes()).isEqualTo(640L);
+    }
+
+}
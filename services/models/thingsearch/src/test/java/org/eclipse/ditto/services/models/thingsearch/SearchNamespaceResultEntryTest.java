@@ -35,4 +35,27 @@ public class SearchNamespaceResultEntryTest {
 
         Assertions.assertThat(result).isEqualTo(searchNamespaceResultEntry);
     }
+
+    @Test
+    public void eventStatisticsAreOnlyContainedInJsonIfMaintained() {
+        final JsonObject withoutEventStatistics = new SearchNamespaceResultEntry("ns1", 4711).toJson();
+        final JsonObject withEventStatistics = new SearchNamespaceResultEntry("ns1", 4711, 0.0, 0L).toJson();
+
+        Assertions.assertThat(withoutEventStatistics.contains("eventsPerSecond")).isFalse();
+        Assertions.assertThat(withoutEventStatistics.contains("eventBytes")).isFalse();
+        Assertions.assertThat(withEventStatistics.contains("eventsPerSecond")).isTrue();
+        Assertions.assertThat(withEventStatistics.contains("eventBytes")).isTrue();
+    }
+
+    @Test
+    public void jsonTestWithEventStatistics() {
+        final SearchNamespaceResultEntry searchNamespaceResultEntry =
+                new SearchNamespaceResultEntry("ns1", 4711, 12.5, 1024L);
+
+        final JsonObject searchNamespaceResultEntryJson = searchNamespaceResultEntry.toJson();
+        final SearchNamespaceResultEntry result = SearchNamespaceResultEntry.fromJson(searchNamespaceResultEntryJson);
+
+        Assertions.assertThat(result).isEqualTo(searchNamespaceResultEntry);
+    }
+
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.junit.Test;
+
+/**
+ * Tests {@link ThingWithPolicyTag}.
+ */
+public final class ThingWithPolicyTagTest {
+
+    private static final Thing THING = ThingsModelFactory.newThingBuilder()
+            .setId("org.eclipse.ditto:thing")
+            .setPolicyId("org.eclipse.ditto:policy")
+            .setAttribute(JsonPointer.of("location"), JsonValue.of("Berlin"))
+            .setRevision(7L)
+            .build();
+
+    private static final PolicyTag POLICY_TAG = PolicyTag.of("org.eclipse.ditto:policy", 3L);
+
+    @Test
+    public void jsonTest() {
+        final ThingWithPolicyTag thingWithPolicyTag = ThingWithPolicyTag.of(THING, POLICY_TAG);
+
+        final JsonObject json = thingWithPolicyTag.toJson();
+        final ThingWithPolicyTag result = ThingWithPolicyTag.fromJson(json);
+
+        assertThat(result).isEqualTo(thingWithPolicyTag);
+        assertThat(result.getThing().getRevision()).isEqualTo(THING.getRevision());
+    }
+
+    @Test
+    public void identifierContainsThingIdAndPolicyRevision() {
+        final ThingWithPolicyTag thingWithPolicyTag = ThingWithPolicyTag.of(THING, POLICY_TAG);
+
+        assertThat(thingWithPolicyTag.getThingId()).isEqualTo("org.eclipse.ditto:thing");
+        assertThat(thingWithPolicyTag.asIdentifierString()).isEqualTo("org.eclipse.ditto:thing/3");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void thingWithoutIdIsRejected() {
+        ThingWithPolicyTag.of(ThingsModelFactory.newThingBuilder().setRevision(1L).build(), POLICY_TAG);
+    }
+
+}
@@ -10,14 +10,20 @@
  */
 package org.eclipse.ditto.services.policies.persistence.actors.policies;
 
+import java.time.Duration;
+
+import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.policies.persistence.actors.policy.PolicyPersistenceActor;
 import org.eclipse.ditto.services.utils.persistence.mongo.DefaultPersistenceStreamingActor;
+import org.eclipse.ditto.services.utils.persistence.mongo.JournalChangeStreamActor;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
 
 import com.typesafe.config.Config;
 
+import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.stream.Materializer;
 
 
 /**
@@ -46,6 +52,27 @@ public final class PoliciesPersistenceStreamingActorCreator {
                 PoliciesPersistenceStreamingActorCreator::createElement);
     }
 
+    /**
+     * Creates Akka configuration object Props for the actor publishing the Policy tags of the events written to
+     * the journal, see {@link JournalChangeStreamActor}.
+     *
+     * @param config the actor system configuration.
+     * @param pubSubMediator the PubSub mediator Actor.
+     * @param batchSize the maximum amount of Policy tags to publish in one batch.
+     * @param batchInterval the maximum time to wait for further Policy tags of a batch.
+     * @param resumeTokensCollection the collection to persist the resume tokens of the change streams in.
+     * @param materializer the materializer to run the change streams with.
+     * @return the Akka configuration Props object.
+     */
+    public static Props changeStreamProps(final Config config, final ActorRef pubSubMediator, final int batchSize,
+            final Duration batchInterval, final String resumeTokensCollection, final Materializer materializer) {
+
+        return JournalChangeStreamActor.props(PolicyTag.class, config,
+                PoliciesPersistenceStreamingActorCreator::createElement, pubSubMediator,
+                PoliciesMessagingConstants.POLICY_TAGS_TOPIC,
+                resumeTokensCollection, batchSize, batchInterval, materializer);
+    }
+
     private static PolicyTag createElement(final PidWithSeqNr pidWithSeqNr) {
         final String id = pidWithSeqNr.getPersistenceId()
                 .replaceFirst(PolicyPersistenceActor.PERSISTENCE_ID_PREFIX, "");
@@ -52,6 +52,7 @@ import org.eclipse.ditto.services.policies.persistence.actors.StrategyAwareRecei
 import org.eclipse.ditto.services.policies.util.ConfigKeys;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.headers.conditional.ConditionalHeadersValidator;
+import org.eclipse.ditto.services.utils.metrics.hotentities.HotEntities;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
@@ -586,6 +587,7 @@ public final class PolicyPersistenceActor extends AbstractPersistentActor {
 
         persist(event, persistedEvent -> {
             log.info("Successfully persisted Event <{}>.", event.getType());
+            HotEntities.record(HotEntities.POLICY_PERSISTENCE, policyId);
 
             // after the event was persisted, apply the event on the current actor state
             handlePolicyEvents.onMessage().apply(persistedEvent);
@@ -790,6 +792,15 @@ public final class PolicyPersistenceActor extends AbstractPersistentActor {
             return command -> Objects.equals(policyId, command.getId());
         }
 
+        @Override
+        public FI.UnitApply<T> getApplyFunction() {
+            return command -> {
+                HotEntities.record(HotEntities.POLICY_MESSAGES, policyId);
+                HotEntities.recordNamespace(policyId);
+                apply(command);
+            };
+        }
+
     }
 
     /**
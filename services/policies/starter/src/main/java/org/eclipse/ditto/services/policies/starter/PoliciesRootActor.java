@@ -29,6 +29,7 @@ import org.eclipse.ditto.services.policies.persistence.actors.policy.PolicySuper
 import org.eclipse.ditto.services.policies.util.ConfigKeys;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
+import org.eclipse.ditto.services.utils.cluster.ShardLoadTracker;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.config.ConfigUtil;
 import org.eclipse.ditto.services.utils.config.MongoConfig;
@@ -36,6 +37,7 @@ import org.eclipse.ditto.services.utils.health.DefaultHealthCheckingActorFactory
 import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
 import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.JournalChangeStreamActor;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientActor;
 
 import com.typesafe.config.Config;
@@ -48,6 +50,7 @@ import akka.actor.ActorSystem;
 import akka.actor.CoordinatedShutdown;
 import akka.actor.InvalidActorNameException;
 import akka.actor.OneForOneStrategy;
+import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.actor.SupervisorStrategy;
@@ -56,6 +59,8 @@ import akka.cluster.pubsub.DistributedPubSubMediator;
 import akka.cluster.sharding.ClusterSharding;
 import akka.cluster.sharding.ClusterShardingSettings;
 import akka.cluster.sharding.ShardRegion;
+import akka.cluster.singleton.ClusterSingletonManager;
+import akka.cluster.singleton.ClusterSingletonManagerSettings;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.http.javadsl.ConnectHttp;
 import akka.http.javadsl.Http;
@@ -147,12 +152,32 @@ public final class PoliciesRootActor extends AbstractActor {
         final ActorRef persistenceStreamingActor = startChildActor(PoliciesPersistenceStreamingActorCreator.ACTOR_NAME,
                 PoliciesPersistenceStreamingActorCreator.props(config, tagsStreamingCacheSize));
 
+        if (config.getBoolean(ConfigKeys.POLICIES_TAGS_CHANGE_STREAM_ENABLED)) {
+            // one change stream per cluster suffices, the published tags are consumed by one search updater each
+            final Props changeStreamProps = PoliciesPersistenceStreamingActorCreator.changeStreamProps(config,
+                    pubSubMediator,
+                    config.getInt(ConfigKeys.POLICIES_TAGS_CHANGE_STREAM_BATCH_SIZE),
+                    config.getDuration(ConfigKeys.POLICIES_TAGS_CHANGE_STREAM_BATCH_INTERVAL),
+                    config.getString(ConfigKeys.POLICIES_TAGS_CHANGE_STREAM_RESUME_TOKENS_COLLECTION), materializer);
+            final ClusterSingletonManagerSettings singletonSettings = ClusterSingletonManagerSettings
+                    .create(getContext().system())
+                    .withRole(PoliciesMessagingConstants.CLUSTER_ROLE);
+            startChildActor(JournalChangeStreamActor.ACTOR_NAME,
+                    ClusterSingletonManager.props(changeStreamProps, PoisonPill.getInstance(), singletonSettings));
+        }
+
         pubSubMediator.tell(new DistributedPubSubMediator.Put(getSelf()), getSelf());
         pubSubMediator.tell(new DistributedPubSubMediator.Put(persistenceStreamingActor), getSelf());
 
+        final ShardLoadTracker shardLoadTracker = ShardLoadTracker.newInstance();
         policiesShardRegion = ClusterSharding.get(getContext().system())
                 .start(PoliciesMessagingConstants.SHARD_REGION, policySupervisorProps, shardingSettings,
-                        ShardRegionExtractor.of(numberOfShards, getContext().getSystem()));
+                        ShardRegionExtractor.of(numberOfShards, getContext().getSystem(), shardLoadTracker),
+                        configReader.cluster()
+                                .shardAllocation()
+                                .createAllocationStrategy(getContext().getSystem(), shardingSettings,
+                                        PoliciesMessagingConstants.SHARD_REGION, shardLoadTracker),
+                        PoisonPill.getInstance());
 
         final HealthConfigReader healthConfig = configReader.health();
 
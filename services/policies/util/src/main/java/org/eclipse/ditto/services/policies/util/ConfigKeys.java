@@ -32,6 +32,31 @@ public final class ConfigKeys {
     public static final String POLICIES_TAGS_STREAMING_CACHE_SIZE = POLICIES_TAGS_PREFIX +
             "streaming-cache-size";
 
+    private static final String POLICIES_TAGS_CHANGE_STREAM_PREFIX = POLICIES_TAGS_PREFIX + "change-stream.";
+
+    /**
+     * Whether to publish the Policy tags of written events by watching the journal with MongoDB change streams.
+     */
+    public static final String POLICIES_TAGS_CHANGE_STREAM_ENABLED = POLICIES_TAGS_CHANGE_STREAM_PREFIX + "enabled";
+
+    /**
+     * The maximum amount of Policy tags published in one batch by the change stream.
+     */
+    public static final String POLICIES_TAGS_CHANGE_STREAM_BATCH_SIZE =
+            POLICIES_TAGS_CHANGE_STREAM_PREFIX + "batch-size";
+
+    /**
+     * The maximum time to wait for further Policy tags of a batch published by the change stream.
+     */
+    public static final String POLICIES_TAGS_CHANGE_STREAM_BATCH_INTERVAL =
+            POLICIES_TAGS_CHANGE_STREAM_PREFIX + "batch-interval";
+
+    /**
+     * The collection in which the resume tokens of the change streams are persisted.
+     */
+    public static final String POLICIES_TAGS_CHANGE_STREAM_RESUME_TOKENS_COLLECTION =
+            POLICIES_TAGS_CHANGE_STREAM_PREFIX + "resume-tokens-collection";
+
     public static final class Policy {
 
         private static final String PREFIX = POLICIES_PREFIX + "policy.";
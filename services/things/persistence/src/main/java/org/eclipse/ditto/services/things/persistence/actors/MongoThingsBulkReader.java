@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingLifecycle;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.things.persistence.actors.strategies.events.EventHandleStrategy;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoEventAdapter;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingWithSnapshotTag;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.persistence.mongo.snapshot.SnapshotDelta;
+import org.eclipse.ditto.services.utils.persistence.mongo.suffixes.NamespaceSuffixCollectionNames;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.mongodb.DBObjectCodecProvider;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.typesafe.config.Config;
+
+import akka.NotUsed;
+import akka.contrib.persistence.mongodb.JournallingFieldNames$;
+import akka.contrib.persistence.mongodb.SnapshottingFieldNames$;
+import akka.persistence.SelectedSnapshot;
+import akka.persistence.SnapshotMetadata;
+import akka.persistence.journal.EventSeq;
+import akka.stream.javadsl.Source;
+import scala.collection.JavaConverters;
+
+/**
+ * Reads the latest state of multiple Things directly from the snapshot store and the event journal of the
+ * com.github.scullxbones.akka-persistence-mongo plugin, i. e. without starting a {@link ThingPersistenceActor} for
+ * each of them. The latest snapshots of all requested Things are loaded with one aggregation and the events written
+ * after those snapshots with one additional query per journal collection.
+ */
+@AllValuesAreNonnullByDefault
+final class MongoThingsBulkReader {
+
+    private static final String JOURNAL_COLLECTION_NAME =
+            "akka-contrib-mongodb-persistence-things-journal.overrides.journal-collection";
+
+    private static final String SNAPSHOT_COLLECTION_NAME =
+            "akka-contrib-mongodb-persistence-things-snapshots.overrides.snaps-collection";
+
+    private static final String SUFFIX_BUILDER_CLASS = "akka.contrib.persistence.mongodb.mongo.suffix-builder.class";
+
+    private static final String SUFFIX_BUILDER_SEPARATOR =
+            "akka.contrib.persistence.mongodb.mongo.suffix-builder.separator";
+
+    private static final String J_PROCESSOR_ID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
+    private static final String J_TO = JournallingFieldNames$.MODULE$.TO();
+    private static final String J_EVENTS = JournallingFieldNames$.MODULE$.EVENTS();
+    private static final String J_SEQUENCE_NUMBER = JournallingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+    private static final String J_PAYLOAD = JournallingFieldNames$.MODULE$.PayloadKey();
+    private static final String J_MANIFEST = JournallingFieldNames$.MODULE$.MANIFEST();
+
+    private static final String S_PROCESSOR_ID = SnapshottingFieldNames$.MODULE$.PROCESSOR_ID();
+    private static final String S_SEQUENCE_NUMBER = SnapshottingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+    private static final String S_TIMESTAMP = SnapshottingFieldNames$.MODULE$.TIMESTAMP();
+    private static final String S_SERIALIZED = SnapshottingFieldNames$.MODULE$.V2().SERIALIZED();
+
+    private static final String ID = "_id";
+    private static final String LATEST_SNAPSHOT = "latest";
+
+    private static final CodecRegistry DB_OBJECT_CODEC_REGISTRY = CodecRegistries.fromRegistries(
+            MongoClients.getDefaultCodecRegistry(),
+            CodecRegistries.fromProviders(new DBObjectCodecProvider()));
+
+    private final MongoClientWrapper clientWrapper;
+    private final String journalCollectionName;
+    private final String snapshotCollectionName;
+    @Nullable private final String suffixSeparator;
+    private final ThingMongoSnapshotAdapter snapshotAdapter;
+    private final ThingMongoEventAdapter eventAdapter;
+
+    private MongoThingsBulkReader(final MongoClientWrapper clientWrapper,
+            final String journalCollectionName,
+            final String snapshotCollectionName,
+            @Nullable final String suffixSeparator) {
+
+        this.clientWrapper = clientWrapper;
+        this.journalCollectionName = journalCollectionName;
+        this.snapshotCollectionName = snapshotCollectionName;
+        this.suffixSeparator = suffixSeparator;
+        snapshotAdapter = new ThingMongoSnapshotAdapter();
+        eventAdapter = new ThingMongoEventAdapter(null);
+    }
+
+    /**
+     * Creates a new {@code MongoThingsBulkReader}.
+     *
+     * @param config the Akka system configuration containing the settings of the things journal and snapshot
+     * plugins.
+     * @param clientWrapper the Mongo client wrapper.
+     * @return the reader.
+     */
+    static MongoThingsBulkReader newInstance(final Config config, final MongoClientWrapper clientWrapper) {
+        final String suffixSeparator = isSuffixBuilderEnabled(config)
+                ? config.getString(SUFFIX_BUILDER_SEPARATOR)
+                : null;
+
+        return new MongoThingsBulkReader(clientWrapper, config.getString(JOURNAL_COLLECTION_NAME),
+                config.getString(SNAPSHOT_COLLECTION_NAME), suffixSeparator);
+    }
+
+    private static boolean isSuffixBuilderEnabled(final Config config) {
+        return config.hasPath(SUFFIX_BUILDER_CLASS) && !config.getString(SUFFIX_BUILDER_CLASS).trim().isEmpty();
+    }
+
+    /**
+     * Retrieves the latest state of the Things with the passed IDs. Things which are unknown to the persistence,
+     * which are deleted or whose persisted state could not be read are not emitted.
+     *
+     * @param thingIds the IDs of the Things to retrieve.
+     * @return source of the found Things.
+     */
+    Source<Thing, NotUsed> retrieveThings(final Collection<String> thingIds) {
+        final Map<String, List<String>> persistenceIdsByCollectionSuffix = thingIds.stream()
+                .map(ThingPersistenceActor.PERSISTENCE_ID_PREFIX::concat)
+                .distinct()
+                .collect(Collectors.groupingBy(this::getCollectionSuffix, LinkedHashMap::new, Collectors.toList()));
+
+        return Source.from(persistenceIdsByCollectionSuffix.entrySet())
+                .flatMapConcat(entry -> retrieveThings(entry.getKey(), entry.getValue()));
+    }
+
+    private Source<Thing, NotUsed> retrieveThings(final String collectionSuffix, final List<String> persistenceIds) {
+        return retrieveLatestSnapshots(collectionSuffix, persistenceIds)
+                .flatMapConcat(states -> retrieveEventsAfterSnapshots(collectionSuffix, persistenceIds, states)
+                        .fold(states, (theStates, journalEntry) -> {
+                            applyJournalEntry(theStates, journalEntry);
+                            return theStates;
+                        }))
+                .mapConcat(states -> states.values()
+                        .stream()
+                        .map(ThingState::getActiveThing)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList()));
+    }
+
+    private Source<Map<String, ThingState>, NotUsed> retrieveLatestSnapshots(final String collectionSuffix,
+            final List<String> persistenceIds) {
+
+        final List<Bson> pipeline = new ArrayList<>();
+        pipeline.add(Aggregates.match(Filters.in(S_PROCESSOR_ID, persistenceIds)));
+        pipeline.add(Aggregates.sort(Sorts.orderBy(Sorts.ascending(S_PROCESSOR_ID),
+                Sorts.descending(S_SEQUENCE_NUMBER))));
+        pipeline.add(Aggregates.group("$" + S_PROCESSOR_ID, Accumulators.first(LATEST_SNAPSHOT, "$$ROOT")));
+
+        final Map<String, ThingState> initialStates = new HashMap<>();
+        persistenceIds.forEach(pid -> initialStates.put(pid, new ThingState()));
+
+        return Source.fromPublisher(getCollection(snapshotCollectionName, collectionSuffix)
+                .aggregate(pipeline, BasicDBObject.class))
+                .fold(initialStates, (states, groupedSnapshot) -> {
+                    final DBObject snapshot = (DBObject) groupedSnapshot.get(LATEST_SNAPSHOT);
+                    final ThingState state = states.get(groupedSnapshot.getString(ID));
+                    if (null != snapshot && null != state) {
+                        state.applySnapshot(snapshot);
+                    }
+                    return states;
+                })
+                .flatMapConcat(states -> restoreDeltaSnapshots(collectionSuffix, states));
+    }
+
+    private Source<Map<String, ThingState>, NotUsed> restoreDeltaSnapshots(final String collectionSuffix,
+            final Map<String, ThingState> states) {
+
+        final List<Bson> filters = states.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().getDeltaSnapshotBase().isPresent())
+                .map(entry -> Filters.and(Filters.eq(S_PROCESSOR_ID, entry.getKey()),
+                        Filters.eq(S_SEQUENCE_NUMBER, entry.getValue().getDeltaSnapshotBase().getAsLong())))
+                .collect(Collectors.toList());
+
+        if (filters.isEmpty()) {
+            return Source.single(states);
+        }
+        return Source.fromPublisher(getCollection(snapshotCollectionName, collectionSuffix)
+                .find(Filters.or(filters), DBObject.class))
+                .fold(states, (theStates, baseSnapshot) -> {
+                    final ThingState state = theStates.get((String) baseSnapshot.get(S_PROCESSOR_ID));
+                    if (null != state) {
+                        state.restoreDeltaSnapshot(baseSnapshot);
+                    }
+                    return theStates;
+                });
+    }
+
+    private Source<DBObject, NotUsed> retrieveEventsAfterSnapshots(final String collectionSuffix,
+            final List<String> persistenceIds,
+            final Map<String, ThingState> states) {
+
+        final List<Bson> filters = persistenceIds.stream()
+                .map(pid -> Filters.and(Filters.eq(J_PROCESSOR_ID, pid),
+                        Filters.gt(J_TO, states.get(pid).getSequenceNumber())))
+                .collect(Collectors.toList());
+
+        return Source.fromPublisher(getCollection(journalCollectionName, collectionSuffix)
+                .find(Filters.or(filters), DBObject.class)
+                .sort(Sorts.orderBy(Sorts.ascending(J_PROCESSOR_ID), Sorts.ascending(J_TO))));
+    }
+
+    private void applyJournalEntry(final Map<String, ThingState> states, final DBObject journalEntry) {
+        final ThingState state = states.get((String) journalEntry.get(J_PROCESSOR_ID));
+        final Object events = journalEntry.get(J_EVENTS);
+        if (null != state && events instanceof BasicDBList) {
+            ((BasicDBList) events).stream()
+                    .filter(DBObject.class::isInstance)
+                    .map(DBObject.class::cast)
+                    .forEachOrdered(state::applyEvent);
+        }
+    }
+
+    private MongoCollection<DBObject> getCollection(final String collectionName, final String collectionSuffix) {
+        final String suffixedCollectionName = collectionSuffix.isEmpty() || null == suffixSeparator
+                ? collectionName
+                : collectionName + suffixSeparator + collectionSuffix;
+
+        return clientWrapper.getDatabase()
+                .getCollection(suffixedCollectionName, DBObject.class)
+                .withCodecRegistry(DB_OBJECT_CODEC_REGISTRY);
+    }
+
+    private String getCollectionSuffix(final String persistenceId) {
+        if (null == suffixSeparator) {
+            return "";
+        }
+        final NamespaceSuffixCollectionNames suffixCollectionNames = new NamespaceSuffixCollectionNames();
+        return suffixCollectionNames.getSuffixFromPersistenceId(persistenceId);
+    }
+
+    /**
+     * Mutable recovery state of a single Thing: the Thing recovered so far and the sequence number of the last
+     * applied snapshot or event.
+     */
+    private final class ThingState {
+
+        @Nullable private Thing thing;
+        private long sequenceNumber;
+        @Nullable private DBObject deltaSnapshot;
+
+        private ThingState() {
+            thing = null;
+            sequenceNumber = 0L;
+            deltaSnapshot = null;
+        }
+
+        private long getSequenceNumber() {
+            return sequenceNumber;
+        }
+
+        private OptionalLong getDeltaSnapshotBase() {
+            return null != deltaSnapshot
+                    ? SnapshotDelta.getBaseSequenceNr(deltaSnapshot.get(S_SERIALIZED))
+                    : OptionalLong.empty();
+        }
+
+        private void applySnapshot(final DBObject snapshot) {
+            final Object serialized = snapshot.get(S_SERIALIZED);
+            if (SnapshotDelta.isDelta(serialized)) {
+                // restored once its base is retrieved
+                deltaSnapshot = snapshot;
+            } else {
+                applySnapshot(snapshot, serialized);
+            }
+        }
+
+        private void restoreDeltaSnapshot(final DBObject baseSnapshot) {
+            if (null != deltaSnapshot) {
+                applySnapshot(deltaSnapshot,
+                        SnapshotDelta.decode(baseSnapshot.get(S_SERIALIZED), deltaSnapshot.get(S_SERIALIZED)));
+                deltaSnapshot = null;
+            }
+        }
+
+        private void applySnapshot(final DBObject snapshot, final Object serialized) {
+            final long snapshotSequenceNumber = ((Number) snapshot.get(S_SEQUENCE_NUMBER)).longValue();
+            final Object timestamp = snapshot.get(S_TIMESTAMP);
+            final SnapshotMetadata metadata = new SnapshotMetadata((String) snapshot.get(S_PROCESSOR_ID),
+                    snapshotSequenceNumber, timestamp instanceof Number ? ((Number) timestamp).longValue() : 0L);
+            final ThingWithSnapshotTag thingWithSnapshotTag =
+                    snapshotAdapter.fromSnapshotStore(new SelectedSnapshot(metadata, serialized));
+
+            if (null != thingWithSnapshotTag) {
+                thing = thingWithSnapshotTag;
+                sequenceNumber = snapshotSequenceNumber;
+            }
+        }
+
+        private void applyEvent(final DBObject persistedEvent) {
+            final long eventSequenceNumber = ((Number) persistedEvent.get(J_SEQUENCE_NUMBER)).longValue();
+            final Object payload = persistedEvent.get(J_PAYLOAD);
+            if (eventSequenceNumber > sequenceNumber && payload instanceof DBObject) {
+                final EventSeq eventSeq = eventAdapter.fromJournal(payload, (String) persistedEvent.get(J_MANIFEST));
+                for (final Object event : JavaConverters.seqAsJavaList(eventSeq.events())) {
+                    if (event instanceof ThingEvent) {
+                        thing = EventHandleStrategy.getInstance()
+                                .handle((ThingEvent) event, thing, eventSequenceNumber);
+                    }
+                }
+                sequenceNumber = eventSequenceNumber;
+            }
+        }
+
+        private Optional<Thing> getActiveThing() {
+            return Optional.ofNullable(thing)
+                    .filter(t -> !t.getLifecycle().isPresent() || t.hasLifecycle(ThingLifecycle.ACTIVE))
+                    .map(t -> t.getLifecycle().isPresent()
+                            ? t
+                            : ThingsModelFactory.newThingBuilder(t).setLifecycle(ThingLifecycle.ACTIVE).build());
+        }
+
+    }
+
+}
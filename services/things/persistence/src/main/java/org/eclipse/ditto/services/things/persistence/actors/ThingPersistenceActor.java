@@ -37,6 +37,7 @@ import org.eclipse.ditto.services.things.persistence.snapshotting.ThingSnapshott
 import org.eclipse.ditto.services.things.persistence.strategies.AbstractReceiveStrategy;
 import org.eclipse.ditto.services.things.starter.util.ConfigKeys;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.hotentities.HotEntities;
 import org.eclipse.ditto.signals.base.WithThingId;
 import org.eclipse.ditto.signals.base.WithType;
 import org.eclipse.ditto.signals.commands.base.Command;
@@ -83,6 +84,11 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
      */
     private static final String SNAPSHOT_PLUGIN_ID = "akka-contrib-mongodb-persistence-things-snapshots";
 
+    /**
+     * The ID of the snapshot plugin this persistence actor uses if snapshots are saved as deltas.
+     */
+    private static final String DELTA_SNAPSHOT_PLUGIN_ID = "ditto-things-delta-snapshots";
+
     private static final CommandReceiveStrategy COMMAND_RECEIVE_STRATEGY = CommandReceiveStrategy.getInstance();
     private static final CreateThingStrategy CREATE_THING_STRATEGY = CreateThingStrategy.getInstance();
 
@@ -94,6 +100,7 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
     private final java.time.Duration activityCheckDeletedInterval;
     private final Receive handleThingEvents;
     private final long snapshotThreshold;
+    private final String snapshotPluginId;
 
     /**
      * Context for all {@link CommandReceiveStrategy} strategies - contains references to fields of {@code this}
@@ -121,6 +128,7 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
         snapshotThreshold = getSnapshotThreshold(config);
 
         // Snapshotting
+        snapshotPluginId = getSnapshotPluginId(config);
         thingSnapshotter = getSnapshotter(config, thingSnapshotterCreate);
 
         final Runnable becomeCreatedRunnable = this::becomeThingCreatedHandler;
@@ -136,6 +144,13 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
                 }).build();
     }
 
+    private static String getSnapshotPluginId(final Config config) {
+        // only delta snapshots need to be restored from their base, so full snapshots skip the extra plugin
+        final boolean deltasEnabled = config.hasPath(ConfigKeys.Thing.SNAPSHOT_DELTAS_PER_FULL) &&
+                config.getInt(ConfigKeys.Thing.SNAPSHOT_DELTAS_PER_FULL) > 0;
+        return deltasEnabled ? DELTA_SNAPSHOT_PLUGIN_ID : SNAPSHOT_PLUGIN_ID;
+    }
+
     private static long getSnapshotThreshold(final Config config) {
         final long result = config.getLong(ConfigKeys.Thing.SNAPSHOT_THRESHOLD);
         if (result < 0) {
@@ -245,7 +260,7 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
 
     @Override
     public String snapshotPluginId() {
-        return SNAPSHOT_PLUGIN_ID;
+        return snapshotPluginId;
     }
 
     @Override
@@ -341,6 +356,9 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
 
     @SuppressWarnings("unchecked")
     private void handleCommand(final Command command, final CommandStrategy commandStrategy) {
+        HotEntities.record(HotEntities.THING_MESSAGES, thingId);
+        HotEntities.recordNamespace(thingId);
+
         final CommandStrategy.Result result;
         try {
             result = commandStrategy.apply(defaultContext, thing,
@@ -420,6 +438,7 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
         persist(event, persistedEvent -> {
             LogUtil.enhanceLogWithCorrelationId(log, event.getDittoHeaders().getCorrelationId());
             log.info("Successfully persisted Event <{}>.", event.getType());
+            HotEntities.record(HotEntities.THING_PERSISTENCE, thingId);
 
             /* the event has to be applied before creating the snapshot, otherwise a snapshot with new
                sequence no (e.g. 2), but old thing revision no (e.g. 1) will be created -> can lead to serious
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+
+import com.typesafe.config.Config;
+
+import akka.NotUsed;
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.sharding.ShardRegion;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Creator;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.PatternsCS;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
+
+/**
+ * Actor which answers {@link SudoRetrieveThings} in bulk. Things which are currently active in the things shard
+ * region of this cluster node are retrieved from their {@link ThingPersistenceActor}s; all other Things are read in
+ * batches directly from the snapshot store and the event journal, so that no persistence actor has to be started or
+ * recovered for them. Things which could not be found in the persistence are retrieved from the shard region as
+ * well, so that the sender receives the same errors as for a single {@link SudoRetrieveThing}.
+ * <p>
+ * Only the shards of this cluster node are checked for active Things: Things active on other nodes are read from the
+ * persistence as well, which is consistent because a {@link ThingPersistenceActor} persists each event before it
+ * responds. Checking the local shards therefore only saves reading the Things this node has in memory anyway.
+ * </p>
+ * <p>
+ * Like the {@code ThingsAggregatorActor} of concierge, this actor responds with a
+ * {@link akka.stream.SourceRef} emitting one response per Thing, in the order of the requested Thing IDs.
+ * </p>
+ */
+public final class ThingsBulkRetrievalActor extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "thingsBulkRetrieval";
+
+    private static final int MAX_PARALLELISM = 20;
+
+    private static final Pattern THING_ID_PATTERN = Pattern.compile(Thing.ID_REGEX);
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ActorRef thingsShardRegion;
+    private final int batchSize;
+    private final Duration askTimeout;
+    private final Function<Collection<String>, Source<Thing, NotUsed>> bulkReader;
+    private final ActorMaterializer materializer;
+
+    private ThingsBulkRetrievalActor(final Function<Collection<String>, Source<Thing, NotUsed>> bulkReader,
+            final ActorRef thingsShardRegion,
+            final int batchSize,
+            final Duration askTimeout) {
+
+        this.bulkReader = bulkReader;
+        this.thingsShardRegion = thingsShardRegion;
+        this.batchSize = batchSize;
+        this.askTimeout = askTimeout;
+        materializer = ActorMaterializer.create(getContext());
+    }
+
+    /**
+     * Creates Akka configuration object Props for this ThingsBulkRetrievalActor.
+     *
+     * @param config the configuration of the akka system.
+     * @param mongoClient the Mongo client shared by the actors of the things service; it is not closed by this actor.
+     * @param thingsShardRegion the shard region of the Thing persistence actors.
+     * @param batchSize the maximum amount of Things to read from the persistence with one query.
+     * @param askTimeout the timeout for retrieving a single Thing from the shard region.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final Config config,
+            final MongoClientWrapper mongoClient,
+            final ActorRef thingsShardRegion,
+            final int batchSize,
+            final Duration askTimeout) {
+
+        final MongoThingsBulkReader bulkReader = MongoThingsBulkReader.newInstance(config, mongoClient);
+        return props(bulkReader::retrieveThings, thingsShardRegion, batchSize, askTimeout);
+    }
+
+    static Props props(final Function<Collection<String>, Source<Thing, NotUsed>> bulkReader,
+            final ActorRef thingsShardRegion,
+            final int batchSize,
+            final Duration askTimeout) {
+
+        return Props.create(ThingsBulkRetrievalActor.class, new Creator<ThingsBulkRetrievalActor>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public ThingsBulkRetrievalActor create() {
+                return new ThingsBulkRetrievalActor(bulkReader, thingsShardRegion, batchSize, askTimeout);
+            }
+        });
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(SudoRetrieveThings.class, this::retrieveThings)
+                .matchAny(m -> {
+                    log.warning("Got unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void retrieveThings(final SudoRetrieveThings command) {
+        LogUtil.enhanceLogWithCorrelationId(log, command.getDittoHeaders().getCorrelationId());
+
+        final List<String> thingIds = command.getThingIds()
+                .stream()
+                .filter(thingId -> null != thingId && THING_ID_PATTERN.matcher(thingId).matches())
+                .distinct()
+                .collect(Collectors.toList());
+
+        final ActorRef sender = getSender();
+        final CompletionStage<?> sourceRef = retrieveLocallyActiveThingIds()
+                .thenCompose(activeThingIds -> {
+                    final long hotThingIds = thingIds.stream().filter(activeThingIds::contains).count();
+                    log.info("Retrieving <{}> active Things from the shard region and <{}> Things from the " +
+                            "persistence.", hotThingIds, thingIds.size() - hotThingIds);
+
+                    return Source.from(partition(thingIds, batchSize))
+                            .flatMapConcat(batch -> retrieveBatch(batch, activeThingIds, command))
+                            .log("sudo-retrieve-thing-response", log)
+                            .runWith(StreamRefs.sourceRef(), materializer);
+                });
+
+        PatternsCS.pipe(sourceRef, getContext().dispatcher()).to(sender);
+    }
+
+    private CompletionStage<Set<String>> retrieveLocallyActiveThingIds() {
+        return PatternsCS.ask(thingsShardRegion, ShardRegion.getShardRegionStateInstance(), askTimeout.toMillis())
+                .handle((response, error) -> {
+                    if (response instanceof ShardRegion.CurrentShardRegionState) {
+                        final Set<String> activeThingIds = new HashSet<>();
+                        ((ShardRegion.CurrentShardRegionState) response).getShards()
+                                .forEach(shardState -> activeThingIds.addAll(shardState.getEntityIds()));
+                        return activeThingIds;
+                    } else {
+                        log.warning("Could not determine active Things of the shard region, got <{}> / <{}>.",
+                                response, error);
+                        return Collections.emptySet();
+                    }
+                });
+    }
+
+    /**
+     * Reads the inactive Things of a batch from the persistence and emits the responses for all Things of the batch
+     * in the order of their IDs; active Things and Things missing in the persistence are retrieved from the shard
+     * region.
+     */
+    private Source<Jsonifiable, NotUsed> retrieveBatch(final List<String> batch, final Set<String> activeThingIds,
+            final SudoRetrieveThings command) {
+
+        final List<String> coldThingIds = batch.stream()
+                .filter(thingId -> !activeThingIds.contains(thingId))
+                .collect(Collectors.toList());
+
+        final Source<Map<String, Thing>, NotUsed> persistedThings = coldThingIds.isEmpty()
+                ? Source.single(Collections.emptyMap())
+                : bulkReader.apply(coldThingIds)
+                .fold(new HashMap<>(), (things, thing) -> {
+                    thing.getId().ifPresent(thingId -> things.put(thingId, thing));
+                    return things;
+                });
+
+        return persistedThings.flatMapConcat(things -> Source.from(batch)
+                .mapAsync(Math.min(batch.size(), MAX_PARALLELISM), thingId -> {
+                    final Thing thing = things.get(thingId);
+                    return null != thing
+                            ? CompletableFuture.completedFuture(toResponse(thing, command))
+                            : retrieveFromShardRegion(thingId, command);
+                }));
+    }
+
+    private CompletionStage<Jsonifiable> retrieveFromShardRegion(final String thingId,
+            final SudoRetrieveThings command) {
+
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final SudoRetrieveThing sudoRetrieveThing = command.getSelectedFields()
+                .map(selectedFields -> SudoRetrieveThing.of(thingId, selectedFields, dittoHeaders))
+                .orElseGet(() -> SudoRetrieveThing.of(thingId, dittoHeaders));
+        return PatternsCS.ask(thingsShardRegion, sudoRetrieveThing, askTimeout.toMillis())
+                .thenApply(Jsonifiable.class::cast);
+    }
+
+    private static Jsonifiable toResponse(final Thing thing, final SudoRetrieveThings command) {
+        final JsonSchemaVersion schemaVersion = command.getImplementedSchemaVersion();
+        final JsonObject thingJson = command.getSelectedFields()
+                .map(selectedFields -> thing.toJson(schemaVersion, selectedFields, FieldType.regularOrSpecial()))
+                .orElseGet(() -> thing.toJson(schemaVersion, FieldType.regularOrSpecial()));
+        return SudoRetrieveThingResponse.of(thingJson, command.getDittoHeaders());
+    }
+
+    private static List<List<String>> partition(final List<String> thingIds, final int size) {
+        final List<List<String>> partitions = new ArrayList<>();
+        for (int i = 0; i < thingIds.size(); i += size) {
+            partitions.add(new ArrayList<>(thingIds.subList(i, Math.min(i + size, thingIds.size()))));
+        }
+        return partitions;
+    }
+
+}
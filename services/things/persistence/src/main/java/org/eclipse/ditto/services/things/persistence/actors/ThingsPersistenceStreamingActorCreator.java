@@ -10,13 +10,20 @@
  */
 package org.eclipse.ditto.services.things.persistence.actors;
 
+import java.time.Duration;
+
 import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.utils.persistence.mongo.DefaultPersistenceStreamingActor;
+import org.eclipse.ditto.services.utils.persistence.mongo.JournalChangeStreamActor;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
 
 import com.typesafe.config.Config;
 
+import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.stream.Materializer;
 
 
 /**
@@ -37,14 +44,38 @@ public final class ThingsPersistenceStreamingActorCreator {
      * Creates Akka configuration object Props for this PersistenceQueriesActor.
      *
      * @param config the actor system configuration.
+     * @param mongoClient the Mongo client shared by the actors of the things service.
      * @param streamingCacheSize the size of the streaming cache.
      * @return the Akka configuration Props object.
      */
-    public static Props props(final Config config, final int streamingCacheSize) {
-        return DefaultPersistenceStreamingActor.props(ThingTag.class, config, streamingCacheSize,
+    public static Props props(final Config config, final MongoClientWrapper mongoClient,
+            final int streamingCacheSize) {
+
+        return DefaultPersistenceStreamingActor.props(ThingTag.class, mongoClient, config, streamingCacheSize,
                 ThingsPersistenceStreamingActorCreator::createElement);
     }
 
+    /**
+     * Creates Akka configuration object Props for the actor publishing the Thing tags of the events written to
+     * the journal, see {@link JournalChangeStreamActor}.
+     *
+     * @param config the actor system configuration.
+     * @param pubSubMediator the PubSub mediator Actor.
+     * @param batchSize the maximum amount of Thing tags to publish in one batch.
+     * @param batchInterval the maximum time to wait for further Thing tags of a batch.
+     * @param resumeTokensCollection the collection to persist the resume tokens of the change streams in.
+     * @param materializer the materializer to run the change streams with.
+     * @return the Akka configuration Props object.
+     */
+    public static Props changeStreamProps(final Config config, final ActorRef pubSubMediator, final int batchSize,
+            final Duration batchInterval, final String resumeTokensCollection, final Materializer materializer) {
+
+        return JournalChangeStreamActor.props(ThingTag.class, config,
+                ThingsPersistenceStreamingActorCreator::createElement, pubSubMediator,
+                ThingsMessagingConstants.THING_TAGS_TOPIC,
+                resumeTokensCollection, batchSize, batchInterval, materializer);
+    }
+
     private static ThingTag createElement(final PidWithSeqNr pidWithSeqNr) {
         final String id = pidWithSeqNr.getPersistenceId()
                 .replaceFirst(ThingPersistenceActor.PERSISTENCE_ID_PREFIX, "");
@@ -12,6 +12,8 @@ package org.eclipse.ditto.services.things.persistence.serializer;
 
 import java.beans.Introspector;
 import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -34,6 +36,8 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.services.things.starter.util.ConfigKeys;
+import org.eclipse.ditto.services.utils.persistence.mongo.CompressedPayload;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.base.EventRegistry;
@@ -55,6 +59,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.mongodb.DBObject;
+import com.typesafe.config.Config;
 
 import akka.actor.ExtendedActorSystem;
 import akka.persistence.journal.EventAdapter;
@@ -91,13 +96,19 @@ public final class ThingMongoEventAdapter implements EventAdapter {
             JsonFactory.newJsonObjectFieldDefinition("payload", FieldType.REGULAR, JsonSchemaVersion.V_1,
                     JsonSchemaVersion.V_2);
 
+    // fields of compressed events which are kept uncompressed
+    private static final Collection<JsonPointer> PLAIN_PAYLOAD_FIELDS =
+            Arrays.asList(Event.JsonFields.TYPE.getPointer(), ThingEvent.JsonFields.THING_ID.getPointer());
+
     private final Map<String, Function<JsonObject, JsonObject>> migrationMappings;
     private final ExtendedActorSystem system;
     private final EventRegistry<ThingEvent> eventRegistry;
+    private final boolean compressPayload;
 
     public ThingMongoEventAdapter(@Nullable final ExtendedActorSystem system) {
         this.system = system;
         eventRegistry = ThingEventRegistry.newInstance();
+        compressPayload = system != null && isCompressPayload(system.settings().config());
 
         migrationMappings = new HashMap<>();
         migrationMappings.put(FeatureModified.NAME,
@@ -128,6 +139,10 @@ public final class ThingMongoEventAdapter implements EventAdapter {
                 jsonObject -> migrateModifiedToCreated(jsonObject, FeaturePropertiesCreated.TYPE));
     }
 
+    private static boolean isCompressPayload(final Config config) {
+        return config.hasPath(ConfigKeys.Thing.EVENTS_COMPRESS) && config.getBoolean(ConfigKeys.Thing.EVENTS_COMPRESS);
+    }
+
     @Override
     public String manifest(final Object event) {
         if (event instanceof Event) {
@@ -147,8 +162,9 @@ public final class ThingMongoEventAdapter implements EventAdapter {
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial())) //
                             // remove the policy entries from thing event payload
                             .remove(POLICY_IN_THING_EVENT_PAYLOAD);
-            final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-            final Object bson = dittoBsonJson.parse(jsonObject);
+            final Object bson = compressPayload
+                    ? CompressedPayload.compress(jsonObject, PLAIN_PAYLOAD_FIELDS)
+                    : DittoBsonJson.getInstance().parse(jsonObject);
             final Set<String> readSubjects = calculateReadSubjects(theEvent);
             return new Tagged(bson, readSubjects);
         } else {
@@ -166,8 +182,7 @@ public final class ThingMongoEventAdapter implements EventAdapter {
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof DBObject) {
             final DBObject dbObject = (DBObject) event;
-            final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-            return EventSeq.single(tryToCreateEventFrom(dittoBsonJson.serialize(dbObject)));
+            return EventSeq.single(tryToCreateEventFrom(CompressedPayload.toJson(dbObject)));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'DBObject' object! Was: " + event.getClass());
@@ -10,9 +10,13 @@
  */
 package org.eclipse.ditto.services.things.persistence.serializer;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 import javax.annotation.concurrent.ThreadSafe;
 
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
@@ -31,11 +35,25 @@ public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapte
      */
     public static final String TAG_JSON_KEY = "__snapshotTag";
 
+    private static final Collection<JsonPointer> PLAIN_PAYLOAD_FIELDS =
+            Arrays.asList(Thing.JsonFields.ID.getPointer(), Thing.JsonFields.REVISION.getPointer(),
+                    JsonPointer.of(TAG_JSON_KEY));
+
     /**
      * Constructs a new {@code ThingMongoSnapshotAdapter}.
      */
     public ThingMongoSnapshotAdapter() {
-        super(LoggerFactory.getLogger(ThingMongoSnapshotAdapter.class));
+        this(false);
+    }
+
+    /**
+     * Constructs a new {@code ThingMongoSnapshotAdapter}.
+     *
+     * @param compressPayload whether to store full snapshots compressed with the Thing ID, revision and snapshot tag
+     * as plain fields.
+     */
+    public ThingMongoSnapshotAdapter(final boolean compressPayload) {
+        super(LoggerFactory.getLogger(ThingMongoSnapshotAdapter.class), compressPayload);
     }
 
     @Override
@@ -45,6 +63,11 @@ public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapte
         return jsonObject.setValue(TAG_JSON_KEY, snapshotTag.name());
     }
 
+    @Override
+    protected Collection<JsonPointer> getPlainPayloadFields() {
+        return PLAIN_PAYLOAD_FIELDS;
+    }
+
     @Override
     protected ThingWithSnapshotTag createJsonifiableFrom(final JsonObject jsonObject) {
         final Thing thing = ThingsModelFactory.newThing(jsonObject);
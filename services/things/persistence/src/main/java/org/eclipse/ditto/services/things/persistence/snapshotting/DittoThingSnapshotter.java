@@ -19,10 +19,13 @@ import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActo
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActorInterface;
 import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
 import org.eclipse.ditto.services.things.persistence.serializer.ThingWithSnapshotTag;
+import org.eclipse.ditto.services.things.starter.util.ConfigKeys;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.signals.commands.things.modify.TagThing;
 import org.eclipse.ditto.signals.commands.things.modify.TagThingResponse;
 
+import com.typesafe.config.Config;
+
 import akka.actor.ActorRef;
 import akka.event.DiagnosticLoggingAdapter;
 import scala.concurrent.duration.FiniteDuration;
@@ -33,6 +36,7 @@ import scala.concurrent.duration.FiniteDuration;
 public final class DittoThingSnapshotter extends ThingSnapshotter<TagThing, TagThingResponse> {
 
     private static final ThingMongoSnapshotAdapter SNAPSHOT_ADAPTER = new ThingMongoSnapshotAdapter();
+    private static final ThingMongoSnapshotAdapter COMPRESSING_SNAPSHOT_ADAPTER = new ThingMongoSnapshotAdapter(true);
 
     // internal constructor for unit tests.
     DittoThingSnapshotter(final ThingPersistenceActorInterface persistentActor,
@@ -48,6 +52,21 @@ public final class DittoThingSnapshotter extends ThingSnapshotter<TagThing, TagT
                 saveSnapshotTimeout, loadSnapshotTimeout, snapshotPlugin);
     }
 
+    // internal constructor for unit tests of delta snapshots.
+    DittoThingSnapshotter(final ThingPersistenceActorInterface persistentActor,
+            final SnapshotAdapter<ThingWithSnapshotTag> snapshotAdapter,
+            final boolean snapshotDeleteOld,
+            final boolean eventsDeleteOld,
+            final DiagnosticLoggingAdapter log,
+            final FiniteDuration snapshotInterval,
+            final FiniteDuration saveSnapshotTimeout,
+            final FiniteDuration loadSnapshotTimeout,
+            final ActorRef snapshotPlugin,
+            final int deltasPerFullSnapshot) {
+        super(persistentActor, snapshotAdapter, snapshotDeleteOld, eventsDeleteOld, log, snapshotInterval,
+                saveSnapshotTimeout, loadSnapshotTimeout, snapshotPlugin, deltasPerFullSnapshot);
+    }
+
     private DittoThingSnapshotter(final ThingPersistenceActor thingPersistenceActor,
             final SnapshotAdapter<ThingWithSnapshotTag> snapshotAdapter,
             final boolean snapshotDeleteOld,
@@ -75,7 +94,11 @@ public final class DittoThingSnapshotter extends ThingSnapshotter<TagThing, TagT
             @Nullable final DiagnosticLoggingAdapter log,
             @Nullable final java.time.Duration snapshotInterval) {
 
-        return new DittoThingSnapshotter(thingPersistenceActor, SNAPSHOT_ADAPTER,
+        final Config config = thingPersistenceActor.getContext().system().settings().config();
+        final boolean compressPayload = config.hasPath(ConfigKeys.Thing.SNAPSHOT_COMPRESS) &&
+                config.getBoolean(ConfigKeys.Thing.SNAPSHOT_COMPRESS);
+        return new DittoThingSnapshotter(thingPersistenceActor,
+                compressPayload ? COMPRESSING_SNAPSHOT_ADAPTER : SNAPSHOT_ADAPTER,
                 snapshotDeleteOld, eventsDeleteOld, log, snapshotInterval);
     }
 
@@ -15,6 +15,7 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
@@ -33,12 +34,15 @@ import org.eclipse.ditto.services.things.persistence.serializer.SnapshotTag;
 import org.eclipse.ditto.services.things.persistence.serializer.ThingWithSnapshotTag;
 import org.eclipse.ditto.services.things.persistence.strategies.AbstractReceiveStrategy;
 import org.eclipse.ditto.services.things.persistence.strategies.ReceiveStrategy;
+import org.eclipse.ditto.services.things.starter.util.ConfigKeys;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.snapshot.SnapshotDelta;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
 
 import com.mongodb.annotations.NotThreadSafe;
+import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 
 import akka.actor.ActorRef;
@@ -92,6 +96,7 @@ public abstract class ThingSnapshotter<T extends Command<?>, R extends CommandRe
     @Nullable private final FiniteDuration saveSnapshotTimeout;
     @Nullable private final FiniteDuration loadSnapshotTimeout;
     @Nullable private final ActorRef snapshotPlugin;
+    private final int deltasPerFullSnapshot;
 
     private SnapshotterState snapshotterState;
     private SnapshotterState lastSaneSnapshotterState;
@@ -99,6 +104,12 @@ public abstract class ThingSnapshotter<T extends Command<?>, R extends CommandRe
     @Nullable private Cancellable scheduledMaintenanceSnapshot;
     @Nullable private Cancellable scheduledSnapshotTimeout;
 
+    // The full snapshot which delta snapshots are relative to, and the full snapshot currently being saved.
+    @Nullable private ThingWithSnapshotTag fullSnapshot;
+    private long fullSnapshotSequenceNr;
+    private int deltasSinceFullSnapshot;
+    @Nullable private ThingWithSnapshotTag pendingFullSnapshot;
+
     /**
      * Internal constructor.
      *
@@ -122,6 +133,36 @@ public abstract class ThingSnapshotter<T extends Command<?>, R extends CommandRe
             @Nullable final FiniteDuration loadSnapshotTimeout,
             @Nullable final ActorRef snapshotPlugin) {
 
+        this(persistenceActor, snapshotAdapter, snapshotDeleteOld, eventsDeleteOld, log, snapshotInterval,
+                saveSnapshotTimeout, loadSnapshotTimeout, snapshotPlugin, 0);
+    }
+
+    /**
+     * Internal constructor.
+     *
+     * @param persistenceActor The persistence actor to whom this snapshotter belongs. Must not be null.
+     * @param snapshotAdapter Serializer and deserializer of snapshots. Must not be null.
+     * @param snapshotDeleteOld Whether old and unprotected snapshots should be deleted.
+     * @param eventsDeleteOld Whether events before a successfully saved snapshot should be deleted.
+     * @param log The logger. If null, nothing is logged.
+     * @param snapshotInterval How long to wait between scheduled maintenance snapshots.
+     * @param saveSnapshotTimeout How long to wait for the snapshot store before giving up.
+     * @param loadSnapshotTimeout How long to wait for {@code snapshotPlugin} before giving up.
+     * @param snapshotPlugin The actor from whom old snapshots can be retrieved. If null, no snapshot is retrieved.
+     * @param deltasPerFullSnapshot How many unprotected snapshots to save as delta relative to the last full snapshot
+     * before saving a full snapshot again. If 0, all snapshots are full snapshots.
+     */
+    protected ThingSnapshotter(final ThingPersistenceActorInterface persistenceActor,
+            final SnapshotAdapter<ThingWithSnapshotTag> snapshotAdapter,
+            final boolean snapshotDeleteOld,
+            final boolean eventsDeleteOld,
+            @Nullable final DiagnosticLoggingAdapter log,
+            @Nullable final FiniteDuration snapshotInterval,
+            @Nullable final FiniteDuration saveSnapshotTimeout,
+            @Nullable final FiniteDuration loadSnapshotTimeout,
+            @Nullable final ActorRef snapshotPlugin,
+            final int deltasPerFullSnapshot) {
+
         this.saveSnapshotTimeout = saveSnapshotTimeout;
         this.loadSnapshotTimeout = loadSnapshotTimeout;
 
@@ -136,10 +177,16 @@ public abstract class ThingSnapshotter<T extends Command<?>, R extends CommandRe
 
         this.snapshotAdapter = snapshotAdapter;
         this.snapshotPlugin = snapshotPlugin;
+        this.deltasPerFullSnapshot = deltasPerFullSnapshot;
 
         scheduledMaintenanceSnapshot = null;
         scheduledSnapshotTimeout = null;
         shouldTakeMaintenanceSnapshot = false;
+
+        fullSnapshot = null;
+        fullSnapshotSequenceNr = 0L;
+        deltasSinceFullSnapshot = 0;
+        pendingFullSnapshot = null;
     }
 
     /**
@@ -172,7 +219,17 @@ public abstract class ThingSnapshotter<T extends Command<?>, R extends CommandRe
                 Duration.create(3000, TimeUnit.MILLISECONDS),
 
                 Persistence.get(persistenceActor.getContext().system())
-                        .snapshotStoreFor(persistenceActor.snapshotPluginId(), ConfigFactory.empty()));
+                        .snapshotStoreFor(persistenceActor.snapshotPluginId(), ConfigFactory.empty()),
+
+                resolveDeltasPerFullSnapshot(persistenceActor));
+    }
+
+    private static int resolveDeltasPerFullSnapshot(final ThingPersistenceActor persistenceActor) {
+        final Config config = persistenceActor.getContext().system().settings().config();
+        if (config.hasPath(ConfigKeys.Thing.SNAPSHOT_DELTAS_PER_FULL)) {
+            return Math.max(0, config.getInt(ConfigKeys.Thing.SNAPSHOT_DELTAS_PER_FULL));
+        }
+        return 0;
     }
 
     /**
@@ -318,9 +375,28 @@ public abstract class ThingSnapshotter<T extends Command<?>, R extends CommandRe
                 .map(ThingWithSnapshotTag::getSnapshotTag)
                 .orElse(SnapshotTag.UNPROTECTED);
         snapshotterState = new SnapshotterState(false, metadata.sequenceNr(), snapshotTag, null, null);
+        if (deltasPerFullSnapshot > 0) {
+            recoverFullSnapshot(snapshotOffer, result);
+        }
         return result;
     }
 
+    // A snapshot restored from a delta snapshot cannot be the base of further deltas, as only its base is a full
+    // snapshot in the snapshot store. The next snapshot is a full one then, which replaces the base.
+    private void recoverFullSnapshot(final SnapshotOffer snapshotOffer,
+            @Nullable final ThingWithSnapshotTag recoveredSnapshot) {
+
+        final OptionalLong baseSequenceNr = SnapshotDelta.getBaseSequenceNr(snapshotOffer.snapshot());
+        if (baseSequenceNr.isPresent()) {
+            fullSnapshot = null;
+            fullSnapshotSequenceNr = baseSequenceNr.getAsLong();
+        } else if (recoveredSnapshot != null && recoveredSnapshot.getSnapshotTag() == SnapshotTag.UNPROTECTED) {
+            fullSnapshot = recoveredSnapshot;
+            fullSnapshotSequenceNr = snapshotOffer.metadata().sequenceNr();
+        }
+        deltasSinceFullSnapshot = 0;
+    }
+
     /**
      * Strategies related to snapshotting. A {@link ThingPersistenceActor} activates snapshotting functions by
      * including these strategies in its receive function.
@@ -352,6 +428,7 @@ public abstract class ThingSnapshotter<T extends Command<?>, R extends CommandRe
     // unstashed. Maintenance snapshot schedule is reset.
     private void saveSnapshotFailed() {
         snapshotterState = lastSaneSnapshotterState;
+        pendingFullSnapshot = null;
         persistenceActor.unstashAll();
         cancelSaveSnapshotTimeout();
         resetMaintenanceSnapshotSchedule();
@@ -384,12 +461,25 @@ public abstract class ThingSnapshotter<T extends Command<?>, R extends CommandRe
                 persistenceActor.getThingId(), snapshotSequenceNr));
 
         final ThingWithSnapshotTag thingWithSnapshotTag = ThingWithSnapshotTag.newInstance(thing, snapshotTag);
-        final Object snapshotSubject = snapshotAdapter.toSnapshotStore(thingWithSnapshotTag);
+        final Object snapshotSubject;
+        if (fullSnapshot != null && shouldSaveDeltaSnapshot(snapshotTag)) {
+            snapshotSubject =
+                    snapshotAdapter.toDeltaSnapshotStore(thingWithSnapshotTag, fullSnapshot, fullSnapshotSequenceNr);
+            pendingFullSnapshot = null;
+        } else {
+            snapshotSubject = snapshotAdapter.toSnapshotStore(thingWithSnapshotTag);
+            pendingFullSnapshot = thingWithSnapshotTag;
+        }
         persistenceActor.saveSnapshot(snapshotSubject);
 
         saveSnapshotStarted(snapshotSequenceNr, snapshotTag, sender, dittoHeaders);
     }
 
+    // Protected snapshots are always full snapshots as they are kept independently of their base.
+    private boolean shouldSaveDeltaSnapshot(final SnapshotTag snapshotTag) {
+        return snapshotTag == SnapshotTag.UNPROTECTED && deltasSinceFullSnapshot < deltasPerFullSnapshot;
+    }
+
     /**
      * Decides whether an incoming response from the snapshot store arrived out of order.
      *
@@ -566,7 +656,19 @@ public abstract class ThingSnapshotter<T extends Command<?>, R extends CommandRe
                     sender.tell(response, persistenceActor.self());
                 }
 
-                deleteOldSnapshot(lastSaneSnapshotterState.getSequenceNr(), lastSaneSnapshotterState.getSnapshotTag());
+                final long previousFullSnapshotSequenceNr = fullSnapshotSequenceNr;
+                updateFullSnapshot(newSnapshotSequenceNr);
+
+                // never delete the base of delta snapshots
+                final long lastSaneSequenceNr = lastSaneSnapshotterState.getSequenceNr();
+                if (lastSaneSequenceNr != fullSnapshotSequenceNr) {
+                    deleteOldSnapshot(lastSaneSequenceNr, lastSaneSnapshotterState.getSnapshotTag());
+                }
+                if (previousFullSnapshotSequenceNr != fullSnapshotSequenceNr &&
+                        previousFullSnapshotSequenceNr != lastSaneSequenceNr) {
+                    // bases of delta snapshots are always unprotected
+                    deleteOldSnapshot(previousFullSnapshotSequenceNr, SnapshotTag.UNPROTECTED);
+                }
                 deleteEventsOlderThan(newSnapshotSequenceNr);
 
                 // will update lastSaneSnapshotterState. Must be called once all access to lastSaneSnapshotterState
@@ -575,6 +677,19 @@ public abstract class ThingSnapshotter<T extends Command<?>, R extends CommandRe
             }
         }
 
+        private void updateFullSnapshot(final long newSnapshotSequenceNr) {
+            if (deltasPerFullSnapshot > 0) {
+                if (pendingFullSnapshot == null) {
+                    deltasSinceFullSnapshot++;
+                } else if (pendingFullSnapshot.getSnapshotTag() == SnapshotTag.UNPROTECTED) {
+                    fullSnapshot = pendingFullSnapshot;
+                    fullSnapshotSequenceNr = newSnapshotSequenceNr;
+                    deltasSinceFullSnapshot = 0;
+                }
+            }
+            pendingFullSnapshot = null;
+        }
+
         private void deleteOldSnapshot(final long sequenceNr, final SnapshotTag snapshotTag) {
             // only delete if it's necessary & safe to do so.
             if (snapshotDeleteOld && sequenceNr > 0 && snapshotTag == SnapshotTag.UNPROTECTED) {
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.things.starter.util.ConfigKeys;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.DeleteThing;
+import org.eclipse.ditto.signals.commands.things.modify.DeleteThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.mongodb.client.model.Filters;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.PoisonPill;
+import akka.cluster.sharding.ShardRegion;
+import akka.stream.ActorMaterializer;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import scala.collection.JavaConverters;
+
+/**
+ * Tests {@link MongoThingsBulkReader} and {@link ThingsBulkRetrievalActor} against Things written to MongoDB by
+ * {@link ThingPersistenceActor}s.
+ */
+public final class MongoThingsBulkReaderIT extends PersistenceActorTestBase {
+
+    private static final String DATABASE_NAME = "thingsBulkReaderIT";
+    private static final String SNAPSHOT_COLLECTION = "things_snaps";
+    private static final JsonPointer ATTRIBUTE_POINTER = JsonPointer.of("counter");
+
+    private static MongoDbResource mongoResource;
+
+    private MongoClientWrapper mongoClient;
+    private ActorMaterializer materializer;
+    private MongoThingsBulkReader underTest;
+
+    @BeforeClass
+    public static void startMongoResource() {
+        mongoResource = new MongoDbResource("localhost");
+        mongoResource.start();
+    }
+
+    @AfterClass
+    public static void stopMongoResource() {
+        if (mongoResource != null) {
+            mongoResource.stop();
+        }
+    }
+
+    @Before
+    public void setUp() {
+        final Config config = ConfigFactory.empty()
+                .withValue("akka.contrib.persistence.mongodb.mongo.mongouri", ConfigValueFactory.fromAnyRef(
+                        "mongodb://" + mongoResource.getBindIp() + ":" + mongoResource.getPort() + "/" +
+                                DATABASE_NAME))
+                .withValue("akka-contrib-mongodb-persistence-things-journal.class",
+                        ConfigValueFactory.fromAnyRef("akka.contrib.persistence.mongodb.MongoJournal"))
+                .withValue("akka-contrib-mongodb-persistence-things-journal.overrides.journal-collection",
+                        ConfigValueFactory.fromAnyRef("things_journal"))
+                .withValue("akka-contrib-mongodb-persistence-things-snapshots.class",
+                        ConfigValueFactory.fromAnyRef("akka.contrib.persistence.mongodb.MongoSnapshots"))
+                .withValue("akka-contrib-mongodb-persistence-things-snapshots.overrides.snaps-collection",
+                        ConfigValueFactory.fromAnyRef(SNAPSHOT_COLLECTION))
+                .withValue(ConfigKeys.Thing.SNAPSHOT_THRESHOLD, ConfigValueFactory.fromAnyRef(2))
+                .withValue(ConfigKeys.Thing.SNAPSHOT_INTERVAL, ConfigValueFactory.fromAnyRef(Duration.ofHours(1L)));
+        setup(config);
+
+        materializer = ActorMaterializer.create(actorSystem);
+        mongoClient = MongoClientWrapper.newInstance(mongoResource.getBindIp(), mongoResource.getPort(),
+                DATABASE_NAME, 10, 100, 30L);
+        underTest = MongoThingsBulkReader.newInstance(actorSystem.settings().config(), mongoClient);
+    }
+
+    @After
+    public void tearDown() {
+        if (mongoClient != null) {
+            mongoClient.close();
+        }
+    }
+
+    @Test
+    public void retrieveThingFromSnapshotAndEventsAfterIt() {
+        final Thing thing = createThingV2WithRandomId();
+        final String thingId = thing.getId().orElseThrow(IllegalStateException::new);
+
+        new TestKit(actorSystem) {{
+            final ActorRef persistenceActor = createPersistenceActorFor(thingId);
+            persistenceActor.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(CreateThingResponse.class);
+            modifyCounter(this, persistenceActor, thingId, 1);
+            // revision 2 reached the snapshot threshold
+            Awaitility.await().atMost(10L, TimeUnit.SECONDS).until(() -> countSnapshots(thingId) > 0L);
+            modifyCounter(this, persistenceActor, thingId, 2);
+            stop(this, persistenceActor);
+        }};
+
+        final List<Thing> things = retrieveThings(thingId);
+
+        assertThat(things).hasSize(1);
+        final Thing retrievedThing = things.get(0);
+        assertThat(retrievedThing.getId()).contains(thingId);
+        assertThat(retrievedThing.getRevision()).contains(ThingsModelFactory.newThingRevision(3L));
+        assertThat(retrievedThing.getAttributes().flatMap(attributes -> attributes.getValue(ATTRIBUTE_POINTER)))
+                .contains(JsonValue.of(2));
+        assertThat(retrievedThing.getFeatures()).isEqualTo(thing.getFeatures());
+    }
+
+    @Test
+    public void retrieveThingFromEventsOnly() {
+        final Thing thing = createThingV2WithRandomId();
+        final String thingId = thing.getId().orElseThrow(IllegalStateException::new);
+
+        new TestKit(actorSystem) {{
+            final ActorRef persistenceActor = createPersistenceActorFor(thingId);
+            persistenceActor.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(CreateThingResponse.class);
+            stop(this, persistenceActor);
+        }};
+
+        final List<Thing> things = retrieveThings(thingId);
+
+        assertThat(countSnapshots(thingId)).isZero();
+        assertThat(things).hasSize(1);
+        assertThat(things.get(0).getRevision()).contains(ThingsModelFactory.newThingRevision(1L));
+        assertThat(things.get(0).getAttributes()).isEqualTo(thing.getAttributes());
+    }
+
+    @Test
+    public void doNotEmitDeletedOrUnknownThings() {
+        final Thing thing = createThingV2WithRandomId();
+        final String thingId = thing.getId().orElseThrow(IllegalStateException::new);
+
+        new TestKit(actorSystem) {{
+            final ActorRef persistenceActor = createPersistenceActorFor(thingId);
+            persistenceActor.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(CreateThingResponse.class);
+            persistenceActor.tell(DeleteThing.of(thingId, dittoHeadersV2), getRef());
+            expectMsgClass(DeleteThingResponse.class);
+            stop(this, persistenceActor);
+        }};
+
+        assertThat(retrieveThings(thingId, THING_ID + UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    public void bulkRetrievalActorRespondsInRequestOrder() {
+        final Thing thing = createThingV2WithRandomId();
+        final String thingId = thing.getId().orElseThrow(IllegalStateException::new);
+        final String unknownThingId = THING_ID + UUID.randomUUID();
+
+        new TestKit(actorSystem) {{
+            final ActorRef persistenceActor = createPersistenceActorFor(thingId);
+            persistenceActor.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(CreateThingResponse.class);
+            modifyCounter(this, persistenceActor, thingId, 1);
+            Awaitility.await().atMost(10L, TimeUnit.SECONDS).until(() -> countSnapshots(thingId) > 0L);
+            modifyCounter(this, persistenceActor, thingId, 2);
+            stop(this, persistenceActor);
+
+            final TestProbe shardRegion = TestProbe.apply(actorSystem);
+            final ActorRef bulkRetrievalActor = actorSystem.actorOf(ThingsBulkRetrievalActor.props(
+                    actorSystem.settings().config(), mongoClient, shardRegion.ref(), 10, Duration.ofSeconds(3L)));
+
+            bulkRetrievalActor.tell(SudoRetrieveThings.of(Arrays.asList(unknownThingId, thingId), dittoHeadersV2),
+                    getRef());
+
+            shardRegion.expectMsg(ShardRegion.getShardRegionStateInstance());
+            shardRegion.reply(new ShardRegion.CurrentShardRegionState(
+                    JavaConverters.<ShardRegion.ShardState>asScalaSetConverter(Collections.emptySet())
+                            .asScala()
+                            .toSet()));
+
+            // the Things are only retrieved on demand of the consumer
+            @SuppressWarnings("unchecked") final SourceRef<Jsonifiable> sourceRef = expectMsgClass(SourceRef.class);
+            final CompletionStage<List<Jsonifiable>> responsesFuture =
+                    sourceRef.getSource().runWith(Sink.seq(), materializer);
+
+            final SudoRetrieveThing sudoRetrieveThing = shardRegion.expectMsgClass(SudoRetrieveThing.class);
+            assertThat(sudoRetrieveThing.getId()).isEqualTo(unknownThingId);
+            shardRegion.reply(ThingNotAccessibleException.newBuilder(unknownThingId).build());
+
+            final List<Jsonifiable> responses = responsesFuture.toCompletableFuture().join();
+
+            assertThat(responses).hasSize(2);
+            assertThat(responses.get(0)).isInstanceOf(ThingNotAccessibleException.class);
+            assertThat(responses.get(1)).isInstanceOf(SudoRetrieveThingResponse.class);
+            final Thing retrievedThing = ((SudoRetrieveThingResponse) responses.get(1)).getThing();
+            assertThat(retrievedThing.getId()).contains(thingId);
+            assertThat(retrievedThing.getAttributes().flatMap(attributes -> attributes.getValue(ATTRIBUTE_POINTER)))
+                    .contains(JsonValue.of(2));
+        }};
+    }
+
+    private void modifyCounter(final TestKit testKit, final ActorRef persistenceActor, final String thingId,
+            final int value) {
+
+        persistenceActor.tell(ModifyAttribute.of(thingId, ATTRIBUTE_POINTER, JsonValue.of(value), dittoHeadersV2),
+                testKit.getRef());
+        testKit.expectMsgClass(ModifyAttributeResponse.class);
+    }
+
+    private static void stop(final TestKit testKit, final ActorRef persistenceActor) {
+        testKit.watch(persistenceActor);
+        persistenceActor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        testKit.expectTerminated(persistenceActor);
+    }
+
+    private List<Thing> retrieveThings(final String... thingIds) {
+        return underTest.retrieveThings(Arrays.asList(thingIds))
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .join();
+    }
+
+    private long countSnapshots(final String thingId) {
+        return Source.fromPublisher(mongoClient.getDatabase()
+                .getCollection(SNAPSHOT_COLLECTION)
+                .count(Filters.eq("pid", ThingPersistenceActor.PERSISTENCE_ID_PREFIX + thingId)))
+                .runWith(Sink.head(), materializer)
+                .toCompletableFuture()
+                .join();
+    }
+
+}
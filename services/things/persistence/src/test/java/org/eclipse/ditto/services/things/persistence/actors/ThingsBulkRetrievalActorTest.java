@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingLifecycle;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.cluster.sharding.ShardRegion;
+import akka.stream.ActorMaterializer;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import scala.collection.JavaConverters;
+
+/**
+ * Unit test for {@link ThingsBulkRetrievalActor}.
+ */
+public final class ThingsBulkRetrievalActorTest {
+
+    private static final Duration ASK_TIMEOUT = Duration.ofSeconds(3L);
+
+    private ActorSystem actorSystem;
+    private ActorMaterializer materializer;
+    private Function<Collection<String>, Source<Thing, NotUsed>> bulkReader;
+    private List<Collection<String>> readBatches;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+        materializer = ActorMaterializer.create(actorSystem);
+        readBatches = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void respondsInRequestOrderForActiveInactiveAndMissingThings() {
+        // the persistence emits the Things in a different order than requested
+        givenPersistedThings("test:inactive-2", "test:inactive-1");
+
+        new TestKit(actorSystem) {{
+            final TestProbe shardRegion = TestProbe.apply(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(
+                    ThingsBulkRetrievalActor.props(bulkReader, shardRegion.ref(), 10, ASK_TIMEOUT));
+
+            underTest.tell(SudoRetrieveThings.of(Arrays.asList("test:inactive-1", "test:active", "test:missing",
+                    "test:inactive-2"), DittoHeaders.empty()), getRef());
+
+            replyActiveThingIds(shardRegion, "test:active");
+            final CompletionStage<List<Jsonifiable>> responsesFuture = expectResponses(this);
+            answerSudoRetrieveThings(shardRegion, 2);
+
+            final List<Jsonifiable> responses = responsesFuture.toCompletableFuture().join();
+            assertThat(responses).hasSize(4);
+            assertThat(getThingId(responses.get(0))).isEqualTo("test:inactive-1");
+            assertThat(getThingId(responses.get(1))).isEqualTo("test:active");
+            assertThat(responses.get(2)).isInstanceOf(ThingNotAccessibleException.class);
+            assertThat(getThingId(responses.get(3))).isEqualTo("test:inactive-2");
+            assertThat(readBatches)
+                    .containsExactly(Arrays.asList("test:inactive-1", "test:missing", "test:inactive-2"));
+        }};
+    }
+
+    @Test
+    public void readsInactiveThingsInBatches() {
+        givenPersistedThings("test:thing-1", "test:thing-2", "test:thing-3", "test:thing-4", "test:thing-5");
+
+        new TestKit(actorSystem) {{
+            final TestProbe shardRegion = TestProbe.apply(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(
+                    ThingsBulkRetrievalActor.props(bulkReader, shardRegion.ref(), 2, ASK_TIMEOUT));
+
+            final List<String> thingIds =
+                    Arrays.asList("test:thing-1", "test:thing-2", "test:thing-3", "test:thing-4", "test:thing-5");
+            underTest.tell(SudoRetrieveThings.of(thingIds, DittoHeaders.empty()), getRef());
+
+            replyActiveThingIds(shardRegion);
+
+            final List<String> respondedThingIds = expectResponses(this).toCompletableFuture().join().stream()
+                    .map(ThingsBulkRetrievalActorTest::getThingId)
+                    .collect(Collectors.toList());
+            assertThat(respondedThingIds).isEqualTo(thingIds);
+            assertThat(readBatches).containsExactly(Arrays.asList("test:thing-1", "test:thing-2"),
+                    Arrays.asList("test:thing-3", "test:thing-4"), Collections.singletonList("test:thing-5"));
+            shardRegion.expectNoMessage(scala.concurrent.duration.Duration.create(200L, TimeUnit.MILLISECONDS));
+        }};
+    }
+
+    private void givenPersistedThings(final String... thingIds) {
+        final List<Thing> persistedThings = Arrays.stream(thingIds)
+                .map(ThingsBulkRetrievalActorTest::createThing)
+                .collect(Collectors.toList());
+        bulkReader = requestedThingIds -> {
+            readBatches.add(new ArrayList<>(requestedThingIds));
+            return Source.from(persistedThings.stream()
+                    .filter(thing -> requestedThingIds.contains(thing.getId().orElse(null)))
+                    .collect(Collectors.toList()));
+        };
+    }
+
+    /**
+     * Starts consuming the responses; the actor only retrieves Things on demand of the stream.
+     */
+    @SuppressWarnings("unchecked")
+    private CompletionStage<List<Jsonifiable>> expectResponses(final TestKit testKit) {
+        final SourceRef<Jsonifiable> sourceRef = testKit.expectMsgClass(SourceRef.class);
+        return sourceRef.getSource().runWith(Sink.seq(), materializer);
+    }
+
+    private static void replyActiveThingIds(final TestProbe shardRegion, final String... activeThingIds) {
+        shardRegion.expectMsg(ShardRegion.getShardRegionStateInstance());
+        final Set<String> entityIds = Arrays.stream(activeThingIds).collect(Collectors.toSet());
+        final ShardRegion.ShardState shardState =
+                new ShardRegion.ShardState("0", JavaConverters.asScalaSetConverter(entityIds).asScala().toSet());
+        shardRegion.reply(new ShardRegion.CurrentShardRegionState(
+                JavaConverters.asScalaSetConverter(Collections.singleton(shardState)).asScala().toSet()));
+    }
+
+    private static void answerSudoRetrieveThings(final TestProbe shardRegion, final int count) {
+        for (int i = 0; i < count; i++) {
+            final SudoRetrieveThing sudoRetrieveThing = shardRegion.expectMsgClass(SudoRetrieveThing.class);
+            final String thingId = sudoRetrieveThing.getId();
+            if ("test:active".equals(thingId)) {
+                shardRegion.reply(SudoRetrieveThingResponse.of(
+                        createThing(thingId).toJson(JsonSchemaVersion.LATEST, FieldType.regularOrSpecial()),
+                        sudoRetrieveThing.getDittoHeaders()));
+            } else {
+                shardRegion.reply(ThingNotAccessibleException.newBuilder(thingId)
+                        .dittoHeaders(sudoRetrieveThing.getDittoHeaders())
+                        .build());
+            }
+        }
+    }
+
+    private static Thing createThing(final String thingId) {
+        return ThingsModelFactory.newThingBuilder()
+                .setId(thingId)
+                .setLifecycle(ThingLifecycle.ACTIVE)
+                .setRevision(1L)
+                .build();
+    }
+
+    private static String getThingId(final Jsonifiable response) {
+        assertThat(response).isInstanceOf(SudoRetrieveThingResponse.class);
+        return ((SudoRetrieveThingResponse) response).getThing().getId().orElse(null);
+    }
+
+}
@@ -16,6 +16,7 @@ import org.bson.BSONObject;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.things.TestConstants;
+import org.eclipse.ditto.services.utils.persistence.mongo.CompressedPayload;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
 import org.junit.Before;
 import org.junit.Test;
@@ -56,6 +57,21 @@ public final class ThingMongoSnapshotAdapterTest {
         assertThat(dbObject.get(ThingMongoSnapshotAdapter.TAG_JSON_KEY)).isEqualTo(snapshotTag.toString());
     }
 
+    @Test
+    public void compressedSnapshotIsRestored() {
+        final ThingMongoSnapshotAdapter compressingAdapter = new ThingMongoSnapshotAdapter(true);
+        final ThingWithSnapshotTag thingWithSnapshotTag =
+                ThingWithSnapshotTag.newInstance(TestConstants.Thing.THING_V1, SnapshotTag.PROTECTED);
+
+        final Object rawSnapshotEntity = compressingAdapter.toSnapshotStore(thingWithSnapshotTag);
+
+        assertThat(CompressedPayload.isCompressed(rawSnapshotEntity)).isTrue();
+        assertThat(((BSONObject) rawSnapshotEntity).get(ThingMongoSnapshotAdapter.TAG_JSON_KEY))
+                .isEqualTo(SnapshotTag.PROTECTED.toString());
+        assertThat(underTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, rawSnapshotEntity)))
+                .isEqualTo(thingWithSnapshotTag);
+    }
+
     @Test
     public void restoreThingFromSnapshotOfferReturnsExpected() {
         final SnapshotTag snapshotTag = SnapshotTag.PROTECTED;
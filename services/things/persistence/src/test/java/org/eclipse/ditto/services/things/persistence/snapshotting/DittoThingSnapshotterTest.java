@@ -18,6 +18,7 @@ import static org.mockito.Mockito.when;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActorInterface;
 import org.eclipse.ditto.services.things.persistence.serializer.SnapshotTag;
 import org.eclipse.ditto.services.things.persistence.serializer.ThingWithSnapshotTag;
+import org.eclipse.ditto.services.things.persistence.strategies.ReceiveStrategy;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.junit.Before;
 import org.junit.Test;
@@ -27,6 +28,8 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import akka.event.DiagnosticLoggingAdapter;
+import akka.persistence.SaveSnapshotSuccess;
+import akka.persistence.SnapshotMetadata;
 
 /**
  * Unit test for {@link DittoThingSnapshotter}.
@@ -77,6 +80,29 @@ public final class DittoThingSnapshotterTest {
         Mockito.verify(persistenceActorMock).saveSnapshot(Mockito.anyObject());
     }
 
+    /** */
+    @SuppressWarnings("unchecked")
+    @Test
+    public void saveDeltaSnapshotRelativeToLastFullSnapshot() {
+        final DittoThingSnapshotter deltaSnapshotter = new DittoThingSnapshotter(persistenceActorMock,
+                taggedSnapshotAdapterMock, true, true, log, null, null, null, null, 1);
+        when(persistenceActorMock.snapshotSequenceNr()).thenReturn(5L, 10L);
+        final ThingWithSnapshotTag thingWithSnapshotTag =
+                ThingWithSnapshotTag.newInstance(THING_V1, SnapshotTag.UNPROTECTED);
+
+        deltaSnapshotter.doSaveSnapshot(SnapshotTag.UNPROTECTED, null, null);
+        deltaSnapshotter.strategies()
+                .stream()
+                .filter(strategy -> strategy.getMatchingClass() == SaveSnapshotSuccess.class)
+                .map(strategy -> (ReceiveStrategy<SaveSnapshotSuccess>) strategy)
+                .forEach(strategy -> strategy.apply(new SaveSnapshotSuccess(new SnapshotMetadata("thing", 5L, 0L))));
+        deltaSnapshotter.doSaveSnapshot(SnapshotTag.UNPROTECTED, null, null);
+
+        Mockito.verify(taggedSnapshotAdapterMock).toSnapshotStore(eq(thingWithSnapshotTag));
+        Mockito.verify(taggedSnapshotAdapterMock)
+                .toDeltaSnapshotStore(eq(thingWithSnapshotTag), eq(thingWithSnapshotTag), eq(5L));
+    }
+
     /** */
     @SuppressWarnings("ConstantConditions")
     @Test
@@ -24,18 +24,25 @@ import org.eclipse.ditto.services.base.config.HttpConfigReader;
 import org.eclipse.ditto.services.base.config.ServiceConfigReader;
 import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.things.persistence.actors.ThingSupervisorActor;
+import org.eclipse.ditto.services.things.persistence.actors.ThingsBulkRetrievalActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingsPersistenceStreamingActorCreator;
 import org.eclipse.ditto.services.things.persistence.snapshotting.ThingSnapshotter;
 import org.eclipse.ditto.services.things.starter.util.ConfigKeys;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
+import org.eclipse.ditto.services.utils.cluster.EventPublisherActor;
+import org.eclipse.ditto.services.utils.cluster.ShardLoadTracker;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.config.ConfigUtil;
 import org.eclipse.ditto.services.utils.config.MongoConfig;
 import org.eclipse.ditto.services.utils.health.DefaultHealthCheckingActorFactory;
 import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
 import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
+import org.eclipse.ditto.services.utils.health.status.StartupPhases;
+import org.eclipse.ditto.services.utils.persistence.mongo.JournalChangeStreamActor;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientActor;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
 
 import com.typesafe.config.Config;
 
@@ -47,6 +54,7 @@ import akka.actor.ActorSystem;
 import akka.actor.CoordinatedShutdown;
 import akka.actor.InvalidActorNameException;
 import akka.actor.OneForOneStrategy;
+import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.actor.SupervisorStrategy;
@@ -55,6 +63,8 @@ import akka.cluster.pubsub.DistributedPubSubMediator;
 import akka.cluster.sharding.ClusterSharding;
 import akka.cluster.sharding.ClusterShardingSettings;
 import akka.cluster.sharding.ShardRegion;
+import akka.cluster.singleton.ClusterSingletonManager;
+import akka.cluster.singleton.ClusterSingletonManagerSettings;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.http.javadsl.ConnectHttp;
 import akka.http.javadsl.Http;
@@ -136,7 +146,7 @@ final class ThingsRootActor extends AbstractActor {
             }).build());
 
     private final ActorRef thingsShardRegion;
-
+    private final MongoClientWrapper mongoClientWrapper;
 
     private ThingsRootActor(final ServiceConfigReader configReader,
             final ActorRef pubSubMediator,
@@ -146,17 +156,31 @@ final class ThingsRootActor extends AbstractActor {
         final int numberOfShards = configReader.cluster().numberOfShards();
         final Config config = configReader.getRawConfig();
 
-        final Props thingSupervisorProps = getThingSupervisorActorProps(config, pubSubMediator, thingSnapshotterCreate);
+        final ActorRef eventPublisher;
+        if (configReader.cluster().partitionedEventsEnabled()) {
+            // Thing events are published via the event publisher which sends them only to the interested nodes
+            eventPublisher = startChildActor(EventPublisherActor.ACTOR_NAME,
+                    EventPublisherActor.props(pubSubMediator, ThingEvent.TYPE_PREFIX));
+        } else {
+            eventPublisher = pubSubMediator;
+        }
+        final Props thingSupervisorProps = getThingSupervisorActorProps(config, eventPublisher, thingSnapshotterCreate);
 
         final ClusterShardingSettings shardingSettings =
                 ClusterShardingSettings.create(getContext().system())
                         .withRole(ThingsMessagingConstants.CLUSTER_ROLE);
 
+        final ShardLoadTracker shardLoadTracker = ShardLoadTracker.newInstance();
         thingsShardRegion = ClusterSharding.get(getContext().system())
                 .start(ThingsMessagingConstants.SHARD_REGION,
                         thingSupervisorProps,
                         shardingSettings,
-                        ShardRegionExtractor.of(numberOfShards, getContext().getSystem()));
+                        ShardRegionExtractor.of(numberOfShards, getContext().getSystem(), shardLoadTracker),
+                        configReader.cluster()
+                                .shardAllocation()
+                                .createAllocationStrategy(getContext().getSystem(), shardingSettings,
+                                        ThingsMessagingConstants.SHARD_REGION, shardLoadTracker),
+                        PoisonPill.getInstance());
 
         final HealthConfigReader healthConfig = configReader.health();
         final HealthCheckingActorOptions.Builder hcBuilder =
@@ -173,13 +197,41 @@ final class ThingsRootActor extends AbstractActor {
         final ActorRef healthCheckingActor = startChildActor(DefaultHealthCheckingActorFactory.ACTOR_NAME,
                 DefaultHealthCheckingActorFactory.props(healthCheckingActorOptions, mongoClient));
 
+        // one connection pool for all actors of this service reading the persistence directly
+        mongoClientWrapper = StartupPhases.getInstance().measure("mongo-client", () ->
+                MongoClientWrapper.newInstance(config));
+
         final int tagsStreamingCacheSize = config.getInt(ConfigKeys.THINGS_TAGS_STREAMING_CACHE_SIZE);
         final ActorRef persistenceStreamingActor = startChildActor(ThingsPersistenceStreamingActorCreator.ACTOR_NAME,
-                ThingsPersistenceStreamingActorCreator.props(config, tagsStreamingCacheSize));
+                ThingsPersistenceStreamingActorCreator.props(config, mongoClientWrapper, tagsStreamingCacheSize));
+
+        if (config.getBoolean(ConfigKeys.THINGS_TAGS_CHANGE_STREAM_ENABLED)) {
+            // one change stream per cluster suffices, the published tags are consumed by one search updater each
+            final Props changeStreamProps = ThingsPersistenceStreamingActorCreator.changeStreamProps(config,
+                    pubSubMediator,
+                    config.getInt(ConfigKeys.THINGS_TAGS_CHANGE_STREAM_BATCH_SIZE),
+                    config.getDuration(ConfigKeys.THINGS_TAGS_CHANGE_STREAM_BATCH_INTERVAL),
+                    config.getString(ConfigKeys.THINGS_TAGS_CHANGE_STREAM_RESUME_TOKENS_COLLECTION), materializer);
+            final ClusterSingletonManagerSettings singletonSettings = ClusterSingletonManagerSettings
+                    .create(getContext().system())
+                    .withRole(ThingsMessagingConstants.CLUSTER_ROLE);
+            startChildActor(JournalChangeStreamActor.ACTOR_NAME,
+                    ClusterSingletonManager.props(changeStreamProps, PoisonPill.getInstance(), singletonSettings));
+        }
 
         pubSubMediator.tell(new DistributedPubSubMediator.Put(getSelf()), getSelf());
         pubSubMediator.tell(new DistributedPubSubMediator.Put(persistenceStreamingActor), getSelf());
 
+        if (config.getBoolean(ConfigKeys.THINGS_BULK_RETRIEVAL_ENABLED)) {
+            final int bulkRetrievalBatchSize = config.getInt(ConfigKeys.THINGS_BULK_RETRIEVAL_BATCH_SIZE);
+            final Duration bulkRetrievalAskTimeout =
+                    config.getDuration(ConfigKeys.THINGS_BULK_RETRIEVAL_ASK_TIMEOUT);
+            final ActorRef bulkRetrievalActor = startChildActor(ThingsBulkRetrievalActor.ACTOR_NAME,
+                    ThingsBulkRetrievalActor.props(config, mongoClientWrapper, thingsShardRegion,
+                            bulkRetrievalBatchSize, bulkRetrievalAskTimeout));
+            pubSubMediator.tell(new DistributedPubSubMediator.Put(bulkRetrievalActor), getSelf());
+        }
+
         final HttpConfigReader httpConfig = configReader.http();
         String hostname = httpConfig.getHostname();
         if (hostname.isEmpty()) {
@@ -237,6 +289,12 @@ final class ThingsRootActor extends AbstractActor {
         return logRequest("http-request", () -> logResult("http-response", statusRoute::buildStatusRoute));
     }
 
+    @Override
+    public void postStop() throws Exception {
+        mongoClientWrapper.close();
+        super.postStop();
+    }
+
     @Override
     public SupervisorStrategy supervisorStrategy() {
         return strategy;
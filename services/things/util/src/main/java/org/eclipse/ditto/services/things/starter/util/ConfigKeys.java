@@ -35,6 +35,48 @@ public final class ConfigKeys {
     public static final String THINGS_TAGS_STREAMING_CACHE_SIZE = THINGS_TAGS_PREFIX +
             "streaming-cache-size";
 
+    private static final String THINGS_TAGS_CHANGE_STREAM_PREFIX = THINGS_TAGS_PREFIX + "change-stream.";
+
+    /**
+     * Whether to publish the Thing tags of written events by watching the journal with MongoDB change streams.
+     */
+    public static final String THINGS_TAGS_CHANGE_STREAM_ENABLED = THINGS_TAGS_CHANGE_STREAM_PREFIX + "enabled";
+
+    /**
+     * The maximum amount of Thing tags published in one batch by the change stream.
+     */
+    public static final String THINGS_TAGS_CHANGE_STREAM_BATCH_SIZE =
+            THINGS_TAGS_CHANGE_STREAM_PREFIX + "batch-size";
+
+    /**
+     * The maximum time to wait for further Thing tags of a batch published by the change stream.
+     */
+    public static final String THINGS_TAGS_CHANGE_STREAM_BATCH_INTERVAL =
+            THINGS_TAGS_CHANGE_STREAM_PREFIX + "batch-interval";
+
+    /**
+     * The collection in which the resume tokens of the change streams are persisted.
+     */
+    public static final String THINGS_TAGS_CHANGE_STREAM_RESUME_TOKENS_COLLECTION =
+            THINGS_TAGS_CHANGE_STREAM_PREFIX + "resume-tokens-collection";
+
+    private static final String THINGS_BULK_RETRIEVAL_PREFIX = THINGS_PREFIX + "bulk-retrieval.";
+
+    /**
+     * Whether Things are retrieved in bulk directly from the persistence.
+     */
+    public static final String THINGS_BULK_RETRIEVAL_ENABLED = THINGS_BULK_RETRIEVAL_PREFIX + "enabled";
+
+    /**
+     * The maximum amount of Things which are read from the persistence with one query when retrieving Things in bulk.
+     */
+    public static final String THINGS_BULK_RETRIEVAL_BATCH_SIZE = THINGS_BULK_RETRIEVAL_PREFIX + "batch-size";
+
+    /**
+     * The timeout for retrieving a single active Thing from the shard region when retrieving Things in bulk.
+     */
+    public static final String THINGS_BULK_RETRIEVAL_ASK_TIMEOUT = THINGS_BULK_RETRIEVAL_PREFIX + "ask-timeout";
+
     public static final class Thing {
 
         private static final String PREFIX = THINGS_PREFIX + "thing.";
@@ -68,11 +110,21 @@ public final class ConfigKeys {
          */
         public static final String EVENTS_DELETE_OLD = EVENTS_PREFIX + "delete-old";
 
+        /**
+         * Whether to store Events compressed.
+         */
+        public static final String EVENTS_COMPRESS = EVENTS_PREFIX + "compress";
+
         /**
          * Whether to delete old Snapshot or not when a Snapshot is taken.
          */
         public static final String SNAPSHOT_DELETE_OLD = SNAPSHOT_PREFIX + "delete-old";
 
+        /**
+         * Whether to store full Snapshots compressed.
+         */
+        public static final String SNAPSHOT_COMPRESS = SNAPSHOT_PREFIX + "compress";
+
         /**
          * Every amount of changes (configured by this key), this Actor will create a snapshot of the thing.
          */
@@ -83,6 +135,12 @@ public final class ConfigKeys {
          */
         public static final String SNAPSHOT_INTERVAL = SNAPSHOT_PREFIX + "interval";
 
+        /**
+         * How many unprotected snapshots are saved as delta relative to the last full snapshot before a full snapshot
+         * is saved again.
+         */
+        public static final String SNAPSHOT_DELTAS_PER_FULL = SNAPSHOT_PREFIX + "deltas-per-full";
+
         /**
          * The activity interval for things with lifecycle state deleted.
          *
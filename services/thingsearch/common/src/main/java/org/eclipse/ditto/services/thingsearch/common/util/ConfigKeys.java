@@ -69,6 +69,17 @@ public final class ConfigKeys {
      */
     public static final String INDEX_INITIALIZATION_ENABLED = SEARCH_PREFIX + "index-initialization." + ENABLED_SUFFIX;
 
+    /**
+     * Key of the key paths which are stored as short codes in the "__internal" entries of the search index. The list
+     * may only be appended to, as the position of a key path is its code.
+     */
+    public static final String INDEX_KEY_DICTIONARY = SEARCH_PREFIX + "index-key-dictionary.keys";
+
+    /**
+     * Key of the paths of frequently queried attributes which get a dedicated index.
+     */
+    public static final String QUERY_PLANNER_INDEXED_ATTRIBUTES = SEARCH_PREFIX + "query-planner.indexed-attributes";
+
     private static final String DELETION_PREFIX = SEARCH_PREFIX + "deletion.";
 
     /**
@@ -98,6 +109,53 @@ public final class ConfigKeys {
      */
     public static final String EVENT_PROCESSING_ACTIVE = SEARCH_UPDATER_PREFIX + "event-processing.active";
 
+    private static final String NAMESPACE_STATISTICS_PREFIX = SEARCH_UPDATER_PREFIX + "namespace-statistics.";
+
+    /**
+     * Controls whether the statistics of namespaces are maintained from the processed thing events.
+     */
+    public static final String NAMESPACE_STATISTICS_ENABLED = NAMESPACE_STATISTICS_PREFIX + ENABLED_SUFFIX;
+
+    /**
+     * Key for the interval in which the statistics of the processed thing events are sent and the namespace report
+     * is updated.
+     */
+    public static final String NAMESPACE_STATISTICS_UPDATE_INTERVAL = NAMESPACE_STATISTICS_PREFIX + "update-interval";
+
+    /**
+     * Key for the interval in which the things of each namespace are recounted from the search index.
+     */
+    public static final String NAMESPACE_STATISTICS_RECOUNT_INTERVAL =
+            NAMESPACE_STATISTICS_PREFIX + "recount-interval";
+
+    private static final String POLICY_FANOUT_PREFIX = SEARCH_UPDATER_PREFIX + "policy-fanout.";
+
+    /**
+     * Controls whether Things are re-indexed by the policy fanout scheduler after changes of their policies.
+     */
+    public static final String POLICY_FANOUT_ENABLED = POLICY_FANOUT_PREFIX + ENABLED_SUFFIX;
+
+    /**
+     * Key for the amount of Things retrieved with one bulk retrieval by the policy fanout scheduler.
+     */
+    public static final String POLICY_FANOUT_PAGE_SIZE = POLICY_FANOUT_PREFIX + "page-size";
+
+    /**
+     * Key for the amount of Things the policy fanout scheduler re-indexes in parallel.
+     */
+    public static final String POLICY_FANOUT_PARALLELISM = POLICY_FANOUT_PREFIX + "parallelism";
+
+    /**
+     * Key for the maximum amount of Things per second the policy fanout scheduler re-indexes.
+     */
+    public static final String POLICY_FANOUT_WRITES_PER_SECOND = POLICY_FANOUT_PREFIX + "writes-per-second";
+
+    /**
+     * Key for the timeout of the retrieval of a policy, a page of Things or the re-indexing of a Thing by the policy
+     * fanout scheduler.
+     */
+    public static final String POLICY_FANOUT_ASK_TIMEOUT = POLICY_FANOUT_PREFIX + "ask-timeout";
+
     /**
      * Controls maximum number of events to update in a bulk.
      */
@@ -20,7 +20,9 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_VALUE;
 import static org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence.filterNotDeleted;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -56,13 +58,44 @@ public final class Indices {
         private static final Index DELETED = IndexFactory.newInstance("deleted",
                 keys(FIELD_DELETED), false);
 
+        private static final Index NAMESPACE_ID = IndexFactory.newInstance("nsid",
+                keys(FIELD_NAMESPACE, FIELD_ID), false)
+                .withPartialFilterExpression(filterNotDeleted());
+
+        private static final String INDEXED_ATTRIBUTE_PREFIX = "attr_";
+
         /**
          * Gets all defined indices.
          *
          * @return the indices
          */
         public static List<Index> all() {
-            return Collections.unmodifiableList(Arrays.asList(KEY_VALUE, ACL, GLOBAL_READS, DELETED));
+            return Collections.unmodifiableList(Arrays.asList(KEY_VALUE, ACL, GLOBAL_READS, DELETED, NAMESPACE_ID));
+        }
+
+        /**
+         * Gets all defined indices together with the dedicated indices of attributes.
+         *
+         * @param indexedAttributeFields the document fields of the attributes to index, e.g.
+         * {@code "attributes.location.city"}.
+         * @return the indices
+         */
+        public static List<Index> all(final Collection<String> indexedAttributeFields) {
+            final List<Index> indices = new ArrayList<>(all());
+            indexedAttributeFields.forEach(field -> indices.add(indexedAttribute(field)));
+            return Collections.unmodifiableList(indices);
+        }
+
+        /**
+         * Gets the dedicated index of an attribute.
+         *
+         * @param attributeField the document field of the attribute, e.g. {@code "attributes.location.city"}.
+         * @return the index
+         */
+        public static Index indexedAttribute(final String attributeField) {
+            return IndexFactory.newInstance(INDEXED_ATTRIBUTE_PREFIX + attributeField,
+                    keys(attributeField, FIELD_ID), false)
+                    .withPartialFilterExpression(filterNotDeleted());
         }
 
         private static List<String> keys(final String... keyNames) {
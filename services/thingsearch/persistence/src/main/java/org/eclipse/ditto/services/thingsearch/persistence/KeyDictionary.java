@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import com.mongodb.client.model.Filters;
+
+/**
+ * Dictionary of interned key paths of the {@code __internal} entries of the search index. Entries whose key path
+ * {@code k} is contained in the dictionary store a short code instead of the path, e.g. {@code "#0"} instead of
+ * {@code "attribute/location"}, which shrinks both the documents and the index {@link Indices.Things#KEY_VALUE}.
+ * <p>
+ * The code of a key path is its position in the dictionary. Therefore key paths may only be appended to the
+ * dictionary, never removed or reordered. Filters match both the code and the plain key path, so that documents
+ * written before a key path was added to the dictionary are still found.
+ * </p>
+ */
+@Immutable
+public final class KeyDictionary {
+
+    /**
+     * Prefix of the codes of interned key paths. Plain key paths never start with it.
+     */
+    static final String CODE_PREFIX = "#";
+
+    private static final int CODE_RADIX = Character.MAX_RADIX;
+    private static final KeyDictionary EMPTY = new KeyDictionary(Collections.emptyList());
+
+    private final List<String> keys;
+    private final Map<String, String> codesByKey;
+
+    private KeyDictionary(final List<String> keys) {
+        this.keys = Collections.unmodifiableList(new ArrayList<>(keys));
+        codesByKey = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            codesByKey.put(keys.get(i), CODE_PREFIX + Integer.toString(i, CODE_RADIX));
+        }
+    }
+
+    /**
+     * Returns the empty dictionary which stores all key paths plainly.
+     *
+     * @return the empty dictionary.
+     */
+    public static KeyDictionary empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a dictionary of the given key paths.
+     *
+     * @param keys the key paths to intern in the order of their codes, e.g. {@code "attribute/location"} or
+     * {@code "features/properties/temperature/value"}.
+     * @return the dictionary.
+     * @throws NullPointerException if {@code keys} is {@code null}.
+     * @throws IllegalArgumentException if {@code keys} contains duplicates or paths which are no attribute or feature
+     * property paths.
+     */
+    public static KeyDictionary of(final List<String> keys) {
+        checkNotNull(keys, "keys");
+        if (keys.isEmpty()) {
+            return EMPTY;
+        }
+        for (final String key : keys) {
+            if (!key.startsWith(PersistenceConstants.FIELD_ATTRIBUTE_PREFIX_WITH_ENDING_SLASH) &&
+                    !key.startsWith(PersistenceConstants.FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH)) {
+                throw new IllegalArgumentException("The key <" + key + "> is neither an attribute nor a feature " +
+                        "property path.");
+            }
+        }
+        final KeyDictionary result = new KeyDictionary(keys);
+        if (result.codesByKey.size() != keys.size()) {
+            throw new IllegalArgumentException("The keys of the dictionary contain duplicates: " + keys);
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether this dictionary interns no key paths.
+     *
+     * @return {@code true} if all key paths are stored plainly.
+     */
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    /**
+     * Returns the value to store for a key path.
+     *
+     * @param key the key path.
+     * @return the code of {@code key} if it is interned, {@code key} itself otherwise.
+     */
+    public String encode(final String key) {
+        return codesByKey.getOrDefault(key, key);
+    }
+
+    /**
+     * Returns the key path of a stored value.
+     *
+     * @param storedKey the value of {@code k} of an {@code __internal} entry.
+     * @return the key path the stored value stands for.
+     */
+    public String decode(final String storedKey) {
+        if (storedKey.startsWith(CODE_PREFIX)) {
+            try {
+                final int index = Integer.parseInt(storedKey.substring(CODE_PREFIX.length()), CODE_RADIX);
+                if (index >= 0 && index < keys.size()) {
+                    return keys.get(index);
+                }
+            } catch (final NumberFormatException e) {
+                // not a code of this dictionary
+            }
+        }
+        return storedKey;
+    }
+
+    /**
+     * Replaces the key paths of {@code __internal} entries by their codes.
+     *
+     * @param internalEntries the entries to encode; they are modified in place.
+     * @return {@code internalEntries}.
+     */
+    public List<Document> encodeKeys(final List<Document> internalEntries) {
+        if (!isEmpty()) {
+            for (final Document entry : internalEntries) {
+                final Object key = entry.get(PersistenceConstants.FIELD_INTERNAL_KEY);
+                if (key instanceof String) {
+                    entry.put(PersistenceConstants.FIELD_INTERNAL_KEY, encode((String) key));
+                }
+            }
+        }
+        return internalEntries;
+    }
+
+    /**
+     * Creates a filter matching a key path whether it is stored plainly or as code.
+     *
+     * @param fieldName the field holding the key path.
+     * @param key the key path.
+     * @return the filter.
+     */
+    public Bson keyFilter(final String fieldName, final String key) {
+        final String code = codesByKey.get(key);
+        return null != code ? Filters.in(fieldName, code, key) : Filters.eq(fieldName, key);
+    }
+
+    /**
+     * Creates a filter matching key paths by a regular expression whether they are stored plainly or as code.
+     *
+     * @param fieldName the field holding the key path.
+     * @param regex the regular expression.
+     * @return the filter.
+     */
+    public Bson keyRegexFilter(final String fieldName, final String regex) {
+        final List<String> codes = getMatchingCodes(regex);
+        final Bson regexFilter = Filters.regex(fieldName, regex);
+        return codes.isEmpty() ? regexFilter : Filters.or(regexFilter, Filters.in(fieldName, codes));
+    }
+
+    /**
+     * Creates the condition on an {@code __internal} entry to be used in {@code $pull} updates which matches key
+     * paths by a regular expression whether they are stored plainly or as code.
+     *
+     * @param regex the regular expression.
+     * @return the condition.
+     */
+    public Document keyRegexCondition(final String regex) {
+        final Document regexCondition = new Document(PersistenceConstants.FIELD_INTERNAL_KEY,
+                new Document(PersistenceConstants.REGEX, regex));
+        final List<String> codes = getMatchingCodes(regex);
+        if (codes.isEmpty()) {
+            return regexCondition;
+        }
+        return new Document(PersistenceConstants.OR, Arrays.asList(regexCondition,
+                new Document(PersistenceConstants.FIELD_INTERNAL_KEY, new Document(PersistenceConstants.IN, codes))));
+    }
+
+    /**
+     * Creates an aggregation expression evaluating to the key path of a stored value.
+     *
+     * @param keyVariable the aggregation variable holding the stored value, e.g. {@code "$__internal.k"}.
+     * @return the expression.
+     */
+    public BsonValue decodeExpression(final String keyVariable) {
+        if (isEmpty()) {
+            return new BsonString(keyVariable);
+        }
+        final BsonArray codes = new BsonArray();
+        final BsonArray paths = new BsonArray();
+        keys.forEach(key -> {
+            codes.add(new BsonString(codesByKey.get(key)));
+            paths.add(new BsonString(key));
+        });
+        final BsonDocument index = new BsonDocument("$indexOfArray",
+                new BsonArray(Arrays.asList(codes, new BsonString(keyVariable))));
+        return new BsonDocument("$let", new BsonDocument()
+                .append("vars", new BsonDocument("i", index))
+                .append("in", new BsonDocument("$cond", new BsonArray(Arrays.asList(
+                        new BsonDocument("$gte", new BsonArray(Arrays.asList(new BsonString("$$i"), new BsonInt32(0)))),
+                        new BsonDocument("$arrayElemAt", new BsonArray(Arrays.asList(paths, new BsonString("$$i")))),
+                        new BsonString(keyVariable))))));
+    }
+
+    private List<String> getMatchingCodes(final String regex) {
+        if (isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Pattern pattern;
+        try {
+            pattern = Pattern.compile(regex);
+        } catch (final PatternSyntaxException e) {
+            // MongoDB rejects the regular expression anyway
+            return Collections.emptyList();
+        }
+        final List<String> codes = new ArrayList<>();
+        keys.forEach(key -> {
+            if (pattern.matcher(key).find()) {
+                codes.add(codesByKey.get(key));
+            }
+        });
+        return codes;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "keys=" + keys +
+                "]";
+    }
+
+}
@@ -324,6 +324,8 @@ public final class PersistenceConstants {
     public static final String EACH = "$each";
     public static final String REGEX = "$regex";
     public static final String EXISTS = "$exists";
+    public static final String IN = "$in";
+    public static final String OR = "$or";
     public static final String CONCAT = "$concat";
     public static final String DOT = ".";
     public static final String REGEX_FIELD_END = "(/|\\z)";
@@ -18,6 +18,8 @@ import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.thingsearch.common.util.KeyEscapeUtil;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 
 /**
  * A mapper for {@link Document} instance to a {@link Thing} and vice versa.
@@ -55,6 +57,18 @@ public final class ThingDocumentMapper {
      * @return the mapped document
      */
     public static Document toDocument(final Thing thing) {
+        return toDocument(thing, KeyDictionary.empty());
+    }
+
+    /**
+     * Maps a {@link Thing} to a document storing the key paths of the {@code __internal} entries as codes of the
+     * given dictionary.
+     *
+     * @param thing the thing to map
+     * @param keyDictionary the dictionary of interned key paths
+     * @return the mapped document
+     */
+    public static Document toDocument(final Thing thing, final KeyDictionary keyDictionary) {
         final String thingId = thing.getId().orElseThrow(() -> new NullPointerException("Thing has no ID!"));
         final ThingDocumentBuilder builder = ThingDocumentBuilder.create(thingId, thing.getPolicyId()
                 .orElse(null));
@@ -63,7 +77,9 @@ public final class ThingDocumentMapper {
         thing.getAttributes().ifPresent(builder::attributes);
         thing.getFeatures().ifPresent(builder::features);
 
-        return builder.build();
+        final Document document = builder.build();
+        keyDictionary.encodeKeys(toList(document, PersistenceConstants.FIELD_INTERNAL));
+        return document;
     }
 
     /**
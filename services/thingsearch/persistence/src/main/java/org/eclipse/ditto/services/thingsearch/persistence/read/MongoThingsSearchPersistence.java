@@ -31,10 +31,11 @@ import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceResultEntry;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultListImpl;
-import org.eclipse.ditto.services.thingsearch.persistence.Indices;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors.CreateBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQuery;
+import org.eclipse.ditto.services.thingsearch.persistence.read.query.QueryPlanner;
 import org.eclipse.ditto.services.utils.config.MongoConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexInitializer;
@@ -65,6 +66,8 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     private final ActorMaterializer materializer;
     private final IndexInitializer indexInitializer;
     private final Duration maxQueryTime;
+    private final KeyDictionary keyDictionary;
+    private final QueryPlanner queryPlanner;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -73,11 +76,38 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      * @param actorSystem the Akka ActorSystem.
      */
     public MongoThingsSearchPersistence(final MongoClientWrapper clientWrapper, final ActorSystem actorSystem) {
+        this(clientWrapper, actorSystem, KeyDictionary.empty());
+    }
+
+    /**
+     * Initializes the things search persistence with a passed in {@code persistence}.
+     *
+     * @param clientWrapper the mongoDB persistence wrapper.
+     * @param actorSystem the Akka ActorSystem.
+     * @param keyDictionary the dictionary of key paths stored as codes in the search index.
+     */
+    public MongoThingsSearchPersistence(final MongoClientWrapper clientWrapper, final ActorSystem actorSystem,
+            final KeyDictionary keyDictionary) {
+        this(clientWrapper, actorSystem, keyDictionary, QueryPlanner.empty());
+    }
+
+    /**
+     * Initializes the things search persistence with a passed in {@code persistence}.
+     *
+     * @param clientWrapper the mongoDB persistence wrapper.
+     * @param actorSystem the Akka ActorSystem.
+     * @param keyDictionary the dictionary of key paths stored as codes in the search index.
+     * @param queryPlanner the query planner routing queries on indexed attributes to their dedicated indices.
+     */
+    public MongoThingsSearchPersistence(final MongoClientWrapper clientWrapper, final ActorSystem actorSystem,
+            final KeyDictionary keyDictionary, final QueryPlanner queryPlanner) {
         collection = clientWrapper.getDatabase().getCollection(PersistenceConstants.THINGS_COLLECTION_NAME);
         log = Logging.getLogger(actorSystem, getClass());
         materializer = ActorMaterializer.create(actorSystem);
         indexInitializer = IndexInitializer.of(clientWrapper.getDatabase(), materializer);
         maxQueryTime = MongoConfig.getMaxQueryTime(actorSystem.settings().config());
+        this.keyDictionary = keyDictionary;
+        this.queryPlanner = queryPlanner;
     }
 
     /**
@@ -91,7 +121,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
     @Override
     public CompletionStage<Void> initializeIndices() {
-        return indexInitializer.initialize(PersistenceConstants.THINGS_COLLECTION_NAME, Indices.Things.all())
+        return indexInitializer.initialize(PersistenceConstants.THINGS_COLLECTION_NAME, queryPlanner.getIndices())
                 .exceptionally(t -> {
                     log.error("Index-Initialization failed.", t);
                     return null;
@@ -161,7 +191,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final BsonDocument queryFilter = getMongoFilter(query);
         log.debug("count with query filter <{}>.", queryFilter);
 
-        final Bson filter = and(filterNotDeleted(), queryFilter);
+        final Bson filter = and(filterNotDeleted(), queryPlanner.plan(query.getCriteria(), queryFilter));
 
         final CountOptions countOptions = new CountOptions()
                 .skip(query.getSkip())
@@ -182,7 +212,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
             log.debug("findAll with query filter <{}>.", queryFilter);
         }
 
-        final Bson filter = and(filterNotDeleted(), queryFilter);
+        final Bson filter = and(filterNotDeleted(), queryPlanner.plan(query.getCriteria(), queryFilter));
         final Optional<Bson> sortOptions = Optional.of(getMongoSort(query));
 
         final int limit = query.getLimit();
@@ -224,9 +254,9 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return pagedResultList;
     }
 
-    private static BsonDocument getMongoFilter(final Query query) {
+    private BsonDocument getMongoFilter(final Query query) {
         return org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil.toBsonDocument(
-                CreateBsonVisitor.apply(query.getCriteria()));
+                CreateBsonVisitor.apply(query.getCriteria(), keyDictionary));
     }
 
     private static Bson getMongoSort(final Query query) {
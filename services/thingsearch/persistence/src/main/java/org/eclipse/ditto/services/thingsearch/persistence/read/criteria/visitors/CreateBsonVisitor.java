@@ -20,6 +20,7 @@ import org.eclipse.ditto.model.query.criteria.Predicate;
 import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
 import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
 import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetExistsBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetFilterBsonVisitor;
 
@@ -30,8 +31,10 @@ import com.mongodb.client.model.Filters;
  */
 public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
 
-    private CreateBsonVisitor() {
-        // only internally instantiable
+    private final KeyDictionary keyDictionary;
+
+    private CreateBsonVisitor(final KeyDictionary keyDictionary) {
+        this.keyDictionary = keyDictionary;
     }
 
     /**
@@ -41,7 +44,19 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
      * @return the Bson object
      */
     public static Bson apply(final Criteria criteria) {
-        return criteria.accept(new CreateBsonVisitor());
+        return apply(criteria, KeyDictionary.empty());
+    }
+
+    /**
+     * Creates the Bson object used for the PolicyRestrictedSearchAggregation matching key paths stored plainly or as
+     * codes.
+     *
+     * @param criteria the criteria to create Bson for.
+     * @param keyDictionary the dictionary of key paths stored as codes.
+     * @return the Bson object
+     */
+    public static Bson apply(final Criteria criteria, final KeyDictionary keyDictionary) {
+        return criteria.accept(new CreateBsonVisitor(keyDictionary));
     }
 
     @Override
@@ -56,12 +71,13 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
 
     @Override
     public Bson visitExists(final ExistsFieldExpression fieldExpression) {
-        return GetExistsBsonVisitor.apply(fieldExpression);
+        return GetExistsBsonVisitor.apply(fieldExpression, keyDictionary);
     }
 
     @Override
     public Bson visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
-        return GetFilterBsonVisitor.apply(fieldExpression, predicate.accept(CreateBsonPredicateVisitor.getInstance()));
+        return GetFilterBsonVisitor.apply(fieldExpression, predicate.accept(CreateBsonPredicateVisitor.getInstance()),
+                keyDictionary);
     }
 
     @Override
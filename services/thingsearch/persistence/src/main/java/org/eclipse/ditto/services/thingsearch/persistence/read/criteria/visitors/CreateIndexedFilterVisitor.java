@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.Predicate;
+import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetFieldIdentifierVisitor;
+
+import com.mongodb.client.model.Filters;
+
+/**
+ * Creates a Bson filter on the plain fields of indexed attributes which is implied by the criteria. Adding it to the
+ * filter of the criteria does not change the result, but allows MongoDB to use the dedicated index of the attribute
+ * instead of scanning the generic key/value index.
+ */
+public final class CreateIndexedFilterVisitor implements CriteriaVisitor<Optional<Bson>> {
+
+    private final Map<String, String> indexedFieldsByIdentifier;
+
+    private CreateIndexedFilterVisitor(final Map<String, String> indexedFieldsByIdentifier) {
+        this.indexedFieldsByIdentifier = indexedFieldsByIdentifier;
+    }
+
+    /**
+     * Creates the filter on indexed fields implied by the criteria.
+     *
+     * @param criteria the criteria to create the filter for.
+     * @param indexedFieldsByIdentifier the indexed document fields by the identifiers of the fields in a Thing as
+     * returned by {@link GetFieldIdentifierVisitor}.
+     * @return the filter, or an empty Optional if the criteria implies no filter on indexed fields.
+     */
+    public static Optional<Bson> apply(final Criteria criteria, final Map<String, String> indexedFieldsByIdentifier) {
+        if (indexedFieldsByIdentifier.isEmpty()) {
+            return Optional.empty();
+        }
+        return criteria.accept(new CreateIndexedFilterVisitor(indexedFieldsByIdentifier));
+    }
+
+    @Override
+    public Optional<Bson> visitAnd(final Stream<Optional<Bson>> conjuncts) {
+        // each conjunct implying a filter suffices
+        final List<Bson> filters = conjuncts.filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+        if (filters.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(filters.size() == 1 ? filters.get(0) : Filters.and(filters));
+    }
+
+    @Override
+    public Optional<Bson> visitAny() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Bson> visitExists(final ExistsFieldExpression fieldExpression) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Bson> visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
+        final String indexedField = indexedFieldsByIdentifier.get(GetFieldIdentifierVisitor.apply(fieldExpression));
+        if (null == indexedField) {
+            return Optional.empty();
+        }
+        return predicate.accept(IndexablePredicateVisitor.INSTANCE).map(filter -> filter.apply(indexedField));
+    }
+
+    @Override
+    public Optional<Bson> visitNor(final Stream<Optional<Bson>> negativeDisjoints) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Bson> visitOr(final Stream<Optional<Bson>> disjoints) {
+        // only implied if every disjunct implies a filter
+        final List<Optional<Bson>> filters = disjoints.collect(Collectors.toList());
+        if (filters.isEmpty() || filters.stream().anyMatch(filter -> !filter.isPresent())) {
+            return Optional.empty();
+        }
+        return Optional.of(Filters.or(filters.stream().map(Optional::get).collect(Collectors.toList())));
+    }
+
+    /**
+     * Creates filters only for the predicates which narrow down an index scan; {@code ne} would match almost every
+     * entry of the index.
+     */
+    private static final class IndexablePredicateVisitor implements PredicateVisitor<Optional<Function<String, Bson>>> {
+
+        private static final IndexablePredicateVisitor INSTANCE = new IndexablePredicateVisitor();
+
+        private static final CreateBsonPredicateVisitor DELEGATE = CreateBsonPredicateVisitor.getInstance();
+
+        @Override
+        public Optional<Function<String, Bson>> visitEq(final Object value) {
+            return Optional.of(DELEGATE.visitEq(value));
+        }
+
+        @Override
+        public Optional<Function<String, Bson>> visitGe(final Object value) {
+            return Optional.of(DELEGATE.visitGe(value));
+        }
+
+        @Override
+        public Optional<Function<String, Bson>> visitGt(final Object value) {
+            return Optional.of(DELEGATE.visitGt(value));
+        }
+
+        @Override
+        public Optional<Function<String, Bson>> visitIn(final List<?> values) {
+            return Optional.of(DELEGATE.visitIn(values));
+        }
+
+        @Override
+        public Optional<Function<String, Bson>> visitLe(final Object value) {
+            return Optional.of(DELEGATE.visitLe(value));
+        }
+
+        @Override
+        public Optional<Function<String, Bson>> visitLike(final String value) {
+            return Optional.of(DELEGATE.visitLike(value));
+        }
+
+        @Override
+        public Optional<Function<String, Bson>> visitLt(final Object value) {
+            return Optional.of(DELEGATE.visitLt(value));
+        }
+
+        @Override
+        public Optional<Function<String, Bson>> visitNe(final Object value) {
+            return Optional.empty();
+        }
+    }
+
+}
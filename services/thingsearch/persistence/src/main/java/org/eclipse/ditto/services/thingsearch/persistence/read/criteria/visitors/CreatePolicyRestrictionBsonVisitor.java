@@ -25,6 +25,7 @@ import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
 import org.eclipse.ditto.model.query.expression.FieldExpression;
 import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
 import org.eclipse.ditto.model.query.expression.PolicyRestrictedFieldExpression;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetPolicyRestrictionBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetUnwoundExistsFilterBsonVisitor;
@@ -40,16 +41,20 @@ public class CreatePolicyRestrictionBsonVisitor implements CriteriaVisitor<Optio
 
     private final Bson grantedBson;
     private final Bson notRevokedBson;
+    private final KeyDictionary keyDictionary;
 
     /**
      * Creates a visitor to create policy-restriction Bson objects.
      *
      * @param authorizationSubjectsPredicate the predicate returning the "subject ids" of the search request.
+     * @param keyDictionary the dictionary of key paths stored as codes.
      */
-    private CreatePolicyRestrictionBsonVisitor(final Predicate authorizationSubjectsPredicate) {
+    private CreatePolicyRestrictionBsonVisitor(final Predicate authorizationSubjectsPredicate,
+            final KeyDictionary keyDictionary) {
         grantedBson = CreateBsonPredicateVisitor.apply(authorizationSubjectsPredicate, PersistenceConstants.FIELD_GRANTS_GRANTED);
         notRevokedBson =
                 Filters.not(CreateBsonPredicateVisitor.apply(authorizationSubjectsPredicate, PersistenceConstants.FIELD_GRANTS_REVOKED));
+        this.keyDictionary = keyDictionary;
     }
 
     /**
@@ -62,7 +67,20 @@ public class CreatePolicyRestrictionBsonVisitor implements CriteriaVisitor<Optio
      * @return the BSON to use in the aggregation pipeline after joining the "policiesBasedSearchIndex" entries.
      */
     public static Optional<Bson> apply(final Criteria criteria, final Predicate authorizationSubjectsPredicate) {
-        return criteria.accept(new CreatePolicyRestrictionBsonVisitor(authorizationSubjectsPredicate));
+        return apply(criteria, authorizationSubjectsPredicate, KeyDictionary.empty());
+    }
+
+    /**
+     * Builds the BSON query including "granted" and "revoked" fields matching key paths stored plainly or as codes.
+     *
+     * @param criteria the criteria to create policy-restricted bson for.
+     * @param authorizationSubjectsPredicate the predicate returning the "subject ids" of the search request.
+     * @param keyDictionary the dictionary of key paths stored as codes.
+     * @return the BSON to use in the aggregation pipeline after joining the "policiesBasedSearchIndex" entries.
+     */
+    public static Optional<Bson> apply(final Criteria criteria, final Predicate authorizationSubjectsPredicate,
+            final KeyDictionary keyDictionary) {
+        return criteria.accept(new CreatePolicyRestrictionBsonVisitor(authorizationSubjectsPredicate, keyDictionary));
     }
 
     @Override
@@ -109,7 +127,8 @@ public class CreatePolicyRestrictionBsonVisitor implements CriteriaVisitor<Optio
 
     private Optional<Bson> visitFieldExpression(final FieldExpression fieldExpression) {
         return onPolicyRestrictedFieldExpression(fieldExpression, Optional.empty(), policyRestrictedFieldExpression -> {
-            final Bson existsExpression = GetUnwoundExistsFilterBsonVisitor.apply(policyRestrictedFieldExpression);
+            final Bson existsExpression = GetUnwoundExistsFilterBsonVisitor.apply(policyRestrictedFieldExpression,
+                    keyDictionary);
             final Bson policyRestrictionBson = GetPolicyRestrictionBsonVisitor.apply(policyRestrictedFieldExpression);
             final Bson filter = Filters.and(existsExpression, policyRestrictionBson, grantedBson, notRevokedBson);
             return Optional.of(filter);
@@ -22,6 +22,7 @@ import org.eclipse.ditto.model.query.criteria.Predicate;
 import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
 import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
 import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.CreateUnwoundBsonFieldVisitor;
 
 import com.mongodb.client.model.Filters;
@@ -33,8 +34,10 @@ public class CreateUnwoundBsonVisitor implements CriteriaVisitor<Function<Boolea
 
     private static CreateUnwoundBsonVisitor instance;
 
-    private CreateUnwoundBsonVisitor() {
-        // only internally instantiable
+    private final KeyDictionary keyDictionary;
+
+    private CreateUnwoundBsonVisitor(final KeyDictionary keyDictionary) {
+        this.keyDictionary = keyDictionary;
     }
 
     /**
@@ -44,7 +47,7 @@ public class CreateUnwoundBsonVisitor implements CriteriaVisitor<Function<Boolea
      */
     public static CreateUnwoundBsonVisitor getInstance() {
         if (null == instance) {
-            instance = new CreateUnwoundBsonVisitor();
+            instance = new CreateUnwoundBsonVisitor(KeyDictionary.empty());
         }
         return instance;
     }
@@ -59,6 +62,19 @@ public class CreateUnwoundBsonVisitor implements CriteriaVisitor<Function<Boolea
         return criteria.accept(getInstance()).apply(true);
     }
 
+    /**
+     * Creates unwound Bson matching key paths stored plainly or as codes, starting in the positive state.
+     *
+     * @param criteria The criteria to create unwound Bson for.
+     * @param keyDictionary the dictionary of key paths stored as codes.
+     * @return The generated Bson.
+     */
+    public static Optional<Bson> apply(final Criteria criteria, final KeyDictionary keyDictionary) {
+        final CreateUnwoundBsonVisitor visitor =
+                keyDictionary.isEmpty() ? getInstance() : new CreateUnwoundBsonVisitor(keyDictionary);
+        return criteria.accept(visitor).apply(true);
+    }
+
     @Override
     public Function<Boolean, Optional<Bson>> visitAnd(final Stream<Function<Boolean, Optional<Bson>>> conjuncts) {
         return buildCompositeBsonCreator(conjuncts, Function.identity(), Filters::or, Filters::and);
@@ -71,12 +87,12 @@ public class CreateUnwoundBsonVisitor implements CriteriaVisitor<Function<Boolea
 
     @Override
     public Function<Boolean, Optional<Bson>> visitExists(final ExistsFieldExpression fieldExpression) {
-        return isPositive -> fieldExpression.accept(new CreateUnwoundBsonFieldVisitor(null));
+        return isPositive -> fieldExpression.accept(new CreateUnwoundBsonFieldVisitor(null, keyDictionary));
     }
 
     @Override
     public Function<Boolean, Optional<Bson>> visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
-        return isPositive -> fieldExpression.accept(new CreateUnwoundBsonFieldVisitor(predicate));
+        return isPositive -> fieldExpression.accept(new CreateUnwoundBsonFieldVisitor(predicate, keyDictionary));
     }
 
     @Override
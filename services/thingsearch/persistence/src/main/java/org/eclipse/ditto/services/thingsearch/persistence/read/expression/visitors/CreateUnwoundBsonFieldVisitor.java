@@ -28,6 +28,7 @@ import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.query.criteria.Predicate;
 import org.eclipse.ditto.model.query.expression.FieldExpressionUtil;
 import org.eclipse.ditto.model.query.expression.visitors.FieldExpressionVisitor;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors.CreateBsonPredicateVisitor;
 
 import com.mongodb.client.model.Filters;
@@ -40,6 +41,7 @@ public class CreateUnwoundBsonFieldVisitor implements FieldExpressionVisitor<Opt
     private static final String DOT = ".";
 
     private final Predicate predicate;
+    private final KeyDictionary keyDictionary;
 
 
     /**
@@ -48,7 +50,18 @@ public class CreateUnwoundBsonFieldVisitor implements FieldExpressionVisitor<Opt
      * @param predicate Predicate of the {@code FieldExpression} if it has one, or {@code null} otherwise.
      */
     public CreateUnwoundBsonFieldVisitor(final Predicate predicate) {
+        this(predicate, KeyDictionary.empty());
+    }
+
+    /**
+     * Create a {@code CreateUnwoundBsonFieldVisitor} matching key paths stored plainly or as codes.
+     *
+     * @param predicate Predicate of the {@code FieldExpression} if it has one, or {@code null} otherwise.
+     * @param keyDictionary the dictionary of key paths stored as codes.
+     */
+    public CreateUnwoundBsonFieldVisitor(final Predicate predicate, final KeyDictionary keyDictionary) {
         this.predicate = predicate;
+        this.keyDictionary = keyDictionary;
     }
 
     private <T> T withOrWithoutPredicate(final Function<Predicate, T> withPredicate,
@@ -64,11 +77,11 @@ public class CreateUnwoundBsonFieldVisitor implements FieldExpressionVisitor<Opt
         return Optional.of(withOrWithoutPredicate(
                 predicate -> {
                     final String attributeKeyWithPrefix = FIELD_ATTRIBUTE_PREFIX_WITH_ENDING_SLASH + key;
-                    final Bson keyRestrictionBson = Filters.eq(FIELD_PATH_KEY, attributeKeyWithPrefix);
+                    final Bson keyRestrictionBson = keyDictionary.keyFilter(FIELD_PATH_KEY, attributeKeyWithPrefix);
                     return Filters.and(keyRestrictionBson,
                             CreateBsonPredicateVisitor.apply(predicate, FIELD_PATH_VALUE));
                 },
-                () -> Filters.regex(FIELD_PATH_KEY,
+                () -> keyDictionary.keyRegexFilter(FIELD_PATH_KEY,
                         FieldExpressionUtil.wrapExistsRegex(FIELD_ATTRIBUTE_PREFIX_WITH_ENDING_SLASH + key))
         ));
     }
@@ -83,10 +96,11 @@ public class CreateUnwoundBsonFieldVisitor implements FieldExpressionVisitor<Opt
     public Optional<Bson> visitFeatureIdProperty(final String featureId, final String property) {
         return Optional.of(withOrWithoutPredicate(
                 predicate -> Filters.and(
-                        Filters.eq(FIELD_PATH_KEY, FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH + property),
+                        keyDictionary.keyFilter(FIELD_PATH_KEY,
+                                FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH + property),
                         Filters.eq(FIELD_FEATURE_PATH_KEY, featureId),
                         CreateBsonPredicateVisitor.apply(predicate, FIELD_PATH_VALUE)),
-                () -> Filters.and(Filters.regex(FIELD_PATH_KEY,
+                () -> Filters.and(keyDictionary.keyRegexFilter(FIELD_PATH_KEY,
                         FieldExpressionUtil.wrapExistsRegex(
                                 FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH + property)),
                         Filters.eq(FIELD_FEATURE_PATH_KEY, featureId))
@@ -97,9 +111,10 @@ public class CreateUnwoundBsonFieldVisitor implements FieldExpressionVisitor<Opt
     public Optional<Bson> visitFeatureProperty(final String property) {
         return Optional.of(withOrWithoutPredicate(
                 predicate -> Filters.and(
-                        Filters.eq(FIELD_PATH_KEY, FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH + property),
+                        keyDictionary.keyFilter(FIELD_PATH_KEY,
+                                FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH + property),
                         CreateBsonPredicateVisitor.apply(predicate, FIELD_PATH_VALUE)),
-                () -> Filters.regex(FIELD_PATH_KEY,
+                () -> keyDictionary.keyRegexFilter(FIELD_PATH_KEY,
                         FieldExpressionUtil.wrapExistsRegex(
                                 FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH + property))
         ));
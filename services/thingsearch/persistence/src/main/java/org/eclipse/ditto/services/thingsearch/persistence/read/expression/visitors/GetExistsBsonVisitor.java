@@ -14,6 +14,7 @@ import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
 import org.eclipse.ditto.model.query.expression.FieldExpressionUtil;
 import org.eclipse.ditto.model.query.expression.visitors.ExistsFieldExpressionVisitor;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 
 import com.mongodb.client.model.Filters;
@@ -23,6 +24,25 @@ import com.mongodb.client.model.Filters;
  */
 public class GetExistsBsonVisitor implements ExistsFieldExpressionVisitor<Bson> {
 
+    private final KeyDictionary keyDictionary;
+
+    /**
+     * Creates a visitor object to create a Mongo Bson object for field-based exists criteria.
+     */
+    public GetExistsBsonVisitor() {
+        this(KeyDictionary.empty());
+    }
+
+    /**
+     * Creates a visitor object to create a Mongo Bson object for field-based exists criteria matching key paths
+     * stored plainly or as codes.
+     *
+     * @param keyDictionary the dictionary of key paths stored as codes.
+     */
+    public GetExistsBsonVisitor(final KeyDictionary keyDictionary) {
+        this.keyDictionary = keyDictionary;
+    }
+
     /**
      * Creates a Mongo Bson object for field-based exists criteria.
      *
@@ -30,12 +50,23 @@ public class GetExistsBsonVisitor implements ExistsFieldExpressionVisitor<Bson>
      * @return the complete Bson for the field-based exists criteria
      */
     public static Bson apply(final ExistsFieldExpression expression) {
-        return expression.acceptExistsVisitor(new GetExistsBsonVisitor());
+        return apply(expression, KeyDictionary.empty());
+    }
+
+    /**
+     * Creates a Mongo Bson object for field-based exists criteria matching key paths stored plainly or as codes.
+     *
+     * @param expression the expression of the resource whose existence is under scrutiny.
+     * @param keyDictionary the dictionary of key paths stored as codes.
+     * @return the complete Bson for the field-based exists criteria
+     */
+    public static Bson apply(final ExistsFieldExpression expression, final KeyDictionary keyDictionary) {
+        return expression.acceptExistsVisitor(new GetExistsBsonVisitor(keyDictionary));
     }
 
     @Override
     public Bson visitAttribute(final String key) {
-        return Filters.regex(PersistenceConstants.FIELD_PATH_KEY, FieldExpressionUtil.wrapExistsRegex(
+        return keyDictionary.keyRegexFilter(PersistenceConstants.FIELD_PATH_KEY, FieldExpressionUtil.wrapExistsRegex(
                 PersistenceConstants.FIELD_ATTRIBUTE_PREFIX_WITH_ENDING_SLASH + key));
     }
 
@@ -48,7 +79,7 @@ public class GetExistsBsonVisitor implements ExistsFieldExpressionVisitor<Bson>
     @Override
     public Bson visitFeatureIdProperty(final String featureId, final String property) {
         return Filters.elemMatch(PersistenceConstants.FIELD_INTERNAL,
-                Filters.and(Filters.regex(PersistenceConstants.FIELD_INTERNAL_KEY,
+                Filters.and(keyDictionary.keyRegexFilter(PersistenceConstants.FIELD_INTERNAL_KEY,
                 FieldExpressionUtil.wrapExistsRegex(
                         PersistenceConstants.FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH + property)),
                 Filters.eq(PersistenceConstants.FIELD_INTERNAL_FEATURE_ID, featureId)));
@@ -56,7 +87,7 @@ public class GetExistsBsonVisitor implements ExistsFieldExpressionVisitor<Bson>
 
     @Override
     public Bson visitFeatureProperty(final String property) {
-        return Filters.regex(PersistenceConstants.FIELD_PATH_KEY,
+        return keyDictionary.keyRegexFilter(PersistenceConstants.FIELD_PATH_KEY,
                 FieldExpressionUtil.wrapExistsRegex(
                         PersistenceConstants.FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH + property));
     }
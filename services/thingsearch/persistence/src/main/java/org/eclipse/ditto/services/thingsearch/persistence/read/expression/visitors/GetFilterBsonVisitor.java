@@ -26,6 +26,7 @@ import org.bson.BsonNull;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
 import org.eclipse.ditto.model.query.expression.visitors.FilterFieldExpressionVisitor;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 
 import com.mongodb.client.model.Filters;
 
@@ -35,14 +36,17 @@ import com.mongodb.client.model.Filters;
 public class GetFilterBsonVisitor implements FilterFieldExpressionVisitor<Bson> {
 
     private final Function<String, Bson> predicateFunction;
+    private final KeyDictionary keyDictionary;
 
     /**
      * Creates a visitor object to create a Mongo Bson object for field-based search criteria.
      *
      * @param predicateFunction the function for creating the predicate-part (e.g. "eq", "ne", ...) of the criteria
+     * @param keyDictionary the dictionary of key paths stored as codes
      */
-    private GetFilterBsonVisitor(final Function<String, Bson> predicateFunction) {
+    private GetFilterBsonVisitor(final Function<String, Bson> predicateFunction, final KeyDictionary keyDictionary) {
         this.predicateFunction = predicateFunction;
+        this.keyDictionary = keyDictionary;
     }
 
     /**
@@ -53,13 +57,26 @@ public class GetFilterBsonVisitor implements FilterFieldExpressionVisitor<Bson>
      * @return the complete Bson for the field-based search criteria
      */
     public static Bson apply(final FilterFieldExpression expression, final Function<String, Bson> predicateFunction) {
-        return expression.acceptFilterVisitor(new GetFilterBsonVisitor(predicateFunction));
+        return apply(expression, predicateFunction, KeyDictionary.empty());
+    }
+
+    /**
+     * Creates a Mongo Bson object for field-based search criteria matching key paths stored plainly or as codes.
+     *
+     * @param expression the expression to create a filter for.
+     * @param predicateFunction the function for creating the predicate-part (e.g. "eq", "ne", ...) of the criteria
+     * @param keyDictionary the dictionary of key paths stored as codes
+     * @return the complete Bson for the field-based search criteria
+     */
+    public static Bson apply(final FilterFieldExpression expression, final Function<String, Bson> predicateFunction,
+            final KeyDictionary keyDictionary) {
+        return expression.acceptFilterVisitor(new GetFilterBsonVisitor(predicateFunction, keyDictionary));
     }
 
     @Override
     public Bson visitAttribute(final String key) {
         final String attributeKeyWithPrefix = FIELD_ATTRIBUTE_PREFIX_WITH_ENDING_SLASH + key;
-        final Bson keyRestrictionBson = Filters.eq(FIELD_INTERNAL_KEY, attributeKeyWithPrefix);
+        final Bson keyRestrictionBson = keyDictionary.keyFilter(FIELD_INTERNAL_KEY, attributeKeyWithPrefix);
 
         // match 'null' on 'f' field to be able to use the index
         final Bson nullFeatureId = new BsonDocument().append(FIELD_INTERNAL_FEATURE_ID, BsonNull.VALUE);
@@ -73,7 +90,8 @@ public class GetFilterBsonVisitor implements FilterFieldExpressionVisitor<Bson>
         return Filters.elemMatch(
                 FIELD_INTERNAL,
                 Filters.and(
-                        Filters.eq(FIELD_INTERNAL_KEY, FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH + property),
+                        keyDictionary.keyFilter(FIELD_INTERNAL_KEY,
+                                FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH + property),
                         Filters.eq(FIELD_INTERNAL_FEATURE_ID, featureId),
                         predicateFunction.apply(FIELD_INTERNAL_VALUE)));
     }
@@ -81,7 +99,8 @@ public class GetFilterBsonVisitor implements FilterFieldExpressionVisitor<Bson>
     @Override
     public Bson visitFeatureProperty(final String property) {
         return Filters.elemMatch(FIELD_INTERNAL, Filters.and(
-                Filters.eq(FIELD_INTERNAL_KEY, FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH + property),
+                keyDictionary.keyFilter(FIELD_INTERNAL_KEY,
+                        FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH + property),
                 predicateFunction.apply(FIELD_INTERNAL_VALUE)));
     }
 
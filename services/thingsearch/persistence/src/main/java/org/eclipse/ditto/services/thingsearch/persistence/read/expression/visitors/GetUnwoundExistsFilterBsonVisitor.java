@@ -14,6 +14,7 @@ import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
 import org.eclipse.ditto.model.query.expression.FieldExpressionUtil;
 import org.eclipse.ditto.model.query.expression.visitors.ExistsFieldExpressionVisitor;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 
 import com.mongodb.client.model.Filters;
@@ -23,8 +24,10 @@ import com.mongodb.client.model.Filters;
  */
 public class GetUnwoundExistsFilterBsonVisitor implements ExistsFieldExpressionVisitor<Bson> {
 
-    private GetUnwoundExistsFilterBsonVisitor() {
-        // only internally instantiable
+    private final KeyDictionary keyDictionary;
+
+    private GetUnwoundExistsFilterBsonVisitor(final KeyDictionary keyDictionary) {
+        this.keyDictionary = keyDictionary;
     }
 
     /**
@@ -34,33 +37,46 @@ public class GetUnwoundExistsFilterBsonVisitor implements ExistsFieldExpressionV
      * @return the complete Bson for the field-based search criteria
      */
     public static Bson apply(final ExistsFieldExpression expression) {
-        return expression.acceptExistsVisitor(new GetUnwoundExistsFilterBsonVisitor());
+        return apply(expression, KeyDictionary.empty());
+    }
+
+    /**
+     * Creates a Mongo Bson object for field-based search criteria on the *unwound* __internal array documents
+     * matching key paths stored plainly or as codes.
+     *
+     * @param expression the expression for the resource whose existence is under scrutiny.
+     * @param keyDictionary the dictionary of key paths stored as codes.
+     * @return the complete Bson for the field-based search criteria
+     */
+    public static Bson apply(final ExistsFieldExpression expression, final KeyDictionary keyDictionary) {
+        return expression.acceptExistsVisitor(new GetUnwoundExistsFilterBsonVisitor(keyDictionary));
     }
 
     @Override
     public Bson visitAttribute(final String key) {
-        return new GetExistsBsonVisitor().visitAttribute(key);
+        return new GetExistsBsonVisitor(keyDictionary).visitAttribute(key);
     }
 
     @Override
     public Bson visitFeature(final String featureId) {
-        return new GetExistsBsonVisitor().visitFeature(featureId);
+        return new GetExistsBsonVisitor(keyDictionary).visitFeature(featureId);
     }
 
     @Override
     public Bson visitFeatureIdProperty(final String featureId, final String property) {
-        return Filters.and(Filters.regex(PersistenceConstants.FIELD_PATH_KEY, FieldExpressionUtil.wrapExistsRegex(
-                PersistenceConstants.FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH + property)),
+        return Filters.and(keyDictionary.keyRegexFilter(PersistenceConstants.FIELD_PATH_KEY,
+                FieldExpressionUtil.wrapExistsRegex(
+                        PersistenceConstants.FIELD_FEATURE_PROPERTIES_PREFIX_WITH_ENDING_SLASH + property)),
                 Filters.eq(PersistenceConstants.FIELD_FEATURE_PATH_KEY, featureId));
     }
 
     @Override
     public Bson visitFeatureProperty(final String property) {
-        return new GetExistsBsonVisitor().visitFeatureProperty(property);
+        return new GetExistsBsonVisitor(keyDictionary).visitFeatureProperty(property);
     }
 
     @Override
     public Bson visitSimple(final String fieldName) {
-        return new GetExistsBsonVisitor().visitSimple(fieldName);
+        return new GetExistsBsonVisitor(keyDictionary).visitSimple(fieldName);
     }
 }
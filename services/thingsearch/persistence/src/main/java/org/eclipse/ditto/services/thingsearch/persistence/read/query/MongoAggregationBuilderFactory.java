@@ -14,6 +14,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.services.base.config.LimitsConfigReader;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.read.AggregationBuilder;
 import org.eclipse.ditto.services.thingsearch.persistence.read.AggregationBuilderFactory;
 
@@ -24,9 +25,23 @@ import org.eclipse.ditto.services.thingsearch.persistence.read.AggregationBuilde
 public final class MongoAggregationBuilderFactory implements AggregationBuilderFactory {
 
     private final LimitsConfigReader limitsConfigReader;
+    private final KeyDictionary keyDictionary;
+    private final QueryPlanner queryPlanner;
 
     public MongoAggregationBuilderFactory(final LimitsConfigReader limitsConfigReader) {
+        this(limitsConfigReader, KeyDictionary.empty());
+    }
+
+    public MongoAggregationBuilderFactory(final LimitsConfigReader limitsConfigReader,
+            final KeyDictionary keyDictionary) {
+        this(limitsConfigReader, keyDictionary, QueryPlanner.empty());
+    }
+
+    public MongoAggregationBuilderFactory(final LimitsConfigReader limitsConfigReader,
+            final KeyDictionary keyDictionary, final QueryPlanner queryPlanner) {
         this.limitsConfigReader = limitsConfigReader;
+        this.keyDictionary = keyDictionary;
+        this.queryPlanner = queryPlanner;
     }
 
     public static AggregationBuilder newBuilder(final LimitsConfigReader limitsConfigReader) {
@@ -35,12 +50,19 @@ public final class MongoAggregationBuilderFactory implements AggregationBuilderF
 
     @Override
     public AggregationBuilder newBuilder(final Criteria criteria) {
-        return new PolicyRestrictedMongoSearchAggregation.Builder(limitsConfigReader).filterCriteria(criteria);
+        return new PolicyRestrictedMongoSearchAggregation.Builder(limitsConfigReader)
+                .keyDictionary(keyDictionary)
+                .queryPlanner(queryPlanner)
+                .filterCriteria(criteria);
     }
 
     @Override
     public AggregationBuilder newCountBuilder(final Criteria criteria) {
-        return new PolicyRestrictedMongoSearchAggregation.Builder(limitsConfigReader).filterCriteria(criteria).count(true);
+        return new PolicyRestrictedMongoSearchAggregation.Builder(limitsConfigReader)
+                .keyDictionary(keyDictionary)
+                .queryPlanner(queryPlanner)
+                .filterCriteria(criteria)
+                .count(true);
     }
 
 }
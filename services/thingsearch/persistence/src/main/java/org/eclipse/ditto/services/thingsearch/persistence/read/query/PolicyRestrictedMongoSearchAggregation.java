@@ -81,6 +81,7 @@ import org.eclipse.ditto.model.query.expression.SortFieldExpression;
 import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl;
 import org.eclipse.ditto.services.base.config.LimitsConfigReader;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.read.AggregationBuilder;
 import org.eclipse.ditto.services.thingsearch.persistence.read.PolicyRestrictedSearchAggregation;
 import org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors.CreateBsonVisitor;
@@ -113,7 +114,6 @@ final class PolicyRestrictedMongoSearchAggregation implements PolicyRestrictedSe
     private static final BsonInt32 BSON_INT_1 = new BsonInt32(1);
     private static final Bson GROUP_STAGE = createGroupStage();
     private static final Bson GROUPED_ID_PROJECT_STAGE = createGroupedIdProjectStage();
-    private static final Bson PROJECTION_STAGE_1 = createFirstProjectionStage();
     private static final Bson PROJECTION_STAGE_2 = createSecondProjectionStage();
     private static final Bson UNWIND_STAGE_1 = unwind(FIELD_INTERNAL_VARIABLE);
     private static final Bson UNWIND_STAGE_2 = createSecondUnwindStage();
@@ -127,6 +127,8 @@ final class PolicyRestrictedMongoSearchAggregation implements PolicyRestrictedSe
 
     private PolicyRestrictedMongoSearchAggregation(final Builder builder) {
         final boolean isSudo = builder.sudo;
+        final KeyDictionary keyDictionary = builder.keyDictionary;
+        final QueryPlanner queryPlanner = builder.queryPlanner;
         if (builder.authorizationSubjects.isEmpty() != isSudo) {
             throw new IllegalStateException("AuthorizationSubjects are required for non-sudo searches!");
         }
@@ -140,21 +142,24 @@ final class PolicyRestrictedMongoSearchAggregation implements PolicyRestrictedSe
 
         // match1 filters by ACL, global-READ and search criteria.
         final Bson match1 = builder.withDeletedThings
-                ? createInitialMatchStageWithDeleted(builder.filterCriteria, aclFieldCriteria, globalReadsCriteria)
-                : createInitialMatchStageWithNonDeleted(builder.filterCriteria, aclFieldCriteria, globalReadsCriteria);
+                ? createInitialMatchStageWithDeleted(builder.filterCriteria, aclFieldCriteria, globalReadsCriteria,
+                keyDictionary, queryPlanner)
+                : createInitialMatchStageWithNonDeleted(builder.filterCriteria, aclFieldCriteria, globalReadsCriteria,
+                keyDictionary, queryPlanner);
         pipeline.add(match1);
         pipeline.add(UNWIND_STAGE_1);
 
         // match2 filters out irrelevant attributes and features.
-        final Optional<Bson> match2 = createSecondaryMatchStage(builder.filterCriteria);
+        final Optional<Bson> match2 = createSecondaryMatchStage(builder.filterCriteria, keyDictionary);
         match2.ifPresent(pipeline::add);
 
-        pipeline.add(PROJECTION_STAGE_1);
+        pipeline.add(createFirstProjectionStage(keyDictionary));
         pipeline.add(LOOKUP_STAGE);
         pipeline.add(UNWIND_STAGE_2);
 
         // match3 filters out fields the user is not supposed to see.
-        final Bson match3 = createTertiaryMatchStage(builder.filterCriteria, authorizationSubjectsPredicate);
+        final Bson match3 =
+                createTertiaryMatchStage(builder.filterCriteria, authorizationSubjectsPredicate, keyDictionary);
         pipeline.add(match3);
 
         // groupBy stage
@@ -162,7 +167,7 @@ final class PolicyRestrictedMongoSearchAggregation implements PolicyRestrictedSe
         pipeline.add(GROUPED_ID_PROJECT_STAGE);
 
         // filter out mismatched results after computing view
-        final Bson match4 = match(CreateBsonVisitor.apply(builder.filterCriteria));
+        final Bson match4 = match(CreateBsonVisitor.apply(builder.filterCriteria, keyDictionary));
         pipeline.add(match4);
 
         // sort results after false positives are filtered out
@@ -210,12 +215,14 @@ final class PolicyRestrictedMongoSearchAggregation implements PolicyRestrictedSe
     }
 
     private static Bson createInitialMatchStageWithDeleted(final Criteria filterCriteria,
-            final Criteria aclCriteria, final Criteria globalPolicyGrantsCriteria) {
+            final Criteria aclCriteria, final Criteria globalPolicyGrantsCriteria, final KeyDictionary keyDictionary,
+            final QueryPlanner queryPlanner) {
 
         final Bson authorization =
                 or(CreateBsonVisitor.apply(globalPolicyGrantsCriteria), CreateBsonVisitor.apply(aclCriteria));
 
-        return match(and(authorization, CreateBsonVisitor.apply(filterCriteria)));
+        return match(and(authorization,
+                queryPlanner.plan(filterCriteria, CreateBsonVisitor.apply(filterCriteria, keyDictionary))));
     }
 
     private static void addSkipAndLimit(final Collection<Bson> pipeline,
@@ -274,7 +281,7 @@ final class PolicyRestrictedMongoSearchAggregation implements PolicyRestrictedSe
         return Sorts.orderBy(sortings);
     }
 
-    private static Bson createFirstProjectionStage() {
+    private static Bson createFirstProjectionStage(final KeyDictionary keyDictionary) {
         final BsonDocument projection = new BsonDocument()
                 .append(POLICY_INDEX_ID, new BsonDocument(CONCAT,
                         new BsonArray(Arrays.asList(
@@ -287,7 +294,7 @@ final class PolicyRestrictedMongoSearchAggregation implements PolicyRestrictedSe
                                         )),
                                 new BsonDocument(IF_NULL_CONDITION,
                                         new BsonArray(Arrays.asList(
-                                                new BsonString(FIELD_INTERNAL_KEY_VARIABLE),
+                                                keyDictionary.decodeExpression(FIELD_INTERNAL_KEY_VARIABLE),
                                                 new BsonString(""))
                                         ))
                         ))
@@ -302,13 +309,17 @@ final class PolicyRestrictedMongoSearchAggregation implements PolicyRestrictedSe
     }
 
     static Optional<Bson> createSecondaryMatchStage(final Criteria filterCriteria) {
+        return createSecondaryMatchStage(filterCriteria, KeyDictionary.empty());
+    }
+
+    static Optional<Bson> createSecondaryMatchStage(final Criteria filterCriteria, final KeyDictionary keyDictionary) {
         // filters relevant attributes/features.
         // an attribute/feature is relevant if it contributes to the truth of filterCriteria.
-        return CreateUnwoundBsonVisitor.apply(filterCriteria).map(Aggregates::match);
+        return CreateUnwoundBsonVisitor.apply(filterCriteria, keyDictionary).map(Aggregates::match);
     }
 
     private static Bson createTertiaryMatchStage(final Criteria filterCriteria,
-            final Predicate authorizationSubjectsPredicate) {
+            final Predicate authorizationSubjectsPredicate, final KeyDictionary keyDictionary) {
 
         final Criteria thingV1Criteria = CRITERIA_FACTORY.fieldCriteria(
                 new SimpleFieldExpressionImpl(FIELD_GRANTS), CRITERIA_FACTORY.eq(null));
@@ -323,7 +334,7 @@ final class PolicyRestrictedMongoSearchAggregation implements PolicyRestrictedSe
                 new SimpleFieldExpressionImpl(FIELD_INTERNAL_ACL));
 
         return match(or(
-                CreatePolicyRestrictionBsonVisitor.apply(filterCriteria, authorizationSubjectsPredicate)
+                CreatePolicyRestrictionBsonVisitor.apply(filterCriteria, authorizationSubjectsPredicate, keyDictionary)
                         .orElse(new BsonDocument()),
                 CreateBsonVisitor.apply(thingV1Criteria),
                 CreateBsonVisitor.apply(internalGrCriteria),
@@ -331,12 +342,14 @@ final class PolicyRestrictedMongoSearchAggregation implements PolicyRestrictedSe
     }
 
     private static Bson createInitialMatchStageWithNonDeleted(final Criteria filterCriteria,
-            final Criteria aclCriteria, final Criteria globalPolicyGrantsCriteria) {
+            final Criteria aclCriteria, final Criteria globalPolicyGrantsCriteria, final KeyDictionary keyDictionary,
+            final QueryPlanner queryPlanner) {
 
         final Bson authorization =
                 or(CreateBsonVisitor.apply(globalPolicyGrantsCriteria), CreateBsonVisitor.apply(aclCriteria));
 
-        return match(and(authorization, filterNotDeleted(), CreateBsonVisitor.apply(filterCriteria)));
+        return match(and(authorization, filterNotDeleted(),
+                queryPlanner.plan(filterCriteria, CreateBsonVisitor.apply(filterCriteria, keyDictionary))));
     }
 
     private static Bson createSecondProjectionStage() {
@@ -414,6 +427,8 @@ final class PolicyRestrictedMongoSearchAggregation implements PolicyRestrictedSe
         private boolean count = false;
         private boolean withDeletedThings = false;
         private boolean sudo = false;
+        private KeyDictionary keyDictionary = KeyDictionary.empty();
+        private QueryPlanner queryPlanner = QueryPlanner.empty();
         private final LimitsConfigReader limitsConfigReader;
 
         Builder(final LimitsConfigReader limitsConfigReader) {
@@ -463,6 +478,28 @@ final class PolicyRestrictedMongoSearchAggregation implements PolicyRestrictedSe
             return this;
         }
 
+        /**
+         * Sets the dictionary of key paths which are stored as codes in the search index.
+         *
+         * @param keyDictionary the dictionary.
+         * @return this builder.
+         */
+        public Builder keyDictionary(final KeyDictionary keyDictionary) {
+            this.keyDictionary = requireNonNull(keyDictionary);
+            return this;
+        }
+
+        /**
+         * Sets the query planner routing queries on indexed attributes to their dedicated indices.
+         *
+         * @param queryPlanner the query planner.
+         * @return this builder.
+         */
+        public Builder queryPlanner(final QueryPlanner queryPlanner) {
+            this.queryPlanner = requireNonNull(queryPlanner);
+            return this;
+        }
+
         @Override
         public Builder withDeletedThings(final boolean withDeletedThings) {
             this.withDeletedThings = withDeletedThings;
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read.query;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.services.thingsearch.persistence.Indices;
+import org.eclipse.ditto.services.thingsearch.persistence.MongoSortKeyMappingFunction;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors.CreateIndexedFilterVisitor;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.Index;
+
+import com.mongodb.client.model.Filters;
+
+/**
+ * Routes search queries on frequently queried attributes to dedicated indices. Each indexed attribute gets a compound
+ * index on its plain field in the {@code attributes} document and the Thing ID. Queries whose criteria restrict an
+ * indexed attribute get an additional filter on the plain field, which MongoDB answers from the dedicated index instead
+ * of scanning the generic key/value index. All other queries are executed unchanged.
+ */
+@Immutable
+public final class QueryPlanner {
+
+    private static final QueryPlanner EMPTY = new QueryPlanner(Collections.emptyMap());
+
+    private final Map<String, String> indexedFieldsByIdentifier;
+
+    private QueryPlanner(final Map<String, String> indexedFieldsByIdentifier) {
+        this.indexedFieldsByIdentifier = Collections.unmodifiableMap(new LinkedHashMap<>(indexedFieldsByIdentifier));
+    }
+
+    /**
+     * Returns the query planner which uses the generic key/value index for all queries.
+     *
+     * @return the query planner.
+     */
+    public static QueryPlanner empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a query planner routing queries on the given attributes to dedicated indices.
+     *
+     * @param indexedAttributes the paths of the attributes to index, e.g. {@code "serial"} or
+     * {@code "location/city"}.
+     * @return the query planner.
+     * @throws NullPointerException if {@code indexedAttributes} is {@code null}.
+     * @throws IllegalArgumentException if {@code indexedAttributes} contains an empty path.
+     */
+    public static QueryPlanner of(final List<String> indexedAttributes) {
+        checkNotNull(indexedAttributes, "indexed attributes");
+        if (indexedAttributes.isEmpty()) {
+            return EMPTY;
+        }
+        final Map<String, String> indexedFieldsByIdentifier = new LinkedHashMap<>();
+        for (final String indexedAttribute : indexedAttributes) {
+            final JsonPointer pointer = JsonFactory.newPointer(indexedAttribute);
+            if (pointer.isEmpty()) {
+                throw new IllegalArgumentException("The path of an indexed attribute must not be empty!");
+            }
+            final String key = pointer.toString().substring(1);
+            indexedFieldsByIdentifier.put(PersistenceConstants.FIELD_ATTRIBUTE_PREFIX_WITH_ENDING_SLASH + key,
+                    MongoSortKeyMappingFunction.mapSortKey(PersistenceConstants.FIELD_ATTRIBUTES, key));
+        }
+        return new QueryPlanner(indexedFieldsByIdentifier);
+    }
+
+    /**
+     * Returns the indices of the things collection including the dedicated indices of this query planner.
+     *
+     * @return the indices.
+     */
+    public List<Index> getIndices() {
+        return Indices.Things.all(indexedFieldsByIdentifier.values());
+    }
+
+    /**
+     * Adds the filter on indexed attributes implied by the criteria to the filter of the criteria.
+     *
+     * @param criteria the criteria of the query.
+     * @param filter the filter created from {@code criteria}.
+     * @return {@code filter} restricted additionally by the indexed attributes, or {@code filter} itself if the
+     * criteria restrict no indexed attribute.
+     */
+    public Bson plan(final Criteria criteria, final Bson filter) {
+        return CreateIndexedFilterVisitor.apply(criteria, indexedFieldsByIdentifier)
+                .map(indexedFilter -> Filters.and(filter, indexedFilter))
+                .orElse(filter);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "indexedFieldsByIdentifier=" + indexedFieldsByIdentifier +
+                "]";
+    }
+
+}
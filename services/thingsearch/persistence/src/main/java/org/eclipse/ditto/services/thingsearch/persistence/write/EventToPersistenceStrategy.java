@@ -13,6 +13,7 @@ package org.eclipse.ditto.services.thingsearch.persistence.write;
 import java.util.List;
 
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
 /**
@@ -31,7 +32,20 @@ public interface EventToPersistenceStrategy<T extends ThingEvent, D, P> {
      * @param indexLengthRestrictionEnforcer The length enforcer to restrict length before perstisting.
      * @return Te updates needed to persist the information of {@code event}.
      */
-    List<D> thingUpdates(T event, final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer);
+    default List<D> thingUpdates(final T event, final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer) {
+        return thingUpdates(event, indexLengthRestrictionEnforcer, KeyDictionary.empty());
+    }
+
+    /**
+     * Create all updates needed to persist the changes made by {@code event}, storing interned key paths as codes.
+     *
+     * @param event The event.
+     * @param indexLengthRestrictionEnforcer The length enforcer to restrict length before perstisting.
+     * @param keyDictionary The dictionary of interned key paths.
+     * @return Te updates needed to persist the information of {@code event}.
+     */
+    List<D> thingUpdates(T event, final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer,
+            final KeyDictionary keyDictionary);
 
     /**
      * Create all updates needed to persist the policy changes made by {@code event}.
@@ -77,6 +77,21 @@ public interface ThingsSearchUpdaterPersistence {
      */
     Source<Boolean, NotUsed> updatePolicy(Thing thing, Enforcer policyEnforcer);
 
+    /**
+     * Updates the thing representation as well as the policy index due to a changed policy of the passed in thing;
+     * only the entries of the policy index whose permissions differ between the previous and the current policy are
+     * written. Must be called after the parameter {@code thing} was written into the index via
+     * {@link #insertOrUpdate(Thing, long, long)} and only if the thing did not change since its policy index was last
+     * written with {@code previousPolicyEnforcer}.
+     *
+     * @param thing the thing for which there is updated the policy.
+     * @param previousPolicyEnforcer the enforcer holding the policy the policy index was last written with.
+     * @param policyEnforcer the enforcer holding the current policy.
+     * @return a {@link Source} holding the publisher to execute the operation.
+     */
+    Source<Boolean, NotUsed> updatePolicyIncrementally(Thing thing, Enforcer previousPolicyEnforcer,
+            Enforcer policyEnforcer);
+
     /**
      * Retrieves a modifiable unsorted list of thing ids which all share the same policy.
      *
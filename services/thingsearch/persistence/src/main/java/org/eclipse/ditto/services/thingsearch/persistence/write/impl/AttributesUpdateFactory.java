@@ -22,6 +22,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.things.Attributes;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.MongoSortKeyMappingFunction;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.mapping.ThingDocumentMapper;
@@ -32,11 +33,7 @@ import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestr
  */
 final class AttributesUpdateFactory {
 
-    private static final Bson PULL_ATTRIBUTES = new Document(
-            PersistenceConstants.PULL, new Document(PersistenceConstants.FIELD_INTERNAL,
-            new Document(PersistenceConstants.FIELD_INTERNAL_KEY, new Document(
-                    PersistenceConstants.REGEX, "^" + PersistenceConstants.FIELD_ATTRIBUTE_PREFIX))));
-
+    private static final String ATTRIBUTES_REGEX = "^" + PersistenceConstants.FIELD_ATTRIBUTE_PREFIX;
 
     private AttributesUpdateFactory() {
         throw new AssertionError();
@@ -47,12 +44,14 @@ final class AttributesUpdateFactory {
      *
      * @param jsonPointer the pointer for the path of the attribute
      * @param jsonValue the attribute value
+     * @param keyDictionary the dictionary of interned key paths
      * @return the update bson
      */
     static List<Bson> createAttributesUpdates(final IndexLengthRestrictionEnforcer
             indexLengthRestrictionEnforcer,
             final JsonPointer jsonPointer,
-            final JsonValue jsonValue) {
+            final JsonValue jsonValue,
+            final KeyDictionary keyDictionary) {
 
         final JsonValue withRestrictions =
                 indexLengthRestrictionEnforcer.enforceRestrictionsOnAttributeValue(jsonPointer,
@@ -62,8 +61,8 @@ final class AttributesUpdateFactory {
         final Document setUpdatePart = createSetUpdatePart(jsonPointer, withRestrictions);
 
         final Bson update1 = createSortStructureUpdate(setUpdatePart);
-        final Bson update2 = createSearchStructurePull(jsonPointer);
-        final Bson update3 = createSearchStructurePush(internalAttributesList);
+        final Bson update2 = createSearchStructurePull(jsonPointer, keyDictionary);
+        final Bson update3 = createSearchStructurePush(keyDictionary.encodeKeys(internalAttributesList));
 
         return Arrays.asList(update1, update2, update3);
     }
@@ -72,32 +71,37 @@ final class AttributesUpdateFactory {
      * Creates the update for all attributes.
      *
      * @param attributes the new attributes
+     * @param keyDictionary the dictionary of interned key paths
      * @return the created update
      */
     static List<Bson> createAttributesUpdate(final IndexLengthRestrictionEnforcer
             indexLengthRestrictionEnforcer,
-            final Attributes attributes) {
+            final Attributes attributes,
+            final KeyDictionary keyDictionary) {
         final Attributes withRestrictions = indexLengthRestrictionEnforcer.enforceRestrictions(attributes);
         final Bson update1 = createSortStructureUpdate(createSetUpdatePart(withRestrictions));
-        final Bson update3 = createSearchStructurePush(createInternalAttributes(withRestrictions));
+        final Bson update2 = new Document(PersistenceConstants.PULL, new Document(PersistenceConstants.FIELD_INTERNAL,
+                keyDictionary.keyRegexCondition(ATTRIBUTES_REGEX)));
+        final Bson update3 =
+                createSearchStructurePush(keyDictionary.encodeKeys(createInternalAttributes(withRestrictions)));
 
-        return Arrays.asList(update1, PULL_ATTRIBUTES, update3);
+        return Arrays.asList(update1, update2, update3);
     }
 
     /**
      * Creates a bson update for deletion of a single attribute.
      *
      * @param jsonPointer the pointer of the attribute to delete.
+     * @param keyDictionary the dictionary of interned key paths.
      * @return the bson
      */
-    static Bson createAttributeDeletionUpdate(final JsonPointer jsonPointer) {
+    static Bson createAttributeDeletionUpdate(final JsonPointer jsonPointer, final KeyDictionary keyDictionary) {
         final Document update = new Document();
         final String sortKey = MongoSortKeyMappingFunction.mapSortKey(
                 PersistenceConstants.FIELD_ATTRIBUTES + jsonPointer.toString());
         update.append(PersistenceConstants.UNSET, new Document(sortKey, ""));
-        update.append(PersistenceConstants.PULL, new Document(PersistenceConstants.FIELD_INTERNAL, new Document(
-                PersistenceConstants.FIELD_INTERNAL_KEY, new Document(PersistenceConstants.REGEX,
-                createPrefixRegex(jsonPointer)))));
+        update.append(PersistenceConstants.PULL, new Document(PersistenceConstants.FIELD_INTERNAL,
+                keyDictionary.keyRegexCondition(createPrefixRegex(jsonPointer))));
 
         return update;
     }
@@ -134,11 +138,11 @@ final class AttributesUpdateFactory {
                         new Document(PersistenceConstants.EACH, internalAttributesList)));
     }
 
-    private static Document createSearchStructurePull(final JsonPointer jsonPointer) {
+    private static Document createSearchStructurePull(final JsonPointer jsonPointer,
+            final KeyDictionary keyDictionary) {
         return new Document().append(PersistenceConstants.PULL,
                 new Document(PersistenceConstants.FIELD_INTERNAL,
-                        new Document(PersistenceConstants.FIELD_INTERNAL_KEY,
-                                new Document(PersistenceConstants.REGEX, createPrefixRegex(jsonPointer)))));
+                        keyDictionary.keyRegexCondition(createPrefixRegex(jsonPointer))));
     }
 
     private static Document createSortStructureUpdate(final Document setUpdatePart) {
@@ -27,6 +27,7 @@ import org.eclipse.ditto.model.things.Feature;
 import org.eclipse.ditto.model.things.FeatureProperties;
 import org.eclipse.ditto.model.things.Features;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.MongoSortKeyMappingFunction;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.mapping.ThingDocumentMapper;
@@ -81,18 +82,17 @@ final class FeaturesUpdateFactory {
      *
      * @param featureId the id of the feature
      * @param propertyPath the propertyPath of the feature
+     * @param keyDictionary the dictionary of interned key paths
      * @return the update
      */
-    static Bson createDeleteFeaturePropertyUpdate(final String featureId, final JsonPointer propertyPath) {
+    static Bson createDeleteFeaturePropertyUpdate(final String featureId, final JsonPointer propertyPath,
+            final KeyDictionary keyDictionary) {
         final Document update = new Document();
         update.append(PersistenceConstants.UNSET,
                 new Document(MongoSortKeyMappingFunction.mapSortKey(PersistenceConstants.FIELD_FEATURES, featureId,
                         PersistenceConstants.FIELD_PROPERTIES + propertyPath.toString()), ""));
-        update.append(PersistenceConstants.PULL, new Document(
-                PersistenceConstants.FIELD_INTERNAL,
-                new Document(PersistenceConstants.FIELD_INTERNAL_FEATURE_ID, featureId)
-                        .append(PersistenceConstants.FIELD_INTERNAL_KEY,
-                                new Document(PersistenceConstants.REGEX, createPrefixRegex(propertyPath)))));
+        update.append(PersistenceConstants.PULL, new Document(PersistenceConstants.FIELD_INTERNAL,
+                createFeatureKeyCondition(featureId, propertyPath, keyDictionary)));
         return update;
     }
 
@@ -102,14 +102,16 @@ final class FeaturesUpdateFactory {
      * @param indexLengthRestrictionEnforcer the restriction helper to enforce size restrictions.
      * @param feature the id of the feature
      * @param created indicates whether this is a new feature
+     * @param keyDictionary the dictionary of interned key paths
      * @return the update
      */
     static List<Bson> createUpdateForFeature(final IndexLengthRestrictionEnforcer
             indexLengthRestrictionEnforcer,
             final Feature feature,
-            final boolean created) {
+            final boolean created,
+            final KeyDictionary keyDictionary) {
         final Feature withRestrictions = indexLengthRestrictionEnforcer.enforceRestrictions(feature);
-        final List<Document> featurePropertyPushes = createPushes(withRestrictions);
+        final List<Document> featurePropertyPushes = keyDictionary.encodeKeys(createPushes(withRestrictions));
         final Bson pushPart = new Document()
                 .append(PersistenceConstants.SET,
                         new Document().append(
@@ -137,16 +139,19 @@ final class FeaturesUpdateFactory {
      * @param indexLengthRestrictionEnforcer the restriction helper to enforce size restrictions.
      * @param featureId the feature id
      * @param properties the properties to update
+     * @param keyDictionary the dictionary of interned key paths
      * @return the update
      */
     static List<Bson> createUpdateForFeatureProperties(
             final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer, final String
             featureId,
-            final FeatureProperties properties) {
+            final FeatureProperties properties,
+            final KeyDictionary keyDictionary) {
         final FeatureProperties withRestrictions =
                 indexLengthRestrictionEnforcer.enforceRestrictions(featureId, properties);
         final List<Document> featurePropertyPushes = createFlatFeaturesRepresentation(withRestrictions, featureId);
         featurePropertyPushes.add(createDefaultFeatureDoc(featureId));
+        keyDictionary.encodeKeys(featurePropertyPushes);
 
         final Bson pushPart = new Document()
                 .append(PersistenceConstants.SET, new Document().append(
@@ -168,22 +173,24 @@ final class FeaturesUpdateFactory {
      * @param featureId the id of the feature
      * @param featurePointer the path of the feature
      * @param propertyValue the new property value
+     * @param keyDictionary the dictionary of interned key paths
      * @return the update
      */
     static List<Bson> createUpdateForFeatureProperty(
             final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer,
             final String featureId,
             final JsonPointer featurePointer,
-            final JsonValue propertyValue) {
+            final JsonValue propertyValue,
+            final KeyDictionary keyDictionary) {
         final JsonValue withRestrictions =
                 indexLengthRestrictionEnforcer.enforceRestrictionsOnFeatureProperty(featureId,
                         featurePointer, propertyValue);
         final Bson update1 = createSortStructureUpdate(featureId, featurePointer, withRestrictions);
-        final Bson update2 = createPullFeatures(featureId, featurePointer);
+        final Bson update2 = createPullFeatures(featureId, featurePointer, keyDictionary);
         final List<Document> flatRepresentations =
                 toFlatFeaturesList(featurePointer.toString(), featureId, withRestrictions, new ArrayList<>());
 
-        final Bson update3 = createPushUpdate(flatRepresentations);
+        final Bson update3 = createPushUpdate(keyDictionary.encodeKeys(flatRepresentations));
 
         return Arrays.asList(update1, update2, update3);
     }
@@ -203,10 +210,12 @@ final class FeaturesUpdateFactory {
      *
      * @param indexLengthRestrictionEnforcer the restriction helper to enforce size restrictions.
      * @param features the features to update
+     * @param keyDictionary the dictionary of interned key paths
      * @return the update
      */
     static List<Bson> updateFeatures(final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer,
-            final Features features) {
+            final Features features,
+            final KeyDictionary keyDictionary) {
         final Features withRestrictions = indexLengthRestrictionEnforcer.enforceRestrictions(features);
         final Bson update1 = createDeleteFeaturesDocument();
 
@@ -220,6 +229,7 @@ final class FeaturesUpdateFactory {
             pushes.addAll(createPushes(f));
             featuresObjectBuilder.set(f.getId(), propertiesJson);
         });
+        keyDictionary.encodeKeys(pushes);
         final Object featuresDocument = ThingDocumentMapper.toValue(featuresObjectBuilder.build());
 
         final Bson update2 = new Document()
@@ -265,13 +275,19 @@ final class FeaturesUpdateFactory {
                         new Document(PersistenceConstants.FIELD_INTERNAL_FEATURE_ID, featureId)));
     }
 
-    private static Document createPullFeatures(final String featureId, final JsonPointer pointer) {
+    private static Document createPullFeatures(final String featureId, final JsonPointer pointer,
+            final KeyDictionary keyDictionary) {
         return new Document()
                 .append(PersistenceConstants.PULL, new Document(
                         PersistenceConstants.FIELD_INTERNAL,
-                        new Document(PersistenceConstants.FIELD_INTERNAL_FEATURE_ID, featureId)
-                                .append(PersistenceConstants.FIELD_INTERNAL_KEY,
-                                        new Document(PersistenceConstants.REGEX, createPrefixRegex(pointer)))));
+                        createFeatureKeyCondition(featureId, pointer, keyDictionary)));
+    }
+
+    private static Document createFeatureKeyCondition(final String featureId, final JsonPointer pointer,
+            final KeyDictionary keyDictionary) {
+        final Document condition = new Document(PersistenceConstants.FIELD_INTERNAL_FEATURE_ID, featureId);
+        condition.putAll(keyDictionary.keyRegexCondition(createPrefixRegex(pointer)));
+        return condition;
     }
 
     private static Object createComplexFeatureDocument(final Feature feature) {
@@ -15,6 +15,7 @@ import java.util.List;
 
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
 import org.eclipse.ditto.signals.events.things.AclEntryDeleted;
 
@@ -28,7 +29,8 @@ public final class MongoAclEntryDeletedStrategy extends MongoEventToPersistenceS
      */
     @Override
     public List<Bson> thingUpdates(final AclEntryDeleted event,
-            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer) {
+            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer,
+            final KeyDictionary keyDictionary) {
         final AuthorizationSubject authorizationSubject = event.getAuthorizationSubject();
         return Collections.singletonList(AclUpdatesFactory.deleteAclEntry(authorizationSubject.getId()));
     }
@@ -13,6 +13,7 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.impl;
 import java.util.List;
 
 import org.bson.conversions.Bson;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
 import org.eclipse.ditto.signals.events.things.AclEntryModified;
 
@@ -26,7 +27,8 @@ public final class MongoAclEntryModifiedStrategy extends MongoEventToPersistence
      */
     @Override
     public List<Bson> thingUpdates(final AclEntryModified event,
-            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer) {
+            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer,
+            final KeyDictionary keyDictionary) {
         return AclUpdatesFactory.createUpdateAclEntry(event.getAclEntry());
     }
 }
@@ -14,6 +14,7 @@ import java.util.List;
 
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.things.AccessControlList;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
 import org.eclipse.ditto.signals.events.things.AclModified;
 
@@ -26,7 +27,9 @@ public final class MongoAclModifiedStrategy extends MongoEventToPersistenceStrat
      * {@inheritDoc}
      */
     @Override
-    public List<Bson> thingUpdates(final AclModified event, final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer) {
+    public List<Bson> thingUpdates(final AclModified event,
+            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer,
+            final KeyDictionary keyDictionary) {
         final AccessControlList acl = event.getAccessControlList();
         return AclUpdatesFactory.createUpdateAclEntries(acl);
     }
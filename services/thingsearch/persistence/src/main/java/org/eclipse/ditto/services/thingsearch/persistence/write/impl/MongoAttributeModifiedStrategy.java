@@ -17,6 +17,7 @@ import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
 import org.eclipse.ditto.signals.events.things.AttributeModified;
 
@@ -30,10 +31,12 @@ public final class MongoAttributeModifiedStrategy extends MongoEventToPersistenc
      */
     @Override
     public final List<Bson> thingUpdates(final AttributeModified event,
-            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer) {
+            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer,
+            final KeyDictionary keyDictionary) {
         final JsonPointer pointer = event.getAttributePointer();
         final JsonValue value = event.getAttributeValue();
-        return AttributesUpdateFactory.createAttributesUpdates(indexLengthRestrictionEnforcer, pointer, value);
+        return AttributesUpdateFactory.createAttributesUpdates(indexLengthRestrictionEnforcer, pointer, value,
+                keyDictionary);
     }
 
     /**
@@ -15,6 +15,7 @@ import java.util.List;
 
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
 import org.eclipse.ditto.signals.events.things.AttributesCreated;
 
@@ -28,9 +29,10 @@ public final class MongoAttributesCreatedStrategy extends MongoEventToPersistenc
      */
     @Override
     public final List<Bson> thingUpdates(final AttributesCreated event,
-            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer) {
+            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer,
+            final KeyDictionary keyDictionary) {
         return AttributesUpdateFactory.createAttributesUpdate(indexLengthRestrictionEnforcer,
-                event.getCreatedAttributes());
+                event.getCreatedAttributes(), keyDictionary);
     }
 
     /**
@@ -15,6 +15,7 @@ import java.util.List;
 
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
 import org.eclipse.ditto.signals.events.things.FeatureCreated;
 
@@ -28,8 +29,10 @@ public final class MongoFeatureCreatedStrategy extends MongoEventToPersistenceSt
      */
     @Override
     public final List<Bson> thingUpdates(final FeatureCreated event,
-            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer) {
-        return FeaturesUpdateFactory.createUpdateForFeature(indexLengthRestrictionEnforcer, event.getFeature(), false);
+            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer,
+            final KeyDictionary keyDictionary) {
+        return FeaturesUpdateFactory.createUpdateForFeature(indexLengthRestrictionEnforcer, event.getFeature(), false,
+                keyDictionary);
     }
 
     /**
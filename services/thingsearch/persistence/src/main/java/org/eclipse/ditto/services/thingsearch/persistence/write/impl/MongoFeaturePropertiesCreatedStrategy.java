@@ -15,6 +15,7 @@ import java.util.List;
 
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
 import org.eclipse.ditto.signals.events.things.FeaturePropertiesCreated;
 
@@ -29,11 +30,13 @@ public final class MongoFeaturePropertiesCreatedStrategy extends
      */
     @Override
     public final List<Bson> thingUpdates(final FeaturePropertiesCreated event,
-            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer) {
+            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer,
+            final KeyDictionary keyDictionary) {
         return FeaturesUpdateFactory.createUpdateForFeatureProperties(
                 indexLengthRestrictionEnforcer,
                 event.getFeatureId(),
-                event.getProperties());
+                event.getProperties(),
+                keyDictionary);
     }
 
     /**
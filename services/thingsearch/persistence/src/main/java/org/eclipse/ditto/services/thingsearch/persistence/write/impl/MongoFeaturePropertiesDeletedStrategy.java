@@ -15,6 +15,7 @@ import java.util.List;
 
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
 import org.eclipse.ditto.signals.events.things.FeaturePropertiesDeleted;
 
@@ -29,7 +30,8 @@ public final class MongoFeaturePropertiesDeletedStrategy extends
      */
     @Override
     public final List<Bson> thingUpdates(final FeaturePropertiesDeleted event,
-            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer) {
+            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer,
+            final KeyDictionary keyDictionary) {
         return Collections.singletonList(
                 FeaturesUpdateFactory.createDeleteFeaturePropertiesUpdate(event.getFeatureId()));
     }
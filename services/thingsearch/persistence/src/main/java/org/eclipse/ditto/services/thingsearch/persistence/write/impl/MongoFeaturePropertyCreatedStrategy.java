@@ -15,6 +15,7 @@ import java.util.List;
 
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
 import org.eclipse.ditto.signals.events.things.FeaturePropertyCreated;
 
@@ -28,9 +29,11 @@ public final class MongoFeaturePropertyCreatedStrategy extends MongoEventToPersi
      */
     @Override
     public final List<Bson> thingUpdates(final FeaturePropertyCreated event,
-            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer) {
+            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer,
+            final KeyDictionary keyDictionary) {
         return FeaturesUpdateFactory.createUpdateForFeatureProperty(indexLengthRestrictionEnforcer,
-                event.getFeatureId(), event.getPropertyPointer(), event.getPropertyValue());
+                event.getFeatureId(), event.getPropertyPointer(), event.getPropertyValue(),
+                keyDictionary);
     }
 
     /**
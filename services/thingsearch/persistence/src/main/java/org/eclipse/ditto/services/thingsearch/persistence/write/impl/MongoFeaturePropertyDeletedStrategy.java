@@ -15,6 +15,7 @@ import java.util.List;
 
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
 import org.eclipse.ditto.signals.events.things.FeaturePropertyDeleted;
 
@@ -28,10 +29,11 @@ public final class MongoFeaturePropertyDeletedStrategy extends MongoEventToPersi
      */
     @Override
     public final List<Bson> thingUpdates(final FeaturePropertyDeleted event,
-            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer) {
+            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer,
+            final KeyDictionary keyDictionary) {
         return Collections.singletonList(
                 FeaturesUpdateFactory.createDeleteFeaturePropertyUpdate(event.getFeatureId(),
-                        event.getPropertyPointer()));
+                        event.getPropertyPointer(), keyDictionary));
     }
 
     /**
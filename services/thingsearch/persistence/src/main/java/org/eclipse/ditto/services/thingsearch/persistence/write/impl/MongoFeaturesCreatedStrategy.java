@@ -15,6 +15,7 @@ import java.util.List;
 
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
 import org.eclipse.ditto.signals.events.things.FeaturesCreated;
 
@@ -28,8 +29,9 @@ public final class MongoFeaturesCreatedStrategy extends MongoEventToPersistenceS
      */
     @Override
     public final List<Bson> thingUpdates(final FeaturesCreated event,
-            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer) {
-        return FeaturesUpdateFactory.updateFeatures(indexLengthRestrictionEnforcer, event.getFeatures());
+            final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer,
+            final KeyDictionary keyDictionary) {
+        return FeaturesUpdateFactory.updateFeatures(indexLengthRestrictionEnforcer, event.getFeatures(), keyDictionary);
     }
 
     /**
@@ -33,6 +33,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
 import org.bson.Document;
@@ -40,6 +42,7 @@ import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.mapping.ThingDocumentMapper;
 import org.eclipse.ditto.services.thingsearch.persistence.write.AbstractThingsSearchUpdaterPersistence;
@@ -82,6 +85,7 @@ public final class MongoThingsSearchUpdaterPersistence extends AbstractThingsSea
     private final MongoCollection<Document> policiesCollection;
     private final EventToPersistenceStrategyFactory<Bson, PolicyUpdate>
             persistenceStrategyFactory;
+    private final KeyDictionary keyDictionary;
 
     /**
      * Constructor.
@@ -93,11 +97,27 @@ public final class MongoThingsSearchUpdaterPersistence extends AbstractThingsSea
     public MongoThingsSearchUpdaterPersistence(final MongoClientWrapper clientWrapper,
             final LoggingAdapter log,
             final EventToPersistenceStrategyFactory<Bson, PolicyUpdate> persistenceStrategyFactory) {
+        this(clientWrapper, log, persistenceStrategyFactory, KeyDictionary.empty());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param clientWrapper the client wrapper holding the connection information.
+     * @param log the logger to use for logging.
+     * @param persistenceStrategyFactory The persistence strategy factory to use.
+     * @param keyDictionary the dictionary of key paths to store as codes in the search index.
+     */
+    public MongoThingsSearchUpdaterPersistence(final MongoClientWrapper clientWrapper,
+            final LoggingAdapter log,
+            final EventToPersistenceStrategyFactory<Bson, PolicyUpdate> persistenceStrategyFactory,
+            final KeyDictionary keyDictionary) {
         super(log);
         collection = clientWrapper.getDatabase().getCollection(THINGS_COLLECTION_NAME);
         policiesCollection = clientWrapper.getDatabase().getCollection(POLICIES_BASED_SEARCH_INDEX_COLLECTION_NAME);
 
         this.persistenceStrategyFactory = persistenceStrategyFactory;
+        this.keyDictionary = keyDictionary;
     }
 
     private static Bson filterWithExactRevision(final String thingId, final long revision) {
@@ -141,7 +161,8 @@ public final class MongoThingsSearchUpdaterPersistence extends AbstractThingsSea
         log.debug("Saving Thing with revision <{}> and policy revision <{}>: <{}>", revision, policyRevision, thing);
         final Bson filter =
                 filterWithLowerThingRevisionOrLowerPolicyRevision(getThingId(thing), revision, policyRevision);
-        final Document document = toUpdate(ThingDocumentMapper.toDocument(thing), revision, policyRevision);
+        final Document document =
+                toUpdate(ThingDocumentMapper.toDocument(thing, keyDictionary), revision, policyRevision);
         return Source.fromPublisher(collection.updateOne(filter, document, new UpdateOptions().upsert(true)))
                 .map(updateResult -> updateResult.getMatchedCount() > 0 || null != updateResult.getUpsertedId());
     }
@@ -258,7 +279,8 @@ public final class MongoThingsSearchUpdaterPersistence extends AbstractThingsSea
             final T thingEvent) {
         final List<Bson> updates = persistenceStrategyFactory
                 .getStrategy(thingEvent)
-                .thingUpdates(thingEvent, IndexLengthRestrictionEnforcer.newInstance(log, thingEvent.getThingId()));
+                .thingUpdates(thingEvent, IndexLengthRestrictionEnforcer.newInstance(log, thingEvent.getThingId()),
+                        keyDictionary);
         return updates
                 .stream()
                 .map(update -> new UpdateOneModel<Document>(filter, update, new UpdateOptions().upsert(true)))
@@ -272,11 +294,9 @@ public final class MongoThingsSearchUpdaterPersistence extends AbstractThingsSea
                 .policyUpdates(thingEvent, policyEnforcer);
 
         final List<WriteModel<Document>> writeModels = new ArrayList<>();
-        updates.forEach(policyUpdate -> {
-            writeModels.add(new DeleteManyModel<>(policyUpdate.getPolicyIndexRemoveFilter()));
-            policyUpdate.getPolicyIndexInsertEntries()
-                    .forEach(document -> writeModels.add(new InsertOneModel<>(document)));
-        });
+        updates.forEach(policyUpdate -> writeModels.addAll(
+                createPolicyIndexModels(policyUpdate.getPolicyIndexRemoveFilter(),
+                        policyUpdate.getPolicyIndexInsertEntries())));
         return writeModels;
     }
 
@@ -317,6 +337,21 @@ public final class MongoThingsSearchUpdaterPersistence extends AbstractThingsSea
                 .recoverWithRetries(1, errorRecovery(getThingId(thing)));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Source<Boolean, NotUsed> updatePolicyIncrementally(final Thing thing,
+            final Enforcer previousPolicyEnforcer, final Enforcer policyEnforcer) {
+
+        log.debug("Incrementally updating policy for Thing: <{}>", thing);
+        final PolicyUpdate policyUpdate =
+                PolicyUpdateFactory.createPolicyIndexDiffUpdate(thing, previousPolicyEnforcer, policyEnforcer);
+        return Source.fromPublisher(updatePolicy(thing, policyUpdate))
+                .flatMapConcat(mapPolicyUpdateResult(policyUpdate))
+                .recoverWithRetries(1, errorRecovery(getThingId(thing)));
+    }
+
     private Publisher<BulkWriteResult> updatePolicy(final Thing thing, final PolicyUpdate policyUpdate) {
         final Bson filter = filterWithEqualThingId(getThingId(thing));
         final List<UpdateOneModel<Document>> writeThingIndexModels = createThingIndexModels(filter, policyUpdate);
@@ -333,6 +368,10 @@ public final class MongoThingsSearchUpdaterPersistence extends AbstractThingsSea
                 final List<WriteModel<Document>> writePolicyIndexModels =
                         createPolicyIndexModels(policyUpdate.getPolicyIndexRemoveFilter(),
                                 policyUpdate.getPolicyIndexInsertEntries());
+                if (writePolicyIndexModels.isEmpty()) {
+                    // the permissions of the thing did not change
+                    return Source.single(Boolean.TRUE);
+                }
                 return Source.fromPublisher(
                         policiesCollection.bulkWrite(writePolicyIndexModels, writeOrdered))
                         .map(result2 -> Boolean.TRUE);
@@ -390,12 +429,13 @@ public final class MongoThingsSearchUpdaterPersistence extends AbstractThingsSea
                 doc.containsKey(FIELD_POLICY_REVISION) ? doc.getLong(FIELD_POLICY_REVISION) : -1L);
     }
 
-    private static List<WriteModel<Document>> createPolicyIndexModels(final Bson policiesFilter,
+    private static List<WriteModel<Document>> createPolicyIndexModels(@Nullable final Bson policiesFilter,
             final Collection<Document> policyEntries) {
 
-        final DeleteManyModel<Document> deleteExistingPolicyEntries = new DeleteManyModel<>(policiesFilter);
         final List<WriteModel<Document>> writeModels = new ArrayList<>();
-        writeModels.add(deleteExistingPolicyEntries);
+        if (policiesFilter != null) {
+            writeModels.add(new DeleteManyModel<>(policiesFilter));
+        }
         policyEntries.stream()
                 .map(InsertOneModel::new)
                 .forEach(writeModels::add);
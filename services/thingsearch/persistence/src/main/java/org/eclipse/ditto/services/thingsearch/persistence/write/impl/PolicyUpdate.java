@@ -45,13 +45,14 @@ final class PolicyUpdate {
     /**
      * Constructs a new {@code PolicyUpdate} object.
      *
-     * @param policyIndexRemoveFilter BSON containing the filter to remove entries in the policy index.
+     * @param policyIndexRemoveFilter BSON containing the filter to remove entries in the policy index or {@code null}
+     * if no entries are to be removed.
      * @param policyIndexInsertEntries list of BSON objects containing the inserts for the policy index.
      * @param pullGlobalReads pulls all global reads.
      * @param pushGlobalReads pushes new global reads.
      * @param pullAclEntries pulls all ACL entries.
      */
-    PolicyUpdate(final Bson policyIndexRemoveFilter, final Set<Document> policyIndexInsertEntries,
+    PolicyUpdate(@Nullable final Bson policyIndexRemoveFilter, final Set<Document> policyIndexInsertEntries,
             @Nullable final Bson pullGlobalReads, @Nullable final Bson pushGlobalReads,
             @Nullable final Bson pullAclEntries) {
         this.policyIndexRemoveFilter = policyIndexRemoveFilter;
@@ -61,6 +62,7 @@ final class PolicyUpdate {
         this.pullAclEntries = pullAclEntries;
     }
 
+    @Nullable
     Bson getPolicyIndexRemoveFilter() {
         return policyIndexRemoveFilter;
     }
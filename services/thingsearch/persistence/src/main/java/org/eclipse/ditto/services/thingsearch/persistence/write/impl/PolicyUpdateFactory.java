@@ -14,12 +14,17 @@ import static com.mongodb.client.model.Filters.and;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.bson.Document;
@@ -67,6 +72,65 @@ final class PolicyUpdateFactory {
      * @return the created update.
      */
     static PolicyUpdate createPolicyIndexUpdate(final Thing thing, final Enforcer policyEnforcer) {
+        final Collection<ResourcePermissions> resourcePermissions = createEntriesForThing(thing, policyEnforcer);
+
+        final String thingId = getThingId(thing);
+        final Set<Document> policyEntries = createPolicyEntries(thingId, resourcePermissions);
+
+        final Bson policiesFilter = createThingRemovalFilter(thingId);
+
+        return new PolicyUpdate(policiesFilter, policyEntries, PULL_GLOBAL_READS,
+                createPushGlobalReads(policyEnforcer), PULL_ACL);
+    }
+
+    /**
+     * Creates a policy update to update the policy of a thing in the search index after the policy changed. Only the
+     * policy index entries whose permissions differ between the previous and the current policy are replaced; the
+     * thing must not have changed since it was indexed with the previous policy.
+     *
+     * @param thing the thing for which the policy is updated.
+     * @param previousPolicyEnforcer the enforcer which holds the policy the thing was indexed with.
+     * @param policyEnforcer the enforcer which holds the current policy.
+     * @return the created update.
+     */
+    static PolicyUpdate createPolicyIndexDiffUpdate(final Thing thing, final Enforcer previousPolicyEnforcer,
+            final Enforcer policyEnforcer) {
+
+        final String thingId = getThingId(thing);
+        final Map<String, Document> previousEntries =
+                indexById(createPolicyEntries(thingId, createEntriesForThing(thing, previousPolicyEnforcer)));
+        final Map<String, Document> currentEntries =
+                indexById(createPolicyEntries(thingId, createEntriesForThing(thing, policyEnforcer)));
+
+        // sorted for a deterministic filter
+        final Set<String> changedIds = new TreeSet<>();
+        previousEntries.forEach((id, previousEntry) -> {
+            if (!previousEntry.equals(currentEntries.get(id))) {
+                changedIds.add(id);
+            }
+        });
+        currentEntries.keySet()
+                .stream()
+                .filter(id -> !previousEntries.containsKey(id))
+                .forEach(changedIds::add);
+
+        final Bson policiesFilter = changedIds.isEmpty() ? null : Filters.in(PersistenceConstants.FIELD_ID, changedIds);
+        final Set<Document> policyEntries = changedIds.stream()
+                .map(currentEntries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return new PolicyUpdate(policiesFilter, policyEntries, PULL_GLOBAL_READS,
+                createPushGlobalReads(policyEnforcer), PULL_ACL);
+    }
+
+    private static String getThingId(final Thing thing) {
+        return thing.getId().orElseThrow(() -> new IllegalStateException("Thing does not have an ID!"));
+    }
+
+    private static Collection<ResourcePermissions> createEntriesForThing(final Thing thing,
+            final Enforcer policyEnforcer) {
+
         final Collection<ResourcePermissions> resourcePermissions = new LinkedHashSet<>();
 
         resourcePermissions.addAll(thing.getAttributes()
@@ -76,23 +140,26 @@ final class PolicyUpdateFactory {
                 .map(features -> createEntriesForFeatures(features, policyEnforcer))
                 .orElseGet(Collections::emptySet));
 
+        return resourcePermissions;
+    }
+
+    private static Map<String, Document> indexById(final Collection<Document> policyEntries) {
+        final Map<String, Document> result = new HashMap<>(policyEntries.size());
+        policyEntries.forEach(policyEntry -> result.put(policyEntry.getString(PersistenceConstants.FIELD_ID), policyEntry));
+        return result;
+    }
+
+    @Nullable
+    private static Bson createPushGlobalReads(final Enforcer policyEnforcer) {
         final Set<Document> globalReads = getGlobalReadsDocuments(policyEnforcer);
 
-        final Bson pushGlobalReads;
         if (globalReads.isEmpty()) {
             // don't create useless update if there are no global reads
-            pushGlobalReads = null;
+            return null;
         } else {
-            pushGlobalReads = new Document(PersistenceConstants.PUSH, new Document(PersistenceConstants.FIELD_INTERNAL, new Document(
-                    PersistenceConstants.EACH, globalReads)));
+            return new Document(PersistenceConstants.PUSH, new Document(PersistenceConstants.FIELD_INTERNAL,
+                    new Document(PersistenceConstants.EACH, globalReads)));
         }
-
-        final String thingId = thing.getId().orElseThrow(() -> new IllegalStateException("Thing does not have an ID!"));
-        final Set<Document> policyEntries = createPolicyEntries(thingId, resourcePermissions);
-
-        final Bson policiesFilter = createThingRemovalFilter(thingId);
-
-        return new PolicyUpdate(policiesFilter, policyEntries, PULL_GLOBAL_READS, pushGlobalReads, PULL_ACL);
     }
 
     private static Set<Document> getGlobalReadsDocuments(final Enforcer policyEnforcer) {
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.BsonString;
+import org.bson.Document;
+import org.eclipse.ditto.services.utils.persistence.mongo.assertions.BsonAssertions;
+import org.junit.Test;
+
+import com.mongodb.client.model.Filters;
+
+/**
+ * Unit test for {@link KeyDictionary}.
+ */
+public final class KeyDictionaryTest {
+
+    private static final String LOCATION = "attribute/location";
+    private static final String LOCATION_LATITUDE = "attribute/location/latitude";
+    private static final String TEMPERATURE = "features/properties/temperature/value";
+
+    private static final KeyDictionary DICTIONARY =
+            KeyDictionary.of(Arrays.asList(LOCATION, LOCATION_LATITUDE, TEMPERATURE));
+
+    @Test
+    public void encodeAndDecodeInternedKeys() {
+        assertThat(DICTIONARY.encode(LOCATION)).isEqualTo("#0");
+        assertThat(DICTIONARY.encode(TEMPERATURE)).isEqualTo("#2");
+        assertThat(DICTIONARY.decode("#2")).isEqualTo(TEMPERATURE);
+    }
+
+    @Test
+    public void keepUnknownKeysPlain() {
+        assertThat(DICTIONARY.encode("attribute/model")).isEqualTo("attribute/model");
+        assertThat(DICTIONARY.decode("attribute/model")).isEqualTo("attribute/model");
+        assertThat(DICTIONARY.decode("#z")).isEqualTo("#z");
+    }
+
+    @Test
+    public void rejectInvalidKeys() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> KeyDictionary.of(Collections.singletonList("location")));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> KeyDictionary.of(Arrays.asList(LOCATION, LOCATION)));
+    }
+
+    @Test
+    public void encodeKeysOfInternalEntries() {
+        final List<Document> entries = Arrays.asList(
+                new Document(PersistenceConstants.FIELD_INTERNAL_KEY, LOCATION),
+                new Document(PersistenceConstants.FIELD_INTERNAL_FEATURE_ID, "f1"));
+
+        DICTIONARY.encodeKeys(entries);
+
+        assertThat(entries.get(0).get(PersistenceConstants.FIELD_INTERNAL_KEY)).isEqualTo("#0");
+        assertThat(entries.get(1)).isEqualTo(new Document(PersistenceConstants.FIELD_INTERNAL_FEATURE_ID, "f1"));
+    }
+
+    @Test
+    public void keyFilterMatchesCodeAndPlainKey() {
+        BsonAssertions.assertThat(DICTIONARY.keyFilter(PersistenceConstants.FIELD_PATH_KEY, LOCATION))
+                .isEqualTo(Filters.in(PersistenceConstants.FIELD_PATH_KEY, "#0", LOCATION));
+        BsonAssertions.assertThat(DICTIONARY.keyFilter(PersistenceConstants.FIELD_PATH_KEY, "attribute/model"))
+                .isEqualTo(Filters.eq(PersistenceConstants.FIELD_PATH_KEY, "attribute/model"));
+    }
+
+    @Test
+    public void keyRegexFilterMatchesCodesOfMatchingKeys() {
+        final String regex = "^attribute/location(/|\\z)";
+
+        BsonAssertions.assertThat(DICTIONARY.keyRegexFilter(PersistenceConstants.FIELD_PATH_KEY, regex))
+                .isEqualTo(Filters.or(Filters.regex(PersistenceConstants.FIELD_PATH_KEY, regex),
+                        Filters.in(PersistenceConstants.FIELD_PATH_KEY, Arrays.asList("#0", "#1"))));
+        BsonAssertions.assertThat(KeyDictionary.empty().keyRegexFilter(PersistenceConstants.FIELD_PATH_KEY, regex))
+                .isEqualTo(Filters.regex(PersistenceConstants.FIELD_PATH_KEY, regex));
+    }
+
+    @Test
+    public void keyRegexConditionMatchesCodesOfMatchingKeys() {
+        final String regex = "^features/properties/temperature(/|\\z)";
+        final Document regexCondition = new Document(PersistenceConstants.FIELD_INTERNAL_KEY,
+                new Document(PersistenceConstants.REGEX, regex));
+
+        assertThat(DICTIONARY.keyRegexCondition(regex)).isEqualTo(new Document(PersistenceConstants.OR,
+                Arrays.asList(regexCondition, new Document(PersistenceConstants.FIELD_INTERNAL_KEY,
+                        new Document(PersistenceConstants.IN, Collections.singletonList("#2"))))));
+        assertThat(KeyDictionary.empty().keyRegexCondition(regex)).isEqualTo(regexCondition);
+    }
+
+    @Test
+    public void decodeExpressionOfEmptyDictionaryIsTheVariable() {
+        assertThat(KeyDictionary.empty().decodeExpression(PersistenceConstants.FIELD_INTERNAL_KEY_VARIABLE))
+                .isEqualTo(new BsonString(PersistenceConstants.FIELD_INTERNAL_KEY_VARIABLE));
+        assertThat(DICTIONARY.decodeExpression(PersistenceConstants.FIELD_INTERNAL_KEY_VARIABLE).isDocument())
+                .isTrue();
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl;
+import org.eclipse.ditto.services.thingsearch.persistence.Indices;
+import org.eclipse.ditto.services.utils.persistence.mongo.assertions.BsonAssertions;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.Index;
+import org.junit.Test;
+
+import com.mongodb.client.model.Filters;
+
+/**
+ * Unit test for {@link QueryPlanner}.
+ */
+public final class QueryPlannerTest {
+
+    private static final Bson FILTER = Filters.eq("filter", "of the criteria");
+
+    private static final QueryPlanner PLANNER = QueryPlanner.of(Arrays.asList("serial", "/location/city"));
+
+    private final CriteriaFactory cf = new CriteriaFactoryImpl();
+    private final ThingsFieldExpressionFactory tf = new ThingsFieldExpressionFactoryImpl();
+
+    @Test
+    public void addIndexedFilterForEqualityOnIndexedAttribute() {
+        final Criteria criteria = cf.and(Arrays.asList(
+                cf.fieldCriteria(tf.filterByAttribute("serial"), cf.eq("x")),
+                cf.fieldCriteria(tf.filterByAttribute("model"), cf.eq("y"))));
+
+        BsonAssertions.assertThat(PLANNER.plan(criteria, FILTER))
+                .isEqualTo(Filters.and(FILTER, Filters.eq("attributes.serial", "x")));
+    }
+
+    @Test
+    public void addIndexedFilterForNestedIndexedAttribute() {
+        final Criteria criteria = cf.fieldCriteria(tf.filterByAttribute("location/city"),
+                cf.in(Arrays.asList("Berlin", "Immenstaad")));
+
+        BsonAssertions.assertThat(PLANNER.plan(criteria, FILTER))
+                .isEqualTo(Filters.and(FILTER,
+                        Filters.in("attributes.location.city", Arrays.asList("Berlin", "Immenstaad"))));
+    }
+
+    @Test
+    public void keepFilterOfCriteriaWithoutIndexedAttribute() {
+        final Criteria criteria = cf.or(Arrays.asList(
+                cf.fieldCriteria(tf.filterByAttribute("serial"), cf.eq("x")),
+                cf.fieldCriteria(tf.filterByAttribute("model"), cf.eq("y"))));
+
+        assertThat(PLANNER.plan(criteria, FILTER)).isSameAs(FILTER);
+        assertThat(PLANNER.plan(cf.fieldCriteria(tf.filterByAttribute("serial"), cf.ne("x")), FILTER))
+                .isSameAs(FILTER);
+        assertThat(PLANNER.plan(cf.nor(cf.fieldCriteria(tf.filterByAttribute("serial"), cf.eq("x"))), FILTER))
+                .isSameAs(FILTER);
+        assertThat(QueryPlanner.empty().plan(cf.fieldCriteria(tf.filterByAttribute("serial"), cf.eq("x")), FILTER))
+                .isSameAs(FILTER);
+    }
+
+    @Test
+    public void indicesContainDedicatedIndicesOfIndexedAttributes() {
+        final List<Index> indices = PLANNER.getIndices();
+
+        assertThat(indices).containsAll(Indices.Things.all());
+        assertThat(indices).contains(Indices.Things.indexedAttribute("attributes.serial"),
+                Indices.Things.indexedAttribute("attributes.location.city"));
+        assertThat(QueryPlanner.empty().getIndices()).isEqualTo(Indices.Things.all());
+    }
+
+    @Test
+    public void rejectEmptyAttributePath() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> QueryPlanner.of(Collections.singletonList("/")));
+    }
+
+}
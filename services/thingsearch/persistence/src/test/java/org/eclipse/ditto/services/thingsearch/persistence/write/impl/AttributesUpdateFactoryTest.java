@@ -21,6 +21,7 @@ import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.things.Attributes;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -46,7 +47,7 @@ public final class AttributesUpdateFactoryTest {
                 .thenReturn(restrictedValue);
 
         final List<Bson> updates = AttributesUpdateFactory
-                .createAttributesUpdates(indexLengthRestrictionEnforcer, pointer, value);
+                .createAttributesUpdates(indexLengthRestrictionEnforcer, pointer, value, KeyDictionary.empty());
 
         assertThat(updates.size())
                 .isEqualTo(3);
@@ -70,7 +71,7 @@ public final class AttributesUpdateFactoryTest {
                 .thenReturn(restrictedAttributes);
 
         final List<Bson> updates = AttributesUpdateFactory
-                .createAttributesUpdate(indexLengthRestrictionEnforcer, attributes);
+                .createAttributesUpdate(indexLengthRestrictionEnforcer, attributes, KeyDictionary.empty());
 
         assertThat(updates.size())
                 .isEqualTo(3);
@@ -85,7 +86,8 @@ public final class AttributesUpdateFactoryTest {
 
     @Test
     public void createAttributeDeletionUpdate() {
-        assertThat(AttributesUpdateFactory.createAttributeDeletionUpdate(JsonPointer.of("manufacturer")))
+        assertThat(AttributesUpdateFactory.createAttributeDeletionUpdate(JsonPointer.of("manufacturer"),
+                KeyDictionary.empty()))
                 .isNotNull();
     }
 
@@ -24,6 +24,7 @@ import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.things.Feature;
 import org.eclipse.ditto.model.things.FeatureProperties;
 import org.eclipse.ditto.model.things.Features;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -54,7 +55,8 @@ public final class FeaturesUpdateFactoryTest {
     @Test
     public void createDeleteFeaturePropertyUpdate() {
         assertThat(FeaturesUpdateFactory
-                .createDeleteFeaturePropertyUpdate("text-to-speech-actor", JsonPointer.of("version")))
+                .createDeleteFeaturePropertyUpdate("text-to-speech-actor", JsonPointer.of("version"),
+                        KeyDictionary.empty()))
                 .isNotNull();
     }
 
@@ -73,7 +75,7 @@ public final class FeaturesUpdateFactoryTest {
 
         final List<Bson> updates = FeaturesUpdateFactory.createUpdateForFeature(
                 indexLengthRestrictionEnforcer,
-                feature, true);
+                feature, true, KeyDictionary.empty());
 
         verify(indexLengthRestrictionEnforcer).enforceRestrictions(feature);
 
@@ -100,7 +102,7 @@ public final class FeaturesUpdateFactoryTest {
 
         final List<Bson> updates = FeaturesUpdateFactory.createUpdateForFeature(
                 indexLengthRestrictionEnforcer,
-                feature, false);
+                feature, false, KeyDictionary.empty());
 
         verify(indexLengthRestrictionEnforcer).enforceRestrictions(feature);
 
@@ -126,7 +128,7 @@ public final class FeaturesUpdateFactoryTest {
 
         final List<Bson> updates = FeaturesUpdateFactory.createUpdateForFeatureProperties(
                 indexLengthRestrictionEnforcer,
-                featureId, properties);
+                featureId, properties, KeyDictionary.empty());
 
         verify(indexLengthRestrictionEnforcer).enforceRestrictions(featureId, properties);
 
@@ -151,7 +153,7 @@ public final class FeaturesUpdateFactoryTest {
                 .thenReturn(restrictedValue);
         final List<Bson> updates = FeaturesUpdateFactory.createUpdateForFeatureProperty(
                 indexLengthRestrictionEnforcer,
-                featureId, pointer, value);
+                featureId, pointer, value, KeyDictionary.empty());
 
         verify(indexLengthRestrictionEnforcer).enforceRestrictionsOnFeatureProperty(featureId, pointer, value);
         assertThat(updates)
@@ -179,7 +181,8 @@ public final class FeaturesUpdateFactoryTest {
         when(indexLengthRestrictionEnforcer.enforceRestrictions(any(Features.class)))
                 .thenReturn(restricted);
 
-        final List<Bson> updates = FeaturesUpdateFactory.updateFeatures(indexLengthRestrictionEnforcer, features);
+        final List<Bson> updates = FeaturesUpdateFactory.updateFeatures(indexLengthRestrictionEnforcer, features,
+                KeyDictionary.empty());
         assertThat(updates)
                 .isNotNull();
         assertThat(updates.size())
@@ -10,6 +10,7 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.impl;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.REGEX_START_THING_ID;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
@@ -52,6 +53,8 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.mongodb.client.model.Filters;
+
 /**
  * Unit test for {@link PolicyUpdateFactory}.
  */
@@ -225,6 +228,48 @@ public final class PolicyUpdateFactoryTest {
         assertPolicyUpdate(policyUpdate, expectedPolicyDocs, createPushGlobalReadsBson(expectedGlobalReadsSubjects));
     }
 
+    @Test
+    public void createPolicyIndexDiffUpdateOnlyContainsChangedEntries() {
+        final Thing thingWithAttributesOnly = TestConstants.Thing.THING.toBuilder()
+                .removeAllFeatures()
+                .build();
+
+        final Subject subjectWithLocationGrant = createSubject("withLocationGrant");
+        final Policy changedPolicy = defaultPolicy.toBuilder()
+                .set(createPolicyEntry(THING_ATTRIBUTES_LOCATION_RESOURCE_KEY, subjectWithLocationGrant,
+                        READ_PERMISSIONS, NO_PERMISSIONS))
+                .build();
+        final Enforcer changedPolicyEnforcer = PolicyEnforcers.defaultEvaluator(changedPolicy);
+
+        final PolicyUpdate policyUpdate = PolicyUpdateFactory.createPolicyIndexDiffUpdate(thingWithAttributesOnly,
+                policyEnforcer, changedPolicyEnforcer);
+
+        final Set<Document> expectedPolicyDocs = toSet(
+                createPolicyIndexDoc("attribute/location/latitude",
+                        toSubjectIdsSet(TestConstants.Policy.SUBJECT, subjectWithLocationGrant),
+                        Collections.emptySet()),
+                createPolicyIndexDoc("attribute/location/longitude",
+                        toSubjectIdsSet(TestConstants.Policy.SUBJECT, subjectWithLocationGrant),
+                        Collections.emptySet())
+        );
+        BsonAssertions.assertThat(policyUpdate.getPolicyIndexInsertEntries()).isEqualTo(expectedPolicyDocs);
+        BsonAssertions.assertThat(policyUpdate.getPolicyIndexRemoveFilter())
+                .isEqualTo(Filters.in(FIELD_ID, TestConstants.Thing.THING_ID + ":attribute/location/latitude",
+                        TestConstants.Thing.THING_ID + ":attribute/location/longitude"));
+        assertPushGlobalReads(createPushGlobalReadsBson(TestConstants.Policy.SUBJECT, subjectWithLocationGrant),
+                policyUpdate.getPushGlobalReads());
+    }
+
+    @Test
+    public void createPolicyIndexDiffUpdateForUnchangedPermissionsIsEmpty() {
+        final PolicyUpdate policyUpdate =
+                PolicyUpdateFactory.createPolicyIndexDiffUpdate(TestConstants.Thing.THING, policyEnforcer,
+                        PolicyEnforcers.defaultEvaluator(defaultPolicy));
+
+        assertThat(policyUpdate.getPolicyIndexRemoveFilter()).isNull();
+        assertThat(policyUpdate.getPolicyIndexInsertEntries()).isEmpty();
+    }
+
     private static PolicyEntry createPolicyEntry(final ResourceKey rootResourceKey,
             final Subject subject,
             final Iterable<String> granted,
@@ -11,8 +11,12 @@
 package org.eclipse.ditto.services.thingsearch.starter.actors;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonObject;
@@ -28,8 +32,11 @@ import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
+import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReport;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrievePolicyFanoutStatus;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrievePolicyFanoutStatusResponse;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.query.AggregationQueryActor;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryActor;
@@ -91,6 +98,8 @@ public final class SearchActor extends AbstractActor {
 
     private static final int QUERY_ASK_TIMEOUT = 500;
 
+    private static final long NAMESPACE_STATISTICS_ASK_TIMEOUT = 5000L;
+
     private static final String TRACING_THINGS_SEARCH = "things_search_query";
     private static final String QUERY_PARSING_SEGMENT_NAME = "query_parsing";
     private static final String DATABASE_ACCESS_SEGMENT_NAME = "database_access";
@@ -104,16 +113,22 @@ public final class SearchActor extends AbstractActor {
     private final ActorRef aggregationQueryActor;
     private final ActorRef findQueryActor;
     private final ThingsSearchPersistence searchPersistence;
+    @Nullable private final ActorRef namespaceStatisticsActor;
+    @Nullable private final ActorRef policyFanoutActor;
     private final ActorMaterializer materializer;
     private final ExecutionContextExecutor dispatcher;
 
     private SearchActor(final ActorRef aggregationQueryActor,
             final ActorRef findQueryActor,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            @Nullable final ActorRef namespaceStatisticsActor,
+            @Nullable final ActorRef policyFanoutActor) {
 
         this.aggregationQueryActor = aggregationQueryActor;
         this.findQueryActor = findQueryActor;
         this.searchPersistence = searchPersistence;
+        this.namespaceStatisticsActor = namespaceStatisticsActor;
+        this.policyFanoutActor = policyFanoutActor;
         materializer = ActorMaterializer.create(getContext().system());
 
         dispatcher = getContext().system().dispatchers().lookup(SEARCH_DISPATCHER_ID);
@@ -127,18 +142,25 @@ public final class SearchActor extends AbstractActor {
      * @param findQueryActor ActorRef for the {@link QueryActor} to construct find queries.
      * @param searchPersistence the {@link ThingsSearchPersistence} to use in order to execute {@link
      * PolicyRestrictedSearchAggregation}s.
+     * @param namespaceStatisticsActor the {@code NamespaceStatisticsActor} to retrieve namespace reports from or
+     * {@code null} if namespace reports are to be aggregated from the search persistence.
+     * @param policyFanoutActor the {@code PolicyFanoutActor} to retrieve the status of the policy fanout from or
+     * {@code null} if the policy fanout is disabled.
      * @return the Akka configuration Props object.
      */
     static Props props(final ActorRef aggregationQueryActor,
             final ActorRef findQueryActor,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            @Nullable final ActorRef namespaceStatisticsActor,
+            @Nullable final ActorRef policyFanoutActor) {
 
         return Props.create(SearchActor.class, new Creator<SearchActor>() {
             private static final long serialVersionUID = 1L;
 
             @Override
             public SearchActor create() {
-                return new SearchActor(aggregationQueryActor, findQueryActor, searchPersistence);
+                return new SearchActor(aggregationQueryActor, findQueryActor, searchPersistence,
+                        namespaceStatisticsActor, policyFanoutActor);
             }
         });
     }
@@ -150,6 +172,7 @@ public final class SearchActor extends AbstractActor {
                 .match(SudoCountThings.class, this::count)
                 .match(QueryThings.class, this::query)
                 .match(SudoRetrieveNamespaceReport.class, this::namespaceReport)
+                .match(SudoRetrievePolicyFanoutStatus.class, this::policyFanoutStatus)
                 .matchAny(any -> log.warning("Got unknown message '{}'", any))
                 .build();
     }
@@ -159,9 +182,41 @@ public final class SearchActor extends AbstractActor {
         LogUtil.enhanceLogWithCorrelationId(log, dittoHeaders.getCorrelationId());
         log.info("Processing SudoRetrieveNamespaceReport command: {}", namespaceReport);
 
-        PatternsCS.pipe(searchPersistence.generateNamespaceCountReport()
-                .runWith(Sink.head(), materializer), dispatcher)
-                .to(getSender());
+        if (null != namespaceStatisticsActor) {
+            // the maintained statistics are only unavailable until they are initialized
+            final CompletionStage<Object> report =
+                    PatternsCS.ask(namespaceStatisticsActor, namespaceReport, NAMESPACE_STATISTICS_ASK_TIMEOUT)
+                            .exceptionally(error -> null)
+                            .thenCompose(response -> {
+                                if (response instanceof SearchNamespaceReportResult) {
+                                    return CompletableFuture.completedFuture(response);
+                                } else {
+                                    return generateNamespaceCountReport();
+                                }
+                            });
+            PatternsCS.pipe(report, dispatcher).to(getSender());
+        } else {
+            PatternsCS.pipe(generateNamespaceCountReport(), dispatcher).to(getSender());
+        }
+    }
+
+    private void policyFanoutStatus(final SudoRetrievePolicyFanoutStatus policyFanoutStatus) {
+        final DittoHeaders dittoHeaders = policyFanoutStatus.getDittoHeaders();
+        LogUtil.enhanceLogWithCorrelationId(log, dittoHeaders.getCorrelationId());
+        log.info("Processing SudoRetrievePolicyFanoutStatus command: {}", policyFanoutStatus);
+
+        if (null != policyFanoutActor) {
+            policyFanoutActor.forward(policyFanoutStatus, getContext());
+        } else {
+            final JsonObject status = JsonObject.newBuilder().set("enabled", false).build();
+            getSender().tell(SudoRetrievePolicyFanoutStatusResponse.of(status, dittoHeaders), getSelf());
+        }
+    }
+
+    private CompletionStage<Object> generateNamespaceCountReport() {
+        return searchPersistence.generateNamespaceCountReport()
+                .<Object>map(report -> report)
+                .runWith(Sink.head(), materializer);
     }
 
     private void count(final Command countThings) {
@@ -16,8 +16,12 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_SYNC_STATE_COLLECTION_NAME;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.query.QueryBuilderFactory;
 import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
 import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
@@ -27,6 +31,7 @@ import org.eclipse.ditto.services.base.config.HttpConfigReader;
 import org.eclipse.ditto.services.base.config.ServiceConfigReader;
 import org.eclipse.ditto.services.thingsearch.common.util.ConfigKeys;
 import org.eclipse.ditto.services.thingsearch.common.util.RootSupervisorStrategyFactory;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
 import org.eclipse.ditto.services.thingsearch.persistence.query.AggregationQueryActor;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryActor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.AggregationBuilderFactory;
@@ -34,12 +39,16 @@ import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearch
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoAggregationBuilderFactory;
 import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQueryBuilderFactory;
+import org.eclipse.ditto.services.thingsearch.persistence.read.query.QueryPlanner;
 import org.eclipse.ditto.services.thingsearch.starter.actors.health.SearchHealthCheckingActorFactory;
+import org.eclipse.ditto.services.thingsearch.updater.actors.NamespaceStatisticsActor;
+import org.eclipse.ditto.services.thingsearch.updater.actors.PolicyFanoutActor;
 import org.eclipse.ditto.services.thingsearch.updater.actors.SearchUpdaterRootActor;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamMetadataPersistence;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
 import org.eclipse.ditto.services.utils.config.ConfigUtil;
 import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
+import org.eclipse.ditto.services.utils.health.status.StartupPhases;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.monitoring.KamonCommandListener;
 import org.eclipse.ditto.services.utils.persistence.mongo.monitoring.KamonConnectionPoolListener;
@@ -59,6 +68,8 @@ import akka.actor.Status;
 import akka.actor.SupervisorStrategy;
 import akka.cluster.Cluster;
 import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.cluster.singleton.ClusterSingletonProxy;
+import akka.cluster.singleton.ClusterSingletonProxySettings;
 import akka.event.Logging;
 import akka.event.LoggingAdapter;
 import akka.http.javadsl.ConnectHttp;
@@ -81,6 +92,10 @@ public final class SearchRootActor extends AbstractActor {
      */
     public static final String ACTOR_NAME = "thingsSearchRoot";
 
+    private static final String NAMESPACE_STATISTICS_PROXY_NAME = NamespaceStatisticsActor.ACTOR_NAME + "Proxy";
+
+    private static final String POLICY_FANOUT_PROXY_NAME = PolicyFanoutActor.ACTOR_NAME + "Proxy";
+
     private final LoggingAdapter log = Logging.getLogger(getContext().system(), this);
 
     private final SupervisorStrategy supervisorStrategy = RootSupervisorStrategyFactory.createStrategy(log);
@@ -96,18 +111,27 @@ public final class SearchRootActor extends AbstractActor {
                 rawConfig.getBoolean(ConfigKeys.MONITORING_CONNECTION_POOL_ENABLED) ?
                         new KamonConnectionPoolListener(KAMON_METRICS_PREFIX) : null;
 
-        final MongoClientWrapper mongoClientWrapper =
-                MongoClientWrapper.newInstance(rawConfig, kamonCommandListener, kamonConnectionPoolListener);
-
-        final StreamMetadataPersistence thingsSyncPersistence =
-                MongoSearchSyncPersistence.initializedInstance(THINGS_SYNC_STATE_COLLECTION_NAME, mongoClientWrapper,
-                        materializer);
+        final StartupPhases startupPhases = StartupPhases.getInstance();
+        final MongoClientWrapper mongoClientWrapper = startupPhases.measure("mongo-client", () ->
+                MongoClientWrapper.newInstance(rawConfig, kamonCommandListener, kamonConnectionPoolListener));
 
+        // the sync state collections are independent of each other, thus they are initialized concurrently
+        final CompletableFuture<StreamMetadataPersistence> thingsSyncPersistenceInitialized =
+                CompletableFuture.supplyAsync(() -> startupPhases.measure("things-sync-state-collection", () ->
+                        MongoSearchSyncPersistence.initializedInstance(THINGS_SYNC_STATE_COLLECTION_NAME,
+                                mongoClientWrapper, materializer)));
         final StreamMetadataPersistence policiesSyncPersistence =
-                MongoSearchSyncPersistence.initializedInstance(POLICIES_SYNC_STATE_COLLECTION_NAME, mongoClientWrapper,
-                        materializer);
+                startupPhases.measure("policies-sync-state-collection", () ->
+                        MongoSearchSyncPersistence.initializedInstance(POLICIES_SYNC_STATE_COLLECTION_NAME,
+                                mongoClientWrapper, materializer));
+        final StreamMetadataPersistence thingsSyncPersistence = thingsSyncPersistenceInitialized.join();
 
-        final ActorRef searchActor = initializeSearchActor(configReader, mongoClientWrapper);
+        final ActorRef namespaceStatisticsActor = startNamespaceStatisticsProxy(rawConfig);
+
+        final ActorRef policyFanoutActor = startPolicyFanoutProxy(rawConfig);
+
+        final ActorRef searchActor = initializeSearchActor(configReader, mongoClientWrapper, namespaceStatisticsActor,
+                policyFanoutActor);
 
         final ActorRef healthCheckingActor = initializeHealthCheckActor(configReader, mongoClientWrapper,
                 thingsSyncPersistence, policiesSyncPersistence);
@@ -117,19 +141,60 @@ public final class SearchRootActor extends AbstractActor {
         createHealthCheckingActorHttpBinding(configReader.http(), healthCheckingActor, materializer);
 
         startChildActor(SearchUpdaterRootActor.ACTOR_NAME, SearchUpdaterRootActor.props(configReader, pubSubMediator,
-                materializer, thingsSyncPersistence, policiesSyncPersistence));
+                materializer, thingsSyncPersistence, policiesSyncPersistence, namespaceStatisticsActor,
+                policyFanoutActor));
+    }
+
+    @Nullable
+    private ActorRef startNamespaceStatisticsProxy(final Config rawConfig) {
+        if (rawConfig.getBoolean(ConfigKeys.NAMESPACE_STATISTICS_ENABLED)) {
+            final String singletonManagerPath = getSelf().path()
+                    .child(SearchUpdaterRootActor.ACTOR_NAME)
+                    .child(NamespaceStatisticsActor.ACTOR_NAME)
+                    .toStringWithoutAddress();
+            final ClusterSingletonProxySettings settings =
+                    ClusterSingletonProxySettings.create(getContext().system()).withRole(ConfigKeys.SEARCH_ROLE);
+            return startChildActor(NAMESPACE_STATISTICS_PROXY_NAME,
+                    ClusterSingletonProxy.props(singletonManagerPath, settings));
+        } else {
+            log.info("Namespace statistics are disabled.");
+            return null;
+        }
+    }
+
+    @Nullable
+    private ActorRef startPolicyFanoutProxy(final Config rawConfig) {
+        if (rawConfig.getBoolean(ConfigKeys.POLICY_FANOUT_ENABLED)) {
+            final String singletonManagerPath = getSelf().path()
+                    .child(SearchUpdaterRootActor.ACTOR_NAME)
+                    .child(PolicyFanoutActor.ACTOR_NAME)
+                    .toStringWithoutAddress();
+            final ClusterSingletonProxySettings settings =
+                    ClusterSingletonProxySettings.create(getContext().system()).withRole(ConfigKeys.SEARCH_ROLE);
+            return startChildActor(POLICY_FANOUT_PROXY_NAME,
+                    ClusterSingletonProxy.props(singletonManagerPath, settings));
+        } else {
+            log.info("Policy fanout is disabled.");
+            return null;
+        }
     }
 
     private ActorRef initializeSearchActor(final ServiceConfigReader configReader, final MongoClientWrapper
-            mongoClientWrapper) {
+            mongoClientWrapper, @Nullable final ActorRef namespaceStatisticsActor,
+            @Nullable final ActorRef policyFanoutActor) {
 
         final Config rawConfig = configReader.getRawConfig();
-        final ThingsSearchPersistence thingsSearchPersistence =
-                new MongoThingsSearchPersistence(mongoClientWrapper, getContext().system());
+        final KeyDictionary keyDictionary = SearchUpdaterRootActor.getKeyDictionary(rawConfig);
+        final QueryPlanner queryPlanner = QueryPlanner.of(rawConfig.hasPath(ConfigKeys.QUERY_PLANNER_INDEXED_ATTRIBUTES)
+                ? rawConfig.getStringList(ConfigKeys.QUERY_PLANNER_INDEXED_ATTRIBUTES)
+                : Collections.emptyList());
+        final ThingsSearchPersistence thingsSearchPersistence = new MongoThingsSearchPersistence(mongoClientWrapper,
+                getContext().system(), keyDictionary, queryPlanner);
 
         final boolean indexInitializationEnabled = rawConfig.getBoolean(ConfigKeys.INDEX_INITIALIZATION_ENABLED);
         if (indexInitializationEnabled) {
-            thingsSearchPersistence.initializeIndices();
+            StartupPhases.getInstance()
+                    .measureAsync("search-index-initialization", thingsSearchPersistence::initializeIndices);
         } else {
             log.info("Skipping IndexInitializer because it is disabled.");
         }
@@ -137,7 +202,7 @@ public final class SearchRootActor extends AbstractActor {
         final CriteriaFactory criteriaFactory = new CriteriaFactoryImpl();
         final ThingsFieldExpressionFactory fieldExpressionFactory = new ThingsFieldExpressionFactoryImpl();
         final AggregationBuilderFactory aggregationBuilderFactory =
-                new MongoAggregationBuilderFactory(configReader.limits());
+                new MongoAggregationBuilderFactory(configReader.limits(), keyDictionary, queryPlanner);
         final QueryBuilderFactory queryBuilderFactory = new MongoQueryBuilderFactory(configReader.limits());
         final ActorRef aggregationQueryActor = startChildActor(AggregationQueryActor.ACTOR_NAME,
                 AggregationQueryActor.props(criteriaFactory, fieldExpressionFactory, aggregationBuilderFactory));
@@ -145,7 +210,8 @@ public final class SearchRootActor extends AbstractActor {
                 QueryActor.props(criteriaFactory, fieldExpressionFactory, queryBuilderFactory));
 
         return startChildActor(SearchActor.ACTOR_NAME,
-                SearchActor.props(aggregationQueryActor, apiV1QueryActor, thingsSearchPersistence));
+                SearchActor.props(aggregationQueryActor, apiV1QueryActor, thingsSearchPersistence,
+                        namespaceStatisticsActor, policyFanoutActor));
     }
 
     private ActorRef initializeHealthCheckActor(final ServiceConfigReader configReader, final MongoClientWrapper mongoClientWrapper,
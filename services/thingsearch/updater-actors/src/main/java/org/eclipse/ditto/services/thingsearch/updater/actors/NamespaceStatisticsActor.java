@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.services.models.thingsearch.NamespaceStatisticsDelta;
+import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
+import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceResultEntry;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReport;
+import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Cancellable;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Creator;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.PatternsCS;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Cluster singleton maintaining the statistics of all namespaces: the number of Things, the rate of events and the
+ * size of the events since the actor was started. The statistics are updated incrementally with the
+ * {@link NamespaceStatisticsDelta}s the {@link ThingsUpdater}s send periodically for the Thing events they process.
+ * The number of Things is initialized from the search index and recounted in a long interval in order to correct the
+ * drift caused by lost events.
+ * <p>
+ * A {@link SudoRetrieveNamespaceReport} is answered with the latest {@link SearchNamespaceReportResult} without
+ * accessing the database.
+ * </p>
+ */
+public final class NamespaceStatisticsActor extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "namespaceStatistics";
+
+    /**
+     * Weight of the latest interval in the exponential moving average of the event rate.
+     */
+    private static final double EVENT_RATE_SMOOTHING = 0.3;
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ThingsSearchPersistence searchPersistence;
+    private final Duration updateInterval;
+    private final Duration recountInterval;
+    private final ActorMaterializer materializer;
+    private final Map<String, NamespaceStatistics> statistics;
+    private final Map<String, Long> thingCountDeltasDuringRecount;
+
+    private Cancellable updateTick;
+    private Cancellable recountTick;
+    private long lastUpdateNanos;
+    private boolean recountInProgress;
+    private SearchNamespaceReportResult latestReport;
+
+    private NamespaceStatisticsActor(final ThingsSearchPersistence searchPersistence,
+            final Duration updateInterval,
+            final Duration recountInterval) {
+
+        this.searchPersistence = searchPersistence;
+        this.updateInterval = updateInterval;
+        this.recountInterval = recountInterval;
+        materializer = ActorMaterializer.create(getContext());
+        statistics = new HashMap<>();
+        thingCountDeltasDuringRecount = new HashMap<>();
+        lastUpdateNanos = System.nanoTime();
+        recountInProgress = false;
+        latestReport = null;
+    }
+
+    /**
+     * Creates Akka configuration object Props for this NamespaceStatisticsActor.
+     *
+     * @param searchPersistence the search persistence to count the Things of each namespace with.
+     * @param updateInterval how often the event rates and the report are updated.
+     * @param recountInterval how often the Things of each namespace are recounted.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final ThingsSearchPersistence searchPersistence,
+            final Duration updateInterval,
+            final Duration recountInterval) {
+
+        return Props.create(NamespaceStatisticsActor.class, new Creator<NamespaceStatisticsActor>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public NamespaceStatisticsActor create() {
+                return new NamespaceStatisticsActor(searchPersistence, updateInterval, recountInterval);
+            }
+        });
+    }
+
+    @Override
+    public void preStart() {
+        updateTick = schedule(updateInterval, updateInterval, UpdateTick.INSTANCE);
+        recountTick = schedule(Duration.ZERO, recountInterval, RecountTick.INSTANCE);
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != updateTick) {
+            updateTick.cancel();
+        }
+        if (null != recountTick) {
+            recountTick.cancel();
+        }
+
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(NamespaceStatisticsDelta.class, this::applyDelta)
+                .match(SudoRetrieveNamespaceReport.class, this::retrieveNamespaceReport)
+                .match(UpdateTick.class, tick -> updateReport())
+                .match(RecountTick.class, tick -> recount())
+                .match(SearchNamespaceReportResult.class, this::applyRecount)
+                .match(Status.Failure.class, this::recountFailed)
+                .matchAny(m -> {
+                    log.warning("Got unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void applyDelta(final NamespaceStatisticsDelta delta) {
+        delta.getEntries().forEach((namespace, entry) -> {
+            final NamespaceStatistics namespaceStatistics =
+                    statistics.computeIfAbsent(namespace, ns -> new NamespaceStatistics());
+            namespaceStatistics.thingCount = Math.max(0L, namespaceStatistics.thingCount + entry.getThingCountDelta());
+            namespaceStatistics.pendingEvents += entry.getEvents();
+            namespaceStatistics.eventBytes += entry.getEventBytes();
+            if (recountInProgress && 0L != entry.getThingCountDelta()) {
+                thingCountDeltasDuringRecount.merge(namespace, entry.getThingCountDelta(), Long::sum);
+            }
+        });
+    }
+
+    private void retrieveNamespaceReport(final SudoRetrieveNamespaceReport command) {
+        LogUtil.enhanceLogWithCorrelationId(log, command.getDittoHeaders().getCorrelationId());
+        if (null != latestReport) {
+            getSender().tell(latestReport, getSelf());
+        } else {
+            log.info("Namespace statistics are not initialized yet.");
+            getSender().tell(new Status.Failure(new IllegalStateException("Namespace statistics not initialized")),
+                    getSelf());
+        }
+    }
+
+    private void updateReport() {
+        final long now = System.nanoTime();
+        final double elapsedSeconds = Math.max(1.0, (now - lastUpdateNanos) / 1e9);
+        lastUpdateNanos = now;
+
+        statistics.values().forEach(namespaceStatistics -> {
+            final double intervalRate = namespaceStatistics.pendingEvents / elapsedSeconds;
+            namespaceStatistics.eventsPerSecond = EVENT_RATE_SMOOTHING * intervalRate +
+                    (1 - EVENT_RATE_SMOOTHING) * namespaceStatistics.eventsPerSecond;
+            namespaceStatistics.pendingEvents = 0L;
+        });
+
+        // the report is only published after the Things were counted initially
+        if (null != latestReport) {
+            latestReport = buildReport();
+        }
+    }
+
+    private void recount() {
+        if (!recountInProgress) {
+            recountInProgress = true;
+            thingCountDeltasDuringRecount.clear();
+            PatternsCS.pipe(searchPersistence.generateNamespaceCountReport().runWith(Sink.head(), materializer),
+                    getContext().dispatcher())
+                    .to(getSelf());
+        }
+    }
+
+    private void applyRecount(final SearchNamespaceReportResult countReport) {
+        recountInProgress = false;
+        statistics.values().forEach(namespaceStatistics -> namespaceStatistics.thingCount = 0L);
+        countReport.getNamespaceEntries()
+                .forEach(entry -> statistics.computeIfAbsent(entry.getNamespace(), ns -> new NamespaceStatistics())
+                        .thingCount = entry.getCount());
+        // the count may have been started before the Things of the deltas received in the meantime were indexed
+        thingCountDeltasDuringRecount.forEach((namespace, thingCountDelta) -> {
+            final NamespaceStatistics namespaceStatistics = statistics.get(namespace);
+            namespaceStatistics.thingCount = Math.max(0L, namespaceStatistics.thingCount + thingCountDelta);
+        });
+        thingCountDeltasDuringRecount.clear();
+        latestReport = buildReport();
+        log.info("Recounted the Things of <{}> namespaces.", countReport.getNamespaceEntries().size());
+    }
+
+    private void recountFailed(final Status.Failure failure) {
+        recountInProgress = false;
+        thingCountDeltasDuringRecount.clear();
+        log.warning("Could not recount the Things of the namespaces: {}", failure.cause());
+        if (null == latestReport) {
+            getContext().getSystem()
+                    .scheduler()
+                    .scheduleOnce(FiniteDuration.apply(updateInterval.toMillis(), TimeUnit.MILLISECONDS), getSelf(),
+                            RecountTick.INSTANCE, getContext().dispatcher(), ActorRef.noSender());
+        }
+    }
+
+    private SearchNamespaceReportResult buildReport() {
+        final List<SearchNamespaceResultEntry> entries = new ArrayList<>(statistics.size());
+        statistics.forEach((namespace, namespaceStatistics) -> entries.add(
+                new SearchNamespaceResultEntry(namespace, namespaceStatistics.thingCount,
+                        namespaceStatistics.eventsPerSecond, namespaceStatistics.eventBytes)));
+        return new SearchNamespaceReportResult(Collections.unmodifiableList(entries));
+    }
+
+    private Cancellable schedule(final Duration initialDelay, final Duration interval, final Object message) {
+        return getContext().getSystem()
+                .scheduler()
+                .schedule(FiniteDuration.apply(initialDelay.toMillis(), TimeUnit.MILLISECONDS),
+                        FiniteDuration.apply(interval.toMillis(), TimeUnit.MILLISECONDS),
+                        getSelf(), message, getContext().dispatcher(), ActorRef.noSender());
+    }
+
+    /**
+     * Mutable statistics of one namespace, only accessed from within the actor.
+     */
+    private static final class NamespaceStatistics {
+
+        private long thingCount;
+        private long pendingEvents;
+        private double eventsPerSecond;
+        private long eventBytes;
+
+    }
+
+    private enum UpdateTick {
+        INSTANCE
+    }
+
+    private enum RecountTick {
+        INSTANCE
+    }
+
+}
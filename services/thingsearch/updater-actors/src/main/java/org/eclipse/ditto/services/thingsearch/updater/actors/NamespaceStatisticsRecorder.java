@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.services.models.thingsearch.NamespaceStatisticsDelta;
+import org.eclipse.ditto.signals.events.things.ThingCreated;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+/**
+ * Accumulates the changes of the statistics of namespaces caused by the {@link ThingEvent}s one {@link ThingsUpdater}
+ * processes as {@link NamespaceStatisticsDelta} for the {@link NamespaceStatisticsActor}. Must only be used from
+ * within one actor.
+ */
+@NotThreadSafe
+final class NamespaceStatisticsRecorder {
+
+    /**
+     * Only every n-th event of a namespace is serialized to determine its size; the size of the other events is
+     * estimated by the average size of the sampled events of the namespace.
+     */
+    static final int EVENT_SIZE_SAMPLE_INTERVAL = 16;
+
+    private static final NamespaceStatisticsDelta.Entry EMPTY_ENTRY = NamespaceStatisticsDelta.Entry.of(0L, 0L, 0L);
+
+    private final Map<String, NamespaceStatisticsDelta.Entry> entries = new HashMap<>();
+    private final Map<String, EventSizeSamples> eventSizeSamples = new HashMap<>();
+
+    /**
+     * Records a processed event whose size is sampled from its JSON representation.
+     *
+     * @param thingEvent the event.
+     * @param eventJson the JSON representation of the event.
+     */
+    void record(final ThingEvent<?> thingEvent, final JsonObject eventJson) {
+        final long eventBytes = eventSizeSamples
+                .computeIfAbsent(namespaceOf(thingEvent.getThingId()), namespace -> new EventSizeSamples())
+                .estimate(eventJson);
+        record(thingEvent, eventBytes);
+    }
+
+    /**
+     * Records a processed event.
+     *
+     * @param thingEvent the event.
+     * @param eventBytes the size of the serialized event.
+     */
+    void record(final ThingEvent<?> thingEvent, final long eventBytes) {
+        final long thingCountDelta;
+        if (thingEvent instanceof ThingCreated) {
+            thingCountDelta = 1L;
+        } else if (thingEvent instanceof ThingDeleted) {
+            thingCountDelta = -1L;
+        } else {
+            thingCountDelta = 0L;
+        }
+        entries.compute(namespaceOf(thingEvent.getThingId()), (namespace, entry) ->
+                add(null != entry ? entry : EMPTY_ENTRY, thingCountDelta, eventBytes));
+    }
+
+    /**
+     * Returns the changes recorded since the last invocation of this method and resets the recorder.
+     *
+     * @return the changes or an empty Optional if no event was recorded.
+     */
+    Optional<NamespaceStatisticsDelta> drain() {
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+        final NamespaceStatisticsDelta delta = NamespaceStatisticsDelta.of(entries);
+        entries.clear();
+        return Optional.of(delta);
+    }
+
+    private static NamespaceStatisticsDelta.Entry add(final NamespaceStatisticsDelta.Entry entry,
+            final long thingCountDelta, final long eventBytes) {
+
+        return NamespaceStatisticsDelta.Entry.of(entry.getThingCountDelta() + thingCountDelta,
+                entry.getEvents() + 1, entry.getEventBytes() + eventBytes);
+    }
+
+    private static String namespaceOf(final String thingId) {
+        final int separatorIndex = thingId.indexOf(':');
+        return separatorIndex < 0 ? "" : thingId.substring(0, separatorIndex);
+    }
+
+    /**
+     * Sizes of the sampled events of one namespace.
+     */
+    @NotThreadSafe
+    private static final class EventSizeSamples {
+
+        private long events;
+        private long sampledEvents;
+        private long sampledEventBytes;
+
+        private long estimate(final JsonObject eventJson) {
+            if (events++ % EVENT_SIZE_SAMPLE_INTERVAL == 0) {
+                sampledEvents++;
+                sampledEventBytes += eventJson.toString().length();
+            }
+            return sampledEventBytes / sampledEvents;
+        }
+
+    }
+
+}
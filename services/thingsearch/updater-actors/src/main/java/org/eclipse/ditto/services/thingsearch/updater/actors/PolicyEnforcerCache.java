@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyRevision;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import akka.actor.ActorRef;
+import akka.pattern.PatternsCS;
+
+/**
+ * Cache of the {@link Enforcer}s of policies shared by the {@link PolicyFanoutActor} and the {@link ThingUpdater}s of
+ * one cluster node. When the Things of a changed policy are re-indexed by the policy fanout, the policy is retrieved
+ * and its Enforcer is built once per policy revision and cluster node instead of once per Thing.
+ */
+final class PolicyEnforcerCache {
+
+    private static final long MAXIMUM_SIZE = 1000L;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10L);
+
+    private final Cache<PolicyTag, Entry> cache;
+
+    private PolicyEnforcerCache(final ActorRef policiesShardRegion, final Duration askTimeout) {
+        final Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(EXPIRE_AFTER_WRITE);
+        cache = CaffeineCache.of(caffeine, new Loader(policiesShardRegion, askTimeout));
+    }
+
+    /**
+     * Returns a new {@code PolicyEnforcerCache}.
+     *
+     * @param policiesShardRegion the shard region of the policies to retrieve the policies from.
+     * @param askTimeout the timeout of the retrieval of a policy.
+     * @return the cache.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static PolicyEnforcerCache of(final ActorRef policiesShardRegion, final Duration askTimeout) {
+        return new PolicyEnforcerCache(requireNonNull(policiesShardRegion), requireNonNull(askTimeout));
+    }
+
+    /**
+     * Returns the enforcer of a policy with at least the revision of the given tag. The policy is retrieved only if
+     * the cache contains no enforcer for the tag yet.
+     *
+     * @param policyTag ID and minimum revision of the policy.
+     * @return the cached entry or an empty Optional if the policy does not exist; the future fails if the policy
+     * could not be retrieved.
+     */
+    CompletionStage<Optional<Entry>> get(final PolicyTag policyTag) {
+        return cache.get(policyTag)
+                .thenApply(entry -> {
+                    entry.filter(e -> e.getRevision() != policyTag.getRevision())
+                            .ifPresent(e -> cache.put(PolicyTag.of(policyTag.getId(), e.getRevision()), e));
+                    return entry;
+                });
+    }
+
+    /**
+     * An enforcer together with the revision of the policy it was built from.
+     */
+    @Immutable
+    static final class Entry {
+
+        private final long revision;
+        private final Enforcer enforcer;
+
+        private Entry(final long revision, final Enforcer enforcer) {
+            this.revision = revision;
+            this.enforcer = enforcer;
+        }
+
+        long getRevision() {
+            return revision;
+        }
+
+        Enforcer getEnforcer() {
+            return enforcer;
+        }
+
+    }
+
+    private static final class Loader implements AsyncCacheLoader<PolicyTag, Entry> {
+
+        private final ActorRef policiesShardRegion;
+        private final Duration askTimeout;
+
+        private Loader(final ActorRef policiesShardRegion, final Duration askTimeout) {
+            this.policiesShardRegion = policiesShardRegion;
+            this.askTimeout = askTimeout;
+        }
+
+        @Override
+        public CompletableFuture<Entry> asyncLoad(final PolicyTag policyTag, final Executor executor) {
+            final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                    .correlationId("policyEnforcerCache-sudoRetrievePolicy-" + UUID.randomUUID())
+                    .build();
+            return PatternsCS.ask(policiesShardRegion, SudoRetrievePolicy.of(policyTag.getId(), dittoHeaders),
+                    askTimeout.toMillis())
+                    .thenApply(Loader::toEntry)
+                    .toCompletableFuture();
+        }
+
+        @Nullable
+        private static Entry toEntry(final Object response) {
+            if (response instanceof SudoRetrievePolicyResponse) {
+                final Policy policy = ((SudoRetrievePolicyResponse) response).getPolicy();
+                final long revision = policy.getRevision().map(PolicyRevision::toLong).orElse(0L);
+                return new Entry(revision, PolicyEnforcers.defaultEvaluator(policy));
+            }
+            // e.g. the policy was deleted: nothing is cached
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,464 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.streaming.IdentifiableStreamingMessage;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.thingsearch.ThingWithPolicyTag;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrievePolicyFanoutStatus;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrievePolicyFanoutStatusResponse;
+import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Creator;
+import akka.japi.Pair;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.PatternsCS;
+import akka.stream.ActorMaterializer;
+import akka.stream.KillSwitches;
+import akka.stream.SourceRef;
+import akka.stream.ThrottleMode;
+import akka.stream.UniqueKillSwitch;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Cluster singleton re-indexing the Things of changed policies. Instead of waking up all {@link ThingUpdater}s of the
+ * Things referencing a changed policy at once, each retrieving the Thing and the policy on its own, the policy is
+ * retrieved once per revision via the {@link PolicyEnforcerCache}, the IDs of the outdated Things are loaded from the
+ * search index and the Things are retrieved in pages with {@link SudoRetrieveThings}. Each retrieved Thing is sent as
+ * {@link ThingWithPolicyTag} to its {@link ThingUpdater}, which takes the enforcer of the policy from the
+ * {@code PolicyEnforcerCache} of its cluster node, with a bounded parallelism and a bounded number of Things per
+ * second. The ThingUpdaters remain the only writers of their Things to the search index. Things which could not be
+ * retrieved are delegated to their ThingUpdater with a {@link PolicyReferenceTag}.
+ * <p>
+ * Changed policies are processed one after another in the order of their first change; further changes of a queued
+ * policy are merged. The progress of the fanout can be retrieved with a {@link SudoRetrievePolicyFanoutStatus}.
+ * </p>
+ */
+public final class PolicyFanoutActor extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "policyFanout";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ThingsSearchUpdaterPersistence searchUpdaterPersistence;
+    private final PolicyEnforcerCache policyEnforcerCache;
+    private final ActorRef pubSubMediator;
+    private final ActorRef thingsUpdater;
+    private final int pageSize;
+    private final int parallelism;
+    private final int writesPerSecond;
+    private final Duration askTimeout;
+    private final ActorMaterializer materializer;
+    private final Map<String, Long> pendingPolicies;
+
+    @Nullable
+    private FanoutJob currentJob;
+
+    private PolicyFanoutActor(final ThingsSearchUpdaterPersistence searchUpdaterPersistence,
+            final PolicyEnforcerCache policyEnforcerCache,
+            final ActorRef pubSubMediator,
+            final ActorRef thingsUpdater,
+            final int pageSize,
+            final int parallelism,
+            final int writesPerSecond,
+            final Duration askTimeout) {
+
+        this.searchUpdaterPersistence = searchUpdaterPersistence;
+        this.policyEnforcerCache = policyEnforcerCache;
+        this.pubSubMediator = pubSubMediator;
+        this.thingsUpdater = thingsUpdater;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.writesPerSecond = writesPerSecond;
+        this.askTimeout = askTimeout;
+        materializer = ActorMaterializer.create(getContext());
+        pendingPolicies = new LinkedHashMap<>();
+        currentJob = null;
+    }
+
+    /**
+     * Creates Akka configuration object Props for this PolicyFanoutActor.
+     *
+     * @param searchUpdaterPersistence the persistence to load the outdated Things from.
+     * @param policyEnforcerCache the cache of the enforcers of the policies of this cluster node.
+     * @param pubSubMediator the mediator to send the bulk retrievals of Things to the things service with.
+     * @param thingsUpdater the {@link ThingsUpdater} to send the outdated Things to.
+     * @param pageSize how many Things are retrieved with one bulk retrieval.
+     * @param parallelism how many Things are re-indexed in parallel.
+     * @param writesPerSecond how many Things are re-indexed per second at most.
+     * @param askTimeout timeout of the retrieval of a page of Things or of the re-indexing of one Thing.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final ThingsSearchUpdaterPersistence searchUpdaterPersistence,
+            final PolicyEnforcerCache policyEnforcerCache,
+            final ActorRef pubSubMediator,
+            final ActorRef thingsUpdater,
+            final int pageSize,
+            final int parallelism,
+            final int writesPerSecond,
+            final Duration askTimeout) {
+
+        return Props.create(PolicyFanoutActor.class, new Creator<PolicyFanoutActor>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public PolicyFanoutActor create() {
+                return new PolicyFanoutActor(searchUpdaterPersistence, policyEnforcerCache, pubSubMediator,
+                        thingsUpdater, pageSize, parallelism, writesPerSecond, askTimeout);
+            }
+        });
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != currentJob && null != currentJob.killSwitch) {
+            currentJob.killSwitch.shutdown();
+        }
+
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(PolicyEvent.class, policyEvent -> enqueuePolicy(policyEvent.getPolicyId(),
+                        policyEvent.getRevision()))
+                .match(PolicyTag.class, policyTag -> enqueuePolicy(policyTag.getId(), policyTag.getRevision()))
+                .match(SudoRetrievePolicyFanoutStatus.class, this::retrieveStatus)
+                .match(PolicyRetrieved.class, this::policyRetrieved)
+                .match(ThingIdsLoaded.class, this::thingIdsLoaded)
+                .match(ThingProcessed.class, this::thingProcessed)
+                .match(JobFinished.class, this::jobFinished)
+                .matchAny(m -> {
+                    log.warning("Got unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void enqueuePolicy(final String policyId, final long revision) {
+        final boolean isInProgress = null != currentJob && currentJob.policyId.equals(policyId) &&
+                currentJob.requestedRevision >= revision;
+        if (!isInProgress) {
+            pendingPolicies.merge(policyId, revision, Math::max);
+            startNextJob();
+        }
+    }
+
+    private void retrieveStatus(final SudoRetrievePolicyFanoutStatus command) {
+        LogUtil.enhanceLogWithCorrelationId(log, command.getDittoHeaders().getCorrelationId());
+        final ActorRef self = getSelf();
+        getSender().tell(SudoRetrievePolicyFanoutStatusResponse.of(buildStatus(), command.getDittoHeaders()), self);
+    }
+
+    private void startNextJob() {
+        if (null != currentJob || pendingPolicies.isEmpty()) {
+            return;
+        }
+        final Iterator<Map.Entry<String, Long>> iterator = pendingPolicies.entrySet().iterator();
+        final Map.Entry<String, Long> next = iterator.next();
+        iterator.remove();
+
+        final FanoutJob job = new FanoutJob(next.getKey(), next.getValue());
+        currentJob = job;
+        log.info("Starting the re-indexing of the Things of policy <{}> with revision <{}>.", job.policyId,
+                job.requestedRevision);
+
+        final CompletionStage<PolicyRetrieved> policyRetrieved =
+                policyEnforcerCache.get(PolicyTag.of(job.policyId, job.requestedRevision))
+                        .handle((entry, error) ->
+                                new PolicyRetrieved(job, null != entry ? entry.orElse(null) : null, error));
+        PatternsCS.pipe(policyRetrieved, getContext().dispatcher()).to(getSelf());
+    }
+
+    private void policyRetrieved(final PolicyRetrieved policyRetrieved) {
+        final FanoutJob job = policyRetrieved.job;
+        if (job != currentJob) {
+            return;
+        }
+
+        if (null != policyRetrieved.entry) {
+            job.policyRevision = policyRetrieved.entry.getRevision();
+            job.isPolicyRetrieved = true;
+        } else {
+            // e.g. the policy was deleted: the ThingUpdaters know how to handle that
+            log.info("Could not retrieve policy <{}>, delegating the re-indexing of its Things: {}", job.policyId,
+                    policyRetrieved.error);
+            job.policyRevision = job.requestedRevision;
+        }
+
+        final CompletionStage<Object> thingIdsLoaded =
+                searchUpdaterPersistence.getOutdatedThingIds(PolicyTag.of(job.policyId, job.policyRevision))
+                        .runWith(Sink.seq(), materializer)
+                        .<Object>thenApply(thingIds -> new ThingIdsLoaded(job, thingIds))
+                        .exceptionally(error -> new JobFinished(job, error));
+        PatternsCS.pipe(thingIdsLoaded, getContext().dispatcher()).to(getSelf());
+    }
+
+    private void thingIdsLoaded(final ThingIdsLoaded thingIdsLoaded) {
+        final FanoutJob job = thingIdsLoaded.job;
+        if (job != currentJob) {
+            return;
+        }
+
+        job.total = thingIdsLoaded.thingIds.size();
+        job.startNanos = System.nanoTime();
+        log.info("Re-indexing <{}> outdated Things of policy <{}> with revision <{}>.", job.total, job.policyId,
+                job.policyRevision);
+
+        final ActorRef self = getSelf();
+        final PolicyTag policyTag = PolicyTag.of(job.policyId, job.policyRevision);
+        final Flow<String, IdentifiableStreamingMessage, NotUsed> toMessages = job.isPolicyRetrieved
+                ? retrieveInPages(policyTag)
+                : Flow.<String>create().map(thingId -> PolicyReferenceTag.of(thingId, policyTag));
+        final Pair<UniqueKillSwitch, CompletionStage<Done>> materialized = Source.from(thingIdsLoaded.thingIds)
+                .viaMat(KillSwitches.single(), Keep.right())
+                .via(toMessages)
+                .throttle(writesPerSecond, Duration.ofSeconds(1L), writesPerSecond, ThrottleMode.shaping())
+                .mapAsyncUnordered(parallelism, this::delegate)
+                .toMat(Sink.foreach(result -> self.tell(new ThingProcessed(job, result), ActorRef.noSender())),
+                        Keep.both())
+                .run(materializer);
+        job.killSwitch = materialized.first();
+
+        final CompletionStage<JobFinished> jobFinished =
+                materialized.second().handle((done, error) -> new JobFinished(job, error));
+        PatternsCS.pipe(jobFinished, getContext().dispatcher()).to(self);
+    }
+
+    /**
+     * Retrieves the Things page by page. Each retrieved Thing which still references the changed policy becomes a
+     * {@link ThingWithPolicyTag}, all other Things are delegated to their ThingUpdater with a
+     * {@link PolicyReferenceTag}.
+     */
+    private Flow<String, IdentifiableStreamingMessage, NotUsed> retrieveInPages(final PolicyTag policyTag) {
+        return Flow.<String>create()
+                .grouped(pageSize)
+                .mapAsync(1, thingIds -> retrieveThings(thingIds, policyTag))
+                .mapConcat(messages -> messages);
+    }
+
+    private CompletionStage<List<IdentifiableStreamingMessage>> retrieveThings(final List<String> thingIds,
+            final PolicyTag policyTag) {
+
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId("policyFanout-sudoRetrieveThings-" + UUID.randomUUID())
+                .build();
+        final Object command = new DistributedPubSubMediator.Send(
+                ThingsMessagingConstants.THINGS_BULK_RETRIEVAL_ACTOR_PATH,
+                SudoRetrieveThings.of(thingIds, dittoHeaders));
+
+        return PatternsCS.ask(pubSubMediator, command, askTimeout.toMillis())
+                .thenCompose(sourceRef -> ((SourceRef<?>) sourceRef).getSource().runWith(Sink.seq(), materializer))
+                .handle((responses, error) -> {
+                    if (null != error) {
+                        log.warning("Could not retrieve a page of <{}> Things of policy <{}>, delegating them: {}",
+                                thingIds.size(), policyTag.getId(), error);
+                    }
+                    final Map<String, Thing> things = new HashMap<>();
+                    if (null != responses) {
+                        responses.stream()
+                                .filter(SudoRetrieveThingResponse.class::isInstance)
+                                .map(response -> ((SudoRetrieveThingResponse) response).getThing())
+                                .filter(thing -> thing.getPolicyId().filter(policyTag.getId()::equals).isPresent())
+                                .forEach(thing -> thing.getId().ifPresent(thingId -> things.put(thingId, thing)));
+                    }
+                    return thingIds.stream()
+                            .map(thingId -> Optional.ofNullable(things.get(thingId))
+                                    .<IdentifiableStreamingMessage>map(thing -> ThingWithPolicyTag.of(thing,
+                                            policyTag))
+                                    .orElseGet(() -> PolicyReferenceTag.of(thingId, policyTag)))
+                            .collect(Collectors.toList());
+                });
+    }
+
+    /**
+     * Sends the message to the {@link ThingUpdater} of the Thing, which updates the search index itself, and waits
+     * for its acknowledgement in order to limit the number of Things re-indexed in parallel.
+     */
+    private CompletionStage<ThingResult> delegate(final IdentifiableStreamingMessage message) {
+        final StreamAck expectedAck = StreamAck.success(message.asIdentifierString());
+        return PatternsCS.ask(thingsUpdater, message, askTimeout.toMillis())
+                .handle((ack, error) -> expectedAck.equals(ack) ? ThingResult.REINDEXED : ThingResult.FAILED);
+    }
+
+    private void thingProcessed(final ThingProcessed thingProcessed) {
+        final FanoutJob job = thingProcessed.job;
+        switch (thingProcessed.result) {
+            case REINDEXED:
+                job.reindexed++;
+                break;
+            default:
+                job.failed++;
+        }
+    }
+
+    private void jobFinished(final JobFinished jobFinished) {
+        final FanoutJob job = jobFinished.job;
+        if (job != currentJob) {
+            return;
+        }
+
+        if (null != jobFinished.error) {
+            log.error(jobFinished.error, "Re-indexing the Things of policy <{}> failed after <{}> of <{}> Things.",
+                    job.policyId, job.getProcessed(), job.total);
+        } else {
+            log.info("Re-indexed the Things of policy <{}> with revision <{}>: <{}> re-indexed, <{}> failed.",
+                    job.policyId, job.policyRevision, job.reindexed, job.failed);
+        }
+        currentJob = null;
+        startNextJob();
+    }
+
+    private JsonObject buildStatus() {
+        final JsonObjectBuilder builder = JsonObject.newBuilder()
+                .set("active", null != currentJob)
+                .set("queued", pendingPolicies.size());
+        if (null != currentJob) {
+            final FanoutJob job = currentJob;
+            final long processed = job.getProcessed();
+            final double elapsedSeconds = job.startNanos > 0L ? (System.nanoTime() - job.startNanos) / 1e9 : 0.0;
+            final double thingsPerSecond = elapsedSeconds > 0.0 ? processed / elapsedSeconds : 0.0;
+            builder.set("policyId", job.policyId)
+                    .set("policyRevision", job.policyRevision)
+                    .set("total", job.total)
+                    .set("processed", processed)
+                    .set("reindexed", job.reindexed)
+                    .set("failed", job.failed)
+                    .set("thingsPerSecond", thingsPerSecond);
+            if (thingsPerSecond > 0.0) {
+                builder.set("etaSeconds", Math.round(Math.max(0L, job.total - processed) / thingsPerSecond));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Mutable state of the re-indexing of the Things of one policy, only accessed from within the actor.
+     */
+    private static final class FanoutJob {
+
+        private final String policyId;
+        private final long requestedRevision;
+        private long policyRevision;
+        private boolean isPolicyRetrieved;
+        @Nullable private UniqueKillSwitch killSwitch;
+        private long total;
+        private long reindexed;
+        private long failed;
+        private long startNanos;
+
+        private FanoutJob(final String policyId, final long requestedRevision) {
+            this.policyId = policyId;
+            this.requestedRevision = requestedRevision;
+            policyRevision = requestedRevision;
+        }
+
+        private long getProcessed() {
+            return reindexed + failed;
+        }
+
+    }
+
+    private enum ThingResult {
+        REINDEXED,
+        FAILED
+    }
+
+    private static final class PolicyRetrieved {
+
+        private final FanoutJob job;
+        @Nullable private final PolicyEnforcerCache.Entry entry;
+        @Nullable private final Throwable error;
+
+        private PolicyRetrieved(final FanoutJob job, @Nullable final PolicyEnforcerCache.Entry entry,
+                @Nullable final Throwable error) {
+            this.job = job;
+            this.entry = entry;
+            this.error = error;
+        }
+
+    }
+
+    private static final class ThingIdsLoaded {
+
+        private final FanoutJob job;
+        private final List<String> thingIds;
+
+        private ThingIdsLoaded(final FanoutJob job, final List<String> thingIds) {
+            this.job = job;
+            this.thingIds = thingIds;
+        }
+
+    }
+
+    private static final class ThingProcessed {
+
+        private final FanoutJob job;
+        private final ThingResult result;
+
+        private ThingProcessed(final FanoutJob job, final ThingResult result) {
+            this.job = job;
+            this.result = result;
+        }
+
+    }
+
+    private static final class JobFinished {
+
+        private final FanoutJob job;
+        @Nullable private final Throwable error;
+
+        private JobFinished(final FanoutJob job, @Nullable final Throwable error) {
+            this.job = job;
+            this.error = error;
+        }
+
+    }
+
+}
@@ -11,16 +11,22 @@
 package org.eclipse.ditto.services.thingsearch.updater.actors;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.services.base.config.ServiceConfigReader;
 import org.eclipse.ditto.services.thingsearch.common.util.ConfigKeys;
 import org.eclipse.ditto.services.thingsearch.common.util.RootSupervisorStrategyFactory;
+import org.eclipse.ditto.services.thingsearch.persistence.KeyDictionary;
+import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.impl.MongoEventToPersistenceStrategyFactory;
 import org.eclipse.ditto.services.thingsearch.persistence.write.impl.MongoThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamConsumerSettings;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamMetadataPersistence;
+import org.eclipse.ditto.services.utils.health.status.StartupPhases;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.monitoring.KamonCommandListener;
 import org.eclipse.ditto.services.utils.persistence.mongo.monitoring.KamonConnectionPoolListener;
@@ -66,7 +72,9 @@ public final class SearchUpdaterRootActor extends AbstractActor {
 
     private SearchUpdaterRootActor(final ServiceConfigReader configReader, final ActorRef pubSubMediator,
             final ActorMaterializer materializer, final StreamMetadataPersistence thingsSyncPersistence,
-            final StreamMetadataPersistence policiesSyncPersistence) {
+            final StreamMetadataPersistence policiesSyncPersistence,
+            @Nullable final ActorRef namespaceStatisticsActor,
+            @Nullable final ActorRef policyFanoutActor) {
         final int numberOfShards = configReader.cluster().numberOfShards();
 
         final Config config = configReader.getRawConfig();
@@ -77,11 +85,13 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                 config.getBoolean(ConfigKeys.MONITORING_CONNECTION_POOL_ENABLED) ?
                         new KamonConnectionPoolListener(KAMON_METRICS_PREFIX) : null;
 
-        final MongoClientWrapper mongoClientWrapper = MongoClientWrapper.newInstance(config,
-                kamonCommandListener, kamonConnectionPoolListener);
+        final MongoClientWrapper mongoClientWrapper =
+                StartupPhases.getInstance().measure("search-updater-mongo-client", () ->
+                        MongoClientWrapper.newInstance(config, kamonCommandListener, kamonConnectionPoolListener));
+        final KeyDictionary keyDictionary = getKeyDictionary(config);
         final ThingsSearchUpdaterPersistence searchUpdaterPersistence =
                 new MongoThingsSearchUpdaterPersistence(mongoClientWrapper, log,
-                        MongoEventToPersistenceStrategyFactory.getInstance());
+                        MongoEventToPersistenceStrategyFactory.getInstance(), keyDictionary);
 
         final int maxFailures = config.getInt(ConfigKeys.MONGO_CIRCUIT_BREAKER_FAILURES);
         final Duration callTimeout = config.getDuration(ConfigKeys.MONGO_CIRCUIT_BREAKER_TIMEOUT_CALL);
@@ -110,9 +120,35 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         final int maxBulkSize = config.hasPath(ConfigKeys.MAX_BULK_SIZE)
                 ? config.getInt(ConfigKeys.MAX_BULK_SIZE)
                 : ThingUpdater.UNLIMITED_MAX_BULK_SIZE;
+        final Duration namespaceStatisticsUpdateInterval =
+                config.getDuration(ConfigKeys.NAMESPACE_STATISTICS_UPDATE_INTERVAL);
+        if (null != namespaceStatisticsActor) {
+            final Duration namespaceStatisticsRecountInterval =
+                    config.getDuration(ConfigKeys.NAMESPACE_STATISTICS_RECOUNT_INTERVAL);
+            startClusterSingletonActor(NamespaceStatisticsActor.ACTOR_NAME,
+                    NamespaceStatisticsActor.props(
+                            new MongoThingsSearchPersistence(mongoClientWrapper, getContext().getSystem(),
+                                    keyDictionary),
+                            namespaceStatisticsUpdateInterval, namespaceStatisticsRecountInterval));
+        }
+        final Duration policyFanoutAskTimeout = config.getDuration(ConfigKeys.POLICY_FANOUT_ASK_TIMEOUT);
+        final PolicyEnforcerCache policyEnforcerCache =
+                PolicyEnforcerCache.of(shardRegionFactory.getPoliciesShardRegion(numberOfShards),
+                        policyFanoutAskTimeout);
         thingsUpdaterActor = startChildActor(ThingsUpdater.ACTOR_NAME, ThingsUpdater
                 .props(numberOfShards, shardRegionFactory, searchUpdaterPersistence, circuitBreaker,
-                        eventProcessingActive, thingUpdaterActivityCheckInterval, maxBulkSize));
+                        eventProcessingActive, thingUpdaterActivityCheckInterval, maxBulkSize,
+                        namespaceStatisticsActor, namespaceStatisticsUpdateInterval, policyFanoutActor,
+                        policyEnforcerCache));
+        if (null != policyFanoutActor) {
+            startClusterSingletonActor(PolicyFanoutActor.ACTOR_NAME,
+                    PolicyFanoutActor.props(searchUpdaterPersistence, policyEnforcerCache, pubSubMediator,
+                            thingsUpdaterActor,
+                            config.getInt(ConfigKeys.POLICY_FANOUT_PAGE_SIZE),
+                            config.getInt(ConfigKeys.POLICY_FANOUT_PARALLELISM),
+                            config.getInt(ConfigKeys.POLICY_FANOUT_WRITES_PER_SECOND),
+                            policyFanoutAskTimeout));
+        }
 
         final boolean thingsSynchronizationActive = config.getBoolean(ConfigKeys.THINGS_SYNCER_ACTIVE);
         if (thingsSynchronizationActive) {
@@ -171,6 +207,19 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                 streamingActorTimeout, elementsStreamedPerBatch, outdatedWarningOffset);
     }
 
+    /**
+     * Returns the dictionary of interned search index key paths configured for this service.
+     *
+     * @param config the configuration of this service.
+     * @return the dictionary, empty if no key paths are configured.
+     * @throws IllegalArgumentException if the configured key paths are invalid.
+     */
+    public static KeyDictionary getKeyDictionary(final Config config) {
+        return KeyDictionary.of(config.hasPath(ConfigKeys.INDEX_KEY_DICTIONARY)
+                ? config.getStringList(ConfigKeys.INDEX_KEY_DICTIONARY)
+                : Collections.emptyList());
+    }
+
     /**
      * Creates Akka configuration object Props for this SearchUpdaterRootActor.
      *
@@ -179,19 +228,25 @@ public final class SearchUpdaterRootActor extends AbstractActor {
      * @param materializer actor materializer to create stream actors.
      * @param thingsSyncPersistence persistence for background synchronization of things.
      * @param policiesSyncPersistence persistence for background synchronization of policies.
+     * @param namespaceStatisticsActor proxy of the {@link NamespaceStatisticsActor} singleton to start or {@code null}
+     * if namespace statistics are disabled.
+     * @param policyFanoutActor proxy of the {@link PolicyFanoutActor} singleton to start or {@code null} if the
+     * policy fanout is disabled.
      * @return a Props object to create this actor.
      */
     public static Props props(final ServiceConfigReader configReader, final ActorRef pubSubMediator,
             final ActorMaterializer materializer,
             final StreamMetadataPersistence thingsSyncPersistence,
-            final StreamMetadataPersistence policiesSyncPersistence) {
+            final StreamMetadataPersistence policiesSyncPersistence,
+            @Nullable final ActorRef namespaceStatisticsActor,
+            @Nullable final ActorRef policyFanoutActor) {
         return Props.create(SearchUpdaterRootActor.class, new Creator<SearchUpdaterRootActor>() {
             private static final long serialVersionUID = 1L;
 
             @Override
             public SearchUpdaterRootActor create() {
                 return new SearchUpdaterRootActor(configReader, pubSubMediator, materializer, thingsSyncPersistence,
-                        policiesSyncPersistence);
+                        policiesSyncPersistence, namespaceStatisticsActor, policyFanoutActor);
             }
         });
     }
@@ -28,6 +28,8 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
@@ -43,10 +45,12 @@ import org.eclipse.ditto.model.things.ThingRevision;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.streaming.IdentifiableStreamingMessage;
 import org.eclipse.ditto.services.models.things.ThingTag;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.thingsearch.ThingWithPolicyTag;
 import org.eclipse.ditto.services.thingsearch.persistence.write.EventToPersistenceStrategyFactory;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingMetadata;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
@@ -83,10 +87,12 @@ import akka.japi.pf.FI;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.AskTimeoutException;
 import akka.pattern.CircuitBreaker;
+import akka.pattern.PatternsCS;
 import akka.stream.ActorMaterializer;
 import akka.stream.Materializer;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
 import kamon.Kamon;
 import scala.concurrent.ExecutionContextExecutor;
 import scala.concurrent.duration.Duration;
@@ -143,6 +149,7 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
     private final java.time.Duration activityCheckInterval;
     private final ThingsSearchUpdaterPersistence searchUpdaterPersistence;
     private final CircuitBreaker circuitBreaker;
+    private final PolicyEnforcerCache policyEnforcerCache;
     private final Materializer materializer;
 
     // transducer state-transition table
@@ -162,6 +169,12 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
     private long policyRevision = -1L;
     private Enforcer policyEnforcer;
 
+    // enforcer of the policy before it changed together with the revision of the Thing indexed with it; allows to
+    // update only the affected entries of the policy index if the Thing did not change in the meantime
+    @Nullable
+    private Enforcer previousPolicyEnforcer;
+    private long previousPolicyThingRevision = -1L;
+
     // required for acking of synchronization
     private SyncMetadata activeSyncMetadata = null;
 
@@ -175,7 +188,8 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
             final ThingsSearchUpdaterPersistence searchUpdaterPersistence,
             final CircuitBreaker circuitBreaker,
             final java.time.Duration activityCheckInterval,
-            final int maxBulkSize) {
+            final int maxBulkSize,
+            final PolicyEnforcerCache policyEnforcerCache) {
 
         this.maxBulkSize = maxBulkSize;
         this.thingsTimeout = Duration.create(thingsTimeout.toNanos(), TimeUnit.NANOSECONDS);
@@ -184,6 +198,7 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
         this.activityCheckInterval = activityCheckInterval;
         this.searchUpdaterPersistence = searchUpdaterPersistence;
         this.circuitBreaker = circuitBreaker;
+        this.policyEnforcerCache = policyEnforcerCache;
         this.gatheredEvents = new ArrayList<>();
 
         thingId = tryToGetThingId(StandardCharsets.UTF_8);
@@ -235,6 +250,7 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
      * updated.
      * @param thingsTimeout how long to wait for Things and Policies service.
      * @param maxBulkSize maximum number of events to update in a bulk.
+     * @param policyEnforcerCache the cache of policy enforcers shared with the policy fanout.
      * @return the Akka configuration Props object
      */
     static Props props(final ThingsSearchUpdaterPersistence searchUpdaterPersistence,
@@ -243,7 +259,8 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
             final ActorRef policiesShardRegion,
             final java.time.Duration activityCheckInterval,
             final java.time.Duration thingsTimeout,
-            final int maxBulkSize) {
+            final int maxBulkSize,
+            final PolicyEnforcerCache policyEnforcerCache) {
 
         return Props.create(ThingUpdater.class, new Creator<ThingUpdater>() {
             private static final long serialVersionUID = 1L;
@@ -251,7 +268,8 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
             @Override
             public ThingUpdater create() {
                 return new ThingUpdater(thingsTimeout, thingsShardRegion, policiesShardRegion,
-                        searchUpdaterPersistence, circuitBreaker, activityCheckInterval, maxBulkSize);
+                        searchUpdaterPersistence, circuitBreaker, activityCheckInterval, maxBulkSize,
+                        policyEnforcerCache);
             }
         });
     }
@@ -345,6 +363,7 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
                 .match(PolicyEvent.class, this::processPolicyEvent)
                 .match(ThingTag.class, this::processThingTag)
                 .match(PolicyReferenceTag.class, this::processPolicyReferenceTag)
+                .match(ThingWithPolicyTag.class, this::processThingWithPolicyTag)
                 .match(CheckForActivity.class, this::checkActivity)
                 .match(PersistenceWriteResult.class, this::handlePersistenceUpdateResult)
                 .matchAny(m -> {
@@ -358,7 +377,7 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
         LogUtil.enhanceLogWithCorrelationId(log, policyEvent);
         if (Objects.equals(policyId, policyEvent.getPolicyId()) && policyEvent.getRevision() > policyRevision) {
             log.debug("Processing relevant PolicyChange with revision <{}>", policyEvent.getRevision());
-            triggerSynchronization();
+            triggerPolicySynchronization();
         }
     }
 
@@ -418,13 +437,39 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
             triggerSync = false;
         }
 
-        if (triggerSync) {
+        if (triggerSync && policyId != null) {
+            triggerPolicySynchronization();
+        } else if (triggerSync) {
             triggerSynchronization();
         } else {
             ackSync(true);
         }
     }
 
+    private void processThingWithPolicyTag(final ThingWithPolicyTag thingWithPolicyTag) {
+        LogUtil.enhanceLogWithCorrelationId(log, "policies-fanout-" + thingWithPolicyTag.asIdentifierString());
+
+        activeSyncMetadata = new SyncMetadata(getSender(), thingWithPolicyTag);
+
+        final Thing thing = thingWithPolicyTag.getThing();
+        final PolicyTag policyTag = thingWithPolicyTag.getPolicyTag();
+        final long thingRevision = thing.getRevision().map(ThingRevision::toLong).orElse(UNKNOWN_REVISION);
+        final boolean isPolicyOfThing = thing.getPolicyId().filter(policyTag.getId()::equals).isPresent();
+
+        if (thingRevision < sequenceNumber || !isPolicyOfThing) {
+            log.debug("The Thing <{}> retrieved by the policy fanout is outdated, its sequence number is <{}>.",
+                    thingWithPolicyTag.asIdentifierString(), sequenceNumber);
+            triggerSynchronization();
+        } else if (thingRevision == sequenceNumber && policyTag.getId().equals(policyId) &&
+                policyTag.getRevision() <= policyRevision) {
+            log.debug("The search index of Thing <{}> is already up-to-date with the policy revision <{}>.",
+                    thingId, policyRevision);
+            ackSync(true);
+        } else {
+            syncWithPolicyEnforcerFromCache(thing, policyTag);
+        }
+    }
+
     private void processThingEvent(final ThingEvent thingEvent) {
         LogUtil.enhanceLogWithCorrelationId(log, thingEvent);
 
@@ -596,6 +641,7 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
     private void triggerSynchronization() {
         beginNewSyncSession();
 
+        previousPolicyEnforcer = null;
         policyEnforcer = null; // reset policyEnforcer
         syncAttempts++;
         transactionActive = false;
@@ -610,6 +656,89 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
         }
     }
 
+    /**
+     * Transition into the synchronization cycle because the policy of the Thing changed. If the search index is
+     * up-to-date with the current policy enforcer, it is remembered in order to only update the changed entries of the
+     * policy index.
+     */
+    private void triggerPolicySynchronization() {
+        final boolean isIndexUpToDate = !transactionActive && gatheredEvents.isEmpty();
+        final Enforcer currentPolicyEnforcer = policyEnforcer;
+        final long currentSequenceNumber = sequenceNumber;
+
+        triggerSynchronization();
+
+        if (isIndexUpToDate && currentPolicyEnforcer != null) {
+            previousPolicyEnforcer = currentPolicyEnforcer;
+            previousPolicyThingRevision = currentSequenceNumber;
+        }
+    }
+
+    /**
+     * Transition into the synchronization cycle with a Thing retrieved by the policy fanout. The enforcer of the
+     * policy is taken from the cache shared by all ThingUpdaters of this node, so that neither the Thing nor the policy
+     * are retrieved by each ThingUpdater.
+     */
+    private void syncWithPolicyEnforcerFromCache(final Thing thing, final PolicyTag policyTag) {
+        final boolean isIndexUpToDate = !transactionActive && gatheredEvents.isEmpty() &&
+                policyTag.getId().equals(policyId);
+        final Enforcer currentPolicyEnforcer = policyEnforcer;
+        final long currentSequenceNumber = sequenceNumber;
+
+        beginNewSyncSession();
+        previousPolicyEnforcer = null;
+        policyEnforcer = null;
+        syncAttempts++;
+        transactionActive = false;
+        resetGatheredEvents();
+
+        if (isIndexUpToDate && currentPolicyEnforcer != null) {
+            previousPolicyEnforcer = currentPolicyEnforcer;
+            previousPolicyThingRevision = currentSequenceNumber;
+        }
+
+        log.debug("Loading the enforcer of policy <{}> for thing <{}>.", policyTag.getId(), thingId);
+        final String sessionId = syncSessionId;
+        final CompletionStage<PolicyEnforcerLoaded> enforcerLoaded = policyEnforcerCache.get(policyTag)
+                .handle((entry, error) -> new PolicyEnforcerLoaded(sessionId,
+                        null != entry ? entry.orElse(null) : null));
+        PatternsCS.pipe(enforcerLoaded, getContext().dispatcher()).to(getSelf());
+
+        getContext().become(createAwaitPolicyEnforcerBehavior(sessionId, thing, policyTag));
+    }
+
+    private Receive createAwaitPolicyEnforcerBehavior(final String sessionId, final Thing thing,
+            final PolicyTag policyTag) {
+
+        log.debug("Becoming 'awaitPolicyEnforcerBehavior' for thing <{}> ...", thingId);
+        return ReceiveBuilder.create()
+                .match(AskTimeoutException.class, handleSyncTimeout(sessionId, "Timeout while loading the enforcer"))
+                .match(PolicyEnforcerLoaded.class, loaded -> handlePolicyEnforcerLoaded(sessionId, thing, policyTag,
+                        loaded))
+                .match(CheckForActivity.class, this::checkActivity)
+                .matchAny(message -> stashWithErrorsIgnored())
+                .build();
+    }
+
+    private void handlePolicyEnforcerLoaded(final String sessionId, final Thing thing, final PolicyTag policyTag,
+            final PolicyEnforcerLoaded loaded) {
+
+        if (!Objects.equals(sessionId, loaded.sessionId)) {
+            log.warning("Ignoring enforcer loaded in session <{}>. Current session is <{}>.", loaded.sessionId,
+                    sessionId);
+        } else if (loaded.entry == null) {
+            // e.g. the policy was deleted in the meantime: synchronize the Thing as a whole
+            log.info("Could not load the enforcer of policy <{}>, synchronizing thing <{}>.", policyTag.getId(),
+                    thingId);
+            triggerSynchronization();
+        } else {
+            policyId = policyTag.getId();
+            policyRevision = loaded.entry.getRevision();
+            policyEnforcer = loaded.entry.getEnforcer();
+            updateThingSearchIndex(thing);
+        }
+    }
+
     private void syncThing() {
         log.debug("Trying to synchronize thing <{}>.", thingId);
 
@@ -695,6 +824,7 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
         return ReceiveBuilder.create()
                 .match(SyncSuccess.class, s -> {
                     syncAttempts = 0;
+                    previousPolicyEnforcer = null;
                     ackSync(true);
                     becomeEventProcessing();
                 })
@@ -755,6 +885,7 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
                 // policyId changed!
                 policyRevision = -1L; // reset policyRevision
                 policyEnforcer = null; // reset policyEnforcer
+                previousPolicyEnforcer = null;
                 policyId = policyIdOfThing;
             }
         } else if (hasNonEmptyAcl(thing)) {
@@ -911,8 +1042,13 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
         }
 
         final StartedTimer timer = DittoMetrics.expiringTimer(TRACE_POLICY_UPDATE).tag(UPDATE_TYPE_TAG, "update").build();
-        return circuitBreaker.callWithCircuitBreakerCS(() -> searchUpdaterPersistence
-                .updatePolicy(thing, policyEnforcer)
+        final Enforcer enforcerBeforePolicyChange = previousPolicyEnforcer;
+        final boolean isThingUnchanged = thing.getRevision()
+                .map(ThingRevision::toLong)
+                .filter(revision -> revision == previousPolicyThingRevision)
+                .isPresent();
+        return circuitBreaker.callWithCircuitBreakerCS(() -> updatePolicy(thing, enforcerBeforePolicyChange,
+                isThingUnchanged, policyEnforcer)
                 .via(stopTimer(timer))
                 .runWith(Sink.last(), materializer)
                 .whenComplete((isPolicyUpdated, throwable) -> {
@@ -927,6 +1063,20 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
                 }));
     }
 
+    private Source<Boolean, NotUsed> updatePolicy(final Thing thing,
+            @Nullable final Enforcer enforcerBeforePolicyChange,
+            final boolean isThingUnchanged,
+            final Enforcer policyEnforcer) {
+
+        if (enforcerBeforePolicyChange != null && isThingUnchanged) {
+            log.debug("Updating the changed entries of the policy index of Thing <{}>.", thingId);
+            return searchUpdaterPersistence.updatePolicyIncrementally(thing, enforcerBeforePolicyChange,
+                    policyEnforcer);
+        } else {
+            return searchUpdaterPersistence.updatePolicy(thing, policyEnforcer);
+        }
+    }
+
     private void handleInsertOrUpdateResult(final Boolean indexChanged, final Thing entity, final Throwable throwable) {
 
         if (throwable == null) {
@@ -1042,6 +1192,18 @@ final class ThingUpdater extends AbstractActorWithDiscardOldStash
 
     }
 
+    private static final class PolicyEnforcerLoaded {
+
+        private final String sessionId;
+        @Nullable private final PolicyEnforcerCache.Entry entry;
+
+        private PolicyEnforcerLoaded(final String sessionId, @Nullable final PolicyEnforcerCache.Entry entry) {
+            this.sessionId = sessionId;
+            this.entry = entry;
+        }
+
+    }
+
     private static class ActorInitializationComplete {
 
         static final ActorInitializationComplete INSTANCE = new ActorInitializationComplete();
@@ -13,14 +13,22 @@ package org.eclipse.ditto.services.thingsearch.updater.actors;
 import java.time.Duration;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.streaming.BatchedEntityIdWithRevisions;
 import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.models.thingsearch.ThingWithPolicyTag;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
@@ -31,6 +39,7 @@ import org.eclipse.ditto.signals.events.things.ThingEvent;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.actor.Cancellable;
 import akka.actor.Props;
 import akka.cluster.pubsub.DistributedPubSub;
 import akka.cluster.pubsub.DistributedPubSubMediator;
@@ -43,6 +52,7 @@ import akka.pattern.CircuitBreaker;
 import akka.stream.ActorMaterializer;
 import akka.stream.Materializer;
 import akka.stream.javadsl.Sink;
+import scala.concurrent.duration.FiniteDuration;
 
 /**
  * This Actor subscribes to messages the Things service emits, when it starts a new ThingActor (a Thing becomes "hot").
@@ -61,6 +71,10 @@ final class ThingsUpdater extends AbstractActor {
     private final ActorRef shardRegion;
     private final ThingsSearchUpdaterPersistence searchUpdaterPersistence;
     private final Materializer materializer;
+    @Nullable private final ActorRef namespaceStatisticsActor;
+    private final NamespaceStatisticsRecorder namespaceStatisticsRecorder;
+    @Nullable private final Cancellable namespaceStatisticsFlush;
+    @Nullable private final ActorRef policyFanoutActor;
 
     private ThingsUpdater(final int numberOfShards,
             final ShardRegionFactory shardRegionFactory,
@@ -68,7 +82,11 @@ final class ThingsUpdater extends AbstractActor {
             final CircuitBreaker circuitBreaker,
             final boolean eventProcessingActive,
             final Duration thingUpdaterActivityCheckInterval,
-            final int maxBulkSize) {
+            final int maxBulkSize,
+            @Nullable final ActorRef namespaceStatisticsActor,
+            final Duration namespaceStatisticsFlushInterval,
+            @Nullable final ActorRef policyFanoutActor,
+            final PolicyEnforcerCache policyEnforcerCache) {
 
         final ActorSystem actorSystem = context().system();
 
@@ -80,12 +98,25 @@ final class ThingsUpdater extends AbstractActor {
 
         final Props thingUpdaterProps =
                 ThingUpdater.props(searchUpdaterPersistence, circuitBreaker, thingsShardRegion, policiesShardRegion,
-                        thingUpdaterActivityCheckInterval, ThingUpdater.DEFAULT_THINGS_TIMEOUT, maxBulkSize)
+                        thingUpdaterActivityCheckInterval, ThingUpdater.DEFAULT_THINGS_TIMEOUT, maxBulkSize,
+                        policyEnforcerCache)
                         .withMailbox("akka.actor.custom-updater-mailbox");
 
         shardRegion = shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps);
         this.searchUpdaterPersistence = searchUpdaterPersistence;
         materializer = ActorMaterializer.create(getContext());
+        this.namespaceStatisticsActor = namespaceStatisticsActor;
+        this.policyFanoutActor = policyFanoutActor;
+        namespaceStatisticsRecorder = new NamespaceStatisticsRecorder();
+        if (null != namespaceStatisticsActor) {
+            final FiniteDuration flushInterval =
+                    FiniteDuration.apply(namespaceStatisticsFlushInterval.toMillis(), TimeUnit.MILLISECONDS);
+            namespaceStatisticsFlush = actorSystem.scheduler()
+                    .schedule(flushInterval, flushInterval, getSelf(), FlushNamespaceStatistics.INSTANCE,
+                            actorSystem.dispatcher(), ActorRef.noSender());
+        } else {
+            namespaceStatisticsFlush = null;
+        }
 
         if (eventProcessingActive) {
             pubSubMediator.tell(new DistributedPubSubMediator.Subscribe(ThingEvent.TYPE_PREFIX, UPDATER_GROUP, self()),
@@ -93,6 +124,12 @@ final class ThingsUpdater extends AbstractActor {
             pubSubMediator.tell(new DistributedPubSubMediator.Subscribe(PolicyEvent.TYPE_PREFIX, UPDATER_GROUP, self()),
                     self());
         }
+
+        // the tags published by the change streams of the journals are processed by one instance each
+        pubSubMediator.tell(new DistributedPubSubMediator.Subscribe(ThingsMessagingConstants.THING_TAGS_TOPIC,
+                UPDATER_GROUP, self()), self());
+        pubSubMediator.tell(new DistributedPubSubMediator.Subscribe(PoliciesMessagingConstants.POLICY_TAGS_TOPIC,
+                UPDATER_GROUP, self()), self());
     }
 
     /**
@@ -103,6 +140,12 @@ final class ThingsUpdater extends AbstractActor {
      * @param thingUpdaterActivityCheckInterval the interval at which is checked, if the corresponding Thing is still
      * actively updated
      * @param maxBulkSize maximum number of events to update in a bulk.
+     * @param namespaceStatisticsActor the {@link NamespaceStatisticsActor} to send the statistics of the processed
+     * Thing events to or {@code null} if namespace statistics are disabled.
+     * @param namespaceStatisticsFlushInterval how often to send the statistics of the processed Thing events.
+     * @param policyFanoutActor the {@link PolicyFanoutActor} to re-index the Things of changed policies with or
+     * {@code null} if each ThingUpdater of a changed policy is to re-index its Thing itself.
+     * @param policyEnforcerCache the cache of the enforcers of the policies of this cluster node.
      * @return the Akka configuration Props object
      */
     static Props props(final int numberOfShards,
@@ -111,7 +154,11 @@ final class ThingsUpdater extends AbstractActor {
             final CircuitBreaker circuitBreaker,
             final boolean eventProcessingActive,
             final Duration thingUpdaterActivityCheckInterval,
-            final int maxBulkSize) {
+            final int maxBulkSize,
+            @Nullable final ActorRef namespaceStatisticsActor,
+            final Duration namespaceStatisticsFlushInterval,
+            @Nullable final ActorRef policyFanoutActor,
+            final PolicyEnforcerCache policyEnforcerCache) {
 
         return Props.create(ThingsUpdater.class, new Creator<ThingsUpdater>() {
             private static final long serialVersionUID = 1L;
@@ -119,11 +166,23 @@ final class ThingsUpdater extends AbstractActor {
             @Override
             public ThingsUpdater create() {
                 return new ThingsUpdater(numberOfShards, shardRegionFactory, searchUpdaterPersistence, circuitBreaker,
-                        eventProcessingActive, thingUpdaterActivityCheckInterval, maxBulkSize);
+                        eventProcessingActive, thingUpdaterActivityCheckInterval, maxBulkSize,
+                        namespaceStatisticsActor, namespaceStatisticsFlushInterval, policyFanoutActor,
+                        policyEnforcerCache);
             }
         });
     }
 
+    @Override
+    public void postStop() throws Exception {
+        if (null != namespaceStatisticsFlush) {
+            namespaceStatisticsFlush.cancel();
+        }
+        flushNamespaceStatistics();
+
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
@@ -133,7 +192,10 @@ final class ThingsUpdater extends AbstractActor {
                 .match(PolicyEvent.class, this::processPolicyEvent)
                 .match(ThingTag.class, this::processThingTag)
                 .match(PolicyReferenceTag.class, this::processPolicyReferenceTag)
+                .match(ThingWithPolicyTag.class, this::processThingWithPolicyTag)
+                .match(BatchedEntityIdWithRevisions.class, this::processBatchedTags)
                 .match(DistributedPubSubMediator.SubscribeAck.class, this::subscribeAck)
+                .match(FlushNamespaceStatistics.class, flush -> flushNamespaceStatistics())
                 .matchAny(m -> {
                     log.warning("Unknown message: {}", m);
                     unhandled(m);
@@ -154,18 +216,69 @@ final class ThingsUpdater extends AbstractActor {
         forwardJsonifiableToShardRegion(policyReferenceTag, unused -> policyReferenceTag.getEntityId());
     }
 
+    private void processThingWithPolicyTag(final ThingWithPolicyTag thingWithPolicyTag) {
+        final String elementIdentifier = thingWithPolicyTag.asIdentifierString();
+        LogUtil.enhanceLogWithCorrelationId(log, "policy-fanout-" + elementIdentifier);
+        log.debug("Forwarding ThingWithPolicyTag '{}'", elementIdentifier);
+        forwardJsonifiableToShardRegion(thingWithPolicyTag, ThingWithPolicyTag::getThingId);
+    }
+
+    private void processBatchedTags(final BatchedEntityIdWithRevisions<?> batchedTags) {
+        log.debug("Processing <{}> tags published by a change stream.", batchedTags.getElements().size());
+        batchedTags.getElements().forEach(tag -> {
+            if (tag instanceof ThingTag) {
+                processThingTag((ThingTag) tag);
+            } else if (tag instanceof PolicyTag) {
+                processPolicyTag((PolicyTag) tag);
+            } else {
+                log.warning("Unknown tag: {}", tag);
+            }
+        });
+    }
+
+    private void processPolicyTag(final PolicyTag policyTag) {
+        if (null != policyFanoutActor) {
+            policyFanoutActor.tell(policyTag, getSelf());
+            return;
+        }
+        final ActorRef self = getSelf();
+        searchUpdaterPersistence.getOutdatedThingIds(policyTag)
+                .map(thingId -> PolicyReferenceTag.of(thingId, policyTag))
+                .runWith(Sink.foreach(policyReferenceTag -> self.tell(policyReferenceTag, ActorRef.noSender())),
+                        materializer)
+                .exceptionally(error -> {
+                    log.error(error, "Failed to determine the Things of PolicyTag <{}>.", policyTag);
+                    return null;
+                });
+    }
+
     private void processThingEvent(final ThingEvent<?> thingEvent) {
         LogUtil.enhanceLogWithCorrelationId(log, thingEvent);
         log.debug("Forwarding incoming ThingEvent for thingId '{}'", thingEvent.getThingId());
-        forwardEventToShardRegion(thingEvent, ThingEvent::getId);
+        final JsonObject eventJson = forwardEventToShardRegion(thingEvent, ThingEvent::getId);
+        if (null != namespaceStatisticsActor) {
+            namespaceStatisticsRecorder.record(thingEvent, eventJson);
+        }
+    }
+
+    private void flushNamespaceStatistics() {
+        if (null != namespaceStatisticsActor) {
+            namespaceStatisticsRecorder.drain()
+                    .ifPresent(delta -> namespaceStatisticsActor.tell(delta, getSelf()));
+        }
     }
 
     private void processPolicyEvent(final PolicyEvent<?> policyEvent) {
         LogUtil.enhanceLogWithCorrelationId(log, policyEvent);
-        thingIdsForPolicy(policyEvent.getPolicyId())
-                .thenAccept(thingIds ->
-                        thingIds.forEach(id -> forwardPolicyEventToShardRegion(policyEvent, id))
-                );
+        if (null != policyFanoutActor) {
+            // the fanout re-indexes all Things of the policy in a throttled way, including those of active ones
+            policyFanoutActor.tell(policyEvent, getSelf());
+        } else {
+            thingIdsForPolicy(policyEvent.getPolicyId())
+                    .thenAccept(thingIds ->
+                            thingIds.forEach(id -> forwardPolicyEventToShardRegion(policyEvent, id))
+                    );
+        }
     }
 
     private CompletionStage<Set<String>> thingIdsForPolicy(final String policyId) {
@@ -182,8 +295,9 @@ final class ThingsUpdater extends AbstractActor {
                 jsonifiable -> DittoHeaders.empty());
     }
 
-    private <E extends Event<?>> void forwardEventToShardRegion(final E message, final Function<E, String> getId) {
-        forwardToShardRegion(
+    private <E extends Event<?>> JsonObject forwardEventToShardRegion(final E message,
+            final Function<E, String> getId) {
+        return forwardToShardRegion(
                 message,
                 getId,
                 Event::getType,
@@ -191,7 +305,7 @@ final class ThingsUpdater extends AbstractActor {
                 Event::getDittoHeaders);
     }
 
-    private <M> void forwardToShardRegion(final M message,
+    private <M> JsonObject forwardToShardRegion(final M message,
             final Function<M, String> getId,
             final Function<M, String> getType,
             final Function<M, JsonObject> toJson,
@@ -204,6 +318,7 @@ final class ThingsUpdater extends AbstractActor {
         final DittoHeaders dittoHeaders = getDittoHeaders.apply(message);
         final ShardedMessageEnvelope messageEnvelope = ShardedMessageEnvelope.of(id, type, jsonObject, dittoHeaders);
         shardRegion.forward(messageEnvelope, context());
+        return jsonObject;
     }
 
     private void forwardPolicyEventToShardRegion(final PolicyEvent<?> policyEvent, final String thingId) {
@@ -216,4 +331,8 @@ final class ThingsUpdater extends AbstractActor {
         log.debug("Successfully subscribed to distributed pub/sub on topic '{}'", subscribeAck.subscribe().topic());
     }
 
+    private enum FlushNamespaceStatistics {
+        INSTANCE
+    }
+
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.models.thingsearch.NamespaceStatisticsDelta;
+import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
+import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceResultEntry;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReport;
+import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.ThingCreated;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Status;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link NamespaceStatisticsActor}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public final class NamespaceStatisticsActorTest {
+
+    private static final DittoHeaders HEADERS = DittoHeaders.empty();
+
+    @Mock
+    private ThingsSearchPersistence searchPersistence;
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+    }
+
+    @After
+    public void tearDown() {
+        if (Objects.nonNull(actorSystem)) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void namespaceReportIsMaintainedFromDeltas() {
+        when(searchPersistence.generateNamespaceCountReport()).thenReturn(Source.single(
+                new SearchNamespaceReportResult(Arrays.asList(new SearchNamespaceResultEntry("ns1", 5L),
+                        new SearchNamespaceResultEntry("ns2", 1L)))));
+
+        final NamespaceStatisticsRecorder recorder = new NamespaceStatisticsRecorder();
+        recorder.record(ThingCreated.of(Thing.newBuilder().setId("ns1:thing").build(), 1L, Instant.now(), HEADERS),
+                100L);
+        recorder.record(AttributeModified.of("ns1:thing", JsonPointer.of("foo"), JsonValue.of(1), 2L, HEADERS),
+                50L);
+        recorder.record(ThingDeleted.of("ns2:thing", 2L, HEADERS), 20L);
+
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(NamespaceStatisticsActor.props(searchPersistence,
+                    Duration.ofMillis(100L), Duration.ofHours(1L)));
+
+            awaitAssert(duration("5 seconds"), () -> {
+                underTest.tell(SudoRetrieveNamespaceReport.of(HEADERS), getRef());
+                final SearchNamespaceReportResult report = expectMsgClass(SearchNamespaceReportResult.class);
+                assertThat(report.getNamespaceEntry("ns1").getCount()).isEqualTo(5L);
+                return report;
+            });
+
+            underTest.tell(recorder.drain().orElseThrow(IllegalStateException::new), getRef());
+
+            awaitAssert(duration("5 seconds"), () -> {
+                underTest.tell(SudoRetrieveNamespaceReport.of(HEADERS), getRef());
+                final SearchNamespaceReportResult report = expectMsgClass(SearchNamespaceReportResult.class);
+                assertThat(report.getNamespaceEntry("ns1").getCount()).isEqualTo(6L);
+                assertThat(report.getNamespaceEntry("ns1").getEventBytes()).isEqualTo(150L);
+                assertThat(report.getNamespaceEntry("ns1").getEventsPerSecond()).isPositive();
+                assertThat(report.getNamespaceEntry("ns2").getCount()).isEqualTo(0L);
+                return report;
+            });
+        }};
+    }
+
+    @Test
+    public void deltasDuringRecountAreAppliedToTheRecountedThings() {
+        final CompletableFuture<SearchNamespaceReportResult> countReport = new CompletableFuture<>();
+        when(searchPersistence.generateNamespaceCountReport()).thenReturn(Source.fromCompletionStage(countReport));
+
+        final NamespaceStatisticsRecorder recorder = new NamespaceStatisticsRecorder();
+        recorder.record(ThingCreated.of(Thing.newBuilder().setId("ns1:thing").build(), 1L, Instant.now(), HEADERS),
+                100L);
+
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(NamespaceStatisticsActor.props(searchPersistence,
+                    Duration.ofMillis(100L), Duration.ofHours(1L)));
+            verify(searchPersistence, timeout(5000L)).generateNamespaceCountReport();
+            underTest.tell(recorder.drain().orElseThrow(IllegalStateException::new), getRef());
+            underTest.tell(SudoRetrieveNamespaceReport.of(HEADERS), getRef());
+            expectMsgClass(Status.Failure.class);
+
+            countReport.complete(new SearchNamespaceReportResult(
+                    Collections.singletonList(new SearchNamespaceResultEntry("ns1", 5L))));
+
+            awaitAssert(duration("5 seconds"), () -> {
+                underTest.tell(SudoRetrieveNamespaceReport.of(HEADERS), getRef());
+                final SearchNamespaceReportResult report = expectMsgClass(SearchNamespaceReportResult.class);
+                assertThat(report.getNamespaceEntry("ns1").getCount()).isEqualTo(6L);
+                return report;
+            });
+        }};
+    }
+
+    @Test
+    public void recorderSamplesEventSizes() {
+        final JsonObject sampledJson = JsonFactory.newObject("{\"a\":1}");
+        final JsonObject largerJson = JsonFactory.newObject("{\"attribute\":\"value\"}");
+        final AttributeModified event =
+                AttributeModified.of("ns1:thing", JsonPointer.of("foo"), JsonValue.of(1), 2L, HEADERS);
+
+        final NamespaceStatisticsRecorder recorder = new NamespaceStatisticsRecorder();
+        recorder.record(event, sampledJson);
+        for (int i = 1; i < NamespaceStatisticsRecorder.EVENT_SIZE_SAMPLE_INTERVAL; i++) {
+            recorder.record(event, largerJson);
+        }
+
+        final NamespaceStatisticsDelta.Entry entry =
+                recorder.drain().orElseThrow(IllegalStateException::new).getEntries().get("ns1");
+        assertThat(entry.getEvents()).isEqualTo(NamespaceStatisticsRecorder.EVENT_SIZE_SAMPLE_INTERVAL);
+        assertThat(entry.getEventBytes()).isEqualTo(
+                NamespaceStatisticsRecorder.EVENT_SIZE_SAMPLE_INTERVAL * sampledJson.toString().length());
+
+        // the next event is sampled again
+        recorder.record(event, largerJson);
+        assertThat(recorder.drain().orElseThrow(IllegalStateException::new).getEntries().get("ns1").getEventBytes())
+                .isEqualTo((sampledJson.toString().length() + largerJson.toString().length()) / 2);
+    }
+
+}
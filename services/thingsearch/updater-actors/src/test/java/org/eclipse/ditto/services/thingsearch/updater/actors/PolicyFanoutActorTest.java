@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.thingsearch.ThingWithPolicyTag;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrievePolicyFanoutStatus;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrievePolicyFanoutStatusResponse;
+import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
+import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
+import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyNotAccessibleException;
+import org.eclipse.ditto.signals.events.policies.PolicyCreated;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.stream.ActorMaterializer;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link PolicyFanoutActor}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public final class PolicyFanoutActorTest {
+
+    private static final DittoHeaders HEADERS = DittoHeaders.empty();
+    private static final String POLICY_ID = "org.eclipse.ditto:policy";
+    private static final long POLICY_REVISION = 2L;
+
+    @Mock
+    private ThingsSearchUpdaterPersistence persistence;
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+    }
+
+    @After
+    public void tearDown() {
+        if (Objects.nonNull(actorSystem)) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void sendsRetrievedThingsOfOutdatedThingsToThingUpdatersPageByPage() {
+        final Policy policy = Policy.newBuilder(POLICY_ID).setRevision(POLICY_REVISION).build();
+        final PolicyTag policyTag = PolicyTag.of(POLICY_ID, POLICY_REVISION);
+        final String thingId1 = "org.eclipse.ditto:thing1";
+        final String thingId2 = "org.eclipse.ditto:thing2";
+        final String thingId3 = "org.eclipse.ditto:thing3";
+        final Thing thing1 = Thing.newBuilder().setId(thingId1).setPolicyId(POLICY_ID).setRevision(3L).build();
+        final Thing thing3 = Thing.newBuilder().setId(thingId3).setPolicyId(POLICY_ID).setRevision(4L).build();
+
+        when(persistence.getOutdatedThingIds(policyTag))
+                .thenReturn(Source.from(Arrays.asList(thingId1, thingId2, thingId3)));
+
+        new TestKit(actorSystem) {{
+            final TestKit policiesShardRegion = new TestKit(actorSystem);
+            final TestKit pubSubMediator = new TestKit(actorSystem);
+            final TestKit thingsUpdater = new TestKit(actorSystem);
+            final Duration askTimeout = Duration.ofSeconds(5L);
+            final PolicyEnforcerCache policyEnforcerCache =
+                    PolicyEnforcerCache.of(policiesShardRegion.getRef(), askTimeout);
+            final ActorRef underTest = actorSystem.actorOf(PolicyFanoutActor.props(persistence, policyEnforcerCache,
+                    pubSubMediator.getRef(), thingsUpdater.getRef(), 2, 1, 100, askTimeout));
+
+            underTest.tell(PolicyCreated.of(policy, POLICY_REVISION, HEADERS), getRef());
+
+            // the policy is retrieved once for all Things
+            final SudoRetrievePolicy retrievePolicy = policiesShardRegion.expectMsgClass(SudoRetrievePolicy.class);
+            assertThat(retrievePolicy.getId()).isEqualTo(POLICY_ID);
+            policiesShardRegion.reply(SudoRetrievePolicyResponse.of(POLICY_ID, policy, HEADERS));
+
+            // thing2 could not be retrieved
+            expectRetrieveThings(pubSubMediator, Arrays.asList(thingId1, thingId2),
+                    SudoRetrieveThingResponse.of(thing1.toJson(FieldType.regularOrSpecial()), HEADERS));
+
+            // with a parallelism of 1 the next Thing is only delegated after the ThingUpdater acknowledged
+            final ThingWithPolicyTag first = thingsUpdater.expectMsgClass(ThingWithPolicyTag.class);
+            assertThat(first).isEqualTo(ThingWithPolicyTag.of(thing1, policyTag));
+            thingsUpdater.expectNoMessage(scala.concurrent.duration.Duration.create(500, "ms"));
+
+            underTest.tell(SudoRetrievePolicyFanoutStatus.of(HEADERS), getRef());
+            final JsonObject statusInProgress =
+                    expectMsgClass(SudoRetrievePolicyFanoutStatusResponse.class).getStatus();
+            assertThat(statusInProgress.getValue("active")).contains(JsonValue.of(true));
+            assertThat(statusInProgress.getValue("total")).contains(JsonValue.of(3));
+
+            thingsUpdater.reply(StreamAck.success(first.asIdentifierString()));
+
+            final PolicyReferenceTag second = thingsUpdater.expectMsgClass(PolicyReferenceTag.class);
+            assertThat(second).isEqualTo(PolicyReferenceTag.of(thingId2, policyTag));
+            awaitAssert(duration("5 seconds"), () -> {
+                underTest.tell(SudoRetrievePolicyFanoutStatus.of(HEADERS), getRef());
+                final JsonObject status =
+                        expectMsgClass(SudoRetrievePolicyFanoutStatusResponse.class).getStatus();
+                assertThat(status.getValue("processed")).contains(JsonValue.of(1));
+                assertThat(status.getValue("etaSeconds")).isPresent();
+                return status;
+            });
+            thingsUpdater.reply(StreamAck.failure(second.asIdentifierString()));
+
+            expectRetrieveThings(pubSubMediator, Collections.singletonList(thingId3),
+                    SudoRetrieveThingResponse.of(thing3.toJson(FieldType.regularOrSpecial()), HEADERS));
+            final ThingWithPolicyTag third = thingsUpdater.expectMsgClass(ThingWithPolicyTag.class);
+            assertThat(third).isEqualTo(ThingWithPolicyTag.of(thing3, policyTag));
+            thingsUpdater.reply(StreamAck.success(third.asIdentifierString()));
+
+            awaitAssert(duration("5 seconds"), () -> {
+                underTest.tell(SudoRetrievePolicyFanoutStatus.of(HEADERS), getRef());
+                final JsonObject status =
+                        expectMsgClass(SudoRetrievePolicyFanoutStatusResponse.class).getStatus();
+                assertThat(status.getValue("active")).contains(JsonValue.of(false));
+                return status;
+            });
+            policiesShardRegion.expectNoMessage(scala.concurrent.duration.Duration.Zero());
+            verify(persistence, never()).insertOrUpdate(any(), anyLong(), anyLong());
+        }};
+    }
+
+    @Test
+    public void sendsPolicyReferenceTagsIfPolicyCannotBeRetrieved() {
+        final PolicyTag policyTag = PolicyTag.of(POLICY_ID, POLICY_REVISION);
+        final String thingId = "org.eclipse.ditto:thing";
+
+        when(persistence.getOutdatedThingIds(policyTag)).thenReturn(Source.single(thingId));
+
+        new TestKit(actorSystem) {{
+            final TestKit policiesShardRegion = new TestKit(actorSystem);
+            final TestKit pubSubMediator = new TestKit(actorSystem);
+            final TestKit thingsUpdater = new TestKit(actorSystem);
+            final Duration askTimeout = Duration.ofSeconds(5L);
+            final PolicyEnforcerCache policyEnforcerCache =
+                    PolicyEnforcerCache.of(policiesShardRegion.getRef(), askTimeout);
+            final ActorRef underTest = actorSystem.actorOf(PolicyFanoutActor.props(persistence, policyEnforcerCache,
+                    pubSubMediator.getRef(), thingsUpdater.getRef(), 2, 1, 100, askTimeout));
+
+            underTest.tell(policyTag, getRef());
+
+            policiesShardRegion.expectMsgClass(SudoRetrievePolicy.class);
+            policiesShardRegion.reply(PolicyNotAccessibleException.newBuilder(POLICY_ID).build());
+
+            assertThat(thingsUpdater.expectMsgClass(PolicyReferenceTag.class))
+                    .isEqualTo(PolicyReferenceTag.of(thingId, policyTag));
+            thingsUpdater.reply(StreamAck.success(PolicyReferenceTag.of(thingId, policyTag).asIdentifierString()));
+            pubSubMediator.expectNoMessage(scala.concurrent.duration.Duration.create(500, "ms"));
+        }};
+    }
+
+    private void expectRetrieveThings(final TestKit pubSubMediator, final List<String> expectedThingIds,
+            final Jsonifiable<?>... responses) {
+
+        final DistributedPubSubMediator.Send send = pubSubMediator.expectMsgClass(DistributedPubSubMediator.Send.class);
+        assertThat(send.path()).isEqualTo(ThingsMessagingConstants.THINGS_BULK_RETRIEVAL_ACTOR_PATH);
+        assertThat(((SudoRetrieveThings) send.msg()).getThingIds()).isEqualTo(expectedThingIds);
+        final SourceRef<Jsonifiable<?>> sourceRef = Source.from(Arrays.asList(responses))
+                .runWith(StreamRefs.sourceRef(), ActorMaterializer.create(actorSystem))
+                .toCompletableFuture()
+                .join();
+        pubSubMediator.reply(sourceRef);
+    }
+
+}
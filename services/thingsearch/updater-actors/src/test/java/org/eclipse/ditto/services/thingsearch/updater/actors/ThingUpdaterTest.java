@@ -51,11 +51,13 @@ import org.eclipse.ditto.model.things.Permission;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingBuilder;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.models.things.ThingTag;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.thingsearch.ThingWithPolicyTag;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingMetadata;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.utils.akka.JavaTestProbe;
@@ -627,7 +629,57 @@ public final class ThingUpdaterTest {
                 assertEquals(THING_ID, sudoRetrievePolicy.getId());
                 underTest.tell(sudoRetrievePolicyResponse, null);
 
-                waitUntil().updatePolicy(eq(thingWithPolicyId), any(Enforcer.class));
+                // the Thing did not change, thus only the changed entries of the policy index are updated
+                waitUntil().updatePolicyIncrementally(eq(thingWithPolicyId), any(Enforcer.class),
+                        any(Enforcer.class));
+            }
+        };
+    }
+
+    @Test
+    public void thingWithPolicyTagUpdatesPolicyWithoutRetrievingTheThing() {
+        final long policyRevision = REVISION;
+        final long newPolicyRevision = 2L;
+        final Policy initialPolicy = Policy.newBuilder(THING_ID)
+                .setRevision(policyRevision)
+                .build();
+        final Policy policy = Policy.newBuilder(THING_ID)
+                .setRevision(newPolicyRevision)
+                .setGrantedPermissionsFor(TestConstants.Policy.SUBJECT_ID, TestConstants.Policy.RESOURCE_KEY,
+                        TestConstants.Policy.PERMISSION_READ)
+                .build();
+        final DittoHeaders emptyDittoHeaders = DittoHeaders.empty();
+        final Thing thingWithPolicyId = thing.setPolicyId(THING_ID);
+        final ThingWithPolicyTag thingWithPolicyTag =
+                ThingWithPolicyTag.of(thingWithPolicyId, PolicyTag.of(THING_ID, newPolicyRevision));
+
+        new JavaTestProbe(actorSystem) {
+            {
+                final TestProbe thingsShardProbe = TestProbe.apply(actorSystem);
+                final TestProbe policiesShardProbe = TestProbe.apply(actorSystem);
+                final ActorRef underTest = createInitializedThingUpdaterActor(thingsShardProbe, policiesShardProbe);
+
+                refreshPolicyUpdateAnswers(REVISION, THING_ID, policyRevision);
+
+                // establish policy ID
+                underTest.tell(ThingCreated.of(thingWithPolicyId, 1L, emptyDittoHeaders), ref());
+                policiesShardProbe.expectMsgClass(SudoRetrievePolicy.class);
+                underTest.tell(SudoRetrievePolicyResponse.of(THING_ID, initialPolicy, emptyDittoHeaders), null);
+                waitUntil().insertOrUpdate(any(), anyLong(), eq(policyRevision));
+
+                // WHEN: the policy fanout sends the retrieved Thing
+                underTest.tell(thingWithPolicyTag, ref());
+
+                // THEN: the policy is loaded by the shared enforcer cache and the Thing is not retrieved again
+                final SudoRetrievePolicy sudoRetrievePolicy =
+                        policiesShardProbe.expectMsgClass(SudoRetrievePolicy.class);
+                assertEquals(THING_ID, sudoRetrievePolicy.getId());
+                policiesShardProbe.reply(SudoRetrievePolicyResponse.of(THING_ID, policy, emptyDittoHeaders));
+
+                waitUntil().updatePolicyIncrementally(eq(thingWithPolicyId), any(Enforcer.class),
+                        any(Enforcer.class));
+                expectMsgEquals(StreamAck.success(thingWithPolicyTag.asIdentifierString()));
+                thingsShardProbe.expectNoMessage(Duration.create(500, MILLISECONDS));
             }
         };
     }
@@ -975,7 +1027,8 @@ public final class ThingUpdaterTest {
                         Duration.create(1, "min"));
 
         final Props props = ThingUpdater.props(persistenceMock, circuitBreaker, thingsShard, policiesShard,
-                java.time.Duration.ofSeconds(60), orDefaultTimeout(thingsTimeout), 100)
+                java.time.Duration.ofSeconds(60), orDefaultTimeout(thingsTimeout), 100,
+                PolicyEnforcerCache.of(policiesShard, orDefaultTimeout(thingsTimeout)))
                 .withMailbox("akka.actor.custom-updater-mailbox");
 
         return actorSystem.actorOf(props, THING_ID);
@@ -999,6 +1052,7 @@ public final class ThingUpdaterTest {
             final long policyRevision) {
         when(persistenceMock.insertOrUpdate(any(), anyLong(), anyLong())).thenReturn(Source.single(true));
         when(persistenceMock.updatePolicy(any(), any())).thenReturn(Source.single(true));
+        when(persistenceMock.updatePolicyIncrementally(any(), any(), any())).thenReturn(Source.single(true));
         when(persistenceMock.getThingMetadata(any())).thenReturn(
                 Source.single(new ThingMetadata(thingRevision, policyId, policyRevision)));
     }
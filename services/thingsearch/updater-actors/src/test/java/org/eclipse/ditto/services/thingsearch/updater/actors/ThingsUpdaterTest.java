@@ -12,6 +12,7 @@ package org.eclipse.ditto.services.thingsearch.updater.actors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,13 +23,17 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
 import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.models.thingsearch.ThingWithPolicyTag;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
 import org.eclipse.ditto.signals.events.policies.PolicyDeleted;
@@ -116,6 +121,32 @@ public class ThingsUpdaterTest {
         }};
     }
 
+    @Test
+    public void policyEventIsOnlySentToPolicyFanout() {
+        final PolicyEvent event = PolicyDeleted.of(KNOWN_POLICY_ID, KNOWN_REVISION, Instant.now(), KNOWN_HEADERS);
+        new TestKit(actorSystem) {{
+            final TestProbe policyFanout = TestProbe.apply(actorSystem);
+
+            final ActorRef underTest = createThingsUpdater(policyFanout.ref());
+            underTest.tell(event, getRef());
+
+            policyFanout.expectMsg(event);
+            shardMessageReceiver.expectNoMessage(scala.concurrent.duration.Duration.create(1, "s"));
+            verify(persistence, never()).getThingIdsForPolicy(anyString());
+        }};
+    }
+
+    @Test
+    public void thingWithPolicyTagIsForwarded() {
+        final Thing thing = Thing.newBuilder().setId(KNOWN_THING_ID).setPolicyId(KNOWN_POLICY_ID).build();
+        final ThingWithPolicyTag message = ThingWithPolicyTag.of(thing, PolicyTag.of(KNOWN_POLICY_ID, 9L));
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createThingsUpdater();
+            underTest.tell(message, getRef());
+            expectShardedMessage(shardMessageReceiver, message, KNOWN_THING_ID);
+        }};
+    }
+
     @Test
     public void thingTagIsForwarded() {
         final EntityIdWithRevision event = ThingTag.of(KNOWN_THING_ID, KNOWN_REVISION);
@@ -156,6 +187,10 @@ public class ThingsUpdaterTest {
     }
 
     private ActorRef createThingsUpdater() {
+        return createThingsUpdater(null);
+    }
+
+    private ActorRef createThingsUpdater(@Nullable final ActorRef policyFanoutActor) {
         final CircuitBreaker circuitBreaker =
                 new CircuitBreaker(actorSystem.dispatcher(),
                         actorSystem.scheduler(),
@@ -171,7 +206,11 @@ public class ThingsUpdaterTest {
                 circuitBreaker,
                 eventProcessingActive,
                 activityCheckInterval,
-                Integer.MAX_VALUE));
+                Integer.MAX_VALUE,
+                null,
+                activityCheckInterval,
+                policyFanoutActor,
+                PolicyEnforcerCache.of(shardMessageReceiver.ref(), activityCheckInterval)));
     }
 
     private ThingsSearchUpdaterPersistence waitUntil() {
@@ -36,4 +36,22 @@ public interface StreamMetadataPersistence {
      * Optional will be empty if a timestamp has not yet been persisted.
      */
     Optional<Instant> retrieveLastSuccessfulStreamEnd();
+
+    /**
+     * Updates the token to resume a change stream with, e.g. the change stream of a journal collection.
+     *
+     * @param streamName the name of the change stream.
+     * @param resumeToken the serialized token.
+     * @return a {@link Source} holding the publisher to execute the operation.
+     */
+    Source<NotUsed, NotUsed> updateResumeToken(String streamName, String resumeToken);
+
+    /**
+     * Retrieves the token to resume a change stream with.
+     *
+     * @param streamName the name of the change stream.
+     * @return a {@link Source} of the serialized token or of an empty Optional if no token has been persisted for the
+     * stream yet.
+     */
+    Source<Optional<String>, NotUsed> retrieveResumeToken(String streamName);
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.signals.base.Signal;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Terminated;
+import akka.cluster.Cluster;
+import akka.cluster.ddata.DistributedData;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.ORMultiMap;
+import akka.cluster.ddata.ORMultiMapKey;
+import akka.cluster.ddata.Replicator;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Creator;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Receives the events of one topic on behalf of all local subscribers of a cluster node. The dispatcher advertises the
+ * aggregated {@link EventInterest} of its subscribers in the cluster, so that the {@link EventPublisherActor}s send
+ * each event only once to each node interested in it, and delivers the received events to the matching local
+ * subscribers.
+ * <p>
+ * Subscribers subscribe with {@link SubscribeForEvents} and are answered with a
+ * {@link DistributedPubSubMediator.SubscribeAck} like by the distributed pub/sub mediator.
+ * </p>
+ */
+public final class EventDispatcherActor extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "eventDispatcher";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final String topic;
+    private final Key<ORMultiMap<String, String>> interestKey;
+    private final Cluster cluster;
+    private final ActorRef replicator;
+    private final String selfPath;
+    private final Map<ActorRef, EventInterest> subscribers;
+
+    @Nullable
+    private Set<String> advertisedTokens;
+
+    private EventDispatcherActor(final String topic) {
+        this.topic = topic;
+        interestKey = interestKey(topic);
+        cluster = Cluster.get(getContext().getSystem());
+        replicator = DistributedData.get(getContext().getSystem()).replicator();
+        selfPath = getSelf().path().toSerializationFormatWithAddress(cluster.selfAddress());
+        subscribers = new HashMap<>();
+        advertisedTokens = null;
+    }
+
+    /**
+     * Creates Akka configuration object Props for this EventDispatcherActor.
+     *
+     * @param topic the topic the events are published to, e.g. the type prefix of Thing events.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final String topic) {
+        return Props.create(EventDispatcherActor.class, new Creator<EventDispatcherActor>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public EventDispatcherActor create() {
+                return new EventDispatcherActor(topic);
+            }
+        });
+    }
+
+    /**
+     * Returns the key of the replicated interests of all nodes in the given topic.
+     *
+     * @param topic the topic.
+     * @return the key mapping the path of each dispatcher to the tokens of its {@link EventInterest}.
+     */
+    static Key<ORMultiMap<String, String>> interestKey(final String topic) {
+        return ORMultiMapKey.create("event-interest:" + topic);
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != advertisedTokens) {
+            replicator.tell(new Replicator.Update<>(interestKey, ORMultiMap.create(), Replicator.writeLocal(),
+                    interests -> interests.remove(cluster, selfPath)), ActorRef.noSender());
+        }
+
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(SubscribeForEvents.class, this::subscribe)
+                .match(UnsubscribeFromEvents.class, this::unsubscribe)
+                .match(Terminated.class, terminated -> removeSubscriber(terminated.getActor()))
+                .match(Signal.class, this::dispatch)
+                .match(Replicator.UpdateResponse.class, response -> log.debug("Got <{}>.", response))
+                .matchAny(m -> {
+                    log.warning("Got unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void subscribe(final SubscribeForEvents subscribeForEvents) {
+        final ActorRef subscriber = getSender();
+        if (!subscribers.containsKey(subscriber)) {
+            getContext().watch(subscriber);
+        }
+        subscribers.put(subscriber, subscribeForEvents.getInterest());
+        advertiseInterest();
+        subscriber.tell(new DistributedPubSubMediator.SubscribeAck(
+                new DistributedPubSubMediator.Subscribe(topic, subscriber)), getSelf());
+    }
+
+    private void unsubscribe(final UnsubscribeFromEvents unsubscribeFromEvents) {
+        final ActorRef subscriber = getSender();
+        getContext().unwatch(subscriber);
+        removeSubscriber(subscriber);
+        subscriber.tell(new DistributedPubSubMediator.UnsubscribeAck(
+                new DistributedPubSubMediator.Unsubscribe(topic, subscriber)), getSelf());
+    }
+
+    private void removeSubscriber(final ActorRef subscriber) {
+        if (null != subscribers.remove(subscriber)) {
+            advertiseInterest();
+        }
+    }
+
+    private void dispatch(final Signal<?> event) {
+        subscribers.forEach((subscriber, interest) -> {
+            if (interest.matches(event)) {
+                subscriber.tell(event, getSender());
+            }
+        });
+    }
+
+    private void advertiseInterest() {
+        final EventInterest interest = EventInterest.union(subscribers.values());
+        final Set<String> tokens = null != interest ? interest.toTokens() : null;
+        // only changes of the aggregated interest of this node are replicated
+        if (!Objects.equals(tokens, advertisedTokens)) {
+            log.debug("Advertising interest <{}> in topic <{}>.", interest, topic);
+            advertisedTokens = tokens;
+            replicator.tell(new Replicator.Update<>(interestKey, ORMultiMap.create(), Replicator.writeLocal(),
+                    interests -> null != tokens
+                            ? interests.put(cluster, selfPath, tokens)
+                            : interests.remove(cluster, selfPath)), getSelf());
+        }
+    }
+
+    /**
+     * Subscribes the sender for the events matching an {@link EventInterest}. A subsequent subscription of the same
+     * sender replaces its interest.
+     */
+    @Immutable
+    public static final class SubscribeForEvents {
+
+        private final EventInterest interest;
+
+        /**
+         * Creates a new {@code SubscribeForEvents} message.
+         *
+         * @param interest the interest of the subscriber.
+         * @throws NullPointerException if {@code interest} is {@code null}.
+         */
+        public SubscribeForEvents(final EventInterest interest) {
+            this.interest = checkNotNull(interest, "interest");
+        }
+
+        /**
+         * @return the interest of the subscriber.
+         */
+        public EventInterest getInterest() {
+            return interest;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [interest=" + interest + "]";
+        }
+
+    }
+
+    /**
+     * Unsubscribes the sender from all events.
+     */
+    @Immutable
+    public static final class UnsubscribeFromEvents {
+
+        private static final UnsubscribeFromEvents INSTANCE = new UnsubscribeFromEvents();
+
+        private UnsubscribeFromEvents() {
+            // no-op
+        }
+
+        /**
+         * @return the {@code UnsubscribeFromEvents} message.
+         */
+        public static UnsubscribeFromEvents getInstance() {
+            return INSTANCE;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName();
+        }
+
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.signals.base.Signal;
+
+/**
+ * The events a subscriber is interested in: the namespaces of the entities and the subjects which must be allowed to
+ * read the events. An empty set of namespaces or subjects stands for all namespaces or subjects.
+ * <p>
+ * The interest of a subscriber node is replicated in the cluster as a set of tokens, see {@link #toTokens()}.
+ * </p>
+ */
+@Immutable
+public final class EventInterest {
+
+    private static final String NAMESPACE_PREFIX = "ns:";
+    private static final String SUBJECT_PREFIX = "sub:";
+    private static final String ANY = "*";
+
+    private static final EventInterest ALL = new EventInterest(Collections.emptySet(), Collections.emptySet());
+
+    private final Set<String> namespaces;
+    private final Set<String> subjects;
+
+    private EventInterest(final Set<String> namespaces, final Set<String> subjects) {
+        this.namespaces = Collections.unmodifiableSet(namespaces);
+        this.subjects = Collections.unmodifiableSet(subjects);
+    }
+
+    /**
+     * Returns the interest in all events.
+     *
+     * @return the interest.
+     */
+    public static EventInterest all() {
+        return ALL;
+    }
+
+    /**
+     * Returns the interest in the events of the given namespaces which are readable by any of the given subjects.
+     *
+     * @param namespaces the namespaces or an empty collection for all namespaces.
+     * @param subjects the subjects or an empty collection for all subjects.
+     * @return the interest.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static EventInterest of(final Collection<String> namespaces, final Collection<String> subjects) {
+        checkNotNull(namespaces, "namespaces");
+        checkNotNull(subjects, "subjects");
+
+        return new EventInterest(new HashSet<>(namespaces), new HashSet<>(subjects));
+    }
+
+    /**
+     * Returns the interest which covers all of the given interests.
+     *
+     * @param interests the interests.
+     * @return the union of the interests or {@code null} if {@code interests} is empty.
+     */
+    @Nullable
+    public static EventInterest union(final Collection<EventInterest> interests) {
+        if (interests.isEmpty()) {
+            return null;
+        }
+        final Set<String> namespaces = new HashSet<>();
+        final Set<String> subjects = new HashSet<>();
+        boolean allNamespaces = false;
+        boolean allSubjects = false;
+        for (final EventInterest interest : interests) {
+            allNamespaces |= interest.namespaces.isEmpty();
+            allSubjects |= interest.subjects.isEmpty();
+            namespaces.addAll(interest.namespaces);
+            subjects.addAll(interest.subjects);
+        }
+        return new EventInterest(allNamespaces ? Collections.emptySet() : namespaces,
+                allSubjects ? Collections.emptySet() : subjects);
+    }
+
+    /**
+     * Restores an interest from its replicated tokens.
+     *
+     * @param tokens the tokens.
+     * @return the interest.
+     */
+    static EventInterest fromTokens(final Collection<String> tokens) {
+        final Set<String> namespaces = new HashSet<>();
+        final Set<String> subjects = new HashSet<>();
+        for (final String token : tokens) {
+            if (token.startsWith(NAMESPACE_PREFIX)) {
+                namespaces.add(token.substring(NAMESPACE_PREFIX.length()));
+            } else if (token.startsWith(SUBJECT_PREFIX)) {
+                subjects.add(token.substring(SUBJECT_PREFIX.length()));
+            }
+        }
+        return new EventInterest(namespaces.contains(ANY) ? Collections.emptySet() : namespaces,
+                subjects.contains(ANY) ? Collections.emptySet() : subjects);
+    }
+
+    /**
+     * Returns the tokens this interest is replicated with.
+     *
+     * @return the tokens.
+     */
+    Set<String> toTokens() {
+        final Set<String> tokens = new HashSet<>();
+        if (namespaces.isEmpty()) {
+            tokens.add(NAMESPACE_PREFIX + ANY);
+        } else {
+            namespaces.forEach(namespace -> tokens.add(NAMESPACE_PREFIX + namespace));
+        }
+        if (subjects.isEmpty()) {
+            tokens.add(SUBJECT_PREFIX + ANY);
+        } else {
+            subjects.forEach(subject -> tokens.add(SUBJECT_PREFIX + subject));
+        }
+        return tokens;
+    }
+
+    /**
+     * Indicates whether the given event is of interest.
+     *
+     * @param event the event.
+     * @return whether the namespace of the event and one of its read subjects are of interest.
+     */
+    public boolean matches(final Signal<?> event) {
+        return matches(namespaceOf(event.getId()), event.getDittoHeaders().getReadSubjects());
+    }
+
+    /**
+     * Indicates whether an event of the given namespace with the given read subjects is of interest.
+     *
+     * @param namespace the namespace of the event.
+     * @param readSubjects the subjects allowed to read the event.
+     * @return whether the event is of interest.
+     */
+    public boolean matches(final String namespace, final Collection<String> readSubjects) {
+        return (namespaces.isEmpty() || namespaces.contains(namespace)) &&
+                (subjects.isEmpty() || !Collections.disjoint(subjects, readSubjects));
+    }
+
+    private static String namespaceOf(final String id) {
+        final int separatorIndex = id.indexOf(':');
+        return separatorIndex < 0 ? "" : id.substring(0, separatorIndex);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final EventInterest that = (EventInterest) o;
+        return Objects.equals(namespaces, that.namespaces) && Objects.equals(subjects, that.subjects);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(namespaces, subjects);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "namespaces=" + namespaces +
+                ", subjects=" + subjects +
+                "]";
+    }
+
+}
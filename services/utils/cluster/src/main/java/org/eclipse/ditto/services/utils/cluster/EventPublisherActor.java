@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.signals.base.Signal;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorPath;
+import akka.actor.ActorPaths;
+import akka.actor.ActorRef;
+import akka.actor.ActorSelection;
+import akka.actor.Address;
+import akka.actor.Props;
+import akka.cluster.Cluster;
+import akka.cluster.ClusterEvent;
+import akka.cluster.Member;
+import akka.cluster.MemberStatus;
+import akka.cluster.ddata.DistributedData;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.ORMultiMap;
+import akka.cluster.ddata.Replicator;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Creator;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Stands in for the distributed pub/sub mediator of a publishing node. Events published to one of the partitioned
+ * topics are sent once to each {@link EventDispatcherActor} of the topic whose advertised {@link EventInterest}
+ * matches the namespace and the read subjects of the event, instead of to every subscriber in the cluster. The events
+ * are still published via the mediator as well in order to reach the subscribers which subscribed directly, e.g. the
+ * consumer groups of other services. All other messages are forwarded to the mediator unchanged.
+ */
+public final class EventPublisherActor extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "eventPublisher";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ActorRef pubSubMediator;
+    private final Map<Key<ORMultiMap<String, String>>, String> topicsByInterestKey;
+    private final Cluster cluster;
+    private final ActorRef replicator;
+
+    private final Map<String, Map<String, Set<String>>> interests;
+    private final Map<String, List<Route>> routes;
+
+    private EventPublisherActor(final ActorRef pubSubMediator, final Collection<String> topics) {
+        this.pubSubMediator = pubSubMediator;
+        topicsByInterestKey = new HashMap<>();
+        cluster = Cluster.get(getContext().getSystem());
+        replicator = DistributedData.get(getContext().getSystem()).replicator();
+        interests = new HashMap<>();
+        routes = new HashMap<>();
+        topics.forEach(topic -> {
+            topicsByInterestKey.put(EventDispatcherActor.interestKey(topic), topic);
+            interests.put(topic, Collections.emptyMap());
+            routes.put(topic, Collections.emptyList());
+        });
+    }
+
+    /**
+     * Creates Akka configuration object Props for this EventPublisherActor.
+     *
+     * @param pubSubMediator the distributed pub/sub mediator to forward all messages to.
+     * @param topic the partitioned topic, e.g. the type prefix of Thing events.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator, final String topic) {
+        return props(pubSubMediator, Collections.singletonList(topic));
+    }
+
+    /**
+     * Creates Akka configuration object Props for this EventPublisherActor partitioning several topics.
+     *
+     * @param pubSubMediator the distributed pub/sub mediator to forward all messages to.
+     * @param topics the partitioned topics, e.g. the topics of live commands, live events and messages.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator, final Collection<String> topics) {
+        final List<String> partitionedTopics = new ArrayList<>(topics);
+        return Props.create(EventPublisherActor.class, new Creator<EventPublisherActor>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public EventPublisherActor create() {
+                return new EventPublisherActor(pubSubMediator, partitionedTopics);
+            }
+        });
+    }
+
+    @Override
+    public void preStart() {
+        topicsByInterestKey.keySet()
+                .forEach(interestKey -> replicator.tell(new Replicator.Subscribe<>(interestKey, getSelf()), getSelf()));
+        cluster.subscribe(getSelf(), ClusterEvent.initialStateAsEvents(), ClusterEvent.MemberUp.class,
+                ClusterEvent.MemberRemoved.class);
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        cluster.unsubscribe(getSelf());
+
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(DistributedPubSubMediator.Publish.class, this::isPartitionedEvent, this::publish)
+                .match(Replicator.Changed.class, this::interestsChanged)
+                .match(ClusterEvent.MemberEvent.class, memberEvent -> interests.keySet().forEach(this::updateRoutes))
+                .matchAny(m -> pubSubMediator.forward(m, getContext()))
+                .build();
+    }
+
+    private boolean isPartitionedEvent(final DistributedPubSubMediator.Publish publish) {
+        return routes.containsKey(publish.topic()) && publish.msg() instanceof Signal;
+    }
+
+    private void publish(final DistributedPubSubMediator.Publish publish) {
+        final Signal<?> event = (Signal<?>) publish.msg();
+        routes.get(publish.topic()).forEach(route -> {
+            if (route.interest.matches(event)) {
+                route.dispatcher.tell(event, getSender());
+            }
+        });
+        pubSubMediator.forward(publish, getContext());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void interestsChanged(final Replicator.Changed<?> changed) {
+        final String topic = topicsByInterestKey.get(changed.key());
+        if (null != topic) {
+            interests.put(topic, ((ORMultiMap<String, String>) changed.dataValue()).getEntries());
+            updateRoutes(topic);
+        }
+    }
+
+    private void updateRoutes(final String topic) {
+        final Set<Address> availableAddresses =
+                StreamSupport.stream(cluster.state().getMembers().spliterator(), false)
+                        .filter(member -> member.status() == MemberStatus.up() ||
+                                member.status() == MemberStatus.weaklyUp())
+                        .map(Member::address)
+                        .collect(Collectors.toSet());
+
+        final Map<String, Set<String>> topicInterests = interests.get(topic);
+        final List<Route> newRoutes = new ArrayList<>(topicInterests.size());
+        topicInterests.forEach((dispatcherPath, tokens) -> {
+            final ActorPath path = ActorPaths.fromString(dispatcherPath);
+            if (availableAddresses.contains(path.address())) {
+                newRoutes.add(new Route(getContext().actorSelection(path), EventInterest.fromTokens(tokens)));
+            }
+        });
+        routes.put(topic, newRoutes);
+        log.debug("Publishing events of topic <{}> to <{}> interested nodes.", topic, newRoutes.size());
+    }
+
+    private static final class Route {
+
+        private final ActorSelection dispatcher;
+        private final EventInterest interest;
+
+        private Route(final ActorSelection dispatcher, final EventInterest interest) {
+            this.dispatcher = dispatcher;
+            this.interest = interest;
+        }
+
+    }
+
+}
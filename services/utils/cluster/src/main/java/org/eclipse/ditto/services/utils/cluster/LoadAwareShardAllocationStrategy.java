@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.cluster.sharding.ShardCoordinator;
+import akka.dispatch.Futures;
+import scala.collection.JavaConverters;
+import scala.collection.immutable.IndexedSeq;
+import scala.concurrent.Future;
+
+/**
+ * Shard allocation strategy which places and rebalances shards based on their load instead of their count only.
+ * The load of a shard is its message rate plus its amount of entities multiplied with a configurable weight; both
+ * are determined on each cluster node by a {@link ShardLoadReporter}, which publishes them to the reporters of all
+ * other cluster nodes.
+ * <p>
+ * New shards are allocated to the region with the least load. Shards are rebalanced from the region with the
+ * highest load to the region with the lowest load only if the highest load exceeds the average load by more than
+ * the rebalance threshold (hysteresis), only if moving the shard reduces the imbalance, at most
+ * {@code maxSimultaneousRebalance} shards at a time and not more than once per shard within the rebalance cooldown.
+ * </p>
+ */
+public final class LoadAwareShardAllocationStrategy extends ShardCoordinator.AbstractShardAllocationStrategy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadAwareShardAllocationStrategy.class);
+
+    private static final String REBALANCED_SHARDS_COUNTER = "sharding_rebalanced_shards";
+
+    private final String typeName;
+    private final Map<ActorRef, ShardLoadReporter.ShardLoad> regionLoads;
+    private final double rebalanceThreshold;
+    private final int maxSimultaneousRebalance;
+    private final Duration rebalanceCooldown;
+    private final double entityWeight;
+    private final Map<String, Double> shardLoads;
+    private final Map<String, Long> lastRebalanceNanos;
+    private final Counter rebalancedShards;
+
+    LoadAwareShardAllocationStrategy(final String typeName,
+            final Map<ActorRef, ShardLoadReporter.ShardLoad> regionLoads,
+            final double rebalanceThreshold,
+            final int maxSimultaneousRebalance,
+            final Duration rebalanceCooldown,
+            final double entityWeight) {
+
+        this.typeName = typeName;
+        this.regionLoads = regionLoads;
+        this.rebalanceThreshold = rebalanceThreshold;
+        this.maxSimultaneousRebalance = maxSimultaneousRebalance;
+        this.rebalanceCooldown = rebalanceCooldown;
+        this.entityWeight = entityWeight;
+        shardLoads = new ConcurrentHashMap<>();
+        lastRebalanceNanos = new ConcurrentHashMap<>();
+        rebalancedShards = DittoMetrics.counter(REBALANCED_SHARDS_COUNTER).tag("region", typeName);
+    }
+
+    /**
+     * Returns a new {@code LoadAwareShardAllocationStrategy} for the shard region with the given type name and starts
+     * the {@link ShardLoadReporter} of this cluster node for it. Must be invoked on each cluster node starting the
+     * shard region.
+     *
+     * @param actorSystem the actor system to start the reporter in.
+     * @param typeName the type name of the shard region.
+     * @param shardLoadTracker the tracker the {@link ShardRegionExtractor} of the shard region records messages in.
+     * @param rebalanceThreshold by how much the load of a region has to exceed the average load of all regions
+     * before shards are rebalanced, e. g. {@code 0.25} for 25 percent.
+     * @param maxSimultaneousRebalance the maximum amount of shards to rebalance at the same time.
+     * @param rebalanceCooldown the minimum duration between two rebalances of the same shard.
+     * @param entityWeight the load of one entity relative to the load of one message per second.
+     * @param reportInterval how often the load of the shards is determined.
+     * @return the strategy.
+     */
+    public static LoadAwareShardAllocationStrategy of(final ActorSystem actorSystem,
+            final String typeName,
+            final ShardLoadTracker shardLoadTracker,
+            final double rebalanceThreshold,
+            final int maxSimultaneousRebalance,
+            final Duration rebalanceCooldown,
+            final double entityWeight,
+            final Duration reportInterval) {
+
+        requireNonNull(actorSystem, "actor system");
+        requireNonNull(typeName, "type name");
+        requireNonNull(shardLoadTracker, "shard load tracker");
+        requireNonNull(rebalanceCooldown, "rebalance cooldown");
+        requireNonNull(reportInterval, "report interval");
+
+        final Map<ActorRef, ShardLoadReporter.ShardLoad> regionLoads = new ConcurrentHashMap<>();
+        actorSystem.actorOf(ShardLoadReporter.props(typeName, shardLoadTracker, reportInterval, regionLoads),
+                ShardLoadReporter.actorName(typeName));
+
+        return new LoadAwareShardAllocationStrategy(typeName, regionLoads, rebalanceThreshold,
+                maxSimultaneousRebalance, rebalanceCooldown, entityWeight);
+    }
+
+    @Override
+    public Future<ActorRef> allocateShard(final ActorRef requester, final String shardId,
+            final Map<ActorRef, IndexedSeq<String>> currentShardAllocations) {
+
+        final ActorRef region = currentShardAllocations.entrySet()
+                .stream()
+                .min(Comparator.<Map.Entry<ActorRef, IndexedSeq<String>>>comparingDouble(
+                        entry -> regionLoad(entry.getValue()))
+                        .thenComparingInt(entry -> entry.getValue().size()))
+                .map(Map.Entry::getKey)
+                .orElse(requester);
+
+        return Futures.successful(region);
+    }
+
+    @Override
+    public Future<Set<String>> rebalance(final Map<ActorRef, IndexedSeq<String>> currentShardAllocations,
+            final Set<String> rebalanceInProgress) {
+
+        if (rebalanceInProgress.size() >= maxSimultaneousRebalance || currentShardAllocations.size() < 2) {
+            return Futures.successful(Collections.emptySet());
+        }
+
+        final Map<ActorRef, List<String>> reportingRegions = new HashMap<>();
+        currentShardAllocations.forEach((region, allocatedShardIds) ->
+                Optional.ofNullable(regionLoads.get(region)).ifPresent(shardLoad -> {
+                    final List<String> shardIds = toList(allocatedShardIds);
+                    shardIds.forEach(shardId -> shardLoads.put(shardId, load(shardLoad, shardId)));
+                    reportingRegions.put(region, shardIds);
+                }));
+
+        return Futures.successful(selectShardsToRebalance(reportingRegions,
+                maxSimultaneousRebalance - rebalanceInProgress.size(), rebalanceInProgress));
+    }
+
+    private Set<String> selectShardsToRebalance(final Map<ActorRef, List<String>> regions, final int maxShards,
+            final Set<String> rebalanceInProgress) {
+
+        if (regions.size() < 2) {
+            return Collections.emptySet();
+        }
+
+        final Map<ActorRef, Double> currentRegionLoads = new HashMap<>();
+        regions.forEach((region, shardIds) -> currentRegionLoads.put(region, regionLoad(shardIds)));
+        final double averageLoad =
+                currentRegionLoads.values().stream().mapToDouble(Double::doubleValue).sum() / currentRegionLoads.size();
+
+        final Set<String> shardsToRebalance = new HashSet<>();
+        final long now = System.nanoTime();
+        while (shardsToRebalance.size() < maxShards) {
+            final ActorRef hottestRegion = Collections.max(currentRegionLoads.entrySet(), Map.Entry.comparingByValue())
+                    .getKey();
+            final ActorRef coldestRegion = Collections.min(currentRegionLoads.entrySet(), Map.Entry.comparingByValue())
+                    .getKey();
+            final double hottestLoad = currentRegionLoads.get(hottestRegion);
+            final double coldestLoad = currentRegionLoads.get(coldestRegion);
+            if (hottestLoad <= averageLoad * (1 + rebalanceThreshold)) {
+                break;
+            }
+
+            // moving a shard only reduces the imbalance if its load is below the difference of both regions;
+            // the best candidate is the shard whose load is closest to half of that difference
+            final double difference = hottestLoad - coldestLoad;
+            final Optional<String> candidate = regions.get(hottestRegion)
+                    .stream()
+                    .filter(shardId -> !rebalanceInProgress.contains(shardId))
+                    .filter(shardId -> !shardsToRebalance.contains(shardId))
+                    .filter(shardId -> !isInCooldown(shardId, now))
+                    .filter(shardId -> {
+                        final double shardLoad = shardLoads.getOrDefault(shardId, 0.0);
+                        return shardLoad > 0 && shardLoad < difference;
+                    })
+                    .min(Comparator.comparingDouble(
+                            shardId -> Math.abs(shardLoads.getOrDefault(shardId, 0.0) - difference / 2)));
+            if (!candidate.isPresent()) {
+                break;
+            }
+
+            final String shardId = candidate.get();
+            final double shardLoad = shardLoads.getOrDefault(shardId, 0.0);
+            shardsToRebalance.add(shardId);
+            currentRegionLoads.put(hottestRegion, hottestLoad - shardLoad);
+            currentRegionLoads.put(coldestRegion, coldestLoad + shardLoad);
+        }
+
+        if (!shardsToRebalance.isEmpty()) {
+            LOGGER.info("Rebalancing shards <{}> of region <{}> with average load <{}>.", shardsToRebalance,
+                    typeName, averageLoad);
+            shardsToRebalance.forEach(shardId -> lastRebalanceNanos.put(shardId, now));
+            rebalancedShards.increment(shardsToRebalance.size());
+        }
+        return shardsToRebalance;
+    }
+
+    private boolean isInCooldown(final String shardId, final long now) {
+        final Long lastRebalance = lastRebalanceNanos.get(shardId);
+        return null != lastRebalance && now - lastRebalance < rebalanceCooldown.toNanos();
+    }
+
+    private double regionLoad(final Collection<String> shardIds) {
+        return shardIds.stream().mapToDouble(shardId -> shardLoads.getOrDefault(shardId, 0.0)).sum();
+    }
+
+    private double regionLoad(final IndexedSeq<String> shardIds) {
+        return regionLoad(toList(shardIds));
+    }
+
+    private double load(final ShardLoadReporter.ShardLoad shardLoad, final String shardId) {
+        return shardLoad.getMessageRate(shardId) + entityWeight * shardLoad.getEntityCount(shardId);
+    }
+
+    private static List<String> toList(final IndexedSeq<String> shardIds) {
+        return JavaConverters.seqAsJavaList(shardIds).stream().collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Cancellable;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.actor.Terminated;
+import akka.cluster.pubsub.DistributedPubSub;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.cluster.sharding.ClusterSharding;
+import akka.cluster.sharding.ShardRegion;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Creator;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.PatternsCS;
+import akka.serialization.Serialization;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Actor which periodically determines the load of the shards of one shard region hosted on this cluster node: the
+ * rate of messages routed to each shard, as recorded by a {@link ShardLoadTracker}, and the amount of entities
+ * (actors) of each shard. The load is reported as {@code DittoMetrics} gauges and published as {@link ShardLoad} to
+ * the reporters of the shard region on all cluster nodes, which collect the latest load of each shard region for the
+ * {@link LoadAwareShardAllocationStrategy} of their node.
+ */
+public final class ShardLoadReporter extends AbstractActor {
+
+    private static final String ACTOR_NAME_PREFIX = "shardLoadReporter-";
+    private static final String TOPIC_PREFIX = "shardLoad:";
+
+    private static final String MESSAGE_RATE_GAUGE = "sharding_shard_messages_per_second";
+    private static final String ENTITIES_GAUGE = "sharding_shard_entities";
+    private static final String REGION_TAG = "region";
+    private static final String SHARD_TAG = "shard";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final String typeName;
+    private final ShardLoadTracker shardLoadTracker;
+    private final Duration reportInterval;
+    private final Map<ActorRef, ShardLoad> regionLoads;
+    private final ActorRef pubSubMediator;
+    private final String topic;
+
+    private Cancellable reportTick;
+    private long lastTickNanos;
+    private Map<String, Double> pendingMessageRates;
+    private Set<String> reportedShardIds;
+
+    private ShardLoadReporter(final String typeName, final ShardLoadTracker shardLoadTracker,
+            final Duration reportInterval, final Map<ActorRef, ShardLoad> regionLoads) {
+
+        this.typeName = typeName;
+        this.shardLoadTracker = shardLoadTracker;
+        this.reportInterval = reportInterval;
+        this.regionLoads = regionLoads;
+        pubSubMediator = DistributedPubSub.get(getContext().getSystem()).mediator();
+        topic = TOPIC_PREFIX + typeName;
+        lastTickNanos = System.nanoTime();
+        pendingMessageRates = Collections.emptyMap();
+        reportedShardIds = Collections.emptySet();
+    }
+
+    /**
+     * Creates Akka configuration object Props for this ShardLoadReporter.
+     *
+     * @param typeName the type name of the shard region whose load is reported.
+     * @param shardLoadTracker the tracker the {@link ShardRegionExtractor} of the region records messages in.
+     * @param reportInterval how often to determine the load of the shards.
+     * @param regionLoads the map to collect the latest load published for each shard region in; entries of
+     * terminated shard regions are removed.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final String typeName, final ShardLoadTracker shardLoadTracker,
+            final Duration reportInterval, final Map<ActorRef, ShardLoad> regionLoads) {
+
+        return Props.create(ShardLoadReporter.class, new Creator<ShardLoadReporter>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public ShardLoadReporter create() {
+                return new ShardLoadReporter(typeName, shardLoadTracker, reportInterval, regionLoads);
+            }
+        });
+    }
+
+    /**
+     * Returns the name of the reporter of a shard region. The reporter is started as top level actor with this name
+     * on each cluster node hosting the shard region.
+     *
+     * @param typeName the type name of the shard region.
+     * @return the actor name.
+     */
+    public static String actorName(final String typeName) {
+        return ACTOR_NAME_PREFIX + typeName;
+    }
+
+    @Override
+    public void preStart() {
+        pubSubMediator.tell(new DistributedPubSubMediator.Subscribe(topic, getSelf()), getSelf());
+        final FiniteDuration interval = FiniteDuration.apply(reportInterval.toMillis(), TimeUnit.MILLISECONDS);
+        reportTick = getContext().getSystem()
+                .scheduler()
+                .schedule(interval, interval, getSelf(), ReportTick.INSTANCE, getContext().dispatcher(),
+                        ActorRef.noSender());
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != reportTick) {
+            reportTick.cancel();
+        }
+        reportedShardIds.forEach(this::removeGauges);
+
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(ReportTick.class, tick -> determineShardLoad())
+                .match(ShardRegion.ShardRegionStats.class, this::reportShardLoad)
+                .match(ShardLoad.class, this::collectShardLoad)
+                .match(Terminated.class, terminated -> regionLoads.remove(terminated.getActor()))
+                .match(DistributedPubSubMediator.SubscribeAck.class, ack ->
+                        log.debug("Subscribed to load of shard region <{}>.", typeName))
+                .match(Status.Failure.class, failure ->
+                        log.warning("Could not retrieve stats of shard region <{}>: {}", typeName, failure.cause()))
+                .matchAny(m -> {
+                    log.warning("Got unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void determineShardLoad() {
+        final long now = System.nanoTime();
+        final double elapsedSeconds = Math.max(1.0, (now - lastTickNanos) / 1e9);
+        lastTickNanos = now;
+
+        final Map<String, Double> messageRates = new HashMap<>();
+        shardLoadTracker.drainMessageCounts()
+                .forEach((shardId, count) -> messageRates.put(shardId, count / elapsedSeconds));
+        pendingMessageRates = messageRates;
+
+        final ActorRef shardRegion = ClusterSharding.get(getContext().getSystem()).shardRegion(typeName);
+        PatternsCS.pipe(PatternsCS.ask(shardRegion, ShardRegion.getRegionStatsInstance(), reportInterval.toMillis()),
+                getContext().dispatcher())
+                .to(getSelf());
+    }
+
+    private void reportShardLoad(final ShardRegion.ShardRegionStats stats) {
+        final Map<String, Double> messageRates = new HashMap<>();
+        final Map<String, Integer> entityCounts = new HashMap<>();
+        stats.getStats().forEach((shardId, entityCount) -> {
+            final double messageRate = pendingMessageRates.getOrDefault(shardId, 0.0);
+            messageRates.put(shardId, messageRate);
+            entityCounts.put(shardId, (Integer) entityCount);
+
+            messageRateGauge(shardId).set(Math.round(messageRate));
+            entitiesGauge(shardId).set(((Integer) entityCount).longValue());
+        });
+
+        // shards which moved to another cluster node are no longer reported by this node
+        reportedShardIds.stream()
+                .filter(shardId -> !entityCounts.containsKey(shardId))
+                .forEach(this::removeGauges);
+        reportedShardIds = new HashSet<>(entityCounts.keySet());
+
+        final ActorRef shardRegion = ClusterSharding.get(getContext().getSystem()).shardRegion(typeName);
+        final ShardLoad shardLoad = new ShardLoad(shardRegion, messageRates, entityCounts);
+        log.debug("Load of shards of region <{}>: {}", typeName, shardLoad);
+        pubSubMediator.tell(new DistributedPubSubMediator.Publish(topic, shardLoad), getSelf());
+    }
+
+    private void collectShardLoad(final ShardLoad shardLoad) {
+        final ActorRef shardRegion = ((ExtendedActorSystem) getContext().getSystem()).provider()
+                .resolveActorRef(shardLoad.getShardRegionPath());
+        if (null == regionLoads.put(shardRegion, shardLoad)) {
+            getContext().watch(shardRegion);
+        }
+    }
+
+    private void removeGauges(final String shardId) {
+        messageRateGauge(shardId).remove();
+        entitiesGauge(shardId).remove();
+    }
+
+    private Gauge messageRateGauge(final String shardId) {
+        return DittoMetrics.gauge(MESSAGE_RATE_GAUGE).tag(REGION_TAG, typeName).tag(SHARD_TAG, shardId);
+    }
+
+    private Gauge entitiesGauge(final String shardId) {
+        return DittoMetrics.gauge(ENTITIES_GAUGE).tag(REGION_TAG, typeName).tag(SHARD_TAG, shardId);
+    }
+
+    /**
+     * Load of the shards of a shard region hosted on one cluster node. It is published in JSON to the reporters of
+     * the other cluster nodes like all other cluster messages of Ditto; the shard region is therefore referred to by
+     * its serialized actor path.
+     */
+    @Immutable
+    public static final class ShardLoad implements Jsonifiable<JsonObject> {
+
+        private final String shardRegionPath;
+        private final Map<String, Double> messageRates;
+        private final Map<String, Integer> entityCounts;
+
+        ShardLoad(final ActorRef shardRegion, final Map<String, Double> messageRates,
+                final Map<String, Integer> entityCounts) {
+
+            this(Serialization.serializedActorPath(shardRegion), messageRates, entityCounts);
+        }
+
+        private ShardLoad(final String shardRegionPath, final Map<String, Double> messageRates,
+                final Map<String, Integer> entityCounts) {
+
+            this.shardRegionPath = shardRegionPath;
+            this.messageRates = Collections.unmodifiableMap(new HashMap<>(messageRates));
+            this.entityCounts = Collections.unmodifiableMap(new HashMap<>(entityCounts));
+        }
+
+        /**
+         * Creates a new {@link ShardLoad} from a JSON object.
+         *
+         * @param jsonObject the JSON object of which a new {@link ShardLoad} is to be created.
+         * @return the {@link ShardLoad} which was created from the given JSON object.
+         * @throws NullPointerException if {@code jsonObject} is {@code null}.
+         * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonObject} was not in
+         * the expected format.
+         */
+        public static ShardLoad fromJson(final JsonObject jsonObject) {
+            final String extractedShardRegionPath = jsonObject.getValueOrThrow(JsonFields.SHARD_REGION);
+
+            final Map<String, Double> extractedMessageRates = new HashMap<>();
+            jsonObject.getValueOrThrow(JsonFields.MESSAGE_RATES)
+                    .forEach(field -> extractedMessageRates.put(field.getKeyName(), field.getValue().asDouble()));
+
+            final Map<String, Integer> extractedEntityCounts = new HashMap<>();
+            jsonObject.getValueOrThrow(JsonFields.ENTITY_COUNTS)
+                    .forEach(field -> extractedEntityCounts.put(field.getKeyName(), field.getValue().asInt()));
+
+            return new ShardLoad(extractedShardRegionPath, extractedMessageRates, extractedEntityCounts);
+        }
+
+        /**
+         * Returns the serialized actor path of the shard region hosting the shards.
+         *
+         * @return the actor path.
+         */
+        public String getShardRegionPath() {
+            return shardRegionPath;
+        }
+
+        /**
+         * Returns the messages per second routed to the given shard.
+         *
+         * @param shardId the ID of the shard.
+         * @return the message rate or 0 if the shard is unknown.
+         */
+        public double getMessageRate(final String shardId) {
+            return messageRates.getOrDefault(shardId, 0.0);
+        }
+
+        /**
+         * Returns the amount of entities of the given shard.
+         *
+         * @param shardId the ID of the shard.
+         * @return the amount of entities or 0 if the shard is unknown.
+         */
+        public int getEntityCount(final String shardId) {
+            return entityCounts.getOrDefault(shardId, 0);
+        }
+
+        @Override
+        public JsonObject toJson() {
+            final JsonObjectBuilder messageRatesBuilder = JsonFactory.newObjectBuilder();
+            messageRates.forEach(messageRatesBuilder::set);
+            final JsonObjectBuilder entityCountsBuilder = JsonFactory.newObjectBuilder();
+            entityCounts.forEach(entityCountsBuilder::set);
+
+            return JsonFactory.newObjectBuilder()
+                    .set(JsonFields.SHARD_REGION, shardRegionPath)
+                    .set(JsonFields.MESSAGE_RATES, messageRatesBuilder.build())
+                    .set(JsonFields.ENTITY_COUNTS, entityCountsBuilder.build())
+                    .build();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final ShardLoad that = (ShardLoad) o;
+            return Objects.equals(shardRegionPath, that.shardRegionPath) &&
+                    Objects.equals(messageRates, that.messageRates) &&
+                    Objects.equals(entityCounts, that.entityCounts);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(shardRegionPath, messageRates, entityCounts);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "shardRegionPath=" + shardRegionPath +
+                    ", messageRates=" + messageRates +
+                    ", entityCounts=" + entityCounts +
+                    "]";
+        }
+
+        /**
+         * An enumeration of the known {@link org.eclipse.ditto.json.JsonField}s of a ShardLoad.
+         */
+        @Immutable
+        public static final class JsonFields {
+
+            /**
+             * JSON field containing the serialized actor path of the shard region.
+             */
+            public static final JsonFieldDefinition<String> SHARD_REGION =
+                    JsonFactory.newStringFieldDefinition("shardRegion");
+
+            /**
+             * JSON field containing the messages per second of each shard.
+             */
+            public static final JsonFieldDefinition<JsonObject> MESSAGE_RATES =
+                    JsonFactory.newJsonObjectFieldDefinition("messageRates");
+
+            /**
+             * JSON field containing the amount of entities of each shard.
+             */
+            public static final JsonFieldDefinition<JsonObject> ENTITY_COUNTS =
+                    JsonFactory.newJsonObjectFieldDefinition("entityCounts");
+
+            private JsonFields() {
+                throw new AssertionError();
+            }
+
+        }
+
+    }
+
+    private enum ReportTick {
+        INSTANCE
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Counts the messages routed to each shard of a shard region on this cluster node. The counts are recorded by the
+ * {@link ShardRegionExtractor} of the region and drained periodically by the {@link ShardLoadReporter} in order to
+ * calculate per-shard message rates.
+ */
+@ThreadSafe
+public final class ShardLoadTracker {
+
+    private final Map<String, LongAdder> messageCounts;
+
+    private ShardLoadTracker() {
+        messageCounts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns a new {@code ShardLoadTracker} without any recorded messages.
+     *
+     * @return the tracker.
+     */
+    public static ShardLoadTracker newInstance() {
+        return new ShardLoadTracker();
+    }
+
+    /**
+     * Records one message for the given shard.
+     *
+     * @param shardId ID of the shard the message is routed to.
+     */
+    public void recordMessage(final String shardId) {
+        messageCounts.computeIfAbsent(shardId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the amount of messages recorded per shard since the last invocation of this method and resets the
+     * counts.
+     *
+     * @return the message counts by shard ID.
+     */
+    public Map<String, Long> drainMessageCounts() {
+        final Map<String, Long> result = new HashMap<>();
+        messageCounts.forEach((shardId, count) -> {
+            final long sum = count.sumThenReset();
+            if (sum > 0) {
+                result.put(shardId, sum);
+            }
+        });
+        return result;
+    }
+
+}
@@ -18,6 +18,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
@@ -36,12 +38,15 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
 
     private final int numberOfShards;
     private final Map<String, BiFunction<JsonObject, DittoHeaders, Jsonifiable>> mappingStrategies;
+    @Nullable private final ShardLoadTracker shardLoadTracker;
 
     private ShardRegionExtractor(final int numberOfShards,
-            final Map<String, BiFunction<JsonObject, DittoHeaders, Jsonifiable>> mappingStrategies) {
+            final Map<String, BiFunction<JsonObject, DittoHeaders, Jsonifiable>> mappingStrategies,
+            @Nullable final ShardLoadTracker shardLoadTracker) {
         this.numberOfShards = numberOfShards;
         this.mappingStrategies = new HashMap<>();
         this.mappingStrategies.putAll(requireNonNull(mappingStrategies, "mapping strategies"));
+        this.shardLoadTracker = shardLoadTracker;
     }
 
     /**
@@ -54,7 +59,24 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
     public static ShardRegionExtractor of(final int numberOfShards, final ActorSystem actorSystem) {
 
         final MappingStrategy mappingStrategy = MappingStrategy.loadMappingStrategy(actorSystem);
-        return new ShardRegionExtractor(numberOfShards, mappingStrategy.determineStrategy());
+        return new ShardRegionExtractor(numberOfShards, mappingStrategy.determineStrategy(), null);
+    }
+
+    /**
+     * Returns a new {@code ShardRegionExtractor} by loading the {@link MappingStrategy} implementation to use via the
+     * passed {@code ActorSystem}. Each message routed through the extractor is recorded for its shard in the passed
+     * {@code shardLoadTracker}.
+     *
+     * @param numberOfShards the amount of shards to use.
+     * @param actorSystem the ActorSystem to use for looking up the MappingStrategy.
+     * @param shardLoadTracker the tracker to record the routed messages in.
+     */
+    public static ShardRegionExtractor of(final int numberOfShards, final ActorSystem actorSystem,
+            final ShardLoadTracker shardLoadTracker) {
+
+        final MappingStrategy mappingStrategy = MappingStrategy.loadMappingStrategy(actorSystem);
+        return new ShardRegionExtractor(numberOfShards, mappingStrategy.determineStrategy(),
+                requireNonNull(shardLoadTracker, "shard load tracker"));
     }
 
     /**
@@ -66,7 +88,7 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
      */
     public static ShardRegionExtractor of(final int numberOfShards,
             final Map<String, BiFunction<JsonObject, DittoHeaders, Jsonifiable>> mappingStrategies) {
-        return new ShardRegionExtractor(numberOfShards, mappingStrategies);
+        return new ShardRegionExtractor(numberOfShards, mappingStrategies, null);
     }
 
     @Override
@@ -102,7 +124,11 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
     public String shardId(final Object message) {
         final String entityId = entityId(message);
         if (entityId != null && entityId.hashCode() != Integer.MIN_VALUE) {
-            return Integer.toString(Math.abs(entityId.hashCode()) % numberOfShards);
+            final String shardId = Integer.toString(Math.abs(entityId.hashCode()) % numberOfShards);
+            if (shardLoadTracker != null) {
+                shardLoadTracker.recordMessage(shardId);
+            }
+            return shardId;
         }
         return null;
     }
@@ -128,17 +154,18 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
         if (o == null || getClass() != o.getClass())
             return false;
         final ShardRegionExtractor that = (ShardRegionExtractor) o;
-        return numberOfShards == that.numberOfShards && Objects.equals(mappingStrategies, that.mappingStrategies);
+        return numberOfShards == that.numberOfShards && Objects.equals(mappingStrategies, that.mappingStrategies) &&
+                Objects.equals(shardLoadTracker, that.shardLoadTracker);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(numberOfShards, mappingStrategies);
+        return Objects.hash(numberOfShards, mappingStrategies, shardLoadTracker);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" + "numberOfShards=" + numberOfShards + ", mappingStrategies="
-                + mappingStrategies + "]";
+                + mappingStrategies + ", shardLoadTracker=" + shardLoadTracker + "]";
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.Collections;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link EventDispatcherActor}.
+ */
+public final class EventDispatcherActorTest {
+
+    private static final String TOPIC = "events";
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+    }
+
+    @After
+    public void tearDown() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void dispatchesEventsToMatchingSubscribersOnly() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(EventDispatcherActor.props(TOPIC));
+            final TestKit dittoSubscriber = new TestKit(actorSystem);
+            final TestKit exampleSubscriber = new TestKit(actorSystem);
+
+            underTest.tell(new EventDispatcherActor.SubscribeForEvents(interest("org.eclipse.ditto")),
+                    dittoSubscriber.getRef());
+            dittoSubscriber.expectMsgClass(DistributedPubSubMediator.SubscribeAck.class);
+            underTest.tell(new EventDispatcherActor.SubscribeForEvents(interest("com.example")),
+                    exampleSubscriber.getRef());
+            exampleSubscriber.expectMsgClass(DistributedPubSubMediator.SubscribeAck.class);
+
+            final CreateThing event = event("org.eclipse.ditto:thing");
+            underTest.tell(event, getRef());
+
+            dittoSubscriber.expectMsg(event);
+            exampleSubscriber.expectNoMessage(duration("1 second"));
+        }};
+    }
+
+    @Test
+    public void unsubscribedSubscriberReceivesNoEvents() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(EventDispatcherActor.props(TOPIC));
+
+            underTest.tell(new EventDispatcherActor.SubscribeForEvents(EventInterest.all()), getRef());
+            expectMsgClass(DistributedPubSubMediator.SubscribeAck.class);
+            underTest.tell(EventDispatcherActor.UnsubscribeFromEvents.getInstance(), getRef());
+            expectMsgClass(DistributedPubSubMediator.UnsubscribeAck.class);
+
+            underTest.tell(event("org.eclipse.ditto:thing"), getRef());
+
+            expectNoMessage(duration("1 second"));
+        }};
+    }
+
+    static EventInterest interest(final String namespace) {
+        return EventInterest.of(Collections.singletonList(namespace), Collections.singletonList("sub1"));
+    }
+
+    static CreateThing event(final String thingId) {
+        return CreateThing.of(Thing.newBuilder().setId(thingId).build(), null,
+                DittoHeaders.newBuilder().readSubjects(Collections.singletonList("sub1")).build());
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link EventInterest}.
+ */
+public final class EventInterestTest {
+
+    private static final EventInterest INTEREST =
+            EventInterest.of(Arrays.asList("org.eclipse.ditto", "com.example"), Collections.singletonList("sub1"));
+
+    @Test
+    public void matchesNamespaceAndReadSubject() {
+        final CreateThing signal = CreateThing.of(Thing.newBuilder().setId("org.eclipse.ditto:thing").build(), null,
+                DittoHeaders.newBuilder().readSubjects(Arrays.asList("sub1", "sub2")).build());
+
+        assertThat(INTEREST.matches(signal)).isTrue();
+        assertThat(INTEREST.matches("org.eclipse.ditto", Collections.singletonList("sub2"))).isFalse();
+        assertThat(INTEREST.matches("org.example", Collections.singletonList("sub1"))).isFalse();
+        assertThat(EventInterest.all().matches("org.example", Collections.emptyList())).isTrue();
+    }
+
+    @Test
+    public void unionCoversAllInterests() {
+        final EventInterest anyNamespace = EventInterest.of(Collections.emptyList(), Collections.singletonList("sub2"));
+
+        final EventInterest union = EventInterest.union(Arrays.asList(INTEREST, anyNamespace));
+
+        assertThat(union).isEqualTo(EventInterest.of(Collections.emptyList(), Arrays.asList("sub1", "sub2")));
+        assertThat(EventInterest.union(Collections.emptyList())).isNull();
+    }
+
+    @Test
+    public void restoresInterestFromTokens() {
+        assertThat(EventInterest.fromTokens(INTEREST.toTokens())).isEqualTo(INTEREST);
+        assertThat(EventInterest.fromTokens(EventInterest.all().toTokens())).isEqualTo(EventInterest.all());
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.utils.cluster.EventDispatcherActorTest.event;
+import static org.eclipse.ditto.services.utils.cluster.EventDispatcherActorTest.interest;
+
+import java.util.Arrays;
+
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.cluster.Cluster;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link EventPublisherActor}.
+ */
+public final class EventPublisherActorTest {
+
+    private static final String TOPIC = "events";
+    private static final String OTHER_TOPIC = "otherEvents";
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+        final Cluster cluster = Cluster.get(actorSystem);
+        cluster.join(cluster.selfAddress());
+    }
+
+    @After
+    public void tearDown() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void sendsEventsToInterestedDispatchersAndToMediator() {
+        new TestKit(actorSystem) {{
+            final TestKit pubSubMediator = new TestKit(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(EventPublisherActor.props(pubSubMediator.getRef(),
+                    Arrays.asList(TOPIC, OTHER_TOPIC)));
+            final ActorRef dispatcher = actorSystem.actorOf(EventDispatcherActor.props(TOPIC));
+            final TestKit subscriber = new TestKit(actorSystem);
+            dispatcher.tell(new EventDispatcherActor.SubscribeForEvents(interest("org.eclipse.ditto")),
+                    subscriber.getRef());
+            subscriber.expectMsgClass(DistributedPubSubMediator.SubscribeAck.class);
+
+            final CreateThing event = event("org.eclipse.ditto:thing");
+            final DistributedPubSubMediator.Publish publish = new DistributedPubSubMediator.Publish(TOPIC, event);
+            // the interest of the dispatcher is replicated asynchronously
+            awaitAssert(duration("10 seconds"), () -> {
+                underTest.tell(publish, getRef());
+                pubSubMediator.expectMsg(publish);
+                return subscriber.expectMsg(duration("500 milliseconds"), event);
+            });
+
+            // events of other namespaces and topics are only published via the mediator
+            final DistributedPubSubMediator.Publish otherNamespace =
+                    new DistributedPubSubMediator.Publish(TOPIC, event("com.example:thing"));
+            underTest.tell(otherNamespace, getRef());
+            pubSubMediator.expectMsg(otherNamespace);
+            final DistributedPubSubMediator.Publish otherTopic =
+                    new DistributedPubSubMediator.Publish(OTHER_TOPIC, event);
+            underTest.tell(otherTopic, getRef());
+            pubSubMediator.expectMsg(otherTopic);
+            subscriber.expectNoMessage(duration("1 second"));
+        }};
+    }
+
+    @Test
+    public void sendsEventsOfEachTopicToDispatchersOfThatTopicOnly() {
+        new TestKit(actorSystem) {{
+            final TestKit pubSubMediator = new TestKit(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(EventPublisherActor.props(pubSubMediator.getRef(),
+                    Arrays.asList(TOPIC, OTHER_TOPIC)));
+            final TestKit subscriber = subscribe(TOPIC, "org.eclipse.ditto");
+            final TestKit otherSubscriber = subscribe(OTHER_TOPIC, "org.eclipse.ditto");
+
+            final CreateThing event = event("org.eclipse.ditto:thing");
+            final DistributedPubSubMediator.Publish publish = new DistributedPubSubMediator.Publish(TOPIC, event);
+            final DistributedPubSubMediator.Publish otherPublish =
+                    new DistributedPubSubMediator.Publish(OTHER_TOPIC, event);
+            awaitAssert(duration("10 seconds"), () -> {
+                underTest.tell(publish, getRef());
+                pubSubMediator.expectMsg(publish);
+                return subscriber.expectMsg(duration("500 milliseconds"), event);
+            });
+            awaitAssert(duration("10 seconds"), () -> {
+                underTest.tell(otherPublish, getRef());
+                pubSubMediator.expectMsg(otherPublish);
+                return otherSubscriber.expectMsg(duration("500 milliseconds"), event);
+            });
+
+            // once both interests are known, each event reaches the dispatcher of its topic only
+            underTest.tell(publish, getRef());
+            pubSubMediator.expectMsg(publish);
+            subscriber.expectMsg(event);
+            underTest.tell(otherPublish, getRef());
+            pubSubMediator.expectMsg(otherPublish);
+            otherSubscriber.expectMsg(event);
+            subscriber.expectNoMessage(duration("1 second"));
+            otherSubscriber.expectNoMessage(duration("1 second"));
+        }};
+    }
+
+    @Test
+    public void forwardsOtherMessagesToMediator() {
+        new TestKit(actorSystem) {{
+            final TestKit pubSubMediator = new TestKit(actorSystem);
+            final ActorRef underTest =
+                    actorSystem.actorOf(EventPublisherActor.props(pubSubMediator.getRef(), TOPIC));
+            final DistributedPubSubMediator.Subscribe subscribe =
+                    new DistributedPubSubMediator.Subscribe(TOPIC, getRef());
+
+            underTest.tell(subscribe, getRef());
+
+            pubSubMediator.expectMsg(subscribe);
+            assertThat(pubSubMediator.getLastSender()).isEqualTo(getRef());
+        }};
+    }
+
+    private TestKit subscribe(final String topic, final String namespace) {
+        final ActorRef dispatcher = actorSystem.actorOf(EventDispatcherActor.props(topic));
+        final TestKit subscriber = new TestKit(actorSystem);
+        dispatcher.tell(new EventDispatcherActor.SubscribeForEvents(interest(namespace)), subscriber.getRef());
+        subscriber.expectMsgClass(DistributedPubSubMediator.SubscribeAck.class);
+        return subscriber;
+    }
+
+}
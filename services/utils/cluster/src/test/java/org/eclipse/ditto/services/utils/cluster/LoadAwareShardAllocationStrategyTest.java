@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import scala.collection.JavaConverters;
+import scala.collection.immutable.IndexedSeq;
+
+/**
+ * Unit test for {@link LoadAwareShardAllocationStrategy}.
+ */
+public final class LoadAwareShardAllocationStrategyTest {
+
+    private static final String TYPE_NAME = "test";
+    private static final double REBALANCE_THRESHOLD = 0.25;
+
+    private ActorSystem actorSystem;
+    private ActorRef hotRegion;
+    private ActorRef coldRegion;
+    private Map<ActorRef, ShardLoadReporter.ShardLoad> regionLoads;
+    private Map<ActorRef, List<String>> allocatedShardIds;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem");
+        hotRegion = TestProbe.apply(actorSystem).ref();
+        coldRegion = TestProbe.apply(actorSystem).ref();
+        regionLoads = new ConcurrentHashMap<>();
+        allocatedShardIds = new HashMap<>();
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void doNotRebalanceWithinThreshold() {
+        // average load 50, the hot region exceeds it by 20 percent only
+        givenShardLoads(hotRegion, "a1", 30.0, "a2", 30.0);
+        givenShardLoads(coldRegion, "b1", 40.0);
+        final LoadAwareShardAllocationStrategy underTest = newStrategy(3, Duration.ZERO);
+
+        assertThat(rebalance(underTest, Collections.emptySet())).isEmpty();
+    }
+
+    @Test
+    public void rebalanceShardClosestToHalfOfTheImbalance() {
+        // average load 60; moving a2 leaves the hot region within the threshold
+        givenShardLoads(hotRegion, "a1", 60.0, "a2", 25.0, "a3", 15.0);
+        givenShardLoads(coldRegion, "b1", 20.0);
+        final LoadAwareShardAllocationStrategy underTest = newStrategy(3, Duration.ZERO);
+
+        assertThat(rebalance(underTest, Collections.emptySet())).containsOnly("a2");
+    }
+
+    @Test
+    public void doNotRebalanceShardsInCooldown() {
+        givenShardLoads(hotRegion, "a1", 60.0, "a2", 25.0, "a3", 15.0);
+        givenShardLoads(coldRegion, "b1", 20.0);
+        final LoadAwareShardAllocationStrategy underTest = newStrategy(3, Duration.ofHours(1L));
+
+        assertThat(rebalance(underTest, Collections.emptySet())).containsOnly("a2");
+        // the allocation did not change, but a2 must not be moved again within the cooldown
+        assertThat(rebalance(underTest, Collections.emptySet())).contains("a1").doesNotContain("a2");
+    }
+
+    @Test
+    public void rebalanceShardsAgainAfterCooldown() {
+        givenShardLoads(hotRegion, "a1", 60.0, "a2", 25.0, "a3", 15.0);
+        givenShardLoads(coldRegion, "b1", 20.0);
+        final LoadAwareShardAllocationStrategy underTest = newStrategy(3, Duration.ZERO);
+
+        assertThat(rebalance(underTest, Collections.emptySet())).containsOnly("a2");
+        assertThat(rebalance(underTest, Collections.emptySet())).containsOnly("a2");
+    }
+
+    @Test
+    public void rebalanceAtMostMaxSimultaneousRebalanceShards() {
+        // moving two shards balances the regions
+        givenShardLoads(hotRegion, "a1", 10.0, "a2", 10.0, "a3", 10.0, "a4", 10.0);
+        givenShardLoads(coldRegion, "b1", 0.0);
+
+        assertThat(rebalance(newStrategy(3, Duration.ZERO), Collections.emptySet())).hasSize(2);
+        assertThat(rebalance(newStrategy(1, Duration.ZERO), Collections.emptySet())).hasSize(1);
+        assertThat(rebalance(newStrategy(2, Duration.ZERO), Collections.singleton("c1"))).hasSize(1);
+        assertThat(rebalance(newStrategy(2, Duration.ZERO), new HashSet<>(Arrays.asList("c1", "c2")))).isEmpty();
+    }
+
+    @Test
+    public void doNotRebalanceWithoutLoadOfAllRegions() {
+        givenShardLoads(hotRegion, "a1", 60.0, "a2", 25.0, "a3", 15.0);
+        final LoadAwareShardAllocationStrategy underTest = newStrategy(3, Duration.ZERO);
+
+        final Map<ActorRef, IndexedSeq<String>> allocations = currentShardAllocations();
+        allocations.put(coldRegion, toIndexedSeq(Collections.singletonList("b1")));
+
+        assertThat(await(underTest.rebalance(allocations, Collections.emptySet()))).isEmpty();
+    }
+
+    private LoadAwareShardAllocationStrategy newStrategy(final int maxSimultaneousRebalance,
+            final Duration rebalanceCooldown) {
+
+        return new LoadAwareShardAllocationStrategy(TYPE_NAME, regionLoads, REBALANCE_THRESHOLD,
+                maxSimultaneousRebalance, rebalanceCooldown, 0.0);
+    }
+
+    private void givenShardLoads(final ActorRef region, final Object... shardIdsAndMessageRates) {
+        final Map<String, Double> messageRates = new LinkedHashMap<>();
+        for (int i = 0; i < shardIdsAndMessageRates.length; i += 2) {
+            messageRates.put((String) shardIdsAndMessageRates[i], (Double) shardIdsAndMessageRates[i + 1]);
+        }
+        regionLoads.put(region, new ShardLoadReporter.ShardLoad(region, messageRates, Collections.emptyMap()));
+        allocatedShardIds.put(region, new ArrayList<>(messageRates.keySet()));
+    }
+
+    private Set<String> rebalance(final LoadAwareShardAllocationStrategy underTest,
+            final Set<String> rebalanceInProgress) {
+
+        return await(underTest.rebalance(currentShardAllocations(), rebalanceInProgress));
+    }
+
+    private Map<ActorRef, IndexedSeq<String>> currentShardAllocations() {
+        final Map<ActorRef, IndexedSeq<String>> allocations = new HashMap<>();
+        allocatedShardIds.forEach((region, shardIds) -> allocations.put(region, toIndexedSeq(shardIds)));
+        return allocations;
+    }
+
+    private static IndexedSeq<String> toIndexedSeq(final List<String> shardIds) {
+        return JavaConverters.asScalaBufferConverter(shardIds).asScala().toIndexedSeq();
+    }
+
+    private static Set<String> await(final scala.concurrent.Future<Set<String>> future) {
+        assertThat(future.isCompleted()).isTrue();
+        return future.value().get().get();
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link ShardLoadReporter.ShardLoad}.
+ */
+public final class ShardLoadTest {
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem");
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void toJsonAndBack() {
+        final ActorRef shardRegion = TestProbe.apply(actorSystem).ref();
+        final ShardLoadReporter.ShardLoad shardLoad = new ShardLoadReporter.ShardLoad(shardRegion,
+                Collections.singletonMap("7", 12.5), Collections.singletonMap("7", 3));
+
+        final ShardLoadReporter.ShardLoad underTest = ShardLoadReporter.ShardLoad.fromJson(shardLoad.toJson());
+
+        assertThat(underTest).isEqualTo(shardLoad);
+        assertThat(underTest.getMessageRate("7")).isEqualTo(12.5);
+        assertThat(underTest.getEntityCount("7")).isEqualTo(3);
+        assertThat(underTest.getEntityCount("8")).isZero();
+        assertThat(((ExtendedActorSystem) actorSystem).provider().resolveActorRef(underTest.getShardRegionPath()))
+                .isEqualTo(shardRegion);
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ShardLoadTracker}.
+ */
+public final class ShardLoadTrackerTest {
+
+    @Test
+    public void drainMessageCountsReturnsCountsSinceLastDrain() {
+        final ShardLoadTracker underTest = ShardLoadTracker.newInstance();
+        underTest.recordMessage("1");
+        underTest.recordMessage("1");
+        underTest.recordMessage("2");
+
+        assertThat(underTest.drainMessageCounts()).containsOnlyKeys("1", "2")
+                .containsEntry("1", 2L)
+                .containsEntry("2", 1L);
+
+        underTest.recordMessage("2");
+
+        assertThat(underTest.drainMessageCounts()).containsOnlyKeys("2")
+                .containsEntry("2", 1L);
+        assertThat(underTest.drainMessageCounts()).isEmpty();
+    }
+
+}
@@ -27,6 +27,7 @@ import org.eclipse.ditto.model.devops.LoggerConfig;
 import org.eclipse.ditto.model.devops.LoggingFacade;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.MappingStrategy;
+import org.eclipse.ditto.services.utils.metrics.hotentities.HotEntities;
 import org.eclipse.ditto.signals.base.JsonTypeNotParsableException;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
@@ -37,6 +38,8 @@ import org.eclipse.ditto.signals.commands.devops.DevOpsCommand;
 import org.eclipse.ditto.signals.commands.devops.DevOpsCommandResponse;
 import org.eclipse.ditto.signals.commands.devops.DevOpsErrorResponse;
 import org.eclipse.ditto.signals.commands.devops.ExecutePiggybackCommand;
+import org.eclipse.ditto.signals.commands.devops.RetrieveHotEntities;
+import org.eclipse.ditto.signals.commands.devops.RetrieveHotEntitiesResponse;
 import org.eclipse.ditto.signals.commands.devops.RetrieveLoggerConfig;
 import org.eclipse.ditto.signals.commands.devops.RetrieveLoggerConfigResponse;
 
@@ -82,6 +85,7 @@ public final class DevOpsCommandsActor extends AbstractActor {
         getContext().actorOf(
                 PubSubSubscriberActor.props(pubSubMediator, serviceName, instance,
                         RetrieveLoggerConfig.TYPE,
+                        RetrieveHotEntities.TYPE,
                         ChangeLogLevel.TYPE,
                         ExecutePiggybackCommand.TYPE
                 ),
@@ -155,6 +159,8 @@ public final class DevOpsCommandsActor extends AbstractActor {
             handleChangeLogLevel((ChangeLogLevel) wrappedCommand);
         } else if (wrappedCommand instanceof RetrieveLoggerConfig) {
             handleRetrieveLoggerConfig((RetrieveLoggerConfig) wrappedCommand);
+        } else if (wrappedCommand instanceof RetrieveHotEntities) {
+            handleRetrieveHotEntities((RetrieveHotEntities) wrappedCommand);
         } else if (wrappedCommand instanceof ExecutePiggybackCommand) {
             handleExecutePiggyBack((ExecutePiggybackCommand) wrappedCommand);
         }
@@ -183,6 +189,13 @@ public final class DevOpsCommandsActor extends AbstractActor {
         getSender().tell(retrieveLoggerConfigResponse, getSelf());
     }
 
+    private void handleRetrieveHotEntities(final RetrieveHotEntities command) {
+
+        final RetrieveHotEntitiesResponse retrieveHotEntitiesResponse =
+                RetrieveHotEntitiesResponse.of(serviceName, instance, HotEntities.toJson(), command.getDittoHeaders());
+        getSender().tell(retrieveHotEntitiesResponse, getSelf());
+    }
+
     private void handleExecutePiggyBack(final ExecutePiggybackCommand command) {
 
         LogUtil.enhanceLogWithCorrelationId(log, command);
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.health.status;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+
+/**
+ * Records the durations of the phases of the startup of this service instance, e.g. the creation of the actor system,
+ * joining the cluster or the initialization of the indices of a collection. The phases are part of the status of the
+ * instance supplied by the {@link StatusSupplierActor}.
+ */
+@ThreadSafe
+public final class StartupPhases {
+
+    private static final StartupPhases INSTANCE =
+            new StartupPhases(Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime()));
+
+    private final Instant jvmStartedAt;
+    private final Map<String, Duration> phaseDurations;
+    private final List<BiConsumer<String, Duration>> listeners;
+
+    @Nullable private Duration totalDuration;
+
+    private StartupPhases(final Instant jvmStartedAt) {
+        this.jvmStartedAt = jvmStartedAt;
+        phaseDurations = new LinkedHashMap<>();
+        listeners = new ArrayList<>();
+        totalDuration = null;
+    }
+
+    /**
+     * Returns the startup phases of this service instance.
+     *
+     * @return the instance.
+     */
+    public static StartupPhases getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns new startup phases independent of the ones of this service instance.
+     *
+     * @param jvmStartedAt the start of the JVM the total duration of the startup is measured from.
+     * @return the startup phases.
+     */
+    static StartupPhases newInstance(final Instant jvmStartedAt) {
+        return new StartupPhases(jvmStartedAt);
+    }
+
+    /**
+     * Runs a step of the startup and records its duration as the given phase.
+     *
+     * @param phase the name of the phase.
+     * @param step the step.
+     */
+    public void measure(final String phase, final Runnable step) {
+        measure(phase, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a step of the startup and records its duration as the given phase.
+     *
+     * @param phase the name of the phase.
+     * @param step the step.
+     * @param <T> the type of the result of the step.
+     * @return the result of the step.
+     */
+    public <T> T measure(final String phase, final Supplier<T> step) {
+        final long startNanos = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            record(phase, Duration.ofNanos(System.nanoTime() - startNanos));
+        }
+    }
+
+    /**
+     * Starts an asynchronous step of the startup and records the duration until its completion as the given phase.
+     *
+     * @param phase the name of the phase.
+     * @param step the step.
+     * @param <T> the type of the result of the step.
+     * @return the completion stage of the step.
+     */
+    public <T> CompletionStage<T> measureAsync(final String phase, final Supplier<CompletionStage<T>> step) {
+        final long startNanos = System.nanoTime();
+        return step.get()
+                .whenComplete((result, error) -> record(phase, Duration.ofNanos(System.nanoTime() - startNanos)));
+    }
+
+    /**
+     * Records the duration of a phase of the startup.
+     *
+     * @param phase the name of the phase.
+     * @param duration the duration.
+     */
+    public void record(final String phase, final Duration duration) {
+        final List<BiConsumer<String, Duration>> currentListeners;
+        synchronized (this) {
+            phaseDurations.put(phase, duration);
+            currentListeners = new ArrayList<>(listeners);
+        }
+        currentListeners.forEach(listener -> listener.accept(phase, duration));
+    }
+
+    /**
+     * Marks the startup as completed, i.e. the instance is member of the cluster and its root actors are started.
+     * Asynchronous phases like the initialization of indices may still be recorded afterwards.
+     *
+     * @return the total duration of the startup since the start of the JVM.
+     */
+    public Duration completed() {
+        final Duration duration = Duration.between(jvmStartedAt, Instant.now());
+        synchronized (this) {
+            totalDuration = duration;
+        }
+        return duration;
+    }
+
+    /**
+     * Returns the total duration of the startup since the start of the JVM.
+     *
+     * @return the duration or an empty Optional if the startup is not completed yet.
+     */
+    public synchronized Optional<Duration> getTotalDuration() {
+        return Optional.ofNullable(totalDuration);
+    }
+
+    /**
+     * Adds a listener which is informed of all phases recorded so far and of all phases recorded in the future, e.g.
+     * in order to report them as metrics.
+     *
+     * @param listener the listener accepting the name and the duration of each phase.
+     */
+    public void addListener(final BiConsumer<String, Duration> listener) {
+        final Map<String, Duration> recordedPhases;
+        synchronized (this) {
+            listeners.add(listener);
+            recordedPhases = new LinkedHashMap<>(phaseDurations);
+        }
+        recordedPhases.forEach(listener);
+    }
+
+    /**
+     * Returns the startup phases as JSON object containing the durations in milliseconds.
+     *
+     * @return the JSON object.
+     */
+    public synchronized JsonObject toJson() {
+        final JsonObjectBuilder phasesBuilder = JsonFactory.newObjectBuilder();
+        phaseDurations.forEach((phase, duration) -> phasesBuilder.set(phase, duration.toMillis()));
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder()
+                .set("jvm-started-at", jvmStartedAt.toString())
+                .set("phases-ms", phasesBuilder.build());
+        if (null != totalDuration) {
+            builder.set("total-ms", totalDuration.toMillis());
+        }
+        return builder.build();
+    }
+
+}
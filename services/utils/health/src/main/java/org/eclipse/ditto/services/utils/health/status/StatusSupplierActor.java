@@ -82,7 +82,8 @@ public final class StatusSupplierActor extends AbstractActor {
                         command -> {
                             log.info("Sending the status of this system as requested..");
                             final SimpleCommandResponse response = SimpleCommandResponse.of(
-                                    command.getCorrelationId().orElse("?"), Status.provideStaticStatus());
+                                    command.getCorrelationId().orElse("?"), Status.provideStaticStatus()
+                                            .setValue("startup", StartupPhases.getInstance().toJson()));
                             getSender().tell(response, getSelf());
                         })
                 .match(SimpleCommand.class, command -> SIMPLE_COMMAND_RETRIEVE_HEALTH.equals(command.getCommandName()),
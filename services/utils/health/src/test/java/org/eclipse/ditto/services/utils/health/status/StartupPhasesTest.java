@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.health.status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Unit test of {@link StartupPhases}.
+ */
+public final class StartupPhasesTest {
+
+    private final StartupPhases underTest = StartupPhases.newInstance(Instant.now().minusSeconds(10));
+
+    @Test
+    public void recordsPhasesAndInformsListeners() {
+        final Map<String, Duration> reportedPhases = new LinkedHashMap<>();
+        underTest.record("config", Duration.ofMillis(42));
+        underTest.addListener(reportedPhases::put);
+
+        assertThat(underTest.measure("actor-system", () -> "created")).isEqualTo("created");
+        final CompletableFuture<Void> indexInitialization = new CompletableFuture<>();
+        underTest.measureAsync("index-initialization", () -> indexInitialization);
+
+        assertThat(reportedPhases).containsOnlyKeys("config", "actor-system");
+        indexInitialization.complete(null);
+        assertThat(reportedPhases).containsOnlyKeys("config", "actor-system", "index-initialization");
+        assertThat(reportedPhases.get("config")).isEqualTo(Duration.ofMillis(42));
+    }
+
+    @Test
+    public void completedStartupContainsTotalDuration() {
+        underTest.record("config", Duration.ofMillis(42));
+        assertThat(underTest.getTotalDuration()).isEmpty();
+
+        final Duration totalDuration = underTest.completed();
+        final JsonObject json = underTest.toJson();
+
+        assertThat(totalDuration).isGreaterThanOrEqualTo(Duration.ofSeconds(10));
+        assertThat(underTest.getTotalDuration()).contains(totalDuration);
+        assertThat(json.getValue("phases-ms/config").map(JsonValue::asLong)).contains(42L);
+        assertThat(json.getValue("total-ms").map(JsonValue::asLong)).contains(totalDuration.toMillis());
+    }
+
+}
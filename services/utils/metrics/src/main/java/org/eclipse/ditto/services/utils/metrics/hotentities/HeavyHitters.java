@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.hotentities;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Finds the keys with the highest total weight in a stream of weighted keys in constant memory. The weight of each key
+ * is estimated by a count-min sketch, which never underestimates the weight; the keys with the highest estimates are
+ * kept as candidates of bounded number.
+ * <p>
+ * To avoid contention, the keys are partitioned by their hash into stripes with their own sketch, candidates and lock.
+ * As each key is recorded in exactly one stripe, the keys with the highest weight are found by merging the candidates
+ * of all stripes.
+ * </p>
+ */
+@ThreadSafe
+final class HeavyHitters {
+
+    private static final int[] ROW_SEEDS = {0x9E3779B1, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+    private static final int STRIPE_SEED = 0x165667B1;
+
+    private static final Comparator<Map.Entry<String, Long>> BY_DESCENDING_WEIGHT =
+            Comparator.comparingLong((Map.Entry<String, Long> entry) -> entry.getValue()).reversed();
+
+    private final int topK;
+    private final int mask;
+    private final Stripe[] stripes;
+
+    /**
+     * Creates a new {@code HeavyHitters} with a single stripe.
+     *
+     * @param topK the number of keys with the highest weight to keep.
+     * @param width the number of counters in each row of the sketch, which is rounded up to a power of 2.
+     * @throws IllegalArgumentException if {@code topK} or {@code width} is not positive.
+     */
+    HeavyHitters(final int topK, final int width) {
+        this(topK, width, 1);
+    }
+
+    /**
+     * Creates a new {@code HeavyHitters}.
+     *
+     * @param topK the number of keys with the highest weight to keep.
+     * @param width the number of counters in each row of the sketch of each stripe, which is rounded up to a power of
+     * 2.
+     * @param stripes the number of stripes, which is rounded up to a power of 2.
+     * @throws IllegalArgumentException if {@code topK}, {@code width} or {@code stripes} is not positive.
+     */
+    HeavyHitters(final int topK, final int width, final int stripes) {
+        if (topK <= 0 || width <= 0 || stripes <= 0) {
+            throw new IllegalArgumentException("topK, width and stripes must be positive!");
+        }
+        this.topK = topK;
+        mask = roundUpToPowerOf2(width) - 1;
+        this.stripes = new Stripe[roundUpToPowerOf2(stripes)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe(mask + 1);
+        }
+    }
+
+    /**
+     * Adds the given weight to the key.
+     *
+     * @param key the key, e.g. the ID of an entity.
+     * @param weight the weight to add, e.g. 1 for a message or the duration of a processing step.
+     */
+    void record(final String key, final long weight) {
+        final int[] columns = new int[ROW_SEEDS.length];
+        for (int row = 0; row < ROW_SEEDS.length; row++) {
+            columns[row] = murmur3(key, ROW_SEEDS[row]) & mask;
+        }
+        stripes[murmur3(key, STRIPE_SEED) & (stripes.length - 1)].record(key, columns, weight);
+    }
+
+    /**
+     * Returns the keys with the highest weight and their estimated weights ordered by descending weight.
+     *
+     * @return the keys with the highest weight.
+     */
+    List<Map.Entry<String, Long>> getTop() {
+        return merge(false);
+    }
+
+    /**
+     * Returns the keys with the highest weight like {@link #getTop()} and forgets all recorded weights.
+     *
+     * @return the keys with the highest weight before the reset.
+     */
+    List<Map.Entry<String, Long>> getTopAndReset() {
+        return merge(true);
+    }
+
+    private List<Map.Entry<String, Long>> merge(final boolean reset) {
+        final List<Map.Entry<String, Long>> merged = new ArrayList<>();
+        for (final Stripe stripe : stripes) {
+            merged.addAll(stripe.getCandidates(reset));
+        }
+        merged.sort(BY_DESCENDING_WEIGHT);
+        return merged.size() > topK ? new ArrayList<>(merged.subList(0, topK)) : merged;
+    }
+
+    private static int roundUpToPowerOf2(final int value) {
+        return Integer.highestOneBit(value) == value ? value : Integer.highestOneBit(value) << 1;
+    }
+
+    /**
+     * Computes the 32 bit MurmurHash3 of the characters of the key, so that keys with equal {@link String#hashCode()}
+     * are mapped to different columns.
+     */
+    private static int murmur3(final String key, final int seed) {
+        final int length = key.length();
+        int hash = seed;
+        for (int i = 1; i < length; i += 2) {
+            hash = mixHash(hash, mixBlock(key.charAt(i - 1) | (key.charAt(i) << 16)));
+        }
+        if ((length & 1) == 1) {
+            hash ^= mixBlock(key.charAt(length - 1));
+        }
+        hash ^= 2 * length;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static int mixBlock(final int block) {
+        return Integer.rotateLeft(block * 0xCC9E2D51, 15) * 0x1B873593;
+    }
+
+    private static int mixHash(final int hash, final int block) {
+        return Integer.rotateLeft(hash ^ block, 13) * 5 + 0xE6546B64;
+    }
+
+    /**
+     * The sketch and the candidates of the keys of one stripe.
+     */
+    private final class Stripe {
+
+        private final long[][] sketch;
+        private final Map<String, Candidate> candidates;
+        @Nullable private Candidate minimum;
+
+        private Stripe(final int width) {
+            sketch = new long[ROW_SEEDS.length][width];
+            candidates = new HashMap<>();
+        }
+
+        private synchronized void record(final String key, final int[] columns, final long weight) {
+            long estimate = Long.MAX_VALUE;
+            for (int row = 0; row < columns.length; row++) {
+                sketch[row][columns[row]] += weight;
+                estimate = Math.min(estimate, sketch[row][columns[row]]);
+            }
+
+            final Candidate candidate = candidates.get(key);
+            if (candidate != null) {
+                candidate.estimate = estimate;
+                if (candidate == minimum) {
+                    // the estimates only grow, so only the minimum may have become outdated
+                    minimum = null;
+                }
+            } else if (candidates.size() < topK) {
+                candidates.put(key, new Candidate(key, estimate));
+                minimum = null;
+            } else {
+                final Candidate currentMinimum = getMinimum();
+                if (currentMinimum.estimate < estimate) {
+                    candidates.remove(currentMinimum.key);
+                    candidates.put(key, new Candidate(key, estimate));
+                    minimum = null;
+                }
+            }
+        }
+
+        private synchronized List<Map.Entry<String, Long>> getCandidates(final boolean reset) {
+            final List<Map.Entry<String, Long>> result = new ArrayList<>(candidates.size());
+            candidates.values().forEach(candidate ->
+                    result.add(new AbstractMap.SimpleImmutableEntry<>(candidate.key, candidate.estimate)));
+            if (reset) {
+                for (final long[] row : sketch) {
+                    Arrays.fill(row, 0L);
+                }
+                candidates.clear();
+                minimum = null;
+            }
+            return result;
+        }
+
+        private Candidate getMinimum() {
+            if (minimum == null) {
+                minimum = candidates.values()
+                        .stream()
+                        .min(Comparator.comparingLong(candidate -> candidate.estimate))
+                        .orElseThrow(IllegalStateException::new);
+            }
+            return minimum;
+        }
+
+    }
+
+    private static final class Candidate {
+
+        private final String key;
+        private long estimate;
+
+        private Candidate(final String key, final long estimate) {
+            this.key = key;
+            this.estimate = estimate;
+        }
+
+    }
+
+}
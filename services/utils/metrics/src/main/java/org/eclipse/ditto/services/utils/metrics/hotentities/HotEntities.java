@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.hotentities;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+/**
+ * Keeps track of the busiest entities of this service instance, e.g. the Things receiving the most messages. For each
+ * category, the entities with the highest weight are determined in windows of fixed length: {@link #rotate()} closes
+ * the current window, reports the busiest entities of the closed window as gauge {@value #GAUGE_NAME} tagged with
+ * {@value #CATEGORY_TAG} and {@value #ENTITY_TAG} and starts a new window.
+ */
+public final class HotEntities {
+
+    /**
+     * Category of the number of commands processed per Thing.
+     */
+    public static final String THING_MESSAGES = "thing_messages";
+
+    /**
+     * Category of the number of events persisted per Thing.
+     */
+    public static final String THING_PERSISTENCE = "thing_persistence";
+
+    /**
+     * Category of the number of commands processed per Policy.
+     */
+    public static final String POLICY_MESSAGES = "policy_messages";
+
+    /**
+     * Category of the number of events persisted per Policy.
+     */
+    public static final String POLICY_PERSISTENCE = "policy_persistence";
+
+    /**
+     * Category of the total duration of enforcements in milliseconds per entity.
+     */
+    public static final String ENFORCEMENT_LATENCY_MS = "enforcement_latency_ms";
+
+    /**
+     * Category of the number of messages mapped per connection.
+     */
+    public static final String CONNECTION_MESSAGES = "connection_messages";
+
+    /**
+     * Category of the number of commands processed per namespace.
+     */
+    public static final String NAMESPACE_MESSAGES = "namespace_messages";
+
+    /**
+     * Name of the gauge reporting the busiest entities.
+     */
+    public static final String GAUGE_NAME = "hot_entities";
+
+    /**
+     * Tag of the gauge containing the category.
+     */
+    public static final String CATEGORY_TAG = "category";
+
+    /**
+     * Tag of the gauge containing the ID of the entity.
+     */
+    public static final String ENTITY_TAG = "entity";
+
+    private static final String ID_FIELD = "id";
+    private static final String WEIGHT_FIELD = "weight";
+
+    private static final int TOP_K = 10;
+    private static final int SKETCH_WIDTH = 1024;
+    private static final int MIN_STRIPE_SKETCH_WIDTH = 128;
+    private static final int STRIPES = Runtime.getRuntime().availableProcessors();
+
+    private static final ConcurrentMap<String, HeavyHitters> CURRENT_WINDOW = new ConcurrentHashMap<>();
+    private static final Map<String, Set<String>> REPORTED_ENTITIES = new HashMap<>();
+    private static volatile Map<String, List<Map.Entry<String, Long>>> lastWindow = Collections.emptyMap();
+
+    private HotEntities() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Records one occurrence of an entity in the current window, e.g. one message.
+     *
+     * @param category the category, e.g. {@link #THING_MESSAGES}.
+     * @param entityId the ID of the entity.
+     */
+    public static void record(final String category, final String entityId) {
+        record(category, entityId, 1L);
+    }
+
+    /**
+     * Adds the given weight to an entity in the current window.
+     *
+     * @param category the category, e.g. {@link #ENFORCEMENT_LATENCY_MS}.
+     * @param entityId the ID of the entity.
+     * @param weight the weight to add, e.g. a duration in milliseconds.
+     */
+    public static void record(final String category, final String entityId, final long weight) {
+        // each stripe only records its share of the keys, hence the sketch width is divided among the stripes
+        CURRENT_WINDOW.computeIfAbsent(category, c ->
+                new HeavyHitters(TOP_K, Math.max(MIN_STRIPE_SKETCH_WIDTH, SKETCH_WIDTH / STRIPES), STRIPES))
+                .record(entityId, weight);
+    }
+
+    /**
+     * Records one occurrence of the namespace of an entity in category {@link #NAMESPACE_MESSAGES}.
+     *
+     * @param entityId the ID of the entity in the form {@code namespace:name}.
+     */
+    public static void recordNamespace(final String entityId) {
+        final int separatorIndex = entityId.indexOf(':');
+        record(NAMESPACE_MESSAGES, separatorIndex < 0 ? "" : entityId.substring(0, separatorIndex));
+    }
+
+    /**
+     * Closes the current window, updates the gauges with the busiest entities of the closed window and starts a new
+     * window. Gauges of entities which are no longer among the busiest entities are removed.
+     */
+    public static synchronized void rotate() {
+        final Map<String, List<Map.Entry<String, Long>>> closedWindow = new LinkedHashMap<>();
+        CURRENT_WINDOW.forEach((category, heavyHitters) -> {
+            final List<Map.Entry<String, Long>> top = heavyHitters.getTopAndReset();
+            if (!top.isEmpty()) {
+                closedWindow.put(category, top);
+            }
+        });
+
+        final Set<String> categories = new HashSet<>(REPORTED_ENTITIES.keySet());
+        categories.addAll(closedWindow.keySet());
+        categories.forEach(category -> {
+            final Set<String> reported = REPORTED_ENTITIES.computeIfAbsent(category, c -> new HashSet<>());
+            final Set<String> outdated = new HashSet<>(reported);
+            reported.clear();
+            closedWindow.getOrDefault(category, Collections.emptyList()).forEach(entry -> {
+                gauge(category, entry.getKey()).set(entry.getValue());
+                outdated.remove(entry.getKey());
+                reported.add(entry.getKey());
+            });
+            outdated.forEach(entityId -> gauge(category, entityId).remove());
+        });
+
+        lastWindow = Collections.unmodifiableMap(closedWindow);
+    }
+
+    /**
+     * Returns the busiest entities of the last closed window as JSON object containing an array of objects with the
+     * fields {@code id} and {@code weight} for each category, ordered by descending weight.
+     *
+     * @return the busiest entities.
+     */
+    public static JsonObject toJson() {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        lastWindow.forEach((category, top) -> {
+            final JsonArray entities = top.stream()
+                    .map(entry -> JsonFactory.newObjectBuilder()
+                            .set(ID_FIELD, entry.getKey())
+                            .set(WEIGHT_FIELD, entry.getValue())
+                            .build())
+                    .collect(JsonCollectors.valuesToArray());
+            builder.set(category, entities);
+        });
+        return builder.build();
+    }
+
+    private static Gauge gauge(final String category, final String entityId) {
+        return DittoMetrics.gauge(GAUGE_NAME).tag(CATEGORY_TAG, category).tag(ENTITY_TAG, entityId);
+    }
+
+}
@@ -45,4 +45,11 @@ public interface Gauge extends ResettableMetricInstrument, TaggedMetricInstrumen
      * @return The current value of the gauge.
      */
     Long get();
+
+    /**
+     * Removes the gauge with the tags of this gauge, so that it is no longer reported.
+     *
+     * @return True if the gauge existed and was removed.
+     */
+    boolean remove();
 }
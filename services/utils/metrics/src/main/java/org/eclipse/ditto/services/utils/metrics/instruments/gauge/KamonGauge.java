@@ -100,6 +100,12 @@ public class KamonGauge implements Gauge {
         return true;
     }
 
+    @Override
+    public boolean remove() {
+        LOGGER.debug("Removing gauge with name <{}> and tags <{}>.", name, tags);
+        return Kamon.gauge(name).remove(tags);
+    }
+
     private kamon.metric.Gauge getKamonInternalGauge() {
         return Kamon.gauge(name).refine(tags);
     }
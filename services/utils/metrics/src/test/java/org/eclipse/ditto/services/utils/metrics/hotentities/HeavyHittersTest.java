@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.hotentities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link HeavyHitters}.
+ */
+public final class HeavyHittersTest {
+
+    @Test
+    public void findKeysWithHighestWeight() {
+        final HeavyHitters underTest = new HeavyHitters(2, 1024);
+        for (int i = 0; i < 1000; i++) {
+            underTest.record("thing:" + i, 1L);
+        }
+        for (int i = 0; i < 50; i++) {
+            underTest.record("thing:hot", 1L);
+        }
+        underTest.record("thing:heavy", 30L);
+
+        final List<Map.Entry<String, Long>> top = underTest.getTop();
+
+        assertThat(top).hasSize(2);
+        assertThat(top.get(0).getKey()).isEqualTo("thing:hot");
+        assertThat(top.get(0).getValue()).isGreaterThanOrEqualTo(50L);
+        assertThat(top.get(1).getKey()).isEqualTo("thing:heavy");
+        assertThat(top.get(1).getValue()).isGreaterThanOrEqualTo(30L);
+    }
+
+    @Test
+    public void estimatesAreExactWithoutCollisions() {
+        final HeavyHitters underTest = new HeavyHitters(3, 1024);
+        underTest.record("a", 3L);
+        underTest.record("b", 1L);
+        underTest.record("a", 2L);
+
+        assertThat(underTest.getTop()).containsExactly(entry("a", 5L), entry("b", 1L));
+    }
+
+    @Test
+    public void keysWithEqualHashCodeDoNotCollide() {
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        final HeavyHitters underTest = new HeavyHitters(2, 1024);
+        underTest.record("Aa", 5L);
+        underTest.record("BB", 1L);
+
+        assertThat(underTest.getTop()).containsExactly(entry("Aa", 5L), entry("BB", 1L));
+    }
+
+    @Test
+    public void mergeKeysWithHighestWeightOfAllStripes() {
+        final HeavyHitters underTest = new HeavyHitters(3, 256, 8);
+        for (int i = 0; i < 1000; i++) {
+            underTest.record("thing:" + i, 1L);
+        }
+        underTest.record("thing:hot", 50L);
+        underTest.record("thing:warm", 40L);
+        underTest.record("thing:heavy", 30L);
+
+        final List<Map.Entry<String, Long>> top = underTest.getTopAndReset();
+
+        assertThat(top).extracting(Map.Entry::getKey).containsExactly("thing:hot", "thing:warm", "thing:heavy");
+        assertThat(underTest.getTop()).isEmpty();
+    }
+
+    @Test
+    public void recordConcurrently() throws InterruptedException {
+        final HeavyHitters underTest = new HeavyHitters(2, 1024, 4);
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    underTest.record("thing:hot", 2L);
+                    underTest.record("thing:warm", 1L);
+                    underTest.record("thing:" + i, 1L);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(underTest.getTop()).extracting(Map.Entry::getKey).containsExactly("thing:hot", "thing:warm");
+        assertThat(underTest.getTop().get(0).getValue()).isGreaterThanOrEqualTo(8000L);
+    }
+
+    @Test
+    public void resetForgetsRecordedWeights() {
+        final HeavyHitters underTest = new HeavyHitters(3, 1000);
+        underTest.record("a", 3L);
+
+        assertThat(underTest.getTopAndReset()).containsExactly(entry("a", 3L));
+        assertThat(underTest.getTop()).isEmpty();
+
+        underTest.record("a", 1L);
+        assertThat(underTest.getTop()).containsExactly(entry("a", 1L));
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.hotentities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.junit.Test;
+
+/**
+ * Tests {@link HotEntities}.
+ */
+public final class HotEntitiesTest {
+
+    @Test
+    public void rotateReportsBusiestEntitiesOfClosedWindow() {
+        HotEntities.record(HotEntities.THING_MESSAGES, "ns:thing1");
+        HotEntities.record(HotEntities.THING_MESSAGES, "ns:thing1");
+        HotEntities.record(HotEntities.THING_MESSAGES, "ns:thing2");
+
+        HotEntities.rotate();
+
+        assertThat(HotEntities.toJson().toString()).isEqualTo(JsonFactory.newObjectBuilder()
+                .set(HotEntities.THING_MESSAGES, JsonFactory.newArrayBuilder()
+                        .add(JsonFactory.newObjectBuilder().set("id", "ns:thing1").set("weight", 2L).build())
+                        .add(JsonFactory.newObjectBuilder().set("id", "ns:thing2").set("weight", 1L).build())
+                        .build())
+                .build()
+                .toString());
+        assertThat(gaugeValue(HotEntities.THING_MESSAGES, "ns:thing1")).isEqualTo(2L);
+
+        HotEntities.record(HotEntities.THING_MESSAGES, "ns:thing2");
+
+        HotEntities.rotate();
+
+        assertThat(gaugeValue(HotEntities.THING_MESSAGES, "ns:thing2")).isEqualTo(1L);
+        assertThat(DittoMetrics.gauge(HotEntities.GAUGE_NAME)
+                .tag(HotEntities.CATEGORY_TAG, HotEntities.THING_MESSAGES)
+                .tag(HotEntities.ENTITY_TAG, "ns:thing1")
+                .remove()).isFalse();
+
+        HotEntities.rotate();
+
+        assertThat(HotEntities.toJson()).isEmpty();
+    }
+
+    @Test
+    public void recordNamespaceOfEntity() {
+        HotEntities.recordNamespace("org.eclipse.ditto:thing");
+        HotEntities.recordNamespace("org.eclipse.ditto:policy");
+
+        HotEntities.rotate();
+
+        assertThat(gaugeValue(HotEntities.NAMESPACE_MESSAGES, "org.eclipse.ditto")).isEqualTo(2L);
+    }
+
+    private static long gaugeValue(final String category, final String entityId) {
+        return DittoMetrics.gauge(HotEntities.GAUGE_NAME)
+                .tag(HotEntities.CATEGORY_TAG, category)
+                .tag(HotEntities.ENTITY_TAG, entityId)
+                .get();
+    }
+
+}
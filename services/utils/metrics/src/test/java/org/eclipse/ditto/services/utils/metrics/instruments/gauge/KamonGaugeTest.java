@@ -54,4 +54,12 @@ public class KamonGaugeTest {
         sut.decrement();
         assertThat(sut.get()).isEqualTo(4L);
     }
+
+    @Test
+    public void remove() {
+        final Gauge taggedGauge = KamonGauge.newGauge("TestGauge").tag("entity", "removed");
+        taggedGauge.set(5L);
+        assertThat(taggedGauge.remove()).isTrue();
+        assertThat(taggedGauge.remove()).isFalse();
+    }
 }
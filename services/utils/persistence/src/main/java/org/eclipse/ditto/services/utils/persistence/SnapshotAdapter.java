@@ -34,6 +34,20 @@ public interface SnapshotAdapter<T> {
      */
     Object toSnapshotStore(T snapshot);
 
+    /**
+     * Converts a "domain model snapshot" type to the Object which should be persisted into the Snapshot-Store as
+     * delta relative to an earlier full snapshot. Adapters which do not support delta snapshots convert it to a full
+     * snapshot.
+     *
+     * @param snapshot the domain model type to do a Snapshot for.
+     * @param base the domain model type of the earlier full snapshot.
+     * @param baseSequenceNr the sequence number of the earlier full snapshot.
+     * @return the transformed Database type which should be persisted into Snapshot-Store.
+     */
+    default Object toDeltaSnapshotStore(final T snapshot, final T base, final long baseSequenceNr) {
+        return toSnapshotStore(snapshot);
+    }
+
     /**
      * Converts a "database snapshot" (directly loaded from the database) type to a domain model snapshot type.
      *
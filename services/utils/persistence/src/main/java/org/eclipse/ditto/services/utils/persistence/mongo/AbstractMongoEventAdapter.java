@@ -10,9 +10,12 @@
  */
 package org.eclipse.ditto.services.utils.persistence.mongo;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Predicate;
 
 import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonValue;
@@ -43,10 +46,25 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
 
     private final ExtendedActorSystem system;
     private final EventRegistry<T> eventRegistry;
+    private final boolean compressPayload;
 
     protected AbstractMongoEventAdapter(final ExtendedActorSystem system, final EventRegistry<T> eventRegistry) {
+        this(system, eventRegistry, false);
+    }
+
+    /**
+     * Constructs a new event adapter.
+     *
+     * @param system the actor system or {@code null}.
+     * @param eventRegistry the registry to parse events with.
+     * @param compressPayload whether to store events as {@link CompressedPayload}. Both compressed and plain events
+     * are read regardless.
+     */
+    protected AbstractMongoEventAdapter(final ExtendedActorSystem system, final EventRegistry<T> eventRegistry,
+            final boolean compressPayload) {
         this.system = system;
         this.eventRegistry = eventRegistry;
+        this.compressPayload = compressPayload;
     }
 
     @Override
@@ -66,6 +84,9 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
             final JsonSchemaVersion schemaVersion = theEvent.getImplementedSchemaVersion();
             final JsonObject jsonObject =
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial()));
+            if (compressPayload) {
+                return CompressedPayload.compress(jsonObject, getPlainPayloadFields());
+            }
             return DittoBsonJson.getInstance().parse(jsonObject);
         } else {
             throw new IllegalArgumentException("Unable to toJournal a non-'Event' object! Was: " + event.getClass());
@@ -76,13 +97,23 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof DBObject) {
             final DBObject dbObject = (DBObject) event;
-            return EventSeq.single(tryParseEvent(DittoBsonJson.getInstance().serialize(dbObject)));
+            return EventSeq.single(tryParseEvent(CompressedPayload.toJson(dbObject)));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'DBObject' object! Was: " + event.getClass());
         }
     }
 
+    /**
+     * Returns the pointers to the fields of the event JSON which are kept uncompressed if payloads are compressed,
+     * e.g. because they are needed for queries. Contains the event type by default.
+     *
+     * @return the pointers to the plain fields.
+     */
+    protected Collection<JsonPointer> getPlainPayloadFields() {
+        return Collections.singletonList(Event.JsonFields.TYPE.getPointer());
+    }
+
     private T tryParseEvent(final JsonValue jsonValue) {
         try {
             return parseEvent(jsonValue);
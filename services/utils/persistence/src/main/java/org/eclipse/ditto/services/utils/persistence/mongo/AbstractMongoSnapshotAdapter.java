@@ -13,6 +13,8 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Collections;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -21,11 +23,13 @@ import javax.annotation.concurrent.ThreadSafe;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.snapshot.SnapshotDelta;
 import org.slf4j.Logger;
 
 import com.mongodb.DBObject;
@@ -45,9 +49,22 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         implements SnapshotAdapter<T> {
 
     private final Logger logger;
+    private final boolean compressPayload;
 
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
+        this(logger, false);
+    }
+
+    /**
+     * Constructs a new snapshot adapter.
+     *
+     * @param logger the logger to log deserialization failures with.
+     * @param compressPayload whether to store full snapshots as {@link CompressedPayload}. Both compressed and plain
+     * snapshots are read regardless.
+     */
+    protected AbstractMongoSnapshotAdapter(final Logger logger, final boolean compressPayload) {
         this.logger = logger;
+        this.compressPayload = compressPayload;
     }
 
     /**
@@ -68,10 +85,37 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
+        if (compressPayload) {
+            return CompressedPayload.compress(json, getPlainPayloadFields());
+        }
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         return dittoBsonJson.parse(json);
     }
 
+    /**
+     * Returns the pointers to the fields of the snapshot JSON which are kept uncompressed if payloads are compressed,
+     * e.g. because they are needed for queries. Empty by default.
+     *
+     * @return the pointers to the plain fields.
+     */
+    protected Collection<JsonPointer> getPlainPayloadFields() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Object toDeltaSnapshotStore(final T snapshotEntity, final T baseEntity, final long baseSequenceNr) {
+        checkNotNull(snapshotEntity, "snapshot entity");
+        checkNotNull(baseEntity, "base snapshot entity");
+        final JsonObject json = convertToJson(snapshotEntity);
+
+        onSnapshotStoreConversion(snapshotEntity, json);
+
+        // deltas are small and stay uncompressed so that the snapshot store can tell them from full snapshots
+        final JsonObject delta = SnapshotDelta.encode(convertToJson(baseEntity), baseSequenceNr, json);
+        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
+        return dittoBsonJson.parse(delta);
+    }
+
     @Override
     public T fromSnapshotStore(final SnapshotOffer snapshotOffer) {
         return convertSnapshotToJsonifiable(snapshotOffer.snapshot());
@@ -129,9 +173,7 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
      */
     private static JsonObject convertToJson(@Nonnull final DBObject dbObject) {
         checkNotNull(dbObject, "DBObject to be converted");
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        final JsonObject jsonObject = dittoBsonJson.serialize(dbObject).asObject();
-        return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
+        return DittoJsonException.wrapJsonRuntimeException(() -> CompressedPayload.toJson(dbObject));
     }
 
     @Nullable
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.types.Binary;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+import com.mongodb.DBObject;
+
+/**
+ * Compressed storage format of events and snapshots. The JSON of the payload is stored as deflated binary together
+ * with plain copies of the fields needed for queries:
+ * <pre>
+ *    {
+ *       "thingId": "org.eclipse.ditto:thing",
+ *       "__encoding": "deflate",
+ *       "__payload": BinData(0, "...")
+ *    }
+ * </pre>
+ * {@link #toJson(DBObject)} reads both the compressed and the plain BSON format, so that compression can be enabled
+ * and disabled at any time without migrating stored payloads.
+ */
+@Immutable
+public final class CompressedPayload {
+
+    /**
+     * JSON key of the encoding of a compressed payload.
+     */
+    public static final String ENCODING_JSON_KEY = "__encoding";
+
+    /**
+     * JSON key of the compressed payload.
+     */
+    public static final String PAYLOAD_JSON_KEY = "__payload";
+
+    /**
+     * The encoding of compressed payloads.
+     */
+    public static final String DEFLATE_ENCODING = "deflate";
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private CompressedPayload() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Compresses the JSON of an event or snapshot.
+     *
+     * @param json the JSON to compress.
+     * @param plainFields pointers to the fields of {@code json} to keep uncompressed in addition.
+     * @return the compressed payload.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static DBObject compress(final JsonObject json, final Collection<JsonPointer> plainFields) {
+        checkNotNull(json, "JSON to compress");
+        checkNotNull(plainFields, "plain fields");
+
+        JsonObject plainJson = JsonFactory.newObject();
+        for (final JsonPointer plainField : plainFields) {
+            final Optional<JsonValue> value = json.getValue(plainField);
+            if (value.isPresent()) {
+                plainJson = plainJson.setValue(plainField, value.get());
+            }
+        }
+        final DBObject result = DittoBsonJson.getInstance().parse(plainJson);
+        result.put(ENCODING_JSON_KEY, DEFLATE_ENCODING);
+        result.put(PAYLOAD_JSON_KEY, deflate(json.toString().getBytes(StandardCharsets.UTF_8)));
+        return result;
+    }
+
+    /**
+     * Indicates whether an event or snapshot as read from the persistence is compressed.
+     *
+     * @param rawPayload the event or snapshot as read from the persistence.
+     * @return {@code true} if {@code rawPayload} is compressed.
+     */
+    public static boolean isCompressed(final Object rawPayload) {
+        return rawPayload instanceof DBObject &&
+                DEFLATE_ENCODING.equals(((DBObject) rawPayload).get(ENCODING_JSON_KEY));
+    }
+
+    /**
+     * Converts an event or snapshot as read from the persistence to JSON, no matter whether it is compressed or not.
+     *
+     * @param dbObject the event or snapshot as read from the persistence.
+     * @return the JSON of the event or snapshot.
+     * @throws NullPointerException if {@code dbObject} is {@code null}.
+     * @throws IllegalArgumentException if {@code dbObject} is compressed but its payload cannot be decompressed.
+     */
+    public static JsonObject toJson(final DBObject dbObject) {
+        checkNotNull(dbObject, "DBObject to convert");
+        if (isCompressed(dbObject)) {
+            final byte[] payload = inflate(getPayloadBytes(dbObject.get(PAYLOAD_JSON_KEY)));
+            return JsonFactory.newObject(new String(payload, StandardCharsets.UTF_8));
+        }
+        return DittoBsonJson.getInstance().serialize(dbObject).asObject();
+    }
+
+    private static byte[] getPayloadBytes(final Object payload) {
+        if (payload instanceof byte[]) {
+            return (byte[]) payload;
+        } else if (payload instanceof Binary) {
+            return ((Binary) payload).getData();
+        }
+        throw new IllegalArgumentException("The compressed payload is no binary but <" + payload + ">.");
+    }
+
+    private static byte[] deflate(final byte[] bytes) {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 16);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final byte[] bytes) {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                final int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("The compressed payload is truncated.");
+                }
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } catch (final DataFormatException e) {
+            throw new IllegalArgumentException("The compressed payload is corrupt: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+}
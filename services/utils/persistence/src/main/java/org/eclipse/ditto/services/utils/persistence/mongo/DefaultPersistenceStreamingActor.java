@@ -12,6 +12,8 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
@@ -30,13 +32,13 @@ public final class DefaultPersistenceStreamingActor<T extends EntityIdWithRevisi
         extends AbstractPersistenceStreamingActor<T> {
 
     private final Class<T> elementClass;
-    private final MongoClientWrapper mongoClientWrapper;
+    @Nullable private final MongoClientWrapper mongoClientWrapper;
 
     DefaultPersistenceStreamingActor(final Class<T> elementClass,
             final int streamingCacheSize,
             final Function<PidWithSeqNr, T> entityMapper,
             final MongoReadJournal readJournal,
-            final MongoClientWrapper mongoClientWrapper) {
+            @Nullable final MongoClientWrapper mongoClientWrapper) {
 
         super(streamingCacheSize, entityMapper, readJournal);
         this.elementClass = elementClass;
@@ -67,9 +69,37 @@ public final class DefaultPersistenceStreamingActor<T extends EntityIdWithRevisi
         });
     }
 
+    /**
+     * Creates Akka configuration object Props for this PersistenceStreamingActor which reads the journal with a Mongo
+     * client shared with other actors. The client is not closed when the actor stops.
+     *
+     * @param <T> type of messages to stream.
+     * @param elementClass class of the elements.
+     * @param mongoClient the shared Mongo client.
+     * @param config the configuration of the akka system.
+     * @param streamingCacheSize the size of the streaming cache.
+     * @param entityMapper the mapper used to map {@link PidWithSeqNr} to {@code T}. The resulting entity will be
+     * streamed to the recipient actor.
+     * @return the Akka configuration Props object.
+     */
+    public static <T extends EntityIdWithRevision> Props props(final Class<T> elementClass,
+            final MongoClientWrapper mongoClient,
+            final Config config,
+            final int streamingCacheSize,
+            final Function<PidWithSeqNr, T> entityMapper) {
+
+        return Props.create(DefaultPersistenceStreamingActor.class, () -> {
+            final MongoReadJournal readJournal = MongoReadJournal.newInstance(config, mongoClient);
+            return new DefaultPersistenceStreamingActor<>(elementClass,
+                    streamingCacheSize, entityMapper, readJournal, null);
+        });
+    }
+
     @Override
     public void postStop() throws Exception {
-        mongoClientWrapper.close();
+        if (null != mongoClientWrapper) {
+            mongoClientWrapper.close();
+        }
         super.postStop();
     }
 
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.services.models.streaming.BatchedEntityIdWithRevisions;
+import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.akka.streaming.StreamMetadataPersistence;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.JournalChange;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoSearchSyncPersistence;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
+
+import com.mongodb.MongoException;
+import com.typesafe.config.Config;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Creator;
+import akka.japi.pf.ReceiveBuilder;
+import akka.stream.KillSwitches;
+import akka.stream.Materializer;
+import akka.stream.UniqueKillSwitch;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.RestartSource;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Actor which watches the event journal collections with MongoDB change streams and publishes the persistence IDs
+ * and sequence numbers of written events as {@link BatchedEntityIdWithRevisions} to a pub-sub topic, e.g. in order to
+ * synchronize the search index within seconds. The published batches are at most once delivered; the interval based
+ * synchronization via {@link AbstractPersistenceStreamingActor} remains the fallback for lost batches.
+ * <p>
+ * The resume tokens of the change streams are persisted in a {@link StreamMetadataPersistence} after each batch, so
+ * that the change streams resume where they left off after a restart. If a change stream fails, it is restarted with
+ * backoff after the last persisted resume tokens. Only if MongoDB rejects the resume tokens, e.g. because they are no
+ * longer in the oplog, the change streams are restarted from the current time on.
+ * </p>
+ *
+ * @param <T> type of the published elements.
+ */
+public final class JournalChangeStreamActor<T extends EntityIdWithRevision> extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "journalChangeStreamActor";
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1L);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30L);
+    private static final double RANDOM_FACTOR = 0.2;
+
+    /**
+     * Error codes of MongoDB with which a change stream cannot be resumed with its resume token: InvalidResumeToken,
+     * ChangeStreamFatalError, ChangeStreamHistoryLost and the codes of MongoDB 3.6 for a resume token which is no
+     * longer in the oplog or was not found.
+     */
+    private static final Set<Integer> RESUME_TOKEN_LOST_ERROR_CODES =
+            Stream.of(260, 280, 286, 40576, 40585).collect(Collectors.toSet());
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final Class<T> elementClass;
+    private final Function<PidWithSeqNr, T> entityMapper;
+    private final MongoReadJournal readJournal;
+    private final StreamMetadataPersistence resumeTokenPersistence;
+    private final ActorRef pubSubMediator;
+    private final String topic;
+    private final int batchSize;
+    private final Duration batchInterval;
+    private final Materializer materializer;
+    @Nullable private final MongoClientWrapper mongoClientWrapper;
+    private final Map<String, Optional<BsonDocument>> resumeTokens;
+
+    @Nullable private UniqueKillSwitch killSwitch;
+
+    /*
+     * package-private for unit tests
+     */
+    JournalChangeStreamActor(final Class<T> elementClass,
+            final Function<PidWithSeqNr, T> entityMapper,
+            final MongoReadJournal readJournal,
+            final StreamMetadataPersistence resumeTokenPersistence,
+            final ActorRef pubSubMediator,
+            final String topic,
+            final int batchSize,
+            final Duration batchInterval,
+            final Materializer materializer,
+            @Nullable final MongoClientWrapper mongoClientWrapper) {
+
+        this.elementClass = requireNonNull(elementClass);
+        this.entityMapper = requireNonNull(entityMapper);
+        this.readJournal = requireNonNull(readJournal);
+        this.resumeTokenPersistence = requireNonNull(resumeTokenPersistence);
+        this.pubSubMediator = requireNonNull(pubSubMediator);
+        this.topic = requireNonNull(topic);
+        this.batchSize = batchSize;
+        this.batchInterval = requireNonNull(batchInterval);
+        this.materializer = requireNonNull(materializer);
+        this.mongoClientWrapper = mongoClientWrapper;
+        resumeTokens = new ConcurrentHashMap<>();
+        killSwitch = null;
+    }
+
+    /**
+     * Creates Akka configuration object Props for this JournalChangeStreamActor.
+     *
+     * @param <T> type of the published elements.
+     * @param elementClass class of the elements.
+     * @param config the configuration of the akka system.
+     * @param entityMapper the mapper used to map {@link PidWithSeqNr} to {@code T}.
+     * @param pubSubMediator the PubSub mediator Actor.
+     * @param topic the topic to publish the batches of elements to.
+     * @param resumeTokensCollection the name of the collection to persist the resume tokens in.
+     * @param batchSize the maximum number of elements to publish in one batch.
+     * @param batchInterval the maximum time to wait for further elements of a batch.
+     * @param materializer the materializer to run the change streams with.
+     * @return the Akka configuration Props object.
+     */
+    public static <T extends EntityIdWithRevision> Props props(final Class<T> elementClass,
+            final Config config,
+            final Function<PidWithSeqNr, T> entityMapper,
+            final ActorRef pubSubMediator,
+            final String topic,
+            final String resumeTokensCollection,
+            final int batchSize,
+            final Duration batchInterval,
+            final Materializer materializer) {
+
+        return Props.create(JournalChangeStreamActor.class, new Creator<JournalChangeStreamActor<T>>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public JournalChangeStreamActor<T> create() {
+                final MongoClientWrapper mongoClient = MongoClientWrapper.newInstance(config);
+                final MongoReadJournal readJournal = MongoReadJournal.newInstance(config, mongoClient);
+                final StreamMetadataPersistence resumeTokenPersistence =
+                        MongoSearchSyncPersistence.initializedInstance(resumeTokensCollection, mongoClient,
+                                materializer);
+                return new JournalChangeStreamActor<>(elementClass, entityMapper, readJournal,
+                        resumeTokenPersistence, pubSubMediator, topic, batchSize, batchInterval, materializer,
+                        mongoClient);
+            }
+        });
+    }
+
+    @Override
+    public void preStart() {
+        killSwitch = RestartSource.withBackoff(MIN_BACKOFF, MAX_BACKOFF, RANDOM_FACTOR, this::watchJournalChanges)
+                .viaMat(KillSwitches.single(), Keep.right())
+                .groupedWithin(batchSize, FiniteDuration.apply(batchInterval.toMillis(), TimeUnit.MILLISECONDS))
+                .mapAsync(1, this::publishAndPersistResumeTokens)
+                .toMat(Sink.ignore(), Keep.left())
+                .run(materializer);
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != killSwitch) {
+            killSwitch.shutdown();
+        }
+        if (null != mongoClientWrapper) {
+            mongoClientWrapper.close();
+        }
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private Source<JournalChange, NotUsed> watchJournalChanges() {
+        return readJournal.watchJournalChanges(this::resumeTokenOf)
+                .watchTermination((notUsed, done) -> {
+                    done.whenComplete((result, error) -> {
+                        if (isResumeTokenLost(error)) {
+                            log.warning("Resume tokens are no longer valid, restarting change streams from now on: {}",
+                                    error.getMessage());
+                            resumeTokens.replaceAll((journalCollection, resumeToken) -> Optional.empty());
+                        } else if (null != error) {
+                            log.warning("Change stream failed, resuming it after the last persisted resume tokens: {}",
+                                    error.getMessage());
+                        }
+                    });
+                    return notUsed;
+                });
+    }
+
+    private static boolean isResumeTokenLost(@Nullable final Throwable error) {
+        Throwable cause = error;
+        while (null != cause) {
+            if (cause instanceof MongoException &&
+                    RESUME_TOKEN_LOST_ERROR_CODES.contains(((MongoException) cause).getCode())) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    private Source<Optional<BsonDocument>, NotUsed> resumeTokenOf(final String journalCollection) {
+        final Optional<BsonDocument> knownResumeToken = resumeTokens.get(journalCollection);
+        if (null != knownResumeToken) {
+            return Source.single(knownResumeToken);
+        }
+        return resumeTokenPersistence.retrieveResumeToken(journalCollection)
+                .map(persistedResumeToken -> {
+                    final Optional<BsonDocument> resumeToken = persistedResumeToken.map(BsonDocument::parse);
+                    resumeTokens.putIfAbsent(journalCollection, resumeToken);
+                    return resumeToken;
+                });
+    }
+
+    private CompletionStage<Done> publishAndPersistResumeTokens(final List<JournalChange> changes) {
+        final Map<String, Long> sequenceNumbers = new LinkedHashMap<>();
+        final Map<String, BsonDocument> latestResumeTokens = new HashMap<>();
+        changes.forEach(change -> {
+            final PidWithSeqNr pidWithSeqNr = change.getPidWithSeqNr();
+            sequenceNumbers.merge(pidWithSeqNr.getPersistenceId(), pidWithSeqNr.getSequenceNr(), Math::max);
+            latestResumeTokens.put(change.getJournalCollection(), change.getResumeToken());
+        });
+
+        final List<T> elements = sequenceNumbers.entrySet()
+                .stream()
+                .map(entry -> entityMapper.apply(new PidWithSeqNr(entry.getKey(), entry.getValue())))
+                .collect(Collectors.toList());
+        log.debug("Publishing <{}> elements of <{}> journal changes.", elements.size(), changes.size());
+        pubSubMediator.tell(new DistributedPubSubMediator.Publish(topic,
+                BatchedEntityIdWithRevisions.of(elementClass, elements), true), ActorRef.noSender());
+
+        return Source.from(latestResumeTokens.entrySet())
+                .flatMapConcat(entry -> resumeTokenPersistence.updateResumeToken(entry.getKey(),
+                        entry.getValue().toJson())
+                        .map(persisted -> {
+                            resumeTokens.put(entry.getKey(), Optional.of(entry.getValue()));
+                            return persisted;
+                        }))
+                .runWith(Sink.ignore(), materializer)
+                .exceptionally(error -> {
+                    log.warning("Failed to persist resume tokens: {}", error.getMessage());
+                    return Done.getInstance();
+                });
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.snapshot;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.pattern.PatternsCS;
+import akka.persistence.DeleteSnapshotFailure;
+import akka.persistence.DeleteSnapshotsFailure;
+import akka.persistence.Persistence;
+import akka.persistence.SaveSnapshotFailure;
+import akka.persistence.SelectedSnapshot;
+import akka.persistence.SnapshotMetadata;
+import akka.persistence.SnapshotProtocol;
+import akka.persistence.SnapshotSelectionCriteria;
+import akka.persistence.snapshot.japi.SnapshotStore;
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.Future;
+
+/**
+ * Snapshot store plugin which restores {@link SnapshotDelta delta snapshots} from their base when loading them and
+ * otherwise forwards all requests to the snapshot store plugin configured as {@value #DELEGATE_CONFIG_KEY}. Full
+ * snapshots are passed through unchanged, so persistence actors see full snapshots only, both on recovery and when
+ * loading older snapshots.
+ * <p>
+ * Example configuration:
+ * </p>
+ * <pre>
+ *    things-delta-snapshots {
+ *      class = "org.eclipse.ditto.services.utils.persistence.mongo.snapshot.DeltaSnapshotStore"
+ *      delegate = "akka-contrib-mongodb-persistence-things-snapshots"
+ *    }
+ * </pre>
+ */
+public final class DeltaSnapshotStore extends SnapshotStore {
+
+    /**
+     * Config key of the plugin ID of the snapshot store which stores the full and delta snapshots.
+     */
+    public static final String DELEGATE_CONFIG_KEY = "delegate";
+
+    /**
+     * Config key of how long to wait for the snapshot store which stores the full and delta snapshots.
+     */
+    public static final String ASK_TIMEOUT_CONFIG_KEY = "ask-timeout";
+
+    private static final Duration DEFAULT_ASK_TIMEOUT = Duration.ofSeconds(20L);
+
+    private final ActorRef delegate;
+    private final long askTimeoutMillis;
+
+    /**
+     * Creates the plugin. Called by Akka persistence.
+     *
+     * @param config the configuration of the plugin.
+     */
+    public DeltaSnapshotStore(final Config config) {
+        delegate = Persistence.get(context().system())
+                .snapshotStoreFor(config.getString(DELEGATE_CONFIG_KEY), ConfigFactory.empty());
+        askTimeoutMillis = config.hasPath(ASK_TIMEOUT_CONFIG_KEY)
+                ? config.getDuration(ASK_TIMEOUT_CONFIG_KEY).toMillis()
+                : DEFAULT_ASK_TIMEOUT.toMillis();
+    }
+
+    @Override
+    public Future<Optional<SelectedSnapshot>> doLoadAsync(final String persistenceId,
+            final SnapshotSelectionCriteria criteria) {
+
+        return FutureConverters.toScala(load(persistenceId, criteria)
+                .thenCompose(snapshot -> snapshot.isPresent() && SnapshotDelta.isDelta(snapshot.get().snapshot())
+                        ? restoreFromBase(persistenceId, snapshot.get())
+                        : CompletableFuture.completedFuture(snapshot)));
+    }
+
+    @Override
+    public Future<Void> doSaveAsync(final SnapshotMetadata metadata, final Object snapshot) {
+        return FutureConverters.toScala(askDelegate(new SnapshotProtocol.SaveSnapshot(metadata, snapshot))
+                .thenApply(response -> null));
+    }
+
+    @Override
+    public Future<Void> doDeleteAsync(final SnapshotMetadata metadata) {
+        return FutureConverters.toScala(askDelegate(new SnapshotProtocol.DeleteSnapshot(metadata))
+                .thenApply(response -> null));
+    }
+
+    @Override
+    public Future<Void> doDeleteAsync(final String persistenceId, final SnapshotSelectionCriteria criteria) {
+        return FutureConverters.toScala(askDelegate(new SnapshotProtocol.DeleteSnapshots(persistenceId, criteria))
+                .thenApply(response -> null));
+    }
+
+    /**
+     * Restores the delta snapshot from its base. If the base is missing or the delta cannot be applied to it, the
+     * newest full snapshot older than the delta is loaded instead. Replaying the whole journal is no option, as the
+     * events up to the delta may have been deleted already; hence loading fails if there is no such full snapshot.
+     */
+    private CompletionStage<Optional<SelectedSnapshot>> restoreFromBase(final String persistenceId,
+            final SelectedSnapshot delta) {
+
+        final OptionalLong baseSequenceNr = SnapshotDelta.getBaseSequenceNr(delta.snapshot());
+        if (!baseSequenceNr.isPresent()) {
+            log().error("The delta snapshot <{}> has no base.", delta.metadata());
+            return loadFullSnapshotOlderThan(persistenceId, delta.metadata().sequenceNr(), delta);
+        }
+        final long baseSeqNr = baseSequenceNr.getAsLong();
+        return load(persistenceId, SnapshotSelectionCriteria.create(baseSeqNr, Long.MAX_VALUE, baseSeqNr, 0L))
+                .thenCompose(base -> {
+                    // not every snapshot store honors the minimum sequence number of the selection criteria
+                    if (!base.isPresent() || base.get().metadata().sequenceNr() != baseSeqNr) {
+                        log().error("The base snapshot <{}> of the delta snapshot <{}> is missing.", baseSeqNr,
+                                delta.metadata());
+                        return loadFullSnapshotOlderThan(persistenceId, delta.metadata().sequenceNr(), delta);
+                    }
+                    try {
+                        final Object snapshot = SnapshotDelta.decode(base.get().snapshot(), delta.snapshot());
+                        log().debug("Restored delta snapshot <{}> from its base <{}>.", delta.metadata(), baseSeqNr);
+                        return CompletableFuture.completedFuture(
+                                Optional.of(SelectedSnapshot.create(delta.metadata(), snapshot)));
+                    } catch (final RuntimeException e) {
+                        log().error(e, "Failed to restore the delta snapshot <{}> from its base <{}>.",
+                                delta.metadata(), baseSeqNr);
+                        return loadFullSnapshotOlderThan(persistenceId, delta.metadata().sequenceNr(), delta);
+                    }
+                });
+    }
+
+    private CompletionStage<Optional<SelectedSnapshot>> loadFullSnapshotOlderThan(final String persistenceId,
+            final long sequenceNr, final SelectedSnapshot delta) {
+
+        final CompletionStage<Optional<SelectedSnapshot>> olderSnapshot = sequenceNr > 1L
+                ? load(persistenceId, SnapshotSelectionCriteria.create(sequenceNr - 1L, Long.MAX_VALUE, 0L, 0L))
+                : CompletableFuture.completedFuture(Optional.empty());
+        return olderSnapshot.thenCompose(snapshot -> {
+            if (!snapshot.isPresent()) {
+                final CompletableFuture<Optional<SelectedSnapshot>> failure = new CompletableFuture<>();
+                failure.completeExceptionally(new IllegalStateException(
+                        "The delta snapshot " + delta.metadata() + " cannot be restored and there is no older full " +
+                                "snapshot to recover from."));
+                return failure;
+            } else if (SnapshotDelta.isDelta(snapshot.get().snapshot())) {
+                return loadFullSnapshotOlderThan(persistenceId, snapshot.get().metadata().sequenceNr(), delta);
+            } else {
+                log().warning("Loading the full snapshot <{}> instead of the delta snapshot <{}>.",
+                        snapshot.get().metadata(), delta.metadata());
+                return CompletableFuture.completedFuture(snapshot);
+            }
+        });
+    }
+
+    private CompletionStage<Optional<SelectedSnapshot>> load(final String persistenceId,
+            final SnapshotSelectionCriteria criteria) {
+
+        return askDelegate(new SnapshotProtocol.LoadSnapshot(persistenceId, criteria, Long.MAX_VALUE))
+                .thenApply(response -> {
+                    if (response instanceof SnapshotProtocol.LoadSnapshotResult) {
+                        final scala.Option<SelectedSnapshot> snapshot =
+                                ((SnapshotProtocol.LoadSnapshotResult) response).snapshot();
+                        return snapshot.isDefined() ? Optional.of(snapshot.get()) : Optional.empty();
+                    }
+                    throw new IllegalStateException("Unexpected response to LoadSnapshot: " + response);
+                });
+    }
+
+    private CompletionStage<Object> askDelegate(final Object request) {
+        return PatternsCS.ask(delegate, request, askTimeoutMillis)
+                .thenApply(response -> {
+                    final Throwable cause = getFailureCause(response);
+                    if (cause != null) {
+                        throw new CompletionException(cause);
+                    }
+                    return response;
+                });
+    }
+
+    @Nullable
+    private static Throwable getFailureCause(final Object response) {
+        if (response instanceof SnapshotProtocol.LoadSnapshotFailed) {
+            return ((SnapshotProtocol.LoadSnapshotFailed) response).cause();
+        } else if (response instanceof SaveSnapshotFailure) {
+            return ((SaveSnapshotFailure) response).cause();
+        } else if (response instanceof DeleteSnapshotFailure) {
+            return ((DeleteSnapshotFailure) response).cause();
+        } else if (response instanceof DeleteSnapshotsFailure) {
+            return ((DeleteSnapshotsFailure) response).cause();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.snapshot;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.OptionalLong;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.utils.persistence.mongo.CompressedPayload;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Encoding of delta snapshots. A delta snapshot stores only the changes of a snapshot entity relative to an earlier
+ * full snapshot of the same entity, the base, together with the sequence number of the base:
+ * <pre>
+ *    {
+ *       "__snapshotBase": 1000,
+ *       "__snapshotDelta": [
+ *          { "path": "/features/f1/properties/temperature", "value": 23.5 },
+ *          { "path": "/attributes/obsolete" }
+ *       ]
+ *    }
+ * </pre>
+ * Changes without value are removals. Applying the delta to the base restores the full snapshot; the restored
+ * snapshot keeps the sequence number of its base so that it can be told apart from a full snapshot.
+ */
+@Immutable
+public final class SnapshotDelta {
+
+    /**
+     * JSON key of the sequence number of the base of a delta snapshot.
+     */
+    public static final String BASE_JSON_KEY = "__snapshotBase";
+
+    /**
+     * JSON key of the changes of a delta snapshot.
+     */
+    public static final String CHANGES_JSON_KEY = "__snapshotDelta";
+
+    private static final String PATH_JSON_KEY = "path";
+    private static final String VALUE_JSON_KEY = "value";
+
+    private SnapshotDelta() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Encodes a snapshot as delta relative to a base snapshot.
+     *
+     * @param base the JSON of the base snapshot.
+     * @param baseSequenceNr the sequence number of the base snapshot.
+     * @param snapshot the JSON of the snapshot to encode.
+     * @return the delta snapshot.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static JsonObject encode(final JsonObject base, final long baseSequenceNr, final JsonObject snapshot) {
+        checkNotNull(base, "base snapshot");
+        checkNotNull(snapshot, "snapshot");
+        final JsonArrayBuilder changes = JsonFactory.newArrayBuilder();
+        appendChanges(JsonPointer.empty(), base, snapshot, changes);
+        return JsonFactory.newObjectBuilder()
+                .set(BASE_JSON_KEY, baseSequenceNr)
+                .set(CHANGES_JSON_KEY, changes.build())
+                .build();
+    }
+
+    /**
+     * Restores the full snapshot from a delta snapshot and its base.
+     *
+     * @param base the JSON of the base snapshot.
+     * @param delta the delta snapshot.
+     * @return the full snapshot.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code delta} is no delta snapshot.
+     */
+    public static JsonObject decode(final JsonObject base, final JsonObject delta) {
+        checkNotNull(base, "base snapshot");
+        final long baseSequenceNr = getBaseSequenceNr(checkNotNull(delta, "delta snapshot"))
+                .orElseThrow(() -> new IllegalArgumentException("Not a delta snapshot: " + delta));
+
+        JsonObject result = base.remove(BASE_JSON_KEY);
+        final JsonArray changes = delta.getValue(CHANGES_JSON_KEY)
+                .filter(JsonValue::isArray)
+                .map(JsonValue::asArray)
+                .orElseGet(JsonFactory::newArray);
+        for (final JsonValue change : changes) {
+            if (change.isObject()) {
+                result = applyChange(result, change.asObject());
+            }
+        }
+        return result.setValue(BASE_JSON_KEY, baseSequenceNr);
+    }
+
+    /**
+     * Returns the sequence number of the base of a delta snapshot.
+     *
+     * @param snapshot the JSON of a full or restored or delta snapshot.
+     * @return the sequence number of the base, or an empty Optional if {@code snapshot} is a full snapshot.
+     */
+    public static OptionalLong getBaseSequenceNr(final JsonObject snapshot) {
+        return snapshot.getValue(BASE_JSON_KEY)
+                .filter(JsonValue::isNumber)
+                .map(value -> OptionalLong.of(value.asLong()))
+                .orElseGet(OptionalLong::empty);
+    }
+
+    /**
+     * Returns the sequence number of the base of a delta snapshot as read from the snapshot store.
+     *
+     * @param rawSnapshot the snapshot as read from the snapshot store.
+     * @return the sequence number of the base, or an empty Optional if {@code rawSnapshot} is no delta snapshot or
+     * no delta snapshot restored from its base.
+     */
+    public static OptionalLong getBaseSequenceNr(final Object rawSnapshot) {
+        if (rawSnapshot instanceof DBObject) {
+            final Object base = ((DBObject) rawSnapshot).get(BASE_JSON_KEY);
+            if (base instanceof Number) {
+                return OptionalLong.of(((Number) base).longValue());
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Indicates whether a snapshot as read from the snapshot store is a delta snapshot which has to be restored from
+     * its base.
+     *
+     * @param rawSnapshot the snapshot as read from the snapshot store.
+     * @return {@code true} if {@code rawSnapshot} is a delta snapshot.
+     */
+    public static boolean isDelta(final Object rawSnapshot) {
+        return rawSnapshot instanceof DBObject && ((DBObject) rawSnapshot).containsField(CHANGES_JSON_KEY);
+    }
+
+    /**
+     * Restores the full snapshot from a delta snapshot and its base as read from the snapshot store.
+     *
+     * @param rawBase the base snapshot as read from the snapshot store, either plain or compressed.
+     * @param rawDelta the delta snapshot as read from the snapshot store.
+     * @return the full snapshot in the format of the snapshot store.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code rawBase} or {@code rawDelta} is no {@code BasicDBObject} or if
+     * {@code rawDelta} is no delta snapshot.
+     */
+    public static Object decode(final Object rawBase, final Object rawDelta) {
+        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
+        final JsonObject base = CompressedPayload.toJson(asBasicDBObject(rawBase, "base snapshot"));
+        final JsonObject delta = dittoBsonJson.serialize(asBasicDBObject(rawDelta, "delta snapshot"));
+        return dittoBsonJson.parse(decode(base, delta));
+    }
+
+    private static BasicDBObject asBasicDBObject(final Object rawSnapshot, final String description) {
+        checkNotNull(rawSnapshot, description);
+        if (!(rawSnapshot instanceof BasicDBObject)) {
+            throw new IllegalArgumentException("Expected the " + description + " to be a BasicDBObject, but it is <" +
+                    rawSnapshot.getClass() + ">.");
+        }
+        return (BasicDBObject) rawSnapshot;
+    }
+
+    private static void appendChanges(final JsonPointer path, final JsonObject base, final JsonObject snapshot,
+            final JsonArrayBuilder changes) {
+
+        for (final JsonField field : snapshot) {
+            final JsonKey key = field.getKey();
+            final JsonValue value = field.getValue();
+            final JsonPointer fieldPath = path.addLeaf(key);
+            final JsonValue baseValue = base.getField(key).map(JsonField::getValue).orElse(null);
+            if (baseValue != null && baseValue.isObject() && value.isObject()) {
+                appendChanges(fieldPath, baseValue.asObject(), value.asObject(), changes);
+            } else if (!value.equals(baseValue)) {
+                changes.add(JsonFactory.newObjectBuilder()
+                        .set(PATH_JSON_KEY, fieldPath.toString())
+                        .set(VALUE_JSON_KEY, value)
+                        .build());
+            }
+        }
+        for (final JsonField baseField : base) {
+            if (!snapshot.contains(baseField.getKey())) {
+                changes.add(JsonFactory.newObjectBuilder()
+                        .set(PATH_JSON_KEY, path.addLeaf(baseField.getKey()).toString())
+                        .build());
+            }
+        }
+    }
+
+    private static JsonObject applyChange(final JsonObject snapshot, final JsonObject change) {
+        final JsonPointer path = change.getValue(PATH_JSON_KEY)
+                .filter(JsonValue::isString)
+                .map(JsonValue::asString)
+                .map(JsonFactory::newPointer)
+                .orElse(JsonPointer.empty());
+        if (path.isEmpty()) {
+            return snapshot;
+        }
+        return change.getValue(VALUE_JSON_KEY)
+                .map(value -> snapshot.setValue(path, value))
+                .orElseGet(() -> snapshot.remove(path));
+    }
+
+}
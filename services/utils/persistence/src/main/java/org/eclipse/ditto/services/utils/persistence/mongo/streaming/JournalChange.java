@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.streaming;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonDocument;
+
+/**
+ * A write to an event journal collection observed by a MongoDB change stream: the persistence ID and sequence number
+ * of the written events together with the token to resume the change stream of the collection after this write.
+ */
+@Immutable
+public final class JournalChange {
+
+    private final String journalCollection;
+    private final PidWithSeqNr pidWithSeqNr;
+    private final BsonDocument resumeToken;
+
+    /**
+     * Creates a journal change.
+     *
+     * @param journalCollection the name of the journal collection written to.
+     * @param pidWithSeqNr the persistence ID and the highest sequence number of the written events.
+     * @param resumeToken the token to resume the change stream of the journal collection with.
+     */
+    public JournalChange(final String journalCollection, final PidWithSeqNr pidWithSeqNr,
+            final BsonDocument resumeToken) {
+        this.journalCollection = journalCollection;
+        this.pidWithSeqNr = pidWithSeqNr;
+        this.resumeToken = resumeToken;
+    }
+
+    /**
+     * Retrieve the name of the journal collection written to.
+     *
+     * @return the collection name.
+     */
+    public String getJournalCollection() {
+        return journalCollection;
+    }
+
+    /**
+     * Retrieve the persistence ID and the highest sequence number of the written events.
+     *
+     * @return the persistence ID and sequence number.
+     */
+    public PidWithSeqNr getPidWithSeqNr() {
+        return pidWithSeqNr;
+    }
+
+    /**
+     * Retrieve the token to resume the change stream of the journal collection after this change.
+     *
+     * @return the resume token.
+     */
+    public BsonDocument getResumeToken() {
+        return resumeToken;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        } else if (o == null || getClass() != o.getClass()) {
+            return false;
+        } else {
+            final JournalChange that = (JournalChange) o;
+            return Objects.equals(journalCollection, that.journalCollection) &&
+                    Objects.equals(pidWithSeqNr, that.pidWithSeqNr) &&
+                    Objects.equals(resumeToken, that.resumeToken);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(journalCollection, pidWithSeqNr, resumeToken);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " ["
+                + "journalCollection=" + journalCollection
+                + ", pidWithSeqNr=" + pidWithSeqNr
+                + ", resumeToken=" + resumeToken
+                + "]";
+    }
+}
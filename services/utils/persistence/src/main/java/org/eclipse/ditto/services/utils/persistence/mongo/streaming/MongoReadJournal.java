@@ -12,12 +12,19 @@ package org.eclipse.ditto.services.utils.persistence.mongo.streaming;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
@@ -26,7 +33,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.mongodb.QueryOperators;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.Filters;
+import com.mongodb.reactivestreams.client.ChangeStreamPublisher;
 import com.typesafe.config.Config;
 
 import akka.NotUsed;
@@ -72,6 +81,9 @@ public class MongoReadJournal {
 
     private static final String COLLECTION_NAME_FIELD = "name";
 
+    private static final String OPERATION_TYPE = "operationType";
+    private static final String INSERT = "insert";
+
     /**
      * Concurrently consumes this amount of streams from different journals (if used with namespace suffixed
      * collections).
@@ -125,6 +137,50 @@ public class MongoReadJournal {
                 );
     }
 
+    /**
+     * Watch the event journal collections for written events with MongoDB change streams. Change streams require
+     * MongoDB 3.6 or above running as replica set, e.g. a local single-node replica set. The returned source does not
+     * complete on its own; it fails if any change stream fails, e.g. if a resume token is no longer in the oplog.
+     * Journal collections created after the source was started are not watched.
+     *
+     * @param resumeTokens provides a source of the token to resume the change stream of a journal collection with, or
+     * of an empty Optional to start watching from now on.
+     * @return source of the written persistence IDs and sequence numbers together with the resume tokens.
+     */
+    public Source<JournalChange, NotUsed> watchJournalChanges(
+            final Function<String, Source<Optional<BsonDocument>, NotUsed>> resumeTokens) {
+
+        return resolveJournalCollectionNames(journalCollectionPrefix, clientWrapper)
+                .fold(new ArrayList<String>(), (collectionNames, collectionName) -> {
+                    collectionNames.add(collectionName);
+                    return collectionNames;
+                })
+                // change streams never complete, thus all of them have to be consumed concurrently
+                .flatMapConcat(collectionNames -> Source.from(collectionNames)
+                        .flatMapMerge(Math.max(1, collectionNames.size()),
+                                collectionName -> resumeTokens.apply(collectionName)
+                                        .flatMapConcat(resumeToken -> watchJournalCollection(collectionName,
+                                                resumeToken.orElse(null)))));
+    }
+
+    private Source<JournalChange, NotUsed> watchJournalCollection(final String collectionName,
+            @Nullable final BsonDocument resumeToken) {
+
+        log.info("Watching journal collection <{}> resuming after <{}>.", collectionName, resumeToken);
+        final ChangeStreamPublisher<Document> publisher = clientWrapper.getDatabase()
+                .getCollection(collectionName)
+                .watch(Collections.singletonList(Aggregates.match(Filters.eq(OPERATION_TYPE, INSERT))));
+        final ChangeStreamPublisher<Document> resumingPublisher =
+                null != resumeToken ? publisher.resumeAfter(resumeToken) : publisher;
+        return Source.fromPublisher(resumingPublisher)
+                .map(change -> {
+                    final Document journalEntry = change.getFullDocument();
+                    final PidWithSeqNr pidWithSeqNr =
+                            new PidWithSeqNr(journalEntry.getString(PROCESSOR_ID), journalEntry.getLong(TO));
+                    return new JournalChange(collectionName, pidWithSeqNr, change.getResumeToken());
+                });
+    }
+
     private Document createFilterObject(final Instant start, final Instant end) {
         final ObjectId startObjectId = instantToObjectIdBoundary(start);
         final ObjectId endObjectId = instantToObjectIdBoundary(end.plus(1L, ChronoUnit.SECONDS));
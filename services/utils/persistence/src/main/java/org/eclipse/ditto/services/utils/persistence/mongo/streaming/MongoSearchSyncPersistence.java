@@ -29,6 +29,8 @@ import org.slf4j.LoggerFactory;
 
 import com.mongodb.MongoCommandException;
 import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.Success;
 
@@ -50,6 +52,14 @@ public final class MongoSearchSyncPersistence implements StreamMetadataPersisten
     private static final long BLOCKING_TIMEOUT_SECS = 20;
 
     private static final String FIELD_TIMESTAMP = "ts";
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_RESUME_TOKEN = "resumeToken";
+
+    /**
+     * Suffix of the collection holding the resume tokens of change streams, one document per stream.
+     */
+    private static final String RESUME_TOKENS_COLLECTION_SUFFIX = "_resumeTokens";
+
     /**
      * MongoDB error code if a collection that is being created already exists
      */
@@ -61,18 +71,22 @@ public final class MongoSearchSyncPersistence implements StreamMetadataPersisten
     private static final Logger LOGGER = LoggerFactory.getLogger(MongoSearchSyncPersistence.class);
     private final Materializer mat;
     private final MongoCollection<Document> lastSuccessfulSearchSyncCollection;
+    private final MongoCollection<Document> resumeTokensCollection;
 
     /**
      * Constructor.
      *
      * @param lastSuccessfulSearchSyncCollection the collection in which the last successful sync timestamps can be
      * stored.
+     * @param resumeTokensCollection the collection in which the resume tokens of change streams can be stored.
      * @param mat the {@link Materializer} to be used for stream
      */
     private MongoSearchSyncPersistence(final MongoCollection<Document> lastSuccessfulSearchSyncCollection,
+            final MongoCollection<Document> resumeTokensCollection,
             final Materializer mat) {
         this.mat = mat;
         this.lastSuccessfulSearchSyncCollection = lastSuccessfulSearchSyncCollection;
+        this.resumeTokensCollection = resumeTokensCollection;
     }
 
     /**
@@ -91,7 +105,10 @@ public final class MongoSearchSyncPersistence implements StreamMetadataPersisten
                 MIN_CAPPED_COLLECTION_SIZE_IN_BYTES,
                 BLOCKING_TIMEOUT_SECS,
                 materializer);
-        return new MongoSearchSyncPersistence(lastSuccessfulSearchSyncCollection, materializer);
+        final MongoCollection<Document> resumeTokensCollection =
+                clientWrapper.getDatabase().getCollection(collectionName + RESUME_TOKENS_COLLECTION_SUFFIX);
+        return new MongoSearchSyncPersistence(lastSuccessfulSearchSyncCollection, resumeTokensCollection,
+                materializer);
     }
 
 
@@ -123,6 +140,28 @@ public final class MongoSearchSyncPersistence implements StreamMetadataPersisten
         }
     }
 
+    @Override
+    public Source<NotUsed, NotUsed> updateResumeToken(final String streamName, final String resumeToken) {
+        final Document toStore = new Document()
+                .append(FIELD_ID, streamName)
+                .append(FIELD_RESUME_TOKEN, resumeToken);
+
+        return Source.fromPublisher(resumeTokensCollection.replaceOne(Filters.eq(FIELD_ID, streamName), toStore,
+                new UpdateOptions().upsert(true)))
+                .map(updateResult -> {
+                    LOGGER.debug("Successfully updated resume token of change stream <{}>.", streamName);
+                    return NotUsed.getInstance();
+                });
+    }
+
+    @Override
+    public Source<Optional<String>, NotUsed> retrieveResumeToken(final String streamName) {
+        return Source.fromPublisher(resumeTokensCollection.find(Filters.eq(FIELD_ID, streamName)))
+                .limit(1)
+                .map(doc -> Optional.ofNullable(doc.getString(FIELD_RESUME_TOKEN)))
+                .orElse(Source.single(Optional.empty()));
+    }
+
     private Source<Optional<Instant>, NotUsed> retrieveLastSuccessfulStreamEndAsync() {
         return Source.fromPublisher(lastSuccessfulSearchSyncCollection.find())
                 .limit(1)
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.bson.types.Binary;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.junit.Test;
+
+import com.mongodb.DBObject;
+
+/**
+ * Unit test for {@link CompressedPayload}.
+ */
+public final class CompressedPayloadTest {
+
+    private static final JsonObject JSON = JsonFactory.newObject("{\"type\":\"things.events:thingModified\"," +
+            "\"thingId\":\"org.eclipse.ditto:thing\",\"thing\":{\"attributes\":{\"a.b\":1,\"$c\":\"ü\"}}}");
+
+    @Test
+    public void compressedPayloadKeepsPlainFields() {
+        final DBObject compressed = CompressedPayload.compress(JSON,
+                Arrays.asList(JsonPointer.of("type"), JsonPointer.of("thingId"), JsonPointer.of("missing")));
+
+        assertThat(CompressedPayload.isCompressed(compressed)).isTrue();
+        assertThat(compressed.get("type")).isEqualTo("things.events:thingModified");
+        assertThat(compressed.get("thingId")).isEqualTo("org.eclipse.ditto:thing");
+        assertThat(compressed.containsField("thing")).isFalse();
+        assertThat(compressed.containsField("missing")).isFalse();
+    }
+
+    @Test
+    public void toJsonRestoresCompressedPayload() {
+        final DBObject compressed = CompressedPayload.compress(JSON, Collections.singletonList(JsonPointer.of("type")));
+
+        assertThat(CompressedPayload.toJson(compressed)).isEqualTo(JSON);
+    }
+
+    @Test
+    public void toJsonRestoresCompressedPayloadAsBinary() {
+        final DBObject compressed = CompressedPayload.compress(JSON, Collections.emptyList());
+        compressed.put(CompressedPayload.PAYLOAD_JSON_KEY,
+                new Binary((byte[]) compressed.get(CompressedPayload.PAYLOAD_JSON_KEY)));
+
+        assertThat(CompressedPayload.toJson(compressed)).isEqualTo(JSON);
+    }
+
+    @Test
+    public void toJsonReadsPlainPayload() {
+        final DBObject plain = DittoBsonJson.getInstance().parse(JSON);
+
+        assertThat(CompressedPayload.isCompressed(plain)).isFalse();
+        assertThat(CompressedPayload.toJson(plain)).isEqualTo(JSON);
+    }
+
+    @Test
+    public void toJsonFailsForCorruptPayload() {
+        final DBObject compressed = CompressedPayload.compress(JSON, Collections.emptyList());
+        compressed.put(CompressedPayload.PAYLOAD_JSON_KEY, new byte[]{1, 2, 3});
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> CompressedPayload.toJson(compressed));
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.ditto.services.models.streaming.AbstractEntityIdWithRevision;
+import org.eclipse.ditto.services.models.streaming.BatchedEntityIdWithRevisions;
+import org.eclipse.ditto.services.utils.akka.streaming.StreamMetadataPersistence;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.JournalChange;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.mongodb.MongoException;
+import com.typesafe.config.ConfigFactory;
+
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Test for {@link JournalChangeStreamActor}.
+ */
+public final class JournalChangeStreamActorTest {
+
+    private static final String JOURNAL = "things_journal";
+    private static final String TOPIC = "thingTags";
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void initActorSystem() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+    }
+
+    @AfterClass
+    public static void shutdownActorSystem() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void publishesBatchesAndPersistsResumeTokens() {
+        new TestKit(actorSystem) {{
+            final BsonDocument lastResumeToken = resumeToken("3");
+            final Source<JournalChange, NotUsed> changes = Source.from(Arrays.asList(
+                    new JournalChange(JOURNAL, new PidWithSeqNr("ns:thing1", 1L), resumeToken("1")),
+                    new JournalChange(JOURNAL, new PidWithSeqNr("ns:thing2", 7L), resumeToken("2")),
+                    new JournalChange(JOURNAL, new PidWithSeqNr("ns:thing1", 2L), lastResumeToken)));
+            final MongoReadJournal readJournal = mock(MongoReadJournal.class);
+            when(readJournal.watchJournalChanges(any())).thenReturn(changes.concat(Source.maybe()));
+            final StreamMetadataPersistence resumeTokenPersistence = mock(StreamMetadataPersistence.class);
+            when(resumeTokenPersistence.retrieveResumeToken(anyString())).thenReturn(Source.single(Optional.empty()));
+            when(resumeTokenPersistence.updateResumeToken(anyString(), anyString()))
+                    .thenReturn(Source.single(NotUsed.getInstance()));
+
+            createJournalChangeStreamActor(readJournal, resumeTokenPersistence, getRef());
+
+            final DistributedPubSubMediator.Publish publish = expectMsgClass(DistributedPubSubMediator.Publish.class);
+            assertThat(publish.topic()).isEqualTo(TOPIC);
+            assertThat(publish.sendOneMessageToEachGroup()).isTrue();
+            assertThat(publish.msg()).isEqualTo(BatchedEntityIdWithRevisions.of(SimpleEntityIdWithRevision.class,
+                    Arrays.asList(new SimpleEntityIdWithRevision("ns:thing1", 2L),
+                            new SimpleEntityIdWithRevision("ns:thing2", 7L))));
+
+            verify(resumeTokenPersistence, timeout(3000L)).updateResumeToken(JOURNAL, lastResumeToken.toJson());
+        }};
+    }
+
+    @Test
+    public void resumesAfterPersistedResumeTokenOnFailure() {
+        new TestKit(actorSystem) {{
+            final BsonDocument persistedResumeToken = resumeToken("1");
+            final BsonDocument lastResumeToken = resumeToken("2");
+            final Source<JournalChange, NotUsed> changes = Source.single(
+                    new JournalChange(JOURNAL, new PidWithSeqNr("ns:thing1", 1L), lastResumeToken));
+            final MongoException error = new MongoException(6, "host unreachable");
+
+            final TestKit resumeTokenProbe =
+                    watchJournalChangesAndFail(changes, error, persistedResumeToken, getRef());
+
+            resumeTokenProbe.expectMsg(Optional.of(persistedResumeToken));
+            expectMsgClass(DistributedPubSubMediator.Publish.class);
+            resumeTokenProbe.expectMsg(FiniteDuration.create(10L, TimeUnit.SECONDS), Optional.of(lastResumeToken));
+        }};
+    }
+
+    @Test
+    public void restartsFromNowOnIfResumeTokenIsLost() {
+        new TestKit(actorSystem) {{
+            final BsonDocument persistedResumeToken = resumeToken("1");
+            final MongoException error = new MongoException(286, "change stream history lost");
+
+            final TestKit resumeTokenProbe =
+                    watchJournalChangesAndFail(Source.empty(), error, persistedResumeToken, getRef());
+
+            resumeTokenProbe.expectMsg(Optional.of(persistedResumeToken));
+            resumeTokenProbe.expectMsg(FiniteDuration.create(10L, TimeUnit.SECONDS), Optional.empty());
+        }};
+    }
+
+    /*
+     * Creates a JournalChangeStreamActor whose first change stream emits the passed changes and fails with the passed
+     * error after the changes were published. The resume tokens the change streams are started with are sent to the
+     * returned probe.
+     */
+    private static TestKit watchJournalChangesAndFail(final Source<JournalChange, NotUsed> changes,
+            final Throwable error, final BsonDocument persistedResumeToken, final ActorRef pubSubMediator) {
+
+        final TestKit resumeTokenProbe = new TestKit(actorSystem);
+        final AtomicInteger invocations = new AtomicInteger(0);
+        final MongoReadJournal readJournal = mock(MongoReadJournal.class);
+        when(readJournal.watchJournalChanges(any())).thenAnswer(invocation -> {
+            final Function<String, Source<Optional<BsonDocument>, NotUsed>> resumeTokens = invocation.getArgument(0);
+            final Source<JournalChange, NotUsed> journalChanges = 0 == invocations.getAndIncrement()
+                    ? changes.concat(Source.single(error)
+                            .initialDelay(FiniteDuration.create(1L, TimeUnit.SECONDS))
+                            .flatMapConcat(Source::failed))
+                    : Source.<JournalChange>maybe().mapMaterializedValue(promise -> NotUsed.getInstance());
+            return resumeTokens.apply(JOURNAL)
+                    .flatMapConcat(resumeToken -> {
+                        resumeTokenProbe.getRef().tell(resumeToken, ActorRef.noSender());
+                        return journalChanges;
+                    });
+        });
+        final StreamMetadataPersistence resumeTokenPersistence = mock(StreamMetadataPersistence.class);
+        when(resumeTokenPersistence.retrieveResumeToken(anyString()))
+                .thenReturn(Source.single(Optional.of(persistedResumeToken.toJson())));
+        when(resumeTokenPersistence.updateResumeToken(anyString(), anyString()))
+                .thenReturn(Source.single(NotUsed.getInstance()));
+
+        createJournalChangeStreamActor(readJournal, resumeTokenPersistence, pubSubMediator);
+        return resumeTokenProbe;
+    }
+
+    private static void createJournalChangeStreamActor(final MongoReadJournal readJournal,
+            final StreamMetadataPersistence resumeTokenPersistence, final ActorRef pubSubMediator) {
+
+        final Props props = Props.create(JournalChangeStreamActor.class, () ->
+                new JournalChangeStreamActor<>(SimpleEntityIdWithRevision.class,
+                        JournalChangeStreamActorTest::mapEntity, readJournal, resumeTokenPersistence,
+                        pubSubMediator, TOPIC, 10, Duration.ofMillis(200L), ActorMaterializer.create(actorSystem),
+                        null));
+        actorSystem.actorOf(props, "journalChangeStreamActor-" + UUID.randomUUID());
+    }
+
+    private static BsonDocument resumeToken(final String data) {
+        return new BsonDocument("_data", new BsonString(data));
+    }
+
+    private static SimpleEntityIdWithRevision mapEntity(final PidWithSeqNr pidWithSeqNr) {
+        return new SimpleEntityIdWithRevision(pidWithSeqNr.getPersistenceId(), pidWithSeqNr.getSequenceNr());
+    }
+
+    private static final class SimpleEntityIdWithRevision extends AbstractEntityIdWithRevision {
+
+        private SimpleEntityIdWithRevision(final String id, final long revision) {
+            super(id, revision);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.BasicDBObject;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.persistence.DeleteSnapshotSuccess;
+import akka.persistence.Persistence;
+import akka.persistence.SaveSnapshotSuccess;
+import akka.persistence.SelectedSnapshot;
+import akka.persistence.SnapshotMetadata;
+import akka.persistence.SnapshotProtocol;
+import akka.persistence.SnapshotSelectionCriteria;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link DeltaSnapshotStore}.
+ */
+public final class DeltaSnapshotStoreTest {
+
+    private static final String PLUGIN_ID = "delta-snapshots";
+    private static final String PERSISTENCE_ID = "thing:org.eclipse.ditto:thing";
+    private static final long OLDER_SEQUENCE_NR = 5L;
+    private static final long BASE_SEQUENCE_NR = 10L;
+    private static final long DELTA_SEQUENCE_NR = 20L;
+
+    private static final JsonObject OLDER = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"location\":\"Hamburg\"},\"_revision\":5}");
+
+    private static final JsonObject BASE = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"location\":\"Berlin\"},\"_revision\":10}");
+
+    private static final JsonObject SNAPSHOT = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"location\":\"Munich\"},\"_revision\":20}");
+
+    private static final Config CONFIG = ConfigFactory.parseString("akka.persistence.snapshot-store.plugin = " +
+            "\"inmemory-snapshot-store\"\n" +
+            PLUGIN_ID + " {\n" +
+            "  class = \"" + DeltaSnapshotStore.class.getName() + "\"\n" +
+            "  delegate = \"inmemory-snapshot-store\"\n" +
+            "  ask-timeout = 5s\n" +
+            "}")
+            .withFallback(ConfigFactory.load("test"));
+
+    private ActorSystem actorSystem;
+    private ActorRef underTest;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", CONFIG);
+        underTest = Persistence.get(actorSystem).snapshotStoreFor(PLUGIN_ID, ConfigFactory.empty());
+    }
+
+    @After
+    public void tearDown() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void loadsFullSnapshotUnchanged() {
+        new TestKit(actorSystem) {{
+            save(this, BASE_SEQUENCE_NR, DittoBsonJson.getInstance().parse(BASE));
+
+            final SelectedSnapshot loaded = loadLatest(this);
+
+            assertThat(loaded.metadata().sequenceNr()).isEqualTo(BASE_SEQUENCE_NR);
+            assertThat(toJson(loaded)).isEqualTo(BASE);
+        }};
+    }
+
+    @Test
+    public void restoresDeltaSnapshotFromItsBase() {
+        new TestKit(actorSystem) {{
+            save(this, BASE_SEQUENCE_NR, DittoBsonJson.getInstance().parse(BASE));
+            save(this, DELTA_SEQUENCE_NR, delta());
+
+            final SelectedSnapshot loaded = loadLatest(this);
+
+            assertThat(loaded.metadata().sequenceNr()).isEqualTo(DELTA_SEQUENCE_NR);
+            assertThat(SnapshotDelta.isDelta(loaded.snapshot())).isFalse();
+            assertThat(toJson(loaded).remove(SnapshotDelta.BASE_JSON_KEY)).isEqualTo(SNAPSHOT);
+        }};
+    }
+
+    @Test
+    public void deletesSnapshotsViaDelegate() {
+        new TestKit(actorSystem) {{
+            save(this, BASE_SEQUENCE_NR, DittoBsonJson.getInstance().parse(BASE));
+            save(this, DELTA_SEQUENCE_NR, delta());
+
+            final SnapshotMetadata deltaMetadata = new SnapshotMetadata(PERSISTENCE_ID, DELTA_SEQUENCE_NR, 0L);
+            underTest.tell(new SnapshotProtocol.DeleteSnapshot(deltaMetadata), getRef());
+            expectMsgClass(DeleteSnapshotSuccess.class);
+
+            assertThat(loadLatest(this).metadata().sequenceNr()).isEqualTo(BASE_SEQUENCE_NR);
+        }};
+    }
+
+    @Test
+    public void loadsOlderFullSnapshotIfBaseWasDeleted() {
+        new TestKit(actorSystem) {{
+            save(this, OLDER_SEQUENCE_NR, DittoBsonJson.getInstance().parse(OLDER));
+            final SnapshotMetadata baseMetadata = save(this, BASE_SEQUENCE_NR, DittoBsonJson.getInstance().parse(BASE));
+            save(this, DELTA_SEQUENCE_NR, delta());
+
+            underTest.tell(new SnapshotProtocol.DeleteSnapshot(baseMetadata), getRef());
+            expectMsgClass(DeleteSnapshotSuccess.class);
+
+            final SelectedSnapshot loaded = loadLatest(this);
+
+            assertThat(loaded.metadata().sequenceNr()).isEqualTo(OLDER_SEQUENCE_NR);
+            assertThat(toJson(loaded)).isEqualTo(OLDER);
+        }};
+    }
+
+    @Test
+    public void failsToLoadIfBaseIsMissingAndThereIsNoOlderFullSnapshot() {
+        new TestKit(actorSystem) {{
+            save(this, DELTA_SEQUENCE_NR, delta());
+
+            underTest.tell(new SnapshotProtocol.LoadSnapshot(PERSISTENCE_ID, SnapshotSelectionCriteria.latest(),
+                    Long.MAX_VALUE), getRef());
+
+            expectMsgClass(SnapshotProtocol.LoadSnapshotFailed.class);
+        }};
+    }
+
+    private SnapshotMetadata save(final TestKit testKit, final long sequenceNr, final Object snapshot) {
+        underTest.tell(new SnapshotProtocol.SaveSnapshot(new SnapshotMetadata(PERSISTENCE_ID, sequenceNr, 0L),
+                snapshot), testKit.getRef());
+        return testKit.expectMsgClass(SaveSnapshotSuccess.class).metadata();
+    }
+
+    private SelectedSnapshot loadLatest(final TestKit testKit) {
+        underTest.tell(new SnapshotProtocol.LoadSnapshot(PERSISTENCE_ID, SnapshotSelectionCriteria.latest(),
+                Long.MAX_VALUE), testKit.getRef());
+        final SnapshotProtocol.LoadSnapshotResult result =
+                testKit.expectMsgClass(SnapshotProtocol.LoadSnapshotResult.class);
+        assertThat(result.snapshot().isDefined()).isTrue();
+        return result.snapshot().get();
+    }
+
+    private static Object delta() {
+        return DittoBsonJson.getInstance().parse(SnapshotDelta.encode(BASE, BASE_SEQUENCE_NR, SNAPSHOT));
+    }
+
+    private static JsonObject toJson(final SelectedSnapshot snapshot) {
+        return DittoBsonJson.getInstance().serialize((BasicDBObject) snapshot.snapshot());
+    }
+
+}
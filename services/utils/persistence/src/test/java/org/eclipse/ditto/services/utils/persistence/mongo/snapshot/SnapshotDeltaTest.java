@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.junit.Test;
+
+import com.mongodb.BasicDBObject;
+
+/**
+ * Unit test for {@link SnapshotDelta}.
+ */
+public final class SnapshotDeltaTest {
+
+    private static final long BASE_SEQUENCE_NR = 500L;
+
+    private static final JsonObject BASE = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"location\":\"Berlin\",\"obsolete\":true,\"a/b\":1}," +
+            "\"features\":{\"f1\":{\"properties\":{\"temperature\":20.5,\"humidity\":40}}}," +
+            "\"_revision\":500}");
+
+    private static final JsonObject SNAPSHOT = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"location\":\"Berlin\",\"a/b\":2,\"nothing\":null}," +
+            "\"features\":{\"f1\":{\"properties\":{\"temperature\":23.5,\"humidity\":40}},\"f2\":{}}," +
+            "\"_revision\":600}");
+
+    @Test
+    public void deltaContainsOnlyChanges() {
+        final JsonObject delta = SnapshotDelta.encode(BASE, BASE_SEQUENCE_NR, SNAPSHOT);
+
+        assertThat(SnapshotDelta.getBaseSequenceNr(delta)).hasValue(BASE_SEQUENCE_NR);
+        assertThat(delta.getValue(SnapshotDelta.CHANGES_JSON_KEY).map(value -> value.asArray().getSize()))
+                .contains(6);
+    }
+
+    @Test
+    public void decodeRestoresSnapshot() {
+        final JsonObject delta = SnapshotDelta.encode(BASE, BASE_SEQUENCE_NR, SNAPSHOT);
+
+        final JsonObject restored = SnapshotDelta.decode(BASE, delta);
+
+        assertThat(restored.remove(SnapshotDelta.BASE_JSON_KEY)).isEqualTo(SNAPSHOT);
+        assertThat(SnapshotDelta.getBaseSequenceNr(restored)).hasValue(BASE_SEQUENCE_NR);
+    }
+
+    @Test
+    public void decodeRestoresSnapshotAsStoredInTheSnapshotStore() {
+        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
+        final Object rawBase = dittoBsonJson.parse(BASE);
+        final Object rawDelta = dittoBsonJson.parse(SnapshotDelta.encode(BASE, BASE_SEQUENCE_NR, SNAPSHOT));
+
+        assertThat(SnapshotDelta.isDelta(rawBase)).isFalse();
+        assertThat(SnapshotDelta.isDelta(rawDelta)).isTrue();
+        assertThat(SnapshotDelta.getBaseSequenceNr(rawDelta)).hasValue(BASE_SEQUENCE_NR);
+
+        final Object restored = SnapshotDelta.decode(rawBase, rawDelta);
+
+        assertThat(SnapshotDelta.isDelta(restored)).isFalse();
+        assertThat(SnapshotDelta.getBaseSequenceNr(restored)).hasValue(BASE_SEQUENCE_NR);
+        assertThat(dittoBsonJson.serialize((BasicDBObject) restored)
+                .remove(SnapshotDelta.BASE_JSON_KEY)).isEqualTo(SNAPSHOT);
+    }
+
+    @Test
+    public void fullSnapshotHasNoBase() {
+        assertThat(SnapshotDelta.getBaseSequenceNr(BASE)).isEmpty();
+        assertThat(SnapshotDelta.getBaseSequenceNr(DittoBsonJson.getInstance().parse(BASE))).isEmpty();
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.awaitility.Awaitility;
+import org.bson.Document;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.contrib.persistence.mongodb.JournallingFieldNames$;
+import akka.stream.ActorMaterializer;
+import akka.stream.KillSwitches;
+import akka.stream.UniqueKillSwitch;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Tests {@link MongoReadJournal#watchJournalChanges(java.util.function.Function)} against a single-node replica set,
+ * as change streams are not available for a standalone MongoDB.
+ */
+public final class MongoReadJournalIT {
+
+    private static final String REPLICA_SET_NAME = "rs0";
+    private static final String JOURNAL_KEY = "akka-contrib-mongodb-persistence-things-journal";
+    private static final String JOURNAL_COLLECTION = "things_journal";
+    private static final String PERSISTENCE_ID = "thing:org.eclipse.ditto:thing1";
+    private static final String PROCESSOR_ID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
+    private static final String TO = JournallingFieldNames$.MODULE$.TO();
+
+    private static MongoDbResource mongoResource;
+    private static MongoClientWrapper mongoClient;
+    private static ActorSystem actorSystem;
+    private static ActorMaterializer materializer;
+    private static MongoReadJournal readJournal;
+
+    private final AtomicLong sequenceNumber = new AtomicLong(0L);
+
+    @BeforeClass
+    public static void startMongoResource() {
+        mongoResource = new MongoDbResource("localhost", REPLICA_SET_NAME);
+        mongoResource.start();
+        mongoClient = MongoClientWrapper.newInstance(mongoResource.getBindIp(), mongoResource.getPort(),
+                "testJournalDB", 100, 500000, 30);
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+        materializer = ActorMaterializer.create(actorSystem);
+
+        initiateReplicaSet();
+
+        final Config config = ConfigFactory.parseString(
+                "akka.persistence.journal.auto-start-journals = [\"" + JOURNAL_KEY + "\"]\n" +
+                        JOURNAL_KEY + ".overrides.journal-collection = \"" + JOURNAL_COLLECTION + "\"");
+        readJournal = MongoReadJournal.newInstance(config, mongoClient);
+    }
+
+    @AfterClass
+    public static void stopMongoResource() {
+        try {
+            if (null != actorSystem) {
+                TestKit.shutdownActorSystem(actorSystem);
+            }
+            Optional.ofNullable(mongoClient)
+                    .map(MongoClientWrapper::getMongoClient)
+                    .ifPresent(MongoClient::close);
+            Optional.ofNullable(mongoResource)
+                    .ifPresent(MongoDbResource::stop);
+        } catch (final IllegalStateException e) {
+            System.err.println("IllegalStateException during shutdown of MongoDB: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void watchJournalChangesAndResumeAfterResumeToken() throws Exception {
+        // the journal collection has to exist before it can be watched
+        insertEvent();
+
+        final JournalChange firstChange = insertEventsUntilWatched();
+
+        assertThat(firstChange.getJournalCollection()).isEqualTo(JOURNAL_COLLECTION);
+        assertThat(firstChange.getPidWithSeqNr().getPersistenceId()).isEqualTo(PERSISTENCE_ID);
+
+        insertEvent();
+        final JournalChange resumedChange = readJournal.watchJournalChanges(journalCollection ->
+                Source.single(Optional.of(firstChange.getResumeToken())))
+                .runWith(Sink.head(), materializer)
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+
+        assertThat(resumedChange.getPidWithSeqNr())
+                .isEqualTo(new PidWithSeqNr(PERSISTENCE_ID, firstChange.getPidWithSeqNr().getSequenceNr() + 1L));
+    }
+
+    /*
+     * A change stream without resume token only contains the changes after it was opened, thus events are inserted
+     * until the first of them is watched.
+     */
+    private JournalChange insertEventsUntilWatched() throws Exception {
+        final CompletionStage<JournalChange> firstChange =
+                readJournal.watchJournalChanges(journalCollection -> Source.single(Optional.empty()))
+                        .runWith(Sink.head(), materializer);
+        final UniqueKillSwitch killSwitch = Source.tick(FiniteDuration.Zero(),
+                FiniteDuration.apply(200L, TimeUnit.MILLISECONDS), "insert")
+                .viaMat(KillSwitches.single(), Keep.right())
+                .mapAsync(1, tick -> insertEventAsync())
+                .toMat(Sink.ignore(), Keep.left())
+                .run(materializer);
+        try {
+            return firstChange.toCompletableFuture().get(10L, TimeUnit.SECONDS);
+        } finally {
+            killSwitch.shutdown();
+        }
+    }
+
+    private void insertEvent() throws Exception {
+        insertEventAsync().toCompletableFuture().get(10L, TimeUnit.SECONDS);
+    }
+
+    private CompletionStage<?> insertEventAsync() {
+        final Document event = new Document(PROCESSOR_ID, PERSISTENCE_ID)
+                .append(TO, sequenceNumber.incrementAndGet());
+        return Source.fromPublisher(mongoClient.getDatabase().getCollection(JOURNAL_COLLECTION).insertOne(event))
+                .runWith(Sink.head(), materializer);
+    }
+
+    private static void initiateReplicaSet() {
+        final MongoDatabase admin = mongoClient.getMongoClient().getDatabase("admin");
+        final Document member = new Document("_id", 0)
+                .append("host", mongoResource.getBindIp() + ":" + mongoResource.getPort());
+        final Document replicaSetConfig = new Document("_id", REPLICA_SET_NAME)
+                .append("members", Collections.singletonList(member));
+        Source.fromPublisher(admin.runCommand(new Document("replSetInitiate", replicaSetConfig)))
+                .runWith(Sink.head(), materializer)
+                .toCompletableFuture()
+                .join();
+
+        Awaitility.await().atMost(30L, TimeUnit.SECONDS).until(() ->
+                Source.fromPublisher(admin.runCommand(new Document("isMaster", 1)))
+                        .runWith(Sink.head(), materializer)
+                        .toCompletableFuture()
+                        .get(5L, TimeUnit.SECONDS)
+                        .getBoolean("ismaster", false));
+    }
+
+}
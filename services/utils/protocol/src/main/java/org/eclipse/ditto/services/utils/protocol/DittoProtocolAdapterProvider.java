@@ -24,8 +24,13 @@ import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
  */
 public final class DittoProtocolAdapterProvider extends ProtocolAdapterProvider {
 
-    private DittoProtocolAdapter dittoProtocolAdapter;
-    private HeaderTranslator headerTranslator;
+    /**
+     * The adapter is stateless and shared by all providers, so that the representations of a signal mapped by the
+     * {@link SignalRepresentationCache} are shared by all consumers, e.g. all connections of a node.
+     */
+    private static final DittoProtocolAdapter DITTO_PROTOCOL_ADAPTER = DittoProtocolAdapter.newInstance();
+
+    private final HeaderTranslator headerTranslator;
 
     /**
      * This constructor is the obligation of all subclasses of {@code ProtocolAdapterProvider}.
@@ -34,13 +39,12 @@ public final class DittoProtocolAdapterProvider extends ProtocolAdapterProvider
      */
     public DittoProtocolAdapterProvider(final ProtocolConfigReader protocolConfigReader) {
         super(protocolConfigReader);
-        dittoProtocolAdapter = DittoProtocolAdapter.newInstance();
         headerTranslator = createHeaderTranslator(protocolConfigReader);
     }
 
     @Override
     public ProtocolAdapter getProtocolAdapter(@Nullable final String userAgent) {
-        return dittoProtocolAdapter;
+        return DITTO_PROTOCOL_ADAPTER;
     }
 
     @Override
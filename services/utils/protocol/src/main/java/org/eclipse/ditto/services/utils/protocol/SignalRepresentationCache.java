@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.protocol;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.events.base.Event;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Memoizes the representations of signals which are fanned out to many consumers of the same node, e.g. the Thing
+ * events delivered to all WebSocket and SSE sessions or to all targets of all connections. The Thing view, the
+ * {@link Adaptable} and the serialized protocol JSON of a signal are computed once and shared among the consumers,
+ * which only evaluate their own authorization, filters and field selectors.
+ * <p>
+ * Signals and Adaptables are identified by reference and held weakly, so an entry lives no longer than the signal
+ * delivered to the consumers. Adaptables are kept per {@link ProtocolAdapter} instance, so only consumers sharing
+ * the adapter instance share the Adaptable.
+ * </p>
+ */
+@ThreadSafe
+public final class SignalRepresentationCache {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+
+    private static final SignalRepresentationCache INSTANCE = new SignalRepresentationCache(MAXIMUM_SIZE);
+
+    private final Cache<Signal<?>, Representations> signalRepresentations;
+    private final Cache<Adaptable, String> jsonStrings;
+
+    private SignalRepresentationCache(final int maximumSize) {
+        signalRepresentations = Caffeine.newBuilder().weakKeys().maximumSize(maximumSize).build();
+        jsonStrings = Caffeine.newBuilder().weakKeys().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Returns the cache shared by all consumers of this node.
+     *
+     * @return the instance.
+     */
+    public static SignalRepresentationCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a new cache independent of the shared one.
+     *
+     * @param maximumSize the maximum number of signals and Adaptables to keep the representations of.
+     * @return the cache.
+     */
+    static SignalRepresentationCache newInstance(final int maximumSize) {
+        return new SignalRepresentationCache(maximumSize);
+    }
+
+    /**
+     * Returns the Thing represented by the given Thing event, see
+     * {@link ThingEventToThingConverter#thingEventToThing(ThingEvent)}.
+     *
+     * @param thingEvent the Thing event.
+     * @return the Thing or an empty Optional if the event cannot be converted to a Thing.
+     * @throws NullPointerException if {@code thingEvent} is {@code null}.
+     */
+    public Optional<Thing> thingOf(final ThingEvent<?> thingEvent) {
+        checkNotNull(thingEvent, "thingEvent");
+        return representationsOf(thingEvent).thing(thingEvent);
+    }
+
+    /**
+     * Returns the Adaptable of the given signal in the channel determined by its headers, see
+     * {@link ProtocolAdapter#toAdaptable(Signal)}.
+     *
+     * @param signal the signal.
+     * @param protocolAdapter the adapter to map the signal with if it was not yet mapped by this adapter.
+     * @return the Adaptable.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public Adaptable adaptableOf(final Signal<?> signal, final ProtocolAdapter protocolAdapter) {
+        checkNotNull(signal, "signal");
+        checkNotNull(protocolAdapter, "protocolAdapter");
+        return representationsOf(signal).adaptable(signal, protocolAdapter, null);
+    }
+
+    /**
+     * Returns the Adaptable of the given command, command response or event in the given channel.
+     *
+     * @param signal the command, command response or event.
+     * @param channel the channel.
+     * @param protocolAdapter the adapter to map the signal with if it was not yet mapped by this adapter.
+     * @return the Adaptable.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code signal} is neither a command, a command response nor an event.
+     */
+    public Adaptable adaptableOf(final Signal<?> signal, final TopicPath.Channel channel,
+            final ProtocolAdapter protocolAdapter) {
+        checkNotNull(signal, "signal");
+        checkNotNull(channel, "channel");
+        checkNotNull(protocolAdapter, "protocolAdapter");
+        if (!(signal instanceof Command || signal instanceof CommandResponse || signal instanceof Event)) {
+            throw new IllegalArgumentException("Signal was neither Command nor CommandResponse nor Event: " +
+                    signal.getClass().getSimpleName());
+        }
+        return representationsOf(signal).adaptable(signal, protocolAdapter, channel);
+    }
+
+    /**
+     * Returns the serialized JSON of the given Adaptable in Ditto Protocol.
+     *
+     * @param adaptable the Adaptable.
+     * @return the JSON string.
+     * @throws NullPointerException if {@code adaptable} is {@code null}.
+     */
+    public String jsonStringOf(final Adaptable adaptable) {
+        checkNotNull(adaptable, "adaptable");
+        return jsonStrings.get(adaptable, a -> ProtocolFactory.wrapAsJsonifiableAdaptable(a).toJsonString());
+    }
+
+    private Representations representationsOf(final Signal<?> signal) {
+        return signalRepresentations.get(signal, s -> new Representations());
+    }
+
+    /**
+     * The representations of one signal. They are computed at most once even if requested concurrently by the
+     * consumers of the signal.
+     */
+    private static final class Representations {
+
+        private final Map<AdaptableKey, Adaptable> adaptables;
+
+        @Nullable private Optional<Thing> thing;
+
+        private Representations() {
+            adaptables = new HashMap<>(2);
+            thing = null;
+        }
+
+        private synchronized Optional<Thing> thing(final ThingEvent<?> thingEvent) {
+            if (null == thing) {
+                thing = ThingEventToThingConverter.thingEventToThing(thingEvent);
+            }
+            return thing;
+        }
+
+        private synchronized Adaptable adaptable(final Signal<?> signal, final ProtocolAdapter protocolAdapter,
+                @Nullable final TopicPath.Channel channel) {
+            return adaptables.computeIfAbsent(new AdaptableKey(protocolAdapter, channel),
+                    key -> toAdaptable(signal, protocolAdapter, channel));
+        }
+
+        private static Adaptable toAdaptable(final Signal<?> signal, final ProtocolAdapter protocolAdapter,
+                @Nullable final TopicPath.Channel channel) {
+            if (null == channel) {
+                return protocolAdapter.toAdaptable(signal);
+            } else if (signal instanceof Command) {
+                return protocolAdapter.toAdaptable((Command<?>) signal, channel);
+            } else if (signal instanceof CommandResponse) {
+                return protocolAdapter.toAdaptable((CommandResponse<?>) signal, channel);
+            } else {
+                return protocolAdapter.toAdaptable((Event<?>) signal, channel);
+            }
+        }
+
+    }
+
+    /**
+     * Identifies an Adaptable by the identity of the adapter, as adapters of the same class may be configured
+     * differently, and by the channel.
+     */
+    private static final class AdaptableKey {
+
+        private final ProtocolAdapter protocolAdapter;
+        @Nullable private final TopicPath.Channel channel;
+
+        private AdaptableKey(final ProtocolAdapter protocolAdapter, @Nullable final TopicPath.Channel channel) {
+            this.protocolAdapter = protocolAdapter;
+            this.channel = channel;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final AdaptableKey that = (AdaptableKey) o;
+            return protocolAdapter == that.protocolAdapter && channel == that.channel;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(protocolAdapter) + Objects.hashCode(channel);
+        }
+
+    }
+
+}
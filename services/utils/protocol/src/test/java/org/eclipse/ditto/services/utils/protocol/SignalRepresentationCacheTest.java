@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingRevision;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.signals.events.things.ThingModified;
+import org.junit.Test;
+
+/**
+ * Unit test of {@link SignalRepresentationCache}.
+ */
+public final class SignalRepresentationCacheTest {
+
+    private static final Thing THING = Thing.newBuilder()
+            .setId("org.eclipse.ditto:thing")
+            .setAttribute(JsonPointer.of("manufacturer"), JsonValue.of("ACME"))
+            .build();
+
+    private final SignalRepresentationCache underTest = SignalRepresentationCache.newInstance(100);
+
+    @Test
+    public void sharesRepresentationsOfTheSameEvent() {
+        final ThingModified event = ThingModified.of(THING, 3L, DittoHeaders.empty());
+
+        final DittoProtocolAdapter adapter = DittoProtocolAdapter.newInstance();
+
+        final Thing thing = underTest.thingOf(event).orElseThrow(AssertionError::new);
+        final Adaptable adaptable = underTest.adaptableOf(event, adapter);
+        final String jsonString = underTest.jsonStringOf(adaptable);
+
+        assertThat(thing.getRevision()).contains(ThingRevision.newInstance(3L));
+        assertThat(adaptable).isEqualTo(DittoProtocolAdapter.newInstance().toAdaptable(event));
+        assertThat(jsonString)
+                .isEqualTo(ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJsonString());
+
+        assertThat(underTest.thingOf(event)).containsSame(thing);
+        assertThat(underTest.adaptableOf(event, adapter)).isSameAs(adaptable);
+        assertThat(underTest.jsonStringOf(adaptable)).isSameAs(jsonString);
+    }
+
+    @Test
+    public void keepsAdaptablesPerAdapterInstance() {
+        final ThingModified event = ThingModified.of(THING, 3L, DittoHeaders.empty());
+
+        final Adaptable adaptable = underTest.adaptableOf(event, DittoProtocolAdapter.newInstance());
+        final Adaptable adaptableOfOtherAdapter = underTest.adaptableOf(event, DittoProtocolAdapter.newInstance());
+
+        // adapters of the same class may be configured differently
+        assertThat(adaptableOfOtherAdapter).isNotSameAs(adaptable);
+        assertThat(adaptableOfOtherAdapter).isEqualTo(adaptable);
+    }
+
+    @Test
+    public void distinguishesChannelsAndEvents() {
+        final ThingModified event = ThingModified.of(THING, 3L, DittoHeaders.empty());
+        final ThingModified equalEvent = ThingModified.of(THING, 3L, DittoHeaders.empty());
+        final DittoProtocolAdapter adapter = DittoProtocolAdapter.newInstance();
+
+        final Adaptable twinAdaptable = underTest.adaptableOf(event, TopicPath.Channel.TWIN, adapter);
+        final Adaptable liveAdaptable = underTest.adaptableOf(event, TopicPath.Channel.LIVE, adapter);
+
+        assertThat(twinAdaptable.getTopicPath().getChannel()).isEqualTo(TopicPath.Channel.TWIN);
+        assertThat(liveAdaptable.getTopicPath().getChannel()).isEqualTo(TopicPath.Channel.LIVE);
+        assertThat(underTest.adaptableOf(event, TopicPath.Channel.TWIN, adapter)).isSameAs(twinAdaptable);
+
+        // signals are identified by reference
+        final Adaptable adaptableOfEqualEvent = underTest.adaptableOf(equalEvent, TopicPath.Channel.TWIN, adapter);
+        assertThat(adaptableOfEqualEvent).isEqualTo(twinAdaptable).isNotSameAs(twinAdaptable);
+    }
+
+}
@@ -30,11 +30,16 @@ import de.flapdoodle.embed.mongo.config.MongoCmdOptionsBuilder;
 import de.flapdoodle.embed.mongo.config.MongodConfigBuilder;
 import de.flapdoodle.embed.mongo.config.Net;
 import de.flapdoodle.embed.mongo.config.RuntimeConfigBuilder;
+import de.flapdoodle.embed.mongo.config.Storage;
+import de.flapdoodle.embed.mongo.distribution.Feature;
+import de.flapdoodle.embed.mongo.distribution.IFeatureAwareVersion;
 import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.distribution.Versions;
 import de.flapdoodle.embed.process.config.io.ProcessOutput;
 import de.flapdoodle.embed.process.config.store.HttpProxyFactory;
 import de.flapdoodle.embed.process.config.store.IProxyFactory;
 import de.flapdoodle.embed.process.config.store.NoProxyFactory;
+import de.flapdoodle.embed.process.distribution.GenericVersion;
 import de.flapdoodle.embed.process.io.progress.StandardConsoleProgressListener;
 
 /**
@@ -52,8 +57,20 @@ public final class MongoDbResource extends ExternalResource {
      */
     private static final String MONGO_PORT_ENV_KEY = "MONGO_PORT";
 
+    /**
+     * The MongoDB version started as replica set, as change streams require MongoDB 3.6 or above.
+     */
+    private static final IFeatureAwareVersion REPLICA_SET_VERSION = Versions.withFeatures(new GenericVersion("3.6.5"),
+            Feature.SYNC_DELAY, Feature.STORAGE_ENGINE, Feature.ONLY_64BIT, Feature.NO_CHUNKSIZE_ARG,
+            Feature.MONGOS_CONFIGDB_SET_STYLE);
+
     private final String bindIp;
 
+    /**
+     * The name of the replica set to start the DB as member of or null to start a standalone DB.
+     */
+    private final String replicaSetName;
+
     /**
      * The MongoDB executable.
      */
@@ -70,7 +87,20 @@ public final class MongoDbResource extends ExternalResource {
      * @param bindIp the IP to bind the DB on
      */
     public MongoDbResource(final String bindIp) {
+        this(bindIp, null);
+    }
+
+    /**
+     * Constructs a new {@code MongoDbResource} object which starts the DB as only member of a replica set, e.g. for
+     * tests of change streams. The replica set has to be initiated with the {@code replSetInitiate} command after the
+     * DB was started.
+     *
+     * @param bindIp the IP to bind the DB on
+     * @param replicaSetName the name of the replica set
+     */
+    public MongoDbResource(final String bindIp, final String replicaSetName) {
         this.bindIp = bindIp;
+        this.replicaSetName = replicaSetName;
         mongodExecutable = null;
         mongodProcess = null;
     }
@@ -99,7 +129,7 @@ public final class MongoDbResource extends ExternalResource {
         } else {
             mongoDbPort = findFreePort();
         }
-        mongodExecutable = tryToConfigureMongoDb(bindIp, mongoDbPort, proxyFactory);
+        mongodExecutable = tryToConfigureMongoDb(bindIp, mongoDbPort, replicaSetName, proxyFactory);
         mongodProcess = tryToStartMongoDb(mongodExecutable);
         Assume.assumeTrue("MongoDBResource failed to start.", isHealthy());
     }
@@ -147,16 +177,16 @@ public final class MongoDbResource extends ExternalResource {
     }
 
     private MongodExecutable tryToConfigureMongoDb(final String bindIp, final int mongoDbPort,
-            final IProxyFactory proxyFactory) {
+            final String replicaSetName, final IProxyFactory proxyFactory) {
         try {
-            return configureMongoDb(bindIp, mongoDbPort, proxyFactory);
+            return configureMongoDb(bindIp, mongoDbPort, replicaSetName, proxyFactory);
         } catch (final Throwable e) {
             return null;
         }
     }
 
     private static MongodExecutable configureMongoDb(final String bindIp, final int mongoDbPort,
-            final IProxyFactory proxyFactory) throws IOException {
+            final String replicaSetName, final IProxyFactory proxyFactory) throws IOException {
         final Command command = Command.MongoD;
 
         final MongodStarter mongodStarter = MongodStarter.getInstance(new RuntimeConfigBuilder()
@@ -172,14 +202,17 @@ public final class MongoDbResource extends ExternalResource {
                 )
                 .build());
 
-        return mongodStarter.prepare(new MongodConfigBuilder()
+        final MongodConfigBuilder mongodConfigBuilder = new MongodConfigBuilder()
                 .net(new Net(bindIp, mongoDbPort, false))
-                .version(Version.Main.PRODUCTION)
+                .version(replicaSetName != null ? REPLICA_SET_VERSION : Version.Main.PRODUCTION)
                 .cmdOptions(new MongoCmdOptionsBuilder()
                         .useStorageEngine("wiredTiger")
                         .useNoJournal(false)
-                        .build())
-                .build());
+                        .build());
+        if (replicaSetName != null) {
+            mongodConfigBuilder.replication(new Storage(null, replicaSetName, 0));
+        }
+        return mongodStarter.prepare(mongodConfigBuilder.build());
     }
 
     public static MongodProcess tryToStartMongoDb(final MongodExecutable mongodExecutable) {
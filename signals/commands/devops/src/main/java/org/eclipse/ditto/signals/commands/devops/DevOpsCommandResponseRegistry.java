@@ -41,6 +41,7 @@ public final class DevOpsCommandResponseRegistry extends AbstractJsonParsableReg
 
         parseStrategies.put(ChangeLogLevelResponse.TYPE, ChangeLogLevelResponse::fromJson);
         parseStrategies.put(RetrieveLoggerConfigResponse.TYPE, RetrieveLoggerConfigResponse::fromJson);
+        parseStrategies.put(RetrieveHotEntitiesResponse.TYPE, RetrieveHotEntitiesResponse::fromJson);
         parseStrategies.put(RetrieveStatisticsResponse.TYPE, RetrieveStatisticsResponse::fromJson);
         parseStrategies.put(RetrieveStatisticsDetailsResponse.TYPE, RetrieveStatisticsResponse::fromJson);
         parseStrategies.put(AggregatedDevOpsCommandResponse.TYPE,
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.devops;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
+
+/**
+ * Command to retrieve the busiest entities, e.g. the Things receiving the most messages, of each service instance.
+ */
+@Immutable
+public final class RetrieveHotEntities extends AbstractDevOpsCommand<RetrieveHotEntities> {
+
+    /**
+     * Name of the command.
+     */
+    public static final String NAME = "retrieveHotEntities";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    private RetrieveHotEntities(@Nullable final String serviceName, @Nullable final Integer instance,
+            final DittoHeaders dittoHeaders) {
+        super(TYPE, serviceName, instance, dittoHeaders);
+    }
+
+    /**
+     * Returns a new instance of {@code RetrieveHotEntities} addressing all service instances.
+     *
+     * @param dittoHeaders the headers of the request.
+     * @return a new RetrieveHotEntities command.
+     */
+    public static RetrieveHotEntities of(final DittoHeaders dittoHeaders) {
+        return new RetrieveHotEntities(null, null, dittoHeaders);
+    }
+
+    /**
+     * Returns a new instance of {@code RetrieveHotEntities}.
+     *
+     * @param serviceName the service name to which to send the DevOpsCommand.
+     * @param instance the instance index of the serviceName to which to send the DevOpsCommand.
+     * @param dittoHeaders the headers of the request.
+     * @return a new RetrieveHotEntities command.
+     */
+    public static RetrieveHotEntities of(@Nullable final String serviceName, @Nullable final Integer instance,
+            final DittoHeaders dittoHeaders) {
+        return new RetrieveHotEntities(serviceName, instance, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code RetrieveHotEntities} from a JSON string.
+     *
+     * @param jsonString contains the data of the RetrieveHotEntities command.
+     * @param dittoHeaders the headers of the request.
+     * @return the RetrieveHotEntities command which is based on the data of {@code jsonString}.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static RetrieveHotEntities fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code RetrieveHotEntities} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static RetrieveHotEntities fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandJsonDeserializer<RetrieveHotEntities>(TYPE, jsonObject).deserialize(() -> {
+            final String serviceName = jsonObject.getValue(DevOpsCommand.JsonFields.JSON_SERVICE_NAME).orElse(null);
+            final Integer instance = jsonObject.getValue(DevOpsCommand.JsonFields.JSON_INSTANCE).orElse(null);
+            return of(serviceName, instance, dittoHeaders);
+        });
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public RetrieveHotEntities setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(getServiceName().orElse(null), getInstance().orElse(null), dittoHeaders);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof RetrieveHotEntities;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + "]";
+    }
+
+}
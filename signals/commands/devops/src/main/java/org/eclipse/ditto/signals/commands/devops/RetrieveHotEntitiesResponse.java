@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.devops;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
+import org.eclipse.ditto.signals.commands.base.WithEntity;
+
+/**
+ * Response to the {@link RetrieveHotEntities} command containing the busiest entities of one service instance.
+ */
+@Immutable
+public final class RetrieveHotEntitiesResponse extends AbstractDevOpsCommandResponse<RetrieveHotEntitiesResponse>
+        implements WithEntity<RetrieveHotEntitiesResponse> {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE = TYPE_PREFIX + RetrieveHotEntities.NAME;
+
+    static final JsonFieldDefinition<JsonObject> JSON_HOT_ENTITIES =
+            JsonFactory.newJsonObjectFieldDefinition("hotEntities", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final JsonObject hotEntities;
+
+    private RetrieveHotEntitiesResponse(@Nullable final String serviceName, @Nullable final String instance,
+            final JsonObject hotEntities, final DittoHeaders dittoHeaders) {
+        super(TYPE, serviceName, instance, HttpStatusCode.OK, dittoHeaders);
+        this.hotEntities = Objects.requireNonNull(hotEntities, "The hotEntities JSON must not be null!");
+    }
+
+    /**
+     * Returns a new instance of {@code RetrieveHotEntitiesResponse}.
+     *
+     * @param serviceName the service name from which the DevOpsCommandResponse originated.
+     * @param instance the instance identifier of the serviceName from which the DevOpsCommandResponse originated.
+     * @param hotEntities the busiest entities of each category.
+     * @param dittoHeaders the headers of the request.
+     * @return the new RetrieveHotEntitiesResponse response.
+     * @throws NullPointerException if {@code hotEntities} is {@code null}.
+     */
+    public static RetrieveHotEntitiesResponse of(@Nullable final String serviceName, @Nullable final String instance,
+            final JsonObject hotEntities, final DittoHeaders dittoHeaders) {
+        return new RetrieveHotEntitiesResponse(serviceName, instance, hotEntities, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code RetrieveHotEntities} command from a JSON string.
+     *
+     * @param jsonString contains the data of the RetrieveHotEntitiesResponse command.
+     * @param dittoHeaders the headers of the request.
+     * @return the RetrieveHotEntitiesResponse command which is based on the data of {@code jsonString}.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static RetrieveHotEntitiesResponse fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code RetrieveHotEntities} command from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static RetrieveHotEntitiesResponse fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandResponseJsonDeserializer<RetrieveHotEntitiesResponse>(TYPE, jsonObject)
+                .deserialize(statusCode -> {
+                    final String serviceName = jsonObject.getValue(DevOpsCommandResponse.JsonFields.JSON_SERVICE_NAME)
+                            .orElse(null);
+                    final String instance = jsonObject.getValue(DevOpsCommandResponse.JsonFields.JSON_INSTANCE)
+                            .orElse(null);
+                    final JsonObject hotEntities = jsonObject.getValueOrThrow(JSON_HOT_ENTITIES);
+
+                    return of(serviceName, instance, hotEntities, dittoHeaders);
+                });
+    }
+
+    /**
+     * Returns the busiest entities of each category.
+     *
+     * @return the JSON representation of the busiest entities.
+     */
+    public JsonObject getHotEntities() {
+        return hotEntities;
+    }
+
+    @Override
+    public RetrieveHotEntitiesResponse setEntity(final JsonValue entity) {
+        return of(getServiceName().orElse(null), getInstance().orElse(null), entity.asObject(), getDittoHeaders());
+    }
+
+    @Override
+    public JsonValue getEntity(final JsonSchemaVersion schemaVersion) {
+        return hotEntities;
+    }
+
+    @Override
+    public RetrieveHotEntitiesResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(getServiceName().orElse(null), getInstance().orElse(null), hotEntities, dittoHeaders);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        super.appendPayload(jsonObjectBuilder, schemaVersion, thePredicate);
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JSON_HOT_ENTITIES, hotEntities, predicate);
+    }
+
+    @SuppressWarnings("squid:MethodCyclomaticComplexity")
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final RetrieveHotEntitiesResponse that = (RetrieveHotEntitiesResponse) o;
+        return that.canEqual(this) && Objects.equals(hotEntities, that.hotEntities) && super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof RetrieveHotEntitiesResponse;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), hotEntities);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", hotEntities=" + hotEntities + "]";
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.devops;
+
+import org.assertj.core.api.Assertions;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.assertions.DittoJsonAssertions;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.junit.Test;
+
+public class RetrieveHotEntitiesResponseTest {
+
+    private static final JsonObject HOT_ENTITIES = JsonFactory.newObjectBuilder()
+            .set("thing_messages", JsonFactory.newArrayBuilder()
+                    .add(JsonFactory.newObjectBuilder().set("id", "org.eclipse.ditto:hot").set("weight", 42L).build())
+                    .build())
+            .build();
+
+    @Test
+    public void testRetrieveHotEntitiesSerialization() {
+        final RetrieveHotEntities command = RetrieveHotEntities.of("things", 1, DittoHeaders.empty());
+
+        final JsonObject commandJson = command.toJson();
+        final DevOpsCommand parsedCommand =
+                DevOpsCommandRegistry.newInstance().parse(commandJson, DittoHeaders.empty());
+
+        Assertions.assertThat(parsedCommand).isEqualTo(command);
+        DittoJsonAssertions.assertThat(parsedCommand.toJson()).isEqualTo(commandJson);
+    }
+
+    @Test
+    public void testRetrieveHotEntitiesResponseSerialization() {
+        final RetrieveHotEntitiesResponse response =
+                RetrieveHotEntitiesResponse.of("things", "1", HOT_ENTITIES, DittoHeaders.empty());
+
+        final JsonObject responseJson = response.toJson();
+        final DevOpsCommandResponse parsedResponse =
+                DevOpsCommandResponseRegistry.newInstance().parse(responseJson, DittoHeaders.empty());
+
+        Assertions.assertThat(parsedResponse).isEqualTo(response);
+        DittoJsonAssertions.assertThat(parsedResponse.toJson()).isEqualTo(responseJson);
+        DittoJsonAssertions.assertThat(response.getEntity()).isEqualTo(HOT_ENTITIES);
+    }
+
+}
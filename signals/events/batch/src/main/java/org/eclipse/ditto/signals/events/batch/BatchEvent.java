@@ -119,6 +119,18 @@ public interface BatchEvent<T extends BatchEvent> extends Event<T> {
         public static final JsonFieldDefinition<JsonObject> DITTO_HEADERS =
                 JsonFactory.newJsonObjectFieldDefinition("dittoHeaders", FieldType.REGULAR, JsonSchemaVersion.V_2);
 
+        /**
+         * JSON field containing the number of executed commands of a batch.
+         */
+        public static final JsonFieldDefinition<Integer> EXECUTED_COMMANDS =
+                JsonFactory.newIntFieldDefinition("executedCommands", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
+        /**
+         * JSON field containing the total number of commands of a batch.
+         */
+        public static final JsonFieldDefinition<Integer> TOTAL_COMMANDS =
+                JsonFactory.newIntFieldDefinition("totalCommands", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
         private JsonFields() {
             throw new AssertionError();
         }
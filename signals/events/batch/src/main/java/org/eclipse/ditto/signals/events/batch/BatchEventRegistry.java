@@ -55,6 +55,7 @@ public final class BatchEventRegistry extends AbstractEventRegistry<BatchEvent>
                 (jo, headers) -> BatchExecutionStarted.fromJson(jo, headers, batchStepCommandRegistry));
         parseStrategies.put(BatchCommandExecuted.TYPE,
                 (jo, headers) -> BatchCommandExecuted.fromJson(jo, headers, batchStepCommandResponseRegistry));
+        parseStrategies.put(BatchExecutionProgressed.TYPE, BatchExecutionProgressed::fromJson);
 
         return new BatchEventRegistry(parseStrategies);
     }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.events.batch;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.events.base.EventJsonDeserializer;
+
+/**
+ * This event is emitted while a batch is executed whenever a group of its commands was executed. In contrast to the
+ * other batch events it is not persisted.
+ */
+@Immutable
+public final class BatchExecutionProgressed extends AbstractBatchEvent<BatchExecutionProgressed> implements
+        BatchEvent<BatchExecutionProgressed> {
+
+    /**
+     * The name of this event.
+     */
+    public static final String NAME = "batchExecutionProgressed";
+
+    /**
+     * The type of this event.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    private final int executedCommands;
+    private final int totalCommands;
+
+    private BatchExecutionProgressed(final String batchId,
+            @Nullable final Instant timestamp,
+            final int executedCommands,
+            final int totalCommands,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE, batchId, timestamp, dittoHeaders);
+        this.executedCommands = executedCommands;
+        this.totalCommands = totalCommands;
+    }
+
+    /**
+     * Returns a new {@code BatchExecutionProgressed} event for the given {@code batchId}, {@code executedCommands},
+     * {@code totalCommands} and {@code dittoHeaders}.
+     *
+     * @param batchId the identifier of the batch.
+     * @param executedCommands the number of commands of the batch executed so far.
+     * @param totalCommands the total number of commands of the batch.
+     * @param dittoHeaders the command headers of the batch.
+     * @return the event.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static BatchExecutionProgressed of(final String batchId, final int executedCommands,
+            final int totalCommands, final DittoHeaders dittoHeaders) {
+
+        return of(batchId, null, executedCommands, totalCommands, dittoHeaders);
+    }
+
+    /**
+     * Returns a new {@code BatchExecutionProgressed} event for the given {@code batchId}, {@code timestamp}, {@code
+     * executedCommands}, {@code totalCommands} and {@code dittoHeaders}.
+     *
+     * @param batchId the identifier of the batch.
+     * @param timestamp the timestamp of the event.
+     * @param executedCommands the number of commands of the batch executed so far.
+     * @param totalCommands the total number of commands of the batch.
+     * @param dittoHeaders the command headers of the batch.
+     * @return the event.
+     * @throws NullPointerException if any argument but {@code timestamp} is {@code null}.
+     */
+    public static BatchExecutionProgressed of(final String batchId,
+            @Nullable final Instant timestamp,
+            final int executedCommands,
+            final int totalCommands,
+            final DittoHeaders dittoHeaders) {
+
+        requireNonNull(batchId);
+        requireNonNull(dittoHeaders);
+
+        return new BatchExecutionProgressed(batchId, timestamp, executedCommands, totalCommands, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code BatchExecutionProgressed} from a JSON string.
+     *
+     * @param jsonString the JSON string from which the event is to be created.
+     * @param dittoHeaders the headers of the command which was the cause of this event.
+     * @return the event.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static BatchExecutionProgressed fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code BatchExecutionProgressed} from a JSON object.
+     *
+     * @param jsonObject the JSON object from which the event is to be created.
+     * @param dittoHeaders the headers of the command which was the cause of this event.
+     * @return the event.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static BatchExecutionProgressed fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new EventJsonDeserializer<BatchExecutionProgressed>(TYPE, jsonObject)
+                .deserialize((revision, timestamp) -> {
+                    final String id = jsonObject.getValueOrThrow(JsonFields.BATCH_ID);
+                    final int executed = jsonObject.getValueOrThrow(JsonFields.EXECUTED_COMMANDS);
+                    final int total = jsonObject.getValueOrThrow(JsonFields.TOTAL_COMMANDS);
+
+                    return of(id, timestamp, executed, total, dittoHeaders);
+                });
+    }
+
+    /**
+     * Returns the number of commands of the batch executed so far.
+     *
+     * @return the number of executed commands.
+     */
+    public int getExecutedCommands() {
+        return executedCommands;
+    }
+
+    /**
+     * Returns the total number of commands of the batch.
+     *
+     * @return the number of commands.
+     */
+    public int getTotalCommands() {
+        return totalCommands;
+    }
+
+    @Override
+    public BatchExecutionProgressed setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(getBatchId(), getTimestamp().orElse(null), executedCommands, totalCommands, dittoHeaders);
+    }
+
+    @Override
+    protected void appendPayloadAndBuild(final JsonObjectBuilder jsonObjectBuilder,
+            final JsonSchemaVersion schemaVersion, final Predicate<JsonField> thePredicate) {
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JsonFields.BATCH_ID, getBatchId(), predicate);
+        jsonObjectBuilder.set(JsonFields.EXECUTED_COMMANDS, executedCommands, predicate);
+        jsonObjectBuilder.set(JsonFields.TOTAL_COMMANDS, totalCommands, predicate);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        final BatchExecutionProgressed that = (BatchExecutionProgressed) o;
+        return executedCommands == that.executedCommands && totalCommands == that.totalCommands;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), executedCommands, totalCommands);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                super.toString() +
+                ", executedCommands=" + executedCommands +
+                ", totalCommands=" + totalCommands +
+                "]";
+    }
+
+}
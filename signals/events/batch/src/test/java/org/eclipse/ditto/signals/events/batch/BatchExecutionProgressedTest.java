@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017-2018 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.events.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.UUID;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.signals.events.base.Event;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link BatchExecutionProgressed}.
+ */
+public final class BatchExecutionProgressedTest {
+
+    private static final String KNOWN_BATCH_ID = UUID.randomUUID().toString();
+
+    private static final JsonObject KNOWN_JSON = JsonFactory.newObjectBuilder()
+            .set(Event.JsonFields.TYPE, BatchExecutionProgressed.TYPE)
+            .set(Event.JsonFields.TIMESTAMP, null)
+            .set(BatchExecutionProgressed.JsonFields.BATCH_ID, KNOWN_BATCH_ID)
+            .set(BatchExecutionProgressed.JsonFields.EXECUTED_COMMANDS, 100)
+            .set(BatchExecutionProgressed.JsonFields.TOTAL_COMMANDS, 500)
+            .build();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(BatchExecutionProgressed.class, areImmutable(),
+                provided(DittoHeaders.class).areAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(BatchExecutionProgressed.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void tryToCreateInstanceWithNullBatchId() {
+        BatchExecutionProgressed.of(null, 100, 500, DittoHeaders.empty());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void tryToCreateInstanceWithNullDittoHeaders() {
+        BatchExecutionProgressed.of(KNOWN_BATCH_ID, 100, 500, null);
+    }
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final BatchExecutionProgressed underTest =
+                BatchExecutionProgressed.of(KNOWN_BATCH_ID, 100, 500, DittoHeaders.empty());
+        final JsonObject actualJson = underTest.toJson(FieldType.regularOrSpecial());
+
+        assertThat(actualJson).isEqualTo(KNOWN_JSON);
+    }
+
+    @Test
+    public void createInstanceFromValidJson() {
+        final BatchExecutionProgressed underTest =
+                BatchExecutionProgressed.fromJson(KNOWN_JSON.toString(), DittoHeaders.empty());
+
+        assertThat(underTest.getBatchId()).isEqualTo(KNOWN_BATCH_ID);
+        assertThat(underTest.getExecutedCommands()).isEqualTo(100);
+        assertThat(underTest.getTotalCommands()).isEqualTo(500);
+        assertThat(underTest.getName()).isEqualTo(BatchExecutionProgressed.NAME);
+    }
+
+}